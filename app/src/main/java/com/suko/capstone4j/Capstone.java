@@ -1,13 +1,21 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneConstants.*;
+import static com.suko.capstone4j.internal.CapstoneNative.*;
 
 import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.SymbolLookup;
+import java.util.ArrayList;
+import java.util.List;
 
-import com.suko.capstone4j.utils.NativeUtils;
+import com.suko.capstone4j.internal.CapstoneNative;
+import com.suko.capstone4j.utils.NativeLibraryLoader;
 
 public class Capstone {
 
+    private static final String LIBRARY_NAME = "capstone";
+
     private static boolean initialized = false;
     private static boolean initializationAttempted = false;
     private static IOException lastInitializationError = null;
@@ -17,6 +25,17 @@ public class Capstone {
     /**
      * Initializes the Capstone library by loading the native library.
      * This method must be called before using any Capstone functionality.
+     * <p>
+     * The library is looked up in this order:
+     * <ol>
+     *   <li>the library bundled for the current platform, e.g. {@code /libs/linux-x86_64/libcapstone.so},
+     *       see {@link NativeLibraryLoader#resourcePath(String)}</li>
+     *   <li>a library bundled directly under {@code /libs/}, e.g. {@code /libs/capstone.dll}</li>
+     *   <li>a system-installed library, found by the dynamic linker as {@code libcapstone.so} or
+     *       {@code libcapstone.so.6} (or the equivalent names of the platform)</li>
+     * </ol>
+     * Bundled libraries are extracted into a cache named after their content, so only the first start
+     * after an upgrade writes the library to disk, see {@link NativeLibraryLoader#extract(String)}.
      * 
      * @throws IOException If the native library cannot be loaded
      */
@@ -31,13 +50,49 @@ public class Capstone {
             
             initializationAttempted = true;
             try {
-                NativeUtils.loadLibraryFromJar("/libs/capstone.dll");
+                loadLibrary();
                 initialized = true;
             } catch (IOException e) {
                 lastInitializationError = e;
                 throw new IOException("Failed to initialize Capstone: " + e.getMessage(), e);
+            } catch (UnsatisfiedLinkError e) {
+                lastInitializationError = new IOException(e.getMessage(), e);
+                throw new IOException("Failed to initialize Capstone: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void loadLibrary() throws IOException {
+        String platformResource = NativeLibraryLoader.resourcePath(LIBRARY_NAME);
+        if (NativeLibraryLoader.hasResource(platformResource)) {
+            System.load(NativeLibraryLoader.extract(platformResource).toString());
+            return;
+        }
+        String resource = "/libs/" + System.mapLibraryName(LIBRARY_NAME);
+        if (NativeLibraryLoader.hasResource(resource)) {
+            System.load(NativeLibraryLoader.extract(resource).toString());
+            return;
+        }
+        CapstoneNative.addLibrary(lookupSystemLibrary(platformResource));
+    }
+
+    private static SymbolLookup lookupSystemLibrary(String platformResource) throws IOException {
+        String mapped = System.mapLibraryName(LIBRARY_NAME);
+        List<String> names = new ArrayList<>();
+        names.add(mapped);
+        if (mapped.endsWith(".so")) {
+            names.add(mapped + "." + CS_API_MAJOR);
+        } else if (mapped.endsWith(".dylib")) {
+            names.add(mapped.replace(".dylib", "." + CS_API_MAJOR + ".dylib"));
+        }
+        for (String name : names) {
+            try {
+                return SymbolLookup.libraryLookup(name, Arena.global());
+            } catch (IllegalArgumentException e) {
+                // Not found by the dynamic linker, try the next name
             }
         }
+        throw new IOException("No bundled library at " + platformResource + " and no system library found as " + String.join(", ", names));
     }
 
     /**
@@ -55,7 +110,7 @@ public class Capstone {
      * @return A string representation of the Capstone version
      */
     public static String getVersion() {
-        return String.format("%d.%d.%d Next %d", CS_VERSION_MAJOR(), CS_VERSION_MINOR(), CS_VERSION_EXTRA(), CS_NEXT_VERSION());
+        return String.format("%d.%d.%d Next %d", CS_VERSION_MAJOR, CS_VERSION_MINOR, CS_VERSION_EXTRA, CS_NEXT_VERSION);
     }
 
 
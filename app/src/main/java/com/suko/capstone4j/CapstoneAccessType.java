@@ -1,6 +1,6 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneConstants.*;
 
 /**
  * An enumeration representing different memory access types in Capstone disassembly.
@@ -10,24 +10,25 @@ public enum CapstoneAccessType {
     /**
      * Represents an invalid or undefined memory access.
      */
-    INVALID(CS_AC_INVALID()),
+    INVALID(CS_AC_INVALID),
     
     /**
      * Represents read-only memory access.
      */
-    READ(CS_AC_READ()),
+    READ(CS_AC_READ),
     
     /**
      * Represents write-only memory access.
      */
-    WRITE(CS_AC_WRITE()),
+    WRITE(CS_AC_WRITE),
     
     /**
      * Represents both read and write memory access.
      */
-    READ_WRITE(CS_AC_READ_WRITE());
+    READ_WRITE(CS_AC_READ_WRITE);
 
     private final int value;
+    private static final CapstoneEnumLookup<CapstoneAccessType> LOOKUP = CapstoneEnumLookup.of(values(), accessType -> accessType.value);
 
     /**
      * Constructs a CapstoneAccessType with the specified native value.
@@ -55,11 +56,10 @@ public enum CapstoneAccessType {
      * @throws IllegalArgumentException if the provided value doesn't match any defined access type
      */
     public static CapstoneAccessType fromValue(int value) {
-        for (CapstoneAccessType accessType : CapstoneAccessType.values()) {
-            if (accessType.getValue() == value) {
-                return accessType;
-            }
+        CapstoneAccessType accessType = LOOKUP.get(value);
+        if (accessType == null) {
+            throw new IllegalArgumentException("Invalid CapstoneAccessType value: " + value);
         }
-        throw new IllegalArgumentException("Invalid CapstoneAccessType value: " + value);
+        return accessType;
     }
 }
@@ -0,0 +1,26 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Creates the architecture-specific details of an instruction from its native {@code cs_detail} structure.
+ * <p>
+ * Every supported architecture registers one parser in {@link CapstoneArchDetailsParsers}. A
+ * {@link CapstoneHandle} resolves the parser of its architecture once, when it is created, and
+ * passes it to {@link CapstoneInstructionFactory} for every instruction decoded with details on.
+ * Supporting the details of a new architecture only requires registering a parser for it.
+ *
+ * @param <A> the type of architecture-specific details created by this parser
+ * @see CapstoneArchDetailsParsers
+ */
+@FunctionalInterface
+interface CapstoneArchDetailsParser<A extends CapstoneArchDetails<?>> {
+
+    /**
+     * Creates the architecture-specific details of an instruction.
+     *
+     * @param detailsSegment the {@code cs_detail} structure of the instruction
+     * @return the architecture-specific details
+     */
+    A parse(MemorySegment detailsSegment);
+}
@@ -0,0 +1,64 @@
+package com.suko.capstone4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.suko.capstone4j.internal.cs_detail;
+
+/**
+ * Registry of the {@link CapstoneArchDetailsParser} of every architecture with detail support.
+ * <p>
+ * Each parser selects the member of the {@code cs_detail} union that belongs to its architecture
+ * and hands it to the static {@code createFromMemorySegment} method of the matching detail class.
+ */
+final class CapstoneArchDetailsParsers {
+
+    private static final Map<CapstoneArch, CapstoneArchDetailsParser<?>> PARSERS = new EnumMap<>(CapstoneArch.class);
+    private static final Map<CapstoneArch, Long> DETAILS_SIZES = new EnumMap<>(CapstoneArch.class);
+
+    static {
+        register(CapstoneArch.X86, cs_detail.x86$offset() + cs_detail.x86$layout().byteSize(),
+            detailsSegment -> CapstoneX86Details.createFromMemorySegment(cs_detail.x86(detailsSegment)));
+        register(CapstoneArch.ARM, cs_detail.arm$offset() + cs_detail.arm$layout().byteSize(),
+            detailsSegment -> CapstoneArmDetails.createFromMemorySegment(cs_detail.arm(detailsSegment)));
+        register(CapstoneArch.AARCH64, cs_detail.aarch64$offset() + cs_detail.aarch64$layout().byteSize(),
+            detailsSegment -> CapstoneAArch64Details.createFromMemorySegment(cs_detail.aarch64(detailsSegment)));
+    }
+
+    private CapstoneArchDetailsParsers() {
+    }
+
+    /**
+     * Registers the details parser of an architecture, replacing any parser registered before.
+     *
+     * @param arch the architecture
+     * @param detailsSize the number of leading bytes of {@code cs_detail} used by this architecture,
+     *                    i.e. the end of its member of the architecture union
+     * @param parser the parser creating the details of instructions of this architecture
+     */
+    static synchronized void register(CapstoneArch arch, long detailsSize, CapstoneArchDetailsParser<?> parser) {
+        PARSERS.put(arch, parser);
+        DETAILS_SIZES.put(arch, detailsSize);
+    }
+
+    /**
+     * Returns the details parser of an architecture.
+     *
+     * @param arch the architecture
+     * @return the registered parser, or {@code null} if details are not supported for this architecture
+     */
+    static synchronized CapstoneArchDetailsParser<?> forArch(CapstoneArch arch) {
+        return PARSERS.get(arch);
+    }
+
+    /**
+     * Returns the number of leading bytes of {@code cs_detail} used by an architecture.
+     *
+     * @param arch the architecture
+     * @return the registered size, or the size of the whole structure if no parser is registered
+     */
+    static synchronized long detailsSize(CapstoneArch arch) {
+        Long size = DETAILS_SIZES.get(arch);
+        return size != null ? size : cs_detail.sizeof();
+    }
+}
@@ -0,0 +1,43 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Receives the instructions and data runs of a linear sweep, in address order.
+ * <p>
+ * Used with {@link CapstoneHandle#disassemble(MemorySegment, long, long, CapstoneCodeVisitor)}, which
+ * coalesces consecutive bytes that are not instructions into a single {@link CapstoneDataRun} instead
+ * of creating a "bad" instruction for every byte.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * handle.disassemble(code, code.byteSize(), 0x401000, new CapstoneCodeVisitor<CapstoneX86Details>() {
+ *     public void instruction(CapstoneInstruction<CapstoneX86Details> instruction) {
+ *         System.out.println(instruction.getMnemonic() + " " + instruction.getOpStr());
+ *     }
+ *
+ *     public void data(CapstoneDataRun run) {
+ *         System.out.println(".data " + run.length() + " bytes");
+ *     }
+ * });
+ * }</pre>
+ *
+ * @param <A> the type of architecture-specific details the instructions contain
+ * @see CapstoneDataRun
+ */
+public interface CapstoneCodeVisitor<A extends CapstoneArchDetails<?>> {
+
+    /**
+     * Called for every decoded instruction.
+     *
+     * @param instruction the instruction
+     */
+    void instruction(CapstoneInstruction<A> instruction);
+
+    /**
+     * Called for every run of bytes between two instructions that could not be decoded.
+     *
+     * @param run the data run
+     */
+    void data(CapstoneDataRun run);
+}
@@ -0,0 +1,111 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandle;
+
+import com.suko.capstone4j.internal.CapstoneNative;
+
+/**
+ * Critical downcalls for the short, non-blocking Capstone functions on the decoding hot path.
+ * <p>
+ * The bindings in {@code CapstoneNative} are linked with the default options, so every call
+ * performs a full Java to native thread state transition and only accepts native segments. The
+ * functions bound here are linked with {@link Linker.Option#critical(boolean) critical(true)}
+ * instead: the transition is skipped and heap segments, e.g. from {@link MemorySegment#ofArray(byte[])},
+ * may be passed for pointer arguments, which lets {@code cs_disasm} decode straight from a
+ * {@code byte[]} without copying it.
+ * <p>
+ * A critical function must not call back into Java. {@code cs_insn_name} and {@code cs_reg_name}
+ * never do. {@code cs_disasm}, {@code cs_disasm_iter} and {@code cs_regs_access} may allocate memory,
+ * which goes through the upcalls of a {@link CapstoneMemoryProvider}, and {@code cs_disasm_iter} may
+ * call a {@link CapstoneSkipDataCallback}. Handles therefore only use them with the native allocator
+ * and without a skip callback, see {@link CapstoneHandle#isCriticalDowncalls()}.
+ * <p>
+ * The handles are linked when this class is first used, so handles that never take a critical path do
+ * not pay for linking them.
+ */
+final class CapstoneCriticalBindings {
+
+    private static final MethodHandle CS_DISASM = link(CapstoneNative.cs_disasm$address(), CapstoneNative.cs_disasm$descriptor());
+    private static final MethodHandle CS_DISASM_ITER = link(CapstoneNative.cs_disasm_iter$address(), CapstoneNative.cs_disasm_iter$descriptor());
+    private static final MethodHandle CS_INSN_NAME = link(CapstoneNative.cs_insn_name$address(), CapstoneNative.cs_insn_name$descriptor());
+    private static final MethodHandle CS_REG_NAME = link(CapstoneNative.cs_reg_name$address(), CapstoneNative.cs_reg_name$descriptor());
+    private static final MethodHandle CS_REGS_ACCESS = link(CapstoneNative.cs_regs_access$address(), CapstoneNative.cs_regs_access$descriptor());
+
+    private CapstoneCriticalBindings() {
+    }
+
+    private static MethodHandle link(MemorySegment address, FunctionDescriptor descriptor) {
+        return Linker.nativeLinker().downcallHandle(address, descriptor, Linker.Option.critical(true));
+    }
+
+    /**
+     * {@snippet lang=c :
+     * size_t cs_disasm(csh handle, const uint8_t *code, size_t code_size, uint64_t address, size_t count, cs_insn **insn)
+     * }
+     * {@code code} may be a heap segment.
+     */
+    static long cs_disasm(long handle, MemorySegment code, long codeSize, long address, long count, MemorySegment insn) {
+        try {
+            return (long) CS_DISASM.invokeExact(handle, code, codeSize, address, count, insn);
+        } catch (Throwable ex) {
+            throw new AssertionError("should not reach here", ex);
+        }
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_disasm_iter(csh handle, const uint8_t **code, size_t *size, uint64_t *address, cs_insn *insn)
+     * }
+     * The code pointer is passed indirectly, so the code itself must still be in native memory.
+     */
+    static boolean cs_disasm_iter(long handle, MemorySegment code, MemorySegment size, MemorySegment address, MemorySegment insn) {
+        try {
+            return (boolean) CS_DISASM_ITER.invokeExact(handle, code, size, address, insn);
+        } catch (Throwable ex) {
+            throw new AssertionError("should not reach here", ex);
+        }
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_insn_name(csh handle, unsigned int insn_id)
+     * }
+     */
+    static MemorySegment cs_insn_name(long handle, int insnId) {
+        try {
+            return (MemorySegment) CS_INSN_NAME.invokeExact(handle, insnId);
+        } catch (Throwable ex) {
+            throw new AssertionError("should not reach here", ex);
+        }
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_reg_name(csh handle, unsigned int reg_id)
+     * }
+     */
+    static MemorySegment cs_reg_name(long handle, int regId) {
+        try {
+            return (MemorySegment) CS_REG_NAME.invokeExact(handle, regId);
+        } catch (Throwable ex) {
+            throw new AssertionError("should not reach here", ex);
+        }
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_regs_access(csh handle, const cs_insn *insn, cs_regs regs_read, uint8_t *regs_read_count, cs_regs regs_write, uint8_t *regs_write_count)
+     * }
+     * The register and count buffers may be heap segments.
+     */
+    static int cs_regs_access(long handle, MemorySegment insn, MemorySegment regsRead, MemorySegment regsReadCount, MemorySegment regsWrite, MemorySegment regsWriteCount) {
+        try {
+            return (int) CS_REGS_ACCESS.invokeExact(handle, insn, regsRead, regsReadCount, regsWrite, regsWriteCount);
+        } catch (Throwable ex) {
+            throw new AssertionError("should not reach here", ex);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * A run of consecutive bytes that were not decoded as instructions.
+ * <p>
+ * {@link CapstoneHandle#disassemble(MemorySegment, long, long, CapstoneCodeVisitor)} reports
+ * undecodable bytes, and the data pseudo-instructions Capstone emits when
+ * {@link CapstoneOption#SKIPDATA} is on, as one run per gap between two instructions instead of one
+ * "bad" instruction per byte. Jump tables, padding and literal pools therefore cost a single object
+ * each, no matter how large they are.
+ *
+ * @param address the virtual address of the first byte of the run
+ * @param length the number of bytes in the run, always positive
+ * @see CapstoneCodeVisitor#data(CapstoneDataRun)
+ */
+public record CapstoneDataRun(long address, long length) {
+
+    /**
+     * Returns the virtual address directly after the last byte of the run.
+     *
+     * @return {@code address + length}
+     */
+    public long endAddress() {
+        return this.address + this.length;
+    }
+}
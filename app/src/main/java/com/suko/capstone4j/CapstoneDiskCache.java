@@ -0,0 +1,725 @@
+package com.suko.capstone4j;
+
+import static com.suko.capstone4j.internal.CapstoneNative.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.suko.capstone4j.internal.cs_detail;
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * A persistent cache of decoded instructions, stored as memory-mappable files in a directory.
+ * <p>
+ * Analysis tools often disassemble the same binaries, e.g. system libraries, on every run. The disk
+ * cache stores the result of decoding a region of code in a file named after a SHA-256 hash of
+ * everything that determines the result:
+ * <ul>
+ *   <li>the code bytes, their size and the address of the first byte</li>
+ *   <li>the architecture, modes and options of the handle</li>
+ *   <li>the Capstone version ({@link Capstone#getVersion()}) and the version of the file format</li>
+ * </ul>
+ * On a hit the file is mapped into memory and the instructions are created from the mapping on
+ * access, without calling into Capstone at all. On a miss the code is decoded once, written to a
+ * temporary file and atomically moved into place, so readers never see partially written entries,
+ * even if several processes share the directory.
+ * <p>
+ * The cache is bounded by {@link Builder#maxBytes(long)}. Every hit refreshes the modification
+ * time of the file, and when the directory grows beyond the limit the least recently used files
+ * are deleted. Files written by another version of the file format are ignored and replaced.
+ * <p>
+ * Instruction details are stored when they are enabled on the handle, including the register
+ * accesses, and are restored from the file as well.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CapstoneDiskCache cache = CapstoneDiskCache.builder(Path.of(System.getProperty("user.home"), ".cache", "capstone4j"))
+ *     .maxBytes(4L << 30)
+ *     .build();
+ *
+ * try (CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, text, text.byteSize(), 0x401000)) {
+ *     for (CapstoneInstruction<CapstoneX86Details> instruction : entry.instructions()) {
+ *         System.out.println(instruction.getMnemonic() + " " + instruction.getOpStr());
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * A cache can be used from several threads; every thread has to use its own handle.
+ *
+ * @see Entry
+ */
+public final class CapstoneDiskCache {
+
+    /** Version of the file format, part of every key so that old files are never read. */
+    static final int FORMAT_VERSION = 1;
+
+    static final String FILE_SUFFIX = ".cs4j";
+
+    private static final int MAGIC = 0x4a345343; // "CS4J"
+    private static final int HEADER_SIZE = 64;
+    private static final int KEY_OFFSET = 32;
+    private static final int KEY_SIZE = 32;
+
+    private static final int FLAG_ALIAS = 1;
+    private static final int FLAG_ALIAS_DETAILS = 2;
+    private static final int FLAG_BAD = 4;
+    private static final int FLAG_DETAILS = 8;
+
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_REGS = 64;
+
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Path directory;
+    private final long maxBytes;
+
+    private CapstoneDiskCache(Builder builder) throws IOException {
+        this.directory = builder.directory;
+        this.maxBytes = builder.maxBytes;
+        Files.createDirectories(this.directory);
+    }
+
+    /**
+     * Creates a new builder for a {@link CapstoneDiskCache} stored in the given directory.
+     *
+     * @param directory the cache directory, created if it does not exist
+     * @return a new builder
+     */
+    public static Builder builder(Path directory) {
+        return new Builder(directory);
+    }
+
+    /**
+     * Returns the decoded instructions of a region of code, decoding and storing them on a miss.
+     * <p>
+     * The instructions are decoded with {@code handle}, exactly like
+     * {@link CapstoneHandle#disassembleMemory(MemorySegment, long, long)} would decode them, and the
+     * returned entry is always backed by the cache file.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param handle the handle used to decode the code on a miss, also determining the cache key
+     * @param code the memory segment containing the code
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @return the cached instructions, which must be closed after use
+     * @throws IOException if the cache file cannot be read or written
+     * @throws RuntimeException if disassembly fails
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Entry<A> disassemble(CapstoneHandle handle, MemorySegment code, long size, long startAddress) throws IOException {
+        byte[] key = key(handle, code, size, startAddress);
+        Path file = fileFor(key);
+
+        Entry<A> entry = open(handle, file, key, true);
+        if (entry != null) {
+            return entry;
+        }
+
+        write(handle, code, size, startAddress, file, key);
+        evict(file);
+        entry = open(handle, file, key, false);
+        if (entry == null) {
+            throw new IOException("Cache file was removed or corrupted while opening it: " + file);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns the cached instructions of a region of code without decoding it on a miss.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param handle the handle determining the cache key, it is not used to decode anything
+     * @param code the memory segment containing the code
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @return the cached instructions, which must be closed after use, or {@code null} on a miss
+     * @throws IOException if the cache file cannot be read
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Entry<A> get(CapstoneHandle handle, MemorySegment code, long size, long startAddress) throws IOException {
+        byte[] key = key(handle, code, size, startAddress);
+        return open(handle, fileFor(key), key, true);
+    }
+
+    /**
+     * Returns the directory of the cache.
+     *
+     * @return the cache directory
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Returns the maximum number of bytes the cache files may occupy.
+     *
+     * @return the size limit of the cache
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Returns the number of bytes currently occupied by the cache files.
+     *
+     * @return the size of the cache
+     * @throws IOException if the directory cannot be read
+     */
+    public long getSize() throws IOException {
+        long total = 0;
+        for (CacheFile file : listFiles()) {
+            total += file.size;
+        }
+        return total;
+    }
+
+    /**
+     * Deletes all cache files.
+     * <p>
+     * Entries that are currently open remain readable on operating systems that allow deleting
+     * mapped files and are skipped otherwise.
+     *
+     * @throws IOException if the directory cannot be read
+     */
+    public synchronized void clear() throws IOException {
+        for (CacheFile file : listFiles()) {
+            deleteQuietly(file.path);
+        }
+    }
+
+    /**
+     * Computes the cache key of a region of code decoded with {@code handle}.
+     */
+    static byte[] key(CapstoneHandle handle, MemorySegment code, long size, long startAddress) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 is not available", e);
+        }
+
+        CapstoneMode[] modes = handle.getModes();
+        Arrays.sort(modes);
+        StringBuilder header = new StringBuilder()
+            .append("capstone4j ").append(FORMAT_VERSION).append('\n')
+            .append("capstone ").append(Capstone.getVersion()).append('\n')
+            .append(handle.getArch()).append('\n')
+            .append(Arrays.toString(modes)).append('\n');
+        for (Map.Entry<CapstoneOption, Set<CapstoneOptionValue>> option : handle.getOptions().entrySet()) {
+            header.append(option.getKey()).append('=').append(option.getValue()).append('\n');
+        }
+        String skipData = handle.getSkipDataKey();
+        if (skipData != null) {
+            header.append(CapstoneOption.SKIPDATA_SETUP).append('=').append(skipData).append('\n');
+        }
+        header.append(Long.toUnsignedString(startAddress)).append('\n').append(size).append('\n');
+        digest.update(header.toString().getBytes(StandardCharsets.UTF_8));
+
+        for (long offset = 0; offset < size; ) {
+            long length = Math.min(size - offset, 1 << 24);
+            digest.update(code.asSlice(offset, length).asByteBuffer());
+            offset += length;
+        }
+        return digest.digest();
+    }
+
+    private Path fileFor(byte[] key) {
+        return this.directory.resolve(HexFormat.of().formatHex(key) + FILE_SUFFIX);
+    }
+
+    /**
+     * Maps a cache file and validates its header.
+     *
+     * @return the entry, or {@code null} if the file does not exist or is not a valid entry for {@code key}
+     */
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Entry<A> open(CapstoneHandle handle, Path file, byte[] key, boolean cached) throws IOException {
+        Arena arena = Arena.ofShared();
+        try {
+            MemorySegment mapped;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            } catch (NoSuchFileException e) {
+                arena.close();
+                return null;
+            }
+
+            if (!isValid(mapped, key)) {
+                arena.close();
+                deleteQuietly(file);
+                return null;
+            }
+
+            if (cached) {
+                touch(file);
+            }
+            return new Entry<>(arena, mapped, handle.getArch(), cached);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private static boolean isValid(MemorySegment mapped, byte[] key) {
+        if (mapped.byteSize() < HEADER_SIZE
+                || mapped.get(INT, 0) != MAGIC
+                || mapped.get(INT, 4) != FORMAT_VERSION
+                || !Arrays.equals(mapped.asSlice(KEY_OFFSET, KEY_SIZE).toArray(ValueLayout.JAVA_BYTE), key)) {
+            return false;
+        }
+        long count = mapped.get(LONG, 16);
+        long indexOffset = mapped.get(LONG, 24);
+        return count >= 0 && count <= Integer.MAX_VALUE
+            && indexOffset >= HEADER_SIZE && indexOffset + 8 * count == mapped.byteSize();
+    }
+
+    /**
+     * Decodes the code into a temporary file and moves it to {@code file} once it is complete.
+     */
+    private void write(CapstoneHandle handle, MemorySegment code, long size, long startAddress, Path file, byte[] key) throws IOException {
+        Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                Writer writer = new Writer(channel, handle);
+                handle.decodeRaw(code, size, startAddress, writer);
+                writer.finish(key);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Deletes the least recently used cache files until the cache fits into its size limit.
+     *
+     * @param keep a file that must not be deleted, usually the one that was just written
+     */
+    private synchronized void evict(Path keep) throws IOException {
+        List<CacheFile> files = listFiles();
+        long total = 0;
+        for (CacheFile file : files) {
+            total += file.size;
+        }
+        if (total <= this.maxBytes) {
+            return;
+        }
+
+        files.sort(Comparator.comparing(CacheFile::lastUsed));
+        for (CacheFile file : files) {
+            if (total <= this.maxBytes) {
+                break;
+            }
+            if (!file.path.equals(keep) && deleteQuietly(file.path)) {
+                total -= file.size;
+            }
+        }
+    }
+
+    private List<CacheFile> listFiles() throws IOException {
+        List<CacheFile> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + FILE_SUFFIX)) {
+            for (Path path : stream) {
+                try {
+                    files.add(new CacheFile(path, Files.size(path), Files.getLastModifiedTime(path)));
+                } catch (NoSuchFileException e) {
+                    // deleted concurrently
+                }
+            }
+        }
+        return files;
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            // only affects the eviction order
+        }
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // still mapped by a reader on operating systems that do not allow this
+            return false;
+        }
+    }
+
+    private record CacheFile(Path path, long size, FileTime lastUsed) {
+    }
+
+    /**
+     * The instructions of one cache file, mapped into memory.
+     * <p>
+     * Every call to {@link #get(int)} creates a new {@link CapstoneInstruction} from the mapping; the
+     * instructions remain valid after the entry is closed. An entry can be read from several threads
+     * and has to be closed to unmap the file.
+     *
+     * @param <A> the type of architecture-specific details the instructions contain
+     */
+    public static final class Entry<A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> implements AutoCloseable {
+
+        private final Arena arena;
+        private final MemorySegment mapped;
+        private final CapstoneArch arch;
+        private final boolean cached;
+        private final int count;
+        private final long indexOffset;
+
+        private Entry(Arena arena, MemorySegment mapped, CapstoneArch arch, boolean cached) {
+            this.arena = arena;
+            this.mapped = mapped;
+            this.arch = arch;
+            this.cached = cached;
+            this.count = (int) mapped.get(LONG, 16);
+            this.indexOffset = mapped.get(LONG, 24);
+        }
+
+        /**
+         * Returns whether the entry was found in the cache, i.e. whether no code had to be decoded.
+         *
+         * @return {@code true} for a cache hit, {@code false} if the entry was just written
+         */
+        public boolean isCached() {
+            return this.cached;
+        }
+
+        /**
+         * Returns the number of instructions in the entry.
+         *
+         * @return the number of instructions
+         */
+        public int size() {
+            return this.count;
+        }
+
+        /**
+         * Creates the instruction with the given index from the mapped file.
+         *
+         * @param index the index of the instruction, in address order
+         * @return a new instruction
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         * @throws IllegalStateException if the entry has been closed
+         */
+        public CapstoneInstruction<A> get(int index) {
+            Objects.checkIndex(index, this.count);
+            MemorySegment file = this.mapped;
+            long offset = file.get(LONG, this.indexOffset + 8L * index);
+
+            long address = file.get(LONG, offset);
+            int id = file.get(INT, offset + 8);
+            long aliasId = file.get(LONG, offset + 12);
+            int size = file.get(ValueLayout.JAVA_BYTE, offset + 20) & 0xFF;
+            int flags = file.get(ValueLayout.JAVA_BYTE, offset + 21);
+            long position = offset + 22;
+
+            if ((flags & FLAG_BAD) != 0) {
+                return CapstoneInstructionFactory.createBadInstruction(address, file.get(ValueLayout.JAVA_BYTE, position), this.arch);
+            }
+
+            byte[] bytes = file.asSlice(position, size).toArray(ValueLayout.JAVA_BYTE);
+            position += size;
+            int mnemonicLength = file.get(ValueLayout.JAVA_BYTE, position) & 0xFF;
+            String mnemonic = new String(file.asSlice(position + 1, mnemonicLength).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+            position += 1 + mnemonicLength;
+            int opStrLength = file.get(SHORT, position) & 0xFFFF;
+            String opStr = new String(file.asSlice(position + 2, opStrLength).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+            position += 2 + opStrLength;
+
+            CapstoneInstructionDetails<A> details = null;
+            if ((flags & FLAG_DETAILS) != 0) {
+                details = readDetails(file, position);
+            }
+
+            return new CapstoneInstruction<>(id, aliasId, address, size, bytes, mnemonic, opStr,
+                (flags & FLAG_ALIAS) != 0, (flags & FLAG_ALIAS_DETAILS) != 0, details, this.arch);
+        }
+
+        /**
+         * Returns a list view of the instructions that creates every instruction on access.
+         *
+         * @return an unmodifiable list of the instructions, valid until the entry is closed
+         */
+        public List<CapstoneInstruction<A>> instructions() {
+            return new AbstractList<>() {
+                @Override
+                public CapstoneInstruction<A> get(int index) {
+                    return Entry.this.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return Entry.this.count;
+                }
+            };
+        }
+
+        /**
+         * Unmaps the cache file.
+         */
+        @Override
+        public void close() {
+            this.arena.close();
+        }
+
+        private CapstoneInstructionDetails<A> readDetails(MemorySegment file, long position) {
+            int regsReadCount = file.get(ValueLayout.JAVA_BYTE, position) & 0xFF;
+            int[] regsRead = readRegs(file, position + 1, regsReadCount);
+            position += 1 + 2L * regsReadCount;
+            int regsWriteCount = file.get(ValueLayout.JAVA_BYTE, position) & 0xFF;
+            int[] regsWrite = readRegs(file, position + 1, regsWriteCount);
+            position += 1 + 2L * regsWriteCount;
+
+            @SuppressWarnings("unchecked")
+            CapstoneArchDetailsParser<A> parser = (CapstoneArchDetailsParser<A>) CapstoneArchDetailsParsers.forArch(this.arch);
+            if (parser == null) {
+                throw new IllegalArgumentException("Unsupported architecture: " + this.arch);
+            }
+
+            // the parsers expect an aligned cs_detail structure
+            try (Arena detailsArena = Arena.ofConfined()) {
+                MemorySegment detailsSegment = detailsArena.allocate(cs_detail.layout());
+                MemorySegment.copy(file, position, detailsSegment, 0, CapstoneArchDetailsParsers.detailsSize(this.arch));
+
+                int groupsCount = cs_detail.groups_count(detailsSegment) & 0xFF;
+                MemorySegment groupsSegment = cs_detail.groups(detailsSegment);
+                int[] groups = new int[groupsCount];
+                for (int i = 0; i < groupsCount; i++) {
+                    groups[i] = groupsSegment.get(C_CHAR, i * C_CHAR.byteSize()) & 0xFF;
+                }
+
+                return new CapstoneInstructionDetails<>(regsRead, regsReadCount, regsWrite, regsWriteCount, groups, groupsCount,
+                    cs_detail.writeback(detailsSegment), parser.parse(detailsSegment));
+            }
+        }
+
+        private static int[] readRegs(MemorySegment file, long position, int count) {
+            int[] regs = new int[count];
+            for (int i = 0; i < count; i++) {
+                regs[i] = file.get(SHORT, position + 2L * i) & 0xFFFF;
+            }
+            return regs;
+        }
+    }
+
+    /**
+     * Streams the decoded instructions of a handle into a cache file.
+     * <p>
+     * The file starts with a fixed-size header, followed by one variable-size record per instruction
+     * and an index holding the file offset of every record. All values are little-endian.
+     */
+    private static final class Writer implements RawInstructionSink {
+
+        private final FileChannel channel;
+        private final long detailsSize;
+        private final int maxRecordSize;
+        private final ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        private final MemorySegment bufferSegment = MemorySegment.ofBuffer(this.buffer);
+        private final CapstoneHandle owner;
+
+        private long[] offsets = new long[1024];
+        private int count;
+        private long filePosition = HEADER_SIZE;
+
+        private Writer(FileChannel channel, CapstoneHandle owner) throws IOException {
+            this.channel = channel;
+            this.owner = owner;
+            this.detailsSize = CapstoneArchDetailsParsers.detailsSize(owner.getArch());
+            // fixed fields, the strings and bytes of cs_insn with their lengths, register accesses and details
+            this.maxRecordSize = 22 + (int) cs_insn.sizeof() + 2 * (1 + 2 * MAX_REGS) + (int) this.detailsSize;
+            this.channel.position(HEADER_SIZE);
+        }
+
+        @Override
+        public void accept(long handle, MemorySegment insn, boolean parseDetails) {
+            MemorySegment detail = parseDetails ? cs_insn.detail(insn) : MemorySegment.NULL;
+            boolean hasDetails = !detail.equals(MemorySegment.NULL);
+            int size = cs_insn.size(insn) & 0xFFFF;
+            int flags = (cs_insn.is_alias(insn) ? FLAG_ALIAS : 0)
+                | (cs_insn.usesAliasDetails(insn) ? FLAG_ALIAS_DETAILS : 0)
+                | (hasDetails ? FLAG_DETAILS : 0);
+
+            beginRecord(cs_insn.address(insn), cs_insn.id(insn), cs_insn.alias_id(insn), size, flags);
+            put(cs_insn.bytes(insn), size);
+
+            MemorySegment mnemonic = cs_insn.mnemonic(insn);
+            int mnemonicLength = length(mnemonic);
+            this.buffer.put((byte) mnemonicLength);
+            put(mnemonic, mnemonicLength);
+
+            MemorySegment opStr = cs_insn.op_str(insn);
+            int opStrLength = length(opStr);
+            this.buffer.putShort((short) opStrLength);
+            put(opStr, opStrLength);
+
+            if (hasDetails) {
+                putRegsAccess(insn);
+                put(detail.reinterpret(this.detailsSize), this.detailsSize);
+            }
+        }
+
+        @Override
+        public void acceptBad(long address, byte badByte) {
+            beginRecord(address, -1, -1, 1, FLAG_BAD);
+            this.buffer.put(badByte);
+        }
+
+        /**
+         * Flushes the records and writes the index and the header.
+         */
+        void finish(byte[] key) throws IOException {
+            flush();
+            long indexOffset = this.filePosition;
+            for (int i = 0; i < this.count; i++) {
+                if (this.buffer.remaining() < Long.BYTES) {
+                    flush();
+                }
+                this.buffer.putLong(this.offsets[i]);
+            }
+            flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, MAGIC);
+            header.putInt(4, FORMAT_VERSION);
+            header.putLong(16, this.count);
+            header.putLong(24, indexOffset);
+            header.put(KEY_OFFSET, key);
+            for (long position = 0; header.hasRemaining(); ) {
+                position += this.channel.write(header, position);
+            }
+        }
+
+        private void beginRecord(long address, int id, long aliasId, int size, int flags) {
+            if (this.buffer.remaining() < this.maxRecordSize) {
+                flush();
+            }
+            if (this.count == Integer.MAX_VALUE) {
+                throw new RuntimeException("Too many instructions for a cache entry");
+            }
+            if (this.count == this.offsets.length) {
+                this.offsets = Arrays.copyOf(this.offsets, this.offsets.length * 2);
+            }
+            this.offsets[this.count++] = this.filePosition + this.buffer.position();
+
+            this.buffer.putLong(address);
+            this.buffer.putInt(id);
+            this.buffer.putLong(aliasId);
+            this.buffer.put((byte) size);
+            this.buffer.put((byte) flags);
+        }
+
+        /**
+         * Writes the registers accessed by an instruction, collected through the decode context of the
+         * handle, which reports no accesses for the data pseudo-instructions of SKIPDATA mode.
+         */
+        private void putRegsAccess(MemorySegment insn) {
+            CapstoneRegAccess regAccess = this.owner.regsAccess(insn);
+            putRegs(regAccess.getRegsRead());
+            putRegs(regAccess.getRegsWrite());
+        }
+
+        private void putRegs(int[] regs) {
+            this.buffer.put((byte) regs.length);
+            for (int reg : regs) {
+                this.buffer.putShort((short) reg);
+            }
+        }
+
+        private void put(MemorySegment source, long length) {
+            int position = this.buffer.position();
+            MemorySegment.copy(source, 0, this.bufferSegment, position, length);
+            this.buffer.position(position + (int) length);
+        }
+
+        private static int length(MemorySegment string) {
+            int length = 0;
+            while (string.get(ValueLayout.JAVA_BYTE, length) != 0) {
+                length++;
+            }
+            return length;
+        }
+
+        private void flush() {
+            this.buffer.flip();
+            try {
+                while (this.buffer.hasRemaining()) {
+                    this.filePosition += this.channel.write(this.buffer);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to write cache file: " + e.getMessage(), e);
+            }
+            this.buffer.clear();
+        }
+    }
+
+    /**
+     * Builder for {@link CapstoneDiskCache}.
+     */
+    public static class Builder {
+        private final Path directory;
+        private long maxBytes = 1L << 30;
+
+        private Builder(Path directory) {
+            this.directory = Objects.requireNonNull(directory, "directory");
+        }
+
+        /**
+         * Sets the maximum number of bytes the cache files may occupy. Defaults to 1 GiB.
+         * <p>
+         * The limit is enforced after every new entry; the entry that was just written is never
+         * evicted, even if it is larger than the limit on its own.
+         *
+         * @param maxBytes the size limit of the cache
+         * @return this builder
+         */
+        public Builder maxBytes(long maxBytes) {
+            if(maxBytes <= 0) {
+                throw new IllegalArgumentException("Maximum cache size must be positive");
+            }
+            this.maxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Builds the {@link CapstoneDiskCache}, creating the cache directory if necessary.
+         *
+         * @return a new {@link CapstoneDiskCache} instance
+         * @throws IOException if the cache directory cannot be created
+         */
+        public CapstoneDiskCache build() throws IOException {
+            return new CapstoneDiskCache(this);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.suko.capstone4j;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Constant time lookup of enum constants by their native Capstone value.
+ * <p>
+ * The {@code fromValue} methods of the Capstone enums are called several times for every operand of
+ * every detailed instruction. Scanning {@code values()} for each call clones the constant array and
+ * walks up to a few thousand entries, so every enum builds one of these tables once, when it is
+ * initialized.
+ * <p>
+ * Values that are close together are stored in an array indexed by {@code value - min}. Sparse values,
+ * such as system register encodings, are stored in a hash map instead. Several constants may share a
+ * value: {@link #get(int)} returns the first one in declaration order, which is what the linear scans
+ * returned, and {@link #getAll(int)} returns all of them.
+ *
+ * @param <E> the enum type
+ */
+final class CapstoneEnumLookup<E extends Enum<E>> {
+
+    /** Dense tables may be at most this many times larger than the number of distinct values. */
+    private static final int MAX_DENSE_FILL_FACTOR = 4;
+
+    /** Tables with a value range up to this size are always dense. */
+    private static final int MIN_DENSE_SIZE = 64;
+
+    private final E[] empty;
+    private final int min;
+    private final E[] first;
+    private final E[][] all;
+    private final Map<Integer, E[]> sparse;
+
+    private CapstoneEnumLookup(E[] empty, int min, E[] first, E[][] all, Map<Integer, E[]> sparse) {
+        this.empty = empty;
+        this.min = min;
+        this.first = first;
+        this.all = all;
+        this.sparse = sparse;
+    }
+
+    /**
+     * Creates a lookup table for the given enum constants.
+     *
+     * @param <E> the enum type
+     * @param constants the constants of the enum, usually {@code values()}
+     * @param valueFunction returns the native value of a constant
+     * @return a new lookup table
+     */
+    @SuppressWarnings("unchecked")
+    static <E extends Enum<E>> CapstoneEnumLookup<E> of(E[] constants, ToIntFunction<E> valueFunction) {
+        Map<Integer, List<E>> grouped = new LinkedHashMap<>();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (E constant : constants) {
+            int value = valueFunction.applyAsInt(constant);
+            grouped.computeIfAbsent(value, k -> new ArrayList<>(1)).add(constant);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        E[] empty = Arrays.copyOf(constants, 0);
+        if (grouped.isEmpty()) {
+            return new CapstoneEnumLookup<>(empty, 0, empty, null, new HashMap<>());
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= MIN_DENSE_SIZE || range <= (long) grouped.size() * MAX_DENSE_FILL_FACTOR) {
+            E[] first = Arrays.copyOf(constants, (int) range);
+            Arrays.fill(first, null);
+            E[][] all = (E[][]) Array.newInstance(empty.getClass(), (int) range);
+            for (Map.Entry<Integer, List<E>> entry : grouped.entrySet()) {
+                int index = entry.getKey() - min;
+                first[index] = entry.getValue().get(0);
+                all[index] = entry.getValue().toArray(empty);
+            }
+            return new CapstoneEnumLookup<>(empty, min, first, all, null);
+        }
+
+        Map<Integer, E[]> sparse = new HashMap<>(grouped.size() * 2);
+        for (Map.Entry<Integer, List<E>> entry : grouped.entrySet()) {
+            sparse.put(entry.getKey(), entry.getValue().toArray(empty));
+        }
+        return new CapstoneEnumLookup<>(empty, min, null, null, sparse);
+    }
+
+    /**
+     * Returns the first constant, in declaration order, with the given value.
+     *
+     * @param value the native value
+     * @return the matching constant, or {@code null} if no constant has this value
+     */
+    E get(int value) {
+        if (this.sparse != null) {
+            E[] matches = this.sparse.get(value);
+            return matches != null ? matches[0] : null;
+        }
+        long index = (long) value - this.min;
+        if (index < 0 || index >= this.first.length) {
+            return null;
+        }
+        return this.first[(int) index];
+    }
+
+    /**
+     * Returns all constants with the given value in declaration order.
+     *
+     * @param value the native value
+     * @return a new array with the matching constants, empty if no constant has this value
+     */
+    E[] getAll(int value) {
+        E[] matches;
+        if (this.sparse != null) {
+            matches = this.sparse.get(value);
+        } else {
+            long index = (long) value - this.min;
+            matches = index < 0 || index >= this.all.length ? null : this.all[(int) index];
+        }
+        return matches != null ? matches.clone() : this.empty;
+    }
+}
@@ -1,26 +1,27 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneConstants.*;
 
 public enum CapstoneError {
-    OK(CS_ERR_OK()),
-	MEM(CS_ERR_MEM()),
-	ARCH(CS_ERR_ARCH()),
-	HANDLE(CS_ERR_HANDLE()),
-	CSH(CS_ERR_CSH()),
-	MODE(CS_ERR_MODE()),
-	OPTION(CS_ERR_OPTION()),
-	DETAIL(CS_ERR_DETAIL()),
-	MEMSETUP(CS_ERR_MEMSETUP()),
-	VERSION(CS_ERR_VERSION()),
-	DIET(CS_ERR_DIET()),
-	SKIPDATA(CS_ERR_SKIPDATA()),
-	X86_ATT(CS_ERR_X86_ATT()),
-	X86_INTEL(CS_ERR_X86_INTEL()),
-	X86_MASM(CS_ERR_X86_MASM()),
+    OK(CS_ERR_OK),
+	MEM(CS_ERR_MEM),
+	ARCH(CS_ERR_ARCH),
+	HANDLE(CS_ERR_HANDLE),
+	CSH(CS_ERR_CSH),
+	MODE(CS_ERR_MODE),
+	OPTION(CS_ERR_OPTION),
+	DETAIL(CS_ERR_DETAIL),
+	MEMSETUP(CS_ERR_MEMSETUP),
+	VERSION(CS_ERR_VERSION),
+	DIET(CS_ERR_DIET),
+	SKIPDATA(CS_ERR_SKIPDATA),
+	X86_ATT(CS_ERR_X86_ATT),
+	X86_INTEL(CS_ERR_X86_INTEL),
+	X86_MASM(CS_ERR_X86_MASM),
     UNKNOWN(-999);
 
     private final int value;
+    private static final CapstoneEnumLookup<CapstoneError> LOOKUP = CapstoneEnumLookup.of(values(), error -> error.value);
 
     CapstoneError(int value) {
         this.value = value;
@@ -31,11 +32,7 @@ public enum CapstoneError {
     }
 
     public static CapstoneError fromValue(int value) {
-        for (CapstoneError error : CapstoneError.values()) {
-            if (error.getValue() == value) {
-                return error;
-            }
-        }
-        return UNKNOWN;
+        CapstoneError error = LOOKUP.get(value);
+        return error != null ? error : UNKNOWN;
     }
 }
\ No newline at end of file
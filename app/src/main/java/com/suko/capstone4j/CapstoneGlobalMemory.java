@@ -0,0 +1,239 @@
+package com.suko.capstone4j;
+
+import static com.suko.capstone4j.internal.CapstoneNative.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.suko.capstone4j.internal.cs_opt_mem;
+
+/**
+ * Keeps track of the memory functions installed in the Capstone library.
+ * <p>
+ * The {@link CapstoneOption#MEM} option is global to the process, every handle that is opened afterwards
+ * uses the same functions. Handles using a {@link CapstoneMemoryProvider} and handles using the native
+ * allocator of the C library cannot be mixed: a block allocated from a Java arena must never reach
+ * {@code free} of the C library, and a block allocated by the C library must not outlive the upcall
+ * stubs it was allocated through. Handles using different memory providers cannot be mixed either, as
+ * Capstone would free the blocks of one provider through the functions of the other. This class counts
+ * the open handles of both kinds and refuses to switch the allocator while handles of another kind are
+ * still open.
+ * <p>
+ * The upcall stubs of the installed provider live in an arena owned by this class. It is opened when
+ * the first provider handle is opened and closed, after the allocator of the C library has been
+ * installed again, when the last provider handle is closed, so no handle can ever call a stub of a
+ * closed arena. The same holds for the arena of the {@linkplain #sharedProvider() shared provider},
+ * which the default options of every handle use, so any number of default handles can be open at once.
+ * <p>
+ * The memory functions are installed with handle {@code 0}, so installing them and opening a handle
+ * are done under one lock to keep threads that create handles concurrently from racing.
+ */
+final class CapstoneGlobalMemory {
+
+    private static final Object LOCK = new Object();
+
+    /** The provider of the default options, whose arena lives as long as handles use it. */
+    private static final PooledCapstoneMemoryProvider SHARED_PROVIDER = new PooledCapstoneMemoryProvider();
+
+    /** The memory provider whose functions are installed, if any, and its arena when it was installed. */
+    private static CapstoneMemoryProvider installedProvider;
+    private static Arena installedArena;
+
+    /** The arena holding the upcall stubs of the installed provider. */
+    private static Arena stubArena;
+    /** The arena of the shared provider while it is installed. */
+    private static Arena sharedArena;
+    /** Arenas of the installed provider whose owner has been closed while handles still use them. */
+    private static final List<Arena> pendingArenas = new ArrayList<>();
+
+    private static int providerHandles;
+    private static int nativeHandles;
+
+    private static MemorySegment nativeMemOpt;
+
+    private CapstoneGlobalMemory() {
+    }
+
+    /**
+     * The allocator a handle has been opened with, to be passed back to {@link #release(Allocation)}.
+     *
+     * @param error the result of {@code cs_open}
+     * @param memoryProvider the memory provider of the handle, or {@code null} for the native allocator
+     */
+    record Allocation(CapstoneError error, CapstoneMemoryProvider memoryProvider) {
+    }
+
+    /**
+     * Returns the memory provider used by handles created with the default options.
+     * <p>
+     * The provider allocates from an arena owned by this class, which is closed when the last handle
+     * using the provider is closed. Its arena must not be replaced.
+     *
+     * @return the shared memory provider
+     */
+    static PooledCapstoneMemoryProvider sharedProvider() {
+        return SHARED_PROVIDER;
+    }
+
+    /**
+     * Opens a Capstone handle with the memory functions of {@code memoryProvider} or of the C library.
+     * <p>
+     * Installing the memory functions and opening the handle happen atomically, so concurrent threads
+     * cannot open a handle with the memory functions installed for another handle. The functions of a
+     * memory provider are installed by the first handle using it, later handles must use the same
+     * provider and arena until the last of them is closed.
+     * <p>
+     * A handle without a memory provider that does not use the native allocator keeps the installed
+     * functions: it uses the installed provider while handles using it are open, and the allocator of
+     * the C library otherwise.
+     *
+     * @param arch the architecture of the handle
+     * @param modes the modes of the handle
+     * @param handle the segment receiving the {@code csh} value
+     * @param memoryProvider the memory provider of the new handle, or {@code null} to keep the installed functions
+     * @param nativeAllocator whether the handle uses the allocator of the C library
+     * @return the result of {@code cs_open} and the allocator the handle uses
+     * @throws RuntimeException if handles using another allocator are open, or if Capstone rejects the functions
+     */
+    static Allocation open(CapstoneArch arch, CapstoneMode[] modes, MemorySegment handle, CapstoneMemoryProvider memoryProvider, boolean nativeAllocator) {
+        synchronized (LOCK) {
+            CapstoneMemoryProvider provider = nativeAllocator ? null : memoryProvider;
+            if (provider == null && !nativeAllocator && providerHandles > 0) {
+                provider = installedProvider;
+            }
+
+            if (provider == null) {
+                if (providerHandles > 0) {
+                    throw new RuntimeException("Cannot use the native allocator while " + providerHandles + " handle(s) using a memory provider are open");
+                }
+            } else if (providerHandles == 0) {
+                if (nativeHandles > 0) {
+                    throw new RuntimeException("Cannot use a memory provider while " + nativeHandles + " handle(s) using the native allocator are open");
+                }
+                installProvider(provider);
+            } else if (provider != installedProvider || provider.getArena() != installedArena) {
+                throw new RuntimeException("Cannot switch the memory provider or its arena while " + providerHandles
+                        + " handle(s) using another one are open, handles that are open at the same time must share one provider and arena");
+            }
+
+            CapstoneError err = CapstoneError.fromValue(cs_open(arch.getValue(), CapstoneMode.toValue(modes), handle));
+            if (err != CapstoneError.OK) {
+                if (provider != null && providerHandles == 0) {
+                    uninstallProvider();
+                }
+            } else if (provider != null) {
+                providerHandles++;
+            } else {
+                nativeHandles++;
+            }
+            return new Allocation(err, provider);
+        }
+    }
+
+    /**
+     * Records that a handle opened by {@link #open} has been closed.
+     * <p>
+     * When the last handle using a memory provider is closed, the allocator of the C library is installed
+     * again and the arenas of the upcall stubs, of the shared provider and those passed to
+     * {@link #closeWhenUnused} are closed.
+     *
+     * @param allocation the allocation returned when the handle was opened
+     */
+    static void release(Allocation allocation) {
+        synchronized (LOCK) {
+            if (allocation.memoryProvider() == null) {
+                nativeHandles--;
+            } else if (--providerHandles == 0) {
+                uninstallProvider();
+            }
+        }
+    }
+
+    /**
+     * Closes the arena of {@code memoryProvider} once no handle uses the provider anymore.
+     * <p>
+     * Handles that do not choose a memory provider use the installed one, so an arena cannot be closed
+     * when its owner is done with its own handles, as other handles may still allocate from it. A
+     * handle closes the arena of its memory provider this way when the provider allocates from the
+     * handle arena.
+     *
+     * @param memoryProvider the memory provider allocating from {@code arena}
+     * @param arena the arena to close
+     */
+    static void closeWhenUnused(CapstoneMemoryProvider memoryProvider, Arena arena) {
+        synchronized (LOCK) {
+            if (providerHandles > 0 && installedProvider == memoryProvider) {
+                pendingArenas.add(arena);
+            } else {
+                arena.close();
+            }
+        }
+    }
+
+    private static void installProvider(CapstoneMemoryProvider provider) {
+        stubArena = Arena.ofShared();
+        if (provider == SHARED_PROVIDER) {
+            sharedArena = Arena.ofShared();
+            SHARED_PROVIDER.setArena(sharedArena);
+        }
+        installedProvider = provider;
+        installedArena = provider.getArena();
+        try {
+            install(new CapstoneMemoryManager(provider, stubArena).createMemoryOptions());
+        } catch (RuntimeException e) {
+            uninstallProvider();
+            throw e;
+        }
+    }
+
+    private static void uninstallProvider() {
+        // no handle may call the stubs anymore once they are closed
+        install(nativeMemOpt());
+        installedProvider = null;
+        installedArena = null;
+        stubArena.close();
+        stubArena = null;
+        if (sharedArena != null) {
+            sharedArena.close();
+            sharedArena = null;
+        }
+        for (Arena arena : pendingArenas) {
+            try {
+                arena.close();
+            } catch (UnsupportedOperationException | WrongThreadException e) {
+                // global and automatic arenas cannot be closed, and a confined arena only by its owner thread
+            }
+        }
+        pendingArenas.clear();
+    }
+
+    private static void install(MemorySegment memOpt) {
+        CapstoneError err = CapstoneError.fromValue(cs_option(0, CapstoneOption.MEM.getValue(), memOpt.address()));
+        if (err != CapstoneError.OK) {
+            throw new RuntimeException("Failed to set Capstone memory option: " + CapstoneUtils.getErrorMessage(err));
+        }
+    }
+
+    private static MemorySegment nativeMemOpt() {
+        if (nativeMemOpt == null) {
+            SymbolLookup libc = Linker.nativeLinker().defaultLookup();
+            MemorySegment memOpt = cs_opt_mem.allocate(Arena.global());
+            cs_opt_mem.malloc(memOpt, find(libc, "malloc"));
+            cs_opt_mem.calloc(memOpt, find(libc, "calloc"));
+            cs_opt_mem.realloc(memOpt, find(libc, "realloc"));
+            cs_opt_mem.free(memOpt, find(libc, "free"));
+            // the Microsoft C runtime only exports the underscore variant
+            cs_opt_mem.vsnprintf(memOpt, libc.find("vsnprintf").orElseGet(() -> find(libc, "_vsnprintf")));
+            nativeMemOpt = memOpt;
+        }
+        return nativeMemOpt;
+    }
+
+    private static MemorySegment find(SymbolLookup lookup, String name) {
+        return lookup.find(name).orElseThrow(() -> new RuntimeException("Failed to find native function: " + name));
+    }
+}
@@ -1,22 +1,31 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneNative.*;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-// TODO: (Optional) Create a new CapstoneMemoryProvider that maps the memory segment address to a Arena so that we can close the arena when the memory is freed instead of waiting for the Arena to be closed
+import com.suko.capstone4j.internal.cs_insn;
+import com.suko.capstone4j.internal.cs_opt_skipdata;
+import com.suko.capstone4j.internal.cs_skipdata_cb_t;
 
 public class CapstoneHandle implements AutoCloseable {
 
@@ -26,11 +35,53 @@ public class CapstoneHandle implements AutoCloseable {
     private final CapstoneArch arch;
     private final CapstoneMode[] modes;
 
-    private CapstoneMemoryProvider memoryProvider;
+    private final CapstoneGlobalMemory.Allocation allocation;
 
     private final boolean closeHandleArena;
 
     private boolean parseDetails = false;
+    /** Incremented whenever the detail option is turned off, see {@link #getDetailGeneration()}. */
+    private int detailGeneration;
+
+    private final boolean lazyDetails;
+
+    private final boolean nativeAllocator;
+
+    private boolean closed = false;
+
+    private final CapstoneArchDetailsParser<?> detailsParser;
+
+    private final DecodeContext decodeContext;
+
+    private final Map<CapstoneOption, Set<CapstoneOptionValue>> options = new EnumMap<>(CapstoneOption.class);
+
+    private final CapstoneInstructionCache instructionCache;
+
+    private CapstoneInstructionCache.Config cacheConfig;
+
+    private CapstoneNameTables nameTables;
+
+    private Arena skipDataArena;
+
+    private boolean skipDataCallback;
+
+    private CapstoneSkipData skipData;
+
+    /** Size of the native buffer input streams are read into. */
+    private static final int STREAM_CHUNK_SIZE = 1024 * 1024;
+
+    /**
+     * Maximum number of instructions decoded by one {@code cs_disasm} call when decoding straight from a {@code byte[]}.
+     * <p>
+     * The call is a critical downcall with heap access, during which the thread cannot reach a safepoint,
+     * so every garbage collection pause waits for the batch to finish. A few hundred instructions take
+     * tens of microseconds even with details, which keeps that delay well below the pause times of the
+     * collectors, while the per-call overhead stays negligible.
+     */
+    private static final int HEAP_BATCH_SIZE = 256;
+
+    /** Upper bound of the encoded size of an instruction on any supported architecture. */
+    private static final int MAX_INSTRUCTION_SIZE = 24;
 
     /**
      * Creates a new Capstone handle with the specified architecture, mode, and options.
@@ -45,6 +96,7 @@ public class CapstoneHandle implements AutoCloseable {
      *   <li>Whether the arena should be closed when the handle is closed</li>
      *   <li>A custom memory provider for memory allocation operations</li>
      *   <li>Whether the handle arena should be used by the memory provider</li>
+     *   <li>Whether instruction details should be decoded lazily</li>
      * </ul>
      * <p>
      * Example usage:
@@ -75,22 +127,19 @@ public class CapstoneHandle implements AutoCloseable {
         this.modes = modes;
         this.handleArena = options.getHandleArena();
         this.closeHandleArena = options.isCloseHandleArena();   
-        this.memoryProvider = options.getMemoryProvider();
+        this.nativeAllocator = options.isNativeAllocator();
+        this.lazyDetails = options.isLazyDetails();
+        this.instructionCache = options.getInstructionCache();
 
         this.handle = handleArena.allocate(csh.byteSize());
 
-        if(this.memoryProvider != null) {
-            MemorySegment memOpt = new CapstoneMemoryManager(memoryProvider).createMemoryOptions();
-            CapstoneError err = CapstoneError.fromValue(cs_option(0, CapstoneOption.MEM.getValue(), memOpt.address()));
-            if(err != CapstoneError.OK) {
-                throw new RuntimeException("Failed to set Capstone memory option: " + CapstoneUtils.getErrorMessage(err));
-            }
+        this.allocation = CapstoneGlobalMemory.open(this.arch, this.modes, handle, options.getMemoryProvider(), this.nativeAllocator);
+        if(this.allocation.error() != CapstoneError.OK) {
+            throw new RuntimeException("Failed to create Capstone handle: " + CapstoneUtils.getErrorMessage(this.allocation.error()));
         }
 
-        CapstoneError err = CapstoneError.fromValue(cs_open(this.arch.getValue(), CapstoneMode.toValue(this.modes), handle));
-        if(err != CapstoneError.OK) {
-            throw new RuntimeException("Failed to create Capstone handle: " + CapstoneUtils.getErrorMessage(err));
-        }
+        this.decodeContext = new DecodeContext(this, this.handle.get(csh, 0), handleArena);
+        this.detailsParser = CapstoneArchDetailsParsers.forArch(this.arch);
     }
 
     /**
@@ -121,9 +170,10 @@ public class CapstoneHandle implements AutoCloseable {
      * @param values an array of option values to be applied (combined with bitwise OR)
      * @throws RuntimeException if the Capstone handle is not initialized or if setting the option fails
      * @throws IllegalArgumentException if the option is {@link CapstoneOption#INVALID}
-     * @throws UnsupportedOperationException if the option is {@link CapstoneOption#MEM}
+     * @throws UnsupportedOperationException if the option is {@link CapstoneOption#MEM} or {@link CapstoneOption#SKIPDATA_SETUP}
      * @see CapstoneOption
      * @see CapstoneOptionValue
+     * @see #setSkipData(CapstoneSkipData)
      */
     public void setOption(CapstoneOption option, CapstoneOptionValue[] values) {
         if(handle == null) {
@@ -133,6 +183,8 @@ public class CapstoneHandle implements AutoCloseable {
             throw new IllegalArgumentException("Invalid option");
         } else if(option == CapstoneOption.MEM) {
             throw new UnsupportedOperationException("User-defined dynamic memory option is not supported please use CapstoneHandleOptions.Builder.memoryProvider(CapstoneMemoryProvider) instead");
+        } else if(option == CapstoneOption.SKIPDATA_SETUP) {
+            throw new UnsupportedOperationException("SKIPDATA setup is not supported by this method please use setSkipData(CapstoneSkipData) instead");
         }
 
         int flag = 0;
@@ -145,6 +197,7 @@ public class CapstoneHandle implements AutoCloseable {
                 this.parseDetails = true;
             } else if((flag & CapstoneOptionValue.OFF.getValue()) > 0) {
                 this.parseDetails = false;
+                this.detailGeneration++;
             }
         }
 
@@ -152,6 +205,19 @@ public class CapstoneHandle implements AutoCloseable {
         if(err != CapstoneError.OK) {
             throw new RuntimeException("Failed to set Capstone option: " + CapstoneUtils.getErrorMessage(err));
         }
+
+        Set<CapstoneOptionValue> valueSet = EnumSet.noneOf(CapstoneOptionValue.class);
+        valueSet.addAll(Arrays.asList(values));
+        this.options.put(option, Collections.unmodifiableSet(valueSet));
+        this.cacheConfig = null;
+        if(option == CapstoneOption.SYNTAX || option == CapstoneOption.MODE) {
+            this.nameTables = null;
+        }
+
+        if(option == CapstoneOption.DETAIL) {
+            // the reusable cs_insn buffer only has room for details if they were on when it was allocated
+            this.decodeContext.releaseInstruction();
+        }
     }
 
     /**
@@ -177,6 +243,84 @@ public class CapstoneHandle implements AutoCloseable {
         setOption(option, new CapstoneOptionValue[] { value });
     }
 
+    /**
+     * Sets up and turns on Capstone's SKIPDATA mode, or turns it off.
+     * <p>
+     * With SKIPDATA on, Capstone does not stop at bytes it cannot decode but returns them as data
+     * pseudo-instructions with the id 0, the mnemonic of {@code skipData} and an operand string
+     * listing the bytes. How many bytes each of them covers is decided by the callback of
+     * {@code skipData}, or by the architecture if there is none.
+     * <p>
+     * The mnemonic and the callback stay allocated until SKIPDATA is set up again, turned off or
+     * the handle is closed. Turning SKIPDATA off with this method also restores the default setup, which
+     * {@link #setOption(CapstoneOption, CapstoneOptionValue)} uses when it turns SKIPDATA on. The setup
+     * is part of the keys of the instruction caches, see {@link CapstoneInstructionCache} and
+     * {@link CapstoneDiskCache}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * handle.setSkipData(CapstoneSkipData.getDefault());
+     * // undecodable bytes are now returned as ".byte" instructions
+     * List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleAllInstructions(code, 0x1000);
+     * }</pre>
+     *
+     * @param skipData the SKIPDATA configuration, or {@code null} to turn SKIPDATA off
+     * @throws RuntimeException if the Capstone handle is not initialized or if setting the option fails
+     * @see CapstoneSkipData
+     * @see #disassemble(MemorySegment, long, long, CapstoneCodeVisitor)
+     */
+    public void setSkipData(CapstoneSkipData skipData) {
+        if(this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+        long csHandle = this.handle.get(csh, 0);
+        Arena previousArena = this.skipDataArena;
+        Arena arena = null;
+        CapstoneError err;
+        if(skipData == null) {
+            // restore the default setup, Capstone would keep pointing to the mnemonic and callback freed below
+            try(Arena defaults = Arena.ofConfined()) {
+                err = CapstoneError.fromValue(cs_option(csHandle, CapstoneOption.SKIPDATA_SETUP.getValue(), cs_opt_skipdata.allocate(defaults).address()));
+            }
+            if(err == CapstoneError.OK) {
+                err = CapstoneError.fromValue(cs_option(csHandle, CapstoneOption.SKIPDATA.getValue(), CapstoneOptionValue.OFF.getValue()));
+            }
+        } else {
+            arena = Arena.ofShared();
+            MemorySegment setup = cs_opt_skipdata.allocate(arena);
+            cs_opt_skipdata.mnemonic(setup, arena.allocateFrom(skipData.getMnemonic()));
+            CapstoneSkipDataCallback callback = skipData.getCallback();
+            if(callback != null) {
+                cs_opt_skipdata.callback(setup, cs_skipdata_cb_t.allocate((code, codeSize, offset, userData) -> {
+                    try {
+                        return callback.skip(code.reinterpret(codeSize), offset);
+                    } catch(Throwable t) {
+                        return 0;
+                    }
+                }, arena));
+            }
+            err = CapstoneError.fromValue(cs_option(csHandle, CapstoneOption.SKIPDATA_SETUP.getValue(), setup.address()));
+            if(err == CapstoneError.OK) {
+                err = CapstoneError.fromValue(cs_option(csHandle, CapstoneOption.SKIPDATA.getValue(), CapstoneOptionValue.ON.getValue()));
+            }
+        }
+        if(err != CapstoneError.OK) {
+            if(arena != null) {
+                arena.close();
+            }
+            throw new RuntimeException("Failed to set Capstone option: " + CapstoneUtils.getErrorMessage(err));
+        }
+
+        this.skipDataArena = arena;
+        if(previousArena != null) {
+            previousArena.close();
+        }
+        this.options.put(CapstoneOption.SKIPDATA, Collections.unmodifiableSet(EnumSet.of(skipData == null ? CapstoneOptionValue.OFF : CapstoneOptionValue.ON)));
+        this.cacheConfig = null;
+        this.skipData = skipData;
+        this.skipDataCallback = skipData != null && skipData.getCallback() != null;
+    }
+
     /**
      * Retrieves the error code from the Capstone engine.
      * <p>
@@ -229,45 +373,33 @@ public class CapstoneHandle implements AutoCloseable {
     }
 
     /**
-     * Disassembles a chunk of code from a memory segment.
+     * Decodes the instruction at the current position of the handle's decode context.
      * <p>
-     * This internal method handles the low-level disassembly of a single instruction from a memory segment.
-     * It creates the necessary memory references and calls the native Capstone disassembly function.
-     * If disassembly fails, it returns a "bad instruction" with the first byte of the chunk.
+     * This internal method handles the low-level disassembly of a single instruction. The position
+     * of the decode context is advanced past the returned instruction. If Capstone cannot decode the
+     * bytes at the current position, a "bad instruction" is returned for the first byte and the
+     * position is advanced by one byte.
      * 
      * @param <A> the type of architecture-specific details this instruction will contain
-     * @param arena the memory arena used for temporary allocations
-     * @param chunkData the memory segment containing the code to disassemble
-     * @param chunkSize the size of the code chunk in bytes
-     * @param address the virtual address where the code is located
-     * @param insn the memory segment for storing the disassembled instruction
+     * @param context the decode context positioned at the instruction to decode
      * @return a CapstoneInstruction object representing the disassembled instruction
      * @throws RuntimeException if disassembly fails with an error
      */
-    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> disassembleChunk(Arena arena, MemorySegment chunkData, long chunkSize, long address, MemorySegment insn) {
-        // Create a new segment that points to the current offset
-        MemorySegment currentSegment = chunkData.asSlice(0, chunkSize);
-        MemorySegment codeRef = arena.allocateFrom(ValueLayout.ADDRESS, currentSegment);
-        MemorySegment sizeRef = arena.allocateFrom(ValueLayout.JAVA_LONG, chunkSize);
-        MemorySegment addressRef = arena.allocateFrom(ValueLayout.JAVA_LONG, address);
-        
-        boolean result = cs_disasm_iter(
-            this.handle.get(csh, 0),
-            codeRef,
-            sizeRef,
-            addressRef,
-            insn
-        );
-        
-        if (!result) {
-            CapstoneError error = getErrNo();
-            if (error != CapstoneError.OK) {
-                throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
-            }
-            return CapstoneInstructionFactory.createBadInstruction(address, currentSegment.get(ValueLayout.JAVA_BYTE, 0), this.arch);
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> decodeNext(DecodeContext context) {
+        if (context.next()) {
+            return CapstoneInstructionFactory.createFromMemorySegment(this, context.insn(), this.parseDetails);
         }
-        
-        return CapstoneInstructionFactory.createFromMemorySegment(this.handle, insn, this.arch, this.parseDetails);
+
+        CapstoneError error = getErrNo();
+        if (error != CapstoneError.OK) {
+            throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+        }
+
+        // cs_disasm_iter leaves the position untouched on failure, skip the undecodable byte ourselves
+        long address = context.address();
+        byte badByte = context.code().get(ValueLayout.JAVA_BYTE, context.offset());
+        context.skip(1);
+        return CapstoneInstructionFactory.createBadInstruction(address, badByte, this.arch);
     }
 
     /**
@@ -286,8 +418,12 @@ public class CapstoneHandle implements AutoCloseable {
      *   <li>For other architectures: corresponding architecture-specific detail classes</li>
      * </ul>
      * <p>
-     * The method allocates temporary memory for the disassembly process and ensures proper
-     * cleanup, regardless of whether the disassembly succeeds or fails.
+     * Short inputs are staged in a native buffer owned by the handle, so decoding them does not
+     * allocate any native memory. Longer inputs are copied into temporary memory that is released
+     * before the method returns.
+     * <p>
+     * If the handle was created with an {@link CapstoneHandleOptions.Builder#instructionCache(CapstoneInstructionCache)
+     * instruction cache}, repeated requests for the same bytes are answered from the cache.
      * <p>
      * Example usage for X86 architecture:
      * <pre>{@code
@@ -329,55 +465,82 @@ public class CapstoneHandle implements AutoCloseable {
         if (this.handle == null) {
             throw new RuntimeException("Capstone handle is not initialized");
         }
-        
-        try (Arena arena = Arena.ofConfined()) {
-            MemorySegment chunkData = arena.allocateFrom(ValueLayout.JAVA_BYTE, code);
-            MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
-            try {
-                return disassembleChunk(arena, chunkData, code.length, address, insn);
-            } finally {
-                cs_free(insn, 1);
+        if (this.instructionCache != null) {
+            return this.instructionCache.disassemble(this, code, address);
+        }
+        return decodeInstruction(code, address);
+    }
+
+    /**
+     * Decodes the first instruction of {@code code} without consulting the instruction cache.
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param code the byte array containing the machine code to disassemble
+     * @param address the virtual address of the first byte of {@code code}
+     * @return the decoded instruction, or a "bad" instruction for the first byte
+     * @throws RuntimeException if an error occurs during disassembly
+     * @see #disassembleInstruction(byte[], long)
+     */
+    <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> decodeInstruction(byte[] code, long address) {
+        try {
+            if (code.length <= DecodeContext.STAGING_CAPACITY) {
+                this.decodeContext.reset(this.decodeContext.stage(code), 0, code.length, address);
+                return decodeNext(this.decodeContext);
+            }
+            if (this.decodeContext.isCritical()) {
+                return decodeHeapInstruction(code, address);
+            }
+            try (Arena arena = Arena.ofConfined()) {
+                this.decodeContext.reset(arena.allocateFrom(ValueLayout.JAVA_BYTE, code), 0, code.length, address);
+                return decodeNext(this.decodeContext);
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Disassembles every instruction contained in the provided byte array.
+     * <p>
+     * The code is copied into native memory exactly once and then decoded in a single linear
+     * sweep by {@link #disassembleRange(MemorySegment, long, long, Consumer)}. Bytes that cannot be
+     * decoded are returned as "bad" instructions of size 1 and decoding resumes at the next byte.
+     * <p>
+     * Handles using the {@link CapstoneHandleOptions.Builder#nativeAllocator(boolean) native allocator}
+     * skip the copy and decode the array in place through critical downcalls.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * byte[] text = Files.readAllBytes(Paths.get("text.bin"));
+     * List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleAllInstructions(text, 0x401000);
+     * }</pre>
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param code the byte array containing the machine code to disassemble
+     * @param startAddress the virtual address of the first byte of {@code code}
+     * @return a list of disassembled instructions
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     * @see #disassembleMemory(MemorySegment, long, long)
+     */
     public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> List<CapstoneInstruction<A>> disassembleAllInstructions(byte[] code, long startAddress) {
         if (this.handle == null) {
             throw new RuntimeException("Capstone handle is not initialized");
         }
     
         List<CapstoneInstruction<A>> instructions = new ArrayList<>();
-        final int CHUNK_SIZE = 1024 * 1024;
-        int currentOffset = 0;
-        long currentAddress = startAddress;
         
-        try (Arena arena = Arena.ofConfined()) {
-            MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
+        if (this.decodeContext.isCritical()) {
             try {
-                while (currentOffset < code.length) {
-                    int chunkSize = Math.min(CHUNK_SIZE, code.length - currentOffset);
-                    MemorySegment chunkData = arena.allocateFrom(
-                        ValueLayout.JAVA_BYTE,
-                        Arrays.copyOfRange(code, currentOffset, currentOffset + chunkSize)
-                    );
-                    
-                    CapstoneInstruction<A> instruction = disassembleChunk(
-                        arena, chunkData, chunkSize, currentAddress, insn
-                    );
-                    
-                    if (instruction != null) {
-                        instructions.add(instruction);
-                        currentAddress += instruction.getSize();
-                        currentOffset += instruction.getSize();
-                    } else {
-                        currentOffset += chunkSize;
-                    }
-                }
-            } finally {
-                cs_free(insn, 1);
+                this.<A>disassembleHeap(code, startAddress, instructions::add);
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
             }
+            return instructions;
+        }
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment codeSegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, code);
+            this.<A>disassembleRange(codeSegment, code.length, startAddress, instructions::add);
         } catch (Exception e) {
             throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
         }
@@ -385,6 +548,199 @@ public class CapstoneHandle implements AutoCloseable {
         return instructions;
     }
 
+    /**
+     * Decodes {@code size} bytes of {@code code} in a single linear sweep.
+     * <p>
+     * This is the bulk decoding engine shared by the list based entry points. The handle's decode
+     * context is pointed at the start of the buffer once and {@code cs_disasm_iter} advances it in
+     * place after every decoded instruction, so the input is never copied or re-sliced per
+     * instruction. When Capstone fails to decode the bytes at the current position a "bad"
+     * instruction is emitted for the first byte and decoding resumes at the next byte.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param code the native memory segment containing the code, must be at least {@code size} bytes long
+     * @param size the number of bytes to decode
+     * @param startAddress the virtual address of the first byte of {@code code}
+     * @param sink the consumer receiving every decoded instruction in address order
+     * @throws RuntimeException if disassembly fails with an error
+     */
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> void disassembleRange(MemorySegment code, long size, long startAddress, Consumer<CapstoneInstruction<A>> sink) {
+        this.decodeContext.reset(code, 0, size, startAddress);
+        while (this.decodeContext.remaining() > 0) {
+            sink.accept(this.<A>decodeNext(this.decodeContext));
+        }
+    }
+
+    /**
+     * Disassembles every instruction of the provided byte array and coalesces the bytes between
+     * them into data runs.
+     * <p>
+     * This is a convenience method that copies the code into native memory and calls
+     * {@link #disassemble(MemorySegment, long, long, CapstoneCodeVisitor)}.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param code the byte array containing the machine code to disassemble
+     * @param startAddress the virtual address of the first byte of {@code code}
+     * @param visitor the visitor receiving the instructions and data runs in address order
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> void disassemble(byte[] code, long startAddress, CapstoneCodeVisitor<A> visitor) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+        try (Arena arena = Arena.ofConfined()) {
+            disassemble(arena.allocateFrom(ValueLayout.JAVA_BYTE, code), code.length, startAddress, visitor);
+        }
+    }
+
+    /**
+     * Disassembles every instruction of a memory segment and coalesces the bytes between them into
+     * data runs.
+     * <p>
+     * Unlike the list and stream based methods, which return a "bad" instruction for every byte that
+     * cannot be decoded, this method reports each maximal run of such bytes once, as a
+     * {@link CapstoneDataRun}. No objects are created for the individual bytes, so data regions such
+     * as jump tables, padding and literal pools cost little more than the native decode attempts.
+     * <p>
+     * If SKIPDATA is on, see {@link #setSkipData(CapstoneSkipData)}, the data pseudo-instructions
+     * emitted by Capstone are coalesced into the runs as well. Capstone then steps over data in units
+     * of the architecture, or of the skip callback, instead of retrying at every byte.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * List<CapstoneDataRun> data = new ArrayList<>();
+     * handle.disassemble(text, text.byteSize(), 0x401000, new CapstoneCodeVisitor<CapstoneX86Details>() {
+     *     public void instruction(CapstoneInstruction<CapstoneX86Details> instruction) {
+     *         // analyze the instruction
+     *     }
+     *
+     *     public void data(CapstoneDataRun run) {
+     *         data.add(run);
+     *     }
+     * });
+     * }</pre>
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the number of bytes to decode
+     * @param startAddress the virtual address of the first byte of {@code memorySegment}
+     * @param visitor the visitor receiving the instructions and data runs in address order
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails with an error
+     * @see CapstoneCodeVisitor
+     * @see CapstoneDataRun
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> void disassemble(MemorySegment memorySegment, long size, long startAddress, CapstoneCodeVisitor<A> visitor) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+
+        DecodeContext context = this.decodeContext;
+        context.reset(memorySegment, 0, size, startAddress);
+        long runAddress = startAddress;
+        long runLength = 0;
+        while (context.remaining() > 0) {
+            long address = context.address();
+            long length;
+            if (context.next()) {
+                MemorySegment insn = context.insn();
+                if (cs_insn.id(insn) != 0) {
+                    if (runLength > 0) {
+                        visitor.data(new CapstoneDataRun(runAddress, runLength));
+                        runLength = 0;
+                    }
+                    visitor.instruction(CapstoneInstructionFactory.createFromMemorySegment(this, insn, this.parseDetails));
+                    continue;
+                }
+                // a SKIPDATA pseudo-instruction
+                length = cs_insn.size(insn);
+            } else {
+                CapstoneError error = getErrNo();
+                if (error != CapstoneError.OK) {
+                    throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+                }
+                context.skip(1);
+                length = 1;
+            }
+            if (runLength == 0) {
+                runAddress = address;
+            }
+            runLength += length;
+        }
+        if (runLength > 0) {
+            visitor.data(new CapstoneDataRun(runAddress, runLength));
+        }
+    }
+
+    /**
+     * Decodes every instruction of a {@code byte[]} without copying it into native memory.
+     * <p>
+     * Only valid for critical decode contexts: the array is passed to {@code cs_disasm} as a heap
+     * segment, in batches of at most {@link #HEAP_BATCH_SIZE} instructions so that the native
+     * instruction array stays small. Like {@link #disassembleRange(MemorySegment, long, long, Consumer)},
+     * a "bad" instruction is emitted for every byte that cannot be decoded.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param code the code to decode
+     * @param startAddress the virtual address of the first byte of {@code code}
+     * @param sink the consumer receiving every decoded instruction in address order
+     * @throws RuntimeException if disassembly fails with an error
+     */
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> void disassembleHeap(byte[] code, long startAddress, Consumer<CapstoneInstruction<A>> sink) {
+        MemorySegment heap = MemorySegment.ofArray(code);
+        int offset = 0;
+        while (offset < code.length) {
+            long address = startAddress + offset;
+            MemorySegment insnArray = this.decodeContext.disasm(heap.asSlice(offset), code.length - offset, address, HEAP_BATCH_SIZE);
+            if (insnArray.equals(MemorySegment.NULL)) {
+                CapstoneError error = getErrNo();
+                if (error != CapstoneError.OK) {
+                    throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+                }
+                sink.accept(CapstoneInstructionFactory.createBadInstruction(address, code[offset], this.arch));
+                offset++;
+                continue;
+            }
+
+            long count = insnArray.byteSize() / cs_insn.sizeof();
+            try {
+                for (long i = 0; i < count; i++) {
+                    MemorySegment insn = cs_insn.asSlice(insnArray, i);
+                    offset += cs_insn.size(insn);
+                    sink.accept(CapstoneInstructionFactory.createFromMemorySegment(this, insn, this.parseDetails));
+                }
+            } finally {
+                cs_free(insnArray, count);
+            }
+        }
+    }
+
+    /**
+     * Decodes the first instruction of a {@code byte[]} without copying it into native memory.
+     * <p>
+     * Only valid for critical decode contexts, see {@link #disassembleHeap(byte[], long, Consumer)}.
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param code the code to decode
+     * @param address the virtual address of the first byte of {@code code}
+     * @return the decoded instruction, or a "bad" instruction for the first byte
+     * @throws RuntimeException if disassembly fails with an error
+     */
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> decodeHeapInstruction(byte[] code, long address) {
+        MemorySegment insnArray = this.decodeContext.disasm(MemorySegment.ofArray(code), code.length, address, 1);
+        if (insnArray.equals(MemorySegment.NULL)) {
+            CapstoneError error = getErrNo();
+            if (error != CapstoneError.OK) {
+                throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+            }
+            return CapstoneInstructionFactory.createBadInstruction(address, code[0], this.arch);
+        }
+        try {
+            return CapstoneInstructionFactory.createFromMemorySegment(this, insnArray, this.parseDetails);
+        } finally {
+            cs_free(insnArray, 1);
+        }
+    }
+
     /**
      * Disassembles instructions from an input stream and returns them as a list.
      * <p>
@@ -420,49 +776,11 @@ public class CapstoneHandle implements AutoCloseable {
         }
     
         List<CapstoneInstruction<A>> instructions = new ArrayList<>();
-        final int CHUNK_SIZE = 1024 * 1024; // 1MB chunks
-        byte[] buffer = new byte[CHUNK_SIZE];
-        long currentAddress = startAddress;
         
-        try (Arena arena = Arena.ofConfined()) {
-            MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
-            try {
-                int bytesRead;
-                while ((bytesRead = inputStream.read(buffer)) != -1) {
-                    if (bytesRead == 0) {
-                        continue; // Skip empty chunks
-                    }
-                    
-                    MemorySegment chunkData = arena.allocateFrom(
-                        ValueLayout.JAVA_BYTE,
-                        Arrays.copyOf(buffer, bytesRead)
-                    );
-                    
-                    // Process all instructions in the current chunk
-                    while (bytesRead > 0) {
-                        CapstoneInstruction<A> instruction = disassembleChunk(
-                            arena, chunkData, bytesRead, currentAddress, insn
-                        );
-                        
-                        if (instruction != null) {
-                            instructions.add(instruction);
-                            currentAddress += instruction.getSize();
-                            
-                            // Update the chunk data to point to the next instruction
-                            int instructionSize = instruction.getSize();
-                            if (instructionSize > bytesRead) {
-                                break; // Prevent out of bounds access
-                            }
-                            
-                            chunkData = chunkData.asSlice(instructionSize);
-                            bytesRead -= instructionSize;
-                        } else {
-                            break;
-                        }
-                    }
-                }
-            } finally {
-                cs_free(insn, 1);
+        try (StreamingDecoder decoder = new StreamingDecoder(Arena.ofConfined(), inputStream, startAddress)) {
+            CapstoneInstruction<A> instruction;
+            while ((instruction = decoder.next()) != null) {
+                instructions.add(instruction);
             }
         } catch (Exception e) {
             throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
@@ -506,53 +824,8 @@ public class CapstoneHandle implements AutoCloseable {
             throw new RuntimeException("Capstone handle is not initialized");
         }
     
-        final int CHUNK_SIZE = 1024 * 1024; // 1MB chunks
-        byte[] buffer = new byte[CHUNK_SIZE];
-        final AtomicLong currentAddress = new AtomicLong(startAddress);
-        final AtomicInteger currentChunkOffset = new AtomicInteger(0);
-        final AtomicInteger currentChunkSize = new AtomicInteger(0);
-        final AtomicReference<MemorySegment> currentChunk = new AtomicReference<>();
-        
-        return Stream.generate(() -> {
-            try (Arena arena = Arena.ofConfined()) {
-                MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
-                try {
-                    // If we've processed all instructions in the current chunk, read the next chunk
-                    if (currentChunkOffset.get() >= currentChunkSize.get()) {
-                        int bytesRead = inputStream.read(buffer);
-                        if (bytesRead == -1) {
-                            return null;
-                        }
-                        
-                        currentChunk.set(arena.allocateFrom(
-                            ValueLayout.JAVA_BYTE,
-                            Arrays.copyOf(buffer, bytesRead)
-                        ));
-                        currentChunkSize.set(bytesRead);
-                        currentChunkOffset.set(0);
-                    }
-                    
-                    // Get the current chunk data starting from the current offset
-                    MemorySegment chunkData = currentChunk.get().asSlice(currentChunkOffset.get());
-                    int remainingSize = currentChunkSize.get() - currentChunkOffset.get();
-                    
-                    CapstoneInstruction<A> instruction = disassembleChunk(
-                        arena, chunkData, remainingSize, currentAddress.get(), insn
-                    );
-                    
-                    if (instruction != null) {
-                        currentAddress.addAndGet(instruction.getSize());
-                        currentChunkOffset.addAndGet(instruction.getSize());
-                    }
-                    
-                    return instruction;
-                } finally {
-                    cs_free(insn, 1);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
-            }
-        }).takeWhile(Objects::nonNull);
+        StreamingDecoder decoder = new StreamingDecoder(Arena.ofShared(), inputStream, startAddress);
+        return this.<A>decoderStream(decoder);
     }
 
     /**
@@ -560,7 +833,8 @@ public class CapstoneHandle implements AutoCloseable {
      * <p>
      * This method is particularly efficient for large files as it works directly with the memory segment
      * without copying data. It's ideal for use with memory-mapped files where the data is already
-     * mapped into memory.
+     * mapped into memory. Undecodable bytes are returned as "bad" instructions of size 1 and decoding
+     * resumes at the next byte.
      * <p>
      * Example usage with memory-mapped files:
      * <pre>{@code
@@ -585,36 +859,9 @@ public class CapstoneHandle implements AutoCloseable {
         }
 
         List<CapstoneInstruction<A>> instructions = new ArrayList<>();
-        long currentAddress = startAddress;
-        long currentOffset = 0;
         
-        try (Arena arena = Arena.ofConfined()) {
-            MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
-            try {
-                while (currentOffset < size) {
-                    CapstoneInstruction<A> instruction = disassembleChunk(
-                        arena, 
-                        memorySegment.asSlice(currentOffset), 
-                        size - currentOffset, 
-                        currentAddress, 
-                        insn
-                    );
-                    
-                    if (instruction != null) {
-                        instructions.add(instruction);
-                        int instructionSize = instruction.getSize();
-                        if (instructionSize > (size - currentOffset)) {
-                            break; // Prevent out of bounds access
-                        }
-                        currentAddress += instructionSize;
-                        currentOffset += instructionSize;
-                    } else {
-                        break;
-                    }
-                }
-            } finally {
-                cs_free(insn, 1);
-            }
+        try {
+            this.<A>disassembleRange(memorySegment, size, startAddress, instructions::add);
         } catch (Exception e) {
             throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
         }
@@ -622,6 +869,216 @@ public class CapstoneHandle implements AutoCloseable {
         return instructions;
     }
 
+    /**
+     * Disassembles up to {@code maxCount} instructions from a memory segment with a single native call.
+     * <p>
+     * Unlike the other entry points, which decode one instruction per call into the native library,
+     * this method lets Capstone decode the whole batch into a native instruction array in one
+     * {@code cs_disasm} call and then materializes the array in a single pass. This removes most of
+     * the per-instruction call overhead, which makes it the fastest way to decode large regions of
+     * well formed code.
+     * <p>
+     * Following the semantics of {@code cs_disasm}, decoding stops at the first byte sequence that
+     * cannot be decoded. No "bad" instructions are produced; the caller can compare the end of the
+     * last returned instruction with the end of the region to detect this case.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * List<CapstoneInstruction<CapstoneX86Details>> batch = handle.disassembleBatch(segment, segment.byteSize(), 0x1000, 4096);
+     * while (!batch.isEmpty()) {
+     *     CapstoneInstruction<CapstoneX86Details> last = batch.get(batch.size() - 1);
+     *     long next = last.getAddress() + last.getSize() - 0x1000;
+     *     // Process batch...
+     *     batch = handle.disassembleBatch(segment.asSlice(next), segment.byteSize() - next, 0x1000 + next, 4096);
+     * }
+     * }</pre>
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param address the virtual address where the code is located
+     * @param maxCount the maximum number of instructions to decode, or {@code 0} to decode until the
+     *                 end of the code or the first invalid instruction
+     * @return a list of disassembled instructions, empty if the first instruction could not be decoded
+     * @throws IllegalArgumentException if {@code maxCount} is negative
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> List<CapstoneInstruction<A>> disassembleBatch(MemorySegment memorySegment, long size, long address, int maxCount) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+        if (maxCount < 0) {
+            throw new IllegalArgumentException("maxCount must not be negative: " + maxCount);
+        }
+
+        MemorySegment insnArray = this.decodeContext.disasm(memorySegment, size, address, maxCount);
+        if (insnArray.equals(MemorySegment.NULL)) {
+            CapstoneError error = getErrNo();
+            if (error != CapstoneError.OK) {
+                throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+            }
+            return new ArrayList<>();
+        }
+
+        long count = insnArray.byteSize() / cs_insn.sizeof();
+        List<CapstoneInstruction<A>> instructions = new ArrayList<>((int) count);
+        try {
+            for (long i = 0; i < count; i++) {
+                instructions.add(CapstoneInstructionFactory.createFromMemorySegment(this, cs_insn.asSlice(insnArray, i), this.parseDetails));
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
+        } finally {
+            cs_free(insnArray, count);
+        }
+
+        return instructions;
+    }
+
+    /**
+     * Creates a cursor that decodes the instructions of a memory segment one at a time without
+     * materializing them.
+     * <p>
+     * The cursor decodes every instruction into a native buffer that it owns and exposes its fields
+     * directly from native memory, so scanning code with a cursor does not allocate any objects per
+     * instruction. Instructions that need to be retained can be copied with
+     * {@link CapstoneInstructionCursor#toInstruction()}.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * try (CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(mappedSegment, mappedSegment.byteSize(), 0x1000)) {
+     *     while (cursor.next()) {
+     *         System.out.println(String.format("0x%x: %d bytes", cursor.address(), cursor.size()));
+     *     }
+     * }
+     * }</pre>
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @return a new cursor positioned before the first instruction, which must be closed after use
+     * @throws RuntimeException if the Capstone handle is not initialized
+     * @see CapstoneInstructionCursor
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstructionCursor<A> cursor(MemorySegment memorySegment, long size, long startAddress) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+        return new CapstoneInstructionCursor<>(this, this.parseDetails, memorySegment, size, startAddress);
+    }
+
+    /**
+     * Disassembles a memory segment into a new off-heap {@link CapstoneInstructionTable}.
+     * <p>
+     * The instructions are written straight from the native instruction buffer into the columns of
+     * the table, so no {@link CapstoneInstruction} objects are created. This is the most compact way
+     * to keep the instructions of large binaries in memory. If instruction details are enabled, the
+     * groups and register accesses of every instruction are stored as well.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * try (CapstoneInstructionTable table = handle.disassembleToTable(mappedSegment, mappedSegment.byteSize(), 0x1000)) {
+     *     int row = table.indexOf(0x1234);
+     *     if (row >= 0) {
+     *         System.out.println(table.mnemonic(row));
+     *     }
+     * }
+     * }</pre>
+     *
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @return a new table holding the disassembled instructions, which must be closed after use
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     * @see CapstoneInstructionTable
+     */
+    public CapstoneInstructionTable disassembleToTable(MemorySegment memorySegment, long size, long startAddress) {
+        CapstoneInstructionTable table = new CapstoneInstructionTable(this.arch);
+        try {
+            disassembleToTable(table, memorySegment, size, startAddress);
+        } catch (RuntimeException e) {
+            table.close();
+            throw e;
+        }
+        return table;
+    }
+
+    /**
+     * Disassembles a memory segment and appends the instructions to an existing table.
+     * <p>
+     * This allows the sections of a binary to be collected into a single table. The sections have
+     * to be appended in ascending address order.
+     *
+     * @param table the table to append to, created by a handle of the same architecture
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @throws IllegalArgumentException if the table holds instructions of another architecture
+     * @throws RuntimeException if the Capstone handle is not initialized, if disassembly fails or if
+     *         the instructions do not follow the last instruction of the table
+     * @see #disassembleToTable(MemorySegment, long, long)
+     */
+    public void disassembleToTable(CapstoneInstructionTable table, MemorySegment memorySegment, long size, long startAddress) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+        if (table.getArch() != this.arch) {
+            throw new IllegalArgumentException("Instruction table holds " + table.getArch() + " instructions, handle decodes " + this.arch);
+        }
+
+        decodeRaw(memorySegment, size, startAddress, new RawInstructionSink() {
+            @Override
+            public void accept(long handle, MemorySegment insn, boolean parseDetails) {
+                table.append(CapstoneHandle.this, insn, parseDetails);
+            }
+
+            @Override
+            public void acceptBad(long address, byte badByte) {
+                table.appendBad(address, badByte);
+            }
+        });
+    }
+
+    /**
+     * Decodes {@code size} bytes of {@code code} in a single linear sweep and hands every native
+     * instruction to {@code sink} without materializing it.
+     * <p>
+     * This is the counterpart of {@link #disassembleRange(MemorySegment, long, long, Consumer)} for
+     * consumers that copy the native {@code cs_insn} themselves.
+     *
+     * @param code the native memory segment containing the code, must be at least {@code size} bytes long
+     * @param size the number of bytes to decode
+     * @param startAddress the virtual address of the first byte of {@code code}
+     * @param sink the sink receiving every decoded instruction and bad byte in address order
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails with an error
+     */
+    void decodeRaw(MemorySegment code, long size, long startAddress, RawInstructionSink sink) {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+
+        long csHandle = this.handle.get(csh, 0);
+        DecodeContext context = this.decodeContext;
+        context.reset(code, 0, size, startAddress);
+        while (context.remaining() > 0) {
+            if (context.next()) {
+                sink.accept(csHandle, context.insn(), this.parseDetails);
+                continue;
+            }
+
+            CapstoneError error = getErrNo();
+            if (error != CapstoneError.OK) {
+                throw new RuntimeException("Disassembly failed with error: " + error + " - " + getStrError(error));
+            }
+
+            long address = context.address();
+            byte badByte = context.code().get(ValueLayout.JAVA_BYTE, context.offset());
+            context.skip(1);
+            sink.acceptBad(address, badByte);
+        }
+    }
+
     /**
      * Returns a stream of instructions from a memory segment, which is useful for memory-mapped files.
      * <p>
@@ -653,42 +1110,182 @@ public class CapstoneHandle implements AutoCloseable {
             throw new RuntimeException("Capstone handle is not initialized");
         }
 
-        final AtomicLong currentAddress = new AtomicLong(startAddress);
-        final AtomicLong currentOffset = new AtomicLong(0);
-        
+        StreamingDecoder decoder = new StreamingDecoder(Arena.ofShared(), memorySegment, size, startAddress);
+        return this.<A>decoderStream(decoder);
+    }
+
+    /**
+     * Returns a stream of instructions from a file, which is mapped into memory instead of being read.
+     * <p>
+     * The {@code length} bytes of the file starting at {@code fileOffset} are mapped read-only and
+     * decoded straight from the mapping, without copying them to the Java heap or to another native
+     * buffer. Only the pages the decoder touches are loaded by the operating system, so files larger
+     * than 2 GB can be decoded with little memory beyond the page cache. The mapping is released when
+     * the stream is closed or fully consumed.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * // decode the .text section of a binary, found at file offset 0x400 and loaded at 0x401000
+     * try (Stream<CapstoneInstruction<CapstoneX86Details>> stream =
+     *         handle.disassembleFile(Paths.get("large_binary.exe"), 0x400, textSize, 0x401000)) {
+     *     stream.forEach(instruction -> {
+     *         System.out.println(instruction.getMnemonic() + " " + instruction.getOpStr());
+     *     });
+     * }
+     * }</pre>
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param path the file containing the code to disassemble
+     * @param fileOffset the offset of the code within the file
+     * @param length the size of the code in bytes
+     * @param baseAddress the virtual address of the byte at {@code fileOffset}
+     * @return a stream of disassembled instructions
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws IllegalArgumentException if {@code fileOffset} or {@code length} are negative or exceed the file
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Stream<CapstoneInstruction<A>> disassembleFile(Path path, long fileOffset, long length, long baseAddress) throws IOException {
+        if (this.handle == null) {
+            throw new RuntimeException("Capstone handle is not initialized");
+        }
+
+        Arena arena = Arena.ofShared();
+        MemorySegment mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileOffset < 0 || length < 0 || fileOffset > fileSize || length > fileSize - fileOffset) {
+                throw new IllegalArgumentException("Range [" + fileOffset + ", " + fileOffset + " + " + length + ") is outside of the file of size " + fileSize);
+            }
+            // the mapping stays valid after the channel is closed, until the arena is closed
+            mapped = length == 0 ? MemorySegment.NULL : channel.map(FileChannel.MapMode.READ_ONLY, fileOffset, length, arena);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+
+        StreamingDecoder decoder = new StreamingDecoder(arena, mapped, length, baseAddress);
+        return this.<A>decoderStream(decoder);
+    }
+
+    /**
+     * Returns a stream of instructions from a whole file, which is mapped into memory instead of being read.
+     *
+     * @param <A> the type of architecture-specific details this instruction will contain
+     * @param path the file containing the code to disassemble
+     * @param baseAddress the virtual address of the first byte of the file
+     * @return a stream of disassembled instructions
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws RuntimeException if the Capstone handle is not initialized or if disassembly fails
+     * @see #disassembleFile(Path, long, long, long)
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Stream<CapstoneInstruction<A>> disassembleFile(Path path, long baseAddress) throws IOException {
+        return this.<A>disassembleFile(path, 0, Files.size(path), baseAddress);
+    }
+
+    /**
+     * Wraps a streaming decoder into a lazily evaluated stream of instructions.
+     * <p>
+     * The decoder is closed as soon as it runs out of input, when decoding fails, or when the
+     * returned stream is closed, whichever happens first.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param decoder the decoder producing the instructions
+     * @return a stream of disassembled instructions
+     */
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> Stream<CapstoneInstruction<A>> decoderStream(StreamingDecoder decoder) {
         return Stream.generate(() -> {
-            try (Arena arena = Arena.ofConfined()) {
-                MemorySegment insn = cs_malloc(this.handle.get(csh, 0));
-                try {
-                    if (currentOffset.get() >= size) {
-                        return null;
-                    }
-                    
-                    CapstoneInstruction<A> instruction = disassembleChunk(
-                        arena, 
-                        memorySegment.asSlice(currentOffset.get()), 
-                        size - currentOffset.get(), 
-                        currentAddress.get(), 
-                        insn
-                    );
-                    
-                    if (instruction != null) {
-                        int instructionSize = instruction.getSize();
-                        if (instructionSize > (size - currentOffset.get())) {
-                            return null; // Prevent out of bounds access
-                        }
-                        currentAddress.addAndGet(instructionSize);
-                        currentOffset.addAndGet(instructionSize);
-                    }
-                    
-                    return instruction;
-                } finally {
-                    cs_free(insn, 1);
+            try {
+                CapstoneInstruction<A> instruction = decoder.next();
+                if (instruction == null) {
+                    decoder.close();
                 }
+                return instruction;
             } catch (Exception e) {
+                decoder.close();
                 throw new RuntimeException("Failed to disassemble code: " + e.getMessage(), e);
             }
-        }).takeWhile(Objects::nonNull);
+        }).takeWhile(Objects::nonNull).onClose(decoder::close);
+    }
+
+    /**
+     * Incremental decoder backing the stream based entry points.
+     * <p>
+     * Streams are evaluated lazily and may be interleaved with other calls on the handle, so every
+     * streaming decoder owns its own {@link DecodeContext} and arena instead of sharing the one of
+     * the handle. Input streams are read into a single reusable native chunk buffer. Whenever fewer
+     * than {@link #MAX_INSTRUCTION_SIZE} bytes are left in the buffer, the tail is moved to the
+     * front and the buffer is refilled, so instructions spanning two reads are decoded correctly.
+     */
+    private final class StreamingDecoder implements AutoCloseable {
+
+        private final Arena arena;
+        private final DecodeContext context;
+        private final InputStream inputStream;
+        private final MemorySegment chunk;
+        private final byte[] buffer;
+
+        private boolean endOfInput;
+        private boolean closed;
+
+        StreamingDecoder(Arena arena, InputStream inputStream, long startAddress) {
+            this.arena = arena;
+            this.context = new DecodeContext(CapstoneHandle.this, handle.get(csh, 0), arena);
+            this.inputStream = inputStream;
+            this.chunk = arena.allocate(STREAM_CHUNK_SIZE);
+            this.buffer = new byte[STREAM_CHUNK_SIZE];
+            this.context.reset(this.chunk, 0, 0, startAddress);
+        }
+
+        StreamingDecoder(Arena arena, MemorySegment code, long size, long startAddress) {
+            this.arena = arena;
+            this.context = new DecodeContext(CapstoneHandle.this, handle.get(csh, 0), arena);
+            this.inputStream = null;
+            this.chunk = null;
+            this.buffer = null;
+            this.endOfInput = true;
+            this.context.reset(code, 0, size, startAddress);
+        }
+
+        <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> next() throws IOException {
+            if (this.closed) {
+                return null;
+            }
+            if (!this.endOfInput && this.context.remaining() < MAX_INSTRUCTION_SIZE) {
+                refill();
+            }
+            if (this.context.remaining() == 0) {
+                return null;
+            }
+            return CapstoneHandle.this.<A>decodeNext(this.context);
+        }
+
+        private void refill() throws IOException {
+            long filled = this.context.remaining();
+            MemorySegment.copy(this.chunk, this.context.offset(), this.chunk, 0, filled);
+            do {
+                int bytesRead = this.inputStream.read(this.buffer, 0, (int) (STREAM_CHUNK_SIZE - filled));
+                if (bytesRead == -1) {
+                    this.endOfInput = true;
+                    break;
+                }
+                MemorySegment.copy(this.buffer, 0, this.chunk, ValueLayout.JAVA_BYTE, filled, bytesRead);
+                filled += bytesRead;
+            } while (filled < MAX_INSTRUCTION_SIZE);
+            this.context.reset(this.chunk, 0, filled, this.context.address());
+        }
+
+        @Override
+        public void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            try {
+                this.context.close();
+            } finally {
+                this.arena.close();
+            }
+        }
     }
 
     /**
@@ -702,6 +1299,9 @@ public class CapstoneHandle implements AutoCloseable {
      * are represented by their numeric IDs. For example, when examining which registers are
      * read or written by an instruction.
      * <p>
+     * The names of the architecture are decoded once, on the first call, and shared by all handles
+     * with the same architecture, modes and syntax, so repeated calls do not cross into native code.
+     * <p>
      * Example usage:
      * <pre>{@code
      * // Get instruction details
@@ -724,11 +1324,11 @@ public class CapstoneHandle implements AutoCloseable {
         if(this.handle == null) {
             throw new RuntimeException("Capstone handle is not initialized");
         }
-        MemorySegment regName = cs_reg_name(this.handle.get(csh, 0), regId);
-        if(regName == null || regName.byteSize() == 0 || regName == MemorySegment.NULL) {
+        String regName = getNameTables().getRegName(this.handle.get(csh, 0), regId);
+        if(regName == null) {
             throw new RuntimeException("Failed to get register name for id: " + regId);
         }
-        return regName.getString(0);
+        return regName;
     }
 
     /**
@@ -742,6 +1342,9 @@ public class CapstoneHandle implements AutoCloseable {
      * raw instruction IDs obtained from {@link CapstoneInstruction#getId()}. The returned
      * name can be used for instruction classification, analysis, or display purposes.
      * <p>
+     * The names of the architecture are decoded once, on the first call, and shared by all handles
+     * with the same architecture, modes and syntax, so repeated calls do not cross into native code.
+     * <p>
      * Example usage:
      * <pre>{@code
      * // Disassemble an instruction
@@ -761,11 +1364,11 @@ public class CapstoneHandle implements AutoCloseable {
         if(this.handle == null) {
             throw new RuntimeException("Capstone handle is not initialized");
         }
-        MemorySegment insnName = cs_insn_name(this.handle.get(csh, 0), insnId);
-        if(insnName == null || insnName.byteSize() == 0 || insnName == MemorySegment.NULL) {
+        String insnName = getNameTables().getInsnName(this.handle.get(csh, 0), insnId);
+        if(insnName == null) {
             throw new RuntimeException("Failed to get instruction name for id: " + insnId);
         }
-        return insnName.getString(0);
+        return insnName;
     }
 
     /**
@@ -780,6 +1383,9 @@ public class CapstoneHandle implements AutoCloseable {
      * are represented by their numeric IDs. Understanding which groups an instruction belongs to
      * can help with code analysis, optimization, or security assessment.
      * <p>
+     * The names of the architecture are decoded once, on the first call, and shared by all handles
+     * with the same architecture, modes and syntax, so repeated calls do not cross into native code.
+     * <p>
      * Example usage:
      * <pre>{@code
      * // Get instruction details
@@ -802,11 +1408,162 @@ public class CapstoneHandle implements AutoCloseable {
         if(this.handle == null) {
             throw new RuntimeException("Capstone handle is not initialized");
         }
-        MemorySegment groupName = cs_group_name(this.handle.get(csh, 0), groupId);
-        if(groupName == null || groupName.byteSize() == 0 || groupName == MemorySegment.NULL) {
+        String groupName = getNameTables().getGroupName(this.handle.get(csh, 0), groupId);
+        if(groupName == null) {
             throw new RuntimeException("Failed to get group name for id: " + groupId);
         }
-        return groupName.getString(0);
+        return groupName;
+    }
+
+    /**
+     * Returns the native handle segment holding the {@code csh} value.
+     *
+     * @return the native handle segment
+     */
+    MemorySegment getHandleSegment() {
+        return this.handle;
+    }
+
+    /**
+     * Returns the architecture of this handle.
+     *
+     * @return the architecture
+     */
+    public CapstoneArch getArch() {
+        return this.arch;
+    }
+
+    /**
+     * Returns the modes this handle was created with.
+     * <p>
+     * Modes changed later with {@link CapstoneOption#MODE} are reported by {@link #getOptions()}.
+     *
+     * @return a copy of the modes
+     */
+    public CapstoneMode[] getModes() {
+        return this.modes.clone();
+    }
+
+    /**
+     * Returns the options set on this handle with {@link #setOption(CapstoneOption, CapstoneOptionValue[])}.
+     * <p>
+     * Only the last values set for every option are reported. Options that were never set have
+     * their default value and are not contained in the map.
+     *
+     * @return an unmodifiable snapshot of the options, mapping every option to the values it was set to
+     */
+    public Map<CapstoneOption, Set<CapstoneOptionValue>> getOptions() {
+        return Collections.unmodifiableMap(new EnumMap<>(this.options));
+    }
+
+    /**
+     * Returns the part of a cache key identifying the SKIPDATA setup of this handle.
+     * <p>
+     * {@link #getOptions()} only reports whether SKIPDATA is on, but the mnemonic and the callback set
+     * up with {@link #setSkipData(CapstoneSkipData)} change the decoded instructions as well.
+     *
+     * @return the cache key of the SKIPDATA setup, or {@code null} if SKIPDATA is off
+     */
+    String getSkipDataKey() {
+        if(!this.options.getOrDefault(CapstoneOption.SKIPDATA, Set.of()).contains(CapstoneOptionValue.ON)) {
+            return null;
+        }
+        return this.skipData != null ? this.skipData.getCacheKey() : CapstoneSkipData.DEFAULT_MNEMONIC;
+    }
+
+    /**
+     * Returns the configuration of this handle used as part of the keys of the instruction cache.
+     *
+     * @return the current configuration, recreated whenever an option changes
+     */
+    CapstoneInstructionCache.Config getCacheConfig() {
+        if (this.cacheConfig == null) {
+            Set<CapstoneMode> modeSet = EnumSet.noneOf(CapstoneMode.class);
+            modeSet.addAll(Arrays.asList(this.modes));
+            this.cacheConfig = new CapstoneInstructionCache.Config(this.arch, Collections.unmodifiableSet(modeSet), getOptions(), getSkipDataKey());
+        }
+        return this.cacheConfig;
+    }
+
+    /**
+     * Returns the name tables shared by all handles with the architecture, modes and syntax of this handle.
+     *
+     * @return the name tables, looked up again whenever the syntax or the mode changes
+     */
+    private CapstoneNameTables getNameTables() {
+        if (this.nameTables == null) {
+            Set<CapstoneMode> modeSet = EnumSet.noneOf(CapstoneMode.class);
+            modeSet.addAll(Arrays.asList(this.modes));
+            this.nameTables = CapstoneNameTables.forKey(new CapstoneNameTables.Key(this.arch, modeSet,
+                this.options.getOrDefault(CapstoneOption.SYNTAX, Set.of()), this.options.getOrDefault(CapstoneOption.MODE, Set.of())));
+        }
+        return this.nameTables;
+    }
+
+    /**
+     * Collects the registers read and written by an instruction decoded by this handle, reusing the
+     * native buffers of the handle.
+     *
+     * @param insn the {@code cs_insn} of the instruction, including its details
+     * @return the registers accessed by the instruction
+     */
+    CapstoneRegAccess regsAccess(MemorySegment insn) {
+        return this.decodeContext.regsAccess(insn);
+    }
+
+    /**
+     * Returns the details parser of the architecture of this handle.
+     *
+     * @return the details parser, or {@code null} if details are not supported for this architecture
+     */
+    CapstoneArchDetailsParser<?> getDetailsParser() {
+        return this.detailsParser;
+    }
+
+    /**
+     * Returns whether this handle calls the hot decoding functions through critical downcalls.
+     * <p>
+     * Critical downcalls skip the thread state transition and accept heap segments, so the
+     * {@code byte[]} entry points decode without copying their input. They must not call back into
+     * Java, so they are only used with the {@link CapstoneHandleOptions.Builder#nativeAllocator(boolean)
+     * native allocator} and while no {@link CapstoneSkipDataCallback} is set up.
+     *
+     * @return true if critical downcalls are used, false otherwise
+     * @see CapstoneCriticalBindings
+     */
+    boolean isCriticalDowncalls() {
+        return this.nativeAllocator && !this.skipDataCallback;
+    }
+
+    /**
+     * Returns whether instruction details are decoded on first access instead of eagerly.
+     *
+     * @return true if instruction details are decoded lazily, false otherwise
+     */
+    boolean isLazyDetails() {
+        return this.lazyDetails;
+    }
+
+    /**
+     * Returns the number of times the {@link CapstoneOption#DETAIL} option has been turned off.
+     * <p>
+     * Lazily decoded details record the generation they were decoded in. Capstone only reports the
+     * register accesses of an instruction while the option is on, so their details can no longer be
+     * decoded once the generation has changed.
+     *
+     * @return the current detail generation
+     */
+    int getDetailGeneration() {
+        return this.detailGeneration;
+    }
+
+    /**
+     * Returns whether this handle has been closed.
+     *
+     * @return true if {@link #close()} has been called, false otherwise
+     */
+    boolean isClosed() {
+        return this.closed;
     }
 
     /**
@@ -814,7 +1571,11 @@ public class CapstoneHandle implements AutoCloseable {
      * <p>
      * This method closes the underlying Capstone engine instance and, if configured to do so,
      * also closes the associated memory arena. After this method is called, the handle
-     * is no longer valid and cannot be used.
+     * is no longer valid and cannot be used. Closing a handle that is already closed has no effect.
+     * <p>
+     * If the memory provider of this handle allocates from the handle arena, the arena is only closed
+     * once no other handle uses the provider anymore, since handles opened without a memory provider
+     * share the installed one.
      * <p>
      * This method is automatically called when using try-with-resources.
      *
@@ -823,8 +1584,18 @@ public class CapstoneHandle implements AutoCloseable {
      */
     @Override
     public void close() throws Exception {
+        if(this.closed) {
+            return;
+        }
+        this.closed = true;
         if(handle != null) {
+            this.decodeContext.close();
             CapstoneError err = CapstoneError.fromValue(cs_close(handle));
+            CapstoneGlobalMemory.release(this.allocation);
+            if(this.skipDataArena != null) {
+                this.skipDataArena.close();
+                this.skipDataArena = null;
+            }
             if(err != CapstoneError.OK) {
                 throw new RuntimeException("Failed to close Capstone handle: " + CapstoneUtils.getErrorMessage(err));
             }
@@ -832,7 +1603,13 @@ public class CapstoneHandle implements AutoCloseable {
         
         if(closeHandleArena) {
             try {
-                handleArena.close();
+                CapstoneMemoryProvider memoryProvider = this.allocation.memoryProvider();
+                if(memoryProvider != null && memoryProvider.getArena() == handleArena) {
+                    // handles opened without a memory provider may still allocate from our arena
+                    CapstoneGlobalMemory.closeWhenUnused(memoryProvider, handleArena);
+                } else {
+                    handleArena.close();
+                }
             } catch(UnsupportedOperationException e) {
                 // we are either an Arena.global() or Arena.ofAuto() and cannot close it
                 this.handle = null;
@@ -841,4 +1618,4 @@ public class CapstoneHandle implements AutoCloseable {
             }
         }
     }
-}
\ No newline at end of file
+}
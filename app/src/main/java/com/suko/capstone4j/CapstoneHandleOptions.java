@@ -7,7 +7,8 @@ import java.lang.foreign.Arena;
  * <p>
  * This class uses the builder pattern to configure options for the Capstone handle.
  * It allows setting various parameters like the memory arena, arena closing behavior,
- * and memory provider.
+ * memory provider or native allocator, whether instruction details are decoded lazily and an
+ * instruction cache.
  * <p>
  * Example usage:
  * <pre>{@code
@@ -26,12 +27,18 @@ public class CapstoneHandleOptions {
     private final boolean closeHandleArena;
     private final CapstoneMemoryProvider memoryProvider;
     private final boolean useHandleArena;
+    private final boolean lazyDetails;
+    private final boolean nativeAllocator;
+    private final CapstoneInstructionCache instructionCache;
 
     private CapstoneHandleOptions(Builder builder) {
         this.handleArena = builder.handleArena;
         this.closeHandleArena = builder.closeHandleArena;
         this.memoryProvider = builder.memoryProvider;
         this.useHandleArena = builder.useHandleArena;
+        this.lazyDetails = builder.lazyDetails;
+        this.nativeAllocator = builder.nativeAllocator;
+        this.instructionCache = builder.instructionCache;
     }
 
     /**
@@ -70,6 +77,33 @@ public class CapstoneHandleOptions {
         return useHandleArena;
     }
 
+    /**
+     * Returns whether instruction details are decoded on first access instead of eagerly.
+     * 
+     * @return true if instruction details are decoded lazily, false otherwise
+     */
+    public boolean isLazyDetails() {
+        return lazyDetails;
+    }
+
+    /**
+     * Returns whether Capstone uses the allocator of the C library instead of the memory provider.
+     * 
+     * @return true if the native allocator is used, false otherwise
+     */
+    public boolean isNativeAllocator() {
+        return nativeAllocator;
+    }
+
+    /**
+     * Returns the cache used by {@link CapstoneHandle#disassembleInstruction(byte[], long)}.
+     * 
+     * @return the instruction cache, or {@code null} if instructions are not cached
+     */
+    public CapstoneInstructionCache getInstructionCache() {
+        return instructionCache;
+    }
+
     /**
      * Creates a new builder for {@link CapstoneHandleOptions}.
      * 
@@ -82,8 +116,10 @@ public class CapstoneHandleOptions {
     /**
      * Returns the default options for a Capstone handle.
      * <p>
-     * The default options use a shared arena that is closed when the handle is closed,
-     * and a {@link DefaultCapstoneMemoryProvider} that uses the same shared arena.
+     * The default options use a shared arena that is closed when the handle is closed, and a
+     * {@link PooledCapstoneMemoryProvider} shared by all handles created with the default memory
+     * provider. Its arena is owned by the library and closed when the last of these handles is closed,
+     * so any number of them can be open at the same time.
      * 
      * @return the default options
      */
@@ -97,8 +133,11 @@ public class CapstoneHandleOptions {
     public static class Builder {
         private Arena handleArena = Arena.ofShared();
         private boolean closeHandleArena = true;
-        private CapstoneMemoryProvider memoryProvider = new DefaultCapstoneMemoryProvider();
+        private CapstoneMemoryProvider memoryProvider = CapstoneGlobalMemory.sharedProvider();
         private boolean useHandleArena = true;
+        private boolean lazyDetails = false;
+        private boolean nativeAllocator = false;
+        private CapstoneInstructionCache instructionCache;
 
         private Builder() {
             // Private constructor to enforce the use of builder() method
@@ -131,6 +170,13 @@ public class CapstoneHandleOptions {
 
         /**
          * Sets the memory provider to be used by the Capstone handle.
+         * <p>
+         * The memory functions are global to the Capstone library, so all handles that are open at the
+         * same time must use the same memory provider and arena. Creating a handle with another provider
+         * or arena while handles using a memory provider are open throws a {@link RuntimeException}. The
+         * default provider is shared by all handles and does not use the handle arena. A {@code null}
+         * provider keeps the memory functions of the handles that are open, or the allocator of the C
+         * library if there are none.
          * 
          * @param memoryProvider the memory provider
          * @return this builder
@@ -151,13 +197,78 @@ public class CapstoneHandleOptions {
             return this;
         }
 
+        /**
+         * Sets whether instruction details are decoded on first access instead of eagerly.
+         * <p>
+         * When the {@link CapstoneOption#DETAIL} option is on, every disassembled instruction normally
+         * has its register accesses and architecture-specific operands decoded right away. With lazy
+         * details enabled, only a copy of the raw native detail structure is kept with the instruction,
+         * and it is decoded by the first call to {@link CapstoneInstruction#getDetails()} or any other
+         * method that needs the details. Instructions whose details are never inspected cost little more
+         * than with details off.
+         * <p>
+         * Lazily decoded details can only be accessed while the handle is open. They are decoded with the
+         * native handle and its reusable buffers, so they are bound to the handle like the decoding itself:
+         * {@link CapstoneInstruction#getDetails()} must be called on the thread that uses the handle, and
+         * not while the handle decodes on another thread. Instructions that are handed to other threads
+         * should be decoded with lazy details disabled.
+         * 
+         * @param lazyDetails true if instruction details should be decoded lazily, false otherwise
+         * @return this builder
+         */
+        public Builder lazyDetails(boolean lazyDetails) {
+            this.lazyDetails = lazyDetails;
+            return this;
+        }
+
+        /**
+         * Sets whether Capstone uses the {@code malloc}, {@code calloc}, {@code realloc}, {@code free}
+         * and {@code vsnprintf} functions of the C library instead of the memory provider.
+         * <p>
+         * With a memory provider, every allocation made by Capstone is an upcall from native code into
+         * Java, which is comparatively expensive. With the native allocator enabled, the memory provider
+         * is ignored and Capstone allocates its memory without leaving native code. The memory is
+         * released by Capstone itself when it is freed.
+         * <p>
+         * Since Capstone then never calls back into Java, the handle also calls the hot decoding
+         * functions through critical downcalls, which skip the thread state transition and let the
+         * {@code byte[]} entry points decode the array in place instead of copying it to native memory.
+         * <p>
+         * The memory functions are global to the Capstone library, so handles using the native
+         * allocator and handles using a memory provider cannot be open at the same time. Creating a
+         * handle of one kind while a handle of the other kind is open throws a {@link RuntimeException}.
+         * 
+         * @param nativeAllocator true if the native allocator should be used, false otherwise
+         * @return this builder
+         */
+        public Builder nativeAllocator(boolean nativeAllocator) {
+            this.nativeAllocator = nativeAllocator;
+            return this;
+        }
+
+        /**
+         * Sets a cache in front of {@link CapstoneHandle#disassembleInstruction(byte[], long)}.
+         * <p>
+         * Repeated requests for the same instruction bytes are answered from the cache without
+         * calling into Capstone. The cache may be shared by several handles, also of different
+         * architectures. By default, no cache is used.
+         * 
+         * @param instructionCache the instruction cache, or {@code null} to disable caching
+         * @return this builder
+         * @see CapstoneInstructionCache
+         */
+        public Builder instructionCache(CapstoneInstructionCache instructionCache) {
+            this.instructionCache = instructionCache;
+            return this;
+        }
+
         /**
          * Builds the {@link CapstoneHandleOptions} with the configured options.
          * 
          * @return a new {@link CapstoneHandleOptions} instance
          */
         public CapstoneHandleOptions build() {
-            if (memoryProvider != null && handleArena != null) {
+            if (memoryProvider != null && memoryProvider != CapstoneGlobalMemory.sharedProvider() && handleArena != null && !nativeAllocator) {
                 if (useHandleArena) {
                     memoryProvider.setArena(handleArena);
                 }
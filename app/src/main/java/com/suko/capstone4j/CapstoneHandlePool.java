@@ -0,0 +1,583 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.Arena;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe pool of {@link CapstoneHandle}s.
+ * <p>
+ * Capstone handles are not thread-safe, and opening a handle is comparatively expensive. A handle pool
+ * lets many threads share a bounded number of handles: a thread borrows a handle for a {@link Key},
+ * uses it exclusively and returns it by closing the {@link Lease}. Handles are created on demand, up to
+ * {@link Builder#maxHandlesPerKey(int)} per key. When all handles of a key are in use, borrowing blocks
+ * until one is returned. Blocking uses {@link Semaphore}s, so borrowing from virtual threads does not
+ * pin their carrier threads.
+ * <p>
+ * A thread that returns a handle gets the same handle back the next time it borrows a handle for the
+ * same key, as long as no other thread took it in the meantime. This keeps the native buffers of a
+ * handle warm in the caches of the core the thread runs on. A handle only remembers the id of the
+ * thread that borrowed it last, so the pool does not keep handles reachable from threads, nor threads
+ * reachable from handles.
+ * <p>
+ * By default, the handles of a pool use the memory provider of the default
+ * {@link CapstoneHandleOptions}, so they can be open at the same time as other handles created with the
+ * default options. A pool may create its own {@link CapstoneMemoryProvider} backed by an arena owned by
+ * the pool instead, or use the native allocator. The memory functions of Capstone are global, so they are
+ * installed once, when the first handle is created, and stay valid until the last handle using them is
+ * closed.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CapstoneHandlePool.Key key = CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64)
+ *     .withOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+ *
+ * try (CapstoneHandlePool pool = CapstoneHandlePool.builder().maxHandlesPerKey(8).build()) {
+ *     // on any number of threads
+ *     try (CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+ *         List<CapstoneInstruction<CapstoneX86Details>> instructions = lease.handle().disassembleAllInstructions(code, 0x1000);
+ *         // Process instructions...
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * Borrowers must not close the borrowed handle or change its options; the handle is configured
+ * with the options of its key when it is created.
+ *
+ * @see CapstoneHandle
+ */
+public class CapstoneHandlePool implements AutoCloseable {
+
+    private final int maxHandlesPerKey;
+    private final boolean lazyDetails;
+    private final boolean nativeAllocator;
+
+    private final Arena providerArena;
+    private final CapstoneMemoryProvider memoryProvider;
+    private boolean providerArenaClosed;
+
+    private final Map<Key, KeyPool> pools = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicInteger openHandles = new AtomicInteger();
+
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder borrowed = new LongAdder();
+    private final LongAdder affinityHits = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private CapstoneHandlePool(Builder builder) {
+        this.maxHandlesPerKey = builder.maxHandlesPerKey;
+        this.lazyDetails = builder.lazyDetails;
+        this.nativeAllocator = builder.nativeAllocator;
+        if (this.nativeAllocator) {
+            this.providerArena = null;
+            this.memoryProvider = null;
+        } else if (builder.memoryProvider == null) {
+            this.providerArena = null;
+            this.memoryProvider = CapstoneGlobalMemory.sharedProvider();
+        } else {
+            // the provider is created for the pool, so no handle outside of it allocates from another arena
+            this.memoryProvider = Objects.requireNonNull(builder.memoryProvider.get(), "memoryProvider");
+            this.providerArena = Arena.ofShared();
+            this.memoryProvider.setArena(this.providerArena);
+        }
+    }
+
+    /**
+     * Creates a new builder for {@link CapstoneHandlePool}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Borrows a handle for {@code key}, waiting as long as necessary for one to become available.
+     *
+     * @param key the architecture, modes and options of the handle
+     * @return a lease on the handle, which must be closed to return the handle
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws IllegalStateException if the pool is closed
+     * @throws RuntimeException if a new handle could not be created
+     */
+    public Lease borrow(Key key) throws InterruptedException {
+        Objects.requireNonNull(key, "key");
+        KeyPool pool = pool(key);
+        long start = System.nanoTime();
+        pool.permits.acquire();
+        return lease(key, pool, start);
+    }
+
+    /**
+     * Borrows a handle for {@code key}, waiting at most {@code timeout} for one to become available.
+     *
+     * @param key the architecture, modes and options of the handle
+     * @param timeout the maximum time to wait
+     * @param unit the unit of {@code timeout}
+     * @return a lease on the handle, or {@code null} if no handle became available in time
+     * @throws InterruptedException if the thread is interrupted while waiting
+     * @throws IllegalStateException if the pool is closed
+     * @throws RuntimeException if a new handle could not be created
+     */
+    public Lease borrow(Key key, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(key, "key");
+        KeyPool pool = pool(key);
+        long start = System.nanoTime();
+        if (!pool.permits.tryAcquire(timeout, unit)) {
+            recordWait(System.nanoTime() - start);
+            return null;
+        }
+        return lease(key, pool, start);
+    }
+
+    /**
+     * Returns a snapshot of the metrics of this pool.
+     *
+     * @return the current metrics
+     */
+    public Metrics getMetrics() {
+        int idle = 0;
+        for (KeyPool pool : this.pools.values()) {
+            idle += pool.idle.size();
+        }
+        return new Metrics(this.inUse.get(), idle, this.created.sum(), this.borrowed.sum(), this.affinityHits.sum(),
+                this.totalWaitNanos.sum(), this.maxWaitNanos.get());
+    }
+
+    /**
+     * Closes the pool.
+     * <p>
+     * Idle handles are closed immediately, handles that are still borrowed are closed when they are
+     * returned. The arena of the memory provider of the pool, if any, is closed once no handle uses the
+     * provider anymore.
+     */
+    @Override
+    public void close() {
+        if (!this.closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (KeyPool pool : this.pools.values()) {
+            PooledHandle pooled;
+            while ((pooled = pool.idle.pollFirst()) != null) {
+                if (pooled.inUse.compareAndSet(false, true)) {
+                    destroy(pooled);
+                }
+            }
+        }
+        if (this.openHandles.get() == 0) {
+            closeProviderArena();
+        }
+    }
+
+    /**
+     * Returns whether the handles of this pool decode instruction details lazily.
+     *
+     * @return true if instruction details are decoded lazily, false otherwise
+     */
+    boolean isLazyDetails() {
+        return this.lazyDetails;
+    }
+
+    private KeyPool pool(Key key) {
+        if (this.closed.get()) {
+            throw new IllegalStateException("Handle pool is closed");
+        }
+        return this.pools.computeIfAbsent(key, k -> new KeyPool(this.maxHandlesPerKey));
+    }
+
+    private Lease lease(Key key, KeyPool pool, long start) {
+        recordWait(System.nanoTime() - start);
+        try {
+            if (this.closed.get()) {
+                throw new IllegalStateException("Handle pool is closed");
+            }
+            long thread = Thread.currentThread().threadId();
+            PooledHandle pooled = take(pool, thread);
+            if (pooled == null) {
+                pooled = create(key);
+            }
+            pooled.lastThread = thread;
+            this.inUse.incrementAndGet();
+            this.borrowed.increment();
+            return new Lease(this, pool, pooled);
+        } catch (RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
+
+    private PooledHandle take(KeyPool pool, long thread) {
+        // returned handles are offered first, so the handle of the thread is usually near the head
+        for (PooledHandle preferred : pool.idle) {
+            if (preferred.lastThread == thread && preferred.inUse.compareAndSet(false, true)) {
+                pool.idle.remove(preferred);
+                this.affinityHits.increment();
+                return preferred;
+            }
+        }
+        PooledHandle pooled;
+        while ((pooled = pool.idle.pollFirst()) != null) {
+            if (pooled.inUse.compareAndSet(false, true)) {
+                return pooled;
+            }
+        }
+        return null;
+    }
+
+    private PooledHandle create(Key key) {
+        CapstoneHandleOptions.Builder options = CapstoneHandleOptions.builder()
+                .handleArena(Arena.ofShared())
+                .closeHandleArena(true)
+                .lazyDetails(this.lazyDetails);
+        if (this.nativeAllocator) {
+            options.nativeAllocator(true);
+        } else {
+            options.memoryProvider(this.memoryProvider).useHandleArena(false);
+        }
+
+        CapstoneHandle handle = Capstone.createHandle(key.arch, key.modes.toArray(new CapstoneMode[0]), options.build());
+        this.openHandles.incrementAndGet();
+        this.created.increment();
+        PooledHandle pooled = new PooledHandle(handle);
+        pooled.inUse.set(true);
+        try {
+            for (Map.Entry<CapstoneOption, Set<CapstoneOptionValue>> option : key.options.entrySet()) {
+                handle.setOption(option.getKey(), option.getValue().toArray(new CapstoneOptionValue[0]));
+            }
+        } catch (RuntimeException e) {
+            destroy(pooled);
+            throw e;
+        }
+        return pooled;
+    }
+
+    private void giveBack(KeyPool pool, PooledHandle pooled) {
+        this.inUse.decrementAndGet();
+        try {
+            if (this.closed.get()) {
+                destroy(pooled);
+            } else {
+                pooled.inUse.set(false);
+                pool.idle.offerFirst(pooled);
+                // the pool may have been closed before the handle was offered
+                if (this.closed.get() && pool.idle.remove(pooled) && pooled.inUse.compareAndSet(false, true)) {
+                    destroy(pooled);
+                }
+            }
+        } finally {
+            pool.permits.release();
+        }
+    }
+
+    private void destroy(PooledHandle pooled) {
+        try {
+            pooled.handle.close();
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to close pooled handle: " + e.getMessage(), e);
+        } finally {
+            if (this.openHandles.decrementAndGet() == 0 && this.closed.get()) {
+                closeProviderArena();
+            }
+        }
+    }
+
+    private synchronized void closeProviderArena() {
+        if (this.providerArena != null && !this.providerArenaClosed) {
+            this.providerArenaClosed = true;
+            // handles outside the pool may still allocate through the provider
+            CapstoneGlobalMemory.closeWhenUnused(this.memoryProvider, this.providerArena);
+        }
+    }
+
+    private void recordWait(long nanos) {
+        this.totalWaitNanos.add(nanos);
+        this.maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Identifies the kind of handle to borrow: an architecture, a set of modes and the options that are
+     * set on the handle when it is created.
+     * <p>
+     * Keys are immutable; {@link #withOption(CapstoneOption, CapstoneOptionValue...)} returns a new key.
+     */
+    public static final class Key {
+
+        private final CapstoneArch arch;
+        private final Set<CapstoneMode> modes;
+        private final Map<CapstoneOption, Set<CapstoneOptionValue>> options;
+
+        private Key(CapstoneArch arch, Set<CapstoneMode> modes, Map<CapstoneOption, Set<CapstoneOptionValue>> options) {
+            this.arch = arch;
+            this.modes = modes;
+            this.options = options;
+        }
+
+        /**
+         * Creates a key for handles with the given architecture and modes and no options.
+         *
+         * @param arch the architecture
+         * @param modes the modes
+         * @return a new key
+         */
+        public static Key of(CapstoneArch arch, CapstoneMode... modes) {
+            Objects.requireNonNull(arch, "arch");
+            if (modes.length == 0) {
+                throw new IllegalArgumentException("At least one mode is required");
+            }
+            Set<CapstoneMode> modeSet = EnumSet.noneOf(CapstoneMode.class);
+            modeSet.addAll(Arrays.asList(modes));
+            return new Key(arch, Collections.unmodifiableSet(modeSet), Collections.emptyMap());
+        }
+
+        /**
+         * Returns a key that additionally sets {@code option} to the combination of {@code values}.
+         *
+         * @param option the option to set, must not be {@link CapstoneOption#INVALID}, {@link CapstoneOption#MEM}
+         *               or {@link CapstoneOption#SKIPDATA_SETUP}
+         * @param values the option values to combine
+         * @return a new key
+         * @throws IllegalArgumentException if the option is {@link CapstoneOption#INVALID}, {@link CapstoneOption#MEM}
+         *                                  or {@link CapstoneOption#SKIPDATA_SETUP}
+         */
+        public Key withOption(CapstoneOption option, CapstoneOptionValue... values) {
+            if (option == CapstoneOption.INVALID || option == CapstoneOption.MEM || option == CapstoneOption.SKIPDATA_SETUP) {
+                throw new IllegalArgumentException("Option cannot be used with a handle pool: " + option);
+            }
+            Map<CapstoneOption, Set<CapstoneOptionValue>> newOptions = new EnumMap<>(CapstoneOption.class);
+            newOptions.putAll(this.options);
+            Set<CapstoneOptionValue> valueSet = EnumSet.noneOf(CapstoneOptionValue.class);
+            valueSet.addAll(Arrays.asList(values));
+            newOptions.put(option, Collections.unmodifiableSet(valueSet));
+            return new Key(this.arch, this.modes, Collections.unmodifiableMap(newOptions));
+        }
+
+        /**
+         * Returns the architecture of the handles.
+         *
+         * @return the architecture
+         */
+        public CapstoneArch getArch() {
+            return this.arch;
+        }
+
+        /**
+         * Returns the modes of the handles.
+         *
+         * @return an unmodifiable set of the modes
+         */
+        public Set<CapstoneMode> getModes() {
+            return this.modes;
+        }
+
+        /**
+         * Returns the options set on the handles.
+         *
+         * @return an unmodifiable map from option to option values
+         */
+        public Map<CapstoneOption, Set<CapstoneOptionValue>> getOptions() {
+            return this.options;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return this.arch == other.arch && this.modes.equals(other.modes) && this.options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.arch, this.modes, this.options);
+        }
+
+        @Override
+        public String toString() {
+            return "Key{" +
+                    "arch=" + this.arch +
+                    ", modes=" + this.modes +
+                    ", options=" + this.options +
+                    '}';
+        }
+    }
+
+    /**
+     * Exclusive access to a borrowed handle. Closing the lease returns the handle to the pool.
+     * <p>
+     * A lease is meant to be used by the thread that borrowed it.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        private final CapstoneHandlePool owner;
+        private final KeyPool pool;
+        private final PooledHandle pooled;
+        private boolean returned;
+
+        private Lease(CapstoneHandlePool owner, KeyPool pool, PooledHandle pooled) {
+            this.owner = owner;
+            this.pool = pool;
+            this.pooled = pooled;
+        }
+
+        /**
+         * Returns the borrowed handle.
+         *
+         * @return the handle
+         * @throws IllegalStateException if the lease has been closed
+         */
+        public CapstoneHandle handle() {
+            if (this.returned) {
+                throw new IllegalStateException("Lease has already been returned");
+            }
+            return this.pooled.handle;
+        }
+
+        /**
+         * Returns the handle to the pool. Closing a lease more than once has no effect.
+         */
+        @Override
+        public void close() {
+            if (this.returned) {
+                return;
+            }
+            this.returned = true;
+            this.owner.giveBack(this.pool, this.pooled);
+        }
+    }
+
+    /**
+     * A snapshot of the metrics of a {@link CapstoneHandlePool}.
+     *
+     * @param inUse the number of handles currently borrowed
+     * @param idle the number of handles waiting to be borrowed
+     * @param created the number of handles created since the pool was created
+     * @param borrowed the number of successful borrows
+     * @param affinityHits the number of borrows that got the handle the thread returned last
+     * @param totalWaitNanos the total time borrowers waited for a handle to become available, in nanoseconds
+     * @param maxWaitNanos the longest time a borrower waited for a handle to become available, in nanoseconds
+     */
+    public record Metrics(int inUse, int idle, long created, long borrowed, long affinityHits, long totalWaitNanos, long maxWaitNanos) {
+    }
+
+    /**
+     * Builder for {@link CapstoneHandlePool}.
+     */
+    public static class Builder {
+        private int maxHandlesPerKey = Runtime.getRuntime().availableProcessors();
+        private Supplier<? extends CapstoneMemoryProvider> memoryProvider;
+        private boolean nativeAllocator = false;
+        private boolean lazyDetails = false;
+
+        private Builder() {
+            // Private constructor to enforce the use of builder() method
+        }
+
+        /**
+         * Sets the maximum number of handles per key. Defaults to the number of available processors.
+         *
+         * @param maxHandlesPerKey the maximum number of handles per key
+         * @return this builder
+         */
+        public Builder maxHandlesPerKey(int maxHandlesPerKey) {
+            if(maxHandlesPerKey <= 0) {
+                throw new IllegalArgumentException("Maximum number of handles per key must be positive");
+            }
+            this.maxHandlesPerKey = maxHandlesPerKey;
+            return this;
+        }
+
+        /**
+         * Sets the factory of the memory provider shared by all handles of the pool.
+         * <p>
+         * The pool creates its own provider when it is built and lets it allocate from an arena owned by
+         * the pool, so the arena of a provider used elsewhere is never replaced. The provider must be
+         * thread-safe. Handles created while handles of the pool are open must use the same provider.
+         * Defaults to the memory provider of the default {@link CapstoneHandleOptions}.
+         *
+         * @param memoryProvider the factory of the memory provider, e.g. {@code PooledCapstoneMemoryProvider::new},
+         *                       or {@code null} for the default
+         * @return this builder
+         */
+        public Builder memoryProvider(Supplier<? extends CapstoneMemoryProvider> memoryProvider) {
+            this.memoryProvider = memoryProvider;
+            return this;
+        }
+
+        /**
+         * Sets whether the handles use the allocator of the C library instead of a memory provider.
+         *
+         * @param nativeAllocator true if the native allocator should be used, false otherwise
+         * @return this builder
+         * @see CapstoneHandleOptions.Builder#nativeAllocator(boolean)
+         */
+        public Builder nativeAllocator(boolean nativeAllocator) {
+            this.nativeAllocator = nativeAllocator;
+            return this;
+        }
+
+        /**
+         * Sets whether the handles decode instruction details lazily.
+         * <p>
+         * Lazily decoded details are loaded with the handle that decoded the instruction, so they have
+         * to be accessed before the lease on the handle is closed.
+         *
+         * @param lazyDetails true if instruction details should be decoded lazily, false otherwise
+         * @return this builder
+         * @see CapstoneHandleOptions.Builder#lazyDetails(boolean)
+         */
+        public Builder lazyDetails(boolean lazyDetails) {
+            this.lazyDetails = lazyDetails;
+            return this;
+        }
+
+        /**
+         * Builds the {@link CapstoneHandlePool} with the configured options.
+         *
+         * @return a new {@link CapstoneHandlePool} instance
+         */
+        public CapstoneHandlePool build() {
+            return new CapstoneHandlePool(this);
+        }
+    }
+
+    private static final class KeyPool {
+        final Semaphore permits;
+        final ConcurrentLinkedDeque<PooledHandle> idle = new ConcurrentLinkedDeque<>();
+
+        KeyPool(int maxHandles) {
+            this.permits = new Semaphore(maxHandles, true);
+        }
+    }
+
+    private static final class PooledHandle {
+        final CapstoneHandle handle;
+        final AtomicBoolean inUse = new AtomicBoolean();
+        /** The id of the thread that borrowed the handle last. */
+        volatile long lastThread;
+
+        PooledHandle(CapstoneHandle handle) {
+            this.handle = handle;
+        }
+    }
+}
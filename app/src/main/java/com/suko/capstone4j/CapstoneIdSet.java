@@ -0,0 +1,228 @@
+package com.suko.capstone4j;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of register or group identifiers, stored as a bitmask.
+ * <p>
+ * Register and group identifiers are small non-negative numbers, so a set of them fits into a few
+ * {@code long} words: the 246 x86 registers need four words, the x86 groups three. Testing whether an
+ * identifier is contained is a single bit test, and operations on whole sets, such as checking whether an
+ * instruction reads any of a set of registers, work on 64 identifiers at a time.
+ * <p>
+ * Sets of the registers accessed by an instruction are available from {@link CapstoneRegAccess}, the set
+ * of its groups from {@link CapstoneInstructionDetails#getGroupSet()}. Sets to test them against are
+ * created with {@link #of(int...)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CapstoneIdSet stackRegs = CapstoneIdSet.of(X86Reg.RSP.getValue(), X86Reg.RBP.getValue());
+ *
+ * for (CapstoneInstruction<CapstoneX86Details> instruction : instructions) {
+ *     if (instruction.getRegAccess().writesAny(stackRegs)) {
+ *         System.out.println("Stack frame changed at 0x" + Long.toHexString(instruction.getAddress()));
+ *     }
+ * }
+ * }</pre>
+ *
+ * @see CapstoneRegAccess#getRegsReadSet()
+ * @see CapstoneRegAccess#getRegsWriteSet()
+ * @see CapstoneInstructionDetails#getGroupSet()
+ */
+public final class CapstoneIdSet {
+
+    /** The empty set. */
+    public static final CapstoneIdSet EMPTY = new CapstoneIdSet(new long[0]);
+
+    /** The words of the bitmask, without trailing zero words. */
+    private final long[] words;
+
+    private CapstoneIdSet(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Creates a set of the given identifiers.
+     *
+     * @param ids the identifiers, duplicates are ignored
+     * @return a set containing the identifiers
+     * @throws IllegalArgumentException if an identifier is negative
+     */
+    public static CapstoneIdSet of(int... ids) {
+        return fromIds(ids, ids.length);
+    }
+
+    /**
+     * Creates a set of the given instruction groups.
+     *
+     * @param groups the groups, duplicates are ignored
+     * @return a set containing the identifiers of the groups
+     */
+    public static CapstoneIdSet of(CapstoneGroup... groups) {
+        int[] ids = new int[groups.length];
+        for (int i = 0; i < groups.length; i++) {
+            ids[i] = groups[i].getValue();
+        }
+        return fromIds(ids, ids.length);
+    }
+
+    /**
+     * Creates a set of the first {@code count} identifiers of {@code ids}.
+     *
+     * @param ids the identifiers
+     * @param count the number of identifiers to use
+     * @return a set containing the identifiers, {@link #EMPTY} if {@code count} is 0
+     * @throws IllegalArgumentException if an identifier is negative
+     */
+    static CapstoneIdSet fromIds(int[] ids, int count) {
+        int max = -1;
+        for (int i = 0; i < count; i++) {
+            if (ids[i] < 0) {
+                throw new IllegalArgumentException("Identifiers must not be negative: " + ids[i]);
+            }
+            max = Math.max(max, ids[i]);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        long[] words = new long[(max >>> 6) + 1];
+        for (int i = 0; i < count; i++) {
+            words[ids[i] >>> 6] |= 1L << ids[i];
+        }
+        return new CapstoneIdSet(words);
+    }
+
+    /**
+     * Returns whether the set contains an identifier.
+     *
+     * @param id the identifier
+     * @return true if the identifier is in the set, false otherwise
+     */
+    public boolean contains(int id) {
+        int word = id >>> 6;
+        return id >= 0 && word < this.words.length && (this.words[word] & (1L << id)) != 0;
+    }
+
+    /**
+     * Returns whether this set and {@code other} have at least one identifier in common.
+     *
+     * @param other the other set
+     * @return true if the sets intersect, false otherwise
+     */
+    public boolean intersects(CapstoneIdSet other) {
+        int length = Math.min(this.words.length, other.words.length);
+        for (int i = 0; i < length; i++) {
+            if ((this.words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns whether this set contains every identifier of {@code other}.
+     *
+     * @param other the other set
+     * @return true if {@code other} is a subset of this set, false otherwise
+     */
+    public boolean containsAll(CapstoneIdSet other) {
+        if (other.words.length > this.words.length) {
+            return false;
+        }
+        for (int i = 0; i < other.words.length; i++) {
+            if ((other.words[i] & ~this.words[i]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the set of identifiers contained in this set or in {@code other}.
+     *
+     * @param other the other set
+     * @return the union of both sets
+     */
+    public CapstoneIdSet union(CapstoneIdSet other) {
+        long[] longer = this.words.length >= other.words.length ? this.words : other.words;
+        long[] shorter = longer == this.words ? other.words : this.words;
+        long[] words = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            words[i] |= shorter[i];
+        }
+        return new CapstoneIdSet(words);
+    }
+
+    /**
+     * Returns the set of identifiers contained in both this set and {@code other}.
+     *
+     * @param other the other set
+     * @return the intersection of both sets
+     */
+    public CapstoneIdSet intersection(CapstoneIdSet other) {
+        int length = Math.min(this.words.length, other.words.length);
+        long[] words = new long[length];
+        for (int i = 0; i < length; i++) {
+            words[i] = this.words[i] & other.words[i];
+        }
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return length == 0 ? EMPTY : new CapstoneIdSet(Arrays.copyOf(words, length));
+    }
+
+    /**
+     * Returns the number of identifiers in the set.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        int size = 0;
+        for (long word : this.words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return true if the set contains no identifiers, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.words.length == 0;
+    }
+
+    /**
+     * Returns the identifiers of the set in ascending order.
+     *
+     * @return a new array with the identifiers
+     */
+    public int[] toArray() {
+        int[] ids = new int[size()];
+        int index = 0;
+        for (int i = 0; i < this.words.length; i++) {
+            long word = this.words[i];
+            while (word != 0) {
+                ids[index++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof CapstoneIdSet other && Arrays.equals(this.words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.words);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -74,7 +74,8 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
     private final String opStr;
     private final boolean isAlias;
     private final boolean usesAliasDetails;
-    private final CapstoneInstructionDetails<A> details;
+    private CapstoneInstructionDetails<A> details;
+    private CapstoneLazyDetails lazyDetails;
     private final CapstoneArch arch;
 
     /**
@@ -109,6 +110,30 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
         this.arch = arch;
     }
 
+    /**
+     * Constructs a new CapstoneInstruction whose details are decoded on first access.
+     * <p>
+     * This constructor is package-private and is intended to be used only by
+     * the {@link CapstoneInstructionFactory} class when the handle was created with
+     * {@link CapstoneHandleOptions.Builder#lazyDetails(boolean)} enabled.
+     *
+     * @param id the unique identifier of the instruction
+     * @param aliasId the alias identifier (if this instruction is an alias of another)
+     * @param address the memory address where this instruction is located
+     * @param size the size of the instruction in bytes
+     * @param bytes the raw bytes of the instruction
+     * @param mnemonic the mnemonic representation of the instruction (e.g., "mov", "add", "jmp")
+     * @param opStr the string representation of the instruction's operands
+     * @param isAlias whether this instruction is an alias of another instruction
+     * @param usesAliasDetails whether alias details should be used for this instruction
+     * @param lazyDetails the snapshot the details are decoded from when first requested
+     * @param arch the architecture for which this instruction was disassembled
+     */
+    CapstoneInstruction(int id, long aliasId, long address, int size, byte[] bytes, String mnemonic, String opStr, boolean isAlias, boolean usesAliasDetails, CapstoneLazyDetails lazyDetails, CapstoneArch arch) {
+        this(id, aliasId, address, size, bytes, mnemonic, opStr, isAlias, usesAliasDetails, (CapstoneInstructionDetails<A>) null, arch);
+        this.lazyDetails = lazyDetails;
+    }
+
     /**
      * Constructs a "bad instruction" instance representing an invalid or unreadable instruction.
      * <p>
@@ -292,12 +317,26 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * }
      * }</pre>
      *
+     * <p>
+     * If the handle was created with {@link CapstoneHandleOptions.Builder#lazyDetails(boolean)}
+     * enabled, the details are decoded by the first call to this method, or to any other method
+     * that needs them. This requires the handle that disassembled the instruction to still be open,
+     * with the {@link CapstoneOption#DETAIL} option not turned off in the meantime, and the first call
+     * has to be made on the thread that uses the handle, as it calls into the handle in the same way
+     * as decoding does.
+     *
      * @return detailed information about this instruction, or {@code null} if not available
+     * @throws IllegalStateException if the details are decoded lazily and the handle has been closed or
+     *                               has turned the detail option off
      * @see CapstoneInstructionDetails
      * @see CapstoneArchDetails
      * @see CapstoneHandle#setOption(CapstoneOption, CapstoneOptionValue)
      */
     public CapstoneInstructionDetails<A> getDetails() {
+        if(this.details == null && this.lazyDetails != null) {
+            this.details = this.lazyDetails.load();
+            this.lazyDetails = null;
+        }
         return this.details;
     }
 
@@ -378,15 +417,11 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * @see CapstoneHandle#getGroupName(int)
      */
     public boolean isInsnGroup(CapstoneGroup csGroup) {
-        if(this.details == null) {
+        CapstoneInstructionDetails<A> details = getDetails();
+        if(details == null) {
             return false;
         }
-        for(int group : this.details.getGroups()) {
-            if(group == csGroup.getValue()) {
-                return true;
-            }
-        }
-        return false;
+        return details.isInGroup(csGroup.getValue());
     }
 
     /**
@@ -429,15 +464,11 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * @see CapstoneHandle#getGroupName(int)
      */
     public boolean isInsnGroup(int groupId) {
-        if(this.details == null) {
+        CapstoneInstructionDetails<A> details = getDetails();
+        if(details == null) {
             return false;
         }
-        for(int group : this.details.getGroups()) {
-            if(group == groupId) {
-                return true;
-            }
-        }
-        return false;
+        return details.isInGroup(groupId);
     }
 
     /**
@@ -481,12 +512,7 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
         if(regAccess == null) {
             return false;
         }
-        for(int reg : regAccess.getRegsRead()) {
-            if(reg == regId) {
-                return true;
-            }
-        }
-        return false;
+        return regAccess.isRegRead(regId);
     }
 
     /**
@@ -535,12 +561,7 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
         if(regAccess == null) {
             return false;
         }
-        for(int reg : regAccess.getRegsWrite()) {
-            if(reg == regId) {
-                return true;
-            }
-        }
-        return false;
+        return regAccess.isRegWrite(regId);
     }
 
     /**
@@ -582,10 +603,11 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * @see CapstoneInstructionDetails#getArchDetails()
      */
     public int getOpCount(int opType) {
-        if(this.details == null) {
+        CapstoneInstructionDetails<A> details = getDetails();
+        if(details == null) {
             return -1;
         }
-        return this.details.getArchDetails().getOpCounOfType(opType);
+        return details.getArchDetails().getOpCounOfType(opType);
     }
 
     /**
@@ -630,10 +652,11 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * @see #getOpCount(int)
      */
     public int getOpIndex(int opType, int position) {
-        if(this.details == null) {
+        CapstoneInstructionDetails<A> details = getDetails();
+        if(details == null) {
             return -1;
         }
-        return this.details.getArchDetails().getOpIndex(opType, position);
+        return details.getArchDetails().getOpIndex(opType, position);
     }
 
     /**
@@ -679,9 +702,28 @@ public class CapstoneInstruction<A extends CapstoneArchDetails<?>> {
      * @see #isRegWrite(int)
      */
     public CapstoneRegAccess getRegAccess() {
-        if(this.details == null) {
+        CapstoneInstructionDetails<A> details = getDetails();
+        if(details == null) {
             return null;
         }
-        return this.details.getRegAccess();
+        return details.getRegAccess();
+    }
+
+    /**
+     * Returns this instruction moved to another address.
+     * <p>
+     * This is used by {@link CapstoneInstructionCache} for instructions whose decoding does not
+     * depend on their address. The returned instruction shares all other fields with this one.
+     *
+     * @param address the address of the returned instruction
+     * @return this instruction if it is already located at {@code address}, a copy otherwise
+     */
+    CapstoneInstruction<A> withAddress(long address) {
+        if (address == this.address) {
+            return this;
+        }
+        CapstoneInstruction<A> moved = new CapstoneInstruction<>(this.id, this.aliasId, address, this.size, this.bytes, this.mnemonic, this.opStr, this.isAlias, this.usesAliasDetails, this.details, this.arch);
+        moved.lazyDetails = this.lazyDetails;
+        return moved;
     }
 }
@@ -0,0 +1,442 @@
+package com.suko.capstone4j;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A bounded in-memory cache of decoded instructions for {@link CapstoneHandle#disassembleInstruction(byte[], long)}.
+ * <p>
+ * Emulators and JIT inspection tools decode the same few thousand instruction encodings over and
+ * over again. With a cache set on the handle through
+ * {@link CapstoneHandleOptions.Builder#instructionCache(CapstoneInstructionCache)}, a repeated
+ * encoding is answered with a hash and a map lookup instead of a call into Capstone.
+ * <p>
+ * Entries are keyed by the architecture, modes and options of the handle, including the SKIPDATA
+ * setup, and by the bytes of the decoded instruction, so requests for code windows that only differ
+ * after the first instruction share one entry. A lookup tries the instruction lengths stored in the
+ * cache, the decoding of an instruction only depends on its own bytes, so at most one of them matches.
+ * The hashes of all lengths are computed in a single pass over the bytes, so a hit costs one hash of
+ * the longest stored length and one map lookup per stored length up to the instruction, at most 15 for
+ * x86 and one or two for fixed-length architectures. Bytes that cannot be decoded, and instructions
+ * that take up the whole input, are never cached, as more input could decode them differently.
+ * A cache can be shared by handles with different configurations.
+ * <p>
+ * Most instructions decode to the same result at every address and are cached once; a hit at a
+ * different address returns a copy rebased to the requested address. Instructions whose operands
+ * depend on their address, like relative branches whose target is printed as an absolute address,
+ * are detected when they are first decoded and cached per address instead.
+ * <p>
+ * The size of the cache is bounded by {@link Builder#maximumSize(int)}. When the cache is full, the
+ * least recently used entry is only replaced if the new entry has been requested more often
+ * recently, as estimated by a small frequency sketch (TinyLFU admission). This keeps hot encodings
+ * cached while one-off encodings pass through without polluting the cache.
+ * <p>
+ * Handles with {@link CapstoneHandleOptions.Builder#lazyDetails(boolean) lazy details} bypass the
+ * cache, as their instructions are bound to the handle that decoded them. Cached instructions are
+ * shared between callers and must not be modified, e.g. through {@link CapstoneInstruction#getBytes()}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CapstoneInstructionCache cache = CapstoneInstructionCache.builder().maximumSize(4096).build();
+ * CapstoneHandleOptions options = CapstoneHandleOptions.builder().instructionCache(cache).build();
+ * try (CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options)) {
+ *     CapstoneInstruction<CapstoneX86Details> instruction = handle.disassembleInstruction(window, rip);
+ *     // ...
+ * }
+ * System.out.println("Hit rate: " + cache.getStats().hitRate());
+ * }</pre>
+ * <p>
+ * A cache is thread-safe.
+ */
+public final class CapstoneInstructionCache {
+
+    /** Maximum length of a cached instruction, which is more than the longest instruction of any architecture. */
+    public static final int MAX_KEY_BYTES = 24;
+
+    /**
+     * Distance of the second decode used to detect position-dependent instructions. It is not a multiple
+     * of any power of two, so targets that Capstone truncates to the address size still differ, like
+     * the 16-bit targets of X86_16.
+     */
+    private static final long PROBE_DISTANCE = 0x10101;
+
+    /** Stored under the address-independent key of encodings that are cached per address. */
+    private static final Object POSITION_DEPENDENT = new Object();
+
+    private final int maximumSize;
+    private final LinkedHashMap<Key, Object> entries;
+    private final FrequencySketch sketch;
+    /** Bit {@code n} is set if an entry of an instruction of {@code n} bytes has been stored. */
+    private int lengths;
+
+    private long hits;
+    private long misses;
+    private long bypasses;
+    private long evictions;
+    private long rejections;
+
+    private CapstoneInstructionCache(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(builder.maximumSize);
+    }
+
+    /**
+     * Creates a new builder for {@link CapstoneInstructionCache}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Decodes the first instruction of {@code code} with {@code handle}, or returns it from the cache.
+     *
+     * @param <A> the type of architecture-specific details the instruction will contain
+     * @param handle the handle decoding the instruction on a miss
+     * @param code the code to decode
+     * @param address the virtual address of the first byte of {@code code}
+     * @return the decoded instruction
+     */
+    @SuppressWarnings("unchecked")
+    <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> CapstoneInstruction<A> disassemble(CapstoneHandle handle, byte[] code, long address) {
+        if (handle.isLazyDetails() || code.length == 0) {
+            synchronized (this) {
+                this.bypasses++;
+            }
+            return handle.decodeInstruction(code, address);
+        }
+
+        Config config = handle.getCacheConfig();
+        Key key = null;
+        Key positionalKey = null;
+        boolean positionDependent = false;
+        synchronized (this) {
+            Object value = null;
+            // shorter inputs cannot hold a cached instruction, as those never take up the whole input
+            int candidates = this.lengths & (int) ((1L << Math.min(code.length, MAX_KEY_BYTES + 1)) - 1);
+            int hash = config.hashCode();
+            int hashed = 0;
+            while (candidates != 0) {
+                int length = Integer.numberOfTrailingZeros(candidates);
+                candidates &= candidates - 1;
+                while (hashed < length) {
+                    hash = 31 * hash + code[hashed++];
+                }
+                Key probe = new Key(config, code, length, false, 0, hash);
+                value = this.entries.get(probe);
+                if (value != null) {
+                    key = probe;
+                    break;
+                }
+            }
+            if (key != null) {
+                this.sketch.increment(key.hash);
+                if (value == POSITION_DEPENDENT) {
+                    positionDependent = true;
+                    positionalKey = key.at(address);
+                    this.sketch.increment(positionalKey.hash);
+                    value = this.entries.get(positionalKey);
+                }
+                if (value != null) {
+                    this.hits++;
+                    return ((CapstoneInstruction<A>) value).withAddress(address);
+                }
+            }
+            this.misses++;
+        }
+
+        CapstoneInstruction<A> instruction = handle.decodeInstruction(code, address);
+        int size = instruction.getSize();
+        // a truncated or undecodable input must not shadow the longer instructions sharing its first bytes
+        if (instruction.getId() == -1 || size <= 0 || size >= code.length || size > MAX_KEY_BYTES) {
+            return instruction;
+        }
+        if (!positionDependent) {
+            CapstoneInstruction<A> probe = handle.decodeInstruction(code, address + PROBE_DISTANCE);
+            positionDependent = instruction.getSize() != probe.getSize()
+                || !Objects.equals(instruction.getMnemonic(), probe.getMnemonic())
+                || !Objects.equals(instruction.getOpStr(), probe.getOpStr());
+        }
+
+        synchronized (this) {
+            Key stored = new Key(config, Arrays.copyOf(code, size), size, false, 0);
+            if (key == null) {
+                // the key of a new encoding is only known once it has been decoded
+                this.sketch.increment(stored.hash);
+            }
+            this.lengths |= 1 << size;
+            if (!positionDependent) {
+                admit(stored, instruction);
+            } else {
+                admit(stored, POSITION_DEPENDENT);
+                Key storedPositional = stored.at(address);
+                if (positionalKey == null) {
+                    // first request of this encoding, count it for its address as well
+                    this.sketch.increment(storedPositional.hash);
+                }
+                admit(storedPositional, instruction);
+            }
+        }
+        return instruction;
+    }
+
+    /**
+     * Returns a snapshot of the counters of the cache.
+     *
+     * @return the current statistics
+     */
+    public synchronized Stats getStats() {
+        return new Stats(this.hits, this.misses, this.bypasses, this.evictions, this.rejections, this.entries.size());
+    }
+
+    /**
+     * Returns the maximum number of entries of the cache.
+     *
+     * @return the maximum size
+     */
+    public int getMaximumSize() {
+        return this.maximumSize;
+    }
+
+    /**
+     * Removes all entries. The counters and the frequency estimates are kept.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.lengths = 0;
+    }
+
+    /**
+     * Stores an entry, replacing the least recently used entry if the cache is full and the new
+     * entry is estimated to be requested more often.
+     */
+    private void admit(Key key, Object value) {
+        if (this.entries.containsKey(key)) {
+            this.entries.put(key, value);
+            return;
+        }
+        if (this.entries.size() >= this.maximumSize) {
+            Iterator<Map.Entry<Key, Object>> eldest = this.entries.entrySet().iterator();
+            Key victim = eldest.next().getKey();
+            if (this.sketch.frequency(key.hash) <= this.sketch.frequency(victim.hash)) {
+                this.rejections++;
+                return;
+            }
+            eldest.remove();
+            this.evictions++;
+        }
+        this.entries.put(key, value);
+    }
+
+    /**
+     * The configuration of a handle that influences the decoded instructions.
+     * <p>
+     * Handles create their configuration once and replace it whenever an option changes, so that
+     * computing a key does not need to look at the options. The hash is computed once as well.
+     */
+    static final class Config {
+
+        private final CapstoneArch arch;
+        private final Set<CapstoneMode> modes;
+        private final Map<CapstoneOption, Set<CapstoneOptionValue>> options;
+        /** The SKIPDATA setup, which the options only report as on or off. */
+        private final String skipData;
+        private final int hash;
+
+        Config(CapstoneArch arch, Set<CapstoneMode> modes, Map<CapstoneOption, Set<CapstoneOptionValue>> options, String skipData) {
+            this.arch = arch;
+            this.modes = modes;
+            this.options = options;
+            this.skipData = skipData;
+            this.hash = Objects.hash(arch, modes, options, skipData);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Config other
+                && this.hash == other.hash
+                && this.arch == other.arch
+                && this.modes.equals(other.modes)
+                && this.options.equals(other.options)
+                && Objects.equals(this.skipData, other.skipData);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * A cache key. Keys used for lookups wrap the code array of the caller, stored keys own a copy.
+     */
+    private static final class Key {
+
+        private final Config config;
+        private final byte[] bytes;
+        private final int length;
+        private final boolean positional;
+        private final long address;
+        private final int hash;
+
+        private Key(Config config, byte[] bytes, int length, boolean positional, long address) {
+            this(config, bytes, length, positional, address, hash(config, bytes, length));
+        }
+
+        /** Creates a key whose hash of the config and the bytes has already been computed. */
+        private Key(Config config, byte[] bytes, int length, boolean positional, long address, int bytesHash) {
+            this.config = config;
+            this.bytes = bytes;
+            this.length = length;
+            this.positional = positional;
+            this.address = address;
+            this.hash = positional ? 31 * bytesHash + Long.hashCode(address) : bytesHash;
+        }
+
+        private static int hash(Config config, byte[] bytes, int length) {
+            int hash = config.hashCode();
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash;
+        }
+
+        private Key at(long address) {
+            return new Key(this.config, this.bytes, this.length, true, address, this.hash);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Key other
+                && this.hash == other.hash
+                && this.positional == other.positional
+                && this.address == other.address
+                && (this.config == other.config || this.config.equals(other.config))
+                && Arrays.equals(this.bytes, 0, this.length, other.bytes, 0, other.length);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters estimating how often keys were requested recently.
+     * <p>
+     * All counters are halved after a number of increments proportional to the cache size, so that
+     * the estimates follow changes in the workload.
+     */
+    private static final class FrequencySketch {
+
+        private static final int[] SEEDS = { 0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f };
+        private static final int MAX_COUNT = 15;
+
+        private final byte[][] rows = new byte[SEEDS.length][];
+        private final int mask;
+        private final int sampleSize;
+        private int increments;
+
+        private FrequencySketch(int maximumSize) {
+            int width = Integer.highestOneBit(Math.min(Math.max(16, maximumSize), 1 << 24) * 2 - 1);
+            for (int i = 0; i < this.rows.length; i++) {
+                this.rows[i] = new byte[width];
+            }
+            this.mask = width - 1;
+            this.sampleSize = 10 * Math.max(16, maximumSize);
+        }
+
+        private void increment(int hash) {
+            for (int i = 0; i < SEEDS.length; i++) {
+                int index = index(hash, i);
+                if (this.rows[i][index] < MAX_COUNT) {
+                    this.rows[i][index]++;
+                }
+            }
+            if (++this.increments == this.sampleSize) {
+                for (byte[] row : this.rows) {
+                    for (int i = 0; i < row.length; i++) {
+                        row[i] >>= 1;
+                    }
+                }
+                this.increments /= 2;
+            }
+        }
+
+        private int frequency(int hash) {
+            int frequency = MAX_COUNT;
+            for (int i = 0; i < SEEDS.length; i++) {
+                frequency = Math.min(frequency, this.rows[i][index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+            return (h ^ (h >>> 15)) & this.mask;
+        }
+    }
+
+    /**
+     * A snapshot of the counters of a {@link CapstoneInstructionCache}.
+     *
+     * @param hits the number of requests answered from the cache
+     * @param misses the number of requests that had to be decoded
+     * @param bypasses the number of requests that could not use the cache
+     * @param evictions the number of entries replaced by more frequently requested ones
+     * @param rejections the number of decoded instructions that were not admitted to the full cache
+     * @param size the current number of entries
+     */
+    public record Stats(long hits, long misses, long bypasses, long evictions, long rejections, int size) {
+
+        /**
+         * Returns the fraction of cacheable requests that were answered from the cache.
+         *
+         * @return the hit rate between 0 and 1, or 0 if there were no requests
+         */
+        public double hitRate() {
+            long requests = this.hits + this.misses;
+            return requests == 0 ? 0 : (double) this.hits / requests;
+        }
+    }
+
+    /**
+     * Builder for {@link CapstoneInstructionCache}.
+     */
+    public static class Builder {
+        private int maximumSize = 8192;
+
+        private Builder() {
+            // Private constructor to enforce the use of builder() method
+        }
+
+        /**
+         * Sets the maximum number of entries. Defaults to 8192.
+         *
+         * @param maximumSize the maximum number of entries
+         * @return this builder
+         */
+        public Builder maximumSize(int maximumSize) {
+            if(maximumSize <= 0) {
+                throw new IllegalArgumentException("Maximum cache size must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Builds the {@link CapstoneInstructionCache} with the configured options.
+         *
+         * @return a new {@link CapstoneInstructionCache} instance
+         */
+        public CapstoneInstructionCache build() {
+            return new CapstoneInstructionCache(this);
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.suko.capstone4j;
+
+import static com.suko.capstone4j.internal.CapstoneNative.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * A flyweight cursor that walks over a region of machine code one instruction at a time.
+ * <p>
+ * Unlike the list and stream based methods of {@link CapstoneHandle}, a cursor does not create a
+ * {@link CapstoneInstruction} for every decoded instruction. Every call to {@link #next()} decodes
+ * the next instruction into a single native {@code cs_insn} buffer owned by the cursor, and the
+ * accessors read the fields of that buffer directly. Advancing the cursor and reading the numeric
+ * fields does not allocate any memory, which makes cursors the cheapest way to scan large regions
+ * of code when only a few properties of each instruction are needed.
+ * <p>
+ * Bytes that cannot be decoded are reported the same way as by
+ * {@link CapstoneHandle#disassembleAllInstructions(byte[], long)}: the cursor stops on a "bad"
+ * instruction of size 1 with the id {@code -1}, the mnemonic {@code "BAD"} and an operand string
+ * of the form {@code "db xx"}, and decoding resumes at the next byte.
+ * <p>
+ * The values returned by the accessors, including the segments returned by
+ * {@link #mnemonicSegment()} and {@link #opStrSegment()}, are only valid until the next call to
+ * {@link #next()}. Use {@link #toInstruction()} to obtain a copy of the current instruction that
+ * can be retained.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(segment, segment.byteSize(), 0x1000)) {
+ *     while (cursor.next()) {
+ *         if (cursor.id() == X86Insn.CALL.getValue()) {
+ *             CapstoneInstruction<CapstoneX86Details> call = cursor.toInstruction();
+ *             // Process call...
+ *         }
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * A cursor uses the options of its handle at the time it was created. The detail option of the
+ * handle must not be changed while a cursor is open. Like the handle itself, a cursor is not
+ * thread-safe and has to be closed to release its native memory.
+ *
+ * @param <A> the type of architecture-specific details the instructions will contain
+ * @see CapstoneHandle#cursor(MemorySegment, long, long)
+ */
+public final class CapstoneInstructionCursor<A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> implements AutoCloseable {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes();
+
+    private final CapstoneHandle owner;
+    private final boolean parseDetails;
+
+    private final Arena arena;
+    private final DecodeContext context;
+
+    private boolean positioned;
+    private boolean bad;
+    private boolean closed;
+
+    /**
+     * Creates a new cursor over {@code size} bytes of {@code code}.
+     * <p>
+     * This constructor is package-private and is intended to be used only by
+     * {@link CapstoneHandle#cursor(MemorySegment, long, long)}.
+     *
+     * @param owner the handle creating the cursor
+     * @param parseDetails whether instruction details are enabled on the owner
+     * @param code the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param address the virtual address where the code is located
+     */
+    CapstoneInstructionCursor(CapstoneHandle owner, boolean parseDetails, MemorySegment code, long size, long address) {
+        this.owner = owner;
+        this.parseDetails = parseDetails;
+        this.arena = Arena.ofConfined();
+        this.context = new DecodeContext(owner, owner.getHandleSegment().get(csh, 0), this.arena);
+        this.context.reset(code, 0, size, address);
+    }
+
+    /**
+     * Advances the cursor to the next instruction.
+     *
+     * @return {@code true} if the cursor is positioned on a new instruction, {@code false} if the
+     *         end of the code was reached
+     * @throws RuntimeException if the cursor is closed or if disassembly fails with an error
+     */
+    public boolean next() {
+        if (this.closed) {
+            throw new RuntimeException("Instruction cursor is closed");
+        }
+        if (this.context.remaining() <= 0) {
+            this.positioned = false;
+            return false;
+        }
+
+        this.positioned = true;
+        if (this.context.next()) {
+            this.bad = false;
+            return true;
+        }
+
+        CapstoneError error = this.owner.getErrNo();
+        if (error != CapstoneError.OK) {
+            throw new RuntimeException("Disassembly failed with error: " + error + " - " + this.owner.getStrError(error));
+        }
+
+        long address = this.context.address();
+        byte badByte = this.context.code().get(ValueLayout.JAVA_BYTE, this.context.offset());
+        this.context.skip(1);
+        writeBadInstruction(address, badByte);
+        this.bad = true;
+        return true;
+    }
+
+    /**
+     * Returns the identifier of the current instruction, or {@code -1} for a bad instruction.
+     *
+     * @return the instruction identifier
+     * @see CapstoneInstruction#getId()
+     */
+    public int id() {
+        return this.bad ? -1 : cs_insn.id(current());
+    }
+
+    /**
+     * Returns the alias identifier of the current instruction, or {@code -1} for a bad instruction.
+     *
+     * @return the alias identifier
+     * @see CapstoneInstruction#getAliasId()
+     */
+    public long aliasId() {
+        return this.bad ? -1 : cs_insn.alias_id(current());
+    }
+
+    /**
+     * Returns the address of the current instruction.
+     *
+     * @return the instruction address
+     */
+    public long address() {
+        return cs_insn.address(current());
+    }
+
+    /**
+     * Returns the size of the current instruction in bytes.
+     *
+     * @return the instruction size
+     */
+    public int size() {
+        return cs_insn.size(current()) & 0xFFFF;
+    }
+
+    /**
+     * Copies the bytes of the current instruction to the start of {@code dst}.
+     *
+     * @param dst the segment receiving the bytes, must be at least {@link #size()} bytes long
+     * @return the number of bytes copied
+     */
+    public int bytes(MemorySegment dst) {
+        int size = size();
+        MemorySegment.copy(cs_insn.bytes(current()), 0, dst, 0, size);
+        return size;
+    }
+
+    /**
+     * Returns the NUL-terminated mnemonic of the current instruction.
+     * <p>
+     * The returned segment points into the native instruction buffer of the cursor and is
+     * overwritten by the next call to {@link #next()}.
+     *
+     * @return a segment containing the mnemonic
+     */
+    public MemorySegment mnemonicSegment() {
+        return cs_insn.mnemonic(current());
+    }
+
+    /**
+     * Returns the NUL-terminated operand string of the current instruction.
+     * <p>
+     * The returned segment points into the native instruction buffer of the cursor and is
+     * overwritten by the next call to {@link #next()}.
+     *
+     * @return a segment containing the operand string
+     */
+    public MemorySegment opStrSegment() {
+        return cs_insn.op_str(current());
+    }
+
+    /**
+     * Returns whether the current instruction is an alias of another instruction.
+     *
+     * @return {@code true} if the instruction is an alias
+     */
+    public boolean isAlias() {
+        return !this.bad && cs_insn.is_alias(current());
+    }
+
+    /**
+     * Returns whether the current instruction is a bad instruction, i.e. a byte that could not
+     * be decoded.
+     *
+     * @return {@code true} if the current instruction could not be decoded
+     */
+    public boolean isBad() {
+        current();
+        return this.bad;
+    }
+
+    /**
+     * Returns the offset of the next instruction relative to the start of the code.
+     *
+     * @return the number of bytes consumed so far
+     */
+    public long offset() {
+        return this.context.offset();
+    }
+
+    /**
+     * Returns the number of bytes that have not been decoded yet.
+     *
+     * @return the remaining number of bytes
+     */
+    public long remaining() {
+        return this.context.remaining();
+    }
+
+    /**
+     * Creates a {@link CapstoneInstruction} holding a copy of the current instruction.
+     * <p>
+     * Details are parsed if they were enabled on the handle when the cursor was created.
+     *
+     * @return a new instruction object that remains valid after the cursor advances
+     */
+    public CapstoneInstruction<A> toInstruction() {
+        MemorySegment insn = current();
+        if (this.bad) {
+            return CapstoneInstructionFactory.createBadInstruction(cs_insn.address(insn), cs_insn.bytes(insn).get(ValueLayout.JAVA_BYTE, 0), this.owner.getArch());
+        }
+        return CapstoneInstructionFactory.createFromMemorySegment(this.owner, insn, this.parseDetails);
+    }
+
+    /**
+     * Releases the native memory owned by the cursor.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            this.context.close();
+        } finally {
+            this.arena.close();
+        }
+    }
+
+    private MemorySegment current() {
+        if (!this.positioned) {
+            throw new RuntimeException("Instruction cursor is not positioned on an instruction");
+        }
+        return this.context.insn();
+    }
+
+    /**
+     * Fills the instruction buffer with a bad instruction, so that the accessors do not need to
+     * distinguish between decoded and bad instructions.
+     */
+    private void writeBadInstruction(long address, byte badByte) {
+        MemorySegment insn = this.context.insn();
+        cs_insn.address(insn, address);
+        cs_insn.size(insn, (short) 1);
+        cs_insn.bytes(insn).set(ValueLayout.JAVA_BYTE, 0, badByte);
+
+        MemorySegment mnemonic = cs_insn.mnemonic(insn);
+        mnemonic.set(ValueLayout.JAVA_BYTE, 0, (byte) 'B');
+        mnemonic.set(ValueLayout.JAVA_BYTE, 1, (byte) 'A');
+        mnemonic.set(ValueLayout.JAVA_BYTE, 2, (byte) 'D');
+        mnemonic.set(ValueLayout.JAVA_BYTE, 3, (byte) 0);
+
+        // same format as CapstoneInstruction: "db " followed by the byte in hex without leading zeros
+        int value = badByte & 0xFF;
+        MemorySegment opStr = cs_insn.op_str(insn);
+        long index = 0;
+        opStr.set(ValueLayout.JAVA_BYTE, index++, (byte) 'd');
+        opStr.set(ValueLayout.JAVA_BYTE, index++, (byte) 'b');
+        opStr.set(ValueLayout.JAVA_BYTE, index++, (byte) ' ');
+        if (value > 0xF) {
+            opStr.set(ValueLayout.JAVA_BYTE, index++, HEX_DIGITS[value >>> 4]);
+        }
+        opStr.set(ValueLayout.JAVA_BYTE, index++, HEX_DIGITS[value & 0xF]);
+        opStr.set(ValueLayout.JAVA_BYTE, index, (byte) 0);
+    }
+}
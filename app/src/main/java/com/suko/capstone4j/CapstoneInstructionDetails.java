@@ -19,6 +19,7 @@ public class CapstoneInstructionDetails<A extends CapstoneArchDetails<?>> {
     private final CapstoneRegAccess regAccess;
     private final int[] groups;
     private final int groupsCount;
+    private final CapstoneIdSet groupSet;
     private final boolean writeback;
     private final A archDetails;
 
@@ -38,9 +39,23 @@ public class CapstoneInstructionDetails<A extends CapstoneArchDetails<?>> {
      * @param archDetails architecture-specific details for this instruction
      */
     CapstoneInstructionDetails(int[] regsRead, int regsReadCount, int[] regsWrite, int regsWriteCount, int[] groups, int groupsCount, boolean writeback, A archDetails) {
-        this.regAccess = new CapstoneRegAccess(regsRead, regsReadCount, regsWrite, regsWriteCount);
+        this(new CapstoneRegAccess(regsRead, regsReadCount, regsWrite, regsWriteCount), groups, groupsCount, writeback, archDetails);
+    }
+
+    /**
+     * Constructs a new CapstoneInstructionDetails object with already collected register access information.
+     *
+     * @param regAccess the registers read and written by the instruction
+     * @param groups array of instruction group IDs that this instruction belongs to
+     * @param groupsCount number of instruction groups that this instruction belongs to
+     * @param writeback whether this instruction performs a memory write-back
+     * @param archDetails architecture-specific details for this instruction
+     */
+    CapstoneInstructionDetails(CapstoneRegAccess regAccess, int[] groups, int groupsCount, boolean writeback, A archDetails) {
+        this.regAccess = regAccess;
         this.groups = groups;
         this.groupsCount = groupsCount;
+        this.groupSet = CapstoneIdSet.fromIds(groups, groups.length);
         this.writeback = writeback;
         this.archDetails = archDetails;
     }
@@ -87,6 +102,27 @@ public class CapstoneInstructionDetails<A extends CapstoneArchDetails<?>> {
         return this.groupsCount;
     }
 
+    /**
+     * Returns the set of instruction group IDs that this instruction belongs to.
+     *
+     * @return the groups of this instruction
+     * @see #getGroups()
+     * @see CapstoneIdSet#of(CapstoneGroup...)
+     */
+    public CapstoneIdSet getGroupSet() {
+        return this.groupSet;
+    }
+
+    /**
+     * Returns whether this instruction belongs to an instruction group.
+     *
+     * @param groupId the group ID
+     * @return true if the instruction belongs to the group, false otherwise
+     */
+    public boolean isInGroup(int groupId) {
+        return this.groupSet.contains(groupId);
+    }
+
     /**
      * Returns whether this instruction performs a memory write-back.
      *
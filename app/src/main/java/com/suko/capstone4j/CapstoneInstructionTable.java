@@ -0,0 +1,658 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.suko.capstone4j.internal.cs_detail;
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * A compact, off-heap table of decoded instructions.
+ * <p>
+ * A {@code List<CapstoneInstruction>} needs a few hundred bytes of heap per instruction for the
+ * object headers, strings, byte arrays and detail objects, which makes it unsuitable for holding
+ * the tens of millions of instructions of a large binary. An instruction table instead stores
+ * every instruction as one row of fixed-size native columns (struct-of-arrays), filled directly
+ * from the native {@code cs_insn} and {@code cs_detail} structures by the decode loop of
+ * {@link CapstoneHandle#disassembleToTable(MemorySegment, long, long)}:
+ * <ul>
+ *   <li>the address of the instruction</li>
+ *   <li>the instruction identifier</li>
+ *   <li>the identifier of its mnemonic in the mnemonic dictionary of the table</li>
+ *   <li>the identifier of its access profile, i.e. its groups and the registers it reads and writes</li>
+ *   <li>its size and the offset of its bytes in the raw byte column</li>
+ * </ul>
+ * Mnemonics and access profiles repeat a lot in real code, so they are stored once per table and
+ * shared by all rows using them. Together with the raw bytes, a row takes about
+ * {@value #ROW_BYTES} bytes plus the size of the instruction, well below the footprint of a
+ * single {@link CapstoneInstruction}. Operand strings and architecture-specific details are not
+ * stored; they can be recovered by decoding {@link #bytes(int)} again when needed.
+ * <p>
+ * Columns are allocated in chunks, so appending rows never copies the rows appended before.
+ * Rows are numbered from {@code 0} in the order they were appended and have to be appended in
+ * ascending address order, which allows {@link #indexOf(long)} and {@link #find(long)} to look
+ * rows up by address with a binary search.
+ * <p>
+ * Bytes that could not be decoded are stored as rows with the id {@code -1}, the mnemonic
+ * {@code "BAD"} and a size of 1, like the "bad" instructions of
+ * {@link CapstoneHandle#disassembleAllInstructions(byte[], long)}.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+ * try (CapstoneInstructionTable table = handle.disassembleToTable(text, text.byteSize(), 0x401000)) {
+ *     for (int row = 0; row < table.rowCount(); row++) {
+ *         if (table.isInGroup(row, CapstoneGroup.CALL.getValue())) {
+ *             System.out.println(String.format("0x%x: %s", table.address(row), table.mnemonic(row)));
+ *         }
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * A table may be read from several threads once it is filled, but appending rows is not
+ * thread-safe. Tables have to be closed to release their native memory.
+ *
+ * @see CapstoneHandle#disassembleToTable(MemorySegment, long, long)
+ * @see CapstoneHandle#disassembleToTable(CapstoneInstructionTable, MemorySegment, long, long)
+ */
+public final class CapstoneInstructionTable implements AutoCloseable {
+
+    /** Number of native bytes used by the fixed-size columns of one row. */
+    public static final int ROW_BYTES = 23;
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_ROWS = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_ROWS - 1;
+
+    // column offsets within a chunk, ordered by decreasing alignment
+    private static final long ADDRESS_COLUMN = 0;
+    private static final long RAW_OFFSET_COLUMN = ADDRESS_COLUMN + 8L * CHUNK_ROWS;
+    private static final long ID_COLUMN = RAW_OFFSET_COLUMN + 4L * CHUNK_ROWS;
+    private static final long PROFILE_COLUMN = ID_COLUMN + 4L * CHUNK_ROWS;
+    private static final long MNEMONIC_COLUMN = PROFILE_COLUMN + 4L * CHUNK_ROWS;
+    private static final long SIZE_COLUMN = MNEMONIC_COLUMN + 2L * CHUNK_ROWS;
+    private static final long CHUNK_BYTES = SIZE_COLUMN + CHUNK_ROWS;
+
+    private static final int RAW_CHUNK_SHIFT = 20;
+    private static final int RAW_CHUNK_BYTES = 1 << RAW_CHUNK_SHIFT;
+    private static final int RAW_CHUNK_MASK = RAW_CHUNK_BYTES - 1;
+
+    private static final int MAX_MNEMONICS = 1 << 16;
+    private static final String BAD_MNEMONIC = "BAD";
+
+    private final CapstoneArch arch;
+    private final Arena arena;
+
+    private final List<MemorySegment> chunks = new ArrayList<>();
+    private final List<MemorySegment> rawChunks = new ArrayList<>();
+    private int rowCount;
+    private long rawSize;
+
+    private final List<String> mnemonics = new ArrayList<>();
+    private final List<byte[]> mnemonicBytes = new ArrayList<>();
+    private final Map<String, Integer> mnemonicIds = new HashMap<>();
+    private int[] lastMnemonicById = new int[0];
+
+    private final List<AccessProfile> profiles = new ArrayList<>();
+    private final Map<AccessProfile, Integer> profileIds = new HashMap<>();
+    private final AccessProfile probe = new AccessProfile();
+
+
+    private boolean closed;
+
+    /**
+     * Creates a new empty table.
+     * <p>
+     * This constructor is package-private and is intended to be used only by
+     * {@link CapstoneHandle#disassembleToTable(MemorySegment, long, long)}.
+     *
+     * @param arch the architecture of the instructions stored in the table
+     */
+    CapstoneInstructionTable(CapstoneArch arch) {
+        this.arch = arch;
+        this.arena = Arena.ofShared();
+        // profile 0 is shared by all rows without details
+        AccessProfile empty = new AccessProfile(new int[0], new int[0], new int[0]);
+        this.profiles.add(empty);
+        this.profileIds.put(empty, 0);
+    }
+
+    /**
+     * Appends the instruction held by {@code insn} to the table.
+     *
+     * @param owner the handle that decoded the instruction
+     * @param insn the decoded {@code cs_insn}
+     * @param parseDetails whether {@code insn} holds details that should be stored
+     * @throws RuntimeException if the instruction cannot be stored
+     */
+    void append(CapstoneHandle owner, MemorySegment insn, boolean parseDetails) {
+        int id = cs_insn.id(insn);
+        int size = cs_insn.size(insn) & 0xFFFF;
+        int profile = 0;
+        if (parseDetails) {
+            MemorySegment detail = cs_insn.detail(insn);
+            if (!detail.equals(MemorySegment.NULL)) {
+                profile = internProfile(owner, insn, detail.reinterpret(cs_detail.sizeof()));
+            }
+        }
+        long address = cs_insn.address(insn);
+        MemorySegment row = appendRow(address, id, internMnemonic(id, cs_insn.mnemonic(insn)), profile, size);
+        MemorySegment.copy(cs_insn.bytes(insn), 0, row, 0, size);
+    }
+
+    /**
+     * Appends a "bad" instruction for a byte that could not be decoded.
+     *
+     * @param address the address of the byte
+     * @param badByte the byte that could not be decoded
+     */
+    void appendBad(long address, byte badByte) {
+        Integer mnemonic = this.mnemonicIds.get(BAD_MNEMONIC);
+        int mnemonicId = mnemonic != null ? mnemonic : addMnemonic(BAD_MNEMONIC);
+        appendRow(address, -1, mnemonicId, 0, 1).set(ValueLayout.JAVA_BYTE, 0, badByte);
+    }
+
+    /**
+     * Returns the architecture of the instructions stored in the table.
+     *
+     * @return the architecture
+     */
+    public CapstoneArch getArch() {
+        return this.arch;
+    }
+
+    /**
+     * Returns the number of rows in the table.
+     *
+     * @return the number of instructions stored in the table
+     */
+    public int rowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the address of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return the instruction address
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public long address(int row) {
+        return chunk(row).get(ValueLayout.JAVA_LONG, ADDRESS_COLUMN + 8L * (row & CHUNK_MASK));
+    }
+
+    /**
+     * Returns the size in bytes of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return the instruction size
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int size(int row) {
+        return chunk(row).get(ValueLayout.JAVA_BYTE, SIZE_COLUMN + (row & CHUNK_MASK)) & 0xFF;
+    }
+
+    /**
+     * Returns the identifier of the instruction in the given row, or {@code -1} for a bad instruction.
+     *
+     * @param row the row index
+     * @return the instruction identifier
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     * @see CapstoneInstruction#getId()
+     */
+    public int id(int row) {
+        return chunk(row).get(ValueLayout.JAVA_INT, ID_COLUMN + 4L * (row & CHUNK_MASK));
+    }
+
+    /**
+     * Returns whether the instruction in the given row is a byte that could not be decoded.
+     *
+     * @param row the row index
+     * @return {@code true} if the row holds a bad instruction
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean isBad(int row) {
+        return id(row) == -1;
+    }
+
+    /**
+     * Returns the identifier of the mnemonic of the instruction in the given row.
+     * <p>
+     * Mnemonic identifiers are only meaningful within the table that returned them. They can be
+     * resolved with {@link #getMnemonic(int)}, and are cheaper to compare than the mnemonics.
+     *
+     * @param row the row index
+     * @return the mnemonic identifier
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int mnemonicId(int row) {
+        return chunk(row).get(ValueLayout.JAVA_SHORT, MNEMONIC_COLUMN + 2L * (row & CHUNK_MASK)) & 0xFFFF;
+    }
+
+    /**
+     * Returns the mnemonic of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return the mnemonic
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public String mnemonic(int row) {
+        return this.mnemonics.get(mnemonicId(row));
+    }
+
+    /**
+     * Resolves a mnemonic identifier returned by {@link #mnemonicId(int)}.
+     *
+     * @param mnemonicId the mnemonic identifier
+     * @return the mnemonic
+     * @throws IndexOutOfBoundsException if the identifier is unknown
+     */
+    public String getMnemonic(int mnemonicId) {
+        return this.mnemonics.get(mnemonicId);
+    }
+
+    /**
+     * Returns the number of distinct mnemonics stored in the table.
+     *
+     * @return the size of the mnemonic dictionary
+     */
+    public int getMnemonicCount() {
+        return this.mnemonics.size();
+    }
+
+    /**
+     * Returns a read-only segment over the bytes of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return a segment of {@link #size(int)} bytes
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public MemorySegment bytesSegment(int row) {
+        MemorySegment chunk = chunk(row);
+        int index = row & CHUNK_MASK;
+        int rawOffset = chunk.get(ValueLayout.JAVA_INT, RAW_OFFSET_COLUMN + 4L * index);
+        int size = chunk.get(ValueLayout.JAVA_BYTE, SIZE_COLUMN + index) & 0xFF;
+        return this.rawChunks.get(rawOffset >>> RAW_CHUNK_SHIFT).asSlice(rawOffset & RAW_CHUNK_MASK, size).asReadOnly();
+    }
+
+    /**
+     * Returns a copy of the bytes of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return the instruction bytes
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public byte[] bytes(int row) {
+        return bytesSegment(row).toArray(ValueLayout.JAVA_BYTE);
+    }
+
+    /**
+     * Returns the identifier of the access profile of the instruction in the given row.
+     * <p>
+     * Rows with equal profile identifiers belong to the same groups and access the same
+     * registers. Profile {@code 0} is the empty profile used by rows decoded without details.
+     *
+     * @param row the row index
+     * @return the access profile identifier
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int profileId(int row) {
+        return chunk(row).get(ValueLayout.JAVA_INT, PROFILE_COLUMN + 4L * (row & CHUNK_MASK));
+    }
+
+    /**
+     * Returns the number of distinct access profiles stored in the table, including the empty profile.
+     *
+     * @return the number of access profiles
+     */
+    public int getProfileCount() {
+        return this.profiles.size();
+    }
+
+    /**
+     * Returns whether the instruction in the given row belongs to the given group.
+     * <p>
+     * Always returns {@code false} for rows decoded without details.
+     *
+     * @param row the row index
+     * @param groupId the group identifier, e.g. {@link CapstoneGroup#getValue()}
+     * @return {@code true} if the instruction belongs to the group
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean isInGroup(int row, int groupId) {
+        return this.profiles.get(profileId(row)).groupMask.contains(groupId);
+    }
+
+    /**
+     * Returns whether the instruction in the given row reads the given register, either explicitly
+     * or implicitly.
+     *
+     * @param row the row index
+     * @param regId the register identifier
+     * @return {@code true} if the instruction reads the register
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean readsRegister(int row, int regId) {
+        return this.profiles.get(profileId(row)).readMask.contains(regId);
+    }
+
+    /**
+     * Returns whether the instruction in the given row writes the given register, either explicitly
+     * or implicitly.
+     *
+     * @param row the row index
+     * @param regId the register identifier
+     * @return {@code true} if the instruction writes the register
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean writesRegister(int row, int regId) {
+        return this.profiles.get(profileId(row)).writeMask.contains(regId);
+    }
+
+    /**
+     * Returns whether the instruction in the given row reads any of the given registers.
+     *
+     * @param row the row index
+     * @param regs the register identifiers
+     * @return {@code true} if the instruction reads at least one of the registers
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean readsAny(int row, CapstoneIdSet regs) {
+        return this.profiles.get(profileId(row)).readMask.intersects(regs);
+    }
+
+    /**
+     * Returns whether the instruction in the given row writes any of the given registers.
+     *
+     * @param row the row index
+     * @param regs the register identifiers
+     * @return {@code true} if the instruction writes at least one of the registers
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public boolean writesAny(int row, CapstoneIdSet regs) {
+        return this.profiles.get(profileId(row)).writeMask.intersects(regs);
+    }
+
+    /**
+     * Returns the groups of the instruction in the given row.
+     *
+     * @param row the row index
+     * @return a copy of the group identifiers
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int[] groups(int row) {
+        return this.profiles.get(profileId(row)).groups.clone();
+    }
+
+    /**
+     * Returns the registers read by the instruction in the given row.
+     *
+     * @param row the row index
+     * @return a copy of the register identifiers
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int[] regsRead(int row) {
+        return this.profiles.get(profileId(row)).regsRead.clone();
+    }
+
+    /**
+     * Returns the registers written by the instruction in the given row.
+     *
+     * @param row the row index
+     * @return a copy of the register identifiers
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public int[] regsWrite(int row) {
+        return this.profiles.get(profileId(row)).regsWrite.clone();
+    }
+
+    /**
+     * Returns the row of the instruction starting at the given address.
+     *
+     * @param address the address of the instruction
+     * @return the row index, or {@code -1} if no instruction starts at {@code address}
+     */
+    public int indexOf(long address) {
+        int row = floor(address);
+        return row >= 0 && address(row) == address ? row : -1;
+    }
+
+    /**
+     * Returns the row of the instruction containing the given address.
+     *
+     * @param address an address within an instruction
+     * @return the row index, or {@code -1} if no instruction contains {@code address}
+     */
+    public int find(long address) {
+        int row = floor(address);
+        return row >= 0 && Long.compareUnsigned(address - address(row), size(row)) < 0 ? row : -1;
+    }
+
+    /**
+     * Returns the number of native bytes used by the rows and raw bytes of the table.
+     * <p>
+     * The dictionaries of mnemonics and access profiles are kept on the Java heap and are not
+     * included, neither is the unused part of the last allocated chunks.
+     *
+     * @return the number of bytes used by the stored instructions
+     */
+    public long byteSize() {
+        return (long) this.rowCount * ROW_BYTES + this.rawSize;
+    }
+
+    /**
+     * Releases the native memory of the table. Segments returned by {@link #bytesSegment(int)}
+     * must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.arena.close();
+    }
+
+    private MemorySegment chunk(int row) {
+        Objects.checkIndex(row, this.rowCount);
+        return this.chunks.get(row >>> CHUNK_SHIFT);
+    }
+
+    /**
+     * Returns the last row whose address is less than or equal to {@code address}, or {@code -1}.
+     */
+    private int floor(long address) {
+        int low = 0;
+        int high = this.rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (Long.compareUnsigned(address(mid), address) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Writes the fixed-size columns of a new row and reserves {@code size} raw bytes for it.
+     *
+     * @return the segment the instruction bytes have to be copied into
+     */
+    private MemorySegment appendRow(long address, int id, int mnemonicId, int profileId, int size) {
+        if (this.closed) {
+            throw new RuntimeException("Instruction table is closed");
+        }
+        if (this.rowCount == Integer.MAX_VALUE) {
+            throw new RuntimeException("Instruction table is full");
+        }
+        if (this.rowCount > 0 && Long.compareUnsigned(address, address(this.rowCount - 1)) <= 0) {
+            throw new RuntimeException("Instructions must be appended in ascending address order: 0x" + Long.toHexString(address));
+        }
+
+        // instructions never straddle two raw chunks
+        long rawOffset = this.rawSize;
+        if ((rawOffset & RAW_CHUNK_MASK) + size > RAW_CHUNK_BYTES) {
+            rawOffset = (rawOffset + RAW_CHUNK_MASK) & ~(long) RAW_CHUNK_MASK;
+        }
+        if (rawOffset + size > Integer.MAX_VALUE) {
+            throw new RuntimeException("Instruction table is full");
+        }
+        int rawChunk = (int) (rawOffset >>> RAW_CHUNK_SHIFT);
+        if (rawChunk == this.rawChunks.size()) {
+            this.rawChunks.add(this.arena.allocate(RAW_CHUNK_BYTES));
+        }
+
+        int index = this.rowCount & CHUNK_MASK;
+        if (index == 0) {
+            this.chunks.add(this.arena.allocate(CHUNK_BYTES, 8));
+        }
+        MemorySegment chunk = this.chunks.get(this.rowCount >>> CHUNK_SHIFT);
+        chunk.set(ValueLayout.JAVA_LONG, ADDRESS_COLUMN + 8L * index, address);
+        chunk.set(ValueLayout.JAVA_INT, RAW_OFFSET_COLUMN + 4L * index, (int) rawOffset);
+        chunk.set(ValueLayout.JAVA_INT, ID_COLUMN + 4L * index, id);
+        chunk.set(ValueLayout.JAVA_INT, PROFILE_COLUMN + 4L * index, profileId);
+        chunk.set(ValueLayout.JAVA_SHORT, MNEMONIC_COLUMN + 2L * index, (short) mnemonicId);
+        chunk.set(ValueLayout.JAVA_BYTE, SIZE_COLUMN + index, (byte) size);
+
+        this.rowCount++;
+        this.rawSize = rawOffset + size;
+        return this.rawChunks.get(rawChunk).asSlice(rawOffset & RAW_CHUNK_MASK, size);
+    }
+
+    /**
+     * Returns the dictionary identifier of a NUL-terminated native mnemonic.
+     * <p>
+     * Most instruction identifiers always use the same mnemonic, so the mnemonic last seen for an
+     * identifier is compared first and a Java string is only created when it does not match.
+     */
+    private int internMnemonic(int id, MemorySegment mnemonic) {
+        if (id >= 0 && id < this.lastMnemonicById.length) {
+            int candidate = this.lastMnemonicById[id] - 1;
+            if (candidate >= 0 && matches(mnemonic, this.mnemonicBytes.get(candidate))) {
+                return candidate;
+            }
+        }
+
+        String value = mnemonic.getString(0);
+        Integer existing = this.mnemonicIds.get(value);
+        int mnemonicId = existing != null ? existing : addMnemonic(value);
+        if (id >= 0) {
+            if (id >= this.lastMnemonicById.length) {
+                this.lastMnemonicById = Arrays.copyOf(this.lastMnemonicById, Math.max(id + 1, this.lastMnemonicById.length * 2));
+            }
+            this.lastMnemonicById[id] = mnemonicId + 1;
+        }
+        return mnemonicId;
+    }
+
+    private int addMnemonic(String value) {
+        int mnemonicId = this.mnemonics.size();
+        if (mnemonicId == MAX_MNEMONICS) {
+            throw new RuntimeException("Too many distinct mnemonics in instruction table");
+        }
+        this.mnemonics.add(value);
+        this.mnemonicBytes.add(value.getBytes());
+        this.mnemonicIds.put(value, mnemonicId);
+        return mnemonicId;
+    }
+
+    private static boolean matches(MemorySegment mnemonic, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (mnemonic.get(ValueLayout.JAVA_BYTE, i) != expected[i]) {
+                return false;
+            }
+        }
+        return mnemonic.get(ValueLayout.JAVA_BYTE, expected.length) == 0;
+    }
+
+    /**
+     * Reads the groups and register accesses of an instruction into the probe profile and
+     * returns the identifier of the matching stored profile, adding it if it is new.
+     * <p>
+     * The register accesses are collected through the decode context of the handle, which reuses its
+     * buffers and reports no accesses for the data pseudo-instructions of SKIPDATA mode.
+     */
+    private int internProfile(CapstoneHandle owner, MemorySegment insn, MemorySegment detail) {
+        CapstoneRegAccess regAccess = owner.regsAccess(insn);
+
+        AccessProfile probe = this.probe;
+        probe.groups = readBytes(cs_detail.groups(detail), cs_detail.groups_count(detail) & 0xFF, probe.groups);
+        probe.regsRead = regAccess.getRegsRead();
+        probe.regsWrite = regAccess.getRegsWrite();
+
+        Integer existing = this.profileIds.get(probe);
+        if (existing != null) {
+            return existing;
+        }
+        AccessProfile profile = new AccessProfile(probe.groups.clone(), probe.regsRead.clone(), probe.regsWrite.clone());
+        int profileId = this.profiles.size();
+        this.profiles.add(profile);
+        this.profileIds.put(profile, profileId);
+        return profileId;
+    }
+
+    private static int[] readBytes(MemorySegment segment, int count, int[] reuse) {
+        int[] values = reuse != null && reuse.length == count ? reuse : new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = segment.get(ValueLayout.JAVA_BYTE, i) & 0xFF;
+        }
+        return values;
+    }
+
+    /**
+     * The groups and register accesses shared by the rows of a table.
+     * <p>
+     * Group and register identifiers are too large to be stored as a fixed-size bitmask in every
+     * row, so each distinct combination is stored once together with bitmasks over its identifiers.
+     * The probe instance used for lookups has no masks and is never stored.
+     */
+    private static final class AccessProfile {
+
+        private int[] groups;
+        private int[] regsRead;
+        private int[] regsWrite;
+
+        private final CapstoneIdSet groupMask;
+        private final CapstoneIdSet readMask;
+        private final CapstoneIdSet writeMask;
+
+        private AccessProfile() {
+            this.groupMask = null;
+            this.readMask = null;
+            this.writeMask = null;
+        }
+
+        private AccessProfile(int[] groups, int[] regsRead, int[] regsWrite) {
+            this.groups = groups;
+            this.regsRead = regsRead;
+            this.regsWrite = regsWrite;
+            this.groupMask = CapstoneIdSet.of(groups);
+            this.readMask = CapstoneIdSet.of(regsRead);
+            this.writeMask = CapstoneIdSet.of(regsWrite);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof AccessProfile other
+                && Arrays.equals(this.groups, other.groups)
+                && Arrays.equals(this.regsRead, other.regsRead)
+                && Arrays.equals(this.regsWrite, other.regsWrite);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Arrays.hashCode(this.groups);
+            hash = 31 * hash + Arrays.hashCode(this.regsRead);
+            return 31 * hash + Arrays.hashCode(this.regsWrite);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import com.suko.capstone4j.internal.cs_detail;
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * A heap snapshot of the native {@code cs_insn} and {@code cs_detail} structures of an instruction,
+ * used to decode its details on first access.
+ * <p>
+ * Decoding the details of an instruction requires a {@code cs_regs_access} call and a full parse of
+ * the architecture-specific operands. With lazy details enabled, the factory only copies the raw
+ * structures into two byte arrays and defers the decoding to {@link #load()}, which is called by
+ * {@link CapstoneInstruction#getDetails()}. Only the part of {@code cs_detail} that belongs to the
+ * architecture of the handle is copied.
+ * <p>
+ * {@code cs_regs_access} needs the Capstone handle that decoded the instruction, so the details can
+ * only be loaded while that handle is open and has not turned the {@link CapstoneOption#DETAIL} option
+ * off since the instruction was decoded. Loading uses the native handle and its decode context, which
+ * are not thread-safe, so {@link #load()} must be called on the thread that uses the handle.
+ */
+final class CapstoneLazyDetails {
+
+    private final CapstoneHandle owner;
+    private final int detailGeneration;
+    private final byte[] instruction;
+    private final byte[] details;
+
+    private CapstoneLazyDetails(CapstoneHandle owner, byte[] instruction, byte[] details) {
+        this.owner = owner;
+        this.detailGeneration = owner.getDetailGeneration();
+        this.instruction = instruction;
+        this.details = details;
+    }
+
+    /**
+     * Copies the native structures of a decoded instruction to the heap.
+     *
+     * @param owner the handle that decoded the instruction
+     * @param instructionSegment the decoded {@code cs_insn} structure
+     * @return the snapshot
+     */
+    static CapstoneLazyDetails snapshot(CapstoneHandle owner, MemorySegment instructionSegment) {
+        byte[] instruction = instructionSegment.asSlice(0, cs_insn.sizeof()).toArray(ValueLayout.JAVA_BYTE);
+        long detailsSize = CapstoneArchDetailsParsers.detailsSize(owner.getArch());
+        byte[] details = cs_insn.detail(instructionSegment).asSlice(0, detailsSize).toArray(ValueLayout.JAVA_BYTE);
+        return new CapstoneLazyDetails(owner, instruction, details);
+    }
+
+    /**
+     * Decodes the details from the snapshot.
+     *
+     * @param <A> the type of architecture-specific details
+     * @return the decoded details
+     * @throws IllegalStateException if the handle that decoded the instruction has been closed, or has
+     *                               turned the {@link CapstoneOption#DETAIL} option off since
+     */
+    @SuppressWarnings("unchecked")
+    <A extends CapstoneArchDetails<?>> CapstoneInstructionDetails<A> load() {
+        if (this.owner.isClosed()) {
+            throw new IllegalStateException("Cannot decode instruction details, the Capstone handle has been closed");
+        }
+        if (this.owner.getDetailGeneration() != this.detailGeneration) {
+            throw new IllegalStateException("Cannot decode instruction details, the DETAIL option of the Capstone handle has been turned off since the instruction was decoded");
+        }
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment instructionSegment = arena.allocate(cs_insn.layout());
+            MemorySegment.copy(this.instruction, 0, instructionSegment, ValueLayout.JAVA_BYTE, 0, this.instruction.length);
+            MemorySegment detailsSegment = arena.allocate(cs_detail.layout());
+            MemorySegment.copy(this.details, 0, detailsSegment, ValueLayout.JAVA_BYTE, 0, this.details.length);
+            cs_insn.detail(instructionSegment, detailsSegment);
+
+            CapstoneInstructionDetails<?> details = CapstoneInstructionFactory.parseInstructionDetails(this.owner, instructionSegment, detailsSegment);
+            return (CapstoneInstructionDetails<A>) details;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.suko.capstone4j;
 
+import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 
 import com.suko.capstone4j.internal.cs_calloc_t;
@@ -16,12 +17,19 @@ import com.suko.capstone4j.internal.cs_vsnprintf_t;
  * that are used by the Capstone library. These function pointers delegate to a provided {@link CapstoneMemoryProvider}
  * implementation.
  * </p>
+ * <p>
+ * The function pointers are upcall stubs allocated in a separate arena, which must stay open as long as
+ * Capstone may call the functions, regardless of the arena the memory provider allocates from.
+ * </p>
  */
 class CapstoneMemoryManager {
 
     /** The memory provider that handles actual memory operations. */
     private final CapstoneMemoryProvider memoryProvider;
 
+    /** The arena holding the upcall stubs and the memory options structure. */
+    private final Arena stubArena;
+
     /** Function pointer for malloc operations. */
     private final MemorySegment mallocFuncPtr;
     
@@ -44,9 +52,11 @@ class CapstoneMemoryManager {
      * </p>
      *
      * @param memoryProvider The provider that will handle actual memory operations
+     * @param stubArena The arena the function pointers are allocated in
      */
-    CapstoneMemoryManager(CapstoneMemoryProvider memoryProvider) {
+    CapstoneMemoryManager(CapstoneMemoryProvider memoryProvider, Arena stubArena) {
         this.memoryProvider = memoryProvider;
+        this.stubArena = stubArena;
 
         this.mallocFuncPtr = createMallocFunctionPointer();
         this.callocFuncPtr = createCallocFunctionPointer();
@@ -61,7 +71,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the function pointer
      */
     private MemorySegment createMallocFunctionPointer() {
-        return cs_malloc_t.allocate((size) -> memoryProvider.malloc(size), memoryProvider.getArena());
+        return cs_malloc_t.allocate((size) -> memoryProvider.malloc(size), stubArena);
     }
 
     /**
@@ -70,7 +80,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the function pointer
      */
     private MemorySegment createCallocFunctionPointer() {
-        return cs_calloc_t.allocate((nmemb, size) -> memoryProvider.calloc(nmemb, size), memoryProvider.getArena());
+        return cs_calloc_t.allocate((nmemb, size) -> memoryProvider.calloc(nmemb, size), stubArena);
     }
 
     /**
@@ -79,7 +89,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the function pointer
      */
     private MemorySegment createReallocFunctionPointer() {
-        return cs_realloc_t.allocate((ptr, size) -> memoryProvider.realloc(ptr, size), memoryProvider.getArena());
+        return cs_realloc_t.allocate((ptr, size) -> memoryProvider.realloc(ptr, size), stubArena);
     }
 
     /**
@@ -88,7 +98,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the function pointer
      */
     private MemorySegment createFreeFunctionPointer() {
-        return cs_free_t.allocate((ptr) -> memoryProvider.free(ptr), memoryProvider.getArena());
+        return cs_free_t.allocate((ptr) -> memoryProvider.free(ptr), stubArena);
     }
 
     /**
@@ -97,7 +107,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the function pointer
      */
     private MemorySegment createVsnprintfFunctionPointer() {
-        return cs_vsnprintf_t.allocate((str, size, format, ap) -> memoryProvider.vsnprintf(str, size, format, ap), memoryProvider.getArena());
+        return cs_vsnprintf_t.allocate((str, size, format, ap) -> memoryProvider.vsnprintf(str, size, format, ap), stubArena);
     }
 
     /**
@@ -109,7 +119,7 @@ class CapstoneMemoryManager {
      * @return A MemorySegment containing the memory options structure
      */
     public MemorySegment createMemoryOptions() {
-        MemorySegment memOpt = cs_opt_mem.allocate(memoryProvider.getArena());
+        MemorySegment memOpt = cs_opt_mem.allocate(stubArena);
 
         cs_opt_mem.malloc(memOpt, mallocFuncPtr);
         cs_opt_mem.calloc(memOpt, callocFuncPtr);
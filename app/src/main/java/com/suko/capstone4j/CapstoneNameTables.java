@@ -0,0 +1,175 @@
+package com.suko.capstone4j;
+
+import static com.suko.capstone4j.internal.CapstoneConstants.*;
+import static com.suko.capstone4j.internal.CapstoneNative.*;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.suko.capstone4j.internal.CapstoneNative;
+
+
+/**
+ * Register, instruction and group names of an architecture, indexed by their identifiers.
+ * <p>
+ * {@link CapstoneHandle#getRegName(int)}, {@link CapstoneHandle#getInsnName(int)} and
+ * {@link CapstoneHandle#getGroupName(int)} are called several times per instruction when printing
+ * listings. Each call used to be a downcall followed by decoding a C string into a new Java string, so
+ * the names of an architecture are decoded once into immutable arrays instead, and a lookup is a bounds
+ * check plus an array load.
+ * <p>
+ * The names only depend on the architecture, the modes and the syntax of a handle, so handles with the
+ * same configuration share one instance. Every table is filled on its first use, with one downcall for
+ * each identifier below the {@code *_ENDING} value of the architecture. Identifiers outside the table,
+ * for example of architectures without such a value, are still looked up with a downcall. Register and
+ * instruction names are looked up through {@link CapstoneCriticalBindings}, as those functions only
+ * read static tables.
+ */
+final class CapstoneNameTables {
+
+    private static final Map<Key, CapstoneNameTables> SHARED = new ConcurrentHashMap<>();
+
+    private static final String[] EMPTY = new String[0];
+
+    /**
+     * The configuration of a handle that influences the names.
+     */
+    record Key(CapstoneArch arch, Set<CapstoneMode> modes, Set<CapstoneOptionValue> syntax, Set<CapstoneOptionValue> mode) {
+    }
+
+    /**
+     * Looks up the name of an identifier with a downcall.
+     */
+    @FunctionalInterface
+    private interface NameFunction {
+        MemorySegment name(long handle, int id);
+    }
+
+    private final int regEnding;
+    private final int insnEnding;
+    private final int groupEnding;
+
+    private volatile String[] regNames;
+    private volatile String[] insnNames;
+    private volatile String[] groupNames;
+
+    private CapstoneNameTables(CapstoneArch arch) {
+        int[] endings = endings(arch);
+        this.regEnding = endings[0];
+        this.insnEnding = endings[1];
+        this.groupEnding = endings[2];
+    }
+
+    /**
+     * Returns the name tables shared by all handles with the given configuration.
+     *
+     * @param key the configuration of the handle
+     * @return the shared name tables
+     */
+    static CapstoneNameTables forKey(Key key) {
+        return SHARED.computeIfAbsent(key, k -> new CapstoneNameTables(k.arch()));
+    }
+
+    /**
+     * Returns the name of a register.
+     *
+     * @param handle the {@code csh} value of a handle with the configuration of these tables
+     * @param regId the register identifier
+     * @return the name, or {@code null} if the register has no name
+     */
+    String getRegName(long handle, int regId) {
+        String[] names = this.regNames;
+        if (names == null) {
+            names = this.regNames = build(handle, this.regEnding, CapstoneCriticalBindings::cs_reg_name);
+        }
+        return regId >= 0 && regId < names.length ? names[regId] : lookup(handle, regId, CapstoneCriticalBindings::cs_reg_name);
+    }
+
+    /**
+     * Returns the name of an instruction.
+     *
+     * @param handle the {@code csh} value of a handle with the configuration of these tables
+     * @param insnId the instruction identifier
+     * @return the name, or {@code null} if the instruction has no name
+     */
+    String getInsnName(long handle, int insnId) {
+        String[] names = this.insnNames;
+        if (names == null) {
+            names = this.insnNames = build(handle, this.insnEnding, CapstoneCriticalBindings::cs_insn_name);
+        }
+        return insnId >= 0 && insnId < names.length ? names[insnId] : lookup(handle, insnId, CapstoneCriticalBindings::cs_insn_name);
+    }
+
+    /**
+     * Returns the name of an instruction group.
+     *
+     * @param handle the {@code csh} value of a handle with the configuration of these tables
+     * @param groupId the group identifier
+     * @return the name, or {@code null} if the group has no name
+     */
+    String getGroupName(long handle, int groupId) {
+        String[] names = this.groupNames;
+        if (names == null) {
+            names = this.groupNames = build(handle, this.groupEnding, CapstoneNative::cs_group_name);
+        }
+        return groupId >= 0 && groupId < names.length ? names[groupId] : lookup(handle, groupId, CapstoneNative::cs_group_name);
+    }
+
+    /**
+     * Decodes the names of all identifiers below {@code ending}. Several threads may build the same
+     * table at the same time, they produce equal arrays and the last one wins.
+     */
+    private static String[] build(long handle, int ending, NameFunction function) {
+        if (ending <= 0) {
+            return EMPTY;
+        }
+        String[] names = new String[ending];
+        for (int id = 0; id < ending; id++) {
+            names[id] = lookup(handle, id, function);
+        }
+        return names;
+    }
+
+    private static String lookup(long handle, int id, NameFunction function) {
+        MemorySegment name = function.name(handle, id);
+        if (name == null || name.byteSize() == 0 || name == MemorySegment.NULL) {
+            return null;
+        }
+        return name.getString(0);
+    }
+
+    /**
+     * Returns the register, instruction and group {@code *_ENDING} values of an architecture, or 0 for
+     * the tables the bindings do not have one for.
+     */
+    private static int[] endings(CapstoneArch arch) {
+        return switch (arch) {
+            case ARM -> new int[] { ARM_REG_ENDING, ARM_INS_ENDING, ARM_GRP_ENDING };
+            case AARCH64 -> new int[] { AARCH64_REG_ENDING, AARCH64_INS_ENDING, AARCH64_GRP_ENDING };
+            case SYSTEMZ -> new int[] { SYSTEMZ_REG_ENDING, SYSTEMZ_INS_ENDING, SYSTEMZ_GRP_ENDING };
+            case MIPS -> new int[] { MIPS_REG_ENDING, MIPS_INS_ENDING, MIPS_GRP_ENDING };
+            case X86 -> new int[] { X86_REG_ENDING, X86_INS_ENDING, X86_GRP_ENDING };
+            case PPC -> new int[] { PPC_REG_ENDING, PPC_INS_ENDING, PPC_GRP_ENDING };
+            case SPARC -> new int[] { SPARC_REG_ENDING, SPARC_INS_ENDING, SPARC_GRP_ENDING };
+            case XCORE -> new int[] { XCORE_REG_ENDING, XCORE_INS_ENDING, XCORE_GRP_ENDING };
+            case M68K -> new int[] { M68K_REG_ENDING, M68K_INS_ENDING, M68K_GRP_ENDING };
+            case TMS320C64X -> new int[] { TMS320C64X_REG_ENDING, TMS320C64X_INS_ENDING, TMS320C64X_GRP_ENDING };
+            case M680X -> new int[] { M680X_REG_ENDING, M680X_INS_ENDING, M680X_GRP_ENDING };
+            case EVM -> new int[] { 0, EVM_INS_ENDING, EVM_GRP_ENDING };
+            case MOS65XX -> new int[] { MOS65XX_REG_ENDING, MOS65XX_INS_ENDING, MOS65XX_GRP_ENDING };
+            case WASM -> new int[] { 0, WASM_INS_ENDING, WASM_GRP_ENDING };
+            case BPF -> new int[] { BPF_REG_ENDING, BPF_INS_ENDING, BPF_GRP_ENDING };
+            case RISCV -> new int[] { RISCV_REG_ENDING, RISCV_INS_ENDING, RISCV_GRP_ENDING };
+            case SH -> new int[] { SH_REG_ENDING, SH_INS_ENDING, SH_GRP_ENDING };
+            case TRICORE -> new int[] { TRICORE_REG_ENDING, TRICORE_INS_ENDING, TRICORE_GRP_ENDING };
+            case ALPHA -> new int[] { Alpha_REG_ENDING, ALPHA_INS_ENDING, Alpha_GRP_ENDING };
+            case HPPA -> new int[] { HPPA_REG_ENDING, HPPA_INS_ENDING, HPPA_GRP_ENDING };
+            case LOONGARCH -> new int[] { LOONGARCH_REG_ENDING, LOONGARCH_INS_ENDING, LOONGARCH_GRP_ENDING };
+            case XTENSA -> new int[] { XTENSA_REG_ENDING, 0, XTENSA_GRP_ENDING };
+            case ARC -> new int[] { ARC_REG_ENDING, 0, ARC_GRP_ENDING };
+            default -> new int[] { 0, 0, 0 };
+        };
+    }
+}
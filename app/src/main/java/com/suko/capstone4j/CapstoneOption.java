@@ -1,22 +1,23 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneConstants.*;
 
 public enum CapstoneOption {
 
-    INVALID(CS_OPT_INVALID()),
-    SYNTAX(CS_OPT_SYNTAX()),
-    DETAIL(CS_OPT_DETAIL()),
-    MODE(CS_OPT_MODE()),
-    MEM(CS_OPT_MEM()),
-    SKIPDATA(CS_OPT_SKIPDATA()),
-    SKIPDATA_SETUP(CS_OPT_SKIPDATA_SETUP()),
-    MNEMONIC(CS_OPT_MNEMONIC()),
-    UNSIGNED(CS_OPT_UNSIGNED()),
-    ONLY_OFFSET_BRANCH(CS_OPT_ONLY_OFFSET_BRANCH()),
-    LITBASE(CS_OPT_LITBASE());
+    INVALID(CS_OPT_INVALID),
+    SYNTAX(CS_OPT_SYNTAX),
+    DETAIL(CS_OPT_DETAIL),
+    MODE(CS_OPT_MODE),
+    MEM(CS_OPT_MEM),
+    SKIPDATA(CS_OPT_SKIPDATA),
+    SKIPDATA_SETUP(CS_OPT_SKIPDATA_SETUP),
+    MNEMONIC(CS_OPT_MNEMONIC),
+    UNSIGNED(CS_OPT_UNSIGNED),
+    ONLY_OFFSET_BRANCH(CS_OPT_ONLY_OFFSET_BRANCH),
+    LITBASE(CS_OPT_LITBASE);
 
     private final int value;
+    private static final CapstoneEnumLookup<CapstoneOption> LOOKUP = CapstoneEnumLookup.of(values(), option -> option.value);
 
     CapstoneOption(int value) {
         this.value = value;
@@ -27,11 +28,7 @@ public enum CapstoneOption {
     }
 
     public static CapstoneOption fromValue(int value) {
-        for (CapstoneOption option : CapstoneOption.values()) {
-            if (option.value == value) {
-                return option;
-            }
-        }
-        return INVALID;
+        CapstoneOption option = LOOKUP.get(value);
+        return option != null ? option : INVALID;
     }
 }
\ No newline at end of file
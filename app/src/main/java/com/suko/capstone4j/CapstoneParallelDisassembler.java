@@ -0,0 +1,327 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Disassembles large memory segments on several cores.
+ * <p>
+ * A linear sweep over a memory segment, as done by {@link CapstoneHandle#disassembleMemory(MemorySegment, long, long)},
+ * is inherently sequential: where an instruction starts depends on the size of the instruction before it.
+ * This class splits the segment into ranges, decodes every range with its own handle borrowed from a
+ * {@link CapstoneHandlePool} in a {@link ForkJoinPool}, and stitches the ranges together afterwards.
+ * <p>
+ * Every range is decoded as if an instruction started at its first byte, and decoding continues past its
+ * end until an instruction starts at or after the end. When the ranges are stitched, the end of the last
+ * instruction of the previous range is the offset at which the sequential sweep enters the range. If the
+ * range decoded an instruction at that offset, the rest of the range is identical to the sequential sweep,
+ * because decoding only depends on the offset it starts at. Otherwise the instructions are decoded again
+ * from that offset until one of them starts at an offset the range decoded as well, which on x86 usually
+ * happens after a few instructions. The result is therefore identical to the result of
+ * {@link CapstoneHandle#disassembleMemory(MemorySegment, long, long)}, including the "bad" instructions
+ * produced for undecodable bytes.
+ * <p>
+ * For architectures with fixed instruction sizes, such as AArch64 or ARM outside of Thumb mode, the ranges
+ * are aligned to the instruction size, so the ranges line up without decoding anything again unless the
+ * code contains undecodable bytes.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * CapstoneHandlePool.Key key = CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64);
+ * try (CapstoneHandlePool pool = CapstoneHandlePool.builder().build();
+ *      Arena arena = Arena.ofShared();
+ *      FileChannel channel = FileChannel.open(Paths.get("firmware.bin"), StandardOpenOption.READ)) {
+ *     MemorySegment image = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+ *     CapstoneParallelDisassembler disassembler = CapstoneParallelDisassembler.builder(pool, key).build();
+ *     List<CapstoneInstruction<CapstoneX86Details>> instructions = disassembler.disassemble(image, image.byteSize(), 0x1000);
+ *     // Process instructions...
+ * }
+ * }</pre>
+ * <p>
+ * The memory segment is read from several threads, so it must not be a segment of a confined arena.
+ * The handle pool should allow at least as many handles per key as the fork/join pool has threads, and
+ * must not use {@linkplain CapstoneHandlePool.Builder#lazyDetails(boolean) lazy details}: the instructions
+ * are returned after their handles went back to the pool, where other threads use them.
+ *
+ * @see CapstoneHandlePool
+ * @see CapstoneHandle#disassembleMemory(MemorySegment, long, long)
+ */
+public class CapstoneParallelDisassembler {
+
+    /** The default size of the ranges the segment is split into. */
+    public static final long DEFAULT_RANGE_SIZE = 1024 * 1024;
+
+    private final CapstoneHandlePool pool;
+    private final CapstoneHandlePool.Key key;
+    private final ForkJoinPool forkJoinPool;
+    private final long rangeSize;
+    private final int alignment;
+
+    private CapstoneParallelDisassembler(Builder builder) {
+        this.pool = builder.pool;
+        this.key = builder.key;
+        this.forkJoinPool = builder.forkJoinPool;
+        this.alignment = instructionAlignment(builder.key);
+        // round the range size up to the instruction alignment so that aligned code stays aligned
+        this.rangeSize = (builder.rangeSize + this.alignment - 1) / this.alignment * this.alignment;
+    }
+
+    /**
+     * Creates a new builder for a parallel disassembler using handles for {@code key} from {@code pool}.
+     *
+     * @param pool the pool the handles are borrowed from
+     * @param key the architecture, modes and options of the handles
+     * @return a new builder
+     * @throws IllegalArgumentException if the handles of the pool decode instruction details lazily
+     */
+    public static Builder builder(CapstoneHandlePool pool, CapstoneHandlePool.Key key) {
+        return new Builder(pool, key);
+    }
+
+    /**
+     * Disassembles {@code size} bytes of {@code memorySegment} on the fork/join pool.
+     *
+     * @param <A> the type of architecture-specific details the instructions will contain
+     * @param memorySegment the memory segment containing the code to disassemble
+     * @param size the size of the code in bytes
+     * @param startAddress the virtual address where the code is located
+     * @return the disassembled instructions, identical to the result of a sequential sweep
+     * @throws RuntimeException if disassembly fails
+     */
+    public <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> List<CapstoneInstruction<A>> disassemble(MemorySegment memorySegment, long size, long startAddress) {
+        Objects.requireNonNull(memorySegment, "memorySegment");
+        if (size < 0 || size > memorySegment.byteSize()) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        if (size == 0) {
+            return new ArrayList<>();
+        }
+
+        int rangeCount = (int) ((size + this.rangeSize - 1) / this.rangeSize);
+        @SuppressWarnings("unchecked")
+        List<CapstoneInstruction<A>>[] ranges = new List[rangeCount];
+        this.forkJoinPool.invoke(new RangeTask<>(memorySegment, size, startAddress, ranges, 0, rangeCount));
+        return stitch(memorySegment, size, startAddress, ranges);
+    }
+
+    private <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> List<CapstoneInstruction<A>> stitch(MemorySegment memorySegment, long size, long startAddress, List<CapstoneInstruction<A>>[] ranges) {
+        int total = 0;
+        for (List<CapstoneInstruction<A>> range : ranges) {
+            total += range.size();
+        }
+        List<CapstoneInstruction<A>> instructions = new ArrayList<>(total);
+        instructions.addAll(ranges[0]);
+        long next = endOffset(ranges[0], startAddress, 0);
+
+        for (int i = 1; i < ranges.length; i++) {
+            List<CapstoneInstruction<A>> range = ranges[i];
+            long rangeEnd = Math.min(size, (i + 1) * this.rangeSize);
+            int index = indexOf(range, startAddress + next);
+            if (index >= 0) {
+                instructions.addAll(range.subList(index, range.size()));
+                next = endOffset(range, startAddress, next);
+                continue;
+            }
+            if (next >= rangeEnd) {
+                // the previous range ended with an instruction that covers this whole range
+                continue;
+            }
+
+            // the range started in the middle of an instruction, decode again until the sweeps meet
+            try (CapstoneHandlePool.Lease lease = borrow();
+                 CapstoneInstructionCursor<A> cursor = lease.handle().cursor(memorySegment.asSlice(next), size - next, startAddress + next)) {
+                boolean resynchronized = false;
+                while (cursor.offset() < rangeEnd - next && cursor.next()) {
+                    index = indexOf(range, cursor.address());
+                    if (index >= 0) {
+                        instructions.addAll(range.subList(index, range.size()));
+                        resynchronized = true;
+                        break;
+                    }
+                    instructions.add(cursor.toInstruction());
+                }
+                next = resynchronized ? endOffset(range, startAddress, next) : next + cursor.offset();
+            }
+        }
+        return instructions;
+    }
+
+    private CapstoneHandlePool.Lease borrow() {
+        BorrowBlocker blocker = new BorrowBlocker();
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a Capstone handle", e);
+        }
+        return blocker.lease;
+    }
+
+    private static <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> int indexOf(List<CapstoneInstruction<A>> instructions, long address) {
+        int low = 0;
+        int high = instructions.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midAddress = instructions.get(mid).getAddress();
+            if (midAddress < address) {
+                low = mid + 1;
+            } else if (midAddress > address) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static <A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> long endOffset(List<CapstoneInstruction<A>> instructions, long startAddress, long fallback) {
+        if (instructions.isEmpty()) {
+            return fallback;
+        }
+        CapstoneInstruction<A> last = instructions.get(instructions.size() - 1);
+        return last.getAddress() + last.getSize() - startAddress;
+    }
+
+    private static int instructionAlignment(CapstoneHandlePool.Key key) {
+        return switch (key.getArch()) {
+            case AARCH64 -> 4;
+            case ARM -> key.getModes().contains(CapstoneMode.THUMB) ? 2 : 4;
+            default -> 1;
+        };
+    }
+
+    /**
+     * Decodes the ranges {@code [from, to)} by splitting them in halves until a single range is left.
+     */
+    private final class RangeTask<A extends CapstoneArchDetails<?> & MemorySegmentCreatable<A>> extends RecursiveAction {
+
+        private final MemorySegment memorySegment;
+        private final long size;
+        private final long startAddress;
+        private final List<CapstoneInstruction<A>>[] ranges;
+        private final int from;
+        private final int to;
+
+        RangeTask(MemorySegment memorySegment, long size, long startAddress, List<CapstoneInstruction<A>>[] ranges, int from, int to) {
+            this.memorySegment = memorySegment;
+            this.size = size;
+            this.startAddress = startAddress;
+            this.ranges = ranges;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > 1) {
+                int mid = (this.from + this.to) >>> 1;
+                invokeAll(new RangeTask<>(this.memorySegment, this.size, this.startAddress, this.ranges, this.from, mid),
+                        new RangeTask<>(this.memorySegment, this.size, this.startAddress, this.ranges, mid, this.to));
+                return;
+            }
+
+            long rangeStart = this.from * rangeSize;
+            long rangeLength = Math.min(this.size, rangeStart + rangeSize) - rangeStart;
+            List<CapstoneInstruction<A>> instructions = new ArrayList<>();
+            // the cursor may read past the end of the range to decode the last instruction of the range
+            try (CapstoneHandlePool.Lease lease = borrow();
+                 CapstoneInstructionCursor<A> cursor = lease.handle().cursor(this.memorySegment.asSlice(rangeStart), this.size - rangeStart, this.startAddress + rangeStart)) {
+                while (cursor.offset() < rangeLength && cursor.next()) {
+                    instructions.add(cursor.toInstruction());
+                }
+            }
+            this.ranges[this.from] = instructions;
+        }
+    }
+
+    /**
+     * Lets the fork/join pool start a compensating thread while a worker waits for a handle.
+     */
+    private final class BorrowBlocker implements ForkJoinPool.ManagedBlocker {
+
+        private CapstoneHandlePool.Lease lease;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (this.lease == null) {
+                this.lease = pool.borrow(key);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (this.lease == null) {
+                try {
+                    this.lease = pool.borrow(key, 0, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+            return this.lease != null;
+        }
+    }
+
+    /**
+     * Builder for {@link CapstoneParallelDisassembler}.
+     */
+    public static class Builder {
+        private final CapstoneHandlePool pool;
+        private final CapstoneHandlePool.Key key;
+        private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+        private long rangeSize = DEFAULT_RANGE_SIZE;
+
+        private Builder(CapstoneHandlePool pool, CapstoneHandlePool.Key key) {
+            this.pool = Objects.requireNonNull(pool, "pool");
+            this.key = Objects.requireNonNull(key, "key");
+            if (pool.isLazyDetails()) {
+                throw new IllegalArgumentException("Handle pools with lazy details cannot be used for parallel disassembly");
+            }
+        }
+
+        /**
+         * Sets the fork/join pool the ranges are decoded in. Defaults to the common pool.
+         *
+         * @param forkJoinPool the fork/join pool
+         * @return this builder
+         */
+        public Builder forkJoinPool(ForkJoinPool forkJoinPool) {
+            if(forkJoinPool == null) {
+                throw new IllegalArgumentException("Fork/join pool cannot be null");
+            }
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * Sets the size of the ranges the segment is split into. Defaults to 1 MB.
+         * <p>
+         * Smaller ranges spread the work more evenly, larger ranges need fewer handles and less stitching.
+         *
+         * @param rangeSize the range size in bytes
+         * @return this builder
+         */
+        public Builder rangeSize(long rangeSize) {
+            if(rangeSize <= 0) {
+                throw new IllegalArgumentException("Range size must be positive");
+            }
+            this.rangeSize = rangeSize;
+            return this;
+        }
+
+        /**
+         * Builds the {@link CapstoneParallelDisassembler} with the configured options.
+         *
+         * @return a new {@link CapstoneParallelDisassembler} instance
+         */
+        public CapstoneParallelDisassembler build() {
+            return new CapstoneParallelDisassembler(this);
+        }
+    }
+}
@@ -5,7 +5,9 @@ package com.suko.capstone4j;
  * <p>
  * This class encapsulates information about which registers are read from and written to
  * by an instruction during its execution. It stores arrays of register IDs along with
- * counts of how many registers are being accessed.
+ * counts of how many registers are being accessed, and the same registers as
+ * {@link CapstoneIdSet} bitmasks, so that membership tests such as {@link #isRegRead(int)}
+ * or {@link #readsAny(CapstoneIdSet)} do not have to scan the arrays.
  * <p>
  * Register access information is essential for various types of code analysis:
  * <ul>
@@ -67,6 +69,16 @@ public class CapstoneRegAccess {
      */
     private final int regsWriteCount;
 
+    /**
+     * Set of the register IDs that are read by the instruction.
+     */
+    private final CapstoneIdSet regsReadSet;
+
+    /**
+     * Set of the register IDs that are written to by the instruction.
+     */
+    private final CapstoneIdSet regsWriteSet;
+
     /**
      * Constructs a new CapstoneRegAccess object with the specified register access information.
      * <p>
@@ -83,6 +95,8 @@ public class CapstoneRegAccess {
         this.regsReadCount = regsReadCount;
         this.regsWrite = regsWrite;
         this.regsWriteCount = regsWriteCount;
+        this.regsReadSet = CapstoneIdSet.fromIds(regsRead, regsRead.length);
+        this.regsWriteSet = CapstoneIdSet.fromIds(regsWrite, regsWrite.length);
     }
 
     /**
@@ -162,4 +176,73 @@ public class CapstoneRegAccess {
     public int getRegsWriteCount() {
         return this.regsWriteCount;
     }
+
+    /**
+     * Returns the set of register IDs that are read by the instruction.
+     *
+     * @return the registers read by the instruction
+     * @see #getRegsRead()
+     */
+    public CapstoneIdSet getRegsReadSet() {
+        return this.regsReadSet;
+    }
+
+    /**
+     * Returns the set of register IDs that are written to by the instruction.
+     *
+     * @return the registers written by the instruction
+     * @see #getRegsWrite()
+     */
+    public CapstoneIdSet getRegsWriteSet() {
+        return this.regsWriteSet;
+    }
+
+    /**
+     * Returns whether the instruction reads a register.
+     *
+     * @param regId the architecture-specific register ID
+     * @return true if the register is read by the instruction, false otherwise
+     */
+    public boolean isRegRead(int regId) {
+        return this.regsReadSet.contains(regId);
+    }
+
+    /**
+     * Returns whether the instruction writes to a register.
+     *
+     * @param regId the architecture-specific register ID
+     * @return true if the register is written by the instruction, false otherwise
+     */
+    public boolean isRegWrite(int regId) {
+        return this.regsWriteSet.contains(regId);
+    }
+
+    /**
+     * Returns whether the instruction reads any of the given registers.
+     * <p>
+     * Example usage:
+     * <pre>{@code
+     * CapstoneIdSet framePointers = CapstoneIdSet.of(X86Reg.RSP.getValue(), X86Reg.RBP.getValue());
+     * if (regAccess.readsAny(framePointers)) {
+     *     // the instruction depends on the stack frame
+     * }
+     * }</pre>
+     *
+     * @param regs the registers to test
+     * @return true if at least one of the registers is read by the instruction, false otherwise
+     */
+    public boolean readsAny(CapstoneIdSet regs) {
+        return this.regsReadSet.intersects(regs);
+    }
+
+    /**
+     * Returns whether the instruction writes to any of the given registers.
+     *
+     * @param regs the registers to test
+     * @return true if at least one of the registers is written by the instruction, false otherwise
+     * @see #readsAny(CapstoneIdSet)
+     */
+    public boolean writesAny(CapstoneIdSet regs) {
+        return this.regsWriteSet.intersects(regs);
+    }
 }
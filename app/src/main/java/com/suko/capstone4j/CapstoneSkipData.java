@@ -0,0 +1,143 @@
+package com.suko.capstone4j;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Configuration of Capstone's SKIPDATA mode, in which undecodable bytes are returned as data
+ * pseudo-instructions instead of ending the disassembly.
+ * <p>
+ * This is the Java counterpart of the native {@code cs_opt_skipdata} structure. Applying it with
+ * {@link CapstoneHandle#setSkipData(CapstoneSkipData)} sets up and turns on
+ * {@link CapstoneOption#SKIPDATA}. Without a callback, Capstone skips a fixed, architecture-specific
+ * number of bytes, e.g. 1 on x86 and 4 on AArch64, and reports them as an instruction with the id 0
+ * and the configured mnemonic.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * handle.setSkipData(CapstoneSkipData.builder()
+ *     .mnemonic("db")
+ *     .callback((code, offset) -> 4)
+ *     .build());
+ * }</pre>
+ * <p>
+ * Caches key the instructions decoded in SKIPDATA mode on the whole configuration. A callback cannot
+ * be compared with another one, so every configuration with a callback gets a key of its own, which
+ * is not shared with configurations built later or by other processes.
+ *
+ * @see CapstoneHandle#setSkipData(CapstoneSkipData)
+ * @see CapstoneDataRun
+ */
+public final class CapstoneSkipData {
+
+    /** The mnemonic Capstone uses for data if none is configured. */
+    public static final String DEFAULT_MNEMONIC = ".byte";
+
+    /** Distinguishes the callbacks of this process from those of other processes sharing a disk cache. */
+    private static final String PROCESS_ID = UUID.randomUUID().toString();
+    private static final AtomicLong CALLBACK_SERIAL = new AtomicLong();
+
+    private final String mnemonic;
+    private final CapstoneSkipDataCallback callback;
+    private final String cacheKey;
+
+    private CapstoneSkipData(Builder builder) {
+        this.mnemonic = builder.mnemonic;
+        this.callback = builder.callback;
+        this.cacheKey = this.callback == null
+            ? this.mnemonic
+            : this.mnemonic + " callback " + PROCESS_ID + "/" + CALLBACK_SERIAL.incrementAndGet();
+    }
+
+    /**
+     * Returns the mnemonic of the data pseudo-instructions.
+     *
+     * @return the mnemonic
+     */
+    public String getMnemonic() {
+        return this.mnemonic;
+    }
+
+    /**
+     * Returns the callback deciding how many bytes are skipped.
+     *
+     * @return the callback, or {@code null} to use the default size of the architecture
+     */
+    public CapstoneSkipDataCallback getCallback() {
+        return this.callback;
+    }
+
+    /**
+     * Returns the part of a cache key identifying this configuration: the mnemonic, and a serial number
+     * unique to this configuration if it has a callback.
+     *
+     * @return the cache key of this configuration
+     */
+    String getCacheKey() {
+        return this.cacheKey;
+    }
+
+    /**
+     * Creates a new builder for {@link CapstoneSkipData}.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a configuration with the default mnemonic and no callback.
+     *
+     * @return the default configuration
+     */
+    public static CapstoneSkipData getDefault() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link CapstoneSkipData}.
+     */
+    public static class Builder {
+        private String mnemonic = DEFAULT_MNEMONIC;
+        private CapstoneSkipDataCallback callback;
+
+        private Builder() {
+            // Private constructor to enforce the use of builder() method
+        }
+
+        /**
+         * Sets the mnemonic of the data pseudo-instructions.
+         *
+         * @param mnemonic the mnemonic
+         * @return this builder
+         */
+        public Builder mnemonic(String mnemonic) {
+            if(mnemonic == null || mnemonic.isEmpty()) {
+                throw new IllegalArgumentException("Mnemonic cannot be null or empty");
+            }
+            this.mnemonic = mnemonic;
+            return this;
+        }
+
+        /**
+         * Sets the callback deciding how many bytes are skipped.
+         *
+         * @param callback the callback, or {@code null} to use the default size of the architecture
+         * @return this builder
+         */
+        public Builder callback(CapstoneSkipDataCallback callback) {
+            this.callback = callback;
+            return this;
+        }
+
+        /**
+         * Builds the configuration.
+         *
+         * @return the configuration
+         */
+        public CapstoneSkipData build() {
+            return new CapstoneSkipData(this);
+        }
+    }
+}
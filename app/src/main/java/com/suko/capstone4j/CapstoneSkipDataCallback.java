@@ -0,0 +1,35 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Decides how many bytes Capstone skips when it cannot decode an instruction while
+ * {@link CapstoneOption#SKIPDATA} is on.
+ * <p>
+ * This is the Java counterpart of the native {@code cs_skipdata_cb_t}. It is called from native code
+ * on the thread that is decoding and should return quickly. Exceptions cannot propagate through native
+ * code, a callback that throws is treated as if it returned 0.
+ *
+ * @see CapstoneSkipData.Builder#callback(CapstoneSkipDataCallback)
+ */
+@FunctionalInterface
+public interface CapstoneSkipDataCallback {
+
+    /**
+     * Returns the number of bytes to skip.
+     * <p>
+     * {@code code} is the buffer Capstone is decoding in the current call, which is not necessarily the
+     * whole input of the handle method. Methods that decode one instruction at a time with
+     * {@code cs_disasm_iter}, like cursors, streams and {@link CapstoneHandle#disassembleInstruction(byte[], long)},
+     * pass the remaining input starting at the undecodable byte, with an {@code offset} of 0. Methods
+     * decoding with {@code cs_disasm} pass the buffer of that call, which may itself start after the
+     * beginning of the input when it is decoded in batches. In every case the buffer ends at the end of
+     * the input, and a callback should only look at the bytes from {@code offset} on.
+     *
+     * @param code the buffer being decoded, from at or before the undecodable byte to the end of the input
+     * @param offset the offset of the first undecodable byte within {@code code}
+     * @return the number of bytes to skip as data, or 0 to skip nothing, in which case the byte is
+     *         reported as undecodable as if SKIPDATA was off
+     */
+    long skip(MemorySegment code, long offset);
+}
@@ -0,0 +1,275 @@
+package com.suko.capstone4j;
+
+import static com.suko.capstone4j.internal.CapstoneNative.*;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * Native scratch state reused by every decode operation of a {@link CapstoneHandle}.
+ * <p>
+ * A decode context owns the {@code cs_insn} buffer handed to {@code cs_disasm_iter} and the
+ * {@code code}/{@code size}/{@code address} cells that the native function advances in place.
+ * They are allocated once per handle instead of once per decoded instruction, so decoding an
+ * instruction does not allocate any native memory. The same applies to the {@code cs_regs} buffers
+ * filled by {@code cs_regs_access} when instruction details are parsed.
+ * <p>
+ * If the owning handle allows it, the context calls Capstone through {@link CapstoneCriticalBindings},
+ * which skips the thread state transition of a regular downcall. The handle is asked on every call, as
+ * setting up a {@link CapstoneSkipDataCallback} forbids critical downcalls on every context of the
+ * handle, including those of cursors and streams that are already open.
+ * <p>
+ * Like the Capstone handle it belongs to, a decode context is not thread-safe. This includes
+ * {@link #regsAccess(MemorySegment)}, which shares its buffers between all instructions: lazily
+ * decoded details call it when they are first read, so they must be read on the thread that uses the
+ * handle, while it is not decoding.
+ */
+final class DecodeContext implements AutoCloseable {
+
+    /** Inputs up to this size are staged in a reusable buffer instead of a temporary arena. */
+    static final int STAGING_CAPACITY = 256;
+
+    /** Number of entries of the {@code cs_regs} type. */
+    private static final int MAX_REGS = 64;
+
+    private final CapstoneHandle owner;
+    private final long handle;
+    private final Arena arena;
+
+    private final MemorySegment codeRef;
+    private final MemorySegment sizeRef;
+    private final MemorySegment addressRef;
+    private final MemorySegment insnArrayRef;
+
+    private MemorySegment staging;
+
+    private MemorySegment regsRead;
+    private MemorySegment regsReadCount;
+    private MemorySegment regsWrite;
+    private MemorySegment regsWriteCount;
+
+    private MemorySegment insn;
+
+    private MemorySegment code;
+    private long codeSize;
+
+    /**
+     * Creates a new decode context for the given Capstone handle.
+     *
+     * @param owner the handle deciding whether Capstone is called through critical downcalls, see
+     *              {@link CapstoneHandle#isCriticalDowncalls()}
+     * @param handle the native {@code csh} value of the owning handle
+     * @param arena the arena used for the context cells, usually the handle arena
+     */
+    DecodeContext(CapstoneHandle owner, long handle, Arena arena) {
+        this.owner = owner;
+        this.handle = handle;
+        this.arena = arena;
+        this.codeRef = arena.allocate(ValueLayout.ADDRESS);
+        this.sizeRef = arena.allocate(ValueLayout.JAVA_LONG);
+        this.addressRef = arena.allocate(ValueLayout.JAVA_LONG);
+        this.insnArrayRef = arena.allocate(ValueLayout.ADDRESS);
+    }
+
+    /**
+     * Returns whether Capstone is called through critical downcalls. Only then may the code passed to
+     * {@link #disasm(MemorySegment, long, long, long)} be a heap segment.
+     *
+     * @return true if critical downcalls are used, false otherwise
+     */
+    boolean isCritical() {
+        return this.owner.isCriticalDowncalls();
+    }
+
+    /**
+     * Copies {@code bytes} into the reusable staging buffer.
+     *
+     * @param bytes the bytes to stage, at most {@link #STAGING_CAPACITY} bytes long
+     * @return a segment over the staged bytes
+     */
+    MemorySegment stage(byte[] bytes) {
+        if (this.staging == null) {
+            this.staging = this.arena.allocate(STAGING_CAPACITY);
+        }
+        MemorySegment.copy(bytes, 0, this.staging, ValueLayout.JAVA_BYTE, 0, bytes.length);
+        return this.staging.asSlice(0, bytes.length);
+    }
+
+    /**
+     * Points the context at {@code size} bytes of {@code code}, starting at {@code offset}.
+     *
+     * @param code the native segment containing the code
+     * @param offset the offset of the first byte to decode
+     * @param size the total number of bytes of {@code code} that may be decoded
+     * @param address the virtual address of the byte at {@code offset}
+     */
+    void reset(MemorySegment code, long offset, long size, long address) {
+        this.code = code;
+        this.codeSize = size;
+        this.codeRef.set(ValueLayout.ADDRESS, 0, code.asSlice(offset));
+        this.sizeRef.set(ValueLayout.JAVA_LONG, 0, size - offset);
+        this.addressRef.set(ValueLayout.JAVA_LONG, 0, address);
+    }
+
+    /**
+     * Decodes the instruction at the current position into {@link #insn()}.
+     * <p>
+     * On success the position is advanced past the decoded instruction. On failure the
+     * position is left untouched.
+     *
+     * @return {@code true} if an instruction was decoded, {@code false} otherwise
+     */
+    boolean next() {
+        if (isCritical()) {
+            return CapstoneCriticalBindings.cs_disasm_iter(this.handle, this.codeRef, this.sizeRef, this.addressRef, insn());
+        }
+        return cs_disasm_iter(this.handle, this.codeRef, this.sizeRef, this.addressRef, insn());
+    }
+
+    /**
+     * Decodes up to {@code count} instructions with a single {@code cs_disasm} call.
+     * <p>
+     * The returned array is allocated by Capstone and must be released with
+     * {@code cs_free(array, count)} once the instructions have been materialized. The current
+     * position of the context is not affected.
+     *
+     * @param code the segment containing the code, a native segment or, if the context is
+     *             {@link #isCritical() critical}, a heap segment
+     * @param size the number of bytes of {@code code} that may be decoded
+     * @param address the virtual address of the first byte of {@code code}
+     * @param count the maximum number of instructions to decode, {@code 0} to decode as many as possible
+     * @return the {@code cs_insn} array, or {@link MemorySegment#NULL} if nothing was decoded
+     */
+    MemorySegment disasm(MemorySegment code, long size, long address, long count) {
+        long decoded = isCritical()
+            ? CapstoneCriticalBindings.cs_disasm(this.handle, code, size, address, count, this.insnArrayRef)
+            : cs_disasm(this.handle, code, size, address, count, this.insnArrayRef);
+        if (decoded == 0) {
+            return MemorySegment.NULL;
+        }
+        return this.insnArrayRef.get(ValueLayout.ADDRESS, 0).reinterpret(decoded * cs_insn.sizeof());
+    }
+
+    /**
+     * Advances the current position by {@code bytes} without decoding them.
+     *
+     * @param bytes the number of bytes to skip
+     */
+    void skip(long bytes) {
+        long offset = offset() + bytes;
+        this.codeRef.set(ValueLayout.ADDRESS, 0, this.code.asSlice(offset));
+        this.sizeRef.set(ValueLayout.JAVA_LONG, 0, this.codeSize - offset);
+        this.addressRef.set(ValueLayout.JAVA_LONG, 0, address() + bytes);
+    }
+
+    /**
+     * Returns the code segment passed to the last {@link #reset}.
+     *
+     * @return the code segment
+     */
+    MemorySegment code() {
+        return this.code;
+    }
+
+    /**
+     * Returns the offset of the current position within {@link #code()}.
+     *
+     * @return the current offset
+     */
+    long offset() {
+        return this.codeSize - remaining();
+    }
+
+    /**
+     * Returns the number of bytes left to decode.
+     *
+     * @return the remaining number of bytes
+     */
+    long remaining() {
+        return this.sizeRef.get(ValueLayout.JAVA_LONG, 0);
+    }
+
+    /**
+     * Returns the virtual address of the current position.
+     *
+     * @return the current address
+     */
+    long address() {
+        return this.addressRef.get(ValueLayout.JAVA_LONG, 0);
+    }
+
+    /**
+     * Returns the reusable {@code cs_insn} buffer, allocating it on first use.
+     *
+     * @return the instruction buffer
+     */
+    MemorySegment insn() {
+        if (this.insn == null) {
+            this.insn = cs_malloc(this.handle);
+        }
+        return this.insn;
+    }
+
+    /**
+     * Releases the {@code cs_insn} buffer so that the next decode allocates a new one.
+     * <p>
+     * {@code cs_malloc} only allocates the {@code cs_detail} part of the buffer when the detail
+     * option is on, so the buffer has to be replaced whenever that option changes.
+     */
+    void releaseInstruction() {
+        if (this.insn != null) {
+            cs_free(this.insn, 1);
+            this.insn = null;
+        }
+    }
+
+    /**
+     * Collects the registers read and written by an instruction with {@code cs_regs_access}, using
+     * buffers allocated on first use and reused for every later instruction.
+     *
+     * @param insn the {@code cs_insn} of the instruction, including its details
+     * @return the registers accessed by the instruction
+     * @throws RuntimeException if Capstone fails to report the register access
+     */
+    CapstoneRegAccess regsAccess(MemorySegment insn) {
+        if (this.regsRead == null) {
+            this.regsRead = this.arena.allocate(ValueLayout.JAVA_SHORT, MAX_REGS);
+            this.regsWrite = this.arena.allocate(ValueLayout.JAVA_SHORT, MAX_REGS);
+            this.regsReadCount = this.arena.allocate(ValueLayout.JAVA_BYTE);
+            this.regsWriteCount = this.arena.allocate(ValueLayout.JAVA_BYTE);
+        }
+        CapstoneError res = CapstoneError.fromValue(isCritical()
+            ? CapstoneCriticalBindings.cs_regs_access(this.handle, insn, this.regsRead, this.regsReadCount, this.regsWrite, this.regsWriteCount)
+            : cs_regs_access(this.handle, insn, this.regsRead, this.regsReadCount, this.regsWrite, this.regsWriteCount));
+        if (res == CapstoneError.SKIPDATA) {
+            // data pseudo-instructions emitted in SKIPDATA mode do not access any register
+            return new CapstoneRegAccess(new int[0], 0, new int[0], 0);
+        }
+        if (res != CapstoneError.OK) {
+            throw new RuntimeException("Failed to get register access information");
+        }
+        int[] read = readRegs(this.regsRead, this.regsReadCount.get(ValueLayout.JAVA_BYTE, 0) & 0xFF);
+        int[] write = readRegs(this.regsWrite, this.regsWriteCount.get(ValueLayout.JAVA_BYTE, 0) & 0xFF);
+        return new CapstoneRegAccess(read, read.length, write, write.length);
+    }
+
+    private static int[] readRegs(MemorySegment regs, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = regs.getAtIndex(ValueLayout.JAVA_SHORT, i) & 0xFFFF;
+        }
+        return ids;
+    }
+
+    /**
+     * Releases the native instruction buffer. The context cells are owned by the arena passed
+     * to the constructor and are released with it.
+     */
+    @Override
+    public void close() {
+        releaseInstruction();
+    }
+}
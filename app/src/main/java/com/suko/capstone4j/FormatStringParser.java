@@ -1,11 +1,15 @@
 package com.suko.capstone4j;
 
-import static com.suko.capstone4j.internal.capstone_h.*;
+import static com.suko.capstone4j.internal.CapstoneNative.*;
 
-import java.lang.foreign.Arena;
+import java.io.ByteArrayOutputStream;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A utility class for parsing C-style format strings and formatting values.
@@ -14,10 +18,34 @@ import java.util.Arrays;
  * accordingly. It is used by the {@link DefaultCapstoneMemoryProvider#vsnprintf} method
  * to handle format string parsing and value formatting.
  * <p>
+ * Capstone's printers call {@code vsnprintf} several times per instruction, almost always with one
+ * of a few hundred format strings that are literals in the library. A format string is therefore
+ * compiled once into a sequence of literal runs and conversions, which is cached by the address of
+ * the format string. On a cache hit the format bytes are compared with the compiled source, so a
+ * different format at a reused address, e.g. one built in a stack buffer, is compiled again rather
+ * than misinterpreted. The formatted output is written directly into {@code str}, without building
+ * intermediate strings.
+ * <p>
+ * Supported are the flags {@code - + space # 0}, field width and precision, both also as {@code *},
+ * the length modifiers {@code hh h l ll L j z t}, the conversions {@code d i u x X c s} and
+ * {@code %%}.
+ * <p>
  * Reference : {@url https://github.com/weiss/c99-snprintf/blob/master/snprintf.c}
  */
 class FormatStringParser {
 
+    /**
+     * The maximum number of cached formats. Capstone uses far fewer, the limit only protects against
+     * callers formatting with ever changing buffers.
+     */
+    private static final int MAX_CACHED_FORMATS = 4096;
+
+    private static final Map<Long, CompiledFormat> CACHE = new ConcurrentHashMap<>();
+
+    private static final byte[] NULL_STRING = "(null)".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LOWER_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UPPER_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
     /**
      * Formats a string using a format string and variable arguments, and writes it to a buffer.
      * <p>
@@ -32,552 +60,513 @@ class FormatStringParser {
      *         sufficiently large, not counting the terminating null character
      */
     static int vsnprintf(MemorySegment str, long size, MemorySegment format, MemorySegment ap) {
-        if (str == null || size <= 0) {
-            size = 0;
+        return format(compiled(format), str, size, ap);
+    }
+
+    /**
+     * Returns the compiled form of a format string, from the cache if it holds the same format for
+     * its address.
+     *
+     * @param format the null-terminated format string
+     * @return the compiled format
+     */
+    static CompiledFormat compiled(MemorySegment format) {
+        Long key = format.address();
+        CompiledFormat compiled = CACHE.get(key);
+        if (compiled != null && compiled.matches(format)) {
+            return compiled;
+        }
+        compiled = compile(format);
+        if (CACHE.size() < MAX_CACHED_FORMATS || CACHE.containsKey(key)) {
+            CACHE.put(key, compiled);
         }
+        return compiled;
+    }
 
-        StringBuilder sb = new StringBuilder();
+    /**
+     * Compiles a format string into a sequence of literal runs and conversions.
+     *
+     * @param format the null-terminated format string
+     * @return the compiled format
+     * @throws IllegalArgumentException if the format contains an unsupported conversion
+     */
+    static CompiledFormat compile(MemorySegment format) {
+        ByteArrayOutputStream source = new ByteArrayOutputStream();
         long offset = 0;
         while(true) {
             byte b = format.get(C_CHAR, offset++);
             if(b == 0) {
                 break;
             }
-            sb.append((char) b);
+            source.write(b);
         }
-
-        String formatString = sb.toString();
-
-        char[] formatChars = formatString.toCharArray();
+        byte[] formatChars = source.toByteArray();
         int formatIndex = 0;
 
-        boolean overflow = false;
+        List<Op> ops = new ArrayList<>();
+        ByteArrayOutputStream literal = new ByteArrayOutputStream();
 
         int flags = 0;
-        FormatConv cflags = null;
+        FormatConv cflags = FormatConv.PRINT_C_INT;
         int precision = -1;
         int width = 0;
-
-        int len = 0;
+        boolean widthFromArg = false;
+        boolean precisionFromArg = false;
 
         FormatReadState state = FormatReadState.PRINT_S_DEFAULT;
 
-        boolean out = false;
-
         out:
-        if(!out) {
-            while(formatIndex < formatChars.length && formatChars[formatIndex] != '\0') {
-                switch(state) {
-                    case PRINT_S_DEFAULT:
-                        if(formatChars[formatIndex] == '%') {
-                            state = FormatReadState.PRINT_S_FLAGS;
-                        } else {
-                            if(len < size - 1) {
-                                str.set(ValueLayout.JAVA_BYTE, len, (byte) formatChars[formatIndex]);
-                            }
-                            len++;
+        while(formatIndex < formatChars.length) {
+            byte c = formatChars[formatIndex];
+            switch(state) {
+                case PRINT_S_DEFAULT:
+                    if(c == '%') {
+                        state = FormatReadState.PRINT_S_FLAGS;
+                    } else {
+                        literal.write(c);
+                    }
+                    formatIndex++;
+                    break;
+                case PRINT_S_FLAGS:
+                    switch(c) {
+                        case '-':
+                            flags |= FormatFlags.PRINT_F_MINUS.getValue();
+                            formatIndex++;
+                            break;
+                        case '+':
+                            flags |= FormatFlags.PRINT_F_PLUS.getValue();
+                            formatIndex++;
+                            break;
+                        case ' ':
+                            flags |= FormatFlags.PRINT_F_SPACE.getValue();
+                            formatIndex++;
+                            break;
+                        case '#':
+                            flags |= FormatFlags.PRINT_F_NUM.getValue();
+                            formatIndex++;
+                            break;
+                        case '0':
+                            flags |= FormatFlags.PRINT_F_ZERO.getValue();
+                            formatIndex++;
+                            break;
+                        case '\'':
+                            flags |= FormatFlags.PRINT_F_QUOTE.getValue();
+                            formatIndex++;
+                            break;
+                        default:
+                            state = FormatReadState.PRINT_S_WIDTH;
+                            break;
+                    }
+                    break;
+                case PRINT_S_WIDTH:
+                    if(isDigit(c)) {
+                        int n = c - '0';
+                        if(width > (Integer.MAX_VALUE - n) / 10) {
+                            // Like vsnprintf, stop at a width that does not fit into an int
+                            break out;
                         }
+                        width = 10 * width + n;
                         formatIndex++;
-                        break;
-                    case PRINT_S_FLAGS:
-                        switch(formatChars[formatIndex]) {
-                            case '-':
-                                flags |= FormatFlags.PRINT_F_MINUS.getValue();
-                                formatIndex++;
-                                break;
-                            case '+':
-                                flags |= FormatFlags.PRINT_F_PLUS.getValue();
-                                formatIndex++;
-                                break;
-                            case ' ':
-                                flags |= FormatFlags.PRINT_F_SPACE.getValue();
-                                formatIndex++;
-                                break;
-                            case '#':
-                                flags |= FormatFlags.PRINT_F_NUM.getValue();
-                                formatIndex++;
-                                break;
-                            case '0':
-                                flags |= FormatFlags.PRINT_F_ZERO.getValue();
-                                formatIndex++;
-                                break;
-                            case '\'':
-                                flags |= FormatFlags.PRINT_F_QUOTE.getValue();
-                                formatIndex++;
-                                break;
-                            default:
-                                state = FormatReadState.PRINT_S_WIDTH;
-                                break;
+                    } else if(c == '*') {
+                        widthFromArg = true;
+                        formatIndex++;
+                        state = FormatReadState.PRINT_S_DOT;
+                    } else {
+                        state = FormatReadState.PRINT_S_DOT;
+                    }
+                    break;
+                case PRINT_S_DOT:
+                    if(c == '.') {
+                        state = FormatReadState.PRINT_S_PRECISION;
+                        formatIndex++;
+                    } else {
+                        state = FormatReadState.PRINT_S_MOD;
+                    }
+                    break;
+                case PRINT_S_PRECISION:
+                    if(precision == -1) {
+                        precision = 0;
+                    }
+                    if(isDigit(c)) {
+                        int n = c - '0';
+                        if(precision > (Integer.MAX_VALUE - n) / 10) {
+                            break out;
                         }
-                        break;
-                    case PRINT_S_WIDTH:
-                        if(isDigit(formatChars[formatIndex])) {
-                            int n = charToInt(formatChars[formatIndex]);
-                            if(width > (Integer.MAX_VALUE - n) / 10) {
-                                overflow = true;
-                                out = true;
-                                break out;
+                        precision = 10 * precision + n;
+                        formatIndex++;
+                    } else if(c == '*') {
+                        precisionFromArg = true;
+                        formatIndex++;
+                        state = FormatReadState.PRINT_S_MOD;
+                    } else {
+                        state = FormatReadState.PRINT_S_MOD;
+                    }
+                    break;
+                case PRINT_S_MOD:
+                    switch(c) {
+                        case 'h':
+                            formatIndex++;
+                            if(formatIndex < formatChars.length && formatChars[formatIndex] == 'h') {
+                                formatIndex++;
+                                cflags = FormatConv.PRINT_C_CHAR;
+                            } else {
+                                cflags = FormatConv.PRINT_C_SHORT;
                             }
-                            width = 10 * width + n;
+                            break;
+                        case 'l':
                             formatIndex++;
-                        } else if(formatChars[formatIndex] == '*') {
-                            Object[] args = va_arg(ap, C_INT);
-                            ap = (MemorySegment) args[1];
-                            width = (Integer) args[0];
-                            if(width < 0) {
-                                width = -width;
-                                flags |= FormatFlags.PRINT_F_MINUS.getValue();
+                            if(formatIndex < formatChars.length && formatChars[formatIndex] == 'l') {
+                                formatIndex++;
+                                cflags = FormatConv.PRINT_C_LONG_LONG;
+                            } else {
+                                cflags = FormatConv.PRINT_C_LONG;
                             }
+                            break;
+                        case 'L':
+                            cflags = FormatConv.PRINT_C_LONG_DOUBLE;
                             formatIndex++;
-                            state = FormatReadState.PRINT_S_DOT;
-                        } else {
-                            state = FormatReadState.PRINT_S_DOT;
-                        }
-                        break;
-                    case PRINT_S_DOT:
-                        if(formatChars[formatIndex] == '.') {
-                            state = FormatReadState.PRINT_S_PRECISION;
+                            break;
+                        case 'j':
+                            cflags = FormatConv.PRINT_C_INTMAX;
                             formatIndex++;
-                        } else {
-                            state = FormatReadState.PRINT_S_MOD;
-                        }
-                        break;
-                    case PRINT_S_PRECISION:
-                        if(precision == -1) {
-                            precision = 0;
-                        }
-                        if(isDigit(formatChars[formatIndex])) {
-                            int n = charToInt(formatChars[formatIndex]);
-                            if(precision > (Integer.MAX_VALUE - n) / 10) {
-                                overflow = true;
-                                out = true;
-                                break out;
-                            }
-                            precision = 10 * precision + n;
+                            break;
+                        case 't':
+                            cflags = FormatConv.PRINT_C_PTRDIFF;
                             formatIndex++;
-                        } else if(formatChars[formatIndex] == '*') {
-                            Object[] args = va_arg(ap, C_INT);
-                            ap = (MemorySegment) args[1];
-                            precision = (Integer) args[0];
-                            if(precision < 0) {
-                                precision = -1;
-                            }
+                            break;
+                        case 'z':
+                            cflags = FormatConv.PRINT_C_SIZE;
                             formatIndex++;
-                            state = FormatReadState.PRINT_S_MOD;
-                        } else {
-                            state = FormatReadState.PRINT_S_MOD;
-                        }
-                        break;
-                    case PRINT_S_MOD:
-                        switch(formatChars[formatIndex]) {
-                            case 'h':
-                                formatIndex++;
-                                if(formatChars[formatIndex] == 'h') {
-                                    formatIndex++;
-                                    cflags = FormatConv.PRINT_C_CHAR;
-                                } else {
-                                    cflags = FormatConv.PRINT_C_SHORT;
-                                }
-                                break;
-                            case 'l':
-                                formatIndex++;
-                                if(formatChars[formatIndex] == 'l') {
-                                    formatIndex++;
-                                    cflags = FormatConv.PRINT_C_LONG_LONG;
-                                } else {
-                                    cflags = FormatConv.PRINT_C_LONG;
-                                }
-                                break;
-                            case 'L':
-                                cflags = FormatConv.PRINT_C_LONG_DOUBLE;
-                                formatIndex++;
-                                break;
-                            case 'j':
-                                cflags = FormatConv.PRINT_C_INTMAX;
-                                formatIndex++;
-                                break;
-                            case 't':
-                                cflags = FormatConv.PRINT_C_PTRDIFF;
-                                formatIndex++;
-                                break;
-                            case 'z':
-                                cflags = FormatConv.PRINT_C_SIZE;
-                                formatIndex++;
-                                break;
-                        }
-                        state = FormatReadState.PRINT_S_CONV;
-                        break;
-                    case PRINT_S_CONV:
-                        switch(formatChars[formatIndex]) {
-                            case 'd': case 'i':
-                                Object divalue;
-                                if(cflags == null) {
-                                    cflags = FormatConv.PRINT_C_INT;
-                                }
-                                switch(cflags) {
-                                    case PRINT_C_CHAR:
-                                        Object[] charResult = va_arg(ap, C_CHAR);
-                                        ap = (MemorySegment) charResult[1];
-                                        divalue = (byte)charResult[0];
-                                        break;
-                                    case PRINT_C_SHORT:
-                                        Object[] shortResult = va_arg(ap, C_SHORT);
-                                        ap = (MemorySegment) shortResult[1];
-                                        divalue = (short)shortResult[0];
-                                        break;
-                                    case PRINT_C_LONG:
-                                        Object[] longResult = va_arg(ap, C_LONG);
-                                        ap = (MemorySegment) longResult[1];
-                                        divalue = (int)longResult[0];
-                                        break;
-                                    case PRINT_C_LONG_LONG:
-                                        Object[] longLongResult = va_arg(ap, C_LONG_LONG);
-                                        ap = (MemorySegment) longLongResult[1];
-                                        divalue = (long)longLongResult[0];
-                                        break;
-                                    case PRINT_C_LONG_DOUBLE:
-                                        Object[] longDoubleResult = va_arg(ap, C_LONG_DOUBLE);
-                                        ap = (MemorySegment) longDoubleResult[1];
-                                        divalue = (double)longDoubleResult[0];
-                                        break;
-                                    case PRINT_C_INT:
-                                        Object[] intResult = va_arg(ap, C_INT);
-                                        ap = (MemorySegment) intResult[1];
-                                        divalue = (int)intResult[0];
-                                        break;
-                                    default:
-                                        throw new IllegalArgumentException("Unsupported cflag: " + cflags);
-                                }
-                                String diJavaFormat = buildJavaFormat(cflags, flags, width, precision, formatChars[formatIndex], false);
-                                String diFormatted = String.format(diJavaFormat, divalue);
-                                for (int i = 0; i < diFormatted.length() && len < size - 1; i++) {
-                                    str.set(ValueLayout.JAVA_BYTE, len++, (byte) diFormatted.charAt(i));
-                                }
-                                break;
-                            case 'x': case 'X':
-                                flags |= FormatFlags.PRINT_F_UNSIGNED.getValue();
-                                Object xvalue;
-                                if(cflags == null) {
-                                    cflags = FormatConv.PRINT_C_INT;
-                                }
-                                switch(cflags) {
-                                    case PRINT_C_CHAR:
-                                        Object[] charResult = va_arg(ap, C_CHAR);
-                                        ap = (MemorySegment) charResult[1];
-                                        xvalue = Byte.toUnsignedInt((Byte) charResult[0]);
-                                        break;
-                                    case PRINT_C_SHORT:
-                                        Object[] shortResult = va_arg(ap, C_SHORT);
-                                        ap = (MemorySegment) shortResult[1];
-                                        xvalue = Short.toUnsignedInt((Short) shortResult[0]);
-                                        break;
-                                    case PRINT_C_LONG:
-                                        Object[] longResult = va_arg(ap, C_LONG);
-                                        ap = (MemorySegment) longResult[1];
-                                        xvalue = Integer.toUnsignedLong((Integer) longResult[0]);
-                                        break;
-                                    case PRINT_C_LONG_LONG:
-                                        Object[] longLongResult = va_arg(ap, C_LONG_LONG);
-                                        ap = (MemorySegment) longLongResult[1];
-                                        xvalue = Long.toUnsignedString((Long) longLongResult[0], 16);
-                                        break;
-                                    case PRINT_C_LONG_DOUBLE:
-                                        throw new IllegalArgumentException("Hexadecimal format not supported for double");
-                                    case PRINT_C_INT:
-                                        Object[] intResult = va_arg(ap, C_INT);
-                                        ap = (MemorySegment) intResult[1];
-                                        xvalue = Integer.toUnsignedLong((Integer) intResult[0]);
-                                        break;
-                                    default:
-                                        throw new IllegalArgumentException("Unsupported cflag: " + cflags);
-                                }
-
-                                String javaFormat = buildJavaFormat(cflags, flags, width, precision, formatChars[formatIndex], true);
-                                
-                                String formatted;
-                                if (cflags == FormatConv.PRINT_C_LONG_LONG) {
-                                    // For unsigned long long, we've already converted to hex string
-                                    formatted = xvalue.toString();
-                                } else {
-                                    formatted = String.format(javaFormat, xvalue);
-                                }
-                                
-                                // Ensure proper case for hexadecimal output
-                                if (formatChars[formatIndex] == 'X') {
-                                    formatted = formatted.toUpperCase();
-                                }
-                                
-                                // Write the formatted string to the output buffer
-                                for (int i = 0; i < formatted.length() && len < size - 1; i++) {
-                                    str.set(ValueLayout.JAVA_BYTE, len++, (byte) formatted.charAt(i));
-                                }
-                                break;
-                            case 'u':
-                                flags |= FormatFlags.PRINT_F_UNSIGNED.getValue();
-                                Object value;
-                                if(cflags == null) {
-                                    cflags = FormatConv.PRINT_C_INT;
-                                }
-                                switch(cflags) {
-                                    case PRINT_C_CHAR:
-                                        Object[] charResult = va_arg(ap, C_CHAR);
-                                        ap = (MemorySegment) charResult[1];
-                                        value = Byte.toUnsignedInt((Byte) charResult[0]);
-                                        break;
-                                    case PRINT_C_SHORT:
-                                        Object[] shortResult = va_arg(ap, C_SHORT);
-                                        ap = (MemorySegment) shortResult[1];
-                                        value = Short.toUnsignedInt((Short) shortResult[0]);
-                                        break;
-                                    case PRINT_C_LONG:
-                                        Object[] longResult = va_arg(ap, C_LONG);
-                                        ap = (MemorySegment) longResult[1];
-                                        value = Integer.toUnsignedLong((Integer) longResult[0]);
-                                        break;
-                                    case PRINT_C_LONG_LONG:
-                                        Object[] longLongResult = va_arg(ap, C_LONG_LONG);
-                                        ap = (MemorySegment) longLongResult[1];
-                                        value = Long.toUnsignedString((Long) longLongResult[0]);
-                                        break;
-                                    case PRINT_C_LONG_DOUBLE:
-                                        Object[] doubleResult = va_arg(ap, C_LONG_DOUBLE);
-                                        ap = (MemorySegment) doubleResult[1];
-                                        value = (Double) doubleResult[0];
-                                        break;
-                                    case PRINT_C_INT:
-                                        Object[] intResult = va_arg(ap, C_INT);
-                                        ap = (MemorySegment) intResult[1];
-                                        value = Integer.toUnsignedLong((Integer) intResult[0]);
-                                        break;
-                                    default:
-                                        throw new IllegalArgumentException("Unsupported cflag: " + cflags);
-                                }
-
-                                String ujavaFormat = buildJavaFormat(cflags, flags, width, precision, formatChars[formatIndex], true);
-                                
-                                String uformatted;
-                                if (cflags == FormatConv.PRINT_C_LONG_LONG) {
-                                    // For unsigned long long, we've already converted to string
-                                    uformatted = value.toString();
-                                } else {
-                                    uformatted = String.format(ujavaFormat, value);
-                                }
-                                
-                                for (int i = 0; i < uformatted.length() && len < size - 1; i++) {
-                                    str.set(ValueLayout.JAVA_BYTE, len++, (byte) uformatted.charAt(i));
-                                }
-                                break;
-                            case 'c': // possible bug
-                                Object[] charResult = va_arg(ap, C_INT);
-                                ap = (MemorySegment) charResult[1];
-                                int charValue = (int) charResult[0];
-                                if(len + 1 < size) {
-                                    str.set(ValueLayout.JAVA_BYTE, len, (byte)charValue);
-                                }
-                                len++;
-                                break;
-                            case 's':
-                                Object[] stringResult = va_arg(ap, C_POINTER);
-                                ap = (MemorySegment) stringResult[1];
-                                MemorySegment stringValue = (MemorySegment) stringResult[0];
-                                len = writeString(str, size, len, stringValue, width, precision, flags);
-                                break;
-                            default:
-                                System.out.println("FormatString: " + formatString);
-                                System.out.println("FormatIndex: " + formatIndex);
-                                System.out.println("FormatChars: " + formatChars[formatIndex]);
-                                System.out.println("FormatCharsLength: " + formatChars.length);
-                                System.out.println("FormatStringLength: " + formatString.length());
-                                System.out.println("FormatChars: " + Arrays.toString(formatChars));
-                                throw new IllegalArgumentException("Unsupported conversion specifier: " + formatChars[formatIndex]);
-                        }
+                            break;
+                    }
+                    state = FormatReadState.PRINT_S_CONV;
+                    break;
+                case PRINT_S_CONV:
+                    switch(c) {
+                        case 'd': case 'i': case 'u': case 'x': case 'X': case 'c': case 's':
+                            if(literal.size() > 0) {
+                                ops.add(Op.literal(literal.toByteArray()));
+                                literal.reset();
+                            }
+                            ops.add(new Op(null, (char) c, cflags, flags, width, precision, widthFromArg, precisionFromArg));
+                            break;
+                        case '%':
+                            literal.write('%');
+                            break;
+                        default:
+                            throw new IllegalArgumentException("Unsupported conversion specifier '" + (char) c + "' in format: "
+                                    + new String(formatChars, StandardCharsets.US_ASCII));
+                    }
+
+                    state = FormatReadState.PRINT_S_DEFAULT;
+                    formatIndex++;
+                    cflags = FormatConv.PRINT_C_INT;
+                    flags = 0;
+                    width = 0;
+                    precision = -1;
+                    widthFromArg = false;
+                    precisionFromArg = false;
+                    break;
+            }
+        }
+        if(literal.size() > 0) {
+            ops.add(Op.literal(literal.toByteArray()));
+        }
 
-                        state = FormatReadState.PRINT_S_DEFAULT;
-                        formatIndex++;
-                        cflags = null;
-                        flags = 0;
-                        width = 0;
-                        precision = -1;
-                        break;
+        byte[] sourceBytes = new byte[formatChars.length + 1];
+        System.arraycopy(formatChars, 0, sourceBytes, 0, formatChars.length);
+        return new CompiledFormat(sourceBytes, ops.toArray(new Op[0]));
+    }
+
+    /**
+     * Formats the arguments of {@code ap} with a compiled format and writes the result to a buffer.
+     *
+     * @param compiled the compiled format
+     * @param str the buffer to write the formatted string to
+     * @param size the size of the buffer in bytes
+     * @param ap the variable arguments pointer
+     * @return the number of characters that would have been written if {@code size} had been
+     *         sufficiently large, not counting the terminating null character
+     */
+    static int format(CompiledFormat compiled, MemorySegment str, long size, MemorySegment ap) {
+        if (str == null || size <= 0) {
+            size = 0;
+        }
+
+        int len = 0;
+        long apOffset = 0;
+        byte[] digits = null;
+
+        for (Op op : compiled.ops) {
+            if (op.literal() != null) {
+                len = writeBytes(str, size, len, op.literal());
+                continue;
+            }
+
+            int flags = op.flags();
+            int width = op.width();
+            int precision = op.precision();
+            if (op.widthFromArg()) {
+                apOffset = alignArg(ap, apOffset, C_INT);
+                width = ap.get(C_INT, apOffset);
+                apOffset += C_INT.byteSize();
+                if (width < 0) {
+                    width = -width;
+                    flags |= FormatFlags.PRINT_F_MINUS.getValue();
+                }
+            }
+            if (op.precisionFromArg()) {
+                apOffset = alignArg(ap, apOffset, C_INT);
+                precision = ap.get(C_INT, apOffset);
+                apOffset += C_INT.byteSize();
+                if (precision < 0) {
+                    precision = -1;
+                }
+            }
+
+            switch (op.conv()) {
+                case 'c': {
+                    apOffset = alignArg(ap, apOffset, C_INT);
+                    int charValue = ap.get(C_INT, apOffset);
+                    apOffset += C_INT.byteSize();
+                    len = writeByte(str, size, len, (byte) charValue);
+                    break;
+                }
+                case 's': {
+                    apOffset = alignArg(ap, apOffset, C_POINTER);
+                    MemorySegment stringValue = ap.get(C_POINTER, apOffset);
+                    apOffset += C_POINTER.byteSize();
+                    len = writeString(str, size, len, stringValue, width, precision, flags);
+                    break;
+                }
+                default: {
+                    boolean signed = op.conv() == 'd' || op.conv() == 'i';
+                    ValueLayout layout = argLayout(op.cflags());
+                    apOffset = alignArg(ap, apOffset, layout);
+                    long value = readInteger(ap, apOffset, op.cflags(), signed);
+                    apOffset += layout.byteSize();
+                    if (digits == null) {
+                        digits = new byte[20];
+                    }
+                    len = writeInteger(str, size, len, value, signed, op.conv(), flags, width, precision, digits);
+                    break;
                 }
             }
         }
 
-        // out
         if(len < size) {
             str.set(ValueLayout.JAVA_BYTE, len, (byte) 0);
         } else if(size > 0) {
             str.set(ValueLayout.JAVA_BYTE, size - 1, (byte) 0);
         }
 
-        if(overflow && len > Integer.MAX_VALUE) {
-            return -1;
-        }
-        
         return len;
     }
 
+    private static int writeByte(MemorySegment str, long size, int len, byte b) {
+        if(len < size - 1) {
+            str.set(ValueLayout.JAVA_BYTE, len, b);
+        }
+        return len + 1;
+    }
+
+    private static int writeBytes(MemorySegment str, long size, int len, byte[] bytes) {
+        int writable = (int) Math.min(bytes.length, Math.max(0, size - 1 - len));
+        if (writable > 0) {
+            MemorySegment.copy(bytes, 0, str, ValueLayout.JAVA_BYTE, len, writable);
+        }
+        return len + bytes.length;
+    }
+
+    private static int writePadding(MemorySegment str, long size, int len, byte b, int count) {
+        int writable = (int) Math.min(count, Math.max(0, size - 1 - len));
+        if (writable > 0) {
+            str.asSlice(len, writable).fill(b);
+        }
+        return len + count;
+    }
+
     private static int writeString(MemorySegment str, long size, int len, MemorySegment stringValue, int width, int precision, int flags) {
-        int padlen = 0;
-        int strlen = 0;
         boolean noprecision = precision == -1;
-        int offset = 0;
-
-        try(Arena arena = Arena.ofConfined()) {
-            if(stringValue == null || stringValue.equals(MemorySegment.NULL)) {
-                stringValue = arena.allocateFrom("(null)");
+        if(stringValue == null || stringValue.equals(MemorySegment.NULL)) {
+            stringValue = MemorySegment.ofArray(NULL_STRING);
+            if (noprecision || precision > NULL_STRING.length) {
+                precision = NULL_STRING.length;
+                noprecision = false;
             }
-    
-            for(strlen = 0; (noprecision || strlen < precision) && (byte)stringValue.get(C_CHAR, strlen) != 0; strlen++) {
-                continue;
-            }
-    
-            if((padlen = width - strlen) < 0) {
-                padlen = 0;
-            }
-            if((flags & FormatFlags.PRINT_F_MINUS.getValue()) != 0) {
-                padlen = -padlen;
-            }
-    
-            while (padlen > 0) {
-                if(len + 1 < size) {
-                    str.set(C_CHAR, len, (byte) ' ');
-                }
-                len++;
-                padlen--;
-            }
-    
-            while((noprecision || precision-- > 0) && (byte)stringValue.get(C_CHAR, offset) != 0) {
-                if(len + 1 < size) {
-                    str.set(C_CHAR, len, (byte)stringValue.get(C_CHAR, offset));
-                }
-                len++;
-                offset++;
-            }
-    
-            while(padlen < 0) {
-                if(len + 1 < size) {
-                    str.set(C_CHAR, len, (byte) ' ');
-                }
-                len++;
-                padlen++;
+        }
+
+        int strlen;
+        for(strlen = 0; (noprecision || strlen < precision) && stringValue.get(C_CHAR, strlen) != 0; strlen++) {
+            continue;
+        }
+
+        int padlen = Math.max(width - strlen, 0);
+        boolean left = (flags & FormatFlags.PRINT_F_MINUS.getValue()) != 0;
+
+        if (!left) {
+            len = writePadding(str, size, len, (byte) ' ', padlen);
+        }
+        int writable = (int) Math.min(strlen, Math.max(0, size - 1 - len));
+        if (writable > 0) {
+            MemorySegment.copy(stringValue, 0, str, len, writable);
+        }
+        len += strlen;
+        if (left) {
+            len = writePadding(str, size, len, (byte) ' ', padlen);
+        }
+        return len;
+    }
+
+    /**
+     * Writes an integer conversion like {@code vsnprintf}: sign or {@code 0x} prefix, zeros up to the
+     * precision and padding up to the width.
+     */
+    private static int writeInteger(MemorySegment str, long size, int len, long value, boolean signed, char conv, int flags, int width, int precision, byte[] digits) {
+        boolean negative = signed && value < 0;
+        long magnitude = negative ? -value : value;
+
+        int ndigits = 0;
+        if (precision != 0 || value != 0) {
+            if (conv == 'x' || conv == 'X') {
+                byte[] table = conv == 'X' ? UPPER_DIGITS : LOWER_DIGITS;
+                do {
+                    digits[ndigits++] = table[(int) (magnitude & 0xf)];
+                    magnitude >>>= 4;
+                } while (magnitude != 0);
+            } else {
+                do {
+                    digits[ndigits++] = (byte) ('0' + Long.remainderUnsigned(magnitude, 10));
+                    magnitude = Long.divideUnsigned(magnitude, 10);
+                } while (magnitude != 0);
             }
         }
 
+        byte sign = 0;
+        if (negative) {
+            sign = '-';
+        } else if (signed && (flags & FormatFlags.PRINT_F_PLUS.getValue()) != 0) {
+            sign = '+';
+        } else if (signed && (flags & FormatFlags.PRINT_F_SPACE.getValue()) != 0) {
+            sign = ' ';
+        }
+        boolean hexPrefix = (conv == 'x' || conv == 'X') && (flags & FormatFlags.PRINT_F_NUM.getValue()) != 0 && value != 0;
+
+        int zeros = Math.max(precision - ndigits, 0);
+        int padding = Math.max(width - (sign != 0 ? 1 : 0) - (hexPrefix ? 2 : 0) - zeros - ndigits, 0);
+        boolean left = (flags & FormatFlags.PRINT_F_MINUS.getValue()) != 0;
+        if (!left && precision < 0 && (flags & FormatFlags.PRINT_F_ZERO.getValue()) != 0) {
+            zeros += padding;
+            padding = 0;
+        }
+
+        if (!left) {
+            len = writePadding(str, size, len, (byte) ' ', padding);
+        }
+        if (sign != 0) {
+            len = writeByte(str, size, len, sign);
+        }
+        if (hexPrefix) {
+            len = writeByte(str, size, len, (byte) '0');
+            len = writeByte(str, size, len, (byte) conv);
+        }
+        len = writePadding(str, size, len, (byte) '0', zeros);
+        for (int i = ndigits - 1; i >= 0; i--) {
+            len = writeByte(str, size, len, digits[i]);
+        }
+        if (left) {
+            len = writePadding(str, size, len, (byte) ' ', padding);
+        }
         return len;
     }
 
     /**
-     * Builds a Java format string based on the given conversion flags, flags, width, precision, and conversion specifier.
+     * Returns the layout an integer argument with the given length modifier is read with. Arguments
+     * narrower than {@code int} are promoted to {@code int} when passed.
      */
-    private static String buildJavaFormat(FormatConv cflags, int flags, int width, int precision, char conv, boolean isSigned) {
-        StringBuilder format = new StringBuilder("%");
-        
-        // Add flags
-        if ((flags & FormatFlags.PRINT_F_MINUS.getValue()) != 0) format.append('-');
-        if ((flags & FormatFlags.PRINT_F_PLUS.getValue()) != 0) format.append('+');
-        if ((flags & FormatFlags.PRINT_F_SPACE.getValue()) != 0) format.append(' ');
-        if ((flags & FormatFlags.PRINT_F_ZERO.getValue()) != 0) format.append('0');
-        if ((flags & FormatFlags.PRINT_F_NUM.getValue()) != 0) format.append('#');
-
-        // Add width
-        if (width > 0) format.append(width);
-
-        // Add precision
-        if (precision >= 0) format.append('.').append(precision);
-
-        // Handle special cases for Java format specifiers
-        switch (conv) {
-            case 'u': // unsigned decimal
-                if (cflags == FormatConv.PRINT_C_LONG_LONG && isSigned) {
-                    // For unsigned long long, we've already converted to string
-                    return format.toString(); // Return as-is since we've already converted to string
-                }
-                format.append('d');
-                break;
-            case 'x': case 'X': // hexadecimal
-                format.append(conv);
-                break;
-            case 'd': case 'i': // signed decimal
-                format.append('d');
-                break;
-            case 'f': case 'F': // floating point
-            case 'e': case 'E': // scientific notation
-            case 'g': case 'G': // general format
-                format.append(conv);
-                break;
-            case 's': // string
-            case 'c': // character
-                format.append(conv);
-                break;
+    private static ValueLayout argLayout(FormatConv cflags) {
+        return switch (cflags) {
+            case PRINT_C_CHAR, PRINT_C_SHORT, PRINT_C_INT -> C_INT;
+            case PRINT_C_LONG -> C_LONG;
+            case PRINT_C_LONG_LONG, PRINT_C_SIZE, PRINT_C_PTRDIFF, PRINT_C_INTMAX -> C_LONG_LONG;
+            case PRINT_C_LONG_DOUBLE -> C_LONG_DOUBLE;
+        };
+    }
+
+    /**
+     * Reads an integer argument and converts it to the type of its length modifier, sign extended for
+     * signed conversions and zero extended otherwise.
+     */
+    private static long readInteger(MemorySegment ap, long offset, FormatConv cflags, boolean signed) {
+        switch (cflags) {
+            case PRINT_C_LONG_LONG, PRINT_C_SIZE, PRINT_C_PTRDIFF, PRINT_C_INTMAX:
+                return ap.get(C_LONG_LONG, offset);
+            case PRINT_C_LONG_DOUBLE:
+                return (long) ap.get(C_LONG_DOUBLE, offset);
             default:
-                throw new IllegalArgumentException("Unsupported conversion specifier: " + conv);
+                int i = ap.get(C_INT, offset);
+                if (cflags == FormatConv.PRINT_C_CHAR) {
+                    return signed ? (byte) i : i & 0xff;
+                }
+                if (cflags == FormatConv.PRINT_C_SHORT) {
+                    return signed ? (short) i : i & 0xffff;
+                }
+                return signed ? i : Integer.toUnsignedLong(i);
         }
-        
-        return format.toString();
     }
 
     /**
-     * Extracts the next argument from a va_list.
+     * Returns the offset of the next argument in a va_list, aligned for its layout.
      */
-    private static Object[] va_arg(MemorySegment ap, ValueLayout layout) {
-        // Calculate required alignment
+    private static long alignArg(MemorySegment ap, long offset, ValueLayout layout) {
         long alignment = layout.byteAlignment();
-        
-        // Calculate current address
-        long address = ap.address();
-        
-        // Calculate padding needed for alignment
-        long padding = (alignment - (address % alignment)) % alignment;
-        
-        // Create aligned segment
-        MemorySegment alignedAp = ap.asSlice(padding);
-
-        // Get the current address and read the value
-        Object value;
-        if (layout == ValueLayout.JAVA_INT) {
-            value = alignedAp.get(ValueLayout.JAVA_INT, 0);
-        } else if (layout == ValueLayout.JAVA_LONG) {
-            value = alignedAp.get(ValueLayout.JAVA_LONG, 0);
-        } else if (layout == ValueLayout.JAVA_DOUBLE) {
-            value = alignedAp.get(ValueLayout.JAVA_DOUBLE, 0);
-        } else if (layout == ValueLayout.JAVA_FLOAT) {
-            value = alignedAp.get(ValueLayout.JAVA_FLOAT, 0);
-        } else if (layout == ValueLayout.ADDRESS) {
-            value = alignedAp.get(ValueLayout.ADDRESS, 0);
-        } else if(layout == ValueLayout.JAVA_BYTE) {
-            value = alignedAp.get(ValueLayout.JAVA_BYTE, 0);
-        } else if(layout == ValueLayout.JAVA_SHORT) {
-            value = alignedAp.get(ValueLayout.JAVA_SHORT, 0);
-        } else if(layout == ValueLayout.JAVA_CHAR) {
-            value = alignedAp.get(ValueLayout.JAVA_CHAR, 0);
-        } else if(layout == C_POINTER) {
-            value = alignedAp.get(C_POINTER, 0);
-        } else {
-            throw new IllegalArgumentException("Unsupported value layout: " + layout);
-        }
-        
-        // Create the updated pointer
-        MemorySegment updatedAp = ap.asSlice(padding + layout.byteSize());
-        
-        return new Object[] { value, updatedAp };
+        long address = ap.address() + offset;
+        return offset + (alignment - (address % alignment)) % alignment;
+    }
+
+    /**
+     * Checks if a character is a digit.
+     */
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
-     * Converts a character digit to its integer value.
+     * A format string compiled into literal runs and conversions.
      */
-    private static int charToInt(char c) {
-        if(!isDigit(c)) {
-            throw new IllegalArgumentException("Character is not a digit: " + c);
+    static final class CompiledFormat {
+
+        /** The format string including its terminating null character. */
+        private final byte[] source;
+        private final Op[] ops;
+
+        private CompiledFormat(byte[] source, Op[] ops) {
+            this.source = source;
+            this.ops = ops;
+        }
+
+        /**
+         * Returns whether a null-terminated format string equals the source of this format. Reads no
+         * further than the first differing byte, so it never reads past the end of a shorter string.
+         */
+        boolean matches(MemorySegment format) {
+            for (int i = 0; i < this.source.length; i++) {
+                if (format.get(C_CHAR, i) != this.source[i]) {
+                    return false;
+                }
+            }
+            return true;
         }
-        return c - '0';
     }
 
     /**
-     * Checks if a character is a digit.
+     * One step of a compiled format: either a run of literal bytes or a conversion.
      */
-    private static boolean isDigit(char c) {
-        return c >= '0' && c <= '9';
+    private record Op(byte[] literal, char conv, FormatConv cflags, int flags, int width, int precision, boolean widthFromArg, boolean precisionFromArg) {
+
+        static Op literal(byte[] bytes) {
+            return new Op(bytes, '\0', null, 0, 0, -1, false, false);
+        }
     }
 
     /**
@@ -633,4 +622,4 @@ class FormatStringParser {
             return value;
         }
     }
-} 
\ No newline at end of file
+}
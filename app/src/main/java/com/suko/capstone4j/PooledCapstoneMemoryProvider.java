@@ -0,0 +1,352 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link CapstoneMemoryProvider} that reuses freed memory, for handles that live for a long time.
+ * <p>
+ * The {@link DefaultCapstoneMemoryProvider} allocates every block from the arena and never releases
+ * it before the arena is closed, so the native memory used by a handle grows with every instruction
+ * it decodes. This provider keeps freed blocks and hands them out again, which bounds the memory
+ * used by a handle by the peak amount of memory Capstone held at the same time, no matter how long
+ * the handle lives.
+ * <p>
+ * Every block is rounded up to a power of two size class of at least {@value #MIN_BLOCK_SIZE} bytes,
+ * and freed blocks are kept in one free list per class. Blocks of up to {@value #MAX_BLOCK_SIZE} bytes
+ * are carved out of slabs of {@value #SLAB_SIZE} bytes, larger blocks are allocated one by one. All
+ * of them are allocated from the arena of the provider and are only released when it is closed.
+ * Closing an arena per block would return large blocks to the operating system earlier, but closing
+ * a shared arena makes every thread of the JVM stop at a handshake, which is too expensive to do for
+ * every free.
+ * <p>
+ * Blocks unknown to this provider are left alone by {@link #free(MemorySegment)}. Their size is
+ * unknown as well, so {@link #realloc(MemorySegment, long)} cannot copy them and throws an
+ * {@link IllegalArgumentException}. Called by Capstone, this terminates the JVM with the stack trace
+ * of the exception, instead of reporting a memory error that hides the cause.
+ * <p>
+ * All methods are synchronized, so a single provider may be shared by several handles.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * PooledCapstoneMemoryProvider provider = new PooledCapstoneMemoryProvider();
+ * CapstoneHandleOptions options = CapstoneHandleOptions.builder()
+ *     .memoryProvider(provider)
+ *     .build();
+ *
+ * try (CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options)) {
+ *     // Use handle...
+ *     System.out.println("Reserved native memory: " + provider.getReservedBytes());
+ * }
+ * }</pre>
+ *
+ * @see CapstoneMemoryProvider
+ * @see DefaultCapstoneMemoryProvider
+ * @see CapstoneHandleOptions
+ */
+public class PooledCapstoneMemoryProvider implements CapstoneMemoryProvider {
+
+    /** The size of the smallest size class in bytes. */
+    public static final int MIN_BLOCK_SIZE = 16;
+
+    /** The size of the largest size class carved out of slabs in bytes, larger blocks are allocated one by one. */
+    public static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    /** The size of the slabs small blocks are carved out of, in bytes. */
+    public static final int SLAB_SIZE = 256 * 1024;
+
+    private static final int MIN_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+    private static final int SLAB_CLASS_COUNT = Integer.numberOfTrailingZeros(MAX_BLOCK_SIZE) - MIN_CLASS_SHIFT + 1;
+    private static final int CLASS_COUNT = Long.SIZE - 2 - MIN_CLASS_SHIFT;
+
+    /** The largest size that can be rounded up to a size class without overflowing. */
+    private static final long MAX_SIZE = (long) MIN_BLOCK_SIZE << (CLASS_COUNT - 1);
+
+    private Arena arena;
+
+    private final FreeList[] freeLists = new FreeList[CLASS_COUNT];
+    private final Map<Long, MemorySegment> liveBlocks = new HashMap<>();
+
+    private long reservedBytes;
+    private long liveBytes;
+
+    /**
+     * Creates a new PooledCapstoneMemoryProvider with the specified arena.
+     * <p>
+     * All blocks are allocated from this arena and are released when it is closed.
+     *
+     * @param arena the arena to use for memory management
+     * @throws NullPointerException if the arena is null
+     */
+    public PooledCapstoneMemoryProvider(Arena arena) {
+        this();
+        setArena(arena);
+    }
+
+    /**
+     * Creates a new PooledCapstoneMemoryProvider without an arena.
+     * <p>
+     * When using this constructor, an arena must be set using {@link #setArena(Arena)}
+     * before calling any memory allocation methods. This constructor is primarily intended
+     * for use with the builder pattern through {@link CapstoneHandleOptions}.
+     */
+    public PooledCapstoneMemoryProvider() {
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            this.freeLists[i] = new FreeList();
+        }
+    }
+
+    /**
+     * Sets the arena the blocks are allocated from.
+     * <p>
+     * Blocks that have already been allocated keep using the previous arena. The free blocks of the
+     * previous arena are dropped, and blocks of the previous arena that are freed later are not reused,
+     * as the previous arena may be closed at any time.
+     *
+     * @param arena the arena to use for memory management
+     * @throws NullPointerException if the arena is null
+     */
+    @Override
+    public synchronized void setArena(Arena arena) {
+        if (arena == null) {
+            throw new NullPointerException("Arena cannot be null");
+        }
+        if (arena != this.arena) {
+            for (FreeList freeList : this.freeLists) {
+                freeList.clear();
+            }
+            this.reservedBytes = 0;
+        }
+        this.arena = arena;
+    }
+
+    /**
+     * Gets the arena currently being used for memory management.
+     *
+     * @return the current arena used for memory management, or null if no arena has been set
+     */
+    @Override
+    public synchronized Arena getArena() {
+        return this.arena;
+    }
+
+    /**
+     * Allocates memory of the specified size.
+     * <p>
+     * This method corresponds to the C {@code malloc} function. The block is taken from the free
+     * list of its size class if possible.
+     *
+     * @param size the number of bytes to allocate
+     * @return a memory segment of at least the specified size, or {@code NULL} if the size is too large
+     * @throws IllegalStateException if no arena has been set
+     * @throws IllegalArgumentException if the size is negative
+     */
+    @Override
+    public synchronized MemorySegment malloc(long size) {
+        if (this.arena == null) {
+            throw new IllegalStateException("Arena not set. Call setArena(Arena) first.");
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (size > MAX_SIZE) {
+            // like malloc, report that the memory is not available
+            return MemorySegment.NULL;
+        }
+
+        int sizeClass = sizeClass(size);
+        FreeList freeList = this.freeLists[sizeClass];
+        if (freeList.isEmpty()) {
+            refill(sizeClass);
+        }
+        MemorySegment block = freeList.pop();
+        this.liveBlocks.put(block.address(), block);
+        this.liveBytes += block.byteSize();
+        return block;
+    }
+
+    /**
+     * Allocates zero-initialized memory for an array.
+     * <p>
+     * This method corresponds to the C {@code calloc} function.
+     *
+     * @param nmemb the number of elements to allocate
+     * @param size the size of each element in bytes
+     * @return a zero-initialized memory segment of at least {@code nmemb * size} bytes
+     * @throws IllegalStateException if no arena has been set
+     * @throws IllegalArgumentException if the nmemb or size is negative, or if their product would overflow
+     */
+    @Override
+    public synchronized MemorySegment calloc(long nmemb, long size) {
+        if (nmemb < 0 || size < 0) {
+            throw new IllegalArgumentException("Number of elements and size cannot be negative");
+        }
+        if (nmemb > 0 && size > Long.MAX_VALUE / nmemb) {
+            throw new IllegalArgumentException("Size would overflow: " + nmemb + " * " + size);
+        }
+
+        // reused blocks contain old data, so always clear them
+        MemorySegment block = malloc(nmemb * size);
+        if (block.address() != 0) {
+            block.fill((byte) 0);
+        }
+        return block;
+    }
+
+    /**
+     * Changes the size of a previously allocated memory segment.
+     * <p>
+     * This method corresponds to the C {@code realloc} function. If the new size still fits into
+     * the size class of the block, the block is returned unchanged. Otherwise a new block is
+     * allocated, the contents up to the lesser of the old and new sizes are copied, and the old
+     * block is freed.
+     * <p>
+     * If {@code ptr} is {@code NULL}, this function behaves like {@link #malloc(long)}.
+     * If {@code size} is 0, this function behaves like {@link #free(MemorySegment)} and returns
+     * {@code NULL}.
+     *
+     * @param ptr the memory segment to resize
+     * @param size the new size in bytes
+     * @return a memory segment of at least the specified size containing the data from the original
+     *         segment, or {@code NULL} if the size is 0 or too large
+     * @throws IllegalStateException if no arena has been set
+     * @throws IllegalArgumentException if the size is negative, or if {@code ptr} was not allocated by this provider
+     */
+    @Override
+    public synchronized MemorySegment realloc(MemorySegment ptr, long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size cannot be negative");
+        }
+        if (ptr == null || ptr.address() == 0) {
+            return malloc(size);
+        }
+        if (size == 0) {
+            free(ptr);
+            return MemorySegment.NULL;
+        }
+
+        MemorySegment block = this.liveBlocks.get(ptr.address());
+        if (block == null) {
+            // we do not know the size of the block, so its contents cannot be copied safely
+            throw new IllegalArgumentException("Cannot reallocate block 0x" + Long.toHexString(ptr.address()) + ", it was not allocated by this provider");
+        }
+        if (size <= block.byteSize() && sizeClass(size) == sizeClass(block.byteSize())) {
+            return block;
+        }
+
+        MemorySegment newBlock = malloc(size);
+        if (newBlock.address() == 0) {
+            // like realloc, keep the original block if the new one cannot be allocated
+            return newBlock;
+        }
+        MemorySegment.copy(block, 0, newBlock, 0, Math.min(block.byteSize(), size));
+        free(block);
+        return newBlock;
+    }
+
+    /**
+     * Frees a previously allocated memory segment.
+     * <p>
+     * This method corresponds to the C {@code free} function. The block is returned to the free list
+     * of its size class. Blocks that were not allocated by this provider are ignored.
+     *
+     * @param ptr the memory segment to free (may be {@code NULL}, which is a no-op)
+     */
+    @Override
+    public synchronized void free(MemorySegment ptr) {
+        if (ptr == null || ptr.address() == 0) {
+            return;
+        }
+
+        MemorySegment block = this.liveBlocks.remove(ptr.address());
+        if (block == null) {
+            return;
+        }
+        this.liveBytes -= block.byteSize();
+        if (this.arena == null || !block.scope().equals(this.arena.scope())) {
+            // the block belongs to a previous arena
+            return;
+        }
+        this.freeLists[sizeClass(block.byteSize())].push(block);
+    }
+
+    /**
+     * Returns the number of bytes of native memory currently held by this provider.
+     * <p>
+     * This includes all slabs and all large blocks allocated from the current arena, whether they are
+     * in use or free.
+     *
+     * @return the number of reserved bytes
+     */
+    public synchronized long getReservedBytes() {
+        return this.reservedBytes;
+    }
+
+    /**
+     * Returns the number of bytes of native memory currently handed out to Capstone.
+     * <p>
+     * Blocks are counted with the size of their size class.
+     *
+     * @return the number of bytes in blocks that have been allocated and not freed yet
+     */
+    public synchronized long getLiveBytes() {
+        return this.liveBytes;
+    }
+
+    private void refill(int sizeClass) {
+        long blockSize = (long) MIN_BLOCK_SIZE << sizeClass;
+        if (sizeClass >= SLAB_CLASS_COUNT) {
+            this.freeLists[sizeClass].push(this.arena.allocate(blockSize, MIN_BLOCK_SIZE));
+            this.reservedBytes += blockSize;
+            return;
+        }
+        MemorySegment slab = this.arena.allocate(SLAB_SIZE, MIN_BLOCK_SIZE);
+        this.reservedBytes += SLAB_SIZE;
+        FreeList freeList = this.freeLists[sizeClass];
+        // push in reverse so that blocks are handed out in address order
+        for (long offset = SLAB_SIZE - blockSize; offset >= 0; offset -= blockSize) {
+            freeList.push(slab.asSlice(offset, blockSize));
+        }
+    }
+
+    private static int sizeClass(long size) {
+        if (size <= MIN_BLOCK_SIZE) {
+            return 0;
+        }
+        return 64 - Long.numberOfLeadingZeros(size - 1) - MIN_CLASS_SHIFT;
+    }
+
+    /**
+     * A stack of free blocks of one size class.
+     */
+    private static final class FreeList {
+
+        private MemorySegment[] blocks = new MemorySegment[16];
+        private int size;
+
+        boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        void push(MemorySegment block) {
+            if (this.size == this.blocks.length) {
+                this.blocks = Arrays.copyOf(this.blocks, this.size * 2);
+            }
+            this.blocks[this.size++] = block;
+        }
+
+        void clear() {
+            Arrays.fill(this.blocks, 0, this.size, null);
+            this.size = 0;
+        }
+
+        MemorySegment pop() {
+            MemorySegment block = this.blocks[--this.size];
+            this.blocks[this.size] = null;
+            return block;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * Receives the native instructions decoded by {@link CapstoneHandle#decodeRaw}.
+ * <p>
+ * Sinks that copy instructions into their own storage, like {@link CapstoneInstructionTable}, use
+ * this instead of a {@code Consumer<CapstoneInstruction>} so that no instruction objects are created.
+ */
+interface RawInstructionSink {
+
+    /**
+     * Receives a decoded instruction.
+     * <p>
+     * The {@code cs_insn} buffer is reused for the next instruction and must not be retained.
+     *
+     * @param handle the native {@code csh} value of the handle that decoded the instruction
+     * @param insn the decoded {@code cs_insn}
+     * @param parseDetails whether {@code insn} holds details
+     */
+    void accept(long handle, MemorySegment insn, boolean parseDetails);
+
+    /**
+     * Receives a byte that could not be decoded.
+     *
+     * @param address the address of the byte
+     * @param badByte the byte
+     */
+    void acceptBad(long address, byte badByte);
+}
@@ -0,0 +1,7723 @@
+package com.suko.capstone4j.internal;
+
+/**
+ * The {@code #define} and enum values of the Capstone headers that the public API refers to, as
+ * compile-time constants.
+ * <p>
+ * The jextract bindings expose these values through static methods of {@code capstone_h}, so every enum
+ * constant of the API that was initialized from one of them had to load and initialize the
+ * {@code capstone_h} class hierarchy, a chain of 25 classes with more than 200,000 lines of generated
+ * code. The fields of this class are inlined by the compiler instead, so the enums are initialized from
+ * literal values and this class is never loaded at runtime.
+ * <p>
+ * The values are copied from the jextract output and have to be updated together with it when the
+ * bindings are regenerated for a new Capstone version.
+ */
+public final class CapstoneConstants {
+
+    private CapstoneConstants() {
+        // Should not be called directly
+    }
+
+    public static final int CS_API_MAJOR = 6;
+    public static final int CS_NEXT_VERSION = 7;
+    public static final int CS_VERSION_EXTRA = 0;
+    public static final int CS_OP_INVALID = 0;
+    public static final int CS_OP_REG = 1;
+    public static final int CS_OP_IMM = 2;
+    public static final int CS_OP_FP = 3;
+    public static final int CS_OP_PRED = 4;
+    public static final int CS_OP_MEM = 128;
+    public static final int CS_OP_MEM_REG = 129;
+    public static final int CS_OP_MEM_IMM = 130;
+    public static final int CS_AC_INVALID = 0;
+    public static final int CS_AC_READ = 1;
+    public static final int CS_AC_WRITE = 2;
+    public static final int CS_AC_READ_WRITE = 3;
+    public static final int CS_ARCH_ARM = 0;
+    public static final int CS_ARCH_AARCH64 = 1;
+    public static final int CS_ARCH_SYSTEMZ = 2;
+    public static final int CS_ARCH_MIPS = 3;
+    public static final int CS_ARCH_X86 = 4;
+    public static final int CS_ARCH_PPC = 5;
+    public static final int CS_ARCH_SPARC = 6;
+    public static final int CS_ARCH_XCORE = 7;
+    public static final int CS_ARCH_M68K = 8;
+    public static final int CS_ARCH_TMS320C64X = 9;
+    public static final int CS_ARCH_M680X = 10;
+    public static final int CS_ARCH_EVM = 11;
+    public static final int CS_ARCH_MOS65XX = 12;
+    public static final int CS_ARCH_WASM = 13;
+    public static final int CS_ARCH_BPF = 14;
+    public static final int CS_ARCH_RISCV = 15;
+    public static final int CS_ARCH_SH = 16;
+    public static final int CS_ARCH_TRICORE = 17;
+    public static final int CS_ARCH_ALPHA = 18;
+    public static final int CS_ARCH_HPPA = 19;
+    public static final int CS_ARCH_LOONGARCH = 20;
+    public static final int CS_ARCH_XTENSA = 21;
+    public static final int CS_ARCH_ARC = 22;
+    public static final int CS_ARCH_MAX = 23;
+    public static final int CS_ARCH_ALL = 65535;
+    public static final int CS_MODE_LITTLE_ENDIAN = 0;
+    public static final int CS_MODE_ARM = 0;
+    public static final int CS_MODE_16 = 2;
+    public static final int CS_MODE_32 = 4;
+    public static final int CS_MODE_64 = 8;
+    public static final int CS_MODE_THUMB = 16;
+    public static final int CS_MODE_MCLASS = 32;
+    public static final int CS_MODE_V8 = 64;
+    public static final int CS_MODE_V9 = 16;
+    public static final int CS_MODE_QPX = 16;
+    public static final int CS_MODE_SPE = 32;
+    public static final int CS_MODE_BOOKE = 64;
+    public static final int CS_MODE_PS = 128;
+    public static final int CS_MODE_AIX_OS = 256;
+    public static final int CS_MODE_PWR7 = 512;
+    public static final int CS_MODE_PWR8 = 1024;
+    public static final int CS_MODE_PWR9 = 2048;
+    public static final int CS_MODE_PWR10 = 4096;
+    public static final int CS_MODE_PPC_ISA_FUTURE = 8192;
+    public static final int CS_MODE_MODERN_AIX_AS = 16384;
+    public static final int CS_MODE_MSYNC = 32768;
+    public static final int CS_MODE_M68K_000 = 2;
+    public static final int CS_MODE_M68K_010 = 4;
+    public static final int CS_MODE_M68K_020 = 8;
+    public static final int CS_MODE_M68K_030 = 16;
+    public static final int CS_MODE_M68K_040 = 32;
+    public static final int CS_MODE_M68K_060 = 64;
+    public static final int CS_MODE_BIG_ENDIAN = -2147483648;
+    public static final int CS_MODE_MIPS16 = 2;
+    public static final int CS_MODE_MIPS32 = 4;
+    public static final int CS_MODE_MIPS64 = 8;
+    public static final int CS_MODE_MICRO = 16;
+    public static final int CS_MODE_MIPS1 = 32;
+    public static final int CS_MODE_MIPS2 = 64;
+    public static final int CS_MODE_MIPS32R2 = 128;
+    public static final int CS_MODE_MIPS32R3 = 256;
+    public static final int CS_MODE_MIPS32R5 = 512;
+    public static final int CS_MODE_MIPS32R6 = 1024;
+    public static final int CS_MODE_MIPS3 = 2048;
+    public static final int CS_MODE_MIPS4 = 4096;
+    public static final int CS_MODE_MIPS5 = 8192;
+    public static final int CS_MODE_MIPS64R2 = 16384;
+    public static final int CS_MODE_MIPS64R3 = 32768;
+    public static final int CS_MODE_MIPS64R5 = 65536;
+    public static final int CS_MODE_MIPS64R6 = 131072;
+    public static final int CS_MODE_OCTEON = 262144;
+    public static final int CS_MODE_OCTEONP = 524288;
+    public static final int CS_MODE_NANOMIPS = 1048576;
+    public static final int CS_MODE_NMS1 = 3145728;
+    public static final int CS_MODE_I7200 = 5242880;
+    public static final int CS_MODE_MIPS_NOFLOAT = 8388608;
+    public static final int CS_MODE_MIPS_PTR64 = 16777216;
+    public static final int CS_MODE_MICRO32R3 = 272;
+    public static final int CS_MODE_MICRO32R6 = 1040;
+    public static final int CS_MODE_M680X_6301 = 2;
+    public static final int CS_MODE_M680X_6309 = 4;
+    public static final int CS_MODE_M680X_6800 = 8;
+    public static final int CS_MODE_M680X_6801 = 16;
+    public static final int CS_MODE_M680X_6805 = 32;
+    public static final int CS_MODE_M680X_6808 = 64;
+    public static final int CS_MODE_M680X_6809 = 128;
+    public static final int CS_MODE_M680X_6811 = 256;
+    public static final int CS_MODE_M680X_CPU12 = 512;
+    public static final int CS_MODE_M680X_HCS08 = 1024;
+    public static final int CS_MODE_BPF_CLASSIC = 0;
+    public static final int CS_MODE_BPF_EXTENDED = 1;
+    public static final int CS_MODE_RISCV32 = 1;
+    public static final int CS_MODE_RISCV64 = 2;
+    public static final int CS_MODE_RISCVC = 4;
+    public static final int CS_MODE_MOS65XX_6502 = 2;
+    public static final int CS_MODE_MOS65XX_65C02 = 4;
+    public static final int CS_MODE_MOS65XX_W65C02 = 8;
+    public static final int CS_MODE_MOS65XX_65816 = 16;
+    public static final int CS_MODE_MOS65XX_65816_LONG_M = 32;
+    public static final int CS_MODE_MOS65XX_65816_LONG_X = 64;
+    public static final int CS_MODE_MOS65XX_65816_LONG_MX = 96;
+    public static final int CS_MODE_SH2 = 2;
+    public static final int CS_MODE_SH2A = 4;
+    public static final int CS_MODE_SH3 = 8;
+    public static final int CS_MODE_SH4 = 16;
+    public static final int CS_MODE_SH4A = 32;
+    public static final int CS_MODE_SHFPU = 64;
+    public static final int CS_MODE_SHDSP = 128;
+    public static final int CS_MODE_TRICORE_110 = 2;
+    public static final int CS_MODE_TRICORE_120 = 4;
+    public static final int CS_MODE_TRICORE_130 = 8;
+    public static final int CS_MODE_TRICORE_131 = 16;
+    public static final int CS_MODE_TRICORE_160 = 32;
+    public static final int CS_MODE_TRICORE_161 = 64;
+    public static final int CS_MODE_TRICORE_162 = 128;
+    public static final int CS_MODE_TRICORE_180 = 256;
+    public static final int CS_MODE_HPPA_11 = 2;
+    public static final int CS_MODE_HPPA_20 = 4;
+    public static final int CS_MODE_HPPA_20W = 12;
+    public static final int CS_MODE_LOONGARCH32 = 1;
+    public static final int CS_MODE_LOONGARCH64 = 2;
+    public static final int CS_MODE_SYSTEMZ_ARCH8 = 2;
+    public static final int CS_MODE_SYSTEMZ_ARCH9 = 4;
+    public static final int CS_MODE_SYSTEMZ_ARCH10 = 8;
+    public static final int CS_MODE_SYSTEMZ_ARCH11 = 16;
+    public static final int CS_MODE_SYSTEMZ_ARCH12 = 32;
+    public static final int CS_MODE_SYSTEMZ_ARCH13 = 64;
+    public static final int CS_MODE_SYSTEMZ_ARCH14 = 128;
+    public static final int CS_MODE_SYSTEMZ_Z10 = 256;
+    public static final int CS_MODE_SYSTEMZ_Z196 = 512;
+    public static final int CS_MODE_SYSTEMZ_ZEC12 = 1024;
+    public static final int CS_MODE_SYSTEMZ_Z13 = 2048;
+    public static final int CS_MODE_SYSTEMZ_Z14 = 4096;
+    public static final int CS_MODE_SYSTEMZ_Z15 = 8192;
+    public static final int CS_MODE_SYSTEMZ_Z16 = 16384;
+    public static final int CS_MODE_SYSTEMZ_GENERIC = 32768;
+    public static final int CS_MODE_XTENSA_ESP32 = 2;
+    public static final int CS_MODE_XTENSA_ESP32S2 = 4;
+    public static final int CS_MODE_XTENSA_ESP8266 = 8;
+    public static final int CS_OPT_INVALID = 0;
+    public static final int CS_OPT_SYNTAX = 1;
+    public static final int CS_OPT_DETAIL = 2;
+    public static final int CS_OPT_MODE = 3;
+    public static final int CS_OPT_MEM = 4;
+    public static final int CS_OPT_SKIPDATA = 5;
+    public static final int CS_OPT_SKIPDATA_SETUP = 6;
+    public static final int CS_OPT_MNEMONIC = 7;
+    public static final int CS_OPT_UNSIGNED = 8;
+    public static final int CS_OPT_ONLY_OFFSET_BRANCH = 9;
+    public static final int CS_OPT_LITBASE = 10;
+    public static final int CS_OPT_OFF = 0;
+    public static final int CS_OPT_ON = 1;
+    public static final int CS_OPT_SYNTAX_DEFAULT = 2;
+    public static final int CS_OPT_SYNTAX_INTEL = 4;
+    public static final int CS_OPT_SYNTAX_ATT = 8;
+    public static final int CS_OPT_SYNTAX_NOREGNAME = 16;
+    public static final int CS_OPT_SYNTAX_MASM = 32;
+    public static final int CS_OPT_SYNTAX_MOTOROLA = 64;
+    public static final int CS_OPT_SYNTAX_CS_REG_ALIAS = 128;
+    public static final int CS_OPT_SYNTAX_PERCENT = 256;
+    public static final int CS_OPT_SYNTAX_NO_DOLLAR = 512;
+    public static final int CS_OPT_DETAIL_REAL = 2;
+    public static final int CS_GRP_INVALID = 0;
+    public static final int CS_GRP_JUMP = 1;
+    public static final int CS_GRP_CALL = 2;
+    public static final int CS_GRP_RET = 3;
+    public static final int CS_GRP_INT = 4;
+    public static final int CS_GRP_IRET = 5;
+    public static final int CS_GRP_PRIVILEGE = 6;
+    public static final int CS_GRP_BRANCH_RELATIVE = 7;
+    public static final int ARMCC_EQ = 0;
+    public static final int ARMCC_NE = 1;
+    public static final int ARMCC_HS = 2;
+    public static final int ARMCC_LO = 3;
+    public static final int ARMCC_MI = 4;
+    public static final int ARMCC_PL = 5;
+    public static final int ARMCC_VS = 6;
+    public static final int ARMCC_VC = 7;
+    public static final int ARMCC_HI = 8;
+    public static final int ARMCC_LS = 9;
+    public static final int ARMCC_GE = 10;
+    public static final int ARMCC_LT = 11;
+    public static final int ARMCC_GT = 12;
+    public static final int ARMCC_LE = 13;
+    public static final int ARMCC_AL = 14;
+    public static final int ARMCC_UNDEF = 15;
+    public static final int ARMCC_Invalid = 16;
+    public static final int ARMVCC_None = 0;
+    public static final int ARMVCC_Then = 1;
+    public static final int ARMVCC_Else = 2;
+    public static final int ARM_PredBlockMaskInvalid = 0;
+    public static final int ARM_T = 8;
+    public static final int ARM_TT = 4;
+    public static final int ARM_TE = 12;
+    public static final int ARM_TTT = 2;
+    public static final int ARM_TTE = 6;
+    public static final int ARM_TEE = 14;
+    public static final int ARM_TET = 10;
+    public static final int ARM_TTTT = 1;
+    public static final int ARM_TTTE = 3;
+    public static final int ARM_TTEE = 7;
+    public static final int ARM_TTET = 5;
+    public static final int ARM_TEEE = 15;
+    public static final int ARM_TEET = 13;
+    public static final int ARM_TETT = 9;
+    public static final int ARM_TETE = 11;
+    public static final int ARM_SFT_INVALID = 0;
+    public static final int ARM_SFT_ASR = 1;
+    public static final int ARM_SFT_LSL = 2;
+    public static final int ARM_SFT_LSR = 3;
+    public static final int ARM_SFT_ROR = 4;
+    public static final int ARM_SFT_RRX = 5;
+    public static final int ARM_SFT_UXTW = 6;
+    public static final int ARM_SFT_REG = 7;
+    public static final int ARM_SFT_ASR_REG = 8;
+    public static final int ARM_SFT_LSL_REG = 9;
+    public static final int ARM_SFT_LSR_REG = 10;
+    public static final int ARM_SFT_ROR_REG = 11;
+    public static final int ARM_MB_RESERVED_0 = 0;
+    public static final int ARM_MB_OSHLD = 1;
+    public static final int ARM_MB_OSHST = 2;
+    public static final int ARM_MB_OSH = 3;
+    public static final int ARM_MB_RESERVED_4 = 4;
+    public static final int ARM_MB_NSHLD = 5;
+    public static final int ARM_MB_NSHST = 6;
+    public static final int ARM_MB_NSH = 7;
+    public static final int ARM_MB_RESERVED_8 = 8;
+    public static final int ARM_MB_ISHLD = 9;
+    public static final int ARM_MB_ISHST = 10;
+    public static final int ARM_MB_ISH = 11;
+    public static final int ARM_MB_RESERVED_12 = 12;
+    public static final int ARM_MB_LD = 13;
+    public static final int ARM_MB_ST = 14;
+    public static final int ARM_MB_SY = 15;
+    public static final int ARM_FIELD_SPSR_C = 1;
+    public static final int ARM_FIELD_SPSR_X = 2;
+    public static final int ARM_FIELD_SPSR_S = 4;
+    public static final int ARM_FIELD_SPSR_F = 8;
+    public static final int ARM_FIELD_CPSR_C = 16;
+    public static final int ARM_FIELD_CPSR_X = 32;
+    public static final int ARM_FIELD_CPSR_S = 64;
+    public static final int ARM_FIELD_CPSR_F = 128;
+    public static final int ARM_BANKEDREG_ELR_HYP = 30;
+    public static final int ARM_BANKEDREG_LR_ABT = 20;
+    public static final int ARM_BANKEDREG_LR_FIQ = 14;
+    public static final int ARM_BANKEDREG_LR_IRQ = 16;
+    public static final int ARM_BANKEDREG_LR_MON = 28;
+    public static final int ARM_BANKEDREG_LR_SVC = 18;
+    public static final int ARM_BANKEDREG_LR_UND = 22;
+    public static final int ARM_BANKEDREG_LR_USR = 6;
+    public static final int ARM_BANKEDREG_R10_FIQ = 10;
+    public static final int ARM_BANKEDREG_R10_USR = 2;
+    public static final int ARM_BANKEDREG_R11_FIQ = 11;
+    public static final int ARM_BANKEDREG_R11_USR = 3;
+    public static final int ARM_BANKEDREG_R12_FIQ = 12;
+    public static final int ARM_BANKEDREG_R12_USR = 4;
+    public static final int ARM_BANKEDREG_R8_FIQ = 8;
+    public static final int ARM_BANKEDREG_R8_USR = 0;
+    public static final int ARM_BANKEDREG_R9_FIQ = 9;
+    public static final int ARM_BANKEDREG_R9_USR = 1;
+    public static final int ARM_BANKEDREG_SPSR_ABT = 52;
+    public static final int ARM_BANKEDREG_SPSR_FIQ = 46;
+    public static final int ARM_BANKEDREG_SPSR_HYP = 62;
+    public static final int ARM_BANKEDREG_SPSR_IRQ = 48;
+    public static final int ARM_BANKEDREG_SPSR_MON = 60;
+    public static final int ARM_BANKEDREG_SPSR_SVC = 50;
+    public static final int ARM_BANKEDREG_SPSR_UND = 54;
+    public static final int ARM_BANKEDREG_SP_ABT = 21;
+    public static final int ARM_BANKEDREG_SP_FIQ = 13;
+    public static final int ARM_BANKEDREG_SP_HYP = 31;
+    public static final int ARM_BANKEDREG_SP_IRQ = 17;
+    public static final int ARM_BANKEDREG_SP_MON = 29;
+    public static final int ARM_BANKEDREG_SP_SVC = 19;
+    public static final int ARM_BANKEDREG_SP_UND = 23;
+    public static final int ARM_BANKEDREG_SP_USR = 5;
+    public static final int ARM_MCLASSSYSREG_APSR = 2048;
+    public static final int ARM_MCLASSSYSREG_APSR_G = 1024;
+    public static final int ARM_MCLASSSYSREG_APSR_NZCVQ = 2048;
+    public static final int ARM_MCLASSSYSREG_APSR_NZCVQG = 3072;
+    public static final int ARM_MCLASSSYSREG_BASEPRI = 2065;
+    public static final int ARM_MCLASSSYSREG_BASEPRI_MAX = 2066;
+    public static final int ARM_MCLASSSYSREG_BASEPRI_NS = 2193;
+    public static final int ARM_MCLASSSYSREG_CONTROL = 2068;
+    public static final int ARM_MCLASSSYSREG_CONTROL_NS = 2196;
+    public static final int ARM_MCLASSSYSREG_EAPSR = 2050;
+    public static final int ARM_MCLASSSYSREG_EAPSR_G = 1026;
+    public static final int ARM_MCLASSSYSREG_EAPSR_NZCVQ = 2050;
+    public static final int ARM_MCLASSSYSREG_EAPSR_NZCVQG = 3074;
+    public static final int ARM_MCLASSSYSREG_EPSR = 2054;
+    public static final int ARM_MCLASSSYSREG_FAULTMASK = 2067;
+    public static final int ARM_MCLASSSYSREG_FAULTMASK_NS = 2195;
+    public static final int ARM_MCLASSSYSREG_IAPSR = 2049;
+    public static final int ARM_MCLASSSYSREG_IAPSR_G = 1025;
+    public static final int ARM_MCLASSSYSREG_IAPSR_NZCVQ = 2049;
+    public static final int ARM_MCLASSSYSREG_IAPSR_NZCVQG = 3073;
+    public static final int ARM_MCLASSSYSREG_IEPSR = 2055;
+    public static final int ARM_MCLASSSYSREG_IPSR = 2053;
+    public static final int ARM_MCLASSSYSREG_MSP = 2056;
+    public static final int ARM_MCLASSSYSREG_MSPLIM = 2058;
+    public static final int ARM_MCLASSSYSREG_MSPLIM_NS = 2186;
+    public static final int ARM_MCLASSSYSREG_MSP_NS = 2184;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_0 = 2080;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_0_NS = 2208;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_1 = 2081;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_1_NS = 2209;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_2 = 2082;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_2_NS = 2210;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_3 = 2083;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_P_3_NS = 2211;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_0 = 2084;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_0_NS = 2212;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_1 = 2085;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_1_NS = 2213;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_2 = 2086;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_2_NS = 2214;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_3 = 2087;
+    public static final int ARM_MCLASSSYSREG_PAC_KEY_U_3_NS = 2215;
+    public static final int ARM_MCLASSSYSREG_PRIMASK = 2064;
+    public static final int ARM_MCLASSSYSREG_PRIMASK_NS = 2192;
+    public static final int ARM_MCLASSSYSREG_PSP = 2057;
+    public static final int ARM_MCLASSSYSREG_PSPLIM = 2059;
+    public static final int ARM_MCLASSSYSREG_PSPLIM_NS = 2187;
+    public static final int ARM_MCLASSSYSREG_PSP_NS = 2185;
+    public static final int ARM_MCLASSSYSREG_SP_NS = 2200;
+    public static final int ARM_MCLASSSYSREG_XPSR = 2051;
+    public static final int ARM_MCLASSSYSREG_XPSR_G = 1027;
+    public static final int ARM_MCLASSSYSREG_XPSR_NZCVQ = 2051;
+    public static final int ARM_MCLASSSYSREG_XPSR_NZCVQG = 3075;
+    public static final int ARM_OP_CIMM = 16;
+    public static final int ARM_OP_PIMM = 17;
+    public static final int ARM_OP_SETEND = 18;
+    public static final int ARM_OP_SYSREG = 19;
+    public static final int ARM_OP_BANKEDREG = 20;
+    public static final int ARM_OP_SPSR = 21;
+    public static final int ARM_OP_CPSR = 22;
+    public static final int ARM_OP_SYSM = 23;
+    public static final int ARM_OP_VPRED_R = 24;
+    public static final int ARM_OP_VPRED_N = 25;
+    public static final int ARM_OP_MEM = 128;
+    public static final int ARM_SETEND_INVALID = 0;
+    public static final int ARM_SETEND_BE = 1;
+    public static final int ARM_SETEND_LE = 2;
+    public static final int ARM_CPSMODE_INVALID = 0;
+    public static final int ARM_CPSMODE_IE = 2;
+    public static final int ARM_CPSMODE_ID = 3;
+    public static final int ARM_CPSFLAG_INVALID = 0;
+    public static final int ARM_CPSFLAG_F = 1;
+    public static final int ARM_CPSFLAG_I = 2;
+    public static final int ARM_CPSFLAG_A = 4;
+    public static final int ARM_CPSFLAG_NONE = 16;
+    public static final int ARM_VECTORDATA_INVALID = 0;
+    public static final int ARM_VECTORDATA_I8 = 1;
+    public static final int ARM_VECTORDATA_I16 = 2;
+    public static final int ARM_VECTORDATA_I32 = 3;
+    public static final int ARM_VECTORDATA_I64 = 4;
+    public static final int ARM_VECTORDATA_S8 = 5;
+    public static final int ARM_VECTORDATA_S16 = 6;
+    public static final int ARM_VECTORDATA_S32 = 7;
+    public static final int ARM_VECTORDATA_S64 = 8;
+    public static final int ARM_VECTORDATA_U8 = 9;
+    public static final int ARM_VECTORDATA_U16 = 10;
+    public static final int ARM_VECTORDATA_U32 = 11;
+    public static final int ARM_VECTORDATA_U64 = 12;
+    public static final int ARM_VECTORDATA_P8 = 13;
+    public static final int ARM_VECTORDATA_P16 = 14;
+    public static final int ARM_VECTORDATA_F16 = 15;
+    public static final int ARM_VECTORDATA_F32 = 16;
+    public static final int ARM_VECTORDATA_F64 = 17;
+    public static final int ARM_VECTORDATA_F16F64 = 18;
+    public static final int ARM_VECTORDATA_F64F16 = 19;
+    public static final int ARM_VECTORDATA_F32F16 = 20;
+    public static final int ARM_VECTORDATA_F16F32 = 21;
+    public static final int ARM_VECTORDATA_F64F32 = 22;
+    public static final int ARM_VECTORDATA_F32F64 = 23;
+    public static final int ARM_VECTORDATA_S32F32 = 24;
+    public static final int ARM_VECTORDATA_U32F32 = 25;
+    public static final int ARM_VECTORDATA_F32S32 = 26;
+    public static final int ARM_VECTORDATA_F32U32 = 27;
+    public static final int ARM_VECTORDATA_F64S16 = 28;
+    public static final int ARM_VECTORDATA_F32S16 = 29;
+    public static final int ARM_VECTORDATA_F64S32 = 30;
+    public static final int ARM_VECTORDATA_S16F64 = 31;
+    public static final int ARM_VECTORDATA_S16F32 = 32;
+    public static final int ARM_VECTORDATA_S32F64 = 33;
+    public static final int ARM_VECTORDATA_U16F64 = 34;
+    public static final int ARM_VECTORDATA_U16F32 = 35;
+    public static final int ARM_VECTORDATA_U32F64 = 36;
+    public static final int ARM_VECTORDATA_F64U16 = 37;
+    public static final int ARM_VECTORDATA_F32U16 = 38;
+    public static final int ARM_VECTORDATA_F64U32 = 39;
+    public static final int ARM_VECTORDATA_F16U16 = 40;
+    public static final int ARM_VECTORDATA_U16F16 = 41;
+    public static final int ARM_VECTORDATA_F16U32 = 42;
+    public static final int ARM_VECTORDATA_U32F16 = 43;
+    public static final int ARM_VECTORDATA_F16S16 = 44;
+    public static final int ARM_VECTORDATA_S16F16 = 45;
+    public static final int ARM_VECTORDATA_F16S32 = 46;
+    public static final int ARM_VECTORDATA_S32F16 = 47;
+    public static final int ARM_REG_INVALID = 0;
+    public static final int ARM_REG_APSR = 1;
+    public static final int ARM_REG_APSR_NZCV = 2;
+    public static final int ARM_REG_CPSR = 3;
+    public static final int ARM_REG_FPCXTNS = 4;
+    public static final int ARM_REG_FPCXTS = 5;
+    public static final int ARM_REG_FPEXC = 6;
+    public static final int ARM_REG_FPINST = 7;
+    public static final int ARM_REG_FPSCR = 8;
+    public static final int ARM_REG_FPSCR_NZCV = 9;
+    public static final int ARM_REG_FPSCR_NZCVQC = 10;
+    public static final int ARM_REG_FPSID = 11;
+    public static final int ARM_REG_ITSTATE = 12;
+    public static final int ARM_REG_LR = 13;
+    public static final int ARM_REG_PC = 14;
+    public static final int ARM_REG_RA_AUTH_CODE = 15;
+    public static final int ARM_REG_SP = 16;
+    public static final int ARM_REG_SPSR = 17;
+    public static final int ARM_REG_VPR = 18;
+    public static final int ARM_REG_ZR = 19;
+    public static final int ARM_REG_D0 = 20;
+    public static final int ARM_REG_D1 = 21;
+    public static final int ARM_REG_D2 = 22;
+    public static final int ARM_REG_D3 = 23;
+    public static final int ARM_REG_D4 = 24;
+    public static final int ARM_REG_D5 = 25;
+    public static final int ARM_REG_D6 = 26;
+    public static final int ARM_REG_D7 = 27;
+    public static final int ARM_REG_D8 = 28;
+    public static final int ARM_REG_D9 = 29;
+    public static final int ARM_REG_D10 = 30;
+    public static final int ARM_REG_D11 = 31;
+    public static final int ARM_REG_D12 = 32;
+    public static final int ARM_REG_D13 = 33;
+    public static final int ARM_REG_D14 = 34;
+    public static final int ARM_REG_D15 = 35;
+    public static final int ARM_REG_D16 = 36;
+    public static final int ARM_REG_D17 = 37;
+    public static final int ARM_REG_D18 = 38;
+    public static final int ARM_REG_D19 = 39;
+    public static final int ARM_REG_D20 = 40;
+    public static final int ARM_REG_D21 = 41;
+    public static final int ARM_REG_D22 = 42;
+    public static final int ARM_REG_D23 = 43;
+    public static final int ARM_REG_D24 = 44;
+    public static final int ARM_REG_D25 = 45;
+    public static final int ARM_REG_D26 = 46;
+    public static final int ARM_REG_D27 = 47;
+    public static final int ARM_REG_D28 = 48;
+    public static final int ARM_REG_D29 = 49;
+    public static final int ARM_REG_D30 = 50;
+    public static final int ARM_REG_D31 = 51;
+    public static final int ARM_REG_FPINST2 = 52;
+    public static final int ARM_REG_MVFR0 = 53;
+    public static final int ARM_REG_MVFR1 = 54;
+    public static final int ARM_REG_MVFR2 = 55;
+    public static final int ARM_REG_P0 = 56;
+    public static final int ARM_REG_Q0 = 57;
+    public static final int ARM_REG_Q1 = 58;
+    public static final int ARM_REG_Q2 = 59;
+    public static final int ARM_REG_Q3 = 60;
+    public static final int ARM_REG_Q4 = 61;
+    public static final int ARM_REG_Q5 = 62;
+    public static final int ARM_REG_Q6 = 63;
+    public static final int ARM_REG_Q7 = 64;
+    public static final int ARM_REG_Q8 = 65;
+    public static final int ARM_REG_Q9 = 66;
+    public static final int ARM_REG_Q10 = 67;
+    public static final int ARM_REG_Q11 = 68;
+    public static final int ARM_REG_Q12 = 69;
+    public static final int ARM_REG_Q13 = 70;
+    public static final int ARM_REG_Q14 = 71;
+    public static final int ARM_REG_Q15 = 72;
+    public static final int ARM_REG_R0 = 73;
+    public static final int ARM_REG_R1 = 74;
+    public static final int ARM_REG_R2 = 75;
+    public static final int ARM_REG_R3 = 76;
+    public static final int ARM_REG_R4 = 77;
+    public static final int ARM_REG_R5 = 78;
+    public static final int ARM_REG_R6 = 79;
+    public static final int ARM_REG_R7 = 80;
+    public static final int ARM_REG_R8 = 81;
+    public static final int ARM_REG_R9 = 82;
+    public static final int ARM_REG_R10 = 83;
+    public static final int ARM_REG_R11 = 84;
+    public static final int ARM_REG_R12 = 85;
+    public static final int ARM_REG_S0 = 86;
+    public static final int ARM_REG_S1 = 87;
+    public static final int ARM_REG_S2 = 88;
+    public static final int ARM_REG_S3 = 89;
+    public static final int ARM_REG_S4 = 90;
+    public static final int ARM_REG_S5 = 91;
+    public static final int ARM_REG_S6 = 92;
+    public static final int ARM_REG_S7 = 93;
+    public static final int ARM_REG_S8 = 94;
+    public static final int ARM_REG_S9 = 95;
+    public static final int ARM_REG_S10 = 96;
+    public static final int ARM_REG_S11 = 97;
+    public static final int ARM_REG_S12 = 98;
+    public static final int ARM_REG_S13 = 99;
+    public static final int ARM_REG_S14 = 100;
+    public static final int ARM_REG_S15 = 101;
+    public static final int ARM_REG_S16 = 102;
+    public static final int ARM_REG_S17 = 103;
+    public static final int ARM_REG_S18 = 104;
+    public static final int ARM_REG_S19 = 105;
+    public static final int ARM_REG_S20 = 106;
+    public static final int ARM_REG_S21 = 107;
+    public static final int ARM_REG_S22 = 108;
+    public static final int ARM_REG_S23 = 109;
+    public static final int ARM_REG_S24 = 110;
+    public static final int ARM_REG_S25 = 111;
+    public static final int ARM_REG_S26 = 112;
+    public static final int ARM_REG_S27 = 113;
+    public static final int ARM_REG_S28 = 114;
+    public static final int ARM_REG_S29 = 115;
+    public static final int ARM_REG_S30 = 116;
+    public static final int ARM_REG_S31 = 117;
+    public static final int ARM_REG_D0_D2 = 118;
+    public static final int ARM_REG_D1_D3 = 119;
+    public static final int ARM_REG_D2_D4 = 120;
+    public static final int ARM_REG_D3_D5 = 121;
+    public static final int ARM_REG_D4_D6 = 122;
+    public static final int ARM_REG_D5_D7 = 123;
+    public static final int ARM_REG_D6_D8 = 124;
+    public static final int ARM_REG_D7_D9 = 125;
+    public static final int ARM_REG_D8_D10 = 126;
+    public static final int ARM_REG_D9_D11 = 127;
+    public static final int ARM_REG_D10_D12 = 128;
+    public static final int ARM_REG_D11_D13 = 129;
+    public static final int ARM_REG_D12_D14 = 130;
+    public static final int ARM_REG_D13_D15 = 131;
+    public static final int ARM_REG_D14_D16 = 132;
+    public static final int ARM_REG_D15_D17 = 133;
+    public static final int ARM_REG_D16_D18 = 134;
+    public static final int ARM_REG_D17_D19 = 135;
+    public static final int ARM_REG_D18_D20 = 136;
+    public static final int ARM_REG_D19_D21 = 137;
+    public static final int ARM_REG_D20_D22 = 138;
+    public static final int ARM_REG_D21_D23 = 139;
+    public static final int ARM_REG_D22_D24 = 140;
+    public static final int ARM_REG_D23_D25 = 141;
+    public static final int ARM_REG_D24_D26 = 142;
+    public static final int ARM_REG_D25_D27 = 143;
+    public static final int ARM_REG_D26_D28 = 144;
+    public static final int ARM_REG_D27_D29 = 145;
+    public static final int ARM_REG_D28_D30 = 146;
+    public static final int ARM_REG_D29_D31 = 147;
+    public static final int ARM_REG_Q0_Q1 = 148;
+    public static final int ARM_REG_Q1_Q2 = 149;
+    public static final int ARM_REG_Q2_Q3 = 150;
+    public static final int ARM_REG_Q3_Q4 = 151;
+    public static final int ARM_REG_Q4_Q5 = 152;
+    public static final int ARM_REG_Q5_Q6 = 153;
+    public static final int ARM_REG_Q6_Q7 = 154;
+    public static final int ARM_REG_Q7_Q8 = 155;
+    public static final int ARM_REG_Q8_Q9 = 156;
+    public static final int ARM_REG_Q9_Q10 = 157;
+    public static final int ARM_REG_Q10_Q11 = 158;
+    public static final int ARM_REG_Q11_Q12 = 159;
+    public static final int ARM_REG_Q12_Q13 = 160;
+    public static final int ARM_REG_Q13_Q14 = 161;
+    public static final int ARM_REG_Q14_Q15 = 162;
+    public static final int ARM_REG_Q0_Q1_Q2_Q3 = 163;
+    public static final int ARM_REG_Q1_Q2_Q3_Q4 = 164;
+    public static final int ARM_REG_Q2_Q3_Q4_Q5 = 165;
+    public static final int ARM_REG_Q3_Q4_Q5_Q6 = 166;
+    public static final int ARM_REG_Q4_Q5_Q6_Q7 = 167;
+    public static final int ARM_REG_Q5_Q6_Q7_Q8 = 168;
+    public static final int ARM_REG_Q6_Q7_Q8_Q9 = 169;
+    public static final int ARM_REG_Q7_Q8_Q9_Q10 = 170;
+    public static final int ARM_REG_Q8_Q9_Q10_Q11 = 171;
+    public static final int ARM_REG_Q9_Q10_Q11_Q12 = 172;
+    public static final int ARM_REG_Q10_Q11_Q12_Q13 = 173;
+    public static final int ARM_REG_Q11_Q12_Q13_Q14 = 174;
+    public static final int ARM_REG_Q12_Q13_Q14_Q15 = 175;
+    public static final int ARM_REG_R0_R1 = 176;
+    public static final int ARM_REG_R2_R3 = 177;
+    public static final int ARM_REG_R4_R5 = 178;
+    public static final int ARM_REG_R6_R7 = 179;
+    public static final int ARM_REG_R8_R9 = 180;
+    public static final int ARM_REG_R10_R11 = 181;
+    public static final int ARM_REG_R12_SP = 182;
+    public static final int ARM_REG_D0_D1_D2 = 183;
+    public static final int ARM_REG_D1_D2_D3 = 184;
+    public static final int ARM_REG_D2_D3_D4 = 185;
+    public static final int ARM_REG_D3_D4_D5 = 186;
+    public static final int ARM_REG_D4_D5_D6 = 187;
+    public static final int ARM_REG_D5_D6_D7 = 188;
+    public static final int ARM_REG_D6_D7_D8 = 189;
+    public static final int ARM_REG_D7_D8_D9 = 190;
+    public static final int ARM_REG_D8_D9_D10 = 191;
+    public static final int ARM_REG_D9_D10_D11 = 192;
+    public static final int ARM_REG_D10_D11_D12 = 193;
+    public static final int ARM_REG_D11_D12_D13 = 194;
+    public static final int ARM_REG_D12_D13_D14 = 195;
+    public static final int ARM_REG_D13_D14_D15 = 196;
+    public static final int ARM_REG_D14_D15_D16 = 197;
+    public static final int ARM_REG_D15_D16_D17 = 198;
+    public static final int ARM_REG_D16_D17_D18 = 199;
+    public static final int ARM_REG_D17_D18_D19 = 200;
+    public static final int ARM_REG_D18_D19_D20 = 201;
+    public static final int ARM_REG_D19_D20_D21 = 202;
+    public static final int ARM_REG_D20_D21_D22 = 203;
+    public static final int ARM_REG_D21_D22_D23 = 204;
+    public static final int ARM_REG_D22_D23_D24 = 205;
+    public static final int ARM_REG_D23_D24_D25 = 206;
+    public static final int ARM_REG_D24_D25_D26 = 207;
+    public static final int ARM_REG_D25_D26_D27 = 208;
+    public static final int ARM_REG_D26_D27_D28 = 209;
+    public static final int ARM_REG_D27_D28_D29 = 210;
+    public static final int ARM_REG_D28_D29_D30 = 211;
+    public static final int ARM_REG_D29_D30_D31 = 212;
+    public static final int ARM_REG_D0_D2_D4 = 213;
+    public static final int ARM_REG_D1_D3_D5 = 214;
+    public static final int ARM_REG_D2_D4_D6 = 215;
+    public static final int ARM_REG_D3_D5_D7 = 216;
+    public static final int ARM_REG_D4_D6_D8 = 217;
+    public static final int ARM_REG_D5_D7_D9 = 218;
+    public static final int ARM_REG_D6_D8_D10 = 219;
+    public static final int ARM_REG_D7_D9_D11 = 220;
+    public static final int ARM_REG_D8_D10_D12 = 221;
+    public static final int ARM_REG_D9_D11_D13 = 222;
+    public static final int ARM_REG_D10_D12_D14 = 223;
+    public static final int ARM_REG_D11_D13_D15 = 224;
+    public static final int ARM_REG_D12_D14_D16 = 225;
+    public static final int ARM_REG_D13_D15_D17 = 226;
+    public static final int ARM_REG_D14_D16_D18 = 227;
+    public static final int ARM_REG_D15_D17_D19 = 228;
+    public static final int ARM_REG_D16_D18_D20 = 229;
+    public static final int ARM_REG_D17_D19_D21 = 230;
+    public static final int ARM_REG_D18_D20_D22 = 231;
+    public static final int ARM_REG_D19_D21_D23 = 232;
+    public static final int ARM_REG_D20_D22_D24 = 233;
+    public static final int ARM_REG_D21_D23_D25 = 234;
+    public static final int ARM_REG_D22_D24_D26 = 235;
+    public static final int ARM_REG_D23_D25_D27 = 236;
+    public static final int ARM_REG_D24_D26_D28 = 237;
+    public static final int ARM_REG_D25_D27_D29 = 238;
+    public static final int ARM_REG_D26_D28_D30 = 239;
+    public static final int ARM_REG_D27_D29_D31 = 240;
+    public static final int ARM_REG_D0_D2_D4_D6 = 241;
+    public static final int ARM_REG_D1_D3_D5_D7 = 242;
+    public static final int ARM_REG_D2_D4_D6_D8 = 243;
+    public static final int ARM_REG_D3_D5_D7_D9 = 244;
+    public static final int ARM_REG_D4_D6_D8_D10 = 245;
+    public static final int ARM_REG_D5_D7_D9_D11 = 246;
+    public static final int ARM_REG_D6_D8_D10_D12 = 247;
+    public static final int ARM_REG_D7_D9_D11_D13 = 248;
+    public static final int ARM_REG_D8_D10_D12_D14 = 249;
+    public static final int ARM_REG_D9_D11_D13_D15 = 250;
+    public static final int ARM_REG_D10_D12_D14_D16 = 251;
+    public static final int ARM_REG_D11_D13_D15_D17 = 252;
+    public static final int ARM_REG_D12_D14_D16_D18 = 253;
+    public static final int ARM_REG_D13_D15_D17_D19 = 254;
+    public static final int ARM_REG_D14_D16_D18_D20 = 255;
+    public static final int ARM_REG_D15_D17_D19_D21 = 256;
+    public static final int ARM_REG_D16_D18_D20_D22 = 257;
+    public static final int ARM_REG_D17_D19_D21_D23 = 258;
+    public static final int ARM_REG_D18_D20_D22_D24 = 259;
+    public static final int ARM_REG_D19_D21_D23_D25 = 260;
+    public static final int ARM_REG_D20_D22_D24_D26 = 261;
+    public static final int ARM_REG_D21_D23_D25_D27 = 262;
+    public static final int ARM_REG_D22_D24_D26_D28 = 263;
+    public static final int ARM_REG_D23_D25_D27_D29 = 264;
+    public static final int ARM_REG_D24_D26_D28_D30 = 265;
+    public static final int ARM_REG_D25_D27_D29_D31 = 266;
+    public static final int ARM_REG_D1_D2 = 267;
+    public static final int ARM_REG_D3_D4 = 268;
+    public static final int ARM_REG_D5_D6 = 269;
+    public static final int ARM_REG_D7_D8 = 270;
+    public static final int ARM_REG_D9_D10 = 271;
+    public static final int ARM_REG_D11_D12 = 272;
+    public static final int ARM_REG_D13_D14 = 273;
+    public static final int ARM_REG_D15_D16 = 274;
+    public static final int ARM_REG_D17_D18 = 275;
+    public static final int ARM_REG_D19_D20 = 276;
+    public static final int ARM_REG_D21_D22 = 277;
+    public static final int ARM_REG_D23_D24 = 278;
+    public static final int ARM_REG_D25_D26 = 279;
+    public static final int ARM_REG_D27_D28 = 280;
+    public static final int ARM_REG_D29_D30 = 281;
+    public static final int ARM_REG_D1_D2_D3_D4 = 282;
+    public static final int ARM_REG_D3_D4_D5_D6 = 283;
+    public static final int ARM_REG_D5_D6_D7_D8 = 284;
+    public static final int ARM_REG_D7_D8_D9_D10 = 285;
+    public static final int ARM_REG_D9_D10_D11_D12 = 286;
+    public static final int ARM_REG_D11_D12_D13_D14 = 287;
+    public static final int ARM_REG_D13_D14_D15_D16 = 288;
+    public static final int ARM_REG_D15_D16_D17_D18 = 289;
+    public static final int ARM_REG_D17_D18_D19_D20 = 290;
+    public static final int ARM_REG_D19_D20_D21_D22 = 291;
+    public static final int ARM_REG_D21_D22_D23_D24 = 292;
+    public static final int ARM_REG_D23_D24_D25_D26 = 293;
+    public static final int ARM_REG_D25_D26_D27_D28 = 294;
+    public static final int ARM_REG_D27_D28_D29_D30 = 295;
+    public static final int ARM_REG_ENDING = 296;
+    public static final int ARM_INS_INVALID = 0;
+    public static final int ARM_INS_ASR = 1;
+    public static final int ARM_INS_IT = 2;
+    public static final int ARM_INS_LDRBT = 3;
+    public static final int ARM_INS_LDR = 4;
+    public static final int ARM_INS_LDRHT = 5;
+    public static final int ARM_INS_LDRSBT = 6;
+    public static final int ARM_INS_LDRSHT = 7;
+    public static final int ARM_INS_LDRT = 8;
+    public static final int ARM_INS_LSL = 9;
+    public static final int ARM_INS_LSR = 10;
+    public static final int ARM_INS_ROR = 11;
+    public static final int ARM_INS_RRX = 12;
+    public static final int ARM_INS_STRBT = 13;
+    public static final int ARM_INS_STRT = 14;
+    public static final int ARM_INS_VLD1 = 15;
+    public static final int ARM_INS_VLD2 = 16;
+    public static final int ARM_INS_VLD3 = 17;
+    public static final int ARM_INS_VLD4 = 18;
+    public static final int ARM_INS_VST1 = 19;
+    public static final int ARM_INS_VST2 = 20;
+    public static final int ARM_INS_VST3 = 21;
+    public static final int ARM_INS_VST4 = 22;
+    public static final int ARM_INS_LDRB = 23;
+    public static final int ARM_INS_LDRH = 24;
+    public static final int ARM_INS_LDRSB = 25;
+    public static final int ARM_INS_LDRSH = 26;
+    public static final int ARM_INS_MOVS = 27;
+    public static final int ARM_INS_MOV = 28;
+    public static final int ARM_INS_STRB = 29;
+    public static final int ARM_INS_STRH = 30;
+    public static final int ARM_INS_STR = 31;
+    public static final int ARM_INS_ADC = 32;
+    public static final int ARM_INS_ADD = 33;
+    public static final int ARM_INS_ADR = 34;
+    public static final int ARM_INS_AESD = 35;
+    public static final int ARM_INS_AESE = 36;
+    public static final int ARM_INS_AESIMC = 37;
+    public static final int ARM_INS_AESMC = 38;
+    public static final int ARM_INS_AND = 39;
+    public static final int ARM_INS_VDOT = 40;
+    public static final int ARM_INS_VCVT = 41;
+    public static final int ARM_INS_VCVTB = 42;
+    public static final int ARM_INS_VCVTT = 43;
+    public static final int ARM_INS_BFC = 44;
+    public static final int ARM_INS_BFI = 45;
+    public static final int ARM_INS_BIC = 46;
+    public static final int ARM_INS_BKPT = 47;
+    public static final int ARM_INS_BL = 48;
+    public static final int ARM_INS_BLX = 49;
+    public static final int ARM_INS_BX = 50;
+    public static final int ARM_INS_BXJ = 51;
+    public static final int ARM_INS_B = 52;
+    public static final int ARM_INS_CX1 = 53;
+    public static final int ARM_INS_CX1A = 54;
+    public static final int ARM_INS_CX1D = 55;
+    public static final int ARM_INS_CX1DA = 56;
+    public static final int ARM_INS_CX2 = 57;
+    public static final int ARM_INS_CX2A = 58;
+    public static final int ARM_INS_CX2D = 59;
+    public static final int ARM_INS_CX2DA = 60;
+    public static final int ARM_INS_CX3 = 61;
+    public static final int ARM_INS_CX3A = 62;
+    public static final int ARM_INS_CX3D = 63;
+    public static final int ARM_INS_CX3DA = 64;
+    public static final int ARM_INS_VCX1A = 65;
+    public static final int ARM_INS_VCX1 = 66;
+    public static final int ARM_INS_VCX2A = 67;
+    public static final int ARM_INS_VCX2 = 68;
+    public static final int ARM_INS_VCX3A = 69;
+    public static final int ARM_INS_VCX3 = 70;
+    public static final int ARM_INS_CDP = 71;
+    public static final int ARM_INS_CDP2 = 72;
+    public static final int ARM_INS_CLREX = 73;
+    public static final int ARM_INS_CLZ = 74;
+    public static final int ARM_INS_CMN = 75;
+    public static final int ARM_INS_CMP = 76;
+    public static final int ARM_INS_CPS = 77;
+    public static final int ARM_INS_CRC32B = 78;
+    public static final int ARM_INS_CRC32CB = 79;
+    public static final int ARM_INS_CRC32CH = 80;
+    public static final int ARM_INS_CRC32CW = 81;
+    public static final int ARM_INS_CRC32H = 82;
+    public static final int ARM_INS_CRC32W = 83;
+    public static final int ARM_INS_DBG = 84;
+    public static final int ARM_INS_DMB = 85;
+    public static final int ARM_INS_DSB = 86;
+    public static final int ARM_INS_EOR = 87;
+    public static final int ARM_INS_ERET = 88;
+    public static final int ARM_INS_VMOV = 89;
+    public static final int ARM_INS_FLDMDBX = 90;
+    public static final int ARM_INS_FLDMIAX = 91;
+    public static final int ARM_INS_VMRS = 92;
+    public static final int ARM_INS_FSTMDBX = 93;
+    public static final int ARM_INS_FSTMIAX = 94;
+    public static final int ARM_INS_HINT = 95;
+    public static final int ARM_INS_HLT = 96;
+    public static final int ARM_INS_HVC = 97;
+    public static final int ARM_INS_ISB = 98;
+    public static final int ARM_INS_LDA = 99;
+    public static final int ARM_INS_LDAB = 100;
+    public static final int ARM_INS_LDAEX = 101;
+    public static final int ARM_INS_LDAEXB = 102;
+    public static final int ARM_INS_LDAEXD = 103;
+    public static final int ARM_INS_LDAEXH = 104;
+    public static final int ARM_INS_LDAH = 105;
+    public static final int ARM_INS_LDC2L = 106;
+    public static final int ARM_INS_LDC2 = 107;
+    public static final int ARM_INS_LDCL = 108;
+    public static final int ARM_INS_LDC = 109;
+    public static final int ARM_INS_LDMDA = 110;
+    public static final int ARM_INS_LDMDB = 111;
+    public static final int ARM_INS_LDM = 112;
+    public static final int ARM_INS_LDMIB = 113;
+    public static final int ARM_INS_LDRD = 114;
+    public static final int ARM_INS_LDREX = 115;
+    public static final int ARM_INS_LDREXB = 116;
+    public static final int ARM_INS_LDREXD = 117;
+    public static final int ARM_INS_LDREXH = 118;
+    public static final int ARM_INS_MCR = 119;
+    public static final int ARM_INS_MCR2 = 120;
+    public static final int ARM_INS_MCRR = 121;
+    public static final int ARM_INS_MCRR2 = 122;
+    public static final int ARM_INS_MLA = 123;
+    public static final int ARM_INS_MLS = 124;
+    public static final int ARM_INS_MOVT = 125;
+    public static final int ARM_INS_MOVW = 126;
+    public static final int ARM_INS_MRC = 127;
+    public static final int ARM_INS_MRC2 = 128;
+    public static final int ARM_INS_MRRC = 129;
+    public static final int ARM_INS_MRRC2 = 130;
+    public static final int ARM_INS_MRS = 131;
+    public static final int ARM_INS_MSR = 132;
+    public static final int ARM_INS_MUL = 133;
+    public static final int ARM_INS_ASRL = 134;
+    public static final int ARM_INS_DLSTP = 135;
+    public static final int ARM_INS_LCTP = 136;
+    public static final int ARM_INS_LETP = 137;
+    public static final int ARM_INS_LSLL = 138;
+    public static final int ARM_INS_LSRL = 139;
+    public static final int ARM_INS_SQRSHR = 140;
+    public static final int ARM_INS_SQRSHRL = 141;
+    public static final int ARM_INS_SQSHL = 142;
+    public static final int ARM_INS_SQSHLL = 143;
+    public static final int ARM_INS_SRSHR = 144;
+    public static final int ARM_INS_SRSHRL = 145;
+    public static final int ARM_INS_UQRSHL = 146;
+    public static final int ARM_INS_UQRSHLL = 147;
+    public static final int ARM_INS_UQSHL = 148;
+    public static final int ARM_INS_UQSHLL = 149;
+    public static final int ARM_INS_URSHR = 150;
+    public static final int ARM_INS_URSHRL = 151;
+    public static final int ARM_INS_VABAV = 152;
+    public static final int ARM_INS_VABD = 153;
+    public static final int ARM_INS_VABS = 154;
+    public static final int ARM_INS_VADC = 155;
+    public static final int ARM_INS_VADCI = 156;
+    public static final int ARM_INS_VADDLVA = 157;
+    public static final int ARM_INS_VADDLV = 158;
+    public static final int ARM_INS_VADDVA = 159;
+    public static final int ARM_INS_VADDV = 160;
+    public static final int ARM_INS_VADD = 161;
+    public static final int ARM_INS_VAND = 162;
+    public static final int ARM_INS_VBIC = 163;
+    public static final int ARM_INS_VBRSR = 164;
+    public static final int ARM_INS_VCADD = 165;
+    public static final int ARM_INS_VCLS = 166;
+    public static final int ARM_INS_VCLZ = 167;
+    public static final int ARM_INS_VCMLA = 168;
+    public static final int ARM_INS_VCMP = 169;
+    public static final int ARM_INS_VCMUL = 170;
+    public static final int ARM_INS_VCTP = 171;
+    public static final int ARM_INS_VCVTA = 172;
+    public static final int ARM_INS_VCVTM = 173;
+    public static final int ARM_INS_VCVTN = 174;
+    public static final int ARM_INS_VCVTP = 175;
+    public static final int ARM_INS_VDDUP = 176;
+    public static final int ARM_INS_VDUP = 177;
+    public static final int ARM_INS_VDWDUP = 178;
+    public static final int ARM_INS_VEOR = 179;
+    public static final int ARM_INS_VFMAS = 180;
+    public static final int ARM_INS_VFMA = 181;
+    public static final int ARM_INS_VFMS = 182;
+    public static final int ARM_INS_VHADD = 183;
+    public static final int ARM_INS_VHCADD = 184;
+    public static final int ARM_INS_VHSUB = 185;
+    public static final int ARM_INS_VIDUP = 186;
+    public static final int ARM_INS_VIWDUP = 187;
+    public static final int ARM_INS_VLD20 = 188;
+    public static final int ARM_INS_VLD21 = 189;
+    public static final int ARM_INS_VLD40 = 190;
+    public static final int ARM_INS_VLD41 = 191;
+    public static final int ARM_INS_VLD42 = 192;
+    public static final int ARM_INS_VLD43 = 193;
+    public static final int ARM_INS_VLDRB = 194;
+    public static final int ARM_INS_VLDRD = 195;
+    public static final int ARM_INS_VLDRH = 196;
+    public static final int ARM_INS_VLDRW = 197;
+    public static final int ARM_INS_VMAXAV = 198;
+    public static final int ARM_INS_VMAXA = 199;
+    public static final int ARM_INS_VMAXNMAV = 200;
+    public static final int ARM_INS_VMAXNMA = 201;
+    public static final int ARM_INS_VMAXNMV = 202;
+    public static final int ARM_INS_VMAXNM = 203;
+    public static final int ARM_INS_VMAXV = 204;
+    public static final int ARM_INS_VMAX = 205;
+    public static final int ARM_INS_VMINAV = 206;
+    public static final int ARM_INS_VMINA = 207;
+    public static final int ARM_INS_VMINNMAV = 208;
+    public static final int ARM_INS_VMINNMA = 209;
+    public static final int ARM_INS_VMINNMV = 210;
+    public static final int ARM_INS_VMINNM = 211;
+    public static final int ARM_INS_VMINV = 212;
+    public static final int ARM_INS_VMIN = 213;
+    public static final int ARM_INS_VMLADAVA = 214;
+    public static final int ARM_INS_VMLADAVAX = 215;
+    public static final int ARM_INS_VMLADAV = 216;
+    public static final int ARM_INS_VMLADAVX = 217;
+    public static final int ARM_INS_VMLALDAVA = 218;
+    public static final int ARM_INS_VMLALDAVAX = 219;
+    public static final int ARM_INS_VMLALDAV = 220;
+    public static final int ARM_INS_VMLALDAVX = 221;
+    public static final int ARM_INS_VMLAS = 222;
+    public static final int ARM_INS_VMLA = 223;
+    public static final int ARM_INS_VMLSDAVA = 224;
+    public static final int ARM_INS_VMLSDAVAX = 225;
+    public static final int ARM_INS_VMLSDAV = 226;
+    public static final int ARM_INS_VMLSDAVX = 227;
+    public static final int ARM_INS_VMLSLDAVA = 228;
+    public static final int ARM_INS_VMLSLDAVAX = 229;
+    public static final int ARM_INS_VMLSLDAV = 230;
+    public static final int ARM_INS_VMLSLDAVX = 231;
+    public static final int ARM_INS_VMOVLB = 232;
+    public static final int ARM_INS_VMOVLT = 233;
+    public static final int ARM_INS_VMOVNB = 234;
+    public static final int ARM_INS_VMOVNT = 235;
+    public static final int ARM_INS_VMULH = 236;
+    public static final int ARM_INS_VMULLB = 237;
+    public static final int ARM_INS_VMULLT = 238;
+    public static final int ARM_INS_VMUL = 239;
+    public static final int ARM_INS_VMVN = 240;
+    public static final int ARM_INS_VNEG = 241;
+    public static final int ARM_INS_VORN = 242;
+    public static final int ARM_INS_VORR = 243;
+    public static final int ARM_INS_VPNOT = 244;
+    public static final int ARM_INS_VPSEL = 245;
+    public static final int ARM_INS_VPST = 246;
+    public static final int ARM_INS_VPT = 247;
+    public static final int ARM_INS_VQABS = 248;
+    public static final int ARM_INS_VQADD = 249;
+    public static final int ARM_INS_VQDMLADHX = 250;
+    public static final int ARM_INS_VQDMLADH = 251;
+    public static final int ARM_INS_VQDMLAH = 252;
+    public static final int ARM_INS_VQDMLASH = 253;
+    public static final int ARM_INS_VQDMLSDHX = 254;
+    public static final int ARM_INS_VQDMLSDH = 255;
+    public static final int ARM_INS_VQDMULH = 256;
+    public static final int ARM_INS_VQDMULLB = 257;
+    public static final int ARM_INS_VQDMULLT = 258;
+    public static final int ARM_INS_VQMOVNB = 259;
+    public static final int ARM_INS_VQMOVNT = 260;
+    public static final int ARM_INS_VQMOVUNB = 261;
+    public static final int ARM_INS_VQMOVUNT = 262;
+    public static final int ARM_INS_VQNEG = 263;
+    public static final int ARM_INS_VQRDMLADHX = 264;
+    public static final int ARM_INS_VQRDMLADH = 265;
+    public static final int ARM_INS_VQRDMLAH = 266;
+    public static final int ARM_INS_VQRDMLASH = 267;
+    public static final int ARM_INS_VQRDMLSDHX = 268;
+    public static final int ARM_INS_VQRDMLSDH = 269;
+    public static final int ARM_INS_VQRDMULH = 270;
+    public static final int ARM_INS_VQRSHL = 271;
+    public static final int ARM_INS_VQRSHRNB = 272;
+    public static final int ARM_INS_VQRSHRNT = 273;
+    public static final int ARM_INS_VQRSHRUNB = 274;
+    public static final int ARM_INS_VQRSHRUNT = 275;
+    public static final int ARM_INS_VQSHLU = 276;
+    public static final int ARM_INS_VQSHL = 277;
+    public static final int ARM_INS_VQSHRNB = 278;
+    public static final int ARM_INS_VQSHRNT = 279;
+    public static final int ARM_INS_VQSHRUNB = 280;
+    public static final int ARM_INS_VQSHRUNT = 281;
+    public static final int ARM_INS_VQSUB = 282;
+    public static final int ARM_INS_VREV16 = 283;
+    public static final int ARM_INS_VREV32 = 284;
+    public static final int ARM_INS_VREV64 = 285;
+    public static final int ARM_INS_VRHADD = 286;
+    public static final int ARM_INS_VRINTA = 287;
+    public static final int ARM_INS_VRINTM = 288;
+    public static final int ARM_INS_VRINTN = 289;
+    public static final int ARM_INS_VRINTP = 290;
+    public static final int ARM_INS_VRINTX = 291;
+    public static final int ARM_INS_VRINTZ = 292;
+    public static final int ARM_INS_VRMLALDAVHA = 293;
+    public static final int ARM_INS_VRMLALDAVHAX = 294;
+    public static final int ARM_INS_VRMLALDAVH = 295;
+    public static final int ARM_INS_VRMLALDAVHX = 296;
+    public static final int ARM_INS_VRMLSLDAVHA = 297;
+    public static final int ARM_INS_VRMLSLDAVHAX = 298;
+    public static final int ARM_INS_VRMLSLDAVH = 299;
+    public static final int ARM_INS_VRMLSLDAVHX = 300;
+    public static final int ARM_INS_VRMULH = 301;
+    public static final int ARM_INS_VRSHL = 302;
+    public static final int ARM_INS_VRSHRNB = 303;
+    public static final int ARM_INS_VRSHRNT = 304;
+    public static final int ARM_INS_VRSHR = 305;
+    public static final int ARM_INS_VSBC = 306;
+    public static final int ARM_INS_VSBCI = 307;
+    public static final int ARM_INS_VSHLC = 308;
+    public static final int ARM_INS_VSHLLB = 309;
+    public static final int ARM_INS_VSHLLT = 310;
+    public static final int ARM_INS_VSHL = 311;
+    public static final int ARM_INS_VSHRNB = 312;
+    public static final int ARM_INS_VSHRNT = 313;
+    public static final int ARM_INS_VSHR = 314;
+    public static final int ARM_INS_VSLI = 315;
+    public static final int ARM_INS_VSRI = 316;
+    public static final int ARM_INS_VST20 = 317;
+    public static final int ARM_INS_VST21 = 318;
+    public static final int ARM_INS_VST40 = 319;
+    public static final int ARM_INS_VST41 = 320;
+    public static final int ARM_INS_VST42 = 321;
+    public static final int ARM_INS_VST43 = 322;
+    public static final int ARM_INS_VSTRB = 323;
+    public static final int ARM_INS_VSTRD = 324;
+    public static final int ARM_INS_VSTRH = 325;
+    public static final int ARM_INS_VSTRW = 326;
+    public static final int ARM_INS_VSUB = 327;
+    public static final int ARM_INS_WLSTP = 328;
+    public static final int ARM_INS_MVN = 329;
+    public static final int ARM_INS_ORR = 330;
+    public static final int ARM_INS_PKHBT = 331;
+    public static final int ARM_INS_PKHTB = 332;
+    public static final int ARM_INS_PLDW = 333;
+    public static final int ARM_INS_PLD = 334;
+    public static final int ARM_INS_PLI = 335;
+    public static final int ARM_INS_QADD = 336;
+    public static final int ARM_INS_QADD16 = 337;
+    public static final int ARM_INS_QADD8 = 338;
+    public static final int ARM_INS_QASX = 339;
+    public static final int ARM_INS_QDADD = 340;
+    public static final int ARM_INS_QDSUB = 341;
+    public static final int ARM_INS_QSAX = 342;
+    public static final int ARM_INS_QSUB = 343;
+    public static final int ARM_INS_QSUB16 = 344;
+    public static final int ARM_INS_QSUB8 = 345;
+    public static final int ARM_INS_RBIT = 346;
+    public static final int ARM_INS_REV = 347;
+    public static final int ARM_INS_REV16 = 348;
+    public static final int ARM_INS_REVSH = 349;
+    public static final int ARM_INS_RFEDA = 350;
+    public static final int ARM_INS_RFEDB = 351;
+    public static final int ARM_INS_RFEIA = 352;
+    public static final int ARM_INS_RFEIB = 353;
+    public static final int ARM_INS_RSB = 354;
+    public static final int ARM_INS_RSC = 355;
+    public static final int ARM_INS_SADD16 = 356;
+    public static final int ARM_INS_SADD8 = 357;
+    public static final int ARM_INS_SASX = 358;
+    public static final int ARM_INS_SB = 359;
+    public static final int ARM_INS_SBC = 360;
+    public static final int ARM_INS_SBFX = 361;
+    public static final int ARM_INS_SDIV = 362;
+    public static final int ARM_INS_SEL = 363;
+    public static final int ARM_INS_SETEND = 364;
+    public static final int ARM_INS_SETPAN = 365;
+    public static final int ARM_INS_SHA1C = 366;
+    public static final int ARM_INS_SHA1H = 367;
+    public static final int ARM_INS_SHA1M = 368;
+    public static final int ARM_INS_SHA1P = 369;
+    public static final int ARM_INS_SHA1SU0 = 370;
+    public static final int ARM_INS_SHA1SU1 = 371;
+    public static final int ARM_INS_SHA256H = 372;
+    public static final int ARM_INS_SHA256H2 = 373;
+    public static final int ARM_INS_SHA256SU0 = 374;
+    public static final int ARM_INS_SHA256SU1 = 375;
+    public static final int ARM_INS_SHADD16 = 376;
+    public static final int ARM_INS_SHADD8 = 377;
+    public static final int ARM_INS_SHASX = 378;
+    public static final int ARM_INS_SHSAX = 379;
+    public static final int ARM_INS_SHSUB16 = 380;
+    public static final int ARM_INS_SHSUB8 = 381;
+    public static final int ARM_INS_SMC = 382;
+    public static final int ARM_INS_SMLABB = 383;
+    public static final int ARM_INS_SMLABT = 384;
+    public static final int ARM_INS_SMLAD = 385;
+    public static final int ARM_INS_SMLADX = 386;
+    public static final int ARM_INS_SMLAL = 387;
+    public static final int ARM_INS_SMLALBB = 388;
+    public static final int ARM_INS_SMLALBT = 389;
+    public static final int ARM_INS_SMLALD = 390;
+    public static final int ARM_INS_SMLALDX = 391;
+    public static final int ARM_INS_SMLALTB = 392;
+    public static final int ARM_INS_SMLALTT = 393;
+    public static final int ARM_INS_SMLATB = 394;
+    public static final int ARM_INS_SMLATT = 395;
+    public static final int ARM_INS_SMLAWB = 396;
+    public static final int ARM_INS_SMLAWT = 397;
+    public static final int ARM_INS_SMLSD = 398;
+    public static final int ARM_INS_SMLSDX = 399;
+    public static final int ARM_INS_SMLSLD = 400;
+    public static final int ARM_INS_SMLSLDX = 401;
+    public static final int ARM_INS_SMMLA = 402;
+    public static final int ARM_INS_SMMLAR = 403;
+    public static final int ARM_INS_SMMLS = 404;
+    public static final int ARM_INS_SMMLSR = 405;
+    public static final int ARM_INS_SMMUL = 406;
+    public static final int ARM_INS_SMMULR = 407;
+    public static final int ARM_INS_SMUAD = 408;
+    public static final int ARM_INS_SMUADX = 409;
+    public static final int ARM_INS_SMULBB = 410;
+    public static final int ARM_INS_SMULBT = 411;
+    public static final int ARM_INS_SMULL = 412;
+    public static final int ARM_INS_SMULTB = 413;
+    public static final int ARM_INS_SMULTT = 414;
+    public static final int ARM_INS_SMULWB = 415;
+    public static final int ARM_INS_SMULWT = 416;
+    public static final int ARM_INS_SMUSD = 417;
+    public static final int ARM_INS_SMUSDX = 418;
+    public static final int ARM_INS_SRSDA = 419;
+    public static final int ARM_INS_SRSDB = 420;
+    public static final int ARM_INS_SRSIA = 421;
+    public static final int ARM_INS_SRSIB = 422;
+    public static final int ARM_INS_SSAT = 423;
+    public static final int ARM_INS_SSAT16 = 424;
+    public static final int ARM_INS_SSAX = 425;
+    public static final int ARM_INS_SSUB16 = 426;
+    public static final int ARM_INS_SSUB8 = 427;
+    public static final int ARM_INS_STC2L = 428;
+    public static final int ARM_INS_STC2 = 429;
+    public static final int ARM_INS_STCL = 430;
+    public static final int ARM_INS_STC = 431;
+    public static final int ARM_INS_STL = 432;
+    public static final int ARM_INS_STLB = 433;
+    public static final int ARM_INS_STLEX = 434;
+    public static final int ARM_INS_STLEXB = 435;
+    public static final int ARM_INS_STLEXD = 436;
+    public static final int ARM_INS_STLEXH = 437;
+    public static final int ARM_INS_STLH = 438;
+    public static final int ARM_INS_STMDA = 439;
+    public static final int ARM_INS_STMDB = 440;
+    public static final int ARM_INS_STM = 441;
+    public static final int ARM_INS_STMIB = 442;
+    public static final int ARM_INS_STRD = 443;
+    public static final int ARM_INS_STREX = 444;
+    public static final int ARM_INS_STREXB = 445;
+    public static final int ARM_INS_STREXD = 446;
+    public static final int ARM_INS_STREXH = 447;
+    public static final int ARM_INS_STRHT = 448;
+    public static final int ARM_INS_SUB = 449;
+    public static final int ARM_INS_SVC = 450;
+    public static final int ARM_INS_SWP = 451;
+    public static final int ARM_INS_SWPB = 452;
+    public static final int ARM_INS_SXTAB = 453;
+    public static final int ARM_INS_SXTAB16 = 454;
+    public static final int ARM_INS_SXTAH = 455;
+    public static final int ARM_INS_SXTB = 456;
+    public static final int ARM_INS_SXTB16 = 457;
+    public static final int ARM_INS_SXTH = 458;
+    public static final int ARM_INS_TEQ = 459;
+    public static final int ARM_INS_TRAP = 460;
+    public static final int ARM_INS_TSB = 461;
+    public static final int ARM_INS_TST = 462;
+    public static final int ARM_INS_UADD16 = 463;
+    public static final int ARM_INS_UADD8 = 464;
+    public static final int ARM_INS_UASX = 465;
+    public static final int ARM_INS_UBFX = 466;
+    public static final int ARM_INS_UDF = 467;
+    public static final int ARM_INS_UDIV = 468;
+    public static final int ARM_INS_UHADD16 = 469;
+    public static final int ARM_INS_UHADD8 = 470;
+    public static final int ARM_INS_UHASX = 471;
+    public static final int ARM_INS_UHSAX = 472;
+    public static final int ARM_INS_UHSUB16 = 473;
+    public static final int ARM_INS_UHSUB8 = 474;
+    public static final int ARM_INS_UMAAL = 475;
+    public static final int ARM_INS_UMLAL = 476;
+    public static final int ARM_INS_UMULL = 477;
+    public static final int ARM_INS_UQADD16 = 478;
+    public static final int ARM_INS_UQADD8 = 479;
+    public static final int ARM_INS_UQASX = 480;
+    public static final int ARM_INS_UQSAX = 481;
+    public static final int ARM_INS_UQSUB16 = 482;
+    public static final int ARM_INS_UQSUB8 = 483;
+    public static final int ARM_INS_USAD8 = 484;
+    public static final int ARM_INS_USADA8 = 485;
+    public static final int ARM_INS_USAT = 486;
+    public static final int ARM_INS_USAT16 = 487;
+    public static final int ARM_INS_USAX = 488;
+    public static final int ARM_INS_USUB16 = 489;
+    public static final int ARM_INS_USUB8 = 490;
+    public static final int ARM_INS_UXTAB = 491;
+    public static final int ARM_INS_UXTAB16 = 492;
+    public static final int ARM_INS_UXTAH = 493;
+    public static final int ARM_INS_UXTB = 494;
+    public static final int ARM_INS_UXTB16 = 495;
+    public static final int ARM_INS_UXTH = 496;
+    public static final int ARM_INS_VABAL = 497;
+    public static final int ARM_INS_VABA = 498;
+    public static final int ARM_INS_VABDL = 499;
+    public static final int ARM_INS_VACGE = 500;
+    public static final int ARM_INS_VACGT = 501;
+    public static final int ARM_INS_VADDHN = 502;
+    public static final int ARM_INS_VADDL = 503;
+    public static final int ARM_INS_VADDW = 504;
+    public static final int ARM_INS_VFMAB = 505;
+    public static final int ARM_INS_VFMAT = 506;
+    public static final int ARM_INS_VBIF = 507;
+    public static final int ARM_INS_VBIT = 508;
+    public static final int ARM_INS_VBSL = 509;
+    public static final int ARM_INS_VCEQ = 510;
+    public static final int ARM_INS_VCGE = 511;
+    public static final int ARM_INS_VCGT = 512;
+    public static final int ARM_INS_VCLE = 513;
+    public static final int ARM_INS_VCLT = 514;
+    public static final int ARM_INS_VCMPE = 515;
+    public static final int ARM_INS_VCNT = 516;
+    public static final int ARM_INS_VDIV = 517;
+    public static final int ARM_INS_VEXT = 518;
+    public static final int ARM_INS_VFMAL = 519;
+    public static final int ARM_INS_VFMSL = 520;
+    public static final int ARM_INS_VFNMA = 521;
+    public static final int ARM_INS_VFNMS = 522;
+    public static final int ARM_INS_VINS = 523;
+    public static final int ARM_INS_VJCVT = 524;
+    public static final int ARM_INS_VLDMDB = 525;
+    public static final int ARM_INS_VLDMIA = 526;
+    public static final int ARM_INS_VLDR = 527;
+    public static final int ARM_INS_VLLDM = 528;
+    public static final int ARM_INS_VLSTM = 529;
+    public static final int ARM_INS_VMLAL = 530;
+    public static final int ARM_INS_VMLS = 531;
+    public static final int ARM_INS_VMLSL = 532;
+    public static final int ARM_INS_VMMLA = 533;
+    public static final int ARM_INS_VMOVX = 534;
+    public static final int ARM_INS_VMOVL = 535;
+    public static final int ARM_INS_VMOVN = 536;
+    public static final int ARM_INS_VMSR = 537;
+    public static final int ARM_INS_VMULL = 538;
+    public static final int ARM_INS_VNMLA = 539;
+    public static final int ARM_INS_VNMLS = 540;
+    public static final int ARM_INS_VNMUL = 541;
+    public static final int ARM_INS_VPADAL = 542;
+    public static final int ARM_INS_VPADDL = 543;
+    public static final int ARM_INS_VPADD = 544;
+    public static final int ARM_INS_VPMAX = 545;
+    public static final int ARM_INS_VPMIN = 546;
+    public static final int ARM_INS_VQDMLAL = 547;
+    public static final int ARM_INS_VQDMLSL = 548;
+    public static final int ARM_INS_VQDMULL = 549;
+    public static final int ARM_INS_VQMOVUN = 550;
+    public static final int ARM_INS_VQMOVN = 551;
+    public static final int ARM_INS_VQRDMLSH = 552;
+    public static final int ARM_INS_VQRSHRN = 553;
+    public static final int ARM_INS_VQRSHRUN = 554;
+    public static final int ARM_INS_VQSHRN = 555;
+    public static final int ARM_INS_VQSHRUN = 556;
+    public static final int ARM_INS_VRADDHN = 557;
+    public static final int ARM_INS_VRECPE = 558;
+    public static final int ARM_INS_VRECPS = 559;
+    public static final int ARM_INS_VRINTR = 560;
+    public static final int ARM_INS_VRSHRN = 561;
+    public static final int ARM_INS_VRSQRTE = 562;
+    public static final int ARM_INS_VRSQRTS = 563;
+    public static final int ARM_INS_VRSRA = 564;
+    public static final int ARM_INS_VRSUBHN = 565;
+    public static final int ARM_INS_VSCCLRM = 566;
+    public static final int ARM_INS_VSDOT = 567;
+    public static final int ARM_INS_VSELEQ = 568;
+    public static final int ARM_INS_VSELGE = 569;
+    public static final int ARM_INS_VSELGT = 570;
+    public static final int ARM_INS_VSELVS = 571;
+    public static final int ARM_INS_VSHLL = 572;
+    public static final int ARM_INS_VSHRN = 573;
+    public static final int ARM_INS_VSMMLA = 574;
+    public static final int ARM_INS_VSQRT = 575;
+    public static final int ARM_INS_VSRA = 576;
+    public static final int ARM_INS_VSTMDB = 577;
+    public static final int ARM_INS_VSTMIA = 578;
+    public static final int ARM_INS_VSTR = 579;
+    public static final int ARM_INS_VSUBHN = 580;
+    public static final int ARM_INS_VSUBL = 581;
+    public static final int ARM_INS_VSUBW = 582;
+    public static final int ARM_INS_VSUDOT = 583;
+    public static final int ARM_INS_VSWP = 584;
+    public static final int ARM_INS_VTBL = 585;
+    public static final int ARM_INS_VTBX = 586;
+    public static final int ARM_INS_VCVTR = 587;
+    public static final int ARM_INS_VTRN = 588;
+    public static final int ARM_INS_VTST = 589;
+    public static final int ARM_INS_VUDOT = 590;
+    public static final int ARM_INS_VUMMLA = 591;
+    public static final int ARM_INS_VUSDOT = 592;
+    public static final int ARM_INS_VUSMMLA = 593;
+    public static final int ARM_INS_VUZP = 594;
+    public static final int ARM_INS_VZIP = 595;
+    public static final int ARM_INS_ADDW = 596;
+    public static final int ARM_INS_AUT = 597;
+    public static final int ARM_INS_AUTG = 598;
+    public static final int ARM_INS_BFL = 599;
+    public static final int ARM_INS_BFLX = 600;
+    public static final int ARM_INS_BF = 601;
+    public static final int ARM_INS_BFCSEL = 602;
+    public static final int ARM_INS_BFX = 603;
+    public static final int ARM_INS_BTI = 604;
+    public static final int ARM_INS_BXAUT = 605;
+    public static final int ARM_INS_CLRM = 606;
+    public static final int ARM_INS_CSEL = 607;
+    public static final int ARM_INS_CSINC = 608;
+    public static final int ARM_INS_CSINV = 609;
+    public static final int ARM_INS_CSNEG = 610;
+    public static final int ARM_INS_DCPS1 = 611;
+    public static final int ARM_INS_DCPS2 = 612;
+    public static final int ARM_INS_DCPS3 = 613;
+    public static final int ARM_INS_DLS = 614;
+    public static final int ARM_INS_LE = 615;
+    public static final int ARM_INS_ORN = 616;
+    public static final int ARM_INS_PAC = 617;
+    public static final int ARM_INS_PACBTI = 618;
+    public static final int ARM_INS_PACG = 619;
+    public static final int ARM_INS_SG = 620;
+    public static final int ARM_INS_SUBS = 621;
+    public static final int ARM_INS_SUBW = 622;
+    public static final int ARM_INS_TBB = 623;
+    public static final int ARM_INS_TBH = 624;
+    public static final int ARM_INS_TT = 625;
+    public static final int ARM_INS_TTA = 626;
+    public static final int ARM_INS_TTAT = 627;
+    public static final int ARM_INS_TTT = 628;
+    public static final int ARM_INS_WLS = 629;
+    public static final int ARM_INS_BLXNS = 630;
+    public static final int ARM_INS_BXNS = 631;
+    public static final int ARM_INS_CBNZ = 632;
+    public static final int ARM_INS_CBZ = 633;
+    public static final int ARM_INS_POP = 634;
+    public static final int ARM_INS_PUSH = 635;
+    public static final int ARM_INS___BRKDIV0 = 636;
+    public static final int ARM_INS_ENDING = 637;
+    public static final int ARM_INS_ALIAS_BEGIN = 638;
+    public static final int ARM_INS_ALIAS_VMOV = 639;
+    public static final int ARM_INS_ALIAS_NOP = 640;
+    public static final int ARM_INS_ALIAS_YIELD = 641;
+    public static final int ARM_INS_ALIAS_WFE = 642;
+    public static final int ARM_INS_ALIAS_WFI = 643;
+    public static final int ARM_INS_ALIAS_SEV = 644;
+    public static final int ARM_INS_ALIAS_SEVL = 645;
+    public static final int ARM_INS_ALIAS_ESB = 646;
+    public static final int ARM_INS_ALIAS_CSDB = 647;
+    public static final int ARM_INS_ALIAS_CLRBHB = 648;
+    public static final int ARM_INS_ALIAS_PACBTI = 649;
+    public static final int ARM_INS_ALIAS_BTI = 650;
+    public static final int ARM_INS_ALIAS_PAC = 651;
+    public static final int ARM_INS_ALIAS_AUT = 652;
+    public static final int ARM_INS_ALIAS_SSBB = 653;
+    public static final int ARM_INS_ALIAS_PSSBB = 654;
+    public static final int ARM_INS_ALIAS_DFB = 655;
+    public static final int ARM_INS_ALIAS_CSETM = 656;
+    public static final int ARM_INS_ALIAS_CSET = 657;
+    public static final int ARM_INS_ALIAS_CINC = 658;
+    public static final int ARM_INS_ALIAS_CINV = 659;
+    public static final int ARM_INS_ALIAS_CNEG = 660;
+    public static final int ARM_INS_ALIAS_VMLAV = 661;
+    public static final int ARM_INS_ALIAS_VMLAVA = 662;
+    public static final int ARM_INS_ALIAS_VRMLALVH = 663;
+    public static final int ARM_INS_ALIAS_VRMLALVHA = 664;
+    public static final int ARM_INS_ALIAS_VMLALV = 665;
+    public static final int ARM_INS_ALIAS_VMLALVA = 666;
+    public static final int ARM_INS_ALIAS_VBIC = 667;
+    public static final int ARM_INS_ALIAS_VEOR = 668;
+    public static final int ARM_INS_ALIAS_VORN = 669;
+    public static final int ARM_INS_ALIAS_VORR = 670;
+    public static final int ARM_INS_ALIAS_VAND = 671;
+    public static final int ARM_INS_ALIAS_VPSEL = 672;
+    public static final int ARM_INS_ALIAS_ERET = 673;
+    public static final int ARM_INS_ALIAS_ASR = 674;
+    public static final int ARM_INS_ALIAS_LSL = 675;
+    public static final int ARM_INS_ALIAS_LSR = 676;
+    public static final int ARM_INS_ALIAS_ROR = 677;
+    public static final int ARM_INS_ALIAS_RRX = 678;
+    public static final int ARM_INS_ALIAS_UXTW = 679;
+    public static final int ARM_INS_ALIAS_LDM = 680;
+    public static final int ARM_INS_ALIAS_POP = 681;
+    public static final int ARM_INS_ALIAS_PUSH = 682;
+    public static final int ARM_INS_ALIAS_POPW = 683;
+    public static final int ARM_INS_ALIAS_PUSHW = 684;
+    public static final int ARM_INS_ALIAS_VPOP = 685;
+    public static final int ARM_INS_ALIAS_VPUSH = 686;
+    public static final int ARM_INS_ALIAS_END = 687;
+    public static final int ARM_GRP_INVALID = 0;
+    public static final int ARM_GRP_JUMP = 1;
+    public static final int ARM_GRP_CALL = 2;
+    public static final int ARM_GRP_RET = 3;
+    public static final int ARM_GRP_INT = 4;
+    public static final int ARM_GRP_PRIVILEGE = 6;
+    public static final int ARM_GRP_BRANCH_RELATIVE = 7;
+    public static final int ARM_FEATURE_HASV4T = 128;
+    public static final int ARM_FEATURE_HASV5T = 129;
+    public static final int ARM_FEATURE_HASV5TE = 130;
+    public static final int ARM_FEATURE_HASV6 = 131;
+    public static final int ARM_FEATURE_HASV6M = 132;
+    public static final int ARM_FEATURE_HASV8MBASELINE = 133;
+    public static final int ARM_FEATURE_HASV8MMAINLINE = 134;
+    public static final int ARM_FEATURE_HASV8_1MMAINLINE = 135;
+    public static final int ARM_FEATURE_HASMVEINT = 136;
+    public static final int ARM_FEATURE_HASMVEFLOAT = 137;
+    public static final int ARM_FEATURE_HASCDE = 138;
+    public static final int ARM_FEATURE_HASFPREGS = 139;
+    public static final int ARM_FEATURE_HASFPREGS16 = 140;
+    public static final int ARM_FEATURE_HASNOFPREGS16 = 141;
+    public static final int ARM_FEATURE_HASFPREGS64 = 142;
+    public static final int ARM_FEATURE_HASFPREGSV8_1M = 143;
+    public static final int ARM_FEATURE_HASV6T2 = 144;
+    public static final int ARM_FEATURE_HASV6K = 145;
+    public static final int ARM_FEATURE_HASV7 = 146;
+    public static final int ARM_FEATURE_HASV8 = 147;
+    public static final int ARM_FEATURE_PREV8 = 148;
+    public static final int ARM_FEATURE_HASV8_1A = 149;
+    public static final int ARM_FEATURE_HASV8_2A = 150;
+    public static final int ARM_FEATURE_HASV8_3A = 151;
+    public static final int ARM_FEATURE_HASV8_4A = 152;
+    public static final int ARM_FEATURE_HASV8_5A = 153;
+    public static final int ARM_FEATURE_HASV8_6A = 154;
+    public static final int ARM_FEATURE_HASV8_7A = 155;
+    public static final int ARM_FEATURE_HASVFP2 = 156;
+    public static final int ARM_FEATURE_HASVFP3 = 157;
+    public static final int ARM_FEATURE_HASVFP4 = 158;
+    public static final int ARM_FEATURE_HASDPVFP = 159;
+    public static final int ARM_FEATURE_HASFPARMV8 = 160;
+    public static final int ARM_FEATURE_HASNEON = 161;
+    public static final int ARM_FEATURE_HASSHA2 = 162;
+    public static final int ARM_FEATURE_HASAES = 163;
+    public static final int ARM_FEATURE_HASCRYPTO = 164;
+    public static final int ARM_FEATURE_HASDOTPROD = 165;
+    public static final int ARM_FEATURE_HASCRC = 166;
+    public static final int ARM_FEATURE_HASRAS = 167;
+    public static final int ARM_FEATURE_HASLOB = 168;
+    public static final int ARM_FEATURE_HASPACBTI = 169;
+    public static final int ARM_FEATURE_HASFP16 = 170;
+    public static final int ARM_FEATURE_HASFULLFP16 = 171;
+    public static final int ARM_FEATURE_HASFP16FML = 172;
+    public static final int ARM_FEATURE_HASBF16 = 173;
+    public static final int ARM_FEATURE_HASMATMULINT8 = 174;
+    public static final int ARM_FEATURE_HASDIVIDEINTHUMB = 175;
+    public static final int ARM_FEATURE_HASDIVIDEINARM = 176;
+    public static final int ARM_FEATURE_HASDSP = 177;
+    public static final int ARM_FEATURE_HASDB = 178;
+    public static final int ARM_FEATURE_HASDFB = 179;
+    public static final int ARM_FEATURE_HASV7CLREX = 180;
+    public static final int ARM_FEATURE_HASACQUIRERELEASE = 181;
+    public static final int ARM_FEATURE_HASMP = 182;
+    public static final int ARM_FEATURE_HASVIRTUALIZATION = 183;
+    public static final int ARM_FEATURE_HASTRUSTZONE = 184;
+    public static final int ARM_FEATURE_HAS8MSECEXT = 185;
+    public static final int ARM_FEATURE_ISTHUMB = 186;
+    public static final int ARM_FEATURE_ISTHUMB2 = 187;
+    public static final int ARM_FEATURE_ISMCLASS = 188;
+    public static final int ARM_FEATURE_ISNOTMCLASS = 189;
+    public static final int ARM_FEATURE_ISARM = 190;
+    public static final int ARM_FEATURE_USENACLTRAP = 191;
+    public static final int ARM_FEATURE_USENEGATIVEIMMEDIATES = 192;
+    public static final int ARM_FEATURE_HASSB = 193;
+    public static final int ARM_FEATURE_HASCLRBHB = 194;
+    public static final int ARM_GRP_ENDING = 195;
+    public static final int AARCH64_SFT_INVALID = 0;
+    public static final int AARCH64_SFT_LSL = 1;
+    public static final int AARCH64_SFT_MSL = 2;
+    public static final int AARCH64_SFT_LSR = 3;
+    public static final int AARCH64_SFT_ASR = 4;
+    public static final int AARCH64_SFT_ROR = 5;
+    public static final int AARCH64_SFT_LSL_REG = 6;
+    public static final int AARCH64_SFT_MSL_REG = 7;
+    public static final int AARCH64_SFT_LSR_REG = 8;
+    public static final int AARCH64_SFT_ASR_REG = 9;
+    public static final int AARCH64_SFT_ROR_REG = 10;
+    public static final int AARCH64_EXT_INVALID = 0;
+    public static final int AARCH64_EXT_UXTB = 1;
+    public static final int AARCH64_EXT_UXTH = 2;
+    public static final int AARCH64_EXT_UXTW = 3;
+    public static final int AARCH64_EXT_UXTX = 4;
+    public static final int AARCH64_EXT_SXTB = 5;
+    public static final int AARCH64_EXT_SXTH = 6;
+    public static final int AARCH64_EXT_SXTW = 7;
+    public static final int AARCH64_EXT_SXTX = 8;
+    public static final int AARCH64LAYOUT_INVALID = 0;
+    public static final int AARCH64LAYOUT_VL_B = 8;
+    public static final int AARCH64LAYOUT_VL_H = 16;
+    public static final int AARCH64LAYOUT_VL_S = 32;
+    public static final int AARCH64LAYOUT_VL_D = 64;
+    public static final int AARCH64LAYOUT_VL_Q = 128;
+    public static final int AARCH64LAYOUT_VL_4B = 1032;
+    public static final int AARCH64LAYOUT_VL_2H = 528;
+    public static final int AARCH64LAYOUT_VL_1S = 288;
+    public static final int AARCH64LAYOUT_VL_8B = 2056;
+    public static final int AARCH64LAYOUT_VL_4H = 1040;
+    public static final int AARCH64LAYOUT_VL_2S = 544;
+    public static final int AARCH64LAYOUT_VL_1D = 320;
+    public static final int AARCH64LAYOUT_VL_16B = 4104;
+    public static final int AARCH64LAYOUT_VL_8H = 2064;
+    public static final int AARCH64LAYOUT_VL_4S = 1056;
+    public static final int AARCH64LAYOUT_VL_2D = 576;
+    public static final int AARCH64LAYOUT_VL_1Q = 384;
+    public static final int AARCH64LAYOUT_VL_64B = 16392;
+    public static final int AARCH64LAYOUT_VL_32H = 8208;
+    public static final int AARCH64LAYOUT_VL_16S = 4128;
+    public static final int AARCH64LAYOUT_VL_8D = 2112;
+    public static final int AARCH64LAYOUT_VL_COMPLETE = 2113;
+    public static final int AArch64CC_EQ = 0;
+    public static final int AArch64CC_NE = 1;
+    public static final int AArch64CC_HS = 2;
+    public static final int AArch64CC_LO = 3;
+    public static final int AArch64CC_MI = 4;
+    public static final int AArch64CC_PL = 5;
+    public static final int AArch64CC_VS = 6;
+    public static final int AArch64CC_VC = 7;
+    public static final int AArch64CC_HI = 8;
+    public static final int AArch64CC_LS = 9;
+    public static final int AArch64CC_GE = 10;
+    public static final int AArch64CC_LT = 11;
+    public static final int AArch64CC_GT = 12;
+    public static final int AArch64CC_LE = 13;
+    public static final int AArch64CC_AL = 14;
+    public static final int AArch64CC_NV = 15;
+    public static final int AArch64CC_Invalid = 16;
+    public static final int AArch64CC_ANY_ACTIVE = 1;
+    public static final int AArch64CC_FIRST_ACTIVE = 4;
+    public static final int AArch64CC_LAST_ACTIVE = 3;
+    public static final int AArch64CC_NONE_ACTIVE = 0;
+    public static final int AARCH64_TLBI_ALLE1 = 9276;
+    public static final int AARCH64_TLBI_ALLE1IS = 9244;
+    public static final int AARCH64_TLBI_ALLE1ISNXS = 9372;
+    public static final int AARCH64_TLBI_ALLE1NXS = 9404;
+    public static final int AARCH64_TLBI_ALLE1OS = 9228;
+    public static final int AARCH64_TLBI_ALLE1OSNXS = 9356;
+    public static final int AARCH64_TLBI_ALLE2 = 9272;
+    public static final int AARCH64_TLBI_ALLE2IS = 9240;
+    public static final int AARCH64_TLBI_ALLE2ISNXS = 9368;
+    public static final int AARCH64_TLBI_ALLE2NXS = 9400;
+    public static final int AARCH64_TLBI_ALLE2OS = 9224;
+    public static final int AARCH64_TLBI_ALLE2OSNXS = 9352;
+    public static final int AARCH64_TLBI_ALLE3 = 13368;
+    public static final int AARCH64_TLBI_ALLE3IS = 13336;
+    public static final int AARCH64_TLBI_ALLE3ISNXS = 13464;
+    public static final int AARCH64_TLBI_ALLE3NXS = 13496;
+    public static final int AARCH64_TLBI_ALLE3OS = 13320;
+    public static final int AARCH64_TLBI_ALLE3OSNXS = 13448;
+    public static final int AARCH64_TLBI_ASIDE1 = 1082;
+    public static final int AARCH64_TLBI_ASIDE1IS = 1050;
+    public static final int AARCH64_TLBI_ASIDE1ISNXS = 1178;
+    public static final int AARCH64_TLBI_ASIDE1NXS = 1210;
+    public static final int AARCH64_TLBI_ASIDE1OS = 1034;
+    public static final int AARCH64_TLBI_ASIDE1OSNXS = 1162;
+    public static final int AARCH64_TLBI_IPAS2E1 = 9249;
+    public static final int AARCH64_TLBI_IPAS2E1IS = 9217;
+    public static final int AARCH64_TLBI_IPAS2E1ISNXS = 9345;
+    public static final int AARCH64_TLBI_IPAS2E1NXS = 9377;
+    public static final int AARCH64_TLBI_IPAS2E1OS = 9248;
+    public static final int AARCH64_TLBI_IPAS2E1OSNXS = 9376;
+    public static final int AARCH64_TLBI_IPAS2LE1 = 9253;
+    public static final int AARCH64_TLBI_IPAS2LE1IS = 9221;
+    public static final int AARCH64_TLBI_IPAS2LE1ISNXS = 9349;
+    public static final int AARCH64_TLBI_IPAS2LE1NXS = 9381;
+    public static final int AARCH64_TLBI_IPAS2LE1OS = 9252;
+    public static final int AARCH64_TLBI_IPAS2LE1OSNXS = 9380;
+    public static final int AARCH64_TLBI_PAALL = 13372;
+    public static final int AARCH64_TLBI_PAALLNXS = 13500;
+    public static final int AARCH64_TLBI_PAALLOS = 13324;
+    public static final int AARCH64_TLBI_PAALLOSNXS = 13452;
+    public static final int AARCH64_TLBI_RIPAS2E1 = 9250;
+    public static final int AARCH64_TLBI_RIPAS2E1IS = 9218;
+    public static final int AARCH64_TLBI_RIPAS2E1ISNXS = 9346;
+    public static final int AARCH64_TLBI_RIPAS2E1NXS = 9378;
+    public static final int AARCH64_TLBI_RIPAS2E1OS = 9251;
+    public static final int AARCH64_TLBI_RIPAS2E1OSNXS = 9379;
+    public static final int AARCH64_TLBI_RIPAS2LE1 = 9254;
+    public static final int AARCH64_TLBI_RIPAS2LE1IS = 9222;
+    public static final int AARCH64_TLBI_RIPAS2LE1ISNXS = 9350;
+    public static final int AARCH64_TLBI_RIPAS2LE1NXS = 9382;
+    public static final int AARCH64_TLBI_RIPAS2LE1OS = 9255;
+    public static final int AARCH64_TLBI_RIPAS2LE1OSNXS = 9383;
+    public static final int AARCH64_TLBI_RPALOS = 13351;
+    public static final int AARCH64_TLBI_RPALOSNXS = 13479;
+    public static final int AARCH64_TLBI_RPAOS = 13347;
+    public static final int AARCH64_TLBI_RPAOSNXS = 13475;
+    public static final int AARCH64_TLBI_RVAAE1 = 1075;
+    public static final int AARCH64_TLBI_RVAAE1IS = 1043;
+    public static final int AARCH64_TLBI_RVAAE1ISNXS = 1171;
+    public static final int AARCH64_TLBI_RVAAE1NXS = 1203;
+    public static final int AARCH64_TLBI_RVAAE1OS = 1067;
+    public static final int AARCH64_TLBI_RVAAE1OSNXS = 1195;
+    public static final int AARCH64_TLBI_RVAALE1 = 1079;
+    public static final int AARCH64_TLBI_RVAALE1IS = 1047;
+    public static final int AARCH64_TLBI_RVAALE1ISNXS = 1175;
+    public static final int AARCH64_TLBI_RVAALE1NXS = 1207;
+    public static final int AARCH64_TLBI_RVAALE1OS = 1071;
+    public static final int AARCH64_TLBI_RVAALE1OSNXS = 1199;
+    public static final int AARCH64_TLBI_RVAE1 = 1073;
+    public static final int AARCH64_TLBI_RVAE1IS = 1041;
+    public static final int AARCH64_TLBI_RVAE1ISNXS = 1169;
+    public static final int AARCH64_TLBI_RVAE1NXS = 1201;
+    public static final int AARCH64_TLBI_RVAE1OS = 1065;
+    public static final int AARCH64_TLBI_RVAE1OSNXS = 1193;
+    public static final int AARCH64_TLBI_RVAE2 = 9265;
+    public static final int AARCH64_TLBI_RVAE2IS = 9233;
+    public static final int AARCH64_TLBI_RVAE2ISNXS = 9361;
+    public static final int AARCH64_TLBI_RVAE2NXS = 9393;
+    public static final int AARCH64_TLBI_RVAE2OS = 9257;
+    public static final int AARCH64_TLBI_RVAE2OSNXS = 9385;
+    public static final int AARCH64_TLBI_RVAE3 = 13361;
+    public static final int AARCH64_TLBI_RVAE3IS = 13329;
+    public static final int AARCH64_TLBI_RVAE3ISNXS = 13457;
+    public static final int AARCH64_TLBI_RVAE3NXS = 13489;
+    public static final int AARCH64_TLBI_RVAE3OS = 13353;
+    public static final int AARCH64_TLBI_RVAE3OSNXS = 13481;
+    public static final int AARCH64_TLBI_RVALE1 = 1077;
+    public static final int AARCH64_TLBI_RVALE1IS = 1045;
+    public static final int AARCH64_TLBI_RVALE1ISNXS = 1173;
+    public static final int AARCH64_TLBI_RVALE1NXS = 1205;
+    public static final int AARCH64_TLBI_RVALE1OS = 1069;
+    public static final int AARCH64_TLBI_RVALE1OSNXS = 1197;
+    public static final int AARCH64_TLBI_RVALE2 = 9269;
+    public static final int AARCH64_TLBI_RVALE2IS = 9237;
+    public static final int AARCH64_TLBI_RVALE2ISNXS = 9365;
+    public static final int AARCH64_TLBI_RVALE2NXS = 9397;
+    public static final int AARCH64_TLBI_RVALE2OS = 9261;
+    public static final int AARCH64_TLBI_RVALE2OSNXS = 9389;
+    public static final int AARCH64_TLBI_RVALE3 = 13365;
+    public static final int AARCH64_TLBI_RVALE3IS = 13333;
+    public static final int AARCH64_TLBI_RVALE3ISNXS = 13461;
+    public static final int AARCH64_TLBI_RVALE3NXS = 13493;
+    public static final int AARCH64_TLBI_RVALE3OS = 13357;
+    public static final int AARCH64_TLBI_RVALE3OSNXS = 13485;
+    public static final int AARCH64_TLBI_VAAE1 = 1083;
+    public static final int AARCH64_TLBI_VAAE1IS = 1051;
+    public static final int AARCH64_TLBI_VAAE1ISNXS = 1179;
+    public static final int AARCH64_TLBI_VAAE1NXS = 1211;
+    public static final int AARCH64_TLBI_VAAE1OS = 1035;
+    public static final int AARCH64_TLBI_VAAE1OSNXS = 1163;
+    public static final int AARCH64_TLBI_VAALE1 = 1087;
+    public static final int AARCH64_TLBI_VAALE1IS = 1055;
+    public static final int AARCH64_TLBI_VAALE1ISNXS = 1183;
+    public static final int AARCH64_TLBI_VAALE1NXS = 1215;
+    public static final int AARCH64_TLBI_VAALE1OS = 1039;
+    public static final int AARCH64_TLBI_VAALE1OSNXS = 1167;
+    public static final int AARCH64_TLBI_VAE1 = 1081;
+    public static final int AARCH64_TLBI_VAE1IS = 1049;
+    public static final int AARCH64_TLBI_VAE1ISNXS = 1177;
+    public static final int AARCH64_TLBI_VAE1NXS = 1209;
+    public static final int AARCH64_TLBI_VAE1OS = 1033;
+    public static final int AARCH64_TLBI_VAE1OSNXS = 1161;
+    public static final int AARCH64_TLBI_VAE2 = 9273;
+    public static final int AARCH64_TLBI_VAE2IS = 9241;
+    public static final int AARCH64_TLBI_VAE2ISNXS = 9369;
+    public static final int AARCH64_TLBI_VAE2NXS = 9401;
+    public static final int AARCH64_TLBI_VAE2OS = 9225;
+    public static final int AARCH64_TLBI_VAE2OSNXS = 9353;
+    public static final int AARCH64_TLBI_VAE3 = 13369;
+    public static final int AARCH64_TLBI_VAE3IS = 13337;
+    public static final int AARCH64_TLBI_VAE3ISNXS = 13465;
+    public static final int AARCH64_TLBI_VAE3NXS = 13497;
+    public static final int AARCH64_TLBI_VAE3OS = 13321;
+    public static final int AARCH64_TLBI_VAE3OSNXS = 13449;
+    public static final int AARCH64_TLBI_VALE1 = 1085;
+    public static final int AARCH64_TLBI_VALE1IS = 1053;
+    public static final int AARCH64_TLBI_VALE1ISNXS = 1181;
+    public static final int AARCH64_TLBI_VALE1NXS = 1213;
+    public static final int AARCH64_TLBI_VALE1OS = 1037;
+    public static final int AARCH64_TLBI_VALE1OSNXS = 1165;
+    public static final int AARCH64_TLBI_VALE2 = 9277;
+    public static final int AARCH64_TLBI_VALE2IS = 9245;
+    public static final int AARCH64_TLBI_VALE2ISNXS = 9373;
+    public static final int AARCH64_TLBI_VALE2NXS = 9405;
+    public static final int AARCH64_TLBI_VALE2OS = 9229;
+    public static final int AARCH64_TLBI_VALE2OSNXS = 9357;
+    public static final int AARCH64_TLBI_VALE3 = 13373;
+    public static final int AARCH64_TLBI_VALE3IS = 13341;
+    public static final int AARCH64_TLBI_VALE3ISNXS = 13469;
+    public static final int AARCH64_TLBI_VALE3NXS = 13501;
+    public static final int AARCH64_TLBI_VALE3OS = 13325;
+    public static final int AARCH64_TLBI_VALE3OSNXS = 13453;
+    public static final int AARCH64_TLBI_VMALLE1 = 1080;
+    public static final int AARCH64_TLBI_VMALLE1IS = 1048;
+    public static final int AARCH64_TLBI_VMALLE1ISNXS = 1176;
+    public static final int AARCH64_TLBI_VMALLE1NXS = 1208;
+    public static final int AARCH64_TLBI_VMALLE1OS = 1032;
+    public static final int AARCH64_TLBI_VMALLE1OSNXS = 1160;
+    public static final int AARCH64_TLBI_VMALLS12E1 = 9278;
+    public static final int AARCH64_TLBI_VMALLS12E1IS = 9246;
+    public static final int AARCH64_TLBI_VMALLS12E1ISNXS = 9374;
+    public static final int AARCH64_TLBI_VMALLS12E1NXS = 9406;
+    public static final int AARCH64_TLBI_VMALLS12E1OS = 9230;
+    public static final int AARCH64_TLBI_VMALLS12E1OSNXS = 9358;
+    public static final int AARCH64_TLBI_VMALLWS2E1 = 9266;
+    public static final int AARCH64_TLBI_VMALLWS2E1IS = 9234;
+    public static final int AARCH64_TLBI_VMALLWS2E1ISNXS = 9362;
+    public static final int AARCH64_TLBI_VMALLWS2E1NXS = 9394;
+    public static final int AARCH64_TLBI_VMALLWS2E1OS = 9258;
+    public static final int AARCH64_TLBI_VMALLWS2E1OSNXS = 9386;
+    public static final int AARCH64_TLBI_ENDING = 9387;
+    public static final int AARCH64_AT_S12E0R = 9158;
+    public static final int AARCH64_AT_S12E0W = 9159;
+    public static final int AARCH64_AT_S12E1R = 9156;
+    public static final int AARCH64_AT_S12E1W = 9157;
+    public static final int AARCH64_AT_S1E0R = 962;
+    public static final int AARCH64_AT_S1E0W = 963;
+    public static final int AARCH64_AT_S1E1A = 970;
+    public static final int AARCH64_AT_S1E1R = 960;
+    public static final int AARCH64_AT_S1E1RP = 968;
+    public static final int AARCH64_AT_S1E1W = 961;
+    public static final int AARCH64_AT_S1E1WP = 969;
+    public static final int AARCH64_AT_S1E2A = 9162;
+    public static final int AARCH64_AT_S1E2R = 9152;
+    public static final int AARCH64_AT_S1E2W = 9153;
+    public static final int AARCH64_AT_S1E3A = 13258;
+    public static final int AARCH64_AT_S1E3R = 13248;
+    public static final int AARCH64_AT_S1E3W = 13249;
+    public static final int AARCH64_AT_ENDING = 13250;
+    public static final int AARCH64_BTI_C = 2;
+    public static final int AARCH64_BTI_J = 4;
+    public static final int AARCH64_BTI_JC = 6;
+    public static final int AARCH64_BTI_ENDING = 7;
+    public static final int AARCH64_DB_ISH = 11;
+    public static final int AARCH64_DB_ISHLD = 9;
+    public static final int AARCH64_DB_ISHST = 10;
+    public static final int AARCH64_DB_LD = 13;
+    public static final int AARCH64_DB_NSH = 7;
+    public static final int AARCH64_DB_NSHLD = 5;
+    public static final int AARCH64_DB_NSHST = 6;
+    public static final int AARCH64_DB_OSH = 3;
+    public static final int AARCH64_DB_OSHLD = 1;
+    public static final int AARCH64_DB_OSHST = 2;
+    public static final int AARCH64_DB_ST = 14;
+    public static final int AARCH64_DB_SY = 15;
+    public static final int AARCH64_DB_ENDING = 16;
+    public static final int AARCH64_DBNXS_ISHNXS = 11;
+    public static final int AARCH64_DBNXS_NSHNXS = 7;
+    public static final int AARCH64_DBNXS_OSHNXS = 3;
+    public static final int AARCH64_DBNXS_SYNXS = 15;
+    public static final int AARCH64_DBNXS_ENDING = 16;
+    public static final int AARCH64_DC_CGDSW = 982;
+    public static final int AARCH64_DC_CGDVAC = 7125;
+    public static final int AARCH64_DC_CGDVADP = 7149;
+    public static final int AARCH64_DC_CGDVAP = 7141;
+    public static final int AARCH64_DC_CGSW = 980;
+    public static final int AARCH64_DC_CGVAC = 7123;
+    public static final int AARCH64_DC_CGVADP = 7147;
+    public static final int AARCH64_DC_CGVAP = 7139;
+    public static final int AARCH64_DC_CIGDPAE = 9207;
+    public static final int AARCH64_DC_CIGDSW = 1014;
+    public static final int AARCH64_DC_CIGDVAC = 7157;
+    public static final int AARCH64_DC_CIGSW = 1012;
+    public static final int AARCH64_DC_CIGVAC = 7155;
+    public static final int AARCH64_DC_CIPAE = 9200;
+    public static final int AARCH64_DC_CISW = 1010;
+    public static final int AARCH64_DC_CIVAC = 7153;
+    public static final int AARCH64_DC_CSW = 978;
+    public static final int AARCH64_DC_CVAC = 7121;
+    public static final int AARCH64_DC_CVADP = 7145;
+    public static final int AARCH64_DC_CVAP = 7137;
+    public static final int AARCH64_DC_CVAU = 7129;
+    public static final int AARCH64_DC_GVA = 7075;
+    public static final int AARCH64_DC_GZVA = 7076;
+    public static final int AARCH64_DC_IGDSW = 950;
+    public static final int AARCH64_DC_IGDVAC = 949;
+    public static final int AARCH64_DC_IGSW = 948;
+    public static final int AARCH64_DC_IGVAC = 947;
+    public static final int AARCH64_DC_ISW = 946;
+    public static final int AARCH64_DC_IVAC = 945;
+    public static final int AARCH64_DC_ZVA = 7073;
+    public static final int AARCH64_DC_ENDING = 7074;
+    public static final int AARCH64_EXACTFPIMM_HALF = 1;
+    public static final int AARCH64_EXACTFPIMM_ONE = 2;
+    public static final int AARCH64_EXACTFPIMM_TWO = 3;
+    public static final int AARCH64_EXACTFPIMM_ZERO = 0;
+    public static final int AARCH64_EXACTFPIMM_INVALID = 4;
+    public static final int AARCH64_EXACTFPIMM_ENDING = 5;
+    public static final int AARCH64_IC_IALLU = 936;
+    public static final int AARCH64_IC_IALLUIS = 904;
+    public static final int AARCH64_IC_IVAU = 7081;
+    public static final int AARCH64_IC_ENDING = 7082;
+    public static final int AARCH64_ISB_SY = 15;
+    public static final int AARCH64_ISB_ENDING = 16;
+    public static final int AARCH64_PRFM_PLDL1KEEP = 0;
+    public static final int AARCH64_PRFM_PLDL1STRM = 1;
+    public static final int AARCH64_PRFM_PLDL2KEEP = 2;
+    public static final int AARCH64_PRFM_PLDL2STRM = 3;
+    public static final int AARCH64_PRFM_PLDL3KEEP = 4;
+    public static final int AARCH64_PRFM_PLDL3STRM = 5;
+    public static final int AARCH64_PRFM_PLDSLCKEEP = 6;
+    public static final int AARCH64_PRFM_PLDSLCSTRM = 7;
+    public static final int AARCH64_PRFM_PLIL1KEEP = 8;
+    public static final int AARCH64_PRFM_PLIL1STRM = 9;
+    public static final int AARCH64_PRFM_PLIL2KEEP = 10;
+    public static final int AARCH64_PRFM_PLIL2STRM = 11;
+    public static final int AARCH64_PRFM_PLIL3KEEP = 12;
+    public static final int AARCH64_PRFM_PLIL3STRM = 13;
+    public static final int AARCH64_PRFM_PLISLCKEEP = 14;
+    public static final int AARCH64_PRFM_PLISLCSTRM = 15;
+    public static final int AARCH64_PRFM_PSTL1KEEP = 16;
+    public static final int AARCH64_PRFM_PSTL1STRM = 17;
+    public static final int AARCH64_PRFM_PSTL2KEEP = 18;
+    public static final int AARCH64_PRFM_PSTL2STRM = 19;
+    public static final int AARCH64_PRFM_PSTL3KEEP = 20;
+    public static final int AARCH64_PRFM_PSTL3STRM = 21;
+    public static final int AARCH64_PRFM_PSTSLCKEEP = 22;
+    public static final int AARCH64_PRFM_PSTSLCSTRM = 23;
+    public static final int AARCH64_PRFM_ENDING = 24;
+    public static final int AARCH64_PSB_CSYNC = 17;
+    public static final int AARCH64_PSB_ENDING = 18;
+    public static final int AARCH64_PSTATEIMM0_1_ALLINT = 8;
+    public static final int AARCH64_PSTATEIMM0_1_PM = 72;
+    public static final int AARCH64_PSTATEIMM0_1_ENDING = 73;
+    public static final int AARCH64_PSTATEIMM0_15_DAIFCLR = 31;
+    public static final int AARCH64_PSTATEIMM0_15_DAIFSET = 30;
+    public static final int AARCH64_PSTATEIMM0_15_DIT = 26;
+    public static final int AARCH64_PSTATEIMM0_15_PAN = 4;
+    public static final int AARCH64_PSTATEIMM0_15_SPSEL = 5;
+    public static final int AARCH64_PSTATEIMM0_15_SSBS = 25;
+    public static final int AARCH64_PSTATEIMM0_15_TCO = 28;
+    public static final int AARCH64_PSTATEIMM0_15_UAO = 3;
+    public static final int AARCH64_PSTATEIMM0_15_ENDING = 4;
+    public static final int AARCH64_RPRFM_PLDKEEP = 0;
+    public static final int AARCH64_RPRFM_PLDSTRM = 4;
+    public static final int AARCH64_RPRFM_PSTKEEP = 1;
+    public static final int AARCH64_RPRFM_PSTSTRM = 5;
+    public static final int AARCH64_RPRFM_ENDING = 6;
+    public static final int AARCH64_SVCR_SVCRSM = 1;
+    public static final int AARCH64_SVCR_SVCRSMZA = 3;
+    public static final int AARCH64_SVCR_SVCRZA = 2;
+    public static final int AARCH64_SVCR_ENDING = 3;
+    public static final int AARCH64_SVEPREDPAT_ALL = 31;
+    public static final int AARCH64_SVEPREDPAT_MUL3 = 30;
+    public static final int AARCH64_SVEPREDPAT_MUL4 = 29;
+    public static final int AARCH64_SVEPREDPAT_POW2 = 0;
+    public static final int AARCH64_SVEPREDPAT_VL1 = 1;
+    public static final int AARCH64_SVEPREDPAT_VL128 = 12;
+    public static final int AARCH64_SVEPREDPAT_VL16 = 9;
+    public static final int AARCH64_SVEPREDPAT_VL2 = 2;
+    public static final int AARCH64_SVEPREDPAT_VL256 = 13;
+    public static final int AARCH64_SVEPREDPAT_VL3 = 3;
+    public static final int AARCH64_SVEPREDPAT_VL32 = 10;
+    public static final int AARCH64_SVEPREDPAT_VL4 = 4;
+    public static final int AARCH64_SVEPREDPAT_VL5 = 5;
+    public static final int AARCH64_SVEPREDPAT_VL6 = 6;
+    public static final int AARCH64_SVEPREDPAT_VL64 = 11;
+    public static final int AARCH64_SVEPREDPAT_VL7 = 7;
+    public static final int AARCH64_SVEPREDPAT_VL8 = 8;
+    public static final int AARCH64_SVEPREDPAT_ENDING = 9;
+    public static final int AARCH64_SVEPRFM_PLDL1KEEP = 0;
+    public static final int AARCH64_SVEPRFM_PLDL1STRM = 1;
+    public static final int AARCH64_SVEPRFM_PLDL2KEEP = 2;
+    public static final int AARCH64_SVEPRFM_PLDL2STRM = 3;
+    public static final int AARCH64_SVEPRFM_PLDL3KEEP = 4;
+    public static final int AARCH64_SVEPRFM_PLDL3STRM = 5;
+    public static final int AARCH64_SVEPRFM_PSTL1KEEP = 8;
+    public static final int AARCH64_SVEPRFM_PSTL1STRM = 9;
+    public static final int AARCH64_SVEPRFM_PSTL2KEEP = 10;
+    public static final int AARCH64_SVEPRFM_PSTL2STRM = 11;
+    public static final int AARCH64_SVEPRFM_PSTL3KEEP = 12;
+    public static final int AARCH64_SVEPRFM_PSTL3STRM = 13;
+    public static final int AARCH64_SVEPRFM_ENDING = 14;
+    public static final int AARCH64_SVEVECLENSPECIFIER_VLX2 = 0;
+    public static final int AARCH64_SVEVECLENSPECIFIER_VLX4 = 1;
+    public static final int AARCH64_SVEVECLENSPECIFIER_ENDING = 2;
+    public static final int AARCH64_SYSREG_INVALID = 0;
+    public static final int AARCH64_SYSREG_ACCDATA_EL1 = 50821;
+    public static final int AARCH64_SYSREG_ACTLR_EL1 = 49281;
+    public static final int AARCH64_SYSREG_ACTLR_EL2 = 57473;
+    public static final int AARCH64_SYSREG_ACTLR_EL3 = 61569;
+    public static final int AARCH64_SYSREG_AFSR0_EL1 = 49800;
+    public static final int AARCH64_SYSREG_AFSR0_EL12 = 60040;
+    public static final int AARCH64_SYSREG_AFSR0_EL2 = 57992;
+    public static final int AARCH64_SYSREG_AFSR0_EL3 = 62088;
+    public static final int AARCH64_SYSREG_AFSR1_EL1 = 49801;
+    public static final int AARCH64_SYSREG_AFSR1_EL12 = 60041;
+    public static final int AARCH64_SYSREG_AFSR1_EL2 = 57993;
+    public static final int AARCH64_SYSREG_AFSR1_EL3 = 62089;
+    public static final int AARCH64_SYSREG_AIDR_EL1 = 51207;
+    public static final int AARCH64_SYSREG_ALLINT = 49688;
+    public static final int AARCH64_SYSREG_AMAIR2_EL1 = 50457;
+    public static final int AARCH64_SYSREG_AMAIR2_EL12 = 60697;
+    public static final int AARCH64_SYSREG_AMAIR2_EL2 = 58649;
+    public static final int AARCH64_SYSREG_AMAIR2_EL3 = 62745;
+    public static final int AARCH64_SYSREG_AMAIR_EL1 = 50456;
+    public static final int AARCH64_SYSREG_AMAIR_EL12 = 60696;
+    public static final int AARCH64_SYSREG_AMAIR_EL2 = 58648;
+    public static final int AARCH64_SYSREG_AMAIR_EL3 = 62744;
+    public static final int AARCH64_SYSREG_AMCFGR_EL0 = 56977;
+    public static final int AARCH64_SYSREG_AMCG1IDR_EL0 = 56982;
+    public static final int AARCH64_SYSREG_AMCGCR_EL0 = 56978;
+    public static final int AARCH64_SYSREG_AMCNTENCLR0_EL0 = 56980;
+    public static final int AARCH64_SYSREG_AMCNTENCLR1_EL0 = 56984;
+    public static final int AARCH64_SYSREG_AMCNTENSET0_EL0 = 56981;
+    public static final int AARCH64_SYSREG_AMCNTENSET1_EL0 = 56985;
+    public static final int AARCH64_SYSREG_AMCR_EL0 = 56976;
+    public static final int AARCH64_SYSREG_AMEVCNTR00_EL0 = 56992;
+    public static final int AARCH64_SYSREG_AMEVCNTR01_EL0 = 56993;
+    public static final int AARCH64_SYSREG_AMEVCNTR02_EL0 = 56994;
+    public static final int AARCH64_SYSREG_AMEVCNTR03_EL0 = 56995;
+    public static final int AARCH64_SYSREG_AMEVCNTR10_EL0 = 57056;
+    public static final int AARCH64_SYSREG_AMEVCNTR110_EL0 = 57066;
+    public static final int AARCH64_SYSREG_AMEVCNTR111_EL0 = 57067;
+    public static final int AARCH64_SYSREG_AMEVCNTR112_EL0 = 57068;
+    public static final int AARCH64_SYSREG_AMEVCNTR113_EL0 = 57069;
+    public static final int AARCH64_SYSREG_AMEVCNTR114_EL0 = 57070;
+    public static final int AARCH64_SYSREG_AMEVCNTR115_EL0 = 57071;
+    public static final int AARCH64_SYSREG_AMEVCNTR11_EL0 = 57057;
+    public static final int AARCH64_SYSREG_AMEVCNTR12_EL0 = 57058;
+    public static final int AARCH64_SYSREG_AMEVCNTR13_EL0 = 57059;
+    public static final int AARCH64_SYSREG_AMEVCNTR14_EL0 = 57060;
+    public static final int AARCH64_SYSREG_AMEVCNTR15_EL0 = 57061;
+    public static final int AARCH64_SYSREG_AMEVCNTR16_EL0 = 57062;
+    public static final int AARCH64_SYSREG_AMEVCNTR17_EL0 = 57063;
+    public static final int AARCH64_SYSREG_AMEVCNTR18_EL0 = 57064;
+    public static final int AARCH64_SYSREG_AMEVCNTR19_EL0 = 57065;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF00_EL2 = 59072;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF010_EL2 = 59082;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF011_EL2 = 59083;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF012_EL2 = 59084;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF013_EL2 = 59085;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF014_EL2 = 59086;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF015_EL2 = 59087;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF01_EL2 = 59073;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF02_EL2 = 59074;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF03_EL2 = 59075;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF04_EL2 = 59076;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF05_EL2 = 59077;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF06_EL2 = 59078;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF07_EL2 = 59079;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF08_EL2 = 59080;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF09_EL2 = 59081;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF10_EL2 = 59088;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF110_EL2 = 59098;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF111_EL2 = 59099;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF112_EL2 = 59100;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF113_EL2 = 59101;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF114_EL2 = 59102;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF115_EL2 = 59103;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF11_EL2 = 59089;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF12_EL2 = 59090;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF13_EL2 = 59091;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF14_EL2 = 59092;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF15_EL2 = 59093;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF16_EL2 = 59094;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF17_EL2 = 59095;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF18_EL2 = 59096;
+    public static final int AARCH64_SYSREG_AMEVCNTVOFF19_EL2 = 59097;
+    public static final int AARCH64_SYSREG_AMEVTYPER00_EL0 = 57008;
+    public static final int AARCH64_SYSREG_AMEVTYPER01_EL0 = 57009;
+    public static final int AARCH64_SYSREG_AMEVTYPER02_EL0 = 57010;
+    public static final int AARCH64_SYSREG_AMEVTYPER03_EL0 = 57011;
+    public static final int AARCH64_SYSREG_AMEVTYPER10_EL0 = 57072;
+    public static final int AARCH64_SYSREG_AMEVTYPER110_EL0 = 57082;
+    public static final int AARCH64_SYSREG_AMEVTYPER111_EL0 = 57083;
+    public static final int AARCH64_SYSREG_AMEVTYPER112_EL0 = 57084;
+    public static final int AARCH64_SYSREG_AMEVTYPER113_EL0 = 57085;
+    public static final int AARCH64_SYSREG_AMEVTYPER114_EL0 = 57086;
+    public static final int AARCH64_SYSREG_AMEVTYPER115_EL0 = 57087;
+    public static final int AARCH64_SYSREG_AMEVTYPER11_EL0 = 57073;
+    public static final int AARCH64_SYSREG_AMEVTYPER12_EL0 = 57074;
+    public static final int AARCH64_SYSREG_AMEVTYPER13_EL0 = 57075;
+    public static final int AARCH64_SYSREG_AMEVTYPER14_EL0 = 57076;
+    public static final int AARCH64_SYSREG_AMEVTYPER15_EL0 = 57077;
+    public static final int AARCH64_SYSREG_AMEVTYPER16_EL0 = 57078;
+    public static final int AARCH64_SYSREG_AMEVTYPER17_EL0 = 57079;
+    public static final int AARCH64_SYSREG_AMEVTYPER18_EL0 = 57080;
+    public static final int AARCH64_SYSREG_AMEVTYPER19_EL0 = 57081;
+    public static final int AARCH64_SYSREG_AMUSERENR_EL0 = 56979;
+    public static final int AARCH64_SYSREG_APDAKEYHI_EL1 = 49425;
+    public static final int AARCH64_SYSREG_APDAKEYLO_EL1 = 49424;
+    public static final int AARCH64_SYSREG_APDBKEYHI_EL1 = 49427;
+    public static final int AARCH64_SYSREG_APDBKEYLO_EL1 = 49426;
+    public static final int AARCH64_SYSREG_APGAKEYHI_EL1 = 49433;
+    public static final int AARCH64_SYSREG_APGAKEYLO_EL1 = 49432;
+    public static final int AARCH64_SYSREG_APIAKEYHI_EL1 = 49417;
+    public static final int AARCH64_SYSREG_APIAKEYLO_EL1 = 49416;
+    public static final int AARCH64_SYSREG_APIBKEYHI_EL1 = 49419;
+    public static final int AARCH64_SYSREG_APIBKEYLO_EL1 = 49418;
+    public static final int AARCH64_SYSREG_BRBCR_EL1 = 35968;
+    public static final int AARCH64_SYSREG_BRBCR_EL12 = 44160;
+    public static final int AARCH64_SYSREG_BRBCR_EL2 = 42112;
+    public static final int AARCH64_SYSREG_BRBFCR_EL1 = 35969;
+    public static final int AARCH64_SYSREG_BRBIDR0_EL1 = 35984;
+    public static final int AARCH64_SYSREG_BRBINF0_EL1 = 35840;
+    public static final int AARCH64_SYSREG_BRBINF10_EL1 = 35920;
+    public static final int AARCH64_SYSREG_BRBINF11_EL1 = 35928;
+    public static final int AARCH64_SYSREG_BRBINF12_EL1 = 35936;
+    public static final int AARCH64_SYSREG_BRBINF13_EL1 = 35944;
+    public static final int AARCH64_SYSREG_BRBINF14_EL1 = 35952;
+    public static final int AARCH64_SYSREG_BRBINF15_EL1 = 35960;
+    public static final int AARCH64_SYSREG_BRBINF16_EL1 = 35844;
+    public static final int AARCH64_SYSREG_BRBINF17_EL1 = 35852;
+    public static final int AARCH64_SYSREG_BRBINF18_EL1 = 35860;
+    public static final int AARCH64_SYSREG_BRBINF19_EL1 = 35868;
+    public static final int AARCH64_SYSREG_BRBINF1_EL1 = 35848;
+    public static final int AARCH64_SYSREG_BRBINF20_EL1 = 35876;
+    public static final int AARCH64_SYSREG_BRBINF21_EL1 = 35884;
+    public static final int AARCH64_SYSREG_BRBINF22_EL1 = 35892;
+    public static final int AARCH64_SYSREG_BRBINF23_EL1 = 35900;
+    public static final int AARCH64_SYSREG_BRBINF24_EL1 = 35908;
+    public static final int AARCH64_SYSREG_BRBINF25_EL1 = 35916;
+    public static final int AARCH64_SYSREG_BRBINF26_EL1 = 35924;
+    public static final int AARCH64_SYSREG_BRBINF27_EL1 = 35932;
+    public static final int AARCH64_SYSREG_BRBINF28_EL1 = 35940;
+    public static final int AARCH64_SYSREG_BRBINF29_EL1 = 35948;
+    public static final int AARCH64_SYSREG_BRBINF2_EL1 = 35856;
+    public static final int AARCH64_SYSREG_BRBINF30_EL1 = 35956;
+    public static final int AARCH64_SYSREG_BRBINF31_EL1 = 35964;
+    public static final int AARCH64_SYSREG_BRBINF3_EL1 = 35864;
+    public static final int AARCH64_SYSREG_BRBINF4_EL1 = 35872;
+    public static final int AARCH64_SYSREG_BRBINF5_EL1 = 35880;
+    public static final int AARCH64_SYSREG_BRBINF6_EL1 = 35888;
+    public static final int AARCH64_SYSREG_BRBINF7_EL1 = 35896;
+    public static final int AARCH64_SYSREG_BRBINF8_EL1 = 35904;
+    public static final int AARCH64_SYSREG_BRBINF9_EL1 = 35912;
+    public static final int AARCH64_SYSREG_BRBINFINJ_EL1 = 35976;
+    public static final int AARCH64_SYSREG_BRBSRC0_EL1 = 35841;
+    public static final int AARCH64_SYSREG_BRBSRC10_EL1 = 35921;
+    public static final int AARCH64_SYSREG_BRBSRC11_EL1 = 35929;
+    public static final int AARCH64_SYSREG_BRBSRC12_EL1 = 35937;
+    public static final int AARCH64_SYSREG_BRBSRC13_EL1 = 35945;
+    public static final int AARCH64_SYSREG_BRBSRC14_EL1 = 35953;
+    public static final int AARCH64_SYSREG_BRBSRC15_EL1 = 35961;
+    public static final int AARCH64_SYSREG_BRBSRC16_EL1 = 35845;
+    public static final int AARCH64_SYSREG_BRBSRC17_EL1 = 35853;
+    public static final int AARCH64_SYSREG_BRBSRC18_EL1 = 35861;
+    public static final int AARCH64_SYSREG_BRBSRC19_EL1 = 35869;
+    public static final int AARCH64_SYSREG_BRBSRC1_EL1 = 35849;
+    public static final int AARCH64_SYSREG_BRBSRC20_EL1 = 35877;
+    public static final int AARCH64_SYSREG_BRBSRC21_EL1 = 35885;
+    public static final int AARCH64_SYSREG_BRBSRC22_EL1 = 35893;
+    public static final int AARCH64_SYSREG_BRBSRC23_EL1 = 35901;
+    public static final int AARCH64_SYSREG_BRBSRC24_EL1 = 35909;
+    public static final int AARCH64_SYSREG_BRBSRC25_EL1 = 35917;
+    public static final int AARCH64_SYSREG_BRBSRC26_EL1 = 35925;
+    public static final int AARCH64_SYSREG_BRBSRC27_EL1 = 35933;
+    public static final int AARCH64_SYSREG_BRBSRC28_EL1 = 35941;
+    public static final int AARCH64_SYSREG_BRBSRC29_EL1 = 35949;
+    public static final int AARCH64_SYSREG_BRBSRC2_EL1 = 35857;
+    public static final int AARCH64_SYSREG_BRBSRC30_EL1 = 35957;
+    public static final int AARCH64_SYSREG_BRBSRC31_EL1 = 35965;
+    public static final int AARCH64_SYSREG_BRBSRC3_EL1 = 35865;
+    public static final int AARCH64_SYSREG_BRBSRC4_EL1 = 35873;
+    public static final int AARCH64_SYSREG_BRBSRC5_EL1 = 35881;
+    public static final int AARCH64_SYSREG_BRBSRC6_EL1 = 35889;
+    public static final int AARCH64_SYSREG_BRBSRC7_EL1 = 35897;
+    public static final int AARCH64_SYSREG_BRBSRC8_EL1 = 35905;
+    public static final int AARCH64_SYSREG_BRBSRC9_EL1 = 35913;
+    public static final int AARCH64_SYSREG_BRBSRCINJ_EL1 = 35977;
+    public static final int AARCH64_SYSREG_BRBTGT0_EL1 = 35842;
+    public static final int AARCH64_SYSREG_BRBTGT10_EL1 = 35922;
+    public static final int AARCH64_SYSREG_BRBTGT11_EL1 = 35930;
+    public static final int AARCH64_SYSREG_BRBTGT12_EL1 = 35938;
+    public static final int AARCH64_SYSREG_BRBTGT13_EL1 = 35946;
+    public static final int AARCH64_SYSREG_BRBTGT14_EL1 = 35954;
+    public static final int AARCH64_SYSREG_BRBTGT15_EL1 = 35962;
+    public static final int AARCH64_SYSREG_BRBTGT16_EL1 = 35846;
+    public static final int AARCH64_SYSREG_BRBTGT17_EL1 = 35854;
+    public static final int AARCH64_SYSREG_BRBTGT18_EL1 = 35862;
+    public static final int AARCH64_SYSREG_BRBTGT19_EL1 = 35870;
+    public static final int AARCH64_SYSREG_BRBTGT1_EL1 = 35850;
+    public static final int AARCH64_SYSREG_BRBTGT20_EL1 = 35878;
+    public static final int AARCH64_SYSREG_BRBTGT21_EL1 = 35886;
+    public static final int AARCH64_SYSREG_BRBTGT22_EL1 = 35894;
+    public static final int AARCH64_SYSREG_BRBTGT23_EL1 = 35902;
+    public static final int AARCH64_SYSREG_BRBTGT24_EL1 = 35910;
+    public static final int AARCH64_SYSREG_BRBTGT25_EL1 = 35918;
+    public static final int AARCH64_SYSREG_BRBTGT26_EL1 = 35926;
+    public static final int AARCH64_SYSREG_BRBTGT27_EL1 = 35934;
+    public static final int AARCH64_SYSREG_BRBTGT28_EL1 = 35942;
+    public static final int AARCH64_SYSREG_BRBTGT29_EL1 = 35950;
+    public static final int AARCH64_SYSREG_BRBTGT2_EL1 = 35858;
+    public static final int AARCH64_SYSREG_BRBTGT30_EL1 = 35958;
+    public static final int AARCH64_SYSREG_BRBTGT31_EL1 = 35966;
+    public static final int AARCH64_SYSREG_BRBTGT3_EL1 = 35866;
+    public static final int AARCH64_SYSREG_BRBTGT4_EL1 = 35874;
+    public static final int AARCH64_SYSREG_BRBTGT5_EL1 = 35882;
+    public static final int AARCH64_SYSREG_BRBTGT6_EL1 = 35890;
+    public static final int AARCH64_SYSREG_BRBTGT7_EL1 = 35898;
+    public static final int AARCH64_SYSREG_BRBTGT8_EL1 = 35906;
+    public static final int AARCH64_SYSREG_BRBTGT9_EL1 = 35914;
+    public static final int AARCH64_SYSREG_BRBTGTINJ_EL1 = 35978;
+    public static final int AARCH64_SYSREG_BRBTS_EL1 = 35970;
+    public static final int AARCH64_SYSREG_CCSIDR2_EL1 = 51202;
+    public static final int AARCH64_SYSREG_CCSIDR_EL1 = 51200;
+    public static final int AARCH64_SYSREG_CLIDR_EL1 = 51201;
+    public static final int AARCH64_SYSREG_CNTFRQ_EL0 = 57088;
+    public static final int AARCH64_SYSREG_CNTHCTL_EL2 = 59144;
+    public static final int AARCH64_SYSREG_CNTHPS_CTL_EL2 = 59177;
+    public static final int AARCH64_SYSREG_CNTHPS_CVAL_EL2 = 59178;
+    public static final int AARCH64_SYSREG_CNTHPS_TVAL_EL2 = 59176;
+    public static final int AARCH64_SYSREG_CNTHP_CTL_EL2 = 59153;
+    public static final int AARCH64_SYSREG_CNTHP_CVAL_EL2 = 59154;
+    public static final int AARCH64_SYSREG_CNTHP_TVAL_EL2 = 59152;
+    public static final int AARCH64_SYSREG_CNTHVS_CTL_EL2 = 59169;
+    public static final int AARCH64_SYSREG_CNTHVS_CVAL_EL2 = 59170;
+    public static final int AARCH64_SYSREG_CNTHVS_TVAL_EL2 = 59168;
+    public static final int AARCH64_SYSREG_CNTHV_CTL_EL2 = 59161;
+    public static final int AARCH64_SYSREG_CNTHV_CVAL_EL2 = 59162;
+    public static final int AARCH64_SYSREG_CNTHV_TVAL_EL2 = 59160;
+    public static final int AARCH64_SYSREG_CNTISCALE_EL2 = 59141;
+    public static final int AARCH64_SYSREG_CNTKCTL_EL1 = 50952;
+    public static final int AARCH64_SYSREG_CNTKCTL_EL12 = 61192;
+    public static final int AARCH64_SYSREG_CNTPCTSS_EL0 = 57093;
+    public static final int AARCH64_SYSREG_CNTPCT_EL0 = 57089;
+    public static final int AARCH64_SYSREG_CNTPOFF_EL2 = 59142;
+    public static final int AARCH64_SYSREG_CNTPS_CTL_EL1 = 65297;
+    public static final int AARCH64_SYSREG_CNTPS_CVAL_EL1 = 65298;
+    public static final int AARCH64_SYSREG_CNTPS_TVAL_EL1 = 65296;
+    public static final int AARCH64_SYSREG_CNTP_CTL_EL0 = 57105;
+    public static final int AARCH64_SYSREG_CNTP_CTL_EL02 = 61201;
+    public static final int AARCH64_SYSREG_CNTP_CVAL_EL0 = 57106;
+    public static final int AARCH64_SYSREG_CNTP_CVAL_EL02 = 61202;
+    public static final int AARCH64_SYSREG_CNTP_TVAL_EL0 = 57104;
+    public static final int AARCH64_SYSREG_CNTP_TVAL_EL02 = 61200;
+    public static final int AARCH64_SYSREG_CNTSCALE_EL2 = 59140;
+    public static final int AARCH64_SYSREG_CNTVCTSS_EL0 = 57094;
+    public static final int AARCH64_SYSREG_CNTVCT_EL0 = 57090;
+    public static final int AARCH64_SYSREG_CNTVFRQ_EL2 = 59143;
+    public static final int AARCH64_SYSREG_CNTVOFF_EL2 = 59139;
+    public static final int AARCH64_SYSREG_CNTV_CTL_EL0 = 57113;
+    public static final int AARCH64_SYSREG_CNTV_CTL_EL02 = 61209;
+    public static final int AARCH64_SYSREG_CNTV_CVAL_EL0 = 57114;
+    public static final int AARCH64_SYSREG_CNTV_CVAL_EL02 = 61210;
+    public static final int AARCH64_SYSREG_CNTV_TVAL_EL0 = 57112;
+    public static final int AARCH64_SYSREG_CNTV_TVAL_EL02 = 61208;
+    public static final int AARCH64_SYSREG_CONTEXTIDR_EL1 = 50817;
+    public static final int AARCH64_SYSREG_CONTEXTIDR_EL12 = 61057;
+    public static final int AARCH64_SYSREG_CONTEXTIDR_EL2 = 59009;
+    public static final int AARCH64_SYSREG_CPACR_EL1 = 49282;
+    public static final int AARCH64_SYSREG_CPACR_EL12 = 59522;
+    public static final int AARCH64_SYSREG_CPM_IOACC_CTL_EL3 = 65424;
+    public static final int AARCH64_SYSREG_CPTR_EL2 = 57482;
+    public static final int AARCH64_SYSREG_CPTR_EL3 = 61578;
+    public static final int AARCH64_SYSREG_CSSELR_EL1 = 53248;
+    public static final int AARCH64_SYSREG_CTR_EL0 = 55297;
+    public static final int AARCH64_SYSREG_CURRENTEL = 49682;
+    public static final int AARCH64_SYSREG_DACR32_EL2 = 57728;
+    public static final int AARCH64_SYSREG_DAIF = 55825;
+    public static final int AARCH64_SYSREG_DBGAUTHSTATUS_EL1 = 33782;
+    public static final int AARCH64_SYSREG_DBGBCR0_EL1 = 32773;
+    public static final int AARCH64_SYSREG_DBGBCR10_EL1 = 32853;
+    public static final int AARCH64_SYSREG_DBGBCR11_EL1 = 32861;
+    public static final int AARCH64_SYSREG_DBGBCR12_EL1 = 32869;
+    public static final int AARCH64_SYSREG_DBGBCR13_EL1 = 32877;
+    public static final int AARCH64_SYSREG_DBGBCR14_EL1 = 32885;
+    public static final int AARCH64_SYSREG_DBGBCR15_EL1 = 32893;
+    public static final int AARCH64_SYSREG_DBGBCR1_EL1 = 32781;
+    public static final int AARCH64_SYSREG_DBGBCR2_EL1 = 32789;
+    public static final int AARCH64_SYSREG_DBGBCR3_EL1 = 32797;
+    public static final int AARCH64_SYSREG_DBGBCR4_EL1 = 32805;
+    public static final int AARCH64_SYSREG_DBGBCR5_EL1 = 32813;
+    public static final int AARCH64_SYSREG_DBGBCR6_EL1 = 32821;
+    public static final int AARCH64_SYSREG_DBGBCR7_EL1 = 32829;
+    public static final int AARCH64_SYSREG_DBGBCR8_EL1 = 32837;
+    public static final int AARCH64_SYSREG_DBGBCR9_EL1 = 32845;
+    public static final int AARCH64_SYSREG_DBGBVR0_EL1 = 32772;
+    public static final int AARCH64_SYSREG_DBGBVR10_EL1 = 32852;
+    public static final int AARCH64_SYSREG_DBGBVR11_EL1 = 32860;
+    public static final int AARCH64_SYSREG_DBGBVR12_EL1 = 32868;
+    public static final int AARCH64_SYSREG_DBGBVR13_EL1 = 32876;
+    public static final int AARCH64_SYSREG_DBGBVR14_EL1 = 32884;
+    public static final int AARCH64_SYSREG_DBGBVR15_EL1 = 32892;
+    public static final int AARCH64_SYSREG_DBGBVR1_EL1 = 32780;
+    public static final int AARCH64_SYSREG_DBGBVR2_EL1 = 32788;
+    public static final int AARCH64_SYSREG_DBGBVR3_EL1 = 32796;
+    public static final int AARCH64_SYSREG_DBGBVR4_EL1 = 32804;
+    public static final int AARCH64_SYSREG_DBGBVR5_EL1 = 32812;
+    public static final int AARCH64_SYSREG_DBGBVR6_EL1 = 32820;
+    public static final int AARCH64_SYSREG_DBGBVR7_EL1 = 32828;
+    public static final int AARCH64_SYSREG_DBGBVR8_EL1 = 32836;
+    public static final int AARCH64_SYSREG_DBGBVR9_EL1 = 32844;
+    public static final int AARCH64_SYSREG_DBGCLAIMCLR_EL1 = 33742;
+    public static final int AARCH64_SYSREG_DBGCLAIMSET_EL1 = 33734;
+    public static final int AARCH64_SYSREG_DBGDTRRX_EL0 = 38952;
+    public static final int AARCH64_SYSREG_DBGDTRTX_EL0 = 38952;
+    public static final int AARCH64_SYSREG_DBGDTR_EL0 = 38944;
+    public static final int AARCH64_SYSREG_DBGPRCR_EL1 = 32932;
+    public static final int AARCH64_SYSREG_DBGVCR32_EL2 = 41016;
+    public static final int AARCH64_SYSREG_DBGWCR0_EL1 = 32775;
+    public static final int AARCH64_SYSREG_DBGWCR10_EL1 = 32855;
+    public static final int AARCH64_SYSREG_DBGWCR11_EL1 = 32863;
+    public static final int AARCH64_SYSREG_DBGWCR12_EL1 = 32871;
+    public static final int AARCH64_SYSREG_DBGWCR13_EL1 = 32879;
+    public static final int AARCH64_SYSREG_DBGWCR14_EL1 = 32887;
+    public static final int AARCH64_SYSREG_DBGWCR15_EL1 = 32895;
+    public static final int AARCH64_SYSREG_DBGWCR1_EL1 = 32783;
+    public static final int AARCH64_SYSREG_DBGWCR2_EL1 = 32791;
+    public static final int AARCH64_SYSREG_DBGWCR3_EL1 = 32799;
+    public static final int AARCH64_SYSREG_DBGWCR4_EL1 = 32807;
+    public static final int AARCH64_SYSREG_DBGWCR5_EL1 = 32815;
+    public static final int AARCH64_SYSREG_DBGWCR6_EL1 = 32823;
+    public static final int AARCH64_SYSREG_DBGWCR7_EL1 = 32831;
+    public static final int AARCH64_SYSREG_DBGWCR8_EL1 = 32839;
+    public static final int AARCH64_SYSREG_DBGWCR9_EL1 = 32847;
+    public static final int AARCH64_SYSREG_DBGWVR0_EL1 = 32774;
+    public static final int AARCH64_SYSREG_DBGWVR10_EL1 = 32854;
+    public static final int AARCH64_SYSREG_DBGWVR11_EL1 = 32862;
+    public static final int AARCH64_SYSREG_DBGWVR12_EL1 = 32870;
+    public static final int AARCH64_SYSREG_DBGWVR13_EL1 = 32878;
+    public static final int AARCH64_SYSREG_DBGWVR14_EL1 = 32886;
+    public static final int AARCH64_SYSREG_DBGWVR15_EL1 = 32894;
+    public static final int AARCH64_SYSREG_DBGWVR1_EL1 = 32782;
+    public static final int AARCH64_SYSREG_DBGWVR2_EL1 = 32790;
+    public static final int AARCH64_SYSREG_DBGWVR3_EL1 = 32798;
+    public static final int AARCH64_SYSREG_DBGWVR4_EL1 = 32806;
+    public static final int AARCH64_SYSREG_DBGWVR5_EL1 = 32814;
+    public static final int AARCH64_SYSREG_DBGWVR6_EL1 = 32822;
+    public static final int AARCH64_SYSREG_DBGWVR7_EL1 = 32830;
+    public static final int AARCH64_SYSREG_DBGWVR8_EL1 = 32838;
+    public static final int AARCH64_SYSREG_DBGWVR9_EL1 = 32846;
+    public static final int AARCH64_SYSREG_DCZID_EL0 = 55303;
+    public static final int AARCH64_SYSREG_DISR_EL1 = 50697;
+    public static final int AARCH64_SYSREG_DIT = 55829;
+    public static final int AARCH64_SYSREG_DLR_EL0 = 55849;
+    public static final int AARCH64_SYSREG_DSPSR_EL0 = 55848;
+    public static final int AARCH64_SYSREG_ELR_EL1 = 49665;
+    public static final int AARCH64_SYSREG_ELR_EL12 = 59905;
+    public static final int AARCH64_SYSREG_ELR_EL2 = 57857;
+    public static final int AARCH64_SYSREG_ELR_EL3 = 61953;
+    public static final int AARCH64_SYSREG_ERRIDR_EL1 = 49816;
+    public static final int AARCH64_SYSREG_ERRSELR_EL1 = 49817;
+    public static final int AARCH64_SYSREG_ERXADDR_EL1 = 49827;
+    public static final int AARCH64_SYSREG_ERXCTLR_EL1 = 49825;
+    public static final int AARCH64_SYSREG_ERXFR_EL1 = 49824;
+    public static final int AARCH64_SYSREG_ERXGSR_EL1 = 49818;
+    public static final int AARCH64_SYSREG_ERXMISC0_EL1 = 49832;
+    public static final int AARCH64_SYSREG_ERXMISC1_EL1 = 49833;
+    public static final int AARCH64_SYSREG_ERXMISC2_EL1 = 49834;
+    public static final int AARCH64_SYSREG_ERXMISC3_EL1 = 49835;
+    public static final int AARCH64_SYSREG_ERXPFGCDN_EL1 = 49830;
+    public static final int AARCH64_SYSREG_ERXPFGCTL_EL1 = 49829;
+    public static final int AARCH64_SYSREG_ERXPFGF_EL1 = 49828;
+    public static final int AARCH64_SYSREG_ERXSTATUS_EL1 = 49826;
+    public static final int AARCH64_SYSREG_ESR_EL1 = 49808;
+    public static final int AARCH64_SYSREG_ESR_EL12 = 60048;
+    public static final int AARCH64_SYSREG_ESR_EL2 = 58000;
+    public static final int AARCH64_SYSREG_ESR_EL3 = 62096;
+    public static final int AARCH64_SYSREG_FAR_EL1 = 49920;
+    public static final int AARCH64_SYSREG_FAR_EL12 = 60160;
+    public static final int AARCH64_SYSREG_FAR_EL2 = 58112;
+    public static final int AARCH64_SYSREG_FAR_EL3 = 62208;
+    public static final int AARCH64_SYSREG_FGWTE3_EL3 = 61581;
+    public static final int AARCH64_SYSREG_FPCR = 55840;
+    public static final int AARCH64_SYSREG_FPEXC32_EL2 = 58008;
+    public static final int AARCH64_SYSREG_FPMR = 55842;
+    public static final int AARCH64_SYSREG_FPSR = 55841;
+    public static final int AARCH64_SYSREG_GCR_EL1 = 49286;
+    public static final int AARCH64_SYSREG_GCSCRE0_EL1 = 49450;
+    public static final int AARCH64_SYSREG_GCSCR_EL1 = 49448;
+    public static final int AARCH64_SYSREG_GCSCR_EL12 = 59688;
+    public static final int AARCH64_SYSREG_GCSCR_EL2 = 57640;
+    public static final int AARCH64_SYSREG_GCSCR_EL3 = 61736;
+    public static final int AARCH64_SYSREG_GCSPR_EL0 = 55593;
+    public static final int AARCH64_SYSREG_GCSPR_EL1 = 49449;
+    public static final int AARCH64_SYSREG_GCSPR_EL12 = 59689;
+    public static final int AARCH64_SYSREG_GCSPR_EL2 = 57641;
+    public static final int AARCH64_SYSREG_GCSPR_EL3 = 61737;
+    public static final int AARCH64_SYSREG_GMID_EL1 = 51204;
+    public static final int AARCH64_SYSREG_GPCCR_EL3 = 61710;
+    public static final int AARCH64_SYSREG_GPTBR_EL3 = 61708;
+    public static final int AARCH64_SYSREG_HACDBSBR_EL2 = 57628;
+    public static final int AARCH64_SYSREG_HACDBSCONS_EL2 = 57629;
+    public static final int AARCH64_SYSREG_HACR_EL2 = 57487;
+    public static final int AARCH64_SYSREG_HAFGRTR_EL2 = 57742;
+    public static final int AARCH64_SYSREG_HCRX_EL2 = 57490;
+    public static final int AARCH64_SYSREG_HCR_EL2 = 57480;
+    public static final int AARCH64_SYSREG_HDBSSBR_EL2 = 57626;
+    public static final int AARCH64_SYSREG_HDBSSPROD_EL2 = 57627;
+    public static final int AARCH64_SYSREG_HDFGRTR2_EL2 = 57736;
+    public static final int AARCH64_SYSREG_HDFGRTR_EL2 = 57740;
+    public static final int AARCH64_SYSREG_HDFGWTR2_EL2 = 57737;
+    public static final int AARCH64_SYSREG_HDFGWTR_EL2 = 57741;
+    public static final int AARCH64_SYSREG_HFGITR2_EL2 = 57743;
+    public static final int AARCH64_SYSREG_HFGITR_EL2 = 57486;
+    public static final int AARCH64_SYSREG_HFGRTR2_EL2 = 57738;
+    public static final int AARCH64_SYSREG_HFGRTR_EL2 = 57484;
+    public static final int AARCH64_SYSREG_HFGWTR2_EL2 = 57739;
+    public static final int AARCH64_SYSREG_HFGWTR_EL2 = 57485;
+    public static final int AARCH64_SYSREG_HPFAR_EL2 = 58116;
+    public static final int AARCH64_SYSREG_HSTR_EL2 = 57483;
+    public static final int AARCH64_SYSREG_ICC_AP0R0_EL1 = 50756;
+    public static final int AARCH64_SYSREG_ICC_AP0R1_EL1 = 50757;
+    public static final int AARCH64_SYSREG_ICC_AP0R2_EL1 = 50758;
+    public static final int AARCH64_SYSREG_ICC_AP0R3_EL1 = 50759;
+    public static final int AARCH64_SYSREG_ICC_AP1R0_EL1 = 50760;
+    public static final int AARCH64_SYSREG_ICC_AP1R1_EL1 = 50761;
+    public static final int AARCH64_SYSREG_ICC_AP1R2_EL1 = 50762;
+    public static final int AARCH64_SYSREG_ICC_AP1R3_EL1 = 50763;
+    public static final int AARCH64_SYSREG_ICC_ASGI1R_EL1 = 50782;
+    public static final int AARCH64_SYSREG_ICC_BPR0_EL1 = 50755;
+    public static final int AARCH64_SYSREG_ICC_BPR1_EL1 = 50787;
+    public static final int AARCH64_SYSREG_ICC_CTLR_EL1 = 50788;
+    public static final int AARCH64_SYSREG_ICC_CTLR_EL3 = 63076;
+    public static final int AARCH64_SYSREG_ICC_DIR_EL1 = 50777;
+    public static final int AARCH64_SYSREG_ICC_EOIR0_EL1 = 50753;
+    public static final int AARCH64_SYSREG_ICC_EOIR1_EL1 = 50785;
+    public static final int AARCH64_SYSREG_ICC_HPPIR0_EL1 = 50754;
+    public static final int AARCH64_SYSREG_ICC_HPPIR1_EL1 = 50786;
+    public static final int AARCH64_SYSREG_ICC_IAR0_EL1 = 50752;
+    public static final int AARCH64_SYSREG_ICC_IAR1_EL1 = 50784;
+    public static final int AARCH64_SYSREG_ICC_IGRPEN0_EL1 = 50790;
+    public static final int AARCH64_SYSREG_ICC_IGRPEN1_EL1 = 50791;
+    public static final int AARCH64_SYSREG_ICC_IGRPEN1_EL3 = 63079;
+    public static final int AARCH64_SYSREG_ICC_NMIAR1_EL1 = 50765;
+    public static final int AARCH64_SYSREG_ICC_PMR_EL1 = 49712;
+    public static final int AARCH64_SYSREG_ICC_RPR_EL1 = 50779;
+    public static final int AARCH64_SYSREG_ICC_SGI0R_EL1 = 50783;
+    public static final int AARCH64_SYSREG_ICC_SGI1R_EL1 = 50781;
+    public static final int AARCH64_SYSREG_ICC_SRE_EL1 = 50789;
+    public static final int AARCH64_SYSREG_ICC_SRE_EL2 = 58957;
+    public static final int AARCH64_SYSREG_ICC_SRE_EL3 = 63077;
+    public static final int AARCH64_SYSREG_ICH_AP0R0_EL2 = 58944;
+    public static final int AARCH64_SYSREG_ICH_AP0R1_EL2 = 58945;
+    public static final int AARCH64_SYSREG_ICH_AP0R2_EL2 = 58946;
+    public static final int AARCH64_SYSREG_ICH_AP0R3_EL2 = 58947;
+    public static final int AARCH64_SYSREG_ICH_AP1R0_EL2 = 58952;
+    public static final int AARCH64_SYSREG_ICH_AP1R1_EL2 = 58953;
+    public static final int AARCH64_SYSREG_ICH_AP1R2_EL2 = 58954;
+    public static final int AARCH64_SYSREG_ICH_AP1R3_EL2 = 58955;
+    public static final int AARCH64_SYSREG_ICH_EISR_EL2 = 58971;
+    public static final int AARCH64_SYSREG_ICH_ELRSR_EL2 = 58973;
+    public static final int AARCH64_SYSREG_ICH_HCR_EL2 = 58968;
+    public static final int AARCH64_SYSREG_ICH_LR0_EL2 = 58976;
+    public static final int AARCH64_SYSREG_ICH_LR10_EL2 = 58986;
+    public static final int AARCH64_SYSREG_ICH_LR11_EL2 = 58987;
+    public static final int AARCH64_SYSREG_ICH_LR12_EL2 = 58988;
+    public static final int AARCH64_SYSREG_ICH_LR13_EL2 = 58989;
+    public static final int AARCH64_SYSREG_ICH_LR14_EL2 = 58990;
+    public static final int AARCH64_SYSREG_ICH_LR15_EL2 = 58991;
+    public static final int AARCH64_SYSREG_ICH_LR1_EL2 = 58977;
+    public static final int AARCH64_SYSREG_ICH_LR2_EL2 = 58978;
+    public static final int AARCH64_SYSREG_ICH_LR3_EL2 = 58979;
+    public static final int AARCH64_SYSREG_ICH_LR4_EL2 = 58980;
+    public static final int AARCH64_SYSREG_ICH_LR5_EL2 = 58981;
+    public static final int AARCH64_SYSREG_ICH_LR6_EL2 = 58982;
+    public static final int AARCH64_SYSREG_ICH_LR7_EL2 = 58983;
+    public static final int AARCH64_SYSREG_ICH_LR8_EL2 = 58984;
+    public static final int AARCH64_SYSREG_ICH_LR9_EL2 = 58985;
+    public static final int AARCH64_SYSREG_ICH_MISR_EL2 = 58970;
+    public static final int AARCH64_SYSREG_ICH_VMCR_EL2 = 58975;
+    public static final int AARCH64_SYSREG_ICH_VTR_EL2 = 58969;
+    public static final int AARCH64_SYSREG_ID_AA64AFR0_EL1 = 49196;
+    public static final int AARCH64_SYSREG_ID_AA64AFR1_EL1 = 49197;
+    public static final int AARCH64_SYSREG_ID_AA64DFR0_EL1 = 49192;
+    public static final int AARCH64_SYSREG_ID_AA64DFR1_EL1 = 49193;
+    public static final int AARCH64_SYSREG_ID_AA64DFR2_EL1 = 49194;
+    public static final int AARCH64_SYSREG_ID_AA64FPFR0_EL1 = 49191;
+    public static final int AARCH64_SYSREG_ID_AA64ISAR0_EL1 = 49200;
+    public static final int AARCH64_SYSREG_ID_AA64ISAR1_EL1 = 49201;
+    public static final int AARCH64_SYSREG_ID_AA64ISAR2_EL1 = 49202;
+    public static final int AARCH64_SYSREG_ID_AA64ISAR3_EL1 = 49203;
+    public static final int AARCH64_SYSREG_ID_AA64MMFR0_EL1 = 49208;
+    public static final int AARCH64_SYSREG_ID_AA64MMFR1_EL1 = 49209;
+    public static final int AARCH64_SYSREG_ID_AA64MMFR2_EL1 = 49210;
+    public static final int AARCH64_SYSREG_ID_AA64MMFR3_EL1 = 49211;
+    public static final int AARCH64_SYSREG_ID_AA64MMFR4_EL1 = 49212;
+    public static final int AARCH64_SYSREG_ID_AA64PFR0_EL1 = 49184;
+    public static final int AARCH64_SYSREG_ID_AA64PFR1_EL1 = 49185;
+    public static final int AARCH64_SYSREG_ID_AA64PFR2_EL1 = 49186;
+    public static final int AARCH64_SYSREG_ID_AA64SMFR0_EL1 = 49189;
+    public static final int AARCH64_SYSREG_ID_AA64ZFR0_EL1 = 49188;
+    public static final int AARCH64_SYSREG_ID_AFR0_EL1 = 49163;
+    public static final int AARCH64_SYSREG_ID_DFR0_EL1 = 49162;
+    public static final int AARCH64_SYSREG_ID_DFR1_EL1 = 49181;
+    public static final int AARCH64_SYSREG_ID_ISAR0_EL1 = 49168;
+    public static final int AARCH64_SYSREG_ID_ISAR1_EL1 = 49169;
+    public static final int AARCH64_SYSREG_ID_ISAR2_EL1 = 49170;
+    public static final int AARCH64_SYSREG_ID_ISAR3_EL1 = 49171;
+    public static final int AARCH64_SYSREG_ID_ISAR4_EL1 = 49172;
+    public static final int AARCH64_SYSREG_ID_ISAR5_EL1 = 49173;
+    public static final int AARCH64_SYSREG_ID_ISAR6_EL1 = 49175;
+    public static final int AARCH64_SYSREG_ID_MMFR0_EL1 = 49164;
+    public static final int AARCH64_SYSREG_ID_MMFR1_EL1 = 49165;
+    public static final int AARCH64_SYSREG_ID_MMFR2_EL1 = 49166;
+    public static final int AARCH64_SYSREG_ID_MMFR3_EL1 = 49167;
+    public static final int AARCH64_SYSREG_ID_MMFR4_EL1 = 49174;
+    public static final int AARCH64_SYSREG_ID_MMFR5_EL1 = 49182;
+    public static final int AARCH64_SYSREG_ID_PFR0_EL1 = 49160;
+    public static final int AARCH64_SYSREG_ID_PFR1_EL1 = 49161;
+    public static final int AARCH64_SYSREG_ID_PFR2_EL1 = 49180;
+    public static final int AARCH64_SYSREG_IFSR32_EL2 = 57985;
+    public static final int AARCH64_SYSREG_ISR_EL1 = 50696;
+    public static final int AARCH64_SYSREG_LORC_EL1 = 50467;
+    public static final int AARCH64_SYSREG_LOREA_EL1 = 50465;
+    public static final int AARCH64_SYSREG_LORID_EL1 = 50471;
+    public static final int AARCH64_SYSREG_LORN_EL1 = 50466;
+    public static final int AARCH64_SYSREG_LORSA_EL1 = 50464;
+    public static final int AARCH64_SYSREG_MAIR2_EL1 = 50449;
+    public static final int AARCH64_SYSREG_MAIR2_EL12 = 60689;
+    public static final int AARCH64_SYSREG_MAIR2_EL2 = 58633;
+    public static final int AARCH64_SYSREG_MAIR2_EL3 = 62729;
+    public static final int AARCH64_SYSREG_MAIR_EL1 = 50448;
+    public static final int AARCH64_SYSREG_MAIR_EL12 = 60688;
+    public static final int AARCH64_SYSREG_MAIR_EL2 = 58640;
+    public static final int AARCH64_SYSREG_MAIR_EL3 = 62736;
+    public static final int AARCH64_SYSREG_MDCCINT_EL1 = 32784;
+    public static final int AARCH64_SYSREG_MDCCSR_EL0 = 38920;
+    public static final int AARCH64_SYSREG_MDCR_EL2 = 57481;
+    public static final int AARCH64_SYSREG_MDCR_EL3 = 61593;
+    public static final int AARCH64_SYSREG_MDRAR_EL1 = 32896;
+    public static final int AARCH64_SYSREG_MDSCR_EL1 = 32786;
+    public static final int AARCH64_SYSREG_MDSELR_EL1 = 32802;
+    public static final int AARCH64_SYSREG_MDSTEPOP_EL1 = 32810;
+    public static final int AARCH64_SYSREG_MECIDR_EL2 = 58695;
+    public static final int AARCH64_SYSREG_MECID_A0_EL2 = 58689;
+    public static final int AARCH64_SYSREG_MECID_A1_EL2 = 58691;
+    public static final int AARCH64_SYSREG_MECID_P0_EL2 = 58688;
+    public static final int AARCH64_SYSREG_MECID_P1_EL2 = 58690;
+    public static final int AARCH64_SYSREG_MECID_RL_A_EL3 = 62801;
+    public static final int AARCH64_SYSREG_MFAR_EL3 = 62213;
+    public static final int AARCH64_SYSREG_MIDR_EL1 = 49152;
+    public static final int AARCH64_SYSREG_MPAM0_EL1 = 50473;
+    public static final int AARCH64_SYSREG_MPAM1_EL1 = 50472;
+    public static final int AARCH64_SYSREG_MPAM1_EL12 = 60712;
+    public static final int AARCH64_SYSREG_MPAM2_EL2 = 58664;
+    public static final int AARCH64_SYSREG_MPAM3_EL3 = 62760;
+    public static final int AARCH64_SYSREG_MPAMHCR_EL2 = 58656;
+    public static final int AARCH64_SYSREG_MPAMIDR_EL1 = 50468;
+    public static final int AARCH64_SYSREG_MPAMSM_EL1 = 50475;
+    public static final int AARCH64_SYSREG_MPAMVPM0_EL2 = 58672;
+    public static final int AARCH64_SYSREG_MPAMVPM1_EL2 = 58673;
+    public static final int AARCH64_SYSREG_MPAMVPM2_EL2 = 58674;
+    public static final int AARCH64_SYSREG_MPAMVPM3_EL2 = 58675;
+    public static final int AARCH64_SYSREG_MPAMVPM4_EL2 = 58676;
+    public static final int AARCH64_SYSREG_MPAMVPM5_EL2 = 58677;
+    public static final int AARCH64_SYSREG_MPAMVPM6_EL2 = 58678;
+    public static final int AARCH64_SYSREG_MPAMVPM7_EL2 = 58679;
+    public static final int AARCH64_SYSREG_MPAMVPMV_EL2 = 58657;
+    public static final int AARCH64_SYSREG_MPIDR_EL1 = 49157;
+    public static final int AARCH64_SYSREG_MPUIR_EL1 = 49156;
+    public static final int AARCH64_SYSREG_MPUIR_EL2 = 57348;
+    public static final int AARCH64_SYSREG_MVFR0_EL1 = 49176;
+    public static final int AARCH64_SYSREG_MVFR1_EL1 = 49177;
+    public static final int AARCH64_SYSREG_MVFR2_EL1 = 49178;
+    public static final int AARCH64_SYSREG_NZCV = 55824;
+    public static final int AARCH64_SYSREG_OSDLR_EL1 = 32924;
+    public static final int AARCH64_SYSREG_OSDTRRX_EL1 = 32770;
+    public static final int AARCH64_SYSREG_OSDTRTX_EL1 = 32794;
+    public static final int AARCH64_SYSREG_OSECCR_EL1 = 32818;
+    public static final int AARCH64_SYSREG_OSLAR_EL1 = 32900;
+    public static final int AARCH64_SYSREG_OSLSR_EL1 = 32908;
+    public static final int AARCH64_SYSREG_PAN = 49683;
+    public static final int AARCH64_SYSREG_PAR_EL1 = 50080;
+    public static final int AARCH64_SYSREG_PFAR_EL1 = 49925;
+    public static final int AARCH64_SYSREG_PFAR_EL12 = 60165;
+    public static final int AARCH64_SYSREG_PFAR_EL2 = 58117;
+    public static final int AARCH64_SYSREG_PIRE0_EL1 = 50450;
+    public static final int AARCH64_SYSREG_PIRE0_EL12 = 60690;
+    public static final int AARCH64_SYSREG_PIRE0_EL2 = 58642;
+    public static final int AARCH64_SYSREG_PIR_EL1 = 50451;
+    public static final int AARCH64_SYSREG_PIR_EL12 = 60691;
+    public static final int AARCH64_SYSREG_PIR_EL2 = 58643;
+    public static final int AARCH64_SYSREG_PIR_EL3 = 62739;
+    public static final int AARCH64_SYSREG_PM = 49689;
+    public static final int AARCH64_SYSREG_PMBIDR_EL1 = 50391;
+    public static final int AARCH64_SYSREG_PMBLIMITR_EL1 = 50384;
+    public static final int AARCH64_SYSREG_PMBPTR_EL1 = 50385;
+    public static final int AARCH64_SYSREG_PMBSR_EL1 = 50387;
+    public static final int AARCH64_SYSREG_PMCCFILTR_EL0 = 57215;
+    public static final int AARCH64_SYSREG_PMCCNTR_EL0 = 56552;
+    public static final int AARCH64_SYSREG_PMCCNTSVR_EL1 = 34655;
+    public static final int AARCH64_SYSREG_PMCEID0_EL0 = 56550;
+    public static final int AARCH64_SYSREG_PMCEID1_EL0 = 56551;
+    public static final int AARCH64_SYSREG_PMCNTENCLR_EL0 = 56546;
+    public static final int AARCH64_SYSREG_PMCNTENSET_EL0 = 56545;
+    public static final int AARCH64_SYSREG_PMCR_EL0 = 56544;
+    public static final int AARCH64_SYSREG_PMECR_EL1 = 50421;
+    public static final int AARCH64_SYSREG_PMEVCNTR0_EL0 = 57152;
+    public static final int AARCH64_SYSREG_PMEVCNTR10_EL0 = 57162;
+    public static final int AARCH64_SYSREG_PMEVCNTR11_EL0 = 57163;
+    public static final int AARCH64_SYSREG_PMEVCNTR12_EL0 = 57164;
+    public static final int AARCH64_SYSREG_PMEVCNTR13_EL0 = 57165;
+    public static final int AARCH64_SYSREG_PMEVCNTR14_EL0 = 57166;
+    public static final int AARCH64_SYSREG_PMEVCNTR15_EL0 = 57167;
+    public static final int AARCH64_SYSREG_PMEVCNTR16_EL0 = 57168;
+    public static final int AARCH64_SYSREG_PMEVCNTR17_EL0 = 57169;
+    public static final int AARCH64_SYSREG_PMEVCNTR18_EL0 = 57170;
+    public static final int AARCH64_SYSREG_PMEVCNTR19_EL0 = 57171;
+    public static final int AARCH64_SYSREG_PMEVCNTR1_EL0 = 57153;
+    public static final int AARCH64_SYSREG_PMEVCNTR20_EL0 = 57172;
+    public static final int AARCH64_SYSREG_PMEVCNTR21_EL0 = 57173;
+    public static final int AARCH64_SYSREG_PMEVCNTR22_EL0 = 57174;
+    public static final int AARCH64_SYSREG_PMEVCNTR23_EL0 = 57175;
+    public static final int AARCH64_SYSREG_PMEVCNTR24_EL0 = 57176;
+    public static final int AARCH64_SYSREG_PMEVCNTR25_EL0 = 57177;
+    public static final int AARCH64_SYSREG_PMEVCNTR26_EL0 = 57178;
+    public static final int AARCH64_SYSREG_PMEVCNTR27_EL0 = 57179;
+    public static final int AARCH64_SYSREG_PMEVCNTR28_EL0 = 57180;
+    public static final int AARCH64_SYSREG_PMEVCNTR29_EL0 = 57181;
+    public static final int AARCH64_SYSREG_PMEVCNTR2_EL0 = 57154;
+    public static final int AARCH64_SYSREG_PMEVCNTR30_EL0 = 57182;
+    public static final int AARCH64_SYSREG_PMEVCNTR3_EL0 = 57155;
+    public static final int AARCH64_SYSREG_PMEVCNTR4_EL0 = 57156;
+    public static final int AARCH64_SYSREG_PMEVCNTR5_EL0 = 57157;
+    public static final int AARCH64_SYSREG_PMEVCNTR6_EL0 = 57158;
+    public static final int AARCH64_SYSREG_PMEVCNTR7_EL0 = 57159;
+    public static final int AARCH64_SYSREG_PMEVCNTR8_EL0 = 57160;
+    public static final int AARCH64_SYSREG_PMEVCNTR9_EL0 = 57161;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR0_EL1 = 34624;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR10_EL1 = 34634;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR11_EL1 = 34635;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR12_EL1 = 34636;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR13_EL1 = 34637;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR14_EL1 = 34638;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR15_EL1 = 34639;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR16_EL1 = 34640;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR17_EL1 = 34641;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR18_EL1 = 34642;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR19_EL1 = 34643;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR1_EL1 = 34625;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR20_EL1 = 34644;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR21_EL1 = 34645;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR22_EL1 = 34646;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR23_EL1 = 34647;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR24_EL1 = 34648;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR25_EL1 = 34649;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR26_EL1 = 34650;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR27_EL1 = 34651;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR28_EL1 = 34652;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR29_EL1 = 34653;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR2_EL1 = 34626;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR30_EL1 = 34654;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR3_EL1 = 34627;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR4_EL1 = 34628;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR5_EL1 = 34629;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR6_EL1 = 34630;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR7_EL1 = 34631;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR8_EL1 = 34632;
+    public static final int AARCH64_SYSREG_PMEVCNTSVR9_EL1 = 34633;
+    public static final int AARCH64_SYSREG_PMEVTYPER0_EL0 = 57184;
+    public static final int AARCH64_SYSREG_PMEVTYPER10_EL0 = 57194;
+    public static final int AARCH64_SYSREG_PMEVTYPER11_EL0 = 57195;
+    public static final int AARCH64_SYSREG_PMEVTYPER12_EL0 = 57196;
+    public static final int AARCH64_SYSREG_PMEVTYPER13_EL0 = 57197;
+    public static final int AARCH64_SYSREG_PMEVTYPER14_EL0 = 57198;
+    public static final int AARCH64_SYSREG_PMEVTYPER15_EL0 = 57199;
+    public static final int AARCH64_SYSREG_PMEVTYPER16_EL0 = 57200;
+    public static final int AARCH64_SYSREG_PMEVTYPER17_EL0 = 57201;
+    public static final int AARCH64_SYSREG_PMEVTYPER18_EL0 = 57202;
+    public static final int AARCH64_SYSREG_PMEVTYPER19_EL0 = 57203;
+    public static final int AARCH64_SYSREG_PMEVTYPER1_EL0 = 57185;
+    public static final int AARCH64_SYSREG_PMEVTYPER20_EL0 = 57204;
+    public static final int AARCH64_SYSREG_PMEVTYPER21_EL0 = 57205;
+    public static final int AARCH64_SYSREG_PMEVTYPER22_EL0 = 57206;
+    public static final int AARCH64_SYSREG_PMEVTYPER23_EL0 = 57207;
+    public static final int AARCH64_SYSREG_PMEVTYPER24_EL0 = 57208;
+    public static final int AARCH64_SYSREG_PMEVTYPER25_EL0 = 57209;
+    public static final int AARCH64_SYSREG_PMEVTYPER26_EL0 = 57210;
+    public static final int AARCH64_SYSREG_PMEVTYPER27_EL0 = 57211;
+    public static final int AARCH64_SYSREG_PMEVTYPER28_EL0 = 57212;
+    public static final int AARCH64_SYSREG_PMEVTYPER29_EL0 = 57213;
+    public static final int AARCH64_SYSREG_PMEVTYPER2_EL0 = 57186;
+    public static final int AARCH64_SYSREG_PMEVTYPER30_EL0 = 57214;
+    public static final int AARCH64_SYSREG_PMEVTYPER3_EL0 = 57187;
+    public static final int AARCH64_SYSREG_PMEVTYPER4_EL0 = 57188;
+    public static final int AARCH64_SYSREG_PMEVTYPER5_EL0 = 57189;
+    public static final int AARCH64_SYSREG_PMEVTYPER6_EL0 = 57190;
+    public static final int AARCH64_SYSREG_PMEVTYPER7_EL0 = 57191;
+    public static final int AARCH64_SYSREG_PMEVTYPER8_EL0 = 57192;
+    public static final int AARCH64_SYSREG_PMEVTYPER9_EL0 = 57193;
+    public static final int AARCH64_SYSREG_PMIAR_EL1 = 50423;
+    public static final int AARCH64_SYSREG_PMICFILTR_EL0 = 56496;
+    public static final int AARCH64_SYSREG_PMICNTR_EL0 = 56480;
+    public static final int AARCH64_SYSREG_PMICNTSVR_EL1 = 34656;
+    public static final int AARCH64_SYSREG_PMINTENCLR_EL1 = 50418;
+    public static final int AARCH64_SYSREG_PMINTENSET_EL1 = 50417;
+    public static final int AARCH64_SYSREG_PMMIR_EL1 = 50422;
+    public static final int AARCH64_SYSREG_PMOVSCLR_EL0 = 56547;
+    public static final int AARCH64_SYSREG_PMOVSSET_EL0 = 56563;
+    public static final int AARCH64_SYSREG_PMSCR_EL1 = 50376;
+    public static final int AARCH64_SYSREG_PMSCR_EL12 = 60616;
+    public static final int AARCH64_SYSREG_PMSCR_EL2 = 58568;
+    public static final int AARCH64_SYSREG_PMSDSFR_EL1 = 50388;
+    public static final int AARCH64_SYSREG_PMSELR_EL0 = 56549;
+    public static final int AARCH64_SYSREG_PMSEVFR_EL1 = 50381;
+    public static final int AARCH64_SYSREG_PMSFCR_EL1 = 50380;
+    public static final int AARCH64_SYSREG_PMSICR_EL1 = 50378;
+    public static final int AARCH64_SYSREG_PMSIDR_EL1 = 50383;
+    public static final int AARCH64_SYSREG_PMSIRR_EL1 = 50379;
+    public static final int AARCH64_SYSREG_PMSLATFR_EL1 = 50382;
+    public static final int AARCH64_SYSREG_PMSNEVFR_EL1 = 50377;
+    public static final int AARCH64_SYSREG_PMSSCR_EL1 = 50411;
+    public static final int AARCH64_SYSREG_PMSWINC_EL0 = 56548;
+    public static final int AARCH64_SYSREG_PMUACR_EL1 = 50420;
+    public static final int AARCH64_SYSREG_PMUSERENR_EL0 = 56560;
+    public static final int AARCH64_SYSREG_PMXEVCNTR_EL0 = 56554;
+    public static final int AARCH64_SYSREG_PMXEVTYPER_EL0 = 56553;
+    public static final int AARCH64_SYSREG_PMZR_EL0 = 56556;
+    public static final int AARCH64_SYSREG_POR_EL0 = 56596;
+    public static final int AARCH64_SYSREG_POR_EL1 = 50452;
+    public static final int AARCH64_SYSREG_POR_EL12 = 60692;
+    public static final int AARCH64_SYSREG_POR_EL2 = 58644;
+    public static final int AARCH64_SYSREG_POR_EL3 = 62740;
+    public static final int AARCH64_SYSREG_PRBAR10_EL1 = 50024;
+    public static final int AARCH64_SYSREG_PRBAR10_EL2 = 58216;
+    public static final int AARCH64_SYSREG_PRBAR11_EL1 = 50028;
+    public static final int AARCH64_SYSREG_PRBAR11_EL2 = 58220;
+    public static final int AARCH64_SYSREG_PRBAR12_EL1 = 50032;
+    public static final int AARCH64_SYSREG_PRBAR12_EL2 = 58224;
+    public static final int AARCH64_SYSREG_PRBAR13_EL1 = 50036;
+    public static final int AARCH64_SYSREG_PRBAR13_EL2 = 58228;
+    public static final int AARCH64_SYSREG_PRBAR14_EL1 = 50040;
+    public static final int AARCH64_SYSREG_PRBAR14_EL2 = 58232;
+    public static final int AARCH64_SYSREG_PRBAR15_EL1 = 50044;
+    public static final int AARCH64_SYSREG_PRBAR15_EL2 = 58236;
+    public static final int AARCH64_SYSREG_PRBAR1_EL1 = 49988;
+    public static final int AARCH64_SYSREG_PRBAR1_EL2 = 58180;
+    public static final int AARCH64_SYSREG_PRBAR2_EL1 = 49992;
+    public static final int AARCH64_SYSREG_PRBAR2_EL2 = 58184;
+    public static final int AARCH64_SYSREG_PRBAR3_EL1 = 49996;
+    public static final int AARCH64_SYSREG_PRBAR3_EL2 = 58188;
+    public static final int AARCH64_SYSREG_PRBAR4_EL1 = 50000;
+    public static final int AARCH64_SYSREG_PRBAR4_EL2 = 58192;
+    public static final int AARCH64_SYSREG_PRBAR5_EL1 = 50004;
+    public static final int AARCH64_SYSREG_PRBAR5_EL2 = 58196;
+    public static final int AARCH64_SYSREG_PRBAR6_EL1 = 50008;
+    public static final int AARCH64_SYSREG_PRBAR6_EL2 = 58200;
+    public static final int AARCH64_SYSREG_PRBAR7_EL1 = 50012;
+    public static final int AARCH64_SYSREG_PRBAR7_EL2 = 58204;
+    public static final int AARCH64_SYSREG_PRBAR8_EL1 = 50016;
+    public static final int AARCH64_SYSREG_PRBAR8_EL2 = 58208;
+    public static final int AARCH64_SYSREG_PRBAR9_EL1 = 50020;
+    public static final int AARCH64_SYSREG_PRBAR9_EL2 = 58212;
+    public static final int AARCH64_SYSREG_PRBAR_EL1 = 49984;
+    public static final int AARCH64_SYSREG_PRBAR_EL2 = 58176;
+    public static final int AARCH64_SYSREG_PRENR_EL1 = 49929;
+    public static final int AARCH64_SYSREG_PRENR_EL2 = 58121;
+    public static final int AARCH64_SYSREG_PRLAR10_EL1 = 50025;
+    public static final int AARCH64_SYSREG_PRLAR10_EL2 = 58217;
+    public static final int AARCH64_SYSREG_PRLAR11_EL1 = 50029;
+    public static final int AARCH64_SYSREG_PRLAR11_EL2 = 58221;
+    public static final int AARCH64_SYSREG_PRLAR12_EL1 = 50033;
+    public static final int AARCH64_SYSREG_PRLAR12_EL2 = 58225;
+    public static final int AARCH64_SYSREG_PRLAR13_EL1 = 50037;
+    public static final int AARCH64_SYSREG_PRLAR13_EL2 = 58229;
+    public static final int AARCH64_SYSREG_PRLAR14_EL1 = 50041;
+    public static final int AARCH64_SYSREG_PRLAR14_EL2 = 58233;
+    public static final int AARCH64_SYSREG_PRLAR15_EL1 = 50045;
+    public static final int AARCH64_SYSREG_PRLAR15_EL2 = 58237;
+    public static final int AARCH64_SYSREG_PRLAR1_EL1 = 49989;
+    public static final int AARCH64_SYSREG_PRLAR1_EL2 = 58181;
+    public static final int AARCH64_SYSREG_PRLAR2_EL1 = 49993;
+    public static final int AARCH64_SYSREG_PRLAR2_EL2 = 58185;
+    public static final int AARCH64_SYSREG_PRLAR3_EL1 = 49997;
+    public static final int AARCH64_SYSREG_PRLAR3_EL2 = 58189;
+    public static final int AARCH64_SYSREG_PRLAR4_EL1 = 50001;
+    public static final int AARCH64_SYSREG_PRLAR4_EL2 = 58193;
+    public static final int AARCH64_SYSREG_PRLAR5_EL1 = 50005;
+    public static final int AARCH64_SYSREG_PRLAR5_EL2 = 58197;
+    public static final int AARCH64_SYSREG_PRLAR6_EL1 = 50009;
+    public static final int AARCH64_SYSREG_PRLAR6_EL2 = 58201;
+    public static final int AARCH64_SYSREG_PRLAR7_EL1 = 50013;
+    public static final int AARCH64_SYSREG_PRLAR7_EL2 = 58205;
+    public static final int AARCH64_SYSREG_PRLAR8_EL1 = 50017;
+    public static final int AARCH64_SYSREG_PRLAR8_EL2 = 58209;
+    public static final int AARCH64_SYSREG_PRLAR9_EL1 = 50021;
+    public static final int AARCH64_SYSREG_PRLAR9_EL2 = 58213;
+    public static final int AARCH64_SYSREG_PRLAR_EL1 = 49985;
+    public static final int AARCH64_SYSREG_PRLAR_EL2 = 58177;
+    public static final int AARCH64_SYSREG_PRSELR_EL1 = 49937;
+    public static final int AARCH64_SYSREG_PRSELR_EL2 = 58129;
+    public static final int AARCH64_SYSREG_RCWMASK_EL1 = 50822;
+    public static final int AARCH64_SYSREG_RCWSMASK_EL1 = 50819;
+    public static final int AARCH64_SYSREG_REVIDR_EL1 = 49158;
+    public static final int AARCH64_SYSREG_RGSR_EL1 = 49285;
+    public static final int AARCH64_SYSREG_RMR_EL1 = 50690;
+    public static final int AARCH64_SYSREG_RMR_EL2 = 58882;
+    public static final int AARCH64_SYSREG_RMR_EL3 = 62978;
+    public static final int AARCH64_SYSREG_RNDR = 55584;
+    public static final int AARCH64_SYSREG_RNDRRS = 55585;
+    public static final int AARCH64_SYSREG_RVBAR_EL1 = 50689;
+    public static final int AARCH64_SYSREG_RVBAR_EL2 = 58881;
+    public static final int AARCH64_SYSREG_RVBAR_EL3 = 62977;
+    public static final int AARCH64_SYSREG_S2PIR_EL2 = 58645;
+    public static final int AARCH64_SYSREG_S2POR_EL1 = 50453;
+    public static final int AARCH64_SYSREG_SCR_EL3 = 61576;
+    public static final int AARCH64_SYSREG_SCTLR2_EL1 = 49283;
+    public static final int AARCH64_SYSREG_SCTLR2_EL12 = 59523;
+    public static final int AARCH64_SYSREG_SCTLR2_EL2 = 57475;
+    public static final int AARCH64_SYSREG_SCTLR2_EL3 = 61571;
+    public static final int AARCH64_SYSREG_SCTLR_EL1 = 49280;
+    public static final int AARCH64_SYSREG_SCTLR_EL12 = 59520;
+    public static final int AARCH64_SYSREG_SCTLR_EL2 = 57472;
+    public static final int AARCH64_SYSREG_SCTLR_EL3 = 61568;
+    public static final int AARCH64_SYSREG_SCXTNUM_EL0 = 56967;
+    public static final int AARCH64_SYSREG_SCXTNUM_EL1 = 50823;
+    public static final int AARCH64_SYSREG_SCXTNUM_EL12 = 61063;
+    public static final int AARCH64_SYSREG_SCXTNUM_EL2 = 59015;
+    public static final int AARCH64_SYSREG_SCXTNUM_EL3 = 63111;
+    public static final int AARCH64_SYSREG_SDER32_EL2 = 57497;
+    public static final int AARCH64_SYSREG_SDER32_EL3 = 61577;
+    public static final int AARCH64_SYSREG_SMCR_EL1 = 49302;
+    public static final int AARCH64_SYSREG_SMCR_EL12 = 59542;
+    public static final int AARCH64_SYSREG_SMCR_EL2 = 57494;
+    public static final int AARCH64_SYSREG_SMCR_EL3 = 61590;
+    public static final int AARCH64_SYSREG_SMIDR_EL1 = 51206;
+    public static final int AARCH64_SYSREG_SMPRIMAP_EL2 = 57493;
+    public static final int AARCH64_SYSREG_SMPRI_EL1 = 49300;
+    public static final int AARCH64_SYSREG_SPMACCESSR_EL1 = 34027;
+    public static final int AARCH64_SYSREG_SPMACCESSR_EL12 = 44267;
+    public static final int AARCH64_SYSREG_SPMACCESSR_EL2 = 42219;
+    public static final int AARCH64_SYSREG_SPMACCESSR_EL3 = 46315;
+    public static final int AARCH64_SYSREG_SPMCFGR_EL1 = 34031;
+    public static final int AARCH64_SYSREG_SPMCGCR0_EL1 = 34024;
+    public static final int AARCH64_SYSREG_SPMCGCR1_EL1 = 34025;
+    public static final int AARCH64_SYSREG_SPMCNTENCLR_EL0 = 40162;
+    public static final int AARCH64_SYSREG_SPMCNTENSET_EL0 = 40161;
+    public static final int AARCH64_SYSREG_SPMCR_EL0 = 40160;
+    public static final int AARCH64_SYSREG_SPMDEVAFF_EL1 = 34030;
+    public static final int AARCH64_SYSREG_SPMDEVARCH_EL1 = 34029;
+    public static final int AARCH64_SYSREG_SPMEVCNTR0_EL0 = 40704;
+    public static final int AARCH64_SYSREG_SPMEVCNTR10_EL0 = 40714;
+    public static final int AARCH64_SYSREG_SPMEVCNTR11_EL0 = 40715;
+    public static final int AARCH64_SYSREG_SPMEVCNTR12_EL0 = 40716;
+    public static final int AARCH64_SYSREG_SPMEVCNTR13_EL0 = 40717;
+    public static final int AARCH64_SYSREG_SPMEVCNTR14_EL0 = 40718;
+    public static final int AARCH64_SYSREG_SPMEVCNTR15_EL0 = 40719;
+    public static final int AARCH64_SYSREG_SPMEVCNTR1_EL0 = 40705;
+    public static final int AARCH64_SYSREG_SPMEVCNTR2_EL0 = 40706;
+    public static final int AARCH64_SYSREG_SPMEVCNTR3_EL0 = 40707;
+    public static final int AARCH64_SYSREG_SPMEVCNTR4_EL0 = 40708;
+    public static final int AARCH64_SYSREG_SPMEVCNTR5_EL0 = 40709;
+    public static final int AARCH64_SYSREG_SPMEVCNTR6_EL0 = 40710;
+    public static final int AARCH64_SYSREG_SPMEVCNTR7_EL0 = 40711;
+    public static final int AARCH64_SYSREG_SPMEVCNTR8_EL0 = 40712;
+    public static final int AARCH64_SYSREG_SPMEVCNTR9_EL0 = 40713;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R0_EL0 = 40752;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R10_EL0 = 40762;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R11_EL0 = 40763;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R12_EL0 = 40764;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R13_EL0 = 40765;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R14_EL0 = 40766;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R15_EL0 = 40767;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R1_EL0 = 40753;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R2_EL0 = 40754;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R3_EL0 = 40755;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R4_EL0 = 40756;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R5_EL0 = 40757;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R6_EL0 = 40758;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R7_EL0 = 40759;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R8_EL0 = 40760;
+    public static final int AARCH64_SYSREG_SPMEVFILT2R9_EL0 = 40761;
+    public static final int AARCH64_SYSREG_SPMEVFILTR0_EL0 = 40736;
+    public static final int AARCH64_SYSREG_SPMEVFILTR10_EL0 = 40746;
+    public static final int AARCH64_SYSREG_SPMEVFILTR11_EL0 = 40747;
+    public static final int AARCH64_SYSREG_SPMEVFILTR12_EL0 = 40748;
+    public static final int AARCH64_SYSREG_SPMEVFILTR13_EL0 = 40749;
+    public static final int AARCH64_SYSREG_SPMEVFILTR14_EL0 = 40750;
+    public static final int AARCH64_SYSREG_SPMEVFILTR15_EL0 = 40751;
+    public static final int AARCH64_SYSREG_SPMEVFILTR1_EL0 = 40737;
+    public static final int AARCH64_SYSREG_SPMEVFILTR2_EL0 = 40738;
+    public static final int AARCH64_SYSREG_SPMEVFILTR3_EL0 = 40739;
+    public static final int AARCH64_SYSREG_SPMEVFILTR4_EL0 = 40740;
+    public static final int AARCH64_SYSREG_SPMEVFILTR5_EL0 = 40741;
+    public static final int AARCH64_SYSREG_SPMEVFILTR6_EL0 = 40742;
+    public static final int AARCH64_SYSREG_SPMEVFILTR7_EL0 = 40743;
+    public static final int AARCH64_SYSREG_SPMEVFILTR8_EL0 = 40744;
+    public static final int AARCH64_SYSREG_SPMEVFILTR9_EL0 = 40745;
+    public static final int AARCH64_SYSREG_SPMEVTYPER0_EL0 = 40720;
+    public static final int AARCH64_SYSREG_SPMEVTYPER10_EL0 = 40730;
+    public static final int AARCH64_SYSREG_SPMEVTYPER11_EL0 = 40731;
+    public static final int AARCH64_SYSREG_SPMEVTYPER12_EL0 = 40732;
+    public static final int AARCH64_SYSREG_SPMEVTYPER13_EL0 = 40733;
+    public static final int AARCH64_SYSREG_SPMEVTYPER14_EL0 = 40734;
+    public static final int AARCH64_SYSREG_SPMEVTYPER15_EL0 = 40735;
+    public static final int AARCH64_SYSREG_SPMEVTYPER1_EL0 = 40721;
+    public static final int AARCH64_SYSREG_SPMEVTYPER2_EL0 = 40722;
+    public static final int AARCH64_SYSREG_SPMEVTYPER3_EL0 = 40723;
+    public static final int AARCH64_SYSREG_SPMEVTYPER4_EL0 = 40724;
+    public static final int AARCH64_SYSREG_SPMEVTYPER5_EL0 = 40725;
+    public static final int AARCH64_SYSREG_SPMEVTYPER6_EL0 = 40726;
+    public static final int AARCH64_SYSREG_SPMEVTYPER7_EL0 = 40727;
+    public static final int AARCH64_SYSREG_SPMEVTYPER8_EL0 = 40728;
+    public static final int AARCH64_SYSREG_SPMEVTYPER9_EL0 = 40729;
+    public static final int AARCH64_SYSREG_SPMIIDR_EL1 = 34028;
+    public static final int AARCH64_SYSREG_SPMINTENCLR_EL1 = 34034;
+    public static final int AARCH64_SYSREG_SPMINTENSET_EL1 = 34033;
+    public static final int AARCH64_SYSREG_SPMOVSCLR_EL0 = 40163;
+    public static final int AARCH64_SYSREG_SPMOVSSET_EL0 = 40179;
+    public static final int AARCH64_SYSREG_SPMROOTCR_EL3 = 46327;
+    public static final int AARCH64_SYSREG_SPMSCR_EL1 = 48375;
+    public static final int AARCH64_SYSREG_SPMSELR_EL0 = 40165;
+    public static final int AARCH64_SYSREG_SPMZR_EL0 = 40164;
+    public static final int AARCH64_SYSREG_SPSEL = 49680;
+    public static final int AARCH64_SYSREG_SPSR_ABT = 57881;
+    public static final int AARCH64_SYSREG_SPSR_EL1 = 49664;
+    public static final int AARCH64_SYSREG_SPSR_EL12 = 59904;
+    public static final int AARCH64_SYSREG_SPSR_EL2 = 57856;
+    public static final int AARCH64_SYSREG_SPSR_EL3 = 61952;
+    public static final int AARCH64_SYSREG_SPSR_FIQ = 57883;
+    public static final int AARCH64_SYSREG_SPSR_IRQ = 57880;
+    public static final int AARCH64_SYSREG_SPSR_UND = 57882;
+    public static final int AARCH64_SYSREG_SP_EL0 = 49672;
+    public static final int AARCH64_SYSREG_SP_EL1 = 57864;
+    public static final int AARCH64_SYSREG_SP_EL2 = 61960;
+    public static final int AARCH64_SYSREG_SSBS = 55830;
+    public static final int AARCH64_SYSREG_SVCR = 55826;
+    public static final int AARCH64_SYSREG_TCO = 55831;
+    public static final int AARCH64_SYSREG_TCR2_EL1 = 49411;
+    public static final int AARCH64_SYSREG_TCR2_EL12 = 59651;
+    public static final int AARCH64_SYSREG_TCR2_EL2 = 57603;
+    public static final int AARCH64_SYSREG_TCR_EL1 = 49410;
+    public static final int AARCH64_SYSREG_TCR_EL12 = 59650;
+    public static final int AARCH64_SYSREG_TCR_EL2 = 57602;
+    public static final int AARCH64_SYSREG_TCR_EL3 = 61698;
+    public static final int AARCH64_SYSREG_TEECR32_EL1 = 36864;
+    public static final int AARCH64_SYSREG_TEEHBR32_EL1 = 36992;
+    public static final int AARCH64_SYSREG_TFSRE0_EL1 = 49841;
+    public static final int AARCH64_SYSREG_TFSR_EL1 = 49840;
+    public static final int AARCH64_SYSREG_TFSR_EL12 = 60080;
+    public static final int AARCH64_SYSREG_TFSR_EL2 = 58032;
+    public static final int AARCH64_SYSREG_TFSR_EL3 = 62128;
+    public static final int AARCH64_SYSREG_TPIDR2_EL0 = 56965;
+    public static final int AARCH64_SYSREG_TPIDRRO_EL0 = 56963;
+    public static final int AARCH64_SYSREG_TPIDR_EL0 = 56962;
+    public static final int AARCH64_SYSREG_TPIDR_EL1 = 50820;
+    public static final int AARCH64_SYSREG_TPIDR_EL2 = 59010;
+    public static final int AARCH64_SYSREG_TPIDR_EL3 = 63106;
+    public static final int AARCH64_SYSREG_TRBBASER_EL1 = 50394;
+    public static final int AARCH64_SYSREG_TRBIDR_EL1 = 50399;
+    public static final int AARCH64_SYSREG_TRBLIMITR_EL1 = 50392;
+    public static final int AARCH64_SYSREG_TRBMAR_EL1 = 50396;
+    public static final int AARCH64_SYSREG_TRBPTR_EL1 = 50393;
+    public static final int AARCH64_SYSREG_TRBSR_EL1 = 50395;
+    public static final int AARCH64_SYSREG_TRBTRG_EL1 = 50398;
+    public static final int AARCH64_SYSREG_TRCACATR0 = 35074;
+    public static final int AARCH64_SYSREG_TRCACATR1 = 35090;
+    public static final int AARCH64_SYSREG_TRCACATR10 = 35107;
+    public static final int AARCH64_SYSREG_TRCACATR11 = 35123;
+    public static final int AARCH64_SYSREG_TRCACATR12 = 35139;
+    public static final int AARCH64_SYSREG_TRCACATR13 = 35155;
+    public static final int AARCH64_SYSREG_TRCACATR14 = 35171;
+    public static final int AARCH64_SYSREG_TRCACATR15 = 35187;
+    public static final int AARCH64_SYSREG_TRCACATR2 = 35106;
+    public static final int AARCH64_SYSREG_TRCACATR3 = 35122;
+    public static final int AARCH64_SYSREG_TRCACATR4 = 35138;
+    public static final int AARCH64_SYSREG_TRCACATR5 = 35154;
+    public static final int AARCH64_SYSREG_TRCACATR6 = 35170;
+    public static final int AARCH64_SYSREG_TRCACATR7 = 35186;
+    public static final int AARCH64_SYSREG_TRCACATR8 = 35075;
+    public static final int AARCH64_SYSREG_TRCACATR9 = 35091;
+    public static final int AARCH64_SYSREG_TRCACVR0 = 35072;
+    public static final int AARCH64_SYSREG_TRCACVR1 = 35088;
+    public static final int AARCH64_SYSREG_TRCACVR10 = 35105;
+    public static final int AARCH64_SYSREG_TRCACVR11 = 35121;
+    public static final int AARCH64_SYSREG_TRCACVR12 = 35137;
+    public static final int AARCH64_SYSREG_TRCACVR13 = 35153;
+    public static final int AARCH64_SYSREG_TRCACVR14 = 35169;
+    public static final int AARCH64_SYSREG_TRCACVR15 = 35185;
+    public static final int AARCH64_SYSREG_TRCACVR2 = 35104;
+    public static final int AARCH64_SYSREG_TRCACVR3 = 35120;
+    public static final int AARCH64_SYSREG_TRCACVR4 = 35136;
+    public static final int AARCH64_SYSREG_TRCACVR5 = 35152;
+    public static final int AARCH64_SYSREG_TRCACVR6 = 35168;
+    public static final int AARCH64_SYSREG_TRCACVR7 = 35184;
+    public static final int AARCH64_SYSREG_TRCACVR8 = 35073;
+    public static final int AARCH64_SYSREG_TRCACVR9 = 35089;
+    public static final int AARCH64_SYSREG_TRCAUTHSTATUS = 35830;
+    public static final int AARCH64_SYSREG_TRCAUXCTLR = 34864;
+    public static final int AARCH64_SYSREG_TRCBBCTLR = 34936;
+    public static final int AARCH64_SYSREG_TRCCCCTLR = 34928;
+    public static final int AARCH64_SYSREG_TRCCIDCCTLR0 = 35202;
+    public static final int AARCH64_SYSREG_TRCCIDCCTLR1 = 35210;
+    public static final int AARCH64_SYSREG_TRCCIDCVR0 = 35200;
+    public static final int AARCH64_SYSREG_TRCCIDCVR1 = 35216;
+    public static final int AARCH64_SYSREG_TRCCIDCVR2 = 35232;
+    public static final int AARCH64_SYSREG_TRCCIDCVR3 = 35248;
+    public static final int AARCH64_SYSREG_TRCCIDCVR4 = 35264;
+    public static final int AARCH64_SYSREG_TRCCIDCVR5 = 35280;
+    public static final int AARCH64_SYSREG_TRCCIDCVR6 = 35296;
+    public static final int AARCH64_SYSREG_TRCCIDCVR7 = 35312;
+    public static final int AARCH64_SYSREG_TRCCIDR0 = 35815;
+    public static final int AARCH64_SYSREG_TRCCIDR1 = 35823;
+    public static final int AARCH64_SYSREG_TRCCIDR2 = 35831;
+    public static final int AARCH64_SYSREG_TRCCIDR3 = 35839;
+    public static final int AARCH64_SYSREG_TRCCLAIMCLR = 35790;
+    public static final int AARCH64_SYSREG_TRCCLAIMSET = 35782;
+    public static final int AARCH64_SYSREG_TRCCNTCTLR0 = 34853;
+    public static final int AARCH64_SYSREG_TRCCNTCTLR1 = 34861;
+    public static final int AARCH64_SYSREG_TRCCNTCTLR2 = 34869;
+    public static final int AARCH64_SYSREG_TRCCNTCTLR3 = 34877;
+    public static final int AARCH64_SYSREG_TRCCNTRLDVR0 = 34821;
+    public static final int AARCH64_SYSREG_TRCCNTRLDVR1 = 34829;
+    public static final int AARCH64_SYSREG_TRCCNTRLDVR2 = 34837;
+    public static final int AARCH64_SYSREG_TRCCNTRLDVR3 = 34845;
+    public static final int AARCH64_SYSREG_TRCCNTVR0 = 34885;
+    public static final int AARCH64_SYSREG_TRCCNTVR1 = 34893;
+    public static final int AARCH64_SYSREG_TRCCNTVR2 = 34901;
+    public static final int AARCH64_SYSREG_TRCCNTVR3 = 34909;
+    public static final int AARCH64_SYSREG_TRCCONFIGR = 34848;
+    public static final int AARCH64_SYSREG_TRCDEVAFF0 = 35798;
+    public static final int AARCH64_SYSREG_TRCDEVAFF1 = 35806;
+    public static final int AARCH64_SYSREG_TRCDEVARCH = 35838;
+    public static final int AARCH64_SYSREG_TRCDEVID = 35735;
+    public static final int AARCH64_SYSREG_TRCDEVTYPE = 35743;
+    public static final int AARCH64_SYSREG_TRCDVCMR0 = 35078;
+    public static final int AARCH64_SYSREG_TRCDVCMR1 = 35110;
+    public static final int AARCH64_SYSREG_TRCDVCMR2 = 35142;
+    public static final int AARCH64_SYSREG_TRCDVCMR3 = 35174;
+    public static final int AARCH64_SYSREG_TRCDVCMR4 = 35079;
+    public static final int AARCH64_SYSREG_TRCDVCMR5 = 35111;
+    public static final int AARCH64_SYSREG_TRCDVCMR6 = 35143;
+    public static final int AARCH64_SYSREG_TRCDVCMR7 = 35175;
+    public static final int AARCH64_SYSREG_TRCDVCVR0 = 35076;
+    public static final int AARCH64_SYSREG_TRCDVCVR1 = 35108;
+    public static final int AARCH64_SYSREG_TRCDVCVR2 = 35140;
+    public static final int AARCH64_SYSREG_TRCDVCVR3 = 35172;
+    public static final int AARCH64_SYSREG_TRCDVCVR4 = 35077;
+    public static final int AARCH64_SYSREG_TRCDVCVR5 = 35109;
+    public static final int AARCH64_SYSREG_TRCDVCVR6 = 35141;
+    public static final int AARCH64_SYSREG_TRCDVCVR7 = 35173;
+    public static final int AARCH64_SYSREG_TRCEVENTCTL0R = 34880;
+    public static final int AARCH64_SYSREG_TRCEVENTCTL1R = 34888;
+    public static final int AARCH64_SYSREG_TRCEXTINSELR = 34884;
+    public static final int AARCH64_SYSREG_TRCEXTINSELR0 = 34884;
+    public static final int AARCH64_SYSREG_TRCEXTINSELR1 = 34892;
+    public static final int AARCH64_SYSREG_TRCEXTINSELR2 = 34900;
+    public static final int AARCH64_SYSREG_TRCEXTINSELR3 = 34908;
+    public static final int AARCH64_SYSREG_TRCIDR0 = 34887;
+    public static final int AARCH64_SYSREG_TRCIDR1 = 34895;
+    public static final int AARCH64_SYSREG_TRCIDR10 = 34838;
+    public static final int AARCH64_SYSREG_TRCIDR11 = 34846;
+    public static final int AARCH64_SYSREG_TRCIDR12 = 34854;
+    public static final int AARCH64_SYSREG_TRCIDR13 = 34862;
+    public static final int AARCH64_SYSREG_TRCIDR2 = 34903;
+    public static final int AARCH64_SYSREG_TRCIDR3 = 34911;
+    public static final int AARCH64_SYSREG_TRCIDR4 = 34919;
+    public static final int AARCH64_SYSREG_TRCIDR5 = 34927;
+    public static final int AARCH64_SYSREG_TRCIDR6 = 34935;
+    public static final int AARCH64_SYSREG_TRCIDR7 = 34943;
+    public static final int AARCH64_SYSREG_TRCIDR8 = 34822;
+    public static final int AARCH64_SYSREG_TRCIDR9 = 34830;
+    public static final int AARCH64_SYSREG_TRCIMSPEC0 = 34823;
+    public static final int AARCH64_SYSREG_TRCIMSPEC1 = 34831;
+    public static final int AARCH64_SYSREG_TRCIMSPEC2 = 34839;
+    public static final int AARCH64_SYSREG_TRCIMSPEC3 = 34847;
+    public static final int AARCH64_SYSREG_TRCIMSPEC4 = 34855;
+    public static final int AARCH64_SYSREG_TRCIMSPEC5 = 34863;
+    public static final int AARCH64_SYSREG_TRCIMSPEC6 = 34871;
+    public static final int AARCH64_SYSREG_TRCIMSPEC7 = 34879;
+    public static final int AARCH64_SYSREG_TRCITCTRL = 35716;
+    public static final int AARCH64_SYSREG_TRCITECR_EL1 = 49299;
+    public static final int AARCH64_SYSREG_TRCITECR_EL12 = 59539;
+    public static final int AARCH64_SYSREG_TRCITECR_EL2 = 57491;
+    public static final int AARCH64_SYSREG_TRCITEEDCR = 34833;
+    public static final int AARCH64_SYSREG_TRCLAR = 35814;
+    public static final int AARCH64_SYSREG_TRCLSR = 35822;
+    public static final int AARCH64_SYSREG_TRCOSLAR = 34948;
+    public static final int AARCH64_SYSREG_TRCOSLSR = 34956;
+    public static final int AARCH64_SYSREG_TRCPDCR = 34980;
+    public static final int AARCH64_SYSREG_TRCPDSR = 34988;
+    public static final int AARCH64_SYSREG_TRCPIDR0 = 35783;
+    public static final int AARCH64_SYSREG_TRCPIDR1 = 35791;
+    public static final int AARCH64_SYSREG_TRCPIDR2 = 35799;
+    public static final int AARCH64_SYSREG_TRCPIDR3 = 35807;
+    public static final int AARCH64_SYSREG_TRCPIDR4 = 35751;
+    public static final int AARCH64_SYSREG_TRCPIDR5 = 35759;
+    public static final int AARCH64_SYSREG_TRCPIDR6 = 35767;
+    public static final int AARCH64_SYSREG_TRCPIDR7 = 35775;
+    public static final int AARCH64_SYSREG_TRCPRGCTLR = 34824;
+    public static final int AARCH64_SYSREG_TRCPROCSELR = 34832;
+    public static final int AARCH64_SYSREG_TRCQCTLR = 34825;
+    public static final int AARCH64_SYSREG_TRCRSCTLR10 = 35024;
+    public static final int AARCH64_SYSREG_TRCRSCTLR11 = 35032;
+    public static final int AARCH64_SYSREG_TRCRSCTLR12 = 35040;
+    public static final int AARCH64_SYSREG_TRCRSCTLR13 = 35048;
+    public static final int AARCH64_SYSREG_TRCRSCTLR14 = 35056;
+    public static final int AARCH64_SYSREG_TRCRSCTLR15 = 35064;
+    public static final int AARCH64_SYSREG_TRCRSCTLR16 = 34945;
+    public static final int AARCH64_SYSREG_TRCRSCTLR17 = 34953;
+    public static final int AARCH64_SYSREG_TRCRSCTLR18 = 34961;
+    public static final int AARCH64_SYSREG_TRCRSCTLR19 = 34969;
+    public static final int AARCH64_SYSREG_TRCRSCTLR2 = 34960;
+    public static final int AARCH64_SYSREG_TRCRSCTLR20 = 34977;
+    public static final int AARCH64_SYSREG_TRCRSCTLR21 = 34985;
+    public static final int AARCH64_SYSREG_TRCRSCTLR22 = 34993;
+    public static final int AARCH64_SYSREG_TRCRSCTLR23 = 35001;
+    public static final int AARCH64_SYSREG_TRCRSCTLR24 = 35009;
+    public static final int AARCH64_SYSREG_TRCRSCTLR25 = 35017;
+    public static final int AARCH64_SYSREG_TRCRSCTLR26 = 35025;
+    public static final int AARCH64_SYSREG_TRCRSCTLR27 = 35033;
+    public static final int AARCH64_SYSREG_TRCRSCTLR28 = 35041;
+    public static final int AARCH64_SYSREG_TRCRSCTLR29 = 35049;
+    public static final int AARCH64_SYSREG_TRCRSCTLR3 = 34968;
+    public static final int AARCH64_SYSREG_TRCRSCTLR30 = 35057;
+    public static final int AARCH64_SYSREG_TRCRSCTLR31 = 35065;
+    public static final int AARCH64_SYSREG_TRCRSCTLR4 = 34976;
+    public static final int AARCH64_SYSREG_TRCRSCTLR5 = 34984;
+    public static final int AARCH64_SYSREG_TRCRSCTLR6 = 34992;
+    public static final int AARCH64_SYSREG_TRCRSCTLR7 = 35000;
+    public static final int AARCH64_SYSREG_TRCRSCTLR8 = 35008;
+    public static final int AARCH64_SYSREG_TRCRSCTLR9 = 35016;
+    public static final int AARCH64_SYSREG_TRCRSR = 34896;
+    public static final int AARCH64_SYSREG_TRCSEQEVR0 = 34820;
+    public static final int AARCH64_SYSREG_TRCSEQEVR1 = 34828;
+    public static final int AARCH64_SYSREG_TRCSEQEVR2 = 34836;
+    public static final int AARCH64_SYSREG_TRCSEQRSTEVR = 34868;
+    public static final int AARCH64_SYSREG_TRCSEQSTR = 34876;
+    public static final int AARCH64_SYSREG_TRCSSCCR0 = 34946;
+    public static final int AARCH64_SYSREG_TRCSSCCR1 = 34954;
+    public static final int AARCH64_SYSREG_TRCSSCCR2 = 34962;
+    public static final int AARCH64_SYSREG_TRCSSCCR3 = 34970;
+    public static final int AARCH64_SYSREG_TRCSSCCR4 = 34978;
+    public static final int AARCH64_SYSREG_TRCSSCCR5 = 34986;
+    public static final int AARCH64_SYSREG_TRCSSCCR6 = 34994;
+    public static final int AARCH64_SYSREG_TRCSSCCR7 = 35002;
+    public static final int AARCH64_SYSREG_TRCSSCSR0 = 35010;
+    public static final int AARCH64_SYSREG_TRCSSCSR1 = 35018;
+    public static final int AARCH64_SYSREG_TRCSSCSR2 = 35026;
+    public static final int AARCH64_SYSREG_TRCSSCSR3 = 35034;
+    public static final int AARCH64_SYSREG_TRCSSCSR4 = 35042;
+    public static final int AARCH64_SYSREG_TRCSSCSR5 = 35050;
+    public static final int AARCH64_SYSREG_TRCSSCSR6 = 35058;
+    public static final int AARCH64_SYSREG_TRCSSCSR7 = 35066;
+    public static final int AARCH64_SYSREG_TRCSSPCICR0 = 34947;
+    public static final int AARCH64_SYSREG_TRCSSPCICR1 = 34955;
+    public static final int AARCH64_SYSREG_TRCSSPCICR2 = 34963;
+    public static final int AARCH64_SYSREG_TRCSSPCICR3 = 34971;
+    public static final int AARCH64_SYSREG_TRCSSPCICR4 = 34979;
+    public static final int AARCH64_SYSREG_TRCSSPCICR5 = 34987;
+    public static final int AARCH64_SYSREG_TRCSSPCICR6 = 34995;
+    public static final int AARCH64_SYSREG_TRCSSPCICR7 = 35003;
+    public static final int AARCH64_SYSREG_TRCSTALLCTLR = 34904;
+    public static final int AARCH64_SYSREG_TRCSTATR = 34840;
+    public static final int AARCH64_SYSREG_TRCSYNCPR = 34920;
+    public static final int AARCH64_SYSREG_TRCTRACEIDR = 34817;
+    public static final int AARCH64_SYSREG_TRCTSCTLR = 34912;
+    public static final int AARCH64_SYSREG_TRCVDARCCTLR = 34898;
+    public static final int AARCH64_SYSREG_TRCVDCTLR = 34882;
+    public static final int AARCH64_SYSREG_TRCVDSACCTLR = 34890;
+    public static final int AARCH64_SYSREG_TRCVICTLR = 34818;
+    public static final int AARCH64_SYSREG_TRCVIIECTLR = 34826;
+    public static final int AARCH64_SYSREG_TRCVIPCSSCTLR = 34842;
+    public static final int AARCH64_SYSREG_TRCVISSCTLR = 34834;
+    public static final int AARCH64_SYSREG_TRCVMIDCCTLR0 = 35218;
+    public static final int AARCH64_SYSREG_TRCVMIDCCTLR1 = 35226;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR0 = 35201;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR1 = 35217;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR2 = 35233;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR3 = 35249;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR4 = 35265;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR5 = 35281;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR6 = 35297;
+    public static final int AARCH64_SYSREG_TRCVMIDCVR7 = 35313;
+    public static final int AARCH64_SYSREG_TRFCR_EL1 = 49297;
+    public static final int AARCH64_SYSREG_TRFCR_EL12 = 59537;
+    public static final int AARCH64_SYSREG_TRFCR_EL2 = 57489;
+    public static final int AARCH64_SYSREG_TTBR0_EL1 = 49408;
+    public static final int AARCH64_SYSREG_TTBR0_EL12 = 59648;
+    public static final int AARCH64_SYSREG_TTBR0_EL2 = 57600;
+    public static final int AARCH64_SYSREG_VSCTLR_EL2 = 57600;
+    public static final int AARCH64_SYSREG_TTBR0_EL3 = 61696;
+    public static final int AARCH64_SYSREG_TTBR1_EL1 = 49409;
+    public static final int AARCH64_SYSREG_TTBR1_EL12 = 59649;
+    public static final int AARCH64_SYSREG_TTBR1_EL2 = 57601;
+    public static final int AARCH64_SYSREG_UAO = 49684;
+    public static final int AARCH64_SYSREG_VBAR_EL1 = 50688;
+    public static final int AARCH64_SYSREG_VBAR_EL12 = 60928;
+    public static final int AARCH64_SYSREG_VBAR_EL2 = 58880;
+    public static final int AARCH64_SYSREG_VBAR_EL3 = 62976;
+    public static final int AARCH64_SYSREG_VDISR_EL2 = 58889;
+    public static final int AARCH64_SYSREG_VDISR_EL3 = 62985;
+    public static final int AARCH64_SYSREG_VMECID_A_EL2 = 58697;
+    public static final int AARCH64_SYSREG_VMECID_P_EL2 = 58696;
+    public static final int AARCH64_SYSREG_VMPIDR_EL2 = 57349;
+    public static final int AARCH64_SYSREG_VNCR_EL2 = 57616;
+    public static final int AARCH64_SYSREG_VPIDR_EL2 = 57344;
+    public static final int AARCH64_SYSREG_VSESR_EL2 = 58003;
+    public static final int AARCH64_SYSREG_VSESR_EL3 = 62099;
+    public static final int AARCH64_SYSREG_VSTCR_EL2 = 57650;
+    public static final int AARCH64_SYSREG_VSTTBR_EL2 = 57648;
+    public static final int AARCH64_SYSREG_VTCR_EL2 = 57610;
+    public static final int AARCH64_SYSREG_VTTBR_EL2 = 57608;
+    public static final int AARCH64_SYSREG_ZCR_EL1 = 49296;
+    public static final int AARCH64_SYSREG_ZCR_EL12 = 59536;
+    public static final int AARCH64_SYSREG_ZCR_EL2 = 57488;
+    public static final int AARCH64_SYSREG_ZCR_EL3 = 61584;
+    public static final int AARCH64_SYSREG_ENDING = 65535;
+    public static final int AARCH64_TSB_CSYNC = 0;
+    public static final int AARCH64_TSB_ENDING = 1;
+    public static final int AARCH64_OP_CIMM = 16;
+    public static final int AARCH64_OP_REG_MRS = 17;
+    public static final int AARCH64_OP_REG_MSR = 18;
+    public static final int AARCH64_OP_IMPLICIT_IMM_0 = 19;
+    public static final int AARCH64_OP_SVCR = 20;
+    public static final int AARCH64_OP_AT = 21;
+    public static final int AARCH64_OP_DB = 22;
+    public static final int AARCH64_OP_DC = 23;
+    public static final int AARCH64_OP_ISB = 24;
+    public static final int AARCH64_OP_TSB = 25;
+    public static final int AARCH64_OP_PRFM = 26;
+    public static final int AARCH64_OP_SVEPRFM = 27;
+    public static final int AARCH64_OP_RPRFM = 28;
+    public static final int AARCH64_OP_PSTATEIMM0_15 = 29;
+    public static final int AARCH64_OP_PSTATEIMM0_1 = 30;
+    public static final int AARCH64_OP_PSB = 31;
+    public static final int AARCH64_OP_BTI = 32;
+    public static final int AARCH64_OP_SVEPREDPAT = 33;
+    public static final int AARCH64_OP_SVEVECLENSPECIFIER = 34;
+    public static final int AARCH64_OP_SME = 35;
+    public static final int AARCH64_OP_IMM_RANGE = 36;
+    public static final int AARCH64_OP_TLBI = 37;
+    public static final int AARCH64_OP_IC = 38;
+    public static final int AARCH64_OP_DBNXS = 39;
+    public static final int AARCH64_OP_EXACTFPIMM = 40;
+    public static final int AARCH64_OP_SYSREG = 41;
+    public static final int AARCH64_OP_SYSIMM = 42;
+    public static final int AARCH64_OP_SYSALIAS = 43;
+    public static final int AARCH64_OP_PRED = 44;
+    public static final int AARCH64_REG_INVALID = 0;
+    public static final int AARCH64_REG_FFR = 1;
+    public static final int AARCH64_REG_FP = 2;
+    public static final int AARCH64_REG_FPCR = 3;
+    public static final int AARCH64_REG_LR = 4;
+    public static final int AARCH64_REG_NZCV = 5;
+    public static final int AARCH64_REG_SP = 6;
+    public static final int AARCH64_REG_VG = 7;
+    public static final int AARCH64_REG_WSP = 8;
+    public static final int AARCH64_REG_WZR = 9;
+    public static final int AARCH64_REG_XZR = 10;
+    public static final int AARCH64_REG_ZA = 11;
+    public static final int AARCH64_REG_B0 = 12;
+    public static final int AARCH64_REG_B1 = 13;
+    public static final int AARCH64_REG_B2 = 14;
+    public static final int AARCH64_REG_B3 = 15;
+    public static final int AARCH64_REG_B4 = 16;
+    public static final int AARCH64_REG_B5 = 17;
+    public static final int AARCH64_REG_B6 = 18;
+    public static final int AARCH64_REG_B7 = 19;
+    public static final int AARCH64_REG_B8 = 20;
+    public static final int AARCH64_REG_B9 = 21;
+    public static final int AARCH64_REG_B10 = 22;
+    public static final int AARCH64_REG_B11 = 23;
+    public static final int AARCH64_REG_B12 = 24;
+    public static final int AARCH64_REG_B13 = 25;
+    public static final int AARCH64_REG_B14 = 26;
+    public static final int AARCH64_REG_B15 = 27;
+    public static final int AARCH64_REG_B16 = 28;
+    public static final int AARCH64_REG_B17 = 29;
+    public static final int AARCH64_REG_B18 = 30;
+    public static final int AARCH64_REG_B19 = 31;
+    public static final int AARCH64_REG_B20 = 32;
+    public static final int AARCH64_REG_B21 = 33;
+    public static final int AARCH64_REG_B22 = 34;
+    public static final int AARCH64_REG_B23 = 35;
+    public static final int AARCH64_REG_B24 = 36;
+    public static final int AARCH64_REG_B25 = 37;
+    public static final int AARCH64_REG_B26 = 38;
+    public static final int AARCH64_REG_B27 = 39;
+    public static final int AARCH64_REG_B28 = 40;
+    public static final int AARCH64_REG_B29 = 41;
+    public static final int AARCH64_REG_B30 = 42;
+    public static final int AARCH64_REG_B31 = 43;
+    public static final int AARCH64_REG_D0 = 44;
+    public static final int AARCH64_REG_D1 = 45;
+    public static final int AARCH64_REG_D2 = 46;
+    public static final int AARCH64_REG_D3 = 47;
+    public static final int AARCH64_REG_D4 = 48;
+    public static final int AARCH64_REG_D5 = 49;
+    public static final int AARCH64_REG_D6 = 50;
+    public static final int AARCH64_REG_D7 = 51;
+    public static final int AARCH64_REG_D8 = 52;
+    public static final int AARCH64_REG_D9 = 53;
+    public static final int AARCH64_REG_D10 = 54;
+    public static final int AARCH64_REG_D11 = 55;
+    public static final int AARCH64_REG_D12 = 56;
+    public static final int AARCH64_REG_D13 = 57;
+    public static final int AARCH64_REG_D14 = 58;
+    public static final int AARCH64_REG_D15 = 59;
+    public static final int AARCH64_REG_D16 = 60;
+    public static final int AARCH64_REG_D17 = 61;
+    public static final int AARCH64_REG_D18 = 62;
+    public static final int AARCH64_REG_D19 = 63;
+    public static final int AARCH64_REG_D20 = 64;
+    public static final int AARCH64_REG_D21 = 65;
+    public static final int AARCH64_REG_D22 = 66;
+    public static final int AARCH64_REG_D23 = 67;
+    public static final int AARCH64_REG_D24 = 68;
+    public static final int AARCH64_REG_D25 = 69;
+    public static final int AARCH64_REG_D26 = 70;
+    public static final int AARCH64_REG_D27 = 71;
+    public static final int AARCH64_REG_D28 = 72;
+    public static final int AARCH64_REG_D29 = 73;
+    public static final int AARCH64_REG_D30 = 74;
+    public static final int AARCH64_REG_D31 = 75;
+    public static final int AARCH64_REG_H0 = 76;
+    public static final int AARCH64_REG_H1 = 77;
+    public static final int AARCH64_REG_H2 = 78;
+    public static final int AARCH64_REG_H3 = 79;
+    public static final int AARCH64_REG_H4 = 80;
+    public static final int AARCH64_REG_H5 = 81;
+    public static final int AARCH64_REG_H6 = 82;
+    public static final int AARCH64_REG_H7 = 83;
+    public static final int AARCH64_REG_H8 = 84;
+    public static final int AARCH64_REG_H9 = 85;
+    public static final int AARCH64_REG_H10 = 86;
+    public static final int AARCH64_REG_H11 = 87;
+    public static final int AARCH64_REG_H12 = 88;
+    public static final int AARCH64_REG_H13 = 89;
+    public static final int AARCH64_REG_H14 = 90;
+    public static final int AARCH64_REG_H15 = 91;
+    public static final int AARCH64_REG_H16 = 92;
+    public static final int AARCH64_REG_H17 = 93;
+    public static final int AARCH64_REG_H18 = 94;
+    public static final int AARCH64_REG_H19 = 95;
+    public static final int AARCH64_REG_H20 = 96;
+    public static final int AARCH64_REG_H21 = 97;
+    public static final int AARCH64_REG_H22 = 98;
+    public static final int AARCH64_REG_H23 = 99;
+    public static final int AARCH64_REG_H24 = 100;
+    public static final int AARCH64_REG_H25 = 101;
+    public static final int AARCH64_REG_H26 = 102;
+    public static final int AARCH64_REG_H27 = 103;
+    public static final int AARCH64_REG_H28 = 104;
+    public static final int AARCH64_REG_H29 = 105;
+    public static final int AARCH64_REG_H30 = 106;
+    public static final int AARCH64_REG_H31 = 107;
+    public static final int AARCH64_REG_P0 = 108;
+    public static final int AARCH64_REG_P1 = 109;
+    public static final int AARCH64_REG_P2 = 110;
+    public static final int AARCH64_REG_P3 = 111;
+    public static final int AARCH64_REG_P4 = 112;
+    public static final int AARCH64_REG_P5 = 113;
+    public static final int AARCH64_REG_P6 = 114;
+    public static final int AARCH64_REG_P7 = 115;
+    public static final int AARCH64_REG_P8 = 116;
+    public static final int AARCH64_REG_P9 = 117;
+    public static final int AARCH64_REG_P10 = 118;
+    public static final int AARCH64_REG_P11 = 119;
+    public static final int AARCH64_REG_P12 = 120;
+    public static final int AARCH64_REG_P13 = 121;
+    public static final int AARCH64_REG_P14 = 122;
+    public static final int AARCH64_REG_P15 = 123;
+    public static final int AARCH64_REG_PN0 = 124;
+    public static final int AARCH64_REG_PN1 = 125;
+    public static final int AARCH64_REG_PN2 = 126;
+    public static final int AARCH64_REG_PN3 = 127;
+    public static final int AARCH64_REG_PN4 = 128;
+    public static final int AARCH64_REG_PN5 = 129;
+    public static final int AARCH64_REG_PN6 = 130;
+    public static final int AARCH64_REG_PN7 = 131;
+    public static final int AARCH64_REG_PN8 = 132;
+    public static final int AARCH64_REG_PN9 = 133;
+    public static final int AARCH64_REG_PN10 = 134;
+    public static final int AARCH64_REG_PN11 = 135;
+    public static final int AARCH64_REG_PN12 = 136;
+    public static final int AARCH64_REG_PN13 = 137;
+    public static final int AARCH64_REG_PN14 = 138;
+    public static final int AARCH64_REG_PN15 = 139;
+    public static final int AARCH64_REG_Q0 = 140;
+    public static final int AARCH64_REG_Q1 = 141;
+    public static final int AARCH64_REG_Q2 = 142;
+    public static final int AARCH64_REG_Q3 = 143;
+    public static final int AARCH64_REG_Q4 = 144;
+    public static final int AARCH64_REG_Q5 = 145;
+    public static final int AARCH64_REG_Q6 = 146;
+    public static final int AARCH64_REG_Q7 = 147;
+    public static final int AARCH64_REG_Q8 = 148;
+    public static final int AARCH64_REG_Q9 = 149;
+    public static final int AARCH64_REG_Q10 = 150;
+    public static final int AARCH64_REG_Q11 = 151;
+    public static final int AARCH64_REG_Q12 = 152;
+    public static final int AARCH64_REG_Q13 = 153;
+    public static final int AARCH64_REG_Q14 = 154;
+    public static final int AARCH64_REG_Q15 = 155;
+    public static final int AARCH64_REG_Q16 = 156;
+    public static final int AARCH64_REG_Q17 = 157;
+    public static final int AARCH64_REG_Q18 = 158;
+    public static final int AARCH64_REG_Q19 = 159;
+    public static final int AARCH64_REG_Q20 = 160;
+    public static final int AARCH64_REG_Q21 = 161;
+    public static final int AARCH64_REG_Q22 = 162;
+    public static final int AARCH64_REG_Q23 = 163;
+    public static final int AARCH64_REG_Q24 = 164;
+    public static final int AARCH64_REG_Q25 = 165;
+    public static final int AARCH64_REG_Q26 = 166;
+    public static final int AARCH64_REG_Q27 = 167;
+    public static final int AARCH64_REG_Q28 = 168;
+    public static final int AARCH64_REG_Q29 = 169;
+    public static final int AARCH64_REG_Q30 = 170;
+    public static final int AARCH64_REG_Q31 = 171;
+    public static final int AARCH64_REG_S0 = 172;
+    public static final int AARCH64_REG_S1 = 173;
+    public static final int AARCH64_REG_S2 = 174;
+    public static final int AARCH64_REG_S3 = 175;
+    public static final int AARCH64_REG_S4 = 176;
+    public static final int AARCH64_REG_S5 = 177;
+    public static final int AARCH64_REG_S6 = 178;
+    public static final int AARCH64_REG_S7 = 179;
+    public static final int AARCH64_REG_S8 = 180;
+    public static final int AARCH64_REG_S9 = 181;
+    public static final int AARCH64_REG_S10 = 182;
+    public static final int AARCH64_REG_S11 = 183;
+    public static final int AARCH64_REG_S12 = 184;
+    public static final int AARCH64_REG_S13 = 185;
+    public static final int AARCH64_REG_S14 = 186;
+    public static final int AARCH64_REG_S15 = 187;
+    public static final int AARCH64_REG_S16 = 188;
+    public static final int AARCH64_REG_S17 = 189;
+    public static final int AARCH64_REG_S18 = 190;
+    public static final int AARCH64_REG_S19 = 191;
+    public static final int AARCH64_REG_S20 = 192;
+    public static final int AARCH64_REG_S21 = 193;
+    public static final int AARCH64_REG_S22 = 194;
+    public static final int AARCH64_REG_S23 = 195;
+    public static final int AARCH64_REG_S24 = 196;
+    public static final int AARCH64_REG_S25 = 197;
+    public static final int AARCH64_REG_S26 = 198;
+    public static final int AARCH64_REG_S27 = 199;
+    public static final int AARCH64_REG_S28 = 200;
+    public static final int AARCH64_REG_S29 = 201;
+    public static final int AARCH64_REG_S30 = 202;
+    public static final int AARCH64_REG_S31 = 203;
+    public static final int AARCH64_REG_W0 = 204;
+    public static final int AARCH64_REG_W1 = 205;
+    public static final int AARCH64_REG_W2 = 206;
+    public static final int AARCH64_REG_W3 = 207;
+    public static final int AARCH64_REG_W4 = 208;
+    public static final int AARCH64_REG_W5 = 209;
+    public static final int AARCH64_REG_W6 = 210;
+    public static final int AARCH64_REG_W7 = 211;
+    public static final int AARCH64_REG_W8 = 212;
+    public static final int AARCH64_REG_W9 = 213;
+    public static final int AARCH64_REG_W10 = 214;
+    public static final int AARCH64_REG_W11 = 215;
+    public static final int AARCH64_REG_W12 = 216;
+    public static final int AARCH64_REG_W13 = 217;
+    public static final int AARCH64_REG_W14 = 218;
+    public static final int AARCH64_REG_W15 = 219;
+    public static final int AARCH64_REG_W16 = 220;
+    public static final int AARCH64_REG_W17 = 221;
+    public static final int AARCH64_REG_W18 = 222;
+    public static final int AARCH64_REG_W19 = 223;
+    public static final int AARCH64_REG_W20 = 224;
+    public static final int AARCH64_REG_W21 = 225;
+    public static final int AARCH64_REG_W22 = 226;
+    public static final int AARCH64_REG_W23 = 227;
+    public static final int AARCH64_REG_W24 = 228;
+    public static final int AARCH64_REG_W25 = 229;
+    public static final int AARCH64_REG_W26 = 230;
+    public static final int AARCH64_REG_W27 = 231;
+    public static final int AARCH64_REG_W28 = 232;
+    public static final int AARCH64_REG_W29 = 233;
+    public static final int AARCH64_REG_W30 = 234;
+    public static final int AARCH64_REG_X0 = 235;
+    public static final int AARCH64_REG_X1 = 236;
+    public static final int AARCH64_REG_X2 = 237;
+    public static final int AARCH64_REG_X3 = 238;
+    public static final int AARCH64_REG_X4 = 239;
+    public static final int AARCH64_REG_X5 = 240;
+    public static final int AARCH64_REG_X6 = 241;
+    public static final int AARCH64_REG_X7 = 242;
+    public static final int AARCH64_REG_X8 = 243;
+    public static final int AARCH64_REG_X9 = 244;
+    public static final int AARCH64_REG_X10 = 245;
+    public static final int AARCH64_REG_X11 = 246;
+    public static final int AARCH64_REG_X12 = 247;
+    public static final int AARCH64_REG_X13 = 248;
+    public static final int AARCH64_REG_X14 = 249;
+    public static final int AARCH64_REG_X15 = 250;
+    public static final int AARCH64_REG_X16 = 251;
+    public static final int AARCH64_REG_X17 = 252;
+    public static final int AARCH64_REG_X18 = 253;
+    public static final int AARCH64_REG_X19 = 254;
+    public static final int AARCH64_REG_X20 = 255;
+    public static final int AARCH64_REG_X21 = 256;
+    public static final int AARCH64_REG_X22 = 257;
+    public static final int AARCH64_REG_X23 = 258;
+    public static final int AARCH64_REG_X24 = 259;
+    public static final int AARCH64_REG_X25 = 260;
+    public static final int AARCH64_REG_X26 = 261;
+    public static final int AARCH64_REG_X27 = 262;
+    public static final int AARCH64_REG_X28 = 263;
+    public static final int AARCH64_REG_Z0 = 264;
+    public static final int AARCH64_REG_Z1 = 265;
+    public static final int AARCH64_REG_Z2 = 266;
+    public static final int AARCH64_REG_Z3 = 267;
+    public static final int AARCH64_REG_Z4 = 268;
+    public static final int AARCH64_REG_Z5 = 269;
+    public static final int AARCH64_REG_Z6 = 270;
+    public static final int AARCH64_REG_Z7 = 271;
+    public static final int AARCH64_REG_Z8 = 272;
+    public static final int AARCH64_REG_Z9 = 273;
+    public static final int AARCH64_REG_Z10 = 274;
+    public static final int AARCH64_REG_Z11 = 275;
+    public static final int AARCH64_REG_Z12 = 276;
+    public static final int AARCH64_REG_Z13 = 277;
+    public static final int AARCH64_REG_Z14 = 278;
+    public static final int AARCH64_REG_Z15 = 279;
+    public static final int AARCH64_REG_Z16 = 280;
+    public static final int AARCH64_REG_Z17 = 281;
+    public static final int AARCH64_REG_Z18 = 282;
+    public static final int AARCH64_REG_Z19 = 283;
+    public static final int AARCH64_REG_Z20 = 284;
+    public static final int AARCH64_REG_Z21 = 285;
+    public static final int AARCH64_REG_Z22 = 286;
+    public static final int AARCH64_REG_Z23 = 287;
+    public static final int AARCH64_REG_Z24 = 288;
+    public static final int AARCH64_REG_Z25 = 289;
+    public static final int AARCH64_REG_Z26 = 290;
+    public static final int AARCH64_REG_Z27 = 291;
+    public static final int AARCH64_REG_Z28 = 292;
+    public static final int AARCH64_REG_Z29 = 293;
+    public static final int AARCH64_REG_Z30 = 294;
+    public static final int AARCH64_REG_Z31 = 295;
+    public static final int AARCH64_REG_ZAB0 = 296;
+    public static final int AARCH64_REG_ZAD0 = 297;
+    public static final int AARCH64_REG_ZAD1 = 298;
+    public static final int AARCH64_REG_ZAD2 = 299;
+    public static final int AARCH64_REG_ZAD3 = 300;
+    public static final int AARCH64_REG_ZAD4 = 301;
+    public static final int AARCH64_REG_ZAD5 = 302;
+    public static final int AARCH64_REG_ZAD6 = 303;
+    public static final int AARCH64_REG_ZAD7 = 304;
+    public static final int AARCH64_REG_ZAH0 = 305;
+    public static final int AARCH64_REG_ZAH1 = 306;
+    public static final int AARCH64_REG_ZAQ0 = 307;
+    public static final int AARCH64_REG_ZAQ1 = 308;
+    public static final int AARCH64_REG_ZAQ2 = 309;
+    public static final int AARCH64_REG_ZAQ3 = 310;
+    public static final int AARCH64_REG_ZAQ4 = 311;
+    public static final int AARCH64_REG_ZAQ5 = 312;
+    public static final int AARCH64_REG_ZAQ6 = 313;
+    public static final int AARCH64_REG_ZAQ7 = 314;
+    public static final int AARCH64_REG_ZAQ8 = 315;
+    public static final int AARCH64_REG_ZAQ9 = 316;
+    public static final int AARCH64_REG_ZAQ10 = 317;
+    public static final int AARCH64_REG_ZAQ11 = 318;
+    public static final int AARCH64_REG_ZAQ12 = 319;
+    public static final int AARCH64_REG_ZAQ13 = 320;
+    public static final int AARCH64_REG_ZAQ14 = 321;
+    public static final int AARCH64_REG_ZAQ15 = 322;
+    public static final int AARCH64_REG_ZAS0 = 323;
+    public static final int AARCH64_REG_ZAS1 = 324;
+    public static final int AARCH64_REG_ZAS2 = 325;
+    public static final int AARCH64_REG_ZAS3 = 326;
+    public static final int AARCH64_REG_ZT0 = 327;
+    public static final int AARCH64_REG_D0_D1 = 328;
+    public static final int AARCH64_REG_D1_D2 = 329;
+    public static final int AARCH64_REG_D2_D3 = 330;
+    public static final int AARCH64_REG_D3_D4 = 331;
+    public static final int AARCH64_REG_D4_D5 = 332;
+    public static final int AARCH64_REG_D5_D6 = 333;
+    public static final int AARCH64_REG_D6_D7 = 334;
+    public static final int AARCH64_REG_D7_D8 = 335;
+    public static final int AARCH64_REG_D8_D9 = 336;
+    public static final int AARCH64_REG_D9_D10 = 337;
+    public static final int AARCH64_REG_D10_D11 = 338;
+    public static final int AARCH64_REG_D11_D12 = 339;
+    public static final int AARCH64_REG_D12_D13 = 340;
+    public static final int AARCH64_REG_D13_D14 = 341;
+    public static final int AARCH64_REG_D14_D15 = 342;
+    public static final int AARCH64_REG_D15_D16 = 343;
+    public static final int AARCH64_REG_D16_D17 = 344;
+    public static final int AARCH64_REG_D17_D18 = 345;
+    public static final int AARCH64_REG_D18_D19 = 346;
+    public static final int AARCH64_REG_D19_D20 = 347;
+    public static final int AARCH64_REG_D20_D21 = 348;
+    public static final int AARCH64_REG_D21_D22 = 349;
+    public static final int AARCH64_REG_D22_D23 = 350;
+    public static final int AARCH64_REG_D23_D24 = 351;
+    public static final int AARCH64_REG_D24_D25 = 352;
+    public static final int AARCH64_REG_D25_D26 = 353;
+    public static final int AARCH64_REG_D26_D27 = 354;
+    public static final int AARCH64_REG_D27_D28 = 355;
+    public static final int AARCH64_REG_D28_D29 = 356;
+    public static final int AARCH64_REG_D29_D30 = 357;
+    public static final int AARCH64_REG_D30_D31 = 358;
+    public static final int AARCH64_REG_D31_D0 = 359;
+    public static final int AARCH64_REG_D0_D1_D2_D3 = 360;
+    public static final int AARCH64_REG_D1_D2_D3_D4 = 361;
+    public static final int AARCH64_REG_D2_D3_D4_D5 = 362;
+    public static final int AARCH64_REG_D3_D4_D5_D6 = 363;
+    public static final int AARCH64_REG_D4_D5_D6_D7 = 364;
+    public static final int AARCH64_REG_D5_D6_D7_D8 = 365;
+    public static final int AARCH64_REG_D6_D7_D8_D9 = 366;
+    public static final int AARCH64_REG_D7_D8_D9_D10 = 367;
+    public static final int AARCH64_REG_D8_D9_D10_D11 = 368;
+    public static final int AARCH64_REG_D9_D10_D11_D12 = 369;
+    public static final int AARCH64_REG_D10_D11_D12_D13 = 370;
+    public static final int AARCH64_REG_D11_D12_D13_D14 = 371;
+    public static final int AARCH64_REG_D12_D13_D14_D15 = 372;
+    public static final int AARCH64_REG_D13_D14_D15_D16 = 373;
+    public static final int AARCH64_REG_D14_D15_D16_D17 = 374;
+    public static final int AARCH64_REG_D15_D16_D17_D18 = 375;
+    public static final int AARCH64_REG_D16_D17_D18_D19 = 376;
+    public static final int AARCH64_REG_D17_D18_D19_D20 = 377;
+    public static final int AARCH64_REG_D18_D19_D20_D21 = 378;
+    public static final int AARCH64_REG_D19_D20_D21_D22 = 379;
+    public static final int AARCH64_REG_D20_D21_D22_D23 = 380;
+    public static final int AARCH64_REG_D21_D22_D23_D24 = 381;
+    public static final int AARCH64_REG_D22_D23_D24_D25 = 382;
+    public static final int AARCH64_REG_D23_D24_D25_D26 = 383;
+    public static final int AARCH64_REG_D24_D25_D26_D27 = 384;
+    public static final int AARCH64_REG_D25_D26_D27_D28 = 385;
+    public static final int AARCH64_REG_D26_D27_D28_D29 = 386;
+    public static final int AARCH64_REG_D27_D28_D29_D30 = 387;
+    public static final int AARCH64_REG_D28_D29_D30_D31 = 388;
+    public static final int AARCH64_REG_D29_D30_D31_D0 = 389;
+    public static final int AARCH64_REG_D30_D31_D0_D1 = 390;
+    public static final int AARCH64_REG_D31_D0_D1_D2 = 391;
+    public static final int AARCH64_REG_D0_D1_D2 = 392;
+    public static final int AARCH64_REG_D1_D2_D3 = 393;
+    public static final int AARCH64_REG_D2_D3_D4 = 394;
+    public static final int AARCH64_REG_D3_D4_D5 = 395;
+    public static final int AARCH64_REG_D4_D5_D6 = 396;
+    public static final int AARCH64_REG_D5_D6_D7 = 397;
+    public static final int AARCH64_REG_D6_D7_D8 = 398;
+    public static final int AARCH64_REG_D7_D8_D9 = 399;
+    public static final int AARCH64_REG_D8_D9_D10 = 400;
+    public static final int AARCH64_REG_D9_D10_D11 = 401;
+    public static final int AARCH64_REG_D10_D11_D12 = 402;
+    public static final int AARCH64_REG_D11_D12_D13 = 403;
+    public static final int AARCH64_REG_D12_D13_D14 = 404;
+    public static final int AARCH64_REG_D13_D14_D15 = 405;
+    public static final int AARCH64_REG_D14_D15_D16 = 406;
+    public static final int AARCH64_REG_D15_D16_D17 = 407;
+    public static final int AARCH64_REG_D16_D17_D18 = 408;
+    public static final int AARCH64_REG_D17_D18_D19 = 409;
+    public static final int AARCH64_REG_D18_D19_D20 = 410;
+    public static final int AARCH64_REG_D19_D20_D21 = 411;
+    public static final int AARCH64_REG_D20_D21_D22 = 412;
+    public static final int AARCH64_REG_D21_D22_D23 = 413;
+    public static final int AARCH64_REG_D22_D23_D24 = 414;
+    public static final int AARCH64_REG_D23_D24_D25 = 415;
+    public static final int AARCH64_REG_D24_D25_D26 = 416;
+    public static final int AARCH64_REG_D25_D26_D27 = 417;
+    public static final int AARCH64_REG_D26_D27_D28 = 418;
+    public static final int AARCH64_REG_D27_D28_D29 = 419;
+    public static final int AARCH64_REG_D28_D29_D30 = 420;
+    public static final int AARCH64_REG_D29_D30_D31 = 421;
+    public static final int AARCH64_REG_D30_D31_D0 = 422;
+    public static final int AARCH64_REG_D31_D0_D1 = 423;
+    public static final int AARCH64_REG_P0_P1 = 424;
+    public static final int AARCH64_REG_P1_P2 = 425;
+    public static final int AARCH64_REG_P2_P3 = 426;
+    public static final int AARCH64_REG_P3_P4 = 427;
+    public static final int AARCH64_REG_P4_P5 = 428;
+    public static final int AARCH64_REG_P5_P6 = 429;
+    public static final int AARCH64_REG_P6_P7 = 430;
+    public static final int AARCH64_REG_P7_P8 = 431;
+    public static final int AARCH64_REG_P8_P9 = 432;
+    public static final int AARCH64_REG_P9_P10 = 433;
+    public static final int AARCH64_REG_P10_P11 = 434;
+    public static final int AARCH64_REG_P11_P12 = 435;
+    public static final int AARCH64_REG_P12_P13 = 436;
+    public static final int AARCH64_REG_P13_P14 = 437;
+    public static final int AARCH64_REG_P14_P15 = 438;
+    public static final int AARCH64_REG_P15_P0 = 439;
+    public static final int AARCH64_REG_Q0_Q1 = 440;
+    public static final int AARCH64_REG_Q1_Q2 = 441;
+    public static final int AARCH64_REG_Q2_Q3 = 442;
+    public static final int AARCH64_REG_Q3_Q4 = 443;
+    public static final int AARCH64_REG_Q4_Q5 = 444;
+    public static final int AARCH64_REG_Q5_Q6 = 445;
+    public static final int AARCH64_REG_Q6_Q7 = 446;
+    public static final int AARCH64_REG_Q7_Q8 = 447;
+    public static final int AARCH64_REG_Q8_Q9 = 448;
+    public static final int AARCH64_REG_Q9_Q10 = 449;
+    public static final int AARCH64_REG_Q10_Q11 = 450;
+    public static final int AARCH64_REG_Q11_Q12 = 451;
+    public static final int AARCH64_REG_Q12_Q13 = 452;
+    public static final int AARCH64_REG_Q13_Q14 = 453;
+    public static final int AARCH64_REG_Q14_Q15 = 454;
+    public static final int AARCH64_REG_Q15_Q16 = 455;
+    public static final int AARCH64_REG_Q16_Q17 = 456;
+    public static final int AARCH64_REG_Q17_Q18 = 457;
+    public static final int AARCH64_REG_Q18_Q19 = 458;
+    public static final int AARCH64_REG_Q19_Q20 = 459;
+    public static final int AARCH64_REG_Q20_Q21 = 460;
+    public static final int AARCH64_REG_Q21_Q22 = 461;
+    public static final int AARCH64_REG_Q22_Q23 = 462;
+    public static final int AARCH64_REG_Q23_Q24 = 463;
+    public static final int AARCH64_REG_Q24_Q25 = 464;
+    public static final int AARCH64_REG_Q25_Q26 = 465;
+    public static final int AARCH64_REG_Q26_Q27 = 466;
+    public static final int AARCH64_REG_Q27_Q28 = 467;
+    public static final int AARCH64_REG_Q28_Q29 = 468;
+    public static final int AARCH64_REG_Q29_Q30 = 469;
+    public static final int AARCH64_REG_Q30_Q31 = 470;
+    public static final int AARCH64_REG_Q31_Q0 = 471;
+    public static final int AARCH64_REG_Q0_Q1_Q2_Q3 = 472;
+    public static final int AARCH64_REG_Q1_Q2_Q3_Q4 = 473;
+    public static final int AARCH64_REG_Q2_Q3_Q4_Q5 = 474;
+    public static final int AARCH64_REG_Q3_Q4_Q5_Q6 = 475;
+    public static final int AARCH64_REG_Q4_Q5_Q6_Q7 = 476;
+    public static final int AARCH64_REG_Q5_Q6_Q7_Q8 = 477;
+    public static final int AARCH64_REG_Q6_Q7_Q8_Q9 = 478;
+    public static final int AARCH64_REG_Q7_Q8_Q9_Q10 = 479;
+    public static final int AARCH64_REG_Q8_Q9_Q10_Q11 = 480;
+    public static final int AARCH64_REG_Q9_Q10_Q11_Q12 = 481;
+    public static final int AARCH64_REG_Q10_Q11_Q12_Q13 = 482;
+    public static final int AARCH64_REG_Q11_Q12_Q13_Q14 = 483;
+    public static final int AARCH64_REG_Q12_Q13_Q14_Q15 = 484;
+    public static final int AARCH64_REG_Q13_Q14_Q15_Q16 = 485;
+    public static final int AARCH64_REG_Q14_Q15_Q16_Q17 = 486;
+    public static final int AARCH64_REG_Q15_Q16_Q17_Q18 = 487;
+    public static final int AARCH64_REG_Q16_Q17_Q18_Q19 = 488;
+    public static final int AARCH64_REG_Q17_Q18_Q19_Q20 = 489;
+    public static final int AARCH64_REG_Q18_Q19_Q20_Q21 = 490;
+    public static final int AARCH64_REG_Q19_Q20_Q21_Q22 = 491;
+    public static final int AARCH64_REG_Q20_Q21_Q22_Q23 = 492;
+    public static final int AARCH64_REG_Q21_Q22_Q23_Q24 = 493;
+    public static final int AARCH64_REG_Q22_Q23_Q24_Q25 = 494;
+    public static final int AARCH64_REG_Q23_Q24_Q25_Q26 = 495;
+    public static final int AARCH64_REG_Q24_Q25_Q26_Q27 = 496;
+    public static final int AARCH64_REG_Q25_Q26_Q27_Q28 = 497;
+    public static final int AARCH64_REG_Q26_Q27_Q28_Q29 = 498;
+    public static final int AARCH64_REG_Q27_Q28_Q29_Q30 = 499;
+    public static final int AARCH64_REG_Q28_Q29_Q30_Q31 = 500;
+    public static final int AARCH64_REG_Q29_Q30_Q31_Q0 = 501;
+    public static final int AARCH64_REG_Q30_Q31_Q0_Q1 = 502;
+    public static final int AARCH64_REG_Q31_Q0_Q1_Q2 = 503;
+    public static final int AARCH64_REG_Q0_Q1_Q2 = 504;
+    public static final int AARCH64_REG_Q1_Q2_Q3 = 505;
+    public static final int AARCH64_REG_Q2_Q3_Q4 = 506;
+    public static final int AARCH64_REG_Q3_Q4_Q5 = 507;
+    public static final int AARCH64_REG_Q4_Q5_Q6 = 508;
+    public static final int AARCH64_REG_Q5_Q6_Q7 = 509;
+    public static final int AARCH64_REG_Q6_Q7_Q8 = 510;
+    public static final int AARCH64_REG_Q7_Q8_Q9 = 511;
+    public static final int AARCH64_REG_Q8_Q9_Q10 = 512;
+    public static final int AARCH64_REG_Q9_Q10_Q11 = 513;
+    public static final int AARCH64_REG_Q10_Q11_Q12 = 514;
+    public static final int AARCH64_REG_Q11_Q12_Q13 = 515;
+    public static final int AARCH64_REG_Q12_Q13_Q14 = 516;
+    public static final int AARCH64_REG_Q13_Q14_Q15 = 517;
+    public static final int AARCH64_REG_Q14_Q15_Q16 = 518;
+    public static final int AARCH64_REG_Q15_Q16_Q17 = 519;
+    public static final int AARCH64_REG_Q16_Q17_Q18 = 520;
+    public static final int AARCH64_REG_Q17_Q18_Q19 = 521;
+    public static final int AARCH64_REG_Q18_Q19_Q20 = 522;
+    public static final int AARCH64_REG_Q19_Q20_Q21 = 523;
+    public static final int AARCH64_REG_Q20_Q21_Q22 = 524;
+    public static final int AARCH64_REG_Q21_Q22_Q23 = 525;
+    public static final int AARCH64_REG_Q22_Q23_Q24 = 526;
+    public static final int AARCH64_REG_Q23_Q24_Q25 = 527;
+    public static final int AARCH64_REG_Q24_Q25_Q26 = 528;
+    public static final int AARCH64_REG_Q25_Q26_Q27 = 529;
+    public static final int AARCH64_REG_Q26_Q27_Q28 = 530;
+    public static final int AARCH64_REG_Q27_Q28_Q29 = 531;
+    public static final int AARCH64_REG_Q28_Q29_Q30 = 532;
+    public static final int AARCH64_REG_Q29_Q30_Q31 = 533;
+    public static final int AARCH64_REG_Q30_Q31_Q0 = 534;
+    public static final int AARCH64_REG_Q31_Q0_Q1 = 535;
+    public static final int AARCH64_REG_X22_X23_X24_X25_X26_X27_X28_FP = 536;
+    public static final int AARCH64_REG_X0_X1_X2_X3_X4_X5_X6_X7 = 537;
+    public static final int AARCH64_REG_X2_X3_X4_X5_X6_X7_X8_X9 = 538;
+    public static final int AARCH64_REG_X4_X5_X6_X7_X8_X9_X10_X11 = 539;
+    public static final int AARCH64_REG_X6_X7_X8_X9_X10_X11_X12_X13 = 540;
+    public static final int AARCH64_REG_X8_X9_X10_X11_X12_X13_X14_X15 = 541;
+    public static final int AARCH64_REG_X10_X11_X12_X13_X14_X15_X16_X17 = 542;
+    public static final int AARCH64_REG_X12_X13_X14_X15_X16_X17_X18_X19 = 543;
+    public static final int AARCH64_REG_X14_X15_X16_X17_X18_X19_X20_X21 = 544;
+    public static final int AARCH64_REG_X16_X17_X18_X19_X20_X21_X22_X23 = 545;
+    public static final int AARCH64_REG_X18_X19_X20_X21_X22_X23_X24_X25 = 546;
+    public static final int AARCH64_REG_X20_X21_X22_X23_X24_X25_X26_X27 = 547;
+    public static final int AARCH64_REG_W30_WZR = 548;
+    public static final int AARCH64_REG_W0_W1 = 549;
+    public static final int AARCH64_REG_W2_W3 = 550;
+    public static final int AARCH64_REG_W4_W5 = 551;
+    public static final int AARCH64_REG_W6_W7 = 552;
+    public static final int AARCH64_REG_W8_W9 = 553;
+    public static final int AARCH64_REG_W10_W11 = 554;
+    public static final int AARCH64_REG_W12_W13 = 555;
+    public static final int AARCH64_REG_W14_W15 = 556;
+    public static final int AARCH64_REG_W16_W17 = 557;
+    public static final int AARCH64_REG_W18_W19 = 558;
+    public static final int AARCH64_REG_W20_W21 = 559;
+    public static final int AARCH64_REG_W22_W23 = 560;
+    public static final int AARCH64_REG_W24_W25 = 561;
+    public static final int AARCH64_REG_W26_W27 = 562;
+    public static final int AARCH64_REG_W28_W29 = 563;
+    public static final int AARCH64_REG_LR_XZR = 564;
+    public static final int AARCH64_REG_X28_FP = 565;
+    public static final int AARCH64_REG_X0_X1 = 566;
+    public static final int AARCH64_REG_X2_X3 = 567;
+    public static final int AARCH64_REG_X4_X5 = 568;
+    public static final int AARCH64_REG_X6_X7 = 569;
+    public static final int AARCH64_REG_X8_X9 = 570;
+    public static final int AARCH64_REG_X10_X11 = 571;
+    public static final int AARCH64_REG_X12_X13 = 572;
+    public static final int AARCH64_REG_X14_X15 = 573;
+    public static final int AARCH64_REG_X16_X17 = 574;
+    public static final int AARCH64_REG_X18_X19 = 575;
+    public static final int AARCH64_REG_X20_X21 = 576;
+    public static final int AARCH64_REG_X22_X23 = 577;
+    public static final int AARCH64_REG_X24_X25 = 578;
+    public static final int AARCH64_REG_X26_X27 = 579;
+    public static final int AARCH64_REG_Z0_Z1 = 580;
+    public static final int AARCH64_REG_Z1_Z2 = 581;
+    public static final int AARCH64_REG_Z2_Z3 = 582;
+    public static final int AARCH64_REG_Z3_Z4 = 583;
+    public static final int AARCH64_REG_Z4_Z5 = 584;
+    public static final int AARCH64_REG_Z5_Z6 = 585;
+    public static final int AARCH64_REG_Z6_Z7 = 586;
+    public static final int AARCH64_REG_Z7_Z8 = 587;
+    public static final int AARCH64_REG_Z8_Z9 = 588;
+    public static final int AARCH64_REG_Z9_Z10 = 589;
+    public static final int AARCH64_REG_Z10_Z11 = 590;
+    public static final int AARCH64_REG_Z11_Z12 = 591;
+    public static final int AARCH64_REG_Z12_Z13 = 592;
+    public static final int AARCH64_REG_Z13_Z14 = 593;
+    public static final int AARCH64_REG_Z14_Z15 = 594;
+    public static final int AARCH64_REG_Z15_Z16 = 595;
+    public static final int AARCH64_REG_Z16_Z17 = 596;
+    public static final int AARCH64_REG_Z17_Z18 = 597;
+    public static final int AARCH64_REG_Z18_Z19 = 598;
+    public static final int AARCH64_REG_Z19_Z20 = 599;
+    public static final int AARCH64_REG_Z20_Z21 = 600;
+    public static final int AARCH64_REG_Z21_Z22 = 601;
+    public static final int AARCH64_REG_Z22_Z23 = 602;
+    public static final int AARCH64_REG_Z23_Z24 = 603;
+    public static final int AARCH64_REG_Z24_Z25 = 604;
+    public static final int AARCH64_REG_Z25_Z26 = 605;
+    public static final int AARCH64_REG_Z26_Z27 = 606;
+    public static final int AARCH64_REG_Z27_Z28 = 607;
+    public static final int AARCH64_REG_Z28_Z29 = 608;
+    public static final int AARCH64_REG_Z29_Z30 = 609;
+    public static final int AARCH64_REG_Z30_Z31 = 610;
+    public static final int AARCH64_REG_Z31_Z0 = 611;
+    public static final int AARCH64_REG_Z0_Z1_Z2_Z3 = 612;
+    public static final int AARCH64_REG_Z1_Z2_Z3_Z4 = 613;
+    public static final int AARCH64_REG_Z2_Z3_Z4_Z5 = 614;
+    public static final int AARCH64_REG_Z3_Z4_Z5_Z6 = 615;
+    public static final int AARCH64_REG_Z4_Z5_Z6_Z7 = 616;
+    public static final int AARCH64_REG_Z5_Z6_Z7_Z8 = 617;
+    public static final int AARCH64_REG_Z6_Z7_Z8_Z9 = 618;
+    public static final int AARCH64_REG_Z7_Z8_Z9_Z10 = 619;
+    public static final int AARCH64_REG_Z8_Z9_Z10_Z11 = 620;
+    public static final int AARCH64_REG_Z9_Z10_Z11_Z12 = 621;
+    public static final int AARCH64_REG_Z10_Z11_Z12_Z13 = 622;
+    public static final int AARCH64_REG_Z11_Z12_Z13_Z14 = 623;
+    public static final int AARCH64_REG_Z12_Z13_Z14_Z15 = 624;
+    public static final int AARCH64_REG_Z13_Z14_Z15_Z16 = 625;
+    public static final int AARCH64_REG_Z14_Z15_Z16_Z17 = 626;
+    public static final int AARCH64_REG_Z15_Z16_Z17_Z18 = 627;
+    public static final int AARCH64_REG_Z16_Z17_Z18_Z19 = 628;
+    public static final int AARCH64_REG_Z17_Z18_Z19_Z20 = 629;
+    public static final int AARCH64_REG_Z18_Z19_Z20_Z21 = 630;
+    public static final int AARCH64_REG_Z19_Z20_Z21_Z22 = 631;
+    public static final int AARCH64_REG_Z20_Z21_Z22_Z23 = 632;
+    public static final int AARCH64_REG_Z21_Z22_Z23_Z24 = 633;
+    public static final int AARCH64_REG_Z22_Z23_Z24_Z25 = 634;
+    public static final int AARCH64_REG_Z23_Z24_Z25_Z26 = 635;
+    public static final int AARCH64_REG_Z24_Z25_Z26_Z27 = 636;
+    public static final int AARCH64_REG_Z25_Z26_Z27_Z28 = 637;
+    public static final int AARCH64_REG_Z26_Z27_Z28_Z29 = 638;
+    public static final int AARCH64_REG_Z27_Z28_Z29_Z30 = 639;
+    public static final int AARCH64_REG_Z28_Z29_Z30_Z31 = 640;
+    public static final int AARCH64_REG_Z29_Z30_Z31_Z0 = 641;
+    public static final int AARCH64_REG_Z30_Z31_Z0_Z1 = 642;
+    public static final int AARCH64_REG_Z31_Z0_Z1_Z2 = 643;
+    public static final int AARCH64_REG_Z0_Z1_Z2 = 644;
+    public static final int AARCH64_REG_Z1_Z2_Z3 = 645;
+    public static final int AARCH64_REG_Z2_Z3_Z4 = 646;
+    public static final int AARCH64_REG_Z3_Z4_Z5 = 647;
+    public static final int AARCH64_REG_Z4_Z5_Z6 = 648;
+    public static final int AARCH64_REG_Z5_Z6_Z7 = 649;
+    public static final int AARCH64_REG_Z6_Z7_Z8 = 650;
+    public static final int AARCH64_REG_Z7_Z8_Z9 = 651;
+    public static final int AARCH64_REG_Z8_Z9_Z10 = 652;
+    public static final int AARCH64_REG_Z9_Z10_Z11 = 653;
+    public static final int AARCH64_REG_Z10_Z11_Z12 = 654;
+    public static final int AARCH64_REG_Z11_Z12_Z13 = 655;
+    public static final int AARCH64_REG_Z12_Z13_Z14 = 656;
+    public static final int AARCH64_REG_Z13_Z14_Z15 = 657;
+    public static final int AARCH64_REG_Z14_Z15_Z16 = 658;
+    public static final int AARCH64_REG_Z15_Z16_Z17 = 659;
+    public static final int AARCH64_REG_Z16_Z17_Z18 = 660;
+    public static final int AARCH64_REG_Z17_Z18_Z19 = 661;
+    public static final int AARCH64_REG_Z18_Z19_Z20 = 662;
+    public static final int AARCH64_REG_Z19_Z20_Z21 = 663;
+    public static final int AARCH64_REG_Z20_Z21_Z22 = 664;
+    public static final int AARCH64_REG_Z21_Z22_Z23 = 665;
+    public static final int AARCH64_REG_Z22_Z23_Z24 = 666;
+    public static final int AARCH64_REG_Z23_Z24_Z25 = 667;
+    public static final int AARCH64_REG_Z24_Z25_Z26 = 668;
+    public static final int AARCH64_REG_Z25_Z26_Z27 = 669;
+    public static final int AARCH64_REG_Z26_Z27_Z28 = 670;
+    public static final int AARCH64_REG_Z27_Z28_Z29 = 671;
+    public static final int AARCH64_REG_Z28_Z29_Z30 = 672;
+    public static final int AARCH64_REG_Z29_Z30_Z31 = 673;
+    public static final int AARCH64_REG_Z30_Z31_Z0 = 674;
+    public static final int AARCH64_REG_Z31_Z0_Z1 = 675;
+    public static final int AARCH64_REG_Z16_Z24 = 676;
+    public static final int AARCH64_REG_Z17_Z25 = 677;
+    public static final int AARCH64_REG_Z18_Z26 = 678;
+    public static final int AARCH64_REG_Z19_Z27 = 679;
+    public static final int AARCH64_REG_Z20_Z28 = 680;
+    public static final int AARCH64_REG_Z21_Z29 = 681;
+    public static final int AARCH64_REG_Z22_Z30 = 682;
+    public static final int AARCH64_REG_Z23_Z31 = 683;
+    public static final int AARCH64_REG_Z0_Z8 = 684;
+    public static final int AARCH64_REG_Z1_Z9 = 685;
+    public static final int AARCH64_REG_Z2_Z10 = 686;
+    public static final int AARCH64_REG_Z3_Z11 = 687;
+    public static final int AARCH64_REG_Z4_Z12 = 688;
+    public static final int AARCH64_REG_Z5_Z13 = 689;
+    public static final int AARCH64_REG_Z6_Z14 = 690;
+    public static final int AARCH64_REG_Z7_Z15 = 691;
+    public static final int AARCH64_REG_Z16_Z20_Z24_Z28 = 692;
+    public static final int AARCH64_REG_Z17_Z21_Z25_Z29 = 693;
+    public static final int AARCH64_REG_Z18_Z22_Z26_Z30 = 694;
+    public static final int AARCH64_REG_Z19_Z23_Z27_Z31 = 695;
+    public static final int AARCH64_REG_Z0_Z4_Z8_Z12 = 696;
+    public static final int AARCH64_REG_Z1_Z5_Z9_Z13 = 697;
+    public static final int AARCH64_REG_Z2_Z6_Z10_Z14 = 698;
+    public static final int AARCH64_REG_Z3_Z7_Z11_Z15 = 699;
+    public static final int AARCH64_REG_ENDING = 700;
+    public static final int AARCH64_REG_IP0 = 251;
+    public static final int AARCH64_REG_IP1 = 252;
+    public static final int AARCH64_REG_X29 = 2;
+    public static final int AARCH64_REG_X30 = 4;
+    public static final int AARCH64_SME_OP_INVALID = 0;
+    public static final int AARCH64_SME_OP_TILE = 1;
+    public static final int AARCH64_SME_OP_TILE_VEC = 2;
+    public static final int AARCH64_INS_INVALID = 0;
+    public static final int AARCH64_INS_ABS = 1;
+    public static final int AARCH64_INS_ADCLB = 2;
+    public static final int AARCH64_INS_ADCLT = 3;
+    public static final int AARCH64_INS_ADCS = 4;
+    public static final int AARCH64_INS_ADC = 5;
+    public static final int AARCH64_INS_ADDG = 6;
+    public static final int AARCH64_INS_ADDHA = 7;
+    public static final int AARCH64_INS_ADDHNB = 8;
+    public static final int AARCH64_INS_ADDHNT = 9;
+    public static final int AARCH64_INS_ADDHN = 10;
+    public static final int AARCH64_INS_ADDHN2 = 11;
+    public static final int AARCH64_INS_ADDPL = 12;
+    public static final int AARCH64_INS_ADDPT = 13;
+    public static final int AARCH64_INS_ADDP = 14;
+    public static final int AARCH64_INS_ADDQV = 15;
+    public static final int AARCH64_INS_ADDSPL = 16;
+    public static final int AARCH64_INS_ADDSVL = 17;
+    public static final int AARCH64_INS_ADDS = 18;
+    public static final int AARCH64_INS_ADDVA = 19;
+    public static final int AARCH64_INS_ADDVL = 20;
+    public static final int AARCH64_INS_ADDV = 21;
+    public static final int AARCH64_INS_ADD = 22;
+    public static final int AARCH64_INS_ADR = 23;
+    public static final int AARCH64_INS_ADRP = 24;
+    public static final int AARCH64_INS_AESD = 25;
+    public static final int AARCH64_INS_AESE = 26;
+    public static final int AARCH64_INS_AESIMC = 27;
+    public static final int AARCH64_INS_AESMC = 28;
+    public static final int AARCH64_INS_ANDQV = 29;
+    public static final int AARCH64_INS_ANDS = 30;
+    public static final int AARCH64_INS_ANDV = 31;
+    public static final int AARCH64_INS_AND = 32;
+    public static final int AARCH64_INS_ASRD = 33;
+    public static final int AARCH64_INS_ASRR = 34;
+    public static final int AARCH64_INS_ASR = 35;
+    public static final int AARCH64_INS_AUTDA = 36;
+    public static final int AARCH64_INS_AUTDB = 37;
+    public static final int AARCH64_INS_AUTDZA = 38;
+    public static final int AARCH64_INS_AUTDZB = 39;
+    public static final int AARCH64_INS_AUTIA = 40;
+    public static final int AARCH64_INS_HINT = 41;
+    public static final int AARCH64_INS_AUTIA171615 = 42;
+    public static final int AARCH64_INS_AUTIASPPC = 43;
+    public static final int AARCH64_INS_AUTIB = 44;
+    public static final int AARCH64_INS_AUTIB171615 = 45;
+    public static final int AARCH64_INS_AUTIBSPPC = 46;
+    public static final int AARCH64_INS_AUTIZA = 47;
+    public static final int AARCH64_INS_AUTIZB = 48;
+    public static final int AARCH64_INS_AXFLAG = 49;
+    public static final int AARCH64_INS_B = 50;
+    public static final int AARCH64_INS_BCAX = 51;
+    public static final int AARCH64_INS_BC = 52;
+    public static final int AARCH64_INS_BDEP = 53;
+    public static final int AARCH64_INS_BEXT = 54;
+    public static final int AARCH64_INS_BFDOT = 55;
+    public static final int AARCH64_INS_BF1CVTL2 = 56;
+    public static final int AARCH64_INS_BF1CVTLT = 57;
+    public static final int AARCH64_INS_BF1CVTL = 58;
+    public static final int AARCH64_INS_BF1CVT = 59;
+    public static final int AARCH64_INS_BF2CVTL2 = 60;
+    public static final int AARCH64_INS_BF2CVTLT = 61;
+    public static final int AARCH64_INS_BF2CVTL = 62;
+    public static final int AARCH64_INS_BF2CVT = 63;
+    public static final int AARCH64_INS_BFADD = 64;
+    public static final int AARCH64_INS_BFCLAMP = 65;
+    public static final int AARCH64_INS_BFCVT = 66;
+    public static final int AARCH64_INS_BFCVTN = 67;
+    public static final int AARCH64_INS_BFCVTN2 = 68;
+    public static final int AARCH64_INS_BFCVTNT = 69;
+    public static final int AARCH64_INS_BFMAXNM = 70;
+    public static final int AARCH64_INS_BFMAX = 71;
+    public static final int AARCH64_INS_BFMINNM = 72;
+    public static final int AARCH64_INS_BFMIN = 73;
+    public static final int AARCH64_INS_BFMLALB = 74;
+    public static final int AARCH64_INS_BFMLALT = 75;
+    public static final int AARCH64_INS_BFMLAL = 76;
+    public static final int AARCH64_INS_BFMLA = 77;
+    public static final int AARCH64_INS_BFMLSLB = 78;
+    public static final int AARCH64_INS_BFMLSLT = 79;
+    public static final int AARCH64_INS_BFMLSL = 80;
+    public static final int AARCH64_INS_BFMLS = 81;
+    public static final int AARCH64_INS_BFMMLA = 82;
+    public static final int AARCH64_INS_BFMOPA = 83;
+    public static final int AARCH64_INS_BFMOPS = 84;
+    public static final int AARCH64_INS_BFMUL = 85;
+    public static final int AARCH64_INS_BFM = 86;
+    public static final int AARCH64_INS_BFSUB = 87;
+    public static final int AARCH64_INS_BFVDOT = 88;
+    public static final int AARCH64_INS_BGRP = 89;
+    public static final int AARCH64_INS_BICS = 90;
+    public static final int AARCH64_INS_BIC = 91;
+    public static final int AARCH64_INS_BIF = 92;
+    public static final int AARCH64_INS_BIT = 93;
+    public static final int AARCH64_INS_BL = 94;
+    public static final int AARCH64_INS_BLR = 95;
+    public static final int AARCH64_INS_BLRAA = 96;
+    public static final int AARCH64_INS_BLRAAZ = 97;
+    public static final int AARCH64_INS_BLRAB = 98;
+    public static final int AARCH64_INS_BLRABZ = 99;
+    public static final int AARCH64_INS_BMOPA = 100;
+    public static final int AARCH64_INS_BMOPS = 101;
+    public static final int AARCH64_INS_BR = 102;
+    public static final int AARCH64_INS_BRAA = 103;
+    public static final int AARCH64_INS_BRAAZ = 104;
+    public static final int AARCH64_INS_BRAB = 105;
+    public static final int AARCH64_INS_BRABZ = 106;
+    public static final int AARCH64_INS_BRB = 107;
+    public static final int AARCH64_INS_BRK = 108;
+    public static final int AARCH64_INS_BRKAS = 109;
+    public static final int AARCH64_INS_BRKA = 110;
+    public static final int AARCH64_INS_BRKBS = 111;
+    public static final int AARCH64_INS_BRKB = 112;
+    public static final int AARCH64_INS_BRKNS = 113;
+    public static final int AARCH64_INS_BRKN = 114;
+    public static final int AARCH64_INS_BRKPAS = 115;
+    public static final int AARCH64_INS_BRKPA = 116;
+    public static final int AARCH64_INS_BRKPBS = 117;
+    public static final int AARCH64_INS_BRKPB = 118;
+    public static final int AARCH64_INS_BSL1N = 119;
+    public static final int AARCH64_INS_BSL2N = 120;
+    public static final int AARCH64_INS_BSL = 121;
+    public static final int AARCH64_INS_CADD = 122;
+    public static final int AARCH64_INS_CASAB = 123;
+    public static final int AARCH64_INS_CASAH = 124;
+    public static final int AARCH64_INS_CASALB = 125;
+    public static final int AARCH64_INS_CASALH = 126;
+    public static final int AARCH64_INS_CASAL = 127;
+    public static final int AARCH64_INS_CASA = 128;
+    public static final int AARCH64_INS_CASB = 129;
+    public static final int AARCH64_INS_CASH = 130;
+    public static final int AARCH64_INS_CASLB = 131;
+    public static final int AARCH64_INS_CASLH = 132;
+    public static final int AARCH64_INS_CASL = 133;
+    public static final int AARCH64_INS_CASPAL = 134;
+    public static final int AARCH64_INS_CASPA = 135;
+    public static final int AARCH64_INS_CASPL = 136;
+    public static final int AARCH64_INS_CASP = 137;
+    public static final int AARCH64_INS_CAS = 138;
+    public static final int AARCH64_INS_CBNZ = 139;
+    public static final int AARCH64_INS_CBZ = 140;
+    public static final int AARCH64_INS_CCMN = 141;
+    public static final int AARCH64_INS_CCMP = 142;
+    public static final int AARCH64_INS_CDOT = 143;
+    public static final int AARCH64_INS_CFINV = 144;
+    public static final int AARCH64_INS_CLASTA = 145;
+    public static final int AARCH64_INS_CLASTB = 146;
+    public static final int AARCH64_INS_CLREX = 147;
+    public static final int AARCH64_INS_CLS = 148;
+    public static final int AARCH64_INS_CLZ = 149;
+    public static final int AARCH64_INS_CMEQ = 150;
+    public static final int AARCH64_INS_CMGE = 151;
+    public static final int AARCH64_INS_CMGT = 152;
+    public static final int AARCH64_INS_CMHI = 153;
+    public static final int AARCH64_INS_CMHS = 154;
+    public static final int AARCH64_INS_CMLA = 155;
+    public static final int AARCH64_INS_CMLE = 156;
+    public static final int AARCH64_INS_CMLT = 157;
+    public static final int AARCH64_INS_CMPEQ = 158;
+    public static final int AARCH64_INS_CMPGE = 159;
+    public static final int AARCH64_INS_CMPGT = 160;
+    public static final int AARCH64_INS_CMPHI = 161;
+    public static final int AARCH64_INS_CMPHS = 162;
+    public static final int AARCH64_INS_CMPLE = 163;
+    public static final int AARCH64_INS_CMPLO = 164;
+    public static final int AARCH64_INS_CMPLS = 165;
+    public static final int AARCH64_INS_CMPLT = 166;
+    public static final int AARCH64_INS_CMPNE = 167;
+    public static final int AARCH64_INS_CMTST = 168;
+    public static final int AARCH64_INS_CNOT = 169;
+    public static final int AARCH64_INS_CNTB = 170;
+    public static final int AARCH64_INS_CNTD = 171;
+    public static final int AARCH64_INS_CNTH = 172;
+    public static final int AARCH64_INS_CNTP = 173;
+    public static final int AARCH64_INS_CNTW = 174;
+    public static final int AARCH64_INS_CNT = 175;
+    public static final int AARCH64_INS_COMPACT = 176;
+    public static final int AARCH64_INS_CPYE = 177;
+    public static final int AARCH64_INS_CPYEN = 178;
+    public static final int AARCH64_INS_CPYERN = 179;
+    public static final int AARCH64_INS_CPYERT = 180;
+    public static final int AARCH64_INS_CPYERTN = 181;
+    public static final int AARCH64_INS_CPYERTRN = 182;
+    public static final int AARCH64_INS_CPYERTWN = 183;
+    public static final int AARCH64_INS_CPYET = 184;
+    public static final int AARCH64_INS_CPYETN = 185;
+    public static final int AARCH64_INS_CPYETRN = 186;
+    public static final int AARCH64_INS_CPYETWN = 187;
+    public static final int AARCH64_INS_CPYEWN = 188;
+    public static final int AARCH64_INS_CPYEWT = 189;
+    public static final int AARCH64_INS_CPYEWTN = 190;
+    public static final int AARCH64_INS_CPYEWTRN = 191;
+    public static final int AARCH64_INS_CPYEWTWN = 192;
+    public static final int AARCH64_INS_CPYFE = 193;
+    public static final int AARCH64_INS_CPYFEN = 194;
+    public static final int AARCH64_INS_CPYFERN = 195;
+    public static final int AARCH64_INS_CPYFERT = 196;
+    public static final int AARCH64_INS_CPYFERTN = 197;
+    public static final int AARCH64_INS_CPYFERTRN = 198;
+    public static final int AARCH64_INS_CPYFERTWN = 199;
+    public static final int AARCH64_INS_CPYFET = 200;
+    public static final int AARCH64_INS_CPYFETN = 201;
+    public static final int AARCH64_INS_CPYFETRN = 202;
+    public static final int AARCH64_INS_CPYFETWN = 203;
+    public static final int AARCH64_INS_CPYFEWN = 204;
+    public static final int AARCH64_INS_CPYFEWT = 205;
+    public static final int AARCH64_INS_CPYFEWTN = 206;
+    public static final int AARCH64_INS_CPYFEWTRN = 207;
+    public static final int AARCH64_INS_CPYFEWTWN = 208;
+    public static final int AARCH64_INS_CPYFM = 209;
+    public static final int AARCH64_INS_CPYFMN = 210;
+    public static final int AARCH64_INS_CPYFMRN = 211;
+    public static final int AARCH64_INS_CPYFMRT = 212;
+    public static final int AARCH64_INS_CPYFMRTN = 213;
+    public static final int AARCH64_INS_CPYFMRTRN = 214;
+    public static final int AARCH64_INS_CPYFMRTWN = 215;
+    public static final int AARCH64_INS_CPYFMT = 216;
+    public static final int AARCH64_INS_CPYFMTN = 217;
+    public static final int AARCH64_INS_CPYFMTRN = 218;
+    public static final int AARCH64_INS_CPYFMTWN = 219;
+    public static final int AARCH64_INS_CPYFMWN = 220;
+    public static final int AARCH64_INS_CPYFMWT = 221;
+    public static final int AARCH64_INS_CPYFMWTN = 222;
+    public static final int AARCH64_INS_CPYFMWTRN = 223;
+    public static final int AARCH64_INS_CPYFMWTWN = 224;
+    public static final int AARCH64_INS_CPYFP = 225;
+    public static final int AARCH64_INS_CPYFPN = 226;
+    public static final int AARCH64_INS_CPYFPRN = 227;
+    public static final int AARCH64_INS_CPYFPRT = 228;
+    public static final int AARCH64_INS_CPYFPRTN = 229;
+    public static final int AARCH64_INS_CPYFPRTRN = 230;
+    public static final int AARCH64_INS_CPYFPRTWN = 231;
+    public static final int AARCH64_INS_CPYFPT = 232;
+    public static final int AARCH64_INS_CPYFPTN = 233;
+    public static final int AARCH64_INS_CPYFPTRN = 234;
+    public static final int AARCH64_INS_CPYFPTWN = 235;
+    public static final int AARCH64_INS_CPYFPWN = 236;
+    public static final int AARCH64_INS_CPYFPWT = 237;
+    public static final int AARCH64_INS_CPYFPWTN = 238;
+    public static final int AARCH64_INS_CPYFPWTRN = 239;
+    public static final int AARCH64_INS_CPYFPWTWN = 240;
+    public static final int AARCH64_INS_CPYM = 241;
+    public static final int AARCH64_INS_CPYMN = 242;
+    public static final int AARCH64_INS_CPYMRN = 243;
+    public static final int AARCH64_INS_CPYMRT = 244;
+    public static final int AARCH64_INS_CPYMRTN = 245;
+    public static final int AARCH64_INS_CPYMRTRN = 246;
+    public static final int AARCH64_INS_CPYMRTWN = 247;
+    public static final int AARCH64_INS_CPYMT = 248;
+    public static final int AARCH64_INS_CPYMTN = 249;
+    public static final int AARCH64_INS_CPYMTRN = 250;
+    public static final int AARCH64_INS_CPYMTWN = 251;
+    public static final int AARCH64_INS_CPYMWN = 252;
+    public static final int AARCH64_INS_CPYMWT = 253;
+    public static final int AARCH64_INS_CPYMWTN = 254;
+    public static final int AARCH64_INS_CPYMWTRN = 255;
+    public static final int AARCH64_INS_CPYMWTWN = 256;
+    public static final int AARCH64_INS_CPYP = 257;
+    public static final int AARCH64_INS_CPYPN = 258;
+    public static final int AARCH64_INS_CPYPRN = 259;
+    public static final int AARCH64_INS_CPYPRT = 260;
+    public static final int AARCH64_INS_CPYPRTN = 261;
+    public static final int AARCH64_INS_CPYPRTRN = 262;
+    public static final int AARCH64_INS_CPYPRTWN = 263;
+    public static final int AARCH64_INS_CPYPT = 264;
+    public static final int AARCH64_INS_CPYPTN = 265;
+    public static final int AARCH64_INS_CPYPTRN = 266;
+    public static final int AARCH64_INS_CPYPTWN = 267;
+    public static final int AARCH64_INS_CPYPWN = 268;
+    public static final int AARCH64_INS_CPYPWT = 269;
+    public static final int AARCH64_INS_CPYPWTN = 270;
+    public static final int AARCH64_INS_CPYPWTRN = 271;
+    public static final int AARCH64_INS_CPYPWTWN = 272;
+    public static final int AARCH64_INS_CPY = 273;
+    public static final int AARCH64_INS_CRC32B = 274;
+    public static final int AARCH64_INS_CRC32CB = 275;
+    public static final int AARCH64_INS_CRC32CH = 276;
+    public static final int AARCH64_INS_CRC32CW = 277;
+    public static final int AARCH64_INS_CRC32CX = 278;
+    public static final int AARCH64_INS_CRC32H = 279;
+    public static final int AARCH64_INS_CRC32W = 280;
+    public static final int AARCH64_INS_CRC32X = 281;
+    public static final int AARCH64_INS_CSEL = 282;
+    public static final int AARCH64_INS_CSINC = 283;
+    public static final int AARCH64_INS_CSINV = 284;
+    public static final int AARCH64_INS_CSNEG = 285;
+    public static final int AARCH64_INS_CTERMEQ = 286;
+    public static final int AARCH64_INS_CTERMNE = 287;
+    public static final int AARCH64_INS_CTZ = 288;
+    public static final int AARCH64_INS_DCPS1 = 289;
+    public static final int AARCH64_INS_DCPS2 = 290;
+    public static final int AARCH64_INS_DCPS3 = 291;
+    public static final int AARCH64_INS_DECB = 292;
+    public static final int AARCH64_INS_DECD = 293;
+    public static final int AARCH64_INS_DECH = 294;
+    public static final int AARCH64_INS_DECP = 295;
+    public static final int AARCH64_INS_DECW = 296;
+    public static final int AARCH64_INS_DMB = 297;
+    public static final int AARCH64_INS_DRPS = 298;
+    public static final int AARCH64_INS_DSB = 299;
+    public static final int AARCH64_INS_DUPM = 300;
+    public static final int AARCH64_INS_DUPQ = 301;
+    public static final int AARCH64_INS_DUP = 302;
+    public static final int AARCH64_INS_MOV = 303;
+    public static final int AARCH64_INS_EON = 304;
+    public static final int AARCH64_INS_EOR3 = 305;
+    public static final int AARCH64_INS_EORBT = 306;
+    public static final int AARCH64_INS_EORQV = 307;
+    public static final int AARCH64_INS_EORS = 308;
+    public static final int AARCH64_INS_EORTB = 309;
+    public static final int AARCH64_INS_EORV = 310;
+    public static final int AARCH64_INS_EOR = 311;
+    public static final int AARCH64_INS_ERET = 312;
+    public static final int AARCH64_INS_ERETAA = 313;
+    public static final int AARCH64_INS_ERETAB = 314;
+    public static final int AARCH64_INS_EXTQ = 315;
+    public static final int AARCH64_INS_MOVA = 316;
+    public static final int AARCH64_INS_EXTR = 317;
+    public static final int AARCH64_INS_EXT = 318;
+    public static final int AARCH64_INS_F1CVTL2 = 319;
+    public static final int AARCH64_INS_F1CVTLT = 320;
+    public static final int AARCH64_INS_F1CVTL = 321;
+    public static final int AARCH64_INS_F1CVT = 322;
+    public static final int AARCH64_INS_F2CVTL2 = 323;
+    public static final int AARCH64_INS_F2CVTLT = 324;
+    public static final int AARCH64_INS_F2CVTL = 325;
+    public static final int AARCH64_INS_F2CVT = 326;
+    public static final int AARCH64_INS_FABD = 327;
+    public static final int AARCH64_INS_FABS = 328;
+    public static final int AARCH64_INS_FACGE = 329;
+    public static final int AARCH64_INS_FACGT = 330;
+    public static final int AARCH64_INS_FADDA = 331;
+    public static final int AARCH64_INS_FADD = 332;
+    public static final int AARCH64_INS_FADDP = 333;
+    public static final int AARCH64_INS_FADDQV = 334;
+    public static final int AARCH64_INS_FADDV = 335;
+    public static final int AARCH64_INS_FAMAX = 336;
+    public static final int AARCH64_INS_FAMIN = 337;
+    public static final int AARCH64_INS_FCADD = 338;
+    public static final int AARCH64_INS_FCCMP = 339;
+    public static final int AARCH64_INS_FCCMPE = 340;
+    public static final int AARCH64_INS_FCLAMP = 341;
+    public static final int AARCH64_INS_FCMEQ = 342;
+    public static final int AARCH64_INS_FCMGE = 343;
+    public static final int AARCH64_INS_FCMGT = 344;
+    public static final int AARCH64_INS_FCMLA = 345;
+    public static final int AARCH64_INS_FCMLE = 346;
+    public static final int AARCH64_INS_FCMLT = 347;
+    public static final int AARCH64_INS_FCMNE = 348;
+    public static final int AARCH64_INS_FCMP = 349;
+    public static final int AARCH64_INS_FCMPE = 350;
+    public static final int AARCH64_INS_FCMUO = 351;
+    public static final int AARCH64_INS_FCPY = 352;
+    public static final int AARCH64_INS_FCSEL = 353;
+    public static final int AARCH64_INS_FCVTAS = 354;
+    public static final int AARCH64_INS_FCVTAU = 355;
+    public static final int AARCH64_INS_FCVT = 356;
+    public static final int AARCH64_INS_FCVTLT = 357;
+    public static final int AARCH64_INS_FCVTL = 358;
+    public static final int AARCH64_INS_FCVTL2 = 359;
+    public static final int AARCH64_INS_FCVTMS = 360;
+    public static final int AARCH64_INS_FCVTMU = 361;
+    public static final int AARCH64_INS_FCVTNB = 362;
+    public static final int AARCH64_INS_FCVTNS = 363;
+    public static final int AARCH64_INS_FCVTNT = 364;
+    public static final int AARCH64_INS_FCVTNU = 365;
+    public static final int AARCH64_INS_FCVTN = 366;
+    public static final int AARCH64_INS_FCVTN2 = 367;
+    public static final int AARCH64_INS_FCVTPS = 368;
+    public static final int AARCH64_INS_FCVTPU = 369;
+    public static final int AARCH64_INS_FCVTXNT = 370;
+    public static final int AARCH64_INS_FCVTXN = 371;
+    public static final int AARCH64_INS_FCVTXN2 = 372;
+    public static final int AARCH64_INS_FCVTX = 373;
+    public static final int AARCH64_INS_FCVTZS = 374;
+    public static final int AARCH64_INS_FCVTZU = 375;
+    public static final int AARCH64_INS_FDIV = 376;
+    public static final int AARCH64_INS_FDIVR = 377;
+    public static final int AARCH64_INS_FDOT = 378;
+    public static final int AARCH64_INS_FDUP = 379;
+    public static final int AARCH64_INS_FEXPA = 380;
+    public static final int AARCH64_INS_FJCVTZS = 381;
+    public static final int AARCH64_INS_FLOGB = 382;
+    public static final int AARCH64_INS_FMADD = 383;
+    public static final int AARCH64_INS_FMAD = 384;
+    public static final int AARCH64_INS_FMAX = 385;
+    public static final int AARCH64_INS_FMAXNM = 386;
+    public static final int AARCH64_INS_FMAXNMP = 387;
+    public static final int AARCH64_INS_FMAXNMQV = 388;
+    public static final int AARCH64_INS_FMAXNMV = 389;
+    public static final int AARCH64_INS_FMAXP = 390;
+    public static final int AARCH64_INS_FMAXQV = 391;
+    public static final int AARCH64_INS_FMAXV = 392;
+    public static final int AARCH64_INS_FMIN = 393;
+    public static final int AARCH64_INS_FMINNM = 394;
+    public static final int AARCH64_INS_FMINNMP = 395;
+    public static final int AARCH64_INS_FMINNMQV = 396;
+    public static final int AARCH64_INS_FMINNMV = 397;
+    public static final int AARCH64_INS_FMINP = 398;
+    public static final int AARCH64_INS_FMINQV = 399;
+    public static final int AARCH64_INS_FMINV = 400;
+    public static final int AARCH64_INS_FMLAL2 = 401;
+    public static final int AARCH64_INS_FMLALB = 402;
+    public static final int AARCH64_INS_FMLALLBB = 403;
+    public static final int AARCH64_INS_FMLALLBT = 404;
+    public static final int AARCH64_INS_FMLALLTB = 405;
+    public static final int AARCH64_INS_FMLALLTT = 406;
+    public static final int AARCH64_INS_FMLALL = 407;
+    public static final int AARCH64_INS_FMLALT = 408;
+    public static final int AARCH64_INS_FMLAL = 409;
+    public static final int AARCH64_INS_FMLA = 410;
+    public static final int AARCH64_INS_FMLSL2 = 411;
+    public static final int AARCH64_INS_FMLSLB = 412;
+    public static final int AARCH64_INS_FMLSLT = 413;
+    public static final int AARCH64_INS_FMLSL = 414;
+    public static final int AARCH64_INS_FMLS = 415;
+    public static final int AARCH64_INS_FMMLA = 416;
+    public static final int AARCH64_INS_FMOPA = 417;
+    public static final int AARCH64_INS_FMOPS = 418;
+    public static final int AARCH64_INS_FMOV = 419;
+    public static final int AARCH64_INS_FMSB = 420;
+    public static final int AARCH64_INS_FMSUB = 421;
+    public static final int AARCH64_INS_FMUL = 422;
+    public static final int AARCH64_INS_FMULX = 423;
+    public static final int AARCH64_INS_FNEG = 424;
+    public static final int AARCH64_INS_FNMADD = 425;
+    public static final int AARCH64_INS_FNMAD = 426;
+    public static final int AARCH64_INS_FNMLA = 427;
+    public static final int AARCH64_INS_FNMLS = 428;
+    public static final int AARCH64_INS_FNMSB = 429;
+    public static final int AARCH64_INS_FNMSUB = 430;
+    public static final int AARCH64_INS_FNMUL = 431;
+    public static final int AARCH64_INS_FRECPE = 432;
+    public static final int AARCH64_INS_FRECPS = 433;
+    public static final int AARCH64_INS_FRECPX = 434;
+    public static final int AARCH64_INS_FRINT32X = 435;
+    public static final int AARCH64_INS_FRINT32Z = 436;
+    public static final int AARCH64_INS_FRINT64X = 437;
+    public static final int AARCH64_INS_FRINT64Z = 438;
+    public static final int AARCH64_INS_FRINTA = 439;
+    public static final int AARCH64_INS_FRINTI = 440;
+    public static final int AARCH64_INS_FRINTM = 441;
+    public static final int AARCH64_INS_FRINTN = 442;
+    public static final int AARCH64_INS_FRINTP = 443;
+    public static final int AARCH64_INS_FRINTX = 444;
+    public static final int AARCH64_INS_FRINTZ = 445;
+    public static final int AARCH64_INS_FRSQRTE = 446;
+    public static final int AARCH64_INS_FRSQRTS = 447;
+    public static final int AARCH64_INS_FSCALE = 448;
+    public static final int AARCH64_INS_FSQRT = 449;
+    public static final int AARCH64_INS_FSUB = 450;
+    public static final int AARCH64_INS_FSUBR = 451;
+    public static final int AARCH64_INS_FTMAD = 452;
+    public static final int AARCH64_INS_FTSMUL = 453;
+    public static final int AARCH64_INS_FTSSEL = 454;
+    public static final int AARCH64_INS_FVDOTB = 455;
+    public static final int AARCH64_INS_FVDOTT = 456;
+    public static final int AARCH64_INS_FVDOT = 457;
+    public static final int AARCH64_INS_GCSPOPCX = 458;
+    public static final int AARCH64_INS_GCSPOPM = 459;
+    public static final int AARCH64_INS_GCSPOPX = 460;
+    public static final int AARCH64_INS_GCSPUSHM = 461;
+    public static final int AARCH64_INS_GCSPUSHX = 462;
+    public static final int AARCH64_INS_GCSSS1 = 463;
+    public static final int AARCH64_INS_GCSSS2 = 464;
+    public static final int AARCH64_INS_GCSSTR = 465;
+    public static final int AARCH64_INS_GCSSTTR = 466;
+    public static final int AARCH64_INS_LD1B = 467;
+    public static final int AARCH64_INS_LD1D = 468;
+    public static final int AARCH64_INS_LD1H = 469;
+    public static final int AARCH64_INS_LD1Q = 470;
+    public static final int AARCH64_INS_LD1SB = 471;
+    public static final int AARCH64_INS_LD1SH = 472;
+    public static final int AARCH64_INS_LD1SW = 473;
+    public static final int AARCH64_INS_LD1W = 474;
+    public static final int AARCH64_INS_LDFF1B = 475;
+    public static final int AARCH64_INS_LDFF1D = 476;
+    public static final int AARCH64_INS_LDFF1H = 477;
+    public static final int AARCH64_INS_LDFF1SB = 478;
+    public static final int AARCH64_INS_LDFF1SH = 479;
+    public static final int AARCH64_INS_LDFF1SW = 480;
+    public static final int AARCH64_INS_LDFF1W = 481;
+    public static final int AARCH64_INS_GMI = 482;
+    public static final int AARCH64_INS_HISTCNT = 483;
+    public static final int AARCH64_INS_HISTSEG = 484;
+    public static final int AARCH64_INS_HLT = 485;
+    public static final int AARCH64_INS_HVC = 486;
+    public static final int AARCH64_INS_INCB = 487;
+    public static final int AARCH64_INS_INCD = 488;
+    public static final int AARCH64_INS_INCH = 489;
+    public static final int AARCH64_INS_INCP = 490;
+    public static final int AARCH64_INS_INCW = 491;
+    public static final int AARCH64_INS_INDEX = 492;
+    public static final int AARCH64_INS_INSR = 493;
+    public static final int AARCH64_INS_INS = 494;
+    public static final int AARCH64_INS_IRG = 495;
+    public static final int AARCH64_INS_ISB = 496;
+    public static final int AARCH64_INS_LASTA = 497;
+    public static final int AARCH64_INS_LASTB = 498;
+    public static final int AARCH64_INS_LD1 = 499;
+    public static final int AARCH64_INS_LD1RB = 500;
+    public static final int AARCH64_INS_LD1RD = 501;
+    public static final int AARCH64_INS_LD1RH = 502;
+    public static final int AARCH64_INS_LD1ROB = 503;
+    public static final int AARCH64_INS_LD1ROD = 504;
+    public static final int AARCH64_INS_LD1ROH = 505;
+    public static final int AARCH64_INS_LD1ROW = 506;
+    public static final int AARCH64_INS_LD1RQB = 507;
+    public static final int AARCH64_INS_LD1RQD = 508;
+    public static final int AARCH64_INS_LD1RQH = 509;
+    public static final int AARCH64_INS_LD1RQW = 510;
+    public static final int AARCH64_INS_LD1RSB = 511;
+    public static final int AARCH64_INS_LD1RSH = 512;
+    public static final int AARCH64_INS_LD1RSW = 513;
+    public static final int AARCH64_INS_LD1RW = 514;
+    public static final int AARCH64_INS_LD1R = 515;
+    public static final int AARCH64_INS_LD2B = 516;
+    public static final int AARCH64_INS_LD2D = 517;
+    public static final int AARCH64_INS_LD2H = 518;
+    public static final int AARCH64_INS_LD2Q = 519;
+    public static final int AARCH64_INS_LD2R = 520;
+    public static final int AARCH64_INS_LD2 = 521;
+    public static final int AARCH64_INS_LD2W = 522;
+    public static final int AARCH64_INS_LD3B = 523;
+    public static final int AARCH64_INS_LD3D = 524;
+    public static final int AARCH64_INS_LD3H = 525;
+    public static final int AARCH64_INS_LD3Q = 526;
+    public static final int AARCH64_INS_LD3R = 527;
+    public static final int AARCH64_INS_LD3 = 528;
+    public static final int AARCH64_INS_LD3W = 529;
+    public static final int AARCH64_INS_LD4B = 530;
+    public static final int AARCH64_INS_LD4D = 531;
+    public static final int AARCH64_INS_LD4 = 532;
+    public static final int AARCH64_INS_LD4H = 533;
+    public static final int AARCH64_INS_LD4Q = 534;
+    public static final int AARCH64_INS_LD4R = 535;
+    public static final int AARCH64_INS_LD4W = 536;
+    public static final int AARCH64_INS_LD64B = 537;
+    public static final int AARCH64_INS_LDADDAB = 538;
+    public static final int AARCH64_INS_LDADDAH = 539;
+    public static final int AARCH64_INS_LDADDALB = 540;
+    public static final int AARCH64_INS_LDADDALH = 541;
+    public static final int AARCH64_INS_LDADDAL = 542;
+    public static final int AARCH64_INS_LDADDA = 543;
+    public static final int AARCH64_INS_LDADDB = 544;
+    public static final int AARCH64_INS_LDADDH = 545;
+    public static final int AARCH64_INS_LDADDLB = 546;
+    public static final int AARCH64_INS_LDADDLH = 547;
+    public static final int AARCH64_INS_LDADDL = 548;
+    public static final int AARCH64_INS_LDADD = 549;
+    public static final int AARCH64_INS_LDAP1 = 550;
+    public static final int AARCH64_INS_LDAPRB = 551;
+    public static final int AARCH64_INS_LDAPRH = 552;
+    public static final int AARCH64_INS_LDAPR = 553;
+    public static final int AARCH64_INS_LDAPURB = 554;
+    public static final int AARCH64_INS_LDAPURH = 555;
+    public static final int AARCH64_INS_LDAPURSB = 556;
+    public static final int AARCH64_INS_LDAPURSH = 557;
+    public static final int AARCH64_INS_LDAPURSW = 558;
+    public static final int AARCH64_INS_LDAPUR = 559;
+    public static final int AARCH64_INS_LDARB = 560;
+    public static final int AARCH64_INS_LDARH = 561;
+    public static final int AARCH64_INS_LDAR = 562;
+    public static final int AARCH64_INS_LDAXP = 563;
+    public static final int AARCH64_INS_LDAXRB = 564;
+    public static final int AARCH64_INS_LDAXRH = 565;
+    public static final int AARCH64_INS_LDAXR = 566;
+    public static final int AARCH64_INS_LDCLRAB = 567;
+    public static final int AARCH64_INS_LDCLRAH = 568;
+    public static final int AARCH64_INS_LDCLRALB = 569;
+    public static final int AARCH64_INS_LDCLRALH = 570;
+    public static final int AARCH64_INS_LDCLRAL = 571;
+    public static final int AARCH64_INS_LDCLRA = 572;
+    public static final int AARCH64_INS_LDCLRB = 573;
+    public static final int AARCH64_INS_LDCLRH = 574;
+    public static final int AARCH64_INS_LDCLRLB = 575;
+    public static final int AARCH64_INS_LDCLRLH = 576;
+    public static final int AARCH64_INS_LDCLRL = 577;
+    public static final int AARCH64_INS_LDCLRP = 578;
+    public static final int AARCH64_INS_LDCLRPA = 579;
+    public static final int AARCH64_INS_LDCLRPAL = 580;
+    public static final int AARCH64_INS_LDCLRPL = 581;
+    public static final int AARCH64_INS_LDCLR = 582;
+    public static final int AARCH64_INS_LDEORAB = 583;
+    public static final int AARCH64_INS_LDEORAH = 584;
+    public static final int AARCH64_INS_LDEORALB = 585;
+    public static final int AARCH64_INS_LDEORALH = 586;
+    public static final int AARCH64_INS_LDEORAL = 587;
+    public static final int AARCH64_INS_LDEORA = 588;
+    public static final int AARCH64_INS_LDEORB = 589;
+    public static final int AARCH64_INS_LDEORH = 590;
+    public static final int AARCH64_INS_LDEORLB = 591;
+    public static final int AARCH64_INS_LDEORLH = 592;
+    public static final int AARCH64_INS_LDEORL = 593;
+    public static final int AARCH64_INS_LDEOR = 594;
+    public static final int AARCH64_INS_LDG = 595;
+    public static final int AARCH64_INS_LDGM = 596;
+    public static final int AARCH64_INS_LDIAPP = 597;
+    public static final int AARCH64_INS_LDLARB = 598;
+    public static final int AARCH64_INS_LDLARH = 599;
+    public static final int AARCH64_INS_LDLAR = 600;
+    public static final int AARCH64_INS_LDNF1B = 601;
+    public static final int AARCH64_INS_LDNF1D = 602;
+    public static final int AARCH64_INS_LDNF1H = 603;
+    public static final int AARCH64_INS_LDNF1SB = 604;
+    public static final int AARCH64_INS_LDNF1SH = 605;
+    public static final int AARCH64_INS_LDNF1SW = 606;
+    public static final int AARCH64_INS_LDNF1W = 607;
+    public static final int AARCH64_INS_LDNP = 608;
+    public static final int AARCH64_INS_LDNT1B = 609;
+    public static final int AARCH64_INS_LDNT1D = 610;
+    public static final int AARCH64_INS_LDNT1H = 611;
+    public static final int AARCH64_INS_LDNT1SB = 612;
+    public static final int AARCH64_INS_LDNT1SH = 613;
+    public static final int AARCH64_INS_LDNT1SW = 614;
+    public static final int AARCH64_INS_LDNT1W = 615;
+    public static final int AARCH64_INS_LDP = 616;
+    public static final int AARCH64_INS_LDPSW = 617;
+    public static final int AARCH64_INS_LDRAA = 618;
+    public static final int AARCH64_INS_LDRAB = 619;
+    public static final int AARCH64_INS_LDRB = 620;
+    public static final int AARCH64_INS_LDR = 621;
+    public static final int AARCH64_INS_LDRH = 622;
+    public static final int AARCH64_INS_LDRSB = 623;
+    public static final int AARCH64_INS_LDRSH = 624;
+    public static final int AARCH64_INS_LDRSW = 625;
+    public static final int AARCH64_INS_LDSETAB = 626;
+    public static final int AARCH64_INS_LDSETAH = 627;
+    public static final int AARCH64_INS_LDSETALB = 628;
+    public static final int AARCH64_INS_LDSETALH = 629;
+    public static final int AARCH64_INS_LDSETAL = 630;
+    public static final int AARCH64_INS_LDSETA = 631;
+    public static final int AARCH64_INS_LDSETB = 632;
+    public static final int AARCH64_INS_LDSETH = 633;
+    public static final int AARCH64_INS_LDSETLB = 634;
+    public static final int AARCH64_INS_LDSETLH = 635;
+    public static final int AARCH64_INS_LDSETL = 636;
+    public static final int AARCH64_INS_LDSETP = 637;
+    public static final int AARCH64_INS_LDSETPA = 638;
+    public static final int AARCH64_INS_LDSETPAL = 639;
+    public static final int AARCH64_INS_LDSETPL = 640;
+    public static final int AARCH64_INS_LDSET = 641;
+    public static final int AARCH64_INS_LDSMAXAB = 642;
+    public static final int AARCH64_INS_LDSMAXAH = 643;
+    public static final int AARCH64_INS_LDSMAXALB = 644;
+    public static final int AARCH64_INS_LDSMAXALH = 645;
+    public static final int AARCH64_INS_LDSMAXAL = 646;
+    public static final int AARCH64_INS_LDSMAXA = 647;
+    public static final int AARCH64_INS_LDSMAXB = 648;
+    public static final int AARCH64_INS_LDSMAXH = 649;
+    public static final int AARCH64_INS_LDSMAXLB = 650;
+    public static final int AARCH64_INS_LDSMAXLH = 651;
+    public static final int AARCH64_INS_LDSMAXL = 652;
+    public static final int AARCH64_INS_LDSMAX = 653;
+    public static final int AARCH64_INS_LDSMINAB = 654;
+    public static final int AARCH64_INS_LDSMINAH = 655;
+    public static final int AARCH64_INS_LDSMINALB = 656;
+    public static final int AARCH64_INS_LDSMINALH = 657;
+    public static final int AARCH64_INS_LDSMINAL = 658;
+    public static final int AARCH64_INS_LDSMINA = 659;
+    public static final int AARCH64_INS_LDSMINB = 660;
+    public static final int AARCH64_INS_LDSMINH = 661;
+    public static final int AARCH64_INS_LDSMINLB = 662;
+    public static final int AARCH64_INS_LDSMINLH = 663;
+    public static final int AARCH64_INS_LDSMINL = 664;
+    public static final int AARCH64_INS_LDSMIN = 665;
+    public static final int AARCH64_INS_LDTRB = 666;
+    public static final int AARCH64_INS_LDTRH = 667;
+    public static final int AARCH64_INS_LDTRSB = 668;
+    public static final int AARCH64_INS_LDTRSH = 669;
+    public static final int AARCH64_INS_LDTRSW = 670;
+    public static final int AARCH64_INS_LDTR = 671;
+    public static final int AARCH64_INS_LDUMAXAB = 672;
+    public static final int AARCH64_INS_LDUMAXAH = 673;
+    public static final int AARCH64_INS_LDUMAXALB = 674;
+    public static final int AARCH64_INS_LDUMAXALH = 675;
+    public static final int AARCH64_INS_LDUMAXAL = 676;
+    public static final int AARCH64_INS_LDUMAXA = 677;
+    public static final int AARCH64_INS_LDUMAXB = 678;
+    public static final int AARCH64_INS_LDUMAXH = 679;
+    public static final int AARCH64_INS_LDUMAXLB = 680;
+    public static final int AARCH64_INS_LDUMAXLH = 681;
+    public static final int AARCH64_INS_LDUMAXL = 682;
+    public static final int AARCH64_INS_LDUMAX = 683;
+    public static final int AARCH64_INS_LDUMINAB = 684;
+    public static final int AARCH64_INS_LDUMINAH = 685;
+    public static final int AARCH64_INS_LDUMINALB = 686;
+    public static final int AARCH64_INS_LDUMINALH = 687;
+    public static final int AARCH64_INS_LDUMINAL = 688;
+    public static final int AARCH64_INS_LDUMINA = 689;
+    public static final int AARCH64_INS_LDUMINB = 690;
+    public static final int AARCH64_INS_LDUMINH = 691;
+    public static final int AARCH64_INS_LDUMINLB = 692;
+    public static final int AARCH64_INS_LDUMINLH = 693;
+    public static final int AARCH64_INS_LDUMINL = 694;
+    public static final int AARCH64_INS_LDUMIN = 695;
+    public static final int AARCH64_INS_LDURB = 696;
+    public static final int AARCH64_INS_LDUR = 697;
+    public static final int AARCH64_INS_LDURH = 698;
+    public static final int AARCH64_INS_LDURSB = 699;
+    public static final int AARCH64_INS_LDURSH = 700;
+    public static final int AARCH64_INS_LDURSW = 701;
+    public static final int AARCH64_INS_LDXP = 702;
+    public static final int AARCH64_INS_LDXRB = 703;
+    public static final int AARCH64_INS_LDXRH = 704;
+    public static final int AARCH64_INS_LDXR = 705;
+    public static final int AARCH64_INS_LSLR = 706;
+    public static final int AARCH64_INS_LSL = 707;
+    public static final int AARCH64_INS_LSRR = 708;
+    public static final int AARCH64_INS_LSR = 709;
+    public static final int AARCH64_INS_LUTI2 = 710;
+    public static final int AARCH64_INS_LUTI4 = 711;
+    public static final int AARCH64_INS_MADDPT = 712;
+    public static final int AARCH64_INS_MADD = 713;
+    public static final int AARCH64_INS_MADPT = 714;
+    public static final int AARCH64_INS_MAD = 715;
+    public static final int AARCH64_INS_MATCH = 716;
+    public static final int AARCH64_INS_MLAPT = 717;
+    public static final int AARCH64_INS_MLA = 718;
+    public static final int AARCH64_INS_MLS = 719;
+    public static final int AARCH64_INS_SETGE = 720;
+    public static final int AARCH64_INS_SETGEN = 721;
+    public static final int AARCH64_INS_SETGET = 722;
+    public static final int AARCH64_INS_SETGETN = 723;
+    public static final int AARCH64_INS_MOVAZ = 724;
+    public static final int AARCH64_INS_MOVI = 725;
+    public static final int AARCH64_INS_MOVK = 726;
+    public static final int AARCH64_INS_MOVN = 727;
+    public static final int AARCH64_INS_MOVPRFX = 728;
+    public static final int AARCH64_INS_MOVT = 729;
+    public static final int AARCH64_INS_MOVZ = 730;
+    public static final int AARCH64_INS_MRRS = 731;
+    public static final int AARCH64_INS_MRS = 732;
+    public static final int AARCH64_INS_MSB = 733;
+    public static final int AARCH64_INS_MSR = 734;
+    public static final int AARCH64_INS_MSRR = 735;
+    public static final int AARCH64_INS_MSUBPT = 736;
+    public static final int AARCH64_INS_MSUB = 737;
+    public static final int AARCH64_INS_MUL = 738;
+    public static final int AARCH64_INS_MVNI = 739;
+    public static final int AARCH64_INS_NANDS = 740;
+    public static final int AARCH64_INS_NAND = 741;
+    public static final int AARCH64_INS_NBSL = 742;
+    public static final int AARCH64_INS_NEG = 743;
+    public static final int AARCH64_INS_NMATCH = 744;
+    public static final int AARCH64_INS_NORS = 745;
+    public static final int AARCH64_INS_NOR = 746;
+    public static final int AARCH64_INS_NOT = 747;
+    public static final int AARCH64_INS_ORNS = 748;
+    public static final int AARCH64_INS_ORN = 749;
+    public static final int AARCH64_INS_ORQV = 750;
+    public static final int AARCH64_INS_ORRS = 751;
+    public static final int AARCH64_INS_ORR = 752;
+    public static final int AARCH64_INS_ORV = 753;
+    public static final int AARCH64_INS_PACDA = 754;
+    public static final int AARCH64_INS_PACDB = 755;
+    public static final int AARCH64_INS_PACDZA = 756;
+    public static final int AARCH64_INS_PACDZB = 757;
+    public static final int AARCH64_INS_PACGA = 758;
+    public static final int AARCH64_INS_PACIA = 759;
+    public static final int AARCH64_INS_PACIA171615 = 760;
+    public static final int AARCH64_INS_PACIASPPC = 761;
+    public static final int AARCH64_INS_PACIB = 762;
+    public static final int AARCH64_INS_PACIB171615 = 763;
+    public static final int AARCH64_INS_PACIBSPPC = 764;
+    public static final int AARCH64_INS_PACIZA = 765;
+    public static final int AARCH64_INS_PACIZB = 766;
+    public static final int AARCH64_INS_PACNBIASPPC = 767;
+    public static final int AARCH64_INS_PACNBIBSPPC = 768;
+    public static final int AARCH64_INS_PEXT = 769;
+    public static final int AARCH64_INS_PFALSE = 770;
+    public static final int AARCH64_INS_PFIRST = 771;
+    public static final int AARCH64_INS_PMOV = 772;
+    public static final int AARCH64_INS_PMULLB = 773;
+    public static final int AARCH64_INS_PMULLT = 774;
+    public static final int AARCH64_INS_PMULL2 = 775;
+    public static final int AARCH64_INS_PMULL = 776;
+    public static final int AARCH64_INS_PMUL = 777;
+    public static final int AARCH64_INS_PNEXT = 778;
+    public static final int AARCH64_INS_PRFB = 779;
+    public static final int AARCH64_INS_PRFD = 780;
+    public static final int AARCH64_INS_PRFH = 781;
+    public static final int AARCH64_INS_PRFM = 782;
+    public static final int AARCH64_INS_PRFUM = 783;
+    public static final int AARCH64_INS_PRFW = 784;
+    public static final int AARCH64_INS_PSEL = 785;
+    public static final int AARCH64_INS_PTEST = 786;
+    public static final int AARCH64_INS_PTRUES = 787;
+    public static final int AARCH64_INS_PTRUE = 788;
+    public static final int AARCH64_INS_PUNPKHI = 789;
+    public static final int AARCH64_INS_PUNPKLO = 790;
+    public static final int AARCH64_INS_RADDHNB = 791;
+    public static final int AARCH64_INS_RADDHNT = 792;
+    public static final int AARCH64_INS_RADDHN = 793;
+    public static final int AARCH64_INS_RADDHN2 = 794;
+    public static final int AARCH64_INS_RAX1 = 795;
+    public static final int AARCH64_INS_RBIT = 796;
+    public static final int AARCH64_INS_RCWCAS = 797;
+    public static final int AARCH64_INS_RCWCASA = 798;
+    public static final int AARCH64_INS_RCWCASAL = 799;
+    public static final int AARCH64_INS_RCWCASL = 800;
+    public static final int AARCH64_INS_RCWCASP = 801;
+    public static final int AARCH64_INS_RCWCASPA = 802;
+    public static final int AARCH64_INS_RCWCASPAL = 803;
+    public static final int AARCH64_INS_RCWCASPL = 804;
+    public static final int AARCH64_INS_RCWCLR = 805;
+    public static final int AARCH64_INS_RCWCLRA = 806;
+    public static final int AARCH64_INS_RCWCLRAL = 807;
+    public static final int AARCH64_INS_RCWCLRL = 808;
+    public static final int AARCH64_INS_RCWCLRP = 809;
+    public static final int AARCH64_INS_RCWCLRPA = 810;
+    public static final int AARCH64_INS_RCWCLRPAL = 811;
+    public static final int AARCH64_INS_RCWCLRPL = 812;
+    public static final int AARCH64_INS_RCWSCLR = 813;
+    public static final int AARCH64_INS_RCWSCLRA = 814;
+    public static final int AARCH64_INS_RCWSCLRAL = 815;
+    public static final int AARCH64_INS_RCWSCLRL = 816;
+    public static final int AARCH64_INS_RCWSCLRP = 817;
+    public static final int AARCH64_INS_RCWSCLRPA = 818;
+    public static final int AARCH64_INS_RCWSCLRPAL = 819;
+    public static final int AARCH64_INS_RCWSCLRPL = 820;
+    public static final int AARCH64_INS_RCWSCAS = 821;
+    public static final int AARCH64_INS_RCWSCASA = 822;
+    public static final int AARCH64_INS_RCWSCASAL = 823;
+    public static final int AARCH64_INS_RCWSCASL = 824;
+    public static final int AARCH64_INS_RCWSCASP = 825;
+    public static final int AARCH64_INS_RCWSCASPA = 826;
+    public static final int AARCH64_INS_RCWSCASPAL = 827;
+    public static final int AARCH64_INS_RCWSCASPL = 828;
+    public static final int AARCH64_INS_RCWSET = 829;
+    public static final int AARCH64_INS_RCWSETA = 830;
+    public static final int AARCH64_INS_RCWSETAL = 831;
+    public static final int AARCH64_INS_RCWSETL = 832;
+    public static final int AARCH64_INS_RCWSETP = 833;
+    public static final int AARCH64_INS_RCWSETPA = 834;
+    public static final int AARCH64_INS_RCWSETPAL = 835;
+    public static final int AARCH64_INS_RCWSETPL = 836;
+    public static final int AARCH64_INS_RCWSSET = 837;
+    public static final int AARCH64_INS_RCWSSETA = 838;
+    public static final int AARCH64_INS_RCWSSETAL = 839;
+    public static final int AARCH64_INS_RCWSSETL = 840;
+    public static final int AARCH64_INS_RCWSSETP = 841;
+    public static final int AARCH64_INS_RCWSSETPA = 842;
+    public static final int AARCH64_INS_RCWSSETPAL = 843;
+    public static final int AARCH64_INS_RCWSSETPL = 844;
+    public static final int AARCH64_INS_RCWSWP = 845;
+    public static final int AARCH64_INS_RCWSWPA = 846;
+    public static final int AARCH64_INS_RCWSWPAL = 847;
+    public static final int AARCH64_INS_RCWSWPL = 848;
+    public static final int AARCH64_INS_RCWSWPP = 849;
+    public static final int AARCH64_INS_RCWSWPPA = 850;
+    public static final int AARCH64_INS_RCWSWPPAL = 851;
+    public static final int AARCH64_INS_RCWSWPPL = 852;
+    public static final int AARCH64_INS_RCWSSWP = 853;
+    public static final int AARCH64_INS_RCWSSWPA = 854;
+    public static final int AARCH64_INS_RCWSSWPAL = 855;
+    public static final int AARCH64_INS_RCWSSWPL = 856;
+    public static final int AARCH64_INS_RCWSSWPP = 857;
+    public static final int AARCH64_INS_RCWSSWPPA = 858;
+    public static final int AARCH64_INS_RCWSSWPPAL = 859;
+    public static final int AARCH64_INS_RCWSSWPPL = 860;
+    public static final int AARCH64_INS_RDFFRS = 861;
+    public static final int AARCH64_INS_RDFFR = 862;
+    public static final int AARCH64_INS_RDSVL = 863;
+    public static final int AARCH64_INS_RDVL = 864;
+    public static final int AARCH64_INS_RET = 865;
+    public static final int AARCH64_INS_RETAA = 866;
+    public static final int AARCH64_INS_RETAASPPC = 867;
+    public static final int AARCH64_INS_RETAB = 868;
+    public static final int AARCH64_INS_RETABSPPC = 869;
+    public static final int AARCH64_INS_REV16 = 870;
+    public static final int AARCH64_INS_REV32 = 871;
+    public static final int AARCH64_INS_REV64 = 872;
+    public static final int AARCH64_INS_REVB = 873;
+    public static final int AARCH64_INS_REVD = 874;
+    public static final int AARCH64_INS_REVH = 875;
+    public static final int AARCH64_INS_REVW = 876;
+    public static final int AARCH64_INS_REV = 877;
+    public static final int AARCH64_INS_RMIF = 878;
+    public static final int AARCH64_INS_ROR = 879;
+    public static final int AARCH64_INS_RPRFM = 880;
+    public static final int AARCH64_INS_RSHRNB = 881;
+    public static final int AARCH64_INS_RSHRNT = 882;
+    public static final int AARCH64_INS_RSHRN2 = 883;
+    public static final int AARCH64_INS_RSHRN = 884;
+    public static final int AARCH64_INS_RSUBHNB = 885;
+    public static final int AARCH64_INS_RSUBHNT = 886;
+    public static final int AARCH64_INS_RSUBHN = 887;
+    public static final int AARCH64_INS_RSUBHN2 = 888;
+    public static final int AARCH64_INS_SABALB = 889;
+    public static final int AARCH64_INS_SABALT = 890;
+    public static final int AARCH64_INS_SABAL2 = 891;
+    public static final int AARCH64_INS_SABAL = 892;
+    public static final int AARCH64_INS_SABA = 893;
+    public static final int AARCH64_INS_SABDLB = 894;
+    public static final int AARCH64_INS_SABDLT = 895;
+    public static final int AARCH64_INS_SABDL2 = 896;
+    public static final int AARCH64_INS_SABDL = 897;
+    public static final int AARCH64_INS_SABD = 898;
+    public static final int AARCH64_INS_SADALP = 899;
+    public static final int AARCH64_INS_SADDLBT = 900;
+    public static final int AARCH64_INS_SADDLB = 901;
+    public static final int AARCH64_INS_SADDLP = 902;
+    public static final int AARCH64_INS_SADDLT = 903;
+    public static final int AARCH64_INS_SADDLV = 904;
+    public static final int AARCH64_INS_SADDL2 = 905;
+    public static final int AARCH64_INS_SADDL = 906;
+    public static final int AARCH64_INS_SADDV = 907;
+    public static final int AARCH64_INS_SADDWB = 908;
+    public static final int AARCH64_INS_SADDWT = 909;
+    public static final int AARCH64_INS_SADDW2 = 910;
+    public static final int AARCH64_INS_SADDW = 911;
+    public static final int AARCH64_INS_SB = 912;
+    public static final int AARCH64_INS_SBCLB = 913;
+    public static final int AARCH64_INS_SBCLT = 914;
+    public static final int AARCH64_INS_SBCS = 915;
+    public static final int AARCH64_INS_SBC = 916;
+    public static final int AARCH64_INS_SBFM = 917;
+    public static final int AARCH64_INS_SCLAMP = 918;
+    public static final int AARCH64_INS_SCVTF = 919;
+    public static final int AARCH64_INS_SDIVR = 920;
+    public static final int AARCH64_INS_SDIV = 921;
+    public static final int AARCH64_INS_SDOT = 922;
+    public static final int AARCH64_INS_SEL = 923;
+    public static final int AARCH64_INS_SETE = 924;
+    public static final int AARCH64_INS_SETEN = 925;
+    public static final int AARCH64_INS_SETET = 926;
+    public static final int AARCH64_INS_SETETN = 927;
+    public static final int AARCH64_INS_SETF16 = 928;
+    public static final int AARCH64_INS_SETF8 = 929;
+    public static final int AARCH64_INS_SETFFR = 930;
+    public static final int AARCH64_INS_SETGM = 931;
+    public static final int AARCH64_INS_SETGMN = 932;
+    public static final int AARCH64_INS_SETGMT = 933;
+    public static final int AARCH64_INS_SETGMTN = 934;
+    public static final int AARCH64_INS_SETGP = 935;
+    public static final int AARCH64_INS_SETGPN = 936;
+    public static final int AARCH64_INS_SETGPT = 937;
+    public static final int AARCH64_INS_SETGPTN = 938;
+    public static final int AARCH64_INS_SETM = 939;
+    public static final int AARCH64_INS_SETMN = 940;
+    public static final int AARCH64_INS_SETMT = 941;
+    public static final int AARCH64_INS_SETMTN = 942;
+    public static final int AARCH64_INS_SETP = 943;
+    public static final int AARCH64_INS_SETPN = 944;
+    public static final int AARCH64_INS_SETPT = 945;
+    public static final int AARCH64_INS_SETPTN = 946;
+    public static final int AARCH64_INS_SHA1C = 947;
+    public static final int AARCH64_INS_SHA1H = 948;
+    public static final int AARCH64_INS_SHA1M = 949;
+    public static final int AARCH64_INS_SHA1P = 950;
+    public static final int AARCH64_INS_SHA1SU0 = 951;
+    public static final int AARCH64_INS_SHA1SU1 = 952;
+    public static final int AARCH64_INS_SHA256H2 = 953;
+    public static final int AARCH64_INS_SHA256H = 954;
+    public static final int AARCH64_INS_SHA256SU0 = 955;
+    public static final int AARCH64_INS_SHA256SU1 = 956;
+    public static final int AARCH64_INS_SHA512H = 957;
+    public static final int AARCH64_INS_SHA512H2 = 958;
+    public static final int AARCH64_INS_SHA512SU0 = 959;
+    public static final int AARCH64_INS_SHA512SU1 = 960;
+    public static final int AARCH64_INS_SHADD = 961;
+    public static final int AARCH64_INS_SHLL2 = 962;
+    public static final int AARCH64_INS_SHLL = 963;
+    public static final int AARCH64_INS_SHL = 964;
+    public static final int AARCH64_INS_SHRNB = 965;
+    public static final int AARCH64_INS_SHRNT = 966;
+    public static final int AARCH64_INS_SHRN2 = 967;
+    public static final int AARCH64_INS_SHRN = 968;
+    public static final int AARCH64_INS_SHSUBR = 969;
+    public static final int AARCH64_INS_SHSUB = 970;
+    public static final int AARCH64_INS_SLI = 971;
+    public static final int AARCH64_INS_SM3PARTW1 = 972;
+    public static final int AARCH64_INS_SM3PARTW2 = 973;
+    public static final int AARCH64_INS_SM3SS1 = 974;
+    public static final int AARCH64_INS_SM3TT1A = 975;
+    public static final int AARCH64_INS_SM3TT1B = 976;
+    public static final int AARCH64_INS_SM3TT2A = 977;
+    public static final int AARCH64_INS_SM3TT2B = 978;
+    public static final int AARCH64_INS_SM4E = 979;
+    public static final int AARCH64_INS_SM4EKEY = 980;
+    public static final int AARCH64_INS_SMADDL = 981;
+    public static final int AARCH64_INS_SMAXP = 982;
+    public static final int AARCH64_INS_SMAXQV = 983;
+    public static final int AARCH64_INS_SMAXV = 984;
+    public static final int AARCH64_INS_SMAX = 985;
+    public static final int AARCH64_INS_SMC = 986;
+    public static final int AARCH64_INS_SMINP = 987;
+    public static final int AARCH64_INS_SMINQV = 988;
+    public static final int AARCH64_INS_SMINV = 989;
+    public static final int AARCH64_INS_SMIN = 990;
+    public static final int AARCH64_INS_SMLALB = 991;
+    public static final int AARCH64_INS_SMLALL = 992;
+    public static final int AARCH64_INS_SMLALT = 993;
+    public static final int AARCH64_INS_SMLAL = 994;
+    public static final int AARCH64_INS_SMLAL2 = 995;
+    public static final int AARCH64_INS_SMLSLB = 996;
+    public static final int AARCH64_INS_SMLSLL = 997;
+    public static final int AARCH64_INS_SMLSLT = 998;
+    public static final int AARCH64_INS_SMLSL = 999;
+    public static final int AARCH64_INS_SMLSL2 = 1000;
+    public static final int AARCH64_INS_SMMLA = 1001;
+    public static final int AARCH64_INS_SMOPA = 1002;
+    public static final int AARCH64_INS_SMOPS = 1003;
+    public static final int AARCH64_INS_SMOV = 1004;
+    public static final int AARCH64_INS_SMSUBL = 1005;
+    public static final int AARCH64_INS_SMULH = 1006;
+    public static final int AARCH64_INS_SMULLB = 1007;
+    public static final int AARCH64_INS_SMULLT = 1008;
+    public static final int AARCH64_INS_SMULL2 = 1009;
+    public static final int AARCH64_INS_SMULL = 1010;
+    public static final int AARCH64_INS_SPLICE = 1011;
+    public static final int AARCH64_INS_SQABS = 1012;
+    public static final int AARCH64_INS_SQADD = 1013;
+    public static final int AARCH64_INS_SQCADD = 1014;
+    public static final int AARCH64_INS_SQCVTN = 1015;
+    public static final int AARCH64_INS_SQCVTUN = 1016;
+    public static final int AARCH64_INS_SQCVTU = 1017;
+    public static final int AARCH64_INS_SQCVT = 1018;
+    public static final int AARCH64_INS_SQDECB = 1019;
+    public static final int AARCH64_INS_SQDECD = 1020;
+    public static final int AARCH64_INS_SQDECH = 1021;
+    public static final int AARCH64_INS_SQDECP = 1022;
+    public static final int AARCH64_INS_SQDECW = 1023;
+    public static final int AARCH64_INS_SQDMLALBT = 1024;
+    public static final int AARCH64_INS_SQDMLALB = 1025;
+    public static final int AARCH64_INS_SQDMLALT = 1026;
+    public static final int AARCH64_INS_SQDMLAL = 1027;
+    public static final int AARCH64_INS_SQDMLAL2 = 1028;
+    public static final int AARCH64_INS_SQDMLSLBT = 1029;
+    public static final int AARCH64_INS_SQDMLSLB = 1030;
+    public static final int AARCH64_INS_SQDMLSLT = 1031;
+    public static final int AARCH64_INS_SQDMLSL = 1032;
+    public static final int AARCH64_INS_SQDMLSL2 = 1033;
+    public static final int AARCH64_INS_SQDMULH = 1034;
+    public static final int AARCH64_INS_SQDMULLB = 1035;
+    public static final int AARCH64_INS_SQDMULLT = 1036;
+    public static final int AARCH64_INS_SQDMULL = 1037;
+    public static final int AARCH64_INS_SQDMULL2 = 1038;
+    public static final int AARCH64_INS_SQINCB = 1039;
+    public static final int AARCH64_INS_SQINCD = 1040;
+    public static final int AARCH64_INS_SQINCH = 1041;
+    public static final int AARCH64_INS_SQINCP = 1042;
+    public static final int AARCH64_INS_SQINCW = 1043;
+    public static final int AARCH64_INS_SQNEG = 1044;
+    public static final int AARCH64_INS_SQRDCMLAH = 1045;
+    public static final int AARCH64_INS_SQRDMLAH = 1046;
+    public static final int AARCH64_INS_SQRDMLSH = 1047;
+    public static final int AARCH64_INS_SQRDMULH = 1048;
+    public static final int AARCH64_INS_SQRSHLR = 1049;
+    public static final int AARCH64_INS_SQRSHL = 1050;
+    public static final int AARCH64_INS_SQRSHRNB = 1051;
+    public static final int AARCH64_INS_SQRSHRNT = 1052;
+    public static final int AARCH64_INS_SQRSHRN = 1053;
+    public static final int AARCH64_INS_SQRSHRN2 = 1054;
+    public static final int AARCH64_INS_SQRSHRUNB = 1055;
+    public static final int AARCH64_INS_SQRSHRUNT = 1056;
+    public static final int AARCH64_INS_SQRSHRUN = 1057;
+    public static final int AARCH64_INS_SQRSHRUN2 = 1058;
+    public static final int AARCH64_INS_SQRSHRU = 1059;
+    public static final int AARCH64_INS_SQRSHR = 1060;
+    public static final int AARCH64_INS_SQSHLR = 1061;
+    public static final int AARCH64_INS_SQSHLU = 1062;
+    public static final int AARCH64_INS_SQSHL = 1063;
+    public static final int AARCH64_INS_SQSHRNB = 1064;
+    public static final int AARCH64_INS_SQSHRNT = 1065;
+    public static final int AARCH64_INS_SQSHRN = 1066;
+    public static final int AARCH64_INS_SQSHRN2 = 1067;
+    public static final int AARCH64_INS_SQSHRUNB = 1068;
+    public static final int AARCH64_INS_SQSHRUNT = 1069;
+    public static final int AARCH64_INS_SQSHRUN = 1070;
+    public static final int AARCH64_INS_SQSHRUN2 = 1071;
+    public static final int AARCH64_INS_SQSUBR = 1072;
+    public static final int AARCH64_INS_SQSUB = 1073;
+    public static final int AARCH64_INS_SQXTNB = 1074;
+    public static final int AARCH64_INS_SQXTNT = 1075;
+    public static final int AARCH64_INS_SQXTN2 = 1076;
+    public static final int AARCH64_INS_SQXTN = 1077;
+    public static final int AARCH64_INS_SQXTUNB = 1078;
+    public static final int AARCH64_INS_SQXTUNT = 1079;
+    public static final int AARCH64_INS_SQXTUN2 = 1080;
+    public static final int AARCH64_INS_SQXTUN = 1081;
+    public static final int AARCH64_INS_SRHADD = 1082;
+    public static final int AARCH64_INS_SRI = 1083;
+    public static final int AARCH64_INS_SRSHLR = 1084;
+    public static final int AARCH64_INS_SRSHL = 1085;
+    public static final int AARCH64_INS_SRSHR = 1086;
+    public static final int AARCH64_INS_SRSRA = 1087;
+    public static final int AARCH64_INS_SSHLLB = 1088;
+    public static final int AARCH64_INS_SSHLLT = 1089;
+    public static final int AARCH64_INS_SSHLL2 = 1090;
+    public static final int AARCH64_INS_SSHLL = 1091;
+    public static final int AARCH64_INS_SSHL = 1092;
+    public static final int AARCH64_INS_SSHR = 1093;
+    public static final int AARCH64_INS_SSRA = 1094;
+    public static final int AARCH64_INS_ST1B = 1095;
+    public static final int AARCH64_INS_ST1D = 1096;
+    public static final int AARCH64_INS_ST1H = 1097;
+    public static final int AARCH64_INS_ST1Q = 1098;
+    public static final int AARCH64_INS_ST1W = 1099;
+    public static final int AARCH64_INS_SSUBLBT = 1100;
+    public static final int AARCH64_INS_SSUBLB = 1101;
+    public static final int AARCH64_INS_SSUBLTB = 1102;
+    public static final int AARCH64_INS_SSUBLT = 1103;
+    public static final int AARCH64_INS_SSUBL2 = 1104;
+    public static final int AARCH64_INS_SSUBL = 1105;
+    public static final int AARCH64_INS_SSUBWB = 1106;
+    public static final int AARCH64_INS_SSUBWT = 1107;
+    public static final int AARCH64_INS_SSUBW2 = 1108;
+    public static final int AARCH64_INS_SSUBW = 1109;
+    public static final int AARCH64_INS_ST1 = 1110;
+    public static final int AARCH64_INS_ST2B = 1111;
+    public static final int AARCH64_INS_ST2D = 1112;
+    public static final int AARCH64_INS_ST2G = 1113;
+    public static final int AARCH64_INS_ST2H = 1114;
+    public static final int AARCH64_INS_ST2Q = 1115;
+    public static final int AARCH64_INS_ST2 = 1116;
+    public static final int AARCH64_INS_ST2W = 1117;
+    public static final int AARCH64_INS_ST3B = 1118;
+    public static final int AARCH64_INS_ST3D = 1119;
+    public static final int AARCH64_INS_ST3H = 1120;
+    public static final int AARCH64_INS_ST3Q = 1121;
+    public static final int AARCH64_INS_ST3 = 1122;
+    public static final int AARCH64_INS_ST3W = 1123;
+    public static final int AARCH64_INS_ST4B = 1124;
+    public static final int AARCH64_INS_ST4D = 1125;
+    public static final int AARCH64_INS_ST4 = 1126;
+    public static final int AARCH64_INS_ST4H = 1127;
+    public static final int AARCH64_INS_ST4Q = 1128;
+    public static final int AARCH64_INS_ST4W = 1129;
+    public static final int AARCH64_INS_ST64B = 1130;
+    public static final int AARCH64_INS_ST64BV = 1131;
+    public static final int AARCH64_INS_ST64BV0 = 1132;
+    public static final int AARCH64_INS_STGM = 1133;
+    public static final int AARCH64_INS_STGP = 1134;
+    public static final int AARCH64_INS_STG = 1135;
+    public static final int AARCH64_INS_STILP = 1136;
+    public static final int AARCH64_INS_STL1 = 1137;
+    public static final int AARCH64_INS_STLLRB = 1138;
+    public static final int AARCH64_INS_STLLRH = 1139;
+    public static final int AARCH64_INS_STLLR = 1140;
+    public static final int AARCH64_INS_STLRB = 1141;
+    public static final int AARCH64_INS_STLRH = 1142;
+    public static final int AARCH64_INS_STLR = 1143;
+    public static final int AARCH64_INS_STLURB = 1144;
+    public static final int AARCH64_INS_STLURH = 1145;
+    public static final int AARCH64_INS_STLUR = 1146;
+    public static final int AARCH64_INS_STLXP = 1147;
+    public static final int AARCH64_INS_STLXRB = 1148;
+    public static final int AARCH64_INS_STLXRH = 1149;
+    public static final int AARCH64_INS_STLXR = 1150;
+    public static final int AARCH64_INS_STNP = 1151;
+    public static final int AARCH64_INS_STNT1B = 1152;
+    public static final int AARCH64_INS_STNT1D = 1153;
+    public static final int AARCH64_INS_STNT1H = 1154;
+    public static final int AARCH64_INS_STNT1W = 1155;
+    public static final int AARCH64_INS_STP = 1156;
+    public static final int AARCH64_INS_STRB = 1157;
+    public static final int AARCH64_INS_STR = 1158;
+    public static final int AARCH64_INS_STRH = 1159;
+    public static final int AARCH64_INS_STTRB = 1160;
+    public static final int AARCH64_INS_STTRH = 1161;
+    public static final int AARCH64_INS_STTR = 1162;
+    public static final int AARCH64_INS_STURB = 1163;
+    public static final int AARCH64_INS_STUR = 1164;
+    public static final int AARCH64_INS_STURH = 1165;
+    public static final int AARCH64_INS_STXP = 1166;
+    public static final int AARCH64_INS_STXRB = 1167;
+    public static final int AARCH64_INS_STXRH = 1168;
+    public static final int AARCH64_INS_STXR = 1169;
+    public static final int AARCH64_INS_STZ2G = 1170;
+    public static final int AARCH64_INS_STZGM = 1171;
+    public static final int AARCH64_INS_STZG = 1172;
+    public static final int AARCH64_INS_SUBG = 1173;
+    public static final int AARCH64_INS_SUBHNB = 1174;
+    public static final int AARCH64_INS_SUBHNT = 1175;
+    public static final int AARCH64_INS_SUBHN = 1176;
+    public static final int AARCH64_INS_SUBHN2 = 1177;
+    public static final int AARCH64_INS_SUBP = 1178;
+    public static final int AARCH64_INS_SUBPS = 1179;
+    public static final int AARCH64_INS_SUBPT = 1180;
+    public static final int AARCH64_INS_SUBR = 1181;
+    public static final int AARCH64_INS_SUBS = 1182;
+    public static final int AARCH64_INS_SUB = 1183;
+    public static final int AARCH64_INS_SUDOT = 1184;
+    public static final int AARCH64_INS_SUMLALL = 1185;
+    public static final int AARCH64_INS_SUMOPA = 1186;
+    public static final int AARCH64_INS_SUMOPS = 1187;
+    public static final int AARCH64_INS_SUNPKHI = 1188;
+    public static final int AARCH64_INS_SUNPKLO = 1189;
+    public static final int AARCH64_INS_SUNPK = 1190;
+    public static final int AARCH64_INS_SUQADD = 1191;
+    public static final int AARCH64_INS_SUVDOT = 1192;
+    public static final int AARCH64_INS_SVC = 1193;
+    public static final int AARCH64_INS_SVDOT = 1194;
+    public static final int AARCH64_INS_SWPAB = 1195;
+    public static final int AARCH64_INS_SWPAH = 1196;
+    public static final int AARCH64_INS_SWPALB = 1197;
+    public static final int AARCH64_INS_SWPALH = 1198;
+    public static final int AARCH64_INS_SWPAL = 1199;
+    public static final int AARCH64_INS_SWPA = 1200;
+    public static final int AARCH64_INS_SWPB = 1201;
+    public static final int AARCH64_INS_SWPH = 1202;
+    public static final int AARCH64_INS_SWPLB = 1203;
+    public static final int AARCH64_INS_SWPLH = 1204;
+    public static final int AARCH64_INS_SWPL = 1205;
+    public static final int AARCH64_INS_SWPP = 1206;
+    public static final int AARCH64_INS_SWPPA = 1207;
+    public static final int AARCH64_INS_SWPPAL = 1208;
+    public static final int AARCH64_INS_SWPPL = 1209;
+    public static final int AARCH64_INS_SWP = 1210;
+    public static final int AARCH64_INS_SXTB = 1211;
+    public static final int AARCH64_INS_SXTH = 1212;
+    public static final int AARCH64_INS_SXTW = 1213;
+    public static final int AARCH64_INS_SYSL = 1214;
+    public static final int AARCH64_INS_SYSP = 1215;
+    public static final int AARCH64_INS_SYS = 1216;
+    public static final int AARCH64_INS_TBLQ = 1217;
+    public static final int AARCH64_INS_TBL = 1218;
+    public static final int AARCH64_INS_TBNZ = 1219;
+    public static final int AARCH64_INS_TBXQ = 1220;
+    public static final int AARCH64_INS_TBX = 1221;
+    public static final int AARCH64_INS_TBZ = 1222;
+    public static final int AARCH64_INS_TCANCEL = 1223;
+    public static final int AARCH64_INS_TCOMMIT = 1224;
+    public static final int AARCH64_INS_TRCIT = 1225;
+    public static final int AARCH64_INS_TRN1 = 1226;
+    public static final int AARCH64_INS_TRN2 = 1227;
+    public static final int AARCH64_INS_TSB = 1228;
+    public static final int AARCH64_INS_TSTART = 1229;
+    public static final int AARCH64_INS_TTEST = 1230;
+    public static final int AARCH64_INS_UABALB = 1231;
+    public static final int AARCH64_INS_UABALT = 1232;
+    public static final int AARCH64_INS_UABAL2 = 1233;
+    public static final int AARCH64_INS_UABAL = 1234;
+    public static final int AARCH64_INS_UABA = 1235;
+    public static final int AARCH64_INS_UABDLB = 1236;
+    public static final int AARCH64_INS_UABDLT = 1237;
+    public static final int AARCH64_INS_UABDL2 = 1238;
+    public static final int AARCH64_INS_UABDL = 1239;
+    public static final int AARCH64_INS_UABD = 1240;
+    public static final int AARCH64_INS_UADALP = 1241;
+    public static final int AARCH64_INS_UADDLB = 1242;
+    public static final int AARCH64_INS_UADDLP = 1243;
+    public static final int AARCH64_INS_UADDLT = 1244;
+    public static final int AARCH64_INS_UADDLV = 1245;
+    public static final int AARCH64_INS_UADDL2 = 1246;
+    public static final int AARCH64_INS_UADDL = 1247;
+    public static final int AARCH64_INS_UADDV = 1248;
+    public static final int AARCH64_INS_UADDWB = 1249;
+    public static final int AARCH64_INS_UADDWT = 1250;
+    public static final int AARCH64_INS_UADDW2 = 1251;
+    public static final int AARCH64_INS_UADDW = 1252;
+    public static final int AARCH64_INS_UBFM = 1253;
+    public static final int AARCH64_INS_UCLAMP = 1254;
+    public static final int AARCH64_INS_UCVTF = 1255;
+    public static final int AARCH64_INS_UDF = 1256;
+    public static final int AARCH64_INS_UDIVR = 1257;
+    public static final int AARCH64_INS_UDIV = 1258;
+    public static final int AARCH64_INS_UDOT = 1259;
+    public static final int AARCH64_INS_UHADD = 1260;
+    public static final int AARCH64_INS_UHSUBR = 1261;
+    public static final int AARCH64_INS_UHSUB = 1262;
+    public static final int AARCH64_INS_UMADDL = 1263;
+    public static final int AARCH64_INS_UMAXP = 1264;
+    public static final int AARCH64_INS_UMAXQV = 1265;
+    public static final int AARCH64_INS_UMAXV = 1266;
+    public static final int AARCH64_INS_UMAX = 1267;
+    public static final int AARCH64_INS_UMINP = 1268;
+    public static final int AARCH64_INS_UMINQV = 1269;
+    public static final int AARCH64_INS_UMINV = 1270;
+    public static final int AARCH64_INS_UMIN = 1271;
+    public static final int AARCH64_INS_UMLALB = 1272;
+    public static final int AARCH64_INS_UMLALL = 1273;
+    public static final int AARCH64_INS_UMLALT = 1274;
+    public static final int AARCH64_INS_UMLAL = 1275;
+    public static final int AARCH64_INS_UMLAL2 = 1276;
+    public static final int AARCH64_INS_UMLSLB = 1277;
+    public static final int AARCH64_INS_UMLSLL = 1278;
+    public static final int AARCH64_INS_UMLSLT = 1279;
+    public static final int AARCH64_INS_UMLSL = 1280;
+    public static final int AARCH64_INS_UMLSL2 = 1281;
+    public static final int AARCH64_INS_UMMLA = 1282;
+    public static final int AARCH64_INS_UMOPA = 1283;
+    public static final int AARCH64_INS_UMOPS = 1284;
+    public static final int AARCH64_INS_UMOV = 1285;
+    public static final int AARCH64_INS_UMSUBL = 1286;
+    public static final int AARCH64_INS_UMULH = 1287;
+    public static final int AARCH64_INS_UMULLB = 1288;
+    public static final int AARCH64_INS_UMULLT = 1289;
+    public static final int AARCH64_INS_UMULL2 = 1290;
+    public static final int AARCH64_INS_UMULL = 1291;
+    public static final int AARCH64_INS_UQADD = 1292;
+    public static final int AARCH64_INS_UQCVTN = 1293;
+    public static final int AARCH64_INS_UQCVT = 1294;
+    public static final int AARCH64_INS_UQDECB = 1295;
+    public static final int AARCH64_INS_UQDECD = 1296;
+    public static final int AARCH64_INS_UQDECH = 1297;
+    public static final int AARCH64_INS_UQDECP = 1298;
+    public static final int AARCH64_INS_UQDECW = 1299;
+    public static final int AARCH64_INS_UQINCB = 1300;
+    public static final int AARCH64_INS_UQINCD = 1301;
+    public static final int AARCH64_INS_UQINCH = 1302;
+    public static final int AARCH64_INS_UQINCP = 1303;
+    public static final int AARCH64_INS_UQINCW = 1304;
+    public static final int AARCH64_INS_UQRSHLR = 1305;
+    public static final int AARCH64_INS_UQRSHL = 1306;
+    public static final int AARCH64_INS_UQRSHRNB = 1307;
+    public static final int AARCH64_INS_UQRSHRNT = 1308;
+    public static final int AARCH64_INS_UQRSHRN = 1309;
+    public static final int AARCH64_INS_UQRSHRN2 = 1310;
+    public static final int AARCH64_INS_UQRSHR = 1311;
+    public static final int AARCH64_INS_UQSHLR = 1312;
+    public static final int AARCH64_INS_UQSHL = 1313;
+    public static final int AARCH64_INS_UQSHRNB = 1314;
+    public static final int AARCH64_INS_UQSHRNT = 1315;
+    public static final int AARCH64_INS_UQSHRN = 1316;
+    public static final int AARCH64_INS_UQSHRN2 = 1317;
+    public static final int AARCH64_INS_UQSUBR = 1318;
+    public static final int AARCH64_INS_UQSUB = 1319;
+    public static final int AARCH64_INS_UQXTNB = 1320;
+    public static final int AARCH64_INS_UQXTNT = 1321;
+    public static final int AARCH64_INS_UQXTN2 = 1322;
+    public static final int AARCH64_INS_UQXTN = 1323;
+    public static final int AARCH64_INS_URECPE = 1324;
+    public static final int AARCH64_INS_URHADD = 1325;
+    public static final int AARCH64_INS_URSHLR = 1326;
+    public static final int AARCH64_INS_URSHL = 1327;
+    public static final int AARCH64_INS_URSHR = 1328;
+    public static final int AARCH64_INS_URSQRTE = 1329;
+    public static final int AARCH64_INS_URSRA = 1330;
+    public static final int AARCH64_INS_USDOT = 1331;
+    public static final int AARCH64_INS_USHLLB = 1332;
+    public static final int AARCH64_INS_USHLLT = 1333;
+    public static final int AARCH64_INS_USHLL2 = 1334;
+    public static final int AARCH64_INS_USHLL = 1335;
+    public static final int AARCH64_INS_USHL = 1336;
+    public static final int AARCH64_INS_USHR = 1337;
+    public static final int AARCH64_INS_USMLALL = 1338;
+    public static final int AARCH64_INS_USMMLA = 1339;
+    public static final int AARCH64_INS_USMOPA = 1340;
+    public static final int AARCH64_INS_USMOPS = 1341;
+    public static final int AARCH64_INS_USQADD = 1342;
+    public static final int AARCH64_INS_USRA = 1343;
+    public static final int AARCH64_INS_USUBLB = 1344;
+    public static final int AARCH64_INS_USUBLT = 1345;
+    public static final int AARCH64_INS_USUBL2 = 1346;
+    public static final int AARCH64_INS_USUBL = 1347;
+    public static final int AARCH64_INS_USUBWB = 1348;
+    public static final int AARCH64_INS_USUBWT = 1349;
+    public static final int AARCH64_INS_USUBW2 = 1350;
+    public static final int AARCH64_INS_USUBW = 1351;
+    public static final int AARCH64_INS_USVDOT = 1352;
+    public static final int AARCH64_INS_UUNPKHI = 1353;
+    public static final int AARCH64_INS_UUNPKLO = 1354;
+    public static final int AARCH64_INS_UUNPK = 1355;
+    public static final int AARCH64_INS_UVDOT = 1356;
+    public static final int AARCH64_INS_UXTB = 1357;
+    public static final int AARCH64_INS_UXTH = 1358;
+    public static final int AARCH64_INS_UXTW = 1359;
+    public static final int AARCH64_INS_UZP1 = 1360;
+    public static final int AARCH64_INS_UZP2 = 1361;
+    public static final int AARCH64_INS_UZPQ1 = 1362;
+    public static final int AARCH64_INS_UZPQ2 = 1363;
+    public static final int AARCH64_INS_UZP = 1364;
+    public static final int AARCH64_INS_WFET = 1365;
+    public static final int AARCH64_INS_WFIT = 1366;
+    public static final int AARCH64_INS_WHILEGE = 1367;
+    public static final int AARCH64_INS_WHILEGT = 1368;
+    public static final int AARCH64_INS_WHILEHI = 1369;
+    public static final int AARCH64_INS_WHILEHS = 1370;
+    public static final int AARCH64_INS_WHILELE = 1371;
+    public static final int AARCH64_INS_WHILELO = 1372;
+    public static final int AARCH64_INS_WHILELS = 1373;
+    public static final int AARCH64_INS_WHILELT = 1374;
+    public static final int AARCH64_INS_WHILERW = 1375;
+    public static final int AARCH64_INS_WHILEWR = 1376;
+    public static final int AARCH64_INS_WRFFR = 1377;
+    public static final int AARCH64_INS_XAFLAG = 1378;
+    public static final int AARCH64_INS_XAR = 1379;
+    public static final int AARCH64_INS_XPACD = 1380;
+    public static final int AARCH64_INS_XPACI = 1381;
+    public static final int AARCH64_INS_XTN2 = 1382;
+    public static final int AARCH64_INS_XTN = 1383;
+    public static final int AARCH64_INS_ZERO = 1384;
+    public static final int AARCH64_INS_ZIP1 = 1385;
+    public static final int AARCH64_INS_ZIP2 = 1386;
+    public static final int AARCH64_INS_ZIPQ1 = 1387;
+    public static final int AARCH64_INS_ZIPQ2 = 1388;
+    public static final int AARCH64_INS_ZIP = 1389;
+    public static final int AARCH64_INS_ENDING = 1390;
+    public static final int AARCH64_INS_ALIAS_BEGIN = 1391;
+    public static final int AARCH64_INS_ALIAS_ADDPT = 1392;
+    public static final int AARCH64_INS_ALIAS_GCSB = 1393;
+    public static final int AARCH64_INS_ALIAS_GCSPOPM = 1394;
+    public static final int AARCH64_INS_ALIAS_LDAPUR = 1395;
+    public static final int AARCH64_INS_ALIAS_STLLRB = 1396;
+    public static final int AARCH64_INS_ALIAS_STLLRH = 1397;
+    public static final int AARCH64_INS_ALIAS_STLLR = 1398;
+    public static final int AARCH64_INS_ALIAS_STLRB = 1399;
+    public static final int AARCH64_INS_ALIAS_STLRH = 1400;
+    public static final int AARCH64_INS_ALIAS_STLR = 1401;
+    public static final int AARCH64_INS_ALIAS_STLUR = 1402;
+    public static final int AARCH64_INS_ALIAS_SUBPT = 1403;
+    public static final int AARCH64_INS_ALIAS_LDRAA = 1404;
+    public static final int AARCH64_INS_ALIAS_ADD = 1405;
+    public static final int AARCH64_INS_ALIAS_CMN = 1406;
+    public static final int AARCH64_INS_ALIAS_ADDS = 1407;
+    public static final int AARCH64_INS_ALIAS_AND = 1408;
+    public static final int AARCH64_INS_ALIAS_ANDS = 1409;
+    public static final int AARCH64_INS_ALIAS_LDR = 1410;
+    public static final int AARCH64_INS_ALIAS_STR = 1411;
+    public static final int AARCH64_INS_ALIAS_LDRB = 1412;
+    public static final int AARCH64_INS_ALIAS_STRB = 1413;
+    public static final int AARCH64_INS_ALIAS_LDRH = 1414;
+    public static final int AARCH64_INS_ALIAS_STRH = 1415;
+    public static final int AARCH64_INS_ALIAS_PRFM = 1416;
+    public static final int AARCH64_INS_ALIAS_LDAPURB = 1417;
+    public static final int AARCH64_INS_ALIAS_STLURB = 1418;
+    public static final int AARCH64_INS_ALIAS_LDUR = 1419;
+    public static final int AARCH64_INS_ALIAS_STUR = 1420;
+    public static final int AARCH64_INS_ALIAS_PRFUM = 1421;
+    public static final int AARCH64_INS_ALIAS_LDTR = 1422;
+    public static final int AARCH64_INS_ALIAS_STTR = 1423;
+    public static final int AARCH64_INS_ALIAS_LDP = 1424;
+    public static final int AARCH64_INS_ALIAS_STGP = 1425;
+    public static final int AARCH64_INS_ALIAS_LDNP = 1426;
+    public static final int AARCH64_INS_ALIAS_STNP = 1427;
+    public static final int AARCH64_INS_ALIAS_STG = 1428;
+    public static final int AARCH64_INS_ALIAS_MOV = 1429;
+    public static final int AARCH64_INS_ALIAS_LD1 = 1430;
+    public static final int AARCH64_INS_ALIAS_LD1R = 1431;
+    public static final int AARCH64_INS_ALIAS_STADDLB = 1432;
+    public static final int AARCH64_INS_ALIAS_STADDLH = 1433;
+    public static final int AARCH64_INS_ALIAS_STADDL = 1434;
+    public static final int AARCH64_INS_ALIAS_STADDB = 1435;
+    public static final int AARCH64_INS_ALIAS_STADDH = 1436;
+    public static final int AARCH64_INS_ALIAS_STADD = 1437;
+    public static final int AARCH64_INS_ALIAS_PTRUE = 1438;
+    public static final int AARCH64_INS_ALIAS_PTRUES = 1439;
+    public static final int AARCH64_INS_ALIAS_CNTB = 1440;
+    public static final int AARCH64_INS_ALIAS_SQINCH = 1441;
+    public static final int AARCH64_INS_ALIAS_INCB = 1442;
+    public static final int AARCH64_INS_ALIAS_SQINCB = 1443;
+    public static final int AARCH64_INS_ALIAS_UQINCB = 1444;
+    public static final int AARCH64_INS_ALIAS_ORR = 1445;
+    public static final int AARCH64_INS_ALIAS_DUPM = 1446;
+    public static final int AARCH64_INS_ALIAS_FMOV = 1447;
+    public static final int AARCH64_INS_ALIAS_EOR3 = 1448;
+    public static final int AARCH64_INS_ALIAS_ST1B = 1449;
+    public static final int AARCH64_INS_ALIAS_ST2B = 1450;
+    public static final int AARCH64_INS_ALIAS_ST2Q = 1451;
+    public static final int AARCH64_INS_ALIAS_STNT1B = 1452;
+    public static final int AARCH64_INS_ALIAS_LD1B = 1453;
+    public static final int AARCH64_INS_ALIAS_LDNT1B = 1454;
+    public static final int AARCH64_INS_ALIAS_LD1RQB = 1455;
+    public static final int AARCH64_INS_ALIAS_LD1RB = 1456;
+    public static final int AARCH64_INS_ALIAS_LDFF1B = 1457;
+    public static final int AARCH64_INS_ALIAS_LDNF1B = 1458;
+    public static final int AARCH64_INS_ALIAS_LD2B = 1459;
+    public static final int AARCH64_INS_ALIAS_LD1SB = 1460;
+    public static final int AARCH64_INS_ALIAS_PRFB = 1461;
+    public static final int AARCH64_INS_ALIAS_LDNT1SB = 1462;
+    public static final int AARCH64_INS_ALIAS_LD1ROB = 1463;
+    public static final int AARCH64_INS_ALIAS_LD1Q = 1464;
+    public static final int AARCH64_INS_ALIAS_ST1Q = 1465;
+    public static final int AARCH64_INS_ALIAS_LD1W = 1466;
+    public static final int AARCH64_INS_ALIAS_PMOV = 1467;
+    public static final int AARCH64_INS_ALIAS_SMSTART = 1468;
+    public static final int AARCH64_INS_ALIAS_SMSTOP = 1469;
+    public static final int AARCH64_INS_ALIAS_ZERO = 1470;
+    public static final int AARCH64_INS_ALIAS_MOVT = 1471;
+    public static final int AARCH64_INS_ALIAS_NOP = 1472;
+    public static final int AARCH64_INS_ALIAS_YIELD = 1473;
+    public static final int AARCH64_INS_ALIAS_WFE = 1474;
+    public static final int AARCH64_INS_ALIAS_WFI = 1475;
+    public static final int AARCH64_INS_ALIAS_SEV = 1476;
+    public static final int AARCH64_INS_ALIAS_SEVL = 1477;
+    public static final int AARCH64_INS_ALIAS_DGH = 1478;
+    public static final int AARCH64_INS_ALIAS_ESB = 1479;
+    public static final int AARCH64_INS_ALIAS_CSDB = 1480;
+    public static final int AARCH64_INS_ALIAS_BTI = 1481;
+    public static final int AARCH64_INS_ALIAS_PSB = 1482;
+    public static final int AARCH64_INS_ALIAS_CHKFEAT = 1483;
+    public static final int AARCH64_INS_ALIAS_PACIAZ = 1484;
+    public static final int AARCH64_INS_ALIAS_PACIBZ = 1485;
+    public static final int AARCH64_INS_ALIAS_AUTIAZ = 1486;
+    public static final int AARCH64_INS_ALIAS_AUTIBZ = 1487;
+    public static final int AARCH64_INS_ALIAS_PACIASP = 1488;
+    public static final int AARCH64_INS_ALIAS_PACIBSP = 1489;
+    public static final int AARCH64_INS_ALIAS_AUTIASP = 1490;
+    public static final int AARCH64_INS_ALIAS_AUTIBSP = 1491;
+    public static final int AARCH64_INS_ALIAS_PACIA1716 = 1492;
+    public static final int AARCH64_INS_ALIAS_PACIB1716 = 1493;
+    public static final int AARCH64_INS_ALIAS_AUTIA1716 = 1494;
+    public static final int AARCH64_INS_ALIAS_AUTIB1716 = 1495;
+    public static final int AARCH64_INS_ALIAS_XPACLRI = 1496;
+    public static final int AARCH64_INS_ALIAS_LDRAB = 1497;
+    public static final int AARCH64_INS_ALIAS_PACM = 1498;
+    public static final int AARCH64_INS_ALIAS_CLREX = 1499;
+    public static final int AARCH64_INS_ALIAS_ISB = 1500;
+    public static final int AARCH64_INS_ALIAS_SSBB = 1501;
+    public static final int AARCH64_INS_ALIAS_PSSBB = 1502;
+    public static final int AARCH64_INS_ALIAS_DFB = 1503;
+    public static final int AARCH64_INS_ALIAS_SYS = 1504;
+    public static final int AARCH64_INS_ALIAS_MOVN = 1505;
+    public static final int AARCH64_INS_ALIAS_MOVZ = 1506;
+    public static final int AARCH64_INS_ALIAS_NGC = 1507;
+    public static final int AARCH64_INS_ALIAS_NGCS = 1508;
+    public static final int AARCH64_INS_ALIAS_SUB = 1509;
+    public static final int AARCH64_INS_ALIAS_CMP = 1510;
+    public static final int AARCH64_INS_ALIAS_SUBS = 1511;
+    public static final int AARCH64_INS_ALIAS_NEG = 1512;
+    public static final int AARCH64_INS_ALIAS_NEGS = 1513;
+    public static final int AARCH64_INS_ALIAS_MUL = 1514;
+    public static final int AARCH64_INS_ALIAS_MNEG = 1515;
+    public static final int AARCH64_INS_ALIAS_SMULL = 1516;
+    public static final int AARCH64_INS_ALIAS_SMNEGL = 1517;
+    public static final int AARCH64_INS_ALIAS_UMULL = 1518;
+    public static final int AARCH64_INS_ALIAS_UMNEGL = 1519;
+    public static final int AARCH64_INS_ALIAS_STCLRLB = 1520;
+    public static final int AARCH64_INS_ALIAS_STCLRLH = 1521;
+    public static final int AARCH64_INS_ALIAS_STCLRL = 1522;
+    public static final int AARCH64_INS_ALIAS_STCLRB = 1523;
+    public static final int AARCH64_INS_ALIAS_STCLRH = 1524;
+    public static final int AARCH64_INS_ALIAS_STCLR = 1525;
+    public static final int AARCH64_INS_ALIAS_STEORLB = 1526;
+    public static final int AARCH64_INS_ALIAS_STEORLH = 1527;
+    public static final int AARCH64_INS_ALIAS_STEORL = 1528;
+    public static final int AARCH64_INS_ALIAS_STEORB = 1529;
+    public static final int AARCH64_INS_ALIAS_STEORH = 1530;
+    public static final int AARCH64_INS_ALIAS_STEOR = 1531;
+    public static final int AARCH64_INS_ALIAS_STSETLB = 1532;
+    public static final int AARCH64_INS_ALIAS_STSETLH = 1533;
+    public static final int AARCH64_INS_ALIAS_STSETL = 1534;
+    public static final int AARCH64_INS_ALIAS_STSETB = 1535;
+    public static final int AARCH64_INS_ALIAS_STSETH = 1536;
+    public static final int AARCH64_INS_ALIAS_STSET = 1537;
+    public static final int AARCH64_INS_ALIAS_STSMAXLB = 1538;
+    public static final int AARCH64_INS_ALIAS_STSMAXLH = 1539;
+    public static final int AARCH64_INS_ALIAS_STSMAXL = 1540;
+    public static final int AARCH64_INS_ALIAS_STSMAXB = 1541;
+    public static final int AARCH64_INS_ALIAS_STSMAXH = 1542;
+    public static final int AARCH64_INS_ALIAS_STSMAX = 1543;
+    public static final int AARCH64_INS_ALIAS_STSMINLB = 1544;
+    public static final int AARCH64_INS_ALIAS_STSMINLH = 1545;
+    public static final int AARCH64_INS_ALIAS_STSMINL = 1546;
+    public static final int AARCH64_INS_ALIAS_STSMINB = 1547;
+    public static final int AARCH64_INS_ALIAS_STSMINH = 1548;
+    public static final int AARCH64_INS_ALIAS_STSMIN = 1549;
+    public static final int AARCH64_INS_ALIAS_STUMAXLB = 1550;
+    public static final int AARCH64_INS_ALIAS_STUMAXLH = 1551;
+    public static final int AARCH64_INS_ALIAS_STUMAXL = 1552;
+    public static final int AARCH64_INS_ALIAS_STUMAXB = 1553;
+    public static final int AARCH64_INS_ALIAS_STUMAXH = 1554;
+    public static final int AARCH64_INS_ALIAS_STUMAX = 1555;
+    public static final int AARCH64_INS_ALIAS_STUMINLB = 1556;
+    public static final int AARCH64_INS_ALIAS_STUMINLH = 1557;
+    public static final int AARCH64_INS_ALIAS_STUMINL = 1558;
+    public static final int AARCH64_INS_ALIAS_STUMINB = 1559;
+    public static final int AARCH64_INS_ALIAS_STUMINH = 1560;
+    public static final int AARCH64_INS_ALIAS_STUMIN = 1561;
+    public static final int AARCH64_INS_ALIAS_IRG = 1562;
+    public static final int AARCH64_INS_ALIAS_LDG = 1563;
+    public static final int AARCH64_INS_ALIAS_STZG = 1564;
+    public static final int AARCH64_INS_ALIAS_ST2G = 1565;
+    public static final int AARCH64_INS_ALIAS_STZ2G = 1566;
+    public static final int AARCH64_INS_ALIAS_BICS = 1567;
+    public static final int AARCH64_INS_ALIAS_BIC = 1568;
+    public static final int AARCH64_INS_ALIAS_EON = 1569;
+    public static final int AARCH64_INS_ALIAS_EOR = 1570;
+    public static final int AARCH64_INS_ALIAS_ORN = 1571;
+    public static final int AARCH64_INS_ALIAS_MVN = 1572;
+    public static final int AARCH64_INS_ALIAS_TST = 1573;
+    public static final int AARCH64_INS_ALIAS_ROR = 1574;
+    public static final int AARCH64_INS_ALIAS_ASR = 1575;
+    public static final int AARCH64_INS_ALIAS_SXTB = 1576;
+    public static final int AARCH64_INS_ALIAS_SXTH = 1577;
+    public static final int AARCH64_INS_ALIAS_SXTW = 1578;
+    public static final int AARCH64_INS_ALIAS_LSR = 1579;
+    public static final int AARCH64_INS_ALIAS_UXTB = 1580;
+    public static final int AARCH64_INS_ALIAS_UXTH = 1581;
+    public static final int AARCH64_INS_ALIAS_UXTW = 1582;
+    public static final int AARCH64_INS_ALIAS_CSET = 1583;
+    public static final int AARCH64_INS_ALIAS_CSETM = 1584;
+    public static final int AARCH64_INS_ALIAS_CINC = 1585;
+    public static final int AARCH64_INS_ALIAS_CINV = 1586;
+    public static final int AARCH64_INS_ALIAS_CNEG = 1587;
+    public static final int AARCH64_INS_ALIAS_RET = 1588;
+    public static final int AARCH64_INS_ALIAS_DCPS1 = 1589;
+    public static final int AARCH64_INS_ALIAS_DCPS2 = 1590;
+    public static final int AARCH64_INS_ALIAS_DCPS3 = 1591;
+    public static final int AARCH64_INS_ALIAS_LDPSW = 1592;
+    public static final int AARCH64_INS_ALIAS_LDRSH = 1593;
+    public static final int AARCH64_INS_ALIAS_LDRSB = 1594;
+    public static final int AARCH64_INS_ALIAS_LDRSW = 1595;
+    public static final int AARCH64_INS_ALIAS_LDURH = 1596;
+    public static final int AARCH64_INS_ALIAS_LDURB = 1597;
+    public static final int AARCH64_INS_ALIAS_LDURSH = 1598;
+    public static final int AARCH64_INS_ALIAS_LDURSB = 1599;
+    public static final int AARCH64_INS_ALIAS_LDURSW = 1600;
+    public static final int AARCH64_INS_ALIAS_LDTRH = 1601;
+    public static final int AARCH64_INS_ALIAS_LDTRB = 1602;
+    public static final int AARCH64_INS_ALIAS_LDTRSH = 1603;
+    public static final int AARCH64_INS_ALIAS_LDTRSB = 1604;
+    public static final int AARCH64_INS_ALIAS_LDTRSW = 1605;
+    public static final int AARCH64_INS_ALIAS_STP = 1606;
+    public static final int AARCH64_INS_ALIAS_STURH = 1607;
+    public static final int AARCH64_INS_ALIAS_STURB = 1608;
+    public static final int AARCH64_INS_ALIAS_STLURH = 1609;
+    public static final int AARCH64_INS_ALIAS_LDAPURSB = 1610;
+    public static final int AARCH64_INS_ALIAS_LDAPURH = 1611;
+    public static final int AARCH64_INS_ALIAS_LDAPURSH = 1612;
+    public static final int AARCH64_INS_ALIAS_LDAPURSW = 1613;
+    public static final int AARCH64_INS_ALIAS_STTRH = 1614;
+    public static final int AARCH64_INS_ALIAS_STTRB = 1615;
+    public static final int AARCH64_INS_ALIAS_BIC_4H = 1616;
+    public static final int AARCH64_INS_ALIAS_BIC_8H = 1617;
+    public static final int AARCH64_INS_ALIAS_BIC_2S = 1618;
+    public static final int AARCH64_INS_ALIAS_BIC_4S = 1619;
+    public static final int AARCH64_INS_ALIAS_ORR_4H = 1620;
+    public static final int AARCH64_INS_ALIAS_ORR_8H = 1621;
+    public static final int AARCH64_INS_ALIAS_ORR_2S = 1622;
+    public static final int AARCH64_INS_ALIAS_ORR_4S = 1623;
+    public static final int AARCH64_INS_ALIAS_SXTL_8H = 1624;
+    public static final int AARCH64_INS_ALIAS_SXTL = 1625;
+    public static final int AARCH64_INS_ALIAS_SXTL_4S = 1626;
+    public static final int AARCH64_INS_ALIAS_SXTL_2D = 1627;
+    public static final int AARCH64_INS_ALIAS_SXTL2_8H = 1628;
+    public static final int AARCH64_INS_ALIAS_SXTL2 = 1629;
+    public static final int AARCH64_INS_ALIAS_SXTL2_4S = 1630;
+    public static final int AARCH64_INS_ALIAS_SXTL2_2D = 1631;
+    public static final int AARCH64_INS_ALIAS_UXTL_8H = 1632;
+    public static final int AARCH64_INS_ALIAS_UXTL = 1633;
+    public static final int AARCH64_INS_ALIAS_UXTL_4S = 1634;
+    public static final int AARCH64_INS_ALIAS_UXTL_2D = 1635;
+    public static final int AARCH64_INS_ALIAS_UXTL2_8H = 1636;
+    public static final int AARCH64_INS_ALIAS_UXTL2 = 1637;
+    public static final int AARCH64_INS_ALIAS_UXTL2_4S = 1638;
+    public static final int AARCH64_INS_ALIAS_UXTL2_2D = 1639;
+    public static final int AARCH64_INS_ALIAS_LD2 = 1640;
+    public static final int AARCH64_INS_ALIAS_LD3 = 1641;
+    public static final int AARCH64_INS_ALIAS_LD4 = 1642;
+    public static final int AARCH64_INS_ALIAS_ST1 = 1643;
+    public static final int AARCH64_INS_ALIAS_ST2 = 1644;
+    public static final int AARCH64_INS_ALIAS_ST3 = 1645;
+    public static final int AARCH64_INS_ALIAS_ST4 = 1646;
+    public static final int AARCH64_INS_ALIAS_LD2R = 1647;
+    public static final int AARCH64_INS_ALIAS_LD3R = 1648;
+    public static final int AARCH64_INS_ALIAS_LD4R = 1649;
+    public static final int AARCH64_INS_ALIAS_CLRBHB = 1650;
+    public static final int AARCH64_INS_ALIAS_STILP = 1651;
+    public static final int AARCH64_INS_ALIAS_STL1 = 1652;
+    public static final int AARCH64_INS_ALIAS_SYSP = 1653;
+    public static final int AARCH64_INS_ALIAS_LD1SW = 1654;
+    public static final int AARCH64_INS_ALIAS_LD1H = 1655;
+    public static final int AARCH64_INS_ALIAS_LD1SH = 1656;
+    public static final int AARCH64_INS_ALIAS_LD1D = 1657;
+    public static final int AARCH64_INS_ALIAS_LD1RSW = 1658;
+    public static final int AARCH64_INS_ALIAS_LD1RH = 1659;
+    public static final int AARCH64_INS_ALIAS_LD1RSH = 1660;
+    public static final int AARCH64_INS_ALIAS_LD1RW = 1661;
+    public static final int AARCH64_INS_ALIAS_LD1RSB = 1662;
+    public static final int AARCH64_INS_ALIAS_LD1RD = 1663;
+    public static final int AARCH64_INS_ALIAS_LD1RQH = 1664;
+    public static final int AARCH64_INS_ALIAS_LD1RQW = 1665;
+    public static final int AARCH64_INS_ALIAS_LD1RQD = 1666;
+    public static final int AARCH64_INS_ALIAS_LDNF1SW = 1667;
+    public static final int AARCH64_INS_ALIAS_LDNF1H = 1668;
+    public static final int AARCH64_INS_ALIAS_LDNF1SH = 1669;
+    public static final int AARCH64_INS_ALIAS_LDNF1W = 1670;
+    public static final int AARCH64_INS_ALIAS_LDNF1SB = 1671;
+    public static final int AARCH64_INS_ALIAS_LDNF1D = 1672;
+    public static final int AARCH64_INS_ALIAS_LDFF1SW = 1673;
+    public static final int AARCH64_INS_ALIAS_LDFF1H = 1674;
+    public static final int AARCH64_INS_ALIAS_LDFF1SH = 1675;
+    public static final int AARCH64_INS_ALIAS_LDFF1W = 1676;
+    public static final int AARCH64_INS_ALIAS_LDFF1SB = 1677;
+    public static final int AARCH64_INS_ALIAS_LDFF1D = 1678;
+    public static final int AARCH64_INS_ALIAS_LD3B = 1679;
+    public static final int AARCH64_INS_ALIAS_LD4B = 1680;
+    public static final int AARCH64_INS_ALIAS_LD2H = 1681;
+    public static final int AARCH64_INS_ALIAS_LD3H = 1682;
+    public static final int AARCH64_INS_ALIAS_LD4H = 1683;
+    public static final int AARCH64_INS_ALIAS_LD2W = 1684;
+    public static final int AARCH64_INS_ALIAS_LD3W = 1685;
+    public static final int AARCH64_INS_ALIAS_LD4W = 1686;
+    public static final int AARCH64_INS_ALIAS_LD2D = 1687;
+    public static final int AARCH64_INS_ALIAS_LD3D = 1688;
+    public static final int AARCH64_INS_ALIAS_LD4D = 1689;
+    public static final int AARCH64_INS_ALIAS_LD2Q = 1690;
+    public static final int AARCH64_INS_ALIAS_LD3Q = 1691;
+    public static final int AARCH64_INS_ALIAS_LD4Q = 1692;
+    public static final int AARCH64_INS_ALIAS_LDNT1H = 1693;
+    public static final int AARCH64_INS_ALIAS_LDNT1W = 1694;
+    public static final int AARCH64_INS_ALIAS_LDNT1D = 1695;
+    public static final int AARCH64_INS_ALIAS_ST1H = 1696;
+    public static final int AARCH64_INS_ALIAS_ST1W = 1697;
+    public static final int AARCH64_INS_ALIAS_ST1D = 1698;
+    public static final int AARCH64_INS_ALIAS_ST3B = 1699;
+    public static final int AARCH64_INS_ALIAS_ST4B = 1700;
+    public static final int AARCH64_INS_ALIAS_ST2H = 1701;
+    public static final int AARCH64_INS_ALIAS_ST3H = 1702;
+    public static final int AARCH64_INS_ALIAS_ST4H = 1703;
+    public static final int AARCH64_INS_ALIAS_ST2W = 1704;
+    public static final int AARCH64_INS_ALIAS_ST3W = 1705;
+    public static final int AARCH64_INS_ALIAS_ST4W = 1706;
+    public static final int AARCH64_INS_ALIAS_ST2D = 1707;
+    public static final int AARCH64_INS_ALIAS_ST3D = 1708;
+    public static final int AARCH64_INS_ALIAS_ST4D = 1709;
+    public static final int AARCH64_INS_ALIAS_ST3Q = 1710;
+    public static final int AARCH64_INS_ALIAS_ST4Q = 1711;
+    public static final int AARCH64_INS_ALIAS_STNT1H = 1712;
+    public static final int AARCH64_INS_ALIAS_STNT1W = 1713;
+    public static final int AARCH64_INS_ALIAS_STNT1D = 1714;
+    public static final int AARCH64_INS_ALIAS_PRFH = 1715;
+    public static final int AARCH64_INS_ALIAS_PRFW = 1716;
+    public static final int AARCH64_INS_ALIAS_PRFD = 1717;
+    public static final int AARCH64_INS_ALIAS_CNTH = 1718;
+    public static final int AARCH64_INS_ALIAS_CNTW = 1719;
+    public static final int AARCH64_INS_ALIAS_CNTD = 1720;
+    public static final int AARCH64_INS_ALIAS_DECB = 1721;
+    public static final int AARCH64_INS_ALIAS_INCH = 1722;
+    public static final int AARCH64_INS_ALIAS_DECH = 1723;
+    public static final int AARCH64_INS_ALIAS_INCW = 1724;
+    public static final int AARCH64_INS_ALIAS_DECW = 1725;
+    public static final int AARCH64_INS_ALIAS_INCD = 1726;
+    public static final int AARCH64_INS_ALIAS_DECD = 1727;
+    public static final int AARCH64_INS_ALIAS_SQDECB = 1728;
+    public static final int AARCH64_INS_ALIAS_UQDECB = 1729;
+    public static final int AARCH64_INS_ALIAS_UQINCH = 1730;
+    public static final int AARCH64_INS_ALIAS_SQDECH = 1731;
+    public static final int AARCH64_INS_ALIAS_UQDECH = 1732;
+    public static final int AARCH64_INS_ALIAS_SQINCW = 1733;
+    public static final int AARCH64_INS_ALIAS_UQINCW = 1734;
+    public static final int AARCH64_INS_ALIAS_SQDECW = 1735;
+    public static final int AARCH64_INS_ALIAS_UQDECW = 1736;
+    public static final int AARCH64_INS_ALIAS_SQINCD = 1737;
+    public static final int AARCH64_INS_ALIAS_UQINCD = 1738;
+    public static final int AARCH64_INS_ALIAS_SQDECD = 1739;
+    public static final int AARCH64_INS_ALIAS_UQDECD = 1740;
+    public static final int AARCH64_INS_ALIAS_MOVS = 1741;
+    public static final int AARCH64_INS_ALIAS_NOT = 1742;
+    public static final int AARCH64_INS_ALIAS_NOTS = 1743;
+    public static final int AARCH64_INS_ALIAS_LD1ROH = 1744;
+    public static final int AARCH64_INS_ALIAS_LD1ROW = 1745;
+    public static final int AARCH64_INS_ALIAS_LD1ROD = 1746;
+    public static final int AARCH64_INS_ALIAS_BCAX = 1747;
+    public static final int AARCH64_INS_ALIAS_BSL = 1748;
+    public static final int AARCH64_INS_ALIAS_BSL1N = 1749;
+    public static final int AARCH64_INS_ALIAS_BSL2N = 1750;
+    public static final int AARCH64_INS_ALIAS_NBSL = 1751;
+    public static final int AARCH64_INS_ALIAS_LDNT1SH = 1752;
+    public static final int AARCH64_INS_ALIAS_LDNT1SW = 1753;
+    public static final int AARCH64_INS_ALIAS_CFP = 1754;
+    public static final int AARCH64_INS_ALIAS_DVP = 1755;
+    public static final int AARCH64_INS_ALIAS_COSP = 1756;
+    public static final int AARCH64_INS_ALIAS_CPP = 1757;
+    public static final int AARCH64_INS_ALIAS_IC = 1758;
+    public static final int AARCH64_INS_ALIAS_DC = 1759;
+    public static final int AARCH64_INS_ALIAS_AT = 1760;
+    public static final int AARCH64_INS_ALIAS_TLBI = 1761;
+    public static final int AARCH64_INS_ALIAS_TLBIP = 1762;
+    public static final int AARCH64_INS_ALIAS_RPRFM = 1763;
+    public static final int AARCH64_INS_ALIAS_LSL = 1764;
+    public static final int AARCH64_INS_ALIAS_SBFX = 1765;
+    public static final int AARCH64_INS_ALIAS_UBFX = 1766;
+    public static final int AARCH64_INS_ALIAS_SBFIZ = 1767;
+    public static final int AARCH64_INS_ALIAS_UBFIZ = 1768;
+    public static final int AARCH64_INS_ALIAS_BFC = 1769;
+    public static final int AARCH64_INS_ALIAS_BFI = 1770;
+    public static final int AARCH64_INS_ALIAS_BFXIL = 1771;
+    public static final int AARCH64_INS_ALIAS_END = 1772;
+    public static final int AARCH64_GRP_INVALID = 0;
+    public static final int AARCH64_GRP_JUMP = 1;
+    public static final int AARCH64_GRP_CALL = 2;
+    public static final int AARCH64_GRP_RET = 3;
+    public static final int AARCH64_GRP_INT = 4;
+    public static final int AARCH64_GRP_PRIVILEGE = 6;
+    public static final int AARCH64_GRP_BRANCH_RELATIVE = 7;
+    public static final int AARCH64_FEATURE_HASV8_0A = 128;
+    public static final int AARCH64_FEATURE_HASV8_1A = 129;
+    public static final int AARCH64_FEATURE_HASV8_2A = 130;
+    public static final int AARCH64_FEATURE_HASV8_3A = 131;
+    public static final int AARCH64_FEATURE_HASV8_4A = 132;
+    public static final int AARCH64_FEATURE_HASV8_5A = 133;
+    public static final int AARCH64_FEATURE_HASV8_6A = 134;
+    public static final int AARCH64_FEATURE_HASV8_7A = 135;
+    public static final int AARCH64_FEATURE_HASV8_8A = 136;
+    public static final int AARCH64_FEATURE_HASV8_9A = 137;
+    public static final int AARCH64_FEATURE_HASV9_0A = 138;
+    public static final int AARCH64_FEATURE_HASV9_1A = 139;
+    public static final int AARCH64_FEATURE_HASV9_2A = 140;
+    public static final int AARCH64_FEATURE_HASV9_3A = 141;
+    public static final int AARCH64_FEATURE_HASV9_4A = 142;
+    public static final int AARCH64_FEATURE_HASV8_0R = 143;
+    public static final int AARCH64_FEATURE_HASEL2VMSA = 144;
+    public static final int AARCH64_FEATURE_HASEL3 = 145;
+    public static final int AARCH64_FEATURE_HASVH = 146;
+    public static final int AARCH64_FEATURE_HASLOR = 147;
+    public static final int AARCH64_FEATURE_HASPAUTH = 148;
+    public static final int AARCH64_FEATURE_HASPAUTHLR = 149;
+    public static final int AARCH64_FEATURE_HASJS = 150;
+    public static final int AARCH64_FEATURE_HASCCIDX = 151;
+    public static final int AARCH64_FEATURE_HASCOMPLXNUM = 152;
+    public static final int AARCH64_FEATURE_HASNV = 153;
+    public static final int AARCH64_FEATURE_HASMPAM = 154;
+    public static final int AARCH64_FEATURE_HASDIT = 155;
+    public static final int AARCH64_FEATURE_HASTRACEV8_4 = 156;
+    public static final int AARCH64_FEATURE_HASAM = 157;
+    public static final int AARCH64_FEATURE_HASSEL2 = 158;
+    public static final int AARCH64_FEATURE_HASTLB_RMI = 159;
+    public static final int AARCH64_FEATURE_HASFLAGM = 160;
+    public static final int AARCH64_FEATURE_HASRCPC_IMMO = 161;
+    public static final int AARCH64_FEATURE_HASFPARMV8 = 162;
+    public static final int AARCH64_FEATURE_HASNEON = 163;
+    public static final int AARCH64_FEATURE_HASSM4 = 164;
+    public static final int AARCH64_FEATURE_HASSHA3 = 165;
+    public static final int AARCH64_FEATURE_HASSHA2 = 166;
+    public static final int AARCH64_FEATURE_HASAES = 167;
+    public static final int AARCH64_FEATURE_HASDOTPROD = 168;
+    public static final int AARCH64_FEATURE_HASCRC = 169;
+    public static final int AARCH64_FEATURE_HASCSSC = 170;
+    public static final int AARCH64_FEATURE_HASLSE = 171;
+    public static final int AARCH64_FEATURE_HASRAS = 172;
+    public static final int AARCH64_FEATURE_HASRDM = 173;
+    public static final int AARCH64_FEATURE_HASFULLFP16 = 174;
+    public static final int AARCH64_FEATURE_HASFP16FML = 175;
+    public static final int AARCH64_FEATURE_HASSPE = 176;
+    public static final int AARCH64_FEATURE_HASFUSEAES = 177;
+    public static final int AARCH64_FEATURE_HASSVE = 178;
+    public static final int AARCH64_FEATURE_HASSVE2 = 179;
+    public static final int AARCH64_FEATURE_HASSVE2P1 = 180;
+    public static final int AARCH64_FEATURE_HASSVE2AES = 181;
+    public static final int AARCH64_FEATURE_HASSVE2SM4 = 182;
+    public static final int AARCH64_FEATURE_HASSVE2SHA3 = 183;
+    public static final int AARCH64_FEATURE_HASSVE2BITPERM = 184;
+    public static final int AARCH64_FEATURE_HASB16B16 = 185;
+    public static final int AARCH64_FEATURE_HASSME = 186;
+    public static final int AARCH64_FEATURE_HASSMEF64F64 = 187;
+    public static final int AARCH64_FEATURE_HASSMEF16F16 = 188;
+    public static final int AARCH64_FEATURE_HASSMEFA64 = 189;
+    public static final int AARCH64_FEATURE_HASSMEI16I64 = 190;
+    public static final int AARCH64_FEATURE_HASSME2 = 191;
+    public static final int AARCH64_FEATURE_HASSME2P1 = 192;
+    public static final int AARCH64_FEATURE_HASFPMR = 193;
+    public static final int AARCH64_FEATURE_HASFP8 = 194;
+    public static final int AARCH64_FEATURE_HASFAMINMAX = 195;
+    public static final int AARCH64_FEATURE_HASFP8FMA = 196;
+    public static final int AARCH64_FEATURE_HASSSVE_FP8FMA = 197;
+    public static final int AARCH64_FEATURE_HASFP8DOT2 = 198;
+    public static final int AARCH64_FEATURE_HASSSVE_FP8DOT2 = 199;
+    public static final int AARCH64_FEATURE_HASFP8DOT4 = 200;
+    public static final int AARCH64_FEATURE_HASSSVE_FP8DOT4 = 201;
+    public static final int AARCH64_FEATURE_HASLUT = 202;
+    public static final int AARCH64_FEATURE_HASSME_LUTV2 = 203;
+    public static final int AARCH64_FEATURE_HASSMEF8F16 = 204;
+    public static final int AARCH64_FEATURE_HASSMEF8F32 = 205;
+    public static final int AARCH64_FEATURE_HASSVEORSME = 206;
+    public static final int AARCH64_FEATURE_HASSVE2ORSME = 207;
+    public static final int AARCH64_FEATURE_HASSVE2ORSME2 = 208;
+    public static final int AARCH64_FEATURE_HASSVE2P1_OR_HASSME = 209;
+    public static final int AARCH64_FEATURE_HASSVE2P1_OR_HASSME2 = 210;
+    public static final int AARCH64_FEATURE_HASSVE2P1_OR_HASSME2P1 = 211;
+    public static final int AARCH64_FEATURE_HASNEONORSME = 212;
+    public static final int AARCH64_FEATURE_HASRCPC = 213;
+    public static final int AARCH64_FEATURE_HASALTNZCV = 214;
+    public static final int AARCH64_FEATURE_HASFRINT3264 = 215;
+    public static final int AARCH64_FEATURE_HASSB = 216;
+    public static final int AARCH64_FEATURE_HASPREDRES = 217;
+    public static final int AARCH64_FEATURE_HASCCDP = 218;
+    public static final int AARCH64_FEATURE_HASBTI = 219;
+    public static final int AARCH64_FEATURE_HASMTE = 220;
+    public static final int AARCH64_FEATURE_HASTME = 221;
+    public static final int AARCH64_FEATURE_HASETE = 222;
+    public static final int AARCH64_FEATURE_HASTRBE = 223;
+    public static final int AARCH64_FEATURE_HASBF16 = 224;
+    public static final int AARCH64_FEATURE_HASMATMULINT8 = 225;
+    public static final int AARCH64_FEATURE_HASMATMULFP32 = 226;
+    public static final int AARCH64_FEATURE_HASMATMULFP64 = 227;
+    public static final int AARCH64_FEATURE_HASXS = 228;
+    public static final int AARCH64_FEATURE_HASWFXT = 229;
+    public static final int AARCH64_FEATURE_HASLS64 = 230;
+    public static final int AARCH64_FEATURE_HASBRBE = 231;
+    public static final int AARCH64_FEATURE_HASSPE_EEF = 232;
+    public static final int AARCH64_FEATURE_HASHBC = 233;
+    public static final int AARCH64_FEATURE_HASMOPS = 234;
+    public static final int AARCH64_FEATURE_HASCLRBHB = 235;
+    public static final int AARCH64_FEATURE_HASSPECRES2 = 236;
+    public static final int AARCH64_FEATURE_HASITE = 237;
+    public static final int AARCH64_FEATURE_HASTHE = 238;
+    public static final int AARCH64_FEATURE_HASRCPC3 = 239;
+    public static final int AARCH64_FEATURE_HASLSE128 = 240;
+    public static final int AARCH64_FEATURE_HASD128 = 241;
+    public static final int AARCH64_FEATURE_HASCHK = 242;
+    public static final int AARCH64_FEATURE_HASGCS = 243;
+    public static final int AARCH64_FEATURE_HASCPA = 244;
+    public static final int AARCH64_FEATURE_USENEGATIVEIMMEDIATES = 245;
+    public static final int AARCH64_FEATURE_HASCCPP = 246;
+    public static final int AARCH64_FEATURE_HASPAN = 247;
+    public static final int AARCH64_FEATURE_HASPSUAO = 248;
+    public static final int AARCH64_FEATURE_HASPAN_RWV = 249;
+    public static final int AARCH64_FEATURE_HASCONTEXTIDREL2 = 250;
+    public static final int AARCH64_GRP_ENDING = 251;
+    public static final int M68K_REG_ENDING = 47;
+    public static final int M68K_INS_ENDING = 375;
+    public static final int M68K_GRP_ENDING = 8;
+    public static final int MIPS_REG_ENDING = 635;
+    public static final int MIPS_INS_ENDING = 1360;
+    public static final int MIPS_GRP_ENDING = 184;
+    public static final int PPC_REG_ENDING = 580;
+    public static final int PPC_INS_ENDING = 1714;
+    public static final int PPC_GRP_ENDING = 158;
+    public static final int SPARC_REG_ENDING = 88;
+    public static final int SPARC_INS_ENDING = 279;
+    public static final int SPARC_GRP_ENDING = 135;
+    public static final int SYSTEMZ_REG_ENDING = 195;
+    public static final int SYSTEMZ_INS_ENDING = 2500;
+    public static final int SYSTEMZ_GRP_ENDING = 170;
+    public static final int X86_REG_INVALID = 0;
+    public static final int X86_REG_AH = 1;
+    public static final int X86_REG_AL = 2;
+    public static final int X86_REG_AX = 3;
+    public static final int X86_REG_BH = 4;
+    public static final int X86_REG_BL = 5;
+    public static final int X86_REG_BP = 6;
+    public static final int X86_REG_BPL = 7;
+    public static final int X86_REG_BX = 8;
+    public static final int X86_REG_CH = 9;
+    public static final int X86_REG_CL = 10;
+    public static final int X86_REG_CS = 11;
+    public static final int X86_REG_CX = 12;
+    public static final int X86_REG_DH = 13;
+    public static final int X86_REG_DI = 14;
+    public static final int X86_REG_DIL = 15;
+    public static final int X86_REG_DL = 16;
+    public static final int X86_REG_DS = 17;
+    public static final int X86_REG_DX = 18;
+    public static final int X86_REG_EAX = 19;
+    public static final int X86_REG_EBP = 20;
+    public static final int X86_REG_EBX = 21;
+    public static final int X86_REG_ECX = 22;
+    public static final int X86_REG_EDI = 23;
+    public static final int X86_REG_EDX = 24;
+    public static final int X86_REG_EFLAGS = 25;
+    public static final int X86_REG_EIP = 26;
+    public static final int X86_REG_EIZ = 27;
+    public static final int X86_REG_ES = 28;
+    public static final int X86_REG_ESI = 29;
+    public static final int X86_REG_ESP = 30;
+    public static final int X86_REG_FPSW = 31;
+    public static final int X86_REG_FS = 32;
+    public static final int X86_REG_GS = 33;
+    public static final int X86_REG_IP = 34;
+    public static final int X86_REG_RAX = 35;
+    public static final int X86_REG_RBP = 36;
+    public static final int X86_REG_RBX = 37;
+    public static final int X86_REG_RCX = 38;
+    public static final int X86_REG_RDI = 39;
+    public static final int X86_REG_RDX = 40;
+    public static final int X86_REG_RIP = 41;
+    public static final int X86_REG_RIZ = 42;
+    public static final int X86_REG_RSI = 43;
+    public static final int X86_REG_RSP = 44;
+    public static final int X86_REG_SI = 45;
+    public static final int X86_REG_SIL = 46;
+    public static final int X86_REG_SP = 47;
+    public static final int X86_REG_SPL = 48;
+    public static final int X86_REG_SS = 49;
+    public static final int X86_REG_CR0 = 50;
+    public static final int X86_REG_CR1 = 51;
+    public static final int X86_REG_CR2 = 52;
+    public static final int X86_REG_CR3 = 53;
+    public static final int X86_REG_CR4 = 54;
+    public static final int X86_REG_CR5 = 55;
+    public static final int X86_REG_CR6 = 56;
+    public static final int X86_REG_CR7 = 57;
+    public static final int X86_REG_CR8 = 58;
+    public static final int X86_REG_CR9 = 59;
+    public static final int X86_REG_CR10 = 60;
+    public static final int X86_REG_CR11 = 61;
+    public static final int X86_REG_CR12 = 62;
+    public static final int X86_REG_CR13 = 63;
+    public static final int X86_REG_CR14 = 64;
+    public static final int X86_REG_CR15 = 65;
+    public static final int X86_REG_DR0 = 66;
+    public static final int X86_REG_DR1 = 67;
+    public static final int X86_REG_DR2 = 68;
+    public static final int X86_REG_DR3 = 69;
+    public static final int X86_REG_DR4 = 70;
+    public static final int X86_REG_DR5 = 71;
+    public static final int X86_REG_DR6 = 72;
+    public static final int X86_REG_DR7 = 73;
+    public static final int X86_REG_DR8 = 74;
+    public static final int X86_REG_DR9 = 75;
+    public static final int X86_REG_DR10 = 76;
+    public static final int X86_REG_DR11 = 77;
+    public static final int X86_REG_DR12 = 78;
+    public static final int X86_REG_DR13 = 79;
+    public static final int X86_REG_DR14 = 80;
+    public static final int X86_REG_DR15 = 81;
+    public static final int X86_REG_FP0 = 82;
+    public static final int X86_REG_FP1 = 83;
+    public static final int X86_REG_FP2 = 84;
+    public static final int X86_REG_FP3 = 85;
+    public static final int X86_REG_FP4 = 86;
+    public static final int X86_REG_FP5 = 87;
+    public static final int X86_REG_FP6 = 88;
+    public static final int X86_REG_FP7 = 89;
+    public static final int X86_REG_K0 = 90;
+    public static final int X86_REG_K1 = 91;
+    public static final int X86_REG_K2 = 92;
+    public static final int X86_REG_K3 = 93;
+    public static final int X86_REG_K4 = 94;
+    public static final int X86_REG_K5 = 95;
+    public static final int X86_REG_K6 = 96;
+    public static final int X86_REG_K7 = 97;
+    public static final int X86_REG_MM0 = 98;
+    public static final int X86_REG_MM1 = 99;
+    public static final int X86_REG_MM2 = 100;
+    public static final int X86_REG_MM3 = 101;
+    public static final int X86_REG_MM4 = 102;
+    public static final int X86_REG_MM5 = 103;
+    public static final int X86_REG_MM6 = 104;
+    public static final int X86_REG_MM7 = 105;
+    public static final int X86_REG_R8 = 106;
+    public static final int X86_REG_R9 = 107;
+    public static final int X86_REG_R10 = 108;
+    public static final int X86_REG_R11 = 109;
+    public static final int X86_REG_R12 = 110;
+    public static final int X86_REG_R13 = 111;
+    public static final int X86_REG_R14 = 112;
+    public static final int X86_REG_R15 = 113;
+    public static final int X86_REG_ST0 = 114;
+    public static final int X86_REG_ST1 = 115;
+    public static final int X86_REG_ST2 = 116;
+    public static final int X86_REG_ST3 = 117;
+    public static final int X86_REG_ST4 = 118;
+    public static final int X86_REG_ST5 = 119;
+    public static final int X86_REG_ST6 = 120;
+    public static final int X86_REG_ST7 = 121;
+    public static final int X86_REG_XMM0 = 122;
+    public static final int X86_REG_XMM1 = 123;
+    public static final int X86_REG_XMM2 = 124;
+    public static final int X86_REG_XMM3 = 125;
+    public static final int X86_REG_XMM4 = 126;
+    public static final int X86_REG_XMM5 = 127;
+    public static final int X86_REG_XMM6 = 128;
+    public static final int X86_REG_XMM7 = 129;
+    public static final int X86_REG_XMM8 = 130;
+    public static final int X86_REG_XMM9 = 131;
+    public static final int X86_REG_XMM10 = 132;
+    public static final int X86_REG_XMM11 = 133;
+    public static final int X86_REG_XMM12 = 134;
+    public static final int X86_REG_XMM13 = 135;
+    public static final int X86_REG_XMM14 = 136;
+    public static final int X86_REG_XMM15 = 137;
+    public static final int X86_REG_XMM16 = 138;
+    public static final int X86_REG_XMM17 = 139;
+    public static final int X86_REG_XMM18 = 140;
+    public static final int X86_REG_XMM19 = 141;
+    public static final int X86_REG_XMM20 = 142;
+    public static final int X86_REG_XMM21 = 143;
+    public static final int X86_REG_XMM22 = 144;
+    public static final int X86_REG_XMM23 = 145;
+    public static final int X86_REG_XMM24 = 146;
+    public static final int X86_REG_XMM25 = 147;
+    public static final int X86_REG_XMM26 = 148;
+    public static final int X86_REG_XMM27 = 149;
+    public static final int X86_REG_XMM28 = 150;
+    public static final int X86_REG_XMM29 = 151;
+    public static final int X86_REG_XMM30 = 152;
+    public static final int X86_REG_XMM31 = 153;
+    public static final int X86_REG_YMM0 = 154;
+    public static final int X86_REG_YMM1 = 155;
+    public static final int X86_REG_YMM2 = 156;
+    public static final int X86_REG_YMM3 = 157;
+    public static final int X86_REG_YMM4 = 158;
+    public static final int X86_REG_YMM5 = 159;
+    public static final int X86_REG_YMM6 = 160;
+    public static final int X86_REG_YMM7 = 161;
+    public static final int X86_REG_YMM8 = 162;
+    public static final int X86_REG_YMM9 = 163;
+    public static final int X86_REG_YMM10 = 164;
+    public static final int X86_REG_YMM11 = 165;
+    public static final int X86_REG_YMM12 = 166;
+    public static final int X86_REG_YMM13 = 167;
+    public static final int X86_REG_YMM14 = 168;
+    public static final int X86_REG_YMM15 = 169;
+    public static final int X86_REG_YMM16 = 170;
+    public static final int X86_REG_YMM17 = 171;
+    public static final int X86_REG_YMM18 = 172;
+    public static final int X86_REG_YMM19 = 173;
+    public static final int X86_REG_YMM20 = 174;
+    public static final int X86_REG_YMM21 = 175;
+    public static final int X86_REG_YMM22 = 176;
+    public static final int X86_REG_YMM23 = 177;
+    public static final int X86_REG_YMM24 = 178;
+    public static final int X86_REG_YMM25 = 179;
+    public static final int X86_REG_YMM26 = 180;
+    public static final int X86_REG_YMM27 = 181;
+    public static final int X86_REG_YMM28 = 182;
+    public static final int X86_REG_YMM29 = 183;
+    public static final int X86_REG_YMM30 = 184;
+    public static final int X86_REG_YMM31 = 185;
+    public static final int X86_REG_ZMM0 = 186;
+    public static final int X86_REG_ZMM1 = 187;
+    public static final int X86_REG_ZMM2 = 188;
+    public static final int X86_REG_ZMM3 = 189;
+    public static final int X86_REG_ZMM4 = 190;
+    public static final int X86_REG_ZMM5 = 191;
+    public static final int X86_REG_ZMM6 = 192;
+    public static final int X86_REG_ZMM7 = 193;
+    public static final int X86_REG_ZMM8 = 194;
+    public static final int X86_REG_ZMM9 = 195;
+    public static final int X86_REG_ZMM10 = 196;
+    public static final int X86_REG_ZMM11 = 197;
+    public static final int X86_REG_ZMM12 = 198;
+    public static final int X86_REG_ZMM13 = 199;
+    public static final int X86_REG_ZMM14 = 200;
+    public static final int X86_REG_ZMM15 = 201;
+    public static final int X86_REG_ZMM16 = 202;
+    public static final int X86_REG_ZMM17 = 203;
+    public static final int X86_REG_ZMM18 = 204;
+    public static final int X86_REG_ZMM19 = 205;
+    public static final int X86_REG_ZMM20 = 206;
+    public static final int X86_REG_ZMM21 = 207;
+    public static final int X86_REG_ZMM22 = 208;
+    public static final int X86_REG_ZMM23 = 209;
+    public static final int X86_REG_ZMM24 = 210;
+    public static final int X86_REG_ZMM25 = 211;
+    public static final int X86_REG_ZMM26 = 212;
+    public static final int X86_REG_ZMM27 = 213;
+    public static final int X86_REG_ZMM28 = 214;
+    public static final int X86_REG_ZMM29 = 215;
+    public static final int X86_REG_ZMM30 = 216;
+    public static final int X86_REG_ZMM31 = 217;
+    public static final int X86_REG_R8B = 218;
+    public static final int X86_REG_R9B = 219;
+    public static final int X86_REG_R10B = 220;
+    public static final int X86_REG_R11B = 221;
+    public static final int X86_REG_R12B = 222;
+    public static final int X86_REG_R13B = 223;
+    public static final int X86_REG_R14B = 224;
+    public static final int X86_REG_R15B = 225;
+    public static final int X86_REG_R8D = 226;
+    public static final int X86_REG_R9D = 227;
+    public static final int X86_REG_R10D = 228;
+    public static final int X86_REG_R11D = 229;
+    public static final int X86_REG_R12D = 230;
+    public static final int X86_REG_R13D = 231;
+    public static final int X86_REG_R14D = 232;
+    public static final int X86_REG_R15D = 233;
+    public static final int X86_REG_R8W = 234;
+    public static final int X86_REG_R9W = 235;
+    public static final int X86_REG_R10W = 236;
+    public static final int X86_REG_R11W = 237;
+    public static final int X86_REG_R12W = 238;
+    public static final int X86_REG_R13W = 239;
+    public static final int X86_REG_R14W = 240;
+    public static final int X86_REG_R15W = 241;
+    public static final int X86_REG_BND0 = 242;
+    public static final int X86_REG_BND1 = 243;
+    public static final int X86_REG_BND2 = 244;
+    public static final int X86_REG_BND3 = 245;
+    public static final int X86_REG_ENDING = 246;
+    public static final int X86_XOP_CC_INVALID = 0;
+    public static final int X86_XOP_CC_LT = 1;
+    public static final int X86_XOP_CC_LE = 2;
+    public static final int X86_XOP_CC_GT = 3;
+    public static final int X86_XOP_CC_GE = 4;
+    public static final int X86_XOP_CC_EQ = 5;
+    public static final int X86_XOP_CC_NEQ = 6;
+    public static final int X86_XOP_CC_FALSE = 7;
+    public static final int X86_XOP_CC_TRUE = 8;
+    public static final int X86_AVX_BCAST_INVALID = 0;
+    public static final int X86_AVX_BCAST_2 = 1;
+    public static final int X86_AVX_BCAST_4 = 2;
+    public static final int X86_AVX_BCAST_8 = 3;
+    public static final int X86_AVX_BCAST_16 = 4;
+    public static final int X86_SSE_CC_INVALID = 0;
+    public static final int X86_SSE_CC_EQ = 1;
+    public static final int X86_SSE_CC_LT = 2;
+    public static final int X86_SSE_CC_LE = 3;
+    public static final int X86_SSE_CC_UNORD = 4;
+    public static final int X86_SSE_CC_NEQ = 5;
+    public static final int X86_SSE_CC_NLT = 6;
+    public static final int X86_SSE_CC_NLE = 7;
+    public static final int X86_SSE_CC_ORD = 8;
+    public static final int X86_AVX_CC_INVALID = 0;
+    public static final int X86_AVX_CC_EQ = 1;
+    public static final int X86_AVX_CC_LT = 2;
+    public static final int X86_AVX_CC_LE = 3;
+    public static final int X86_AVX_CC_UNORD = 4;
+    public static final int X86_AVX_CC_NEQ = 5;
+    public static final int X86_AVX_CC_NLT = 6;
+    public static final int X86_AVX_CC_NLE = 7;
+    public static final int X86_AVX_CC_ORD = 8;
+    public static final int X86_AVX_CC_EQ_UQ = 9;
+    public static final int X86_AVX_CC_NGE = 10;
+    public static final int X86_AVX_CC_NGT = 11;
+    public static final int X86_AVX_CC_FALSE = 12;
+    public static final int X86_AVX_CC_NEQ_OQ = 13;
+    public static final int X86_AVX_CC_GE = 14;
+    public static final int X86_AVX_CC_GT = 15;
+    public static final int X86_AVX_CC_TRUE = 16;
+    public static final int X86_AVX_CC_EQ_OS = 17;
+    public static final int X86_AVX_CC_LT_OQ = 18;
+    public static final int X86_AVX_CC_LE_OQ = 19;
+    public static final int X86_AVX_CC_UNORD_S = 20;
+    public static final int X86_AVX_CC_NEQ_US = 21;
+    public static final int X86_AVX_CC_NLT_UQ = 22;
+    public static final int X86_AVX_CC_NLE_UQ = 23;
+    public static final int X86_AVX_CC_ORD_S = 24;
+    public static final int X86_AVX_CC_EQ_US = 25;
+    public static final int X86_AVX_CC_NGE_UQ = 26;
+    public static final int X86_AVX_CC_NGT_UQ = 27;
+    public static final int X86_AVX_CC_FALSE_OS = 28;
+    public static final int X86_AVX_CC_NEQ_OS = 29;
+    public static final int X86_AVX_CC_GE_OQ = 30;
+    public static final int X86_AVX_CC_GT_OQ = 31;
+    public static final int X86_AVX_CC_TRUE_US = 32;
+    public static final int X86_AVX_RM_INVALID = 0;
+    public static final int X86_AVX_RM_RN = 1;
+    public static final int X86_AVX_RM_RD = 2;
+    public static final int X86_AVX_RM_RU = 3;
+    public static final int X86_AVX_RM_RZ = 4;
+    public static final int X86_PREFIX_0 = 0;
+    public static final int X86_PREFIX_LOCK = 240;
+    public static final int X86_PREFIX_REP = 243;
+    public static final int X86_PREFIX_REPE = 243;
+    public static final int X86_PREFIX_REPNE = 242;
+    public static final int X86_PREFIX_CS = 46;
+    public static final int X86_PREFIX_SS = 54;
+    public static final int X86_PREFIX_DS = 62;
+    public static final int X86_PREFIX_ES = 38;
+    public static final int X86_PREFIX_FS = 100;
+    public static final int X86_PREFIX_GS = 101;
+    public static final int X86_PREFIX_OPSIZE = 102;
+    public static final int X86_PREFIX_ADDRSIZE = 103;
+    public static final int X86_INS_INVALID = 0;
+    public static final int X86_INS_AAA = 1;
+    public static final int X86_INS_AAD = 2;
+    public static final int X86_INS_AAM = 3;
+    public static final int X86_INS_AAS = 4;
+    public static final int X86_INS_FABS = 5;
+    public static final int X86_INS_ADC = 6;
+    public static final int X86_INS_ADCX = 7;
+    public static final int X86_INS_ADD = 8;
+    public static final int X86_INS_ADDPD = 9;
+    public static final int X86_INS_ADDPS = 10;
+    public static final int X86_INS_ADDSD = 11;
+    public static final int X86_INS_ADDSS = 12;
+    public static final int X86_INS_ADDSUBPD = 13;
+    public static final int X86_INS_ADDSUBPS = 14;
+    public static final int X86_INS_FADD = 15;
+    public static final int X86_INS_FIADD = 16;
+    public static final int X86_INS_ADOX = 17;
+    public static final int X86_INS_AESDECLAST = 18;
+    public static final int X86_INS_AESDEC = 19;
+    public static final int X86_INS_AESENCLAST = 20;
+    public static final int X86_INS_AESENC = 21;
+    public static final int X86_INS_AESIMC = 22;
+    public static final int X86_INS_AESKEYGENASSIST = 23;
+    public static final int X86_INS_AND = 24;
+    public static final int X86_INS_ANDN = 25;
+    public static final int X86_INS_ANDNPD = 26;
+    public static final int X86_INS_ANDNPS = 27;
+    public static final int X86_INS_ANDPD = 28;
+    public static final int X86_INS_ANDPS = 29;
+    public static final int X86_INS_ARPL = 30;
+    public static final int X86_INS_BEXTR = 31;
+    public static final int X86_INS_BLCFILL = 32;
+    public static final int X86_INS_BLCI = 33;
+    public static final int X86_INS_BLCIC = 34;
+    public static final int X86_INS_BLCMSK = 35;
+    public static final int X86_INS_BLCS = 36;
+    public static final int X86_INS_BLENDPD = 37;
+    public static final int X86_INS_BLENDPS = 38;
+    public static final int X86_INS_BLENDVPD = 39;
+    public static final int X86_INS_BLENDVPS = 40;
+    public static final int X86_INS_BLSFILL = 41;
+    public static final int X86_INS_BLSI = 42;
+    public static final int X86_INS_BLSIC = 43;
+    public static final int X86_INS_BLSMSK = 44;
+    public static final int X86_INS_BLSR = 45;
+    public static final int X86_INS_BNDCL = 46;
+    public static final int X86_INS_BNDCN = 47;
+    public static final int X86_INS_BNDCU = 48;
+    public static final int X86_INS_BNDLDX = 49;
+    public static final int X86_INS_BNDMK = 50;
+    public static final int X86_INS_BNDMOV = 51;
+    public static final int X86_INS_BNDSTX = 52;
+    public static final int X86_INS_BOUND = 53;
+    public static final int X86_INS_BSF = 54;
+    public static final int X86_INS_BSR = 55;
+    public static final int X86_INS_BSWAP = 56;
+    public static final int X86_INS_BT = 57;
+    public static final int X86_INS_BTC = 58;
+    public static final int X86_INS_BTR = 59;
+    public static final int X86_INS_BTS = 60;
+    public static final int X86_INS_BZHI = 61;
+    public static final int X86_INS_CALL = 62;
+    public static final int X86_INS_CBW = 63;
+    public static final int X86_INS_CDQ = 64;
+    public static final int X86_INS_CDQE = 65;
+    public static final int X86_INS_FCHS = 66;
+    public static final int X86_INS_CLAC = 67;
+    public static final int X86_INS_CLC = 68;
+    public static final int X86_INS_CLD = 69;
+    public static final int X86_INS_CLDEMOTE = 70;
+    public static final int X86_INS_CLFLUSH = 71;
+    public static final int X86_INS_CLFLUSHOPT = 72;
+    public static final int X86_INS_CLGI = 73;
+    public static final int X86_INS_CLI = 74;
+    public static final int X86_INS_CLRSSBSY = 75;
+    public static final int X86_INS_CLTS = 76;
+    public static final int X86_INS_CLWB = 77;
+    public static final int X86_INS_CLZERO = 78;
+    public static final int X86_INS_CMC = 79;
+    public static final int X86_INS_CMOVA = 80;
+    public static final int X86_INS_CMOVAE = 81;
+    public static final int X86_INS_CMOVB = 82;
+    public static final int X86_INS_CMOVBE = 83;
+    public static final int X86_INS_FCMOVBE = 84;
+    public static final int X86_INS_FCMOVB = 85;
+    public static final int X86_INS_CMOVE = 86;
+    public static final int X86_INS_FCMOVE = 87;
+    public static final int X86_INS_CMOVG = 88;
+    public static final int X86_INS_CMOVGE = 89;
+    public static final int X86_INS_CMOVL = 90;
+    public static final int X86_INS_CMOVLE = 91;
+    public static final int X86_INS_FCMOVNBE = 92;
+    public static final int X86_INS_FCMOVNB = 93;
+    public static final int X86_INS_CMOVNE = 94;
+    public static final int X86_INS_FCMOVNE = 95;
+    public static final int X86_INS_CMOVNO = 96;
+    public static final int X86_INS_CMOVNP = 97;
+    public static final int X86_INS_FCMOVNU = 98;
+    public static final int X86_INS_FCMOVNP = 99;
+    public static final int X86_INS_CMOVNS = 100;
+    public static final int X86_INS_CMOVO = 101;
+    public static final int X86_INS_CMOVP = 102;
+    public static final int X86_INS_FCMOVU = 103;
+    public static final int X86_INS_CMOVS = 104;
+    public static final int X86_INS_CMP = 105;
+    public static final int X86_INS_CMPPD = 106;
+    public static final int X86_INS_CMPPS = 107;
+    public static final int X86_INS_CMPSB = 108;
+    public static final int X86_INS_CMPSD = 109;
+    public static final int X86_INS_CMPSQ = 110;
+    public static final int X86_INS_CMPSS = 111;
+    public static final int X86_INS_CMPSW = 112;
+    public static final int X86_INS_CMPXCHG16B = 113;
+    public static final int X86_INS_CMPXCHG = 114;
+    public static final int X86_INS_CMPXCHG8B = 115;
+    public static final int X86_INS_COMISD = 116;
+    public static final int X86_INS_COMISS = 117;
+    public static final int X86_INS_FCOMP = 118;
+    public static final int X86_INS_FCOMPI = 119;
+    public static final int X86_INS_FCOMI = 120;
+    public static final int X86_INS_FCOM = 121;
+    public static final int X86_INS_FCOS = 122;
+    public static final int X86_INS_CPUID = 123;
+    public static final int X86_INS_CQO = 124;
+    public static final int X86_INS_CRC32 = 125;
+    public static final int X86_INS_CVTDQ2PD = 126;
+    public static final int X86_INS_CVTDQ2PS = 127;
+    public static final int X86_INS_CVTPD2DQ = 128;
+    public static final int X86_INS_CVTPD2PS = 129;
+    public static final int X86_INS_CVTPS2DQ = 130;
+    public static final int X86_INS_CVTPS2PD = 131;
+    public static final int X86_INS_CVTSD2SI = 132;
+    public static final int X86_INS_CVTSD2SS = 133;
+    public static final int X86_INS_CVTSI2SD = 134;
+    public static final int X86_INS_CVTSI2SS = 135;
+    public static final int X86_INS_CVTSS2SD = 136;
+    public static final int X86_INS_CVTSS2SI = 137;
+    public static final int X86_INS_CVTTPD2DQ = 138;
+    public static final int X86_INS_CVTTPS2DQ = 139;
+    public static final int X86_INS_CVTTSD2SI = 140;
+    public static final int X86_INS_CVTTSS2SI = 141;
+    public static final int X86_INS_CWD = 142;
+    public static final int X86_INS_CWDE = 143;
+    public static final int X86_INS_DAA = 144;
+    public static final int X86_INS_DAS = 145;
+    public static final int X86_INS_DATA16 = 146;
+    public static final int X86_INS_DEC = 147;
+    public static final int X86_INS_DIV = 148;
+    public static final int X86_INS_DIVPD = 149;
+    public static final int X86_INS_DIVPS = 150;
+    public static final int X86_INS_FDIVR = 151;
+    public static final int X86_INS_FIDIVR = 152;
+    public static final int X86_INS_FDIVRP = 153;
+    public static final int X86_INS_DIVSD = 154;
+    public static final int X86_INS_DIVSS = 155;
+    public static final int X86_INS_FDIV = 156;
+    public static final int X86_INS_FIDIV = 157;
+    public static final int X86_INS_FDIVP = 158;
+    public static final int X86_INS_DPPD = 159;
+    public static final int X86_INS_DPPS = 160;
+    public static final int X86_INS_ENCLS = 161;
+    public static final int X86_INS_ENCLU = 162;
+    public static final int X86_INS_ENCLV = 163;
+    public static final int X86_INS_ENDBR32 = 164;
+    public static final int X86_INS_ENDBR64 = 165;
+    public static final int X86_INS_ENTER = 166;
+    public static final int X86_INS_EXTRACTPS = 167;
+    public static final int X86_INS_EXTRQ = 168;
+    public static final int X86_INS_F2XM1 = 169;
+    public static final int X86_INS_LCALL = 170;
+    public static final int X86_INS_LJMP = 171;
+    public static final int X86_INS_JMP = 172;
+    public static final int X86_INS_FBLD = 173;
+    public static final int X86_INS_FBSTP = 174;
+    public static final int X86_INS_FCOMPP = 175;
+    public static final int X86_INS_FDECSTP = 176;
+    public static final int X86_INS_FDISI8087_NOP = 177;
+    public static final int X86_INS_FEMMS = 178;
+    public static final int X86_INS_FENI8087_NOP = 179;
+    public static final int X86_INS_FFREE = 180;
+    public static final int X86_INS_FFREEP = 181;
+    public static final int X86_INS_FICOM = 182;
+    public static final int X86_INS_FICOMP = 183;
+    public static final int X86_INS_FINCSTP = 184;
+    public static final int X86_INS_FLDCW = 185;
+    public static final int X86_INS_FLDENV = 186;
+    public static final int X86_INS_FLDL2E = 187;
+    public static final int X86_INS_FLDL2T = 188;
+    public static final int X86_INS_FLDLG2 = 189;
+    public static final int X86_INS_FLDLN2 = 190;
+    public static final int X86_INS_FLDPI = 191;
+    public static final int X86_INS_FNCLEX = 192;
+    public static final int X86_INS_FNINIT = 193;
+    public static final int X86_INS_FNOP = 194;
+    public static final int X86_INS_FNSTCW = 195;
+    public static final int X86_INS_FNSTSW = 196;
+    public static final int X86_INS_FPATAN = 197;
+    public static final int X86_INS_FSTPNCE = 198;
+    public static final int X86_INS_FPREM = 199;
+    public static final int X86_INS_FPREM1 = 200;
+    public static final int X86_INS_FPTAN = 201;
+    public static final int X86_INS_FRNDINT = 202;
+    public static final int X86_INS_FRSTOR = 203;
+    public static final int X86_INS_FNSAVE = 204;
+    public static final int X86_INS_FSCALE = 205;
+    public static final int X86_INS_FSETPM = 206;
+    public static final int X86_INS_FSINCOS = 207;
+    public static final int X86_INS_FNSTENV = 208;
+    public static final int X86_INS_FXAM = 209;
+    public static final int X86_INS_FXRSTOR = 210;
+    public static final int X86_INS_FXRSTOR64 = 211;
+    public static final int X86_INS_FXSAVE = 212;
+    public static final int X86_INS_FXSAVE64 = 213;
+    public static final int X86_INS_FXTRACT = 214;
+    public static final int X86_INS_FYL2X = 215;
+    public static final int X86_INS_FYL2XP1 = 216;
+    public static final int X86_INS_GETSEC = 217;
+    public static final int X86_INS_GF2P8AFFINEINVQB = 218;
+    public static final int X86_INS_GF2P8AFFINEQB = 219;
+    public static final int X86_INS_GF2P8MULB = 220;
+    public static final int X86_INS_HADDPD = 221;
+    public static final int X86_INS_HADDPS = 222;
+    public static final int X86_INS_HLT = 223;
+    public static final int X86_INS_HSUBPD = 224;
+    public static final int X86_INS_HSUBPS = 225;
+    public static final int X86_INS_IDIV = 226;
+    public static final int X86_INS_FILD = 227;
+    public static final int X86_INS_IMUL = 228;
+    public static final int X86_INS_IN = 229;
+    public static final int X86_INS_INC = 230;
+    public static final int X86_INS_INCSSPD = 231;
+    public static final int X86_INS_INCSSPQ = 232;
+    public static final int X86_INS_INSB = 233;
+    public static final int X86_INS_INSERTPS = 234;
+    public static final int X86_INS_INSERTQ = 235;
+    public static final int X86_INS_INSD = 236;
+    public static final int X86_INS_INSW = 237;
+    public static final int X86_INS_INT = 238;
+    public static final int X86_INS_INT1 = 239;
+    public static final int X86_INS_INT3 = 240;
+    public static final int X86_INS_INTO = 241;
+    public static final int X86_INS_INVD = 242;
+    public static final int X86_INS_INVEPT = 243;
+    public static final int X86_INS_INVLPG = 244;
+    public static final int X86_INS_INVLPGA = 245;
+    public static final int X86_INS_INVPCID = 246;
+    public static final int X86_INS_INVVPID = 247;
+    public static final int X86_INS_IRET = 248;
+    public static final int X86_INS_IRETD = 249;
+    public static final int X86_INS_IRETQ = 250;
+    public static final int X86_INS_FISTTP = 251;
+    public static final int X86_INS_FIST = 252;
+    public static final int X86_INS_FISTP = 253;
+    public static final int X86_INS_JAE = 254;
+    public static final int X86_INS_JA = 255;
+    public static final int X86_INS_JBE = 256;
+    public static final int X86_INS_JB = 257;
+    public static final int X86_INS_JCXZ = 258;
+    public static final int X86_INS_JECXZ = 259;
+    public static final int X86_INS_JE = 260;
+    public static final int X86_INS_JGE = 261;
+    public static final int X86_INS_JG = 262;
+    public static final int X86_INS_JLE = 263;
+    public static final int X86_INS_JL = 264;
+    public static final int X86_INS_JNE = 265;
+    public static final int X86_INS_JNO = 266;
+    public static final int X86_INS_JNP = 267;
+    public static final int X86_INS_JNS = 268;
+    public static final int X86_INS_JO = 269;
+    public static final int X86_INS_JP = 270;
+    public static final int X86_INS_JRCXZ = 271;
+    public static final int X86_INS_JS = 272;
+    public static final int X86_INS_KADDB = 273;
+    public static final int X86_INS_KADDD = 274;
+    public static final int X86_INS_KADDQ = 275;
+    public static final int X86_INS_KADDW = 276;
+    public static final int X86_INS_KANDB = 277;
+    public static final int X86_INS_KANDD = 278;
+    public static final int X86_INS_KANDNB = 279;
+    public static final int X86_INS_KANDND = 280;
+    public static final int X86_INS_KANDNQ = 281;
+    public static final int X86_INS_KANDNW = 282;
+    public static final int X86_INS_KANDQ = 283;
+    public static final int X86_INS_KANDW = 284;
+    public static final int X86_INS_KMOVB = 285;
+    public static final int X86_INS_KMOVD = 286;
+    public static final int X86_INS_KMOVQ = 287;
+    public static final int X86_INS_KMOVW = 288;
+    public static final int X86_INS_KNOTB = 289;
+    public static final int X86_INS_KNOTD = 290;
+    public static final int X86_INS_KNOTQ = 291;
+    public static final int X86_INS_KNOTW = 292;
+    public static final int X86_INS_KORB = 293;
+    public static final int X86_INS_KORD = 294;
+    public static final int X86_INS_KORQ = 295;
+    public static final int X86_INS_KORTESTB = 296;
+    public static final int X86_INS_KORTESTD = 297;
+    public static final int X86_INS_KORTESTQ = 298;
+    public static final int X86_INS_KORTESTW = 299;
+    public static final int X86_INS_KORW = 300;
+    public static final int X86_INS_KSHIFTLB = 301;
+    public static final int X86_INS_KSHIFTLD = 302;
+    public static final int X86_INS_KSHIFTLQ = 303;
+    public static final int X86_INS_KSHIFTLW = 304;
+    public static final int X86_INS_KSHIFTRB = 305;
+    public static final int X86_INS_KSHIFTRD = 306;
+    public static final int X86_INS_KSHIFTRQ = 307;
+    public static final int X86_INS_KSHIFTRW = 308;
+    public static final int X86_INS_KTESTB = 309;
+    public static final int X86_INS_KTESTD = 310;
+    public static final int X86_INS_KTESTQ = 311;
+    public static final int X86_INS_KTESTW = 312;
+    public static final int X86_INS_KUNPCKBW = 313;
+    public static final int X86_INS_KUNPCKDQ = 314;
+    public static final int X86_INS_KUNPCKWD = 315;
+    public static final int X86_INS_KXNORB = 316;
+    public static final int X86_INS_KXNORD = 317;
+    public static final int X86_INS_KXNORQ = 318;
+    public static final int X86_INS_KXNORW = 319;
+    public static final int X86_INS_KXORB = 320;
+    public static final int X86_INS_KXORD = 321;
+    public static final int X86_INS_KXORQ = 322;
+    public static final int X86_INS_KXORW = 323;
+    public static final int X86_INS_LAHF = 324;
+    public static final int X86_INS_LAR = 325;
+    public static final int X86_INS_LDDQU = 326;
+    public static final int X86_INS_LDMXCSR = 327;
+    public static final int X86_INS_LDS = 328;
+    public static final int X86_INS_FLDZ = 329;
+    public static final int X86_INS_FLD1 = 330;
+    public static final int X86_INS_FLD = 331;
+    public static final int X86_INS_LEA = 332;
+    public static final int X86_INS_LEAVE = 333;
+    public static final int X86_INS_LES = 334;
+    public static final int X86_INS_LFENCE = 335;
+    public static final int X86_INS_LFS = 336;
+    public static final int X86_INS_LGDT = 337;
+    public static final int X86_INS_LGS = 338;
+    public static final int X86_INS_LIDT = 339;
+    public static final int X86_INS_LLDT = 340;
+    public static final int X86_INS_LLWPCB = 341;
+    public static final int X86_INS_LMSW = 342;
+    public static final int X86_INS_LOCK = 343;
+    public static final int X86_INS_LODSB = 344;
+    public static final int X86_INS_LODSD = 345;
+    public static final int X86_INS_LODSQ = 346;
+    public static final int X86_INS_LODSW = 347;
+    public static final int X86_INS_LOOP = 348;
+    public static final int X86_INS_LOOPE = 349;
+    public static final int X86_INS_LOOPNE = 350;
+    public static final int X86_INS_RETF = 351;
+    public static final int X86_INS_RETFQ = 352;
+    public static final int X86_INS_LSL = 353;
+    public static final int X86_INS_LSS = 354;
+    public static final int X86_INS_LTR = 355;
+    public static final int X86_INS_LWPINS = 356;
+    public static final int X86_INS_LWPVAL = 357;
+    public static final int X86_INS_LZCNT = 358;
+    public static final int X86_INS_MASKMOVDQU = 359;
+    public static final int X86_INS_MAXPD = 360;
+    public static final int X86_INS_MAXPS = 361;
+    public static final int X86_INS_MAXSD = 362;
+    public static final int X86_INS_MAXSS = 363;
+    public static final int X86_INS_MFENCE = 364;
+    public static final int X86_INS_MINPD = 365;
+    public static final int X86_INS_MINPS = 366;
+    public static final int X86_INS_MINSD = 367;
+    public static final int X86_INS_MINSS = 368;
+    public static final int X86_INS_CVTPD2PI = 369;
+    public static final int X86_INS_CVTPI2PD = 370;
+    public static final int X86_INS_CVTPI2PS = 371;
+    public static final int X86_INS_CVTPS2PI = 372;
+    public static final int X86_INS_CVTTPD2PI = 373;
+    public static final int X86_INS_CVTTPS2PI = 374;
+    public static final int X86_INS_EMMS = 375;
+    public static final int X86_INS_MASKMOVQ = 376;
+    public static final int X86_INS_MOVD = 377;
+    public static final int X86_INS_MOVQ = 378;
+    public static final int X86_INS_MOVDQ2Q = 379;
+    public static final int X86_INS_MOVNTQ = 380;
+    public static final int X86_INS_MOVQ2DQ = 381;
+    public static final int X86_INS_PABSB = 382;
+    public static final int X86_INS_PABSD = 383;
+    public static final int X86_INS_PABSW = 384;
+    public static final int X86_INS_PACKSSDW = 385;
+    public static final int X86_INS_PACKSSWB = 386;
+    public static final int X86_INS_PACKUSWB = 387;
+    public static final int X86_INS_PADDB = 388;
+    public static final int X86_INS_PADDD = 389;
+    public static final int X86_INS_PADDQ = 390;
+    public static final int X86_INS_PADDSB = 391;
+    public static final int X86_INS_PADDSW = 392;
+    public static final int X86_INS_PADDUSB = 393;
+    public static final int X86_INS_PADDUSW = 394;
+    public static final int X86_INS_PADDW = 395;
+    public static final int X86_INS_PALIGNR = 396;
+    public static final int X86_INS_PANDN = 397;
+    public static final int X86_INS_PAND = 398;
+    public static final int X86_INS_PAVGB = 399;
+    public static final int X86_INS_PAVGW = 400;
+    public static final int X86_INS_PCMPEQB = 401;
+    public static final int X86_INS_PCMPEQD = 402;
+    public static final int X86_INS_PCMPEQW = 403;
+    public static final int X86_INS_PCMPGTB = 404;
+    public static final int X86_INS_PCMPGTD = 405;
+    public static final int X86_INS_PCMPGTW = 406;
+    public static final int X86_INS_PEXTRW = 407;
+    public static final int X86_INS_PHADDD = 408;
+    public static final int X86_INS_PHADDSW = 409;
+    public static final int X86_INS_PHADDW = 410;
+    public static final int X86_INS_PHSUBD = 411;
+    public static final int X86_INS_PHSUBSW = 412;
+    public static final int X86_INS_PHSUBW = 413;
+    public static final int X86_INS_PINSRW = 414;
+    public static final int X86_INS_PMADDUBSW = 415;
+    public static final int X86_INS_PMADDWD = 416;
+    public static final int X86_INS_PMAXSW = 417;
+    public static final int X86_INS_PMAXUB = 418;
+    public static final int X86_INS_PMINSW = 419;
+    public static final int X86_INS_PMINUB = 420;
+    public static final int X86_INS_PMOVMSKB = 421;
+    public static final int X86_INS_PMULHRSW = 422;
+    public static final int X86_INS_PMULHUW = 423;
+    public static final int X86_INS_PMULHW = 424;
+    public static final int X86_INS_PMULLW = 425;
+    public static final int X86_INS_PMULUDQ = 426;
+    public static final int X86_INS_POR = 427;
+    public static final int X86_INS_PSADBW = 428;
+    public static final int X86_INS_PSHUFB = 429;
+    public static final int X86_INS_PSHUFW = 430;
+    public static final int X86_INS_PSIGNB = 431;
+    public static final int X86_INS_PSIGND = 432;
+    public static final int X86_INS_PSIGNW = 433;
+    public static final int X86_INS_PSLLD = 434;
+    public static final int X86_INS_PSLLQ = 435;
+    public static final int X86_INS_PSLLW = 436;
+    public static final int X86_INS_PSRAD = 437;
+    public static final int X86_INS_PSRAW = 438;
+    public static final int X86_INS_PSRLD = 439;
+    public static final int X86_INS_PSRLQ = 440;
+    public static final int X86_INS_PSRLW = 441;
+    public static final int X86_INS_PSUBB = 442;
+    public static final int X86_INS_PSUBD = 443;
+    public static final int X86_INS_PSUBQ = 444;
+    public static final int X86_INS_PSUBSB = 445;
+    public static final int X86_INS_PSUBSW = 446;
+    public static final int X86_INS_PSUBUSB = 447;
+    public static final int X86_INS_PSUBUSW = 448;
+    public static final int X86_INS_PSUBW = 449;
+    public static final int X86_INS_PUNPCKHBW = 450;
+    public static final int X86_INS_PUNPCKHDQ = 451;
+    public static final int X86_INS_PUNPCKHWD = 452;
+    public static final int X86_INS_PUNPCKLBW = 453;
+    public static final int X86_INS_PUNPCKLDQ = 454;
+    public static final int X86_INS_PUNPCKLWD = 455;
+    public static final int X86_INS_PXOR = 456;
+    public static final int X86_INS_MONITORX = 457;
+    public static final int X86_INS_MONITOR = 458;
+    public static final int X86_INS_MONTMUL = 459;
+    public static final int X86_INS_MOV = 460;
+    public static final int X86_INS_MOVABS = 461;
+    public static final int X86_INS_MOVAPD = 462;
+    public static final int X86_INS_MOVAPS = 463;
+    public static final int X86_INS_MOVBE = 464;
+    public static final int X86_INS_MOVDDUP = 465;
+    public static final int X86_INS_MOVDIR64B = 466;
+    public static final int X86_INS_MOVDIRI = 467;
+    public static final int X86_INS_MOVDQA = 468;
+    public static final int X86_INS_MOVDQU = 469;
+    public static final int X86_INS_MOVHLPS = 470;
+    public static final int X86_INS_MOVHPD = 471;
+    public static final int X86_INS_MOVHPS = 472;
+    public static final int X86_INS_MOVLHPS = 473;
+    public static final int X86_INS_MOVLPD = 474;
+    public static final int X86_INS_MOVLPS = 475;
+    public static final int X86_INS_MOVMSKPD = 476;
+    public static final int X86_INS_MOVMSKPS = 477;
+    public static final int X86_INS_MOVNTDQA = 478;
+    public static final int X86_INS_MOVNTDQ = 479;
+    public static final int X86_INS_MOVNTI = 480;
+    public static final int X86_INS_MOVNTPD = 481;
+    public static final int X86_INS_MOVNTPS = 482;
+    public static final int X86_INS_MOVNTSD = 483;
+    public static final int X86_INS_MOVNTSS = 484;
+    public static final int X86_INS_MOVSB = 485;
+    public static final int X86_INS_MOVSD = 486;
+    public static final int X86_INS_MOVSHDUP = 487;
+    public static final int X86_INS_MOVSLDUP = 488;
+    public static final int X86_INS_MOVSQ = 489;
+    public static final int X86_INS_MOVSS = 490;
+    public static final int X86_INS_MOVSW = 491;
+    public static final int X86_INS_MOVSX = 492;
+    public static final int X86_INS_MOVSXD = 493;
+    public static final int X86_INS_MOVUPD = 494;
+    public static final int X86_INS_MOVUPS = 495;
+    public static final int X86_INS_MOVZX = 496;
+    public static final int X86_INS_MPSADBW = 497;
+    public static final int X86_INS_MUL = 498;
+    public static final int X86_INS_MULPD = 499;
+    public static final int X86_INS_MULPS = 500;
+    public static final int X86_INS_MULSD = 501;
+    public static final int X86_INS_MULSS = 502;
+    public static final int X86_INS_MULX = 503;
+    public static final int X86_INS_FMUL = 504;
+    public static final int X86_INS_FIMUL = 505;
+    public static final int X86_INS_FMULP = 506;
+    public static final int X86_INS_MWAITX = 507;
+    public static final int X86_INS_MWAIT = 508;
+    public static final int X86_INS_NEG = 509;
+    public static final int X86_INS_NOP = 510;
+    public static final int X86_INS_NOT = 511;
+    public static final int X86_INS_OR = 512;
+    public static final int X86_INS_ORPD = 513;
+    public static final int X86_INS_ORPS = 514;
+    public static final int X86_INS_OUT = 515;
+    public static final int X86_INS_OUTSB = 516;
+    public static final int X86_INS_OUTSD = 517;
+    public static final int X86_INS_OUTSW = 518;
+    public static final int X86_INS_PACKUSDW = 519;
+    public static final int X86_INS_PAUSE = 520;
+    public static final int X86_INS_PAVGUSB = 521;
+    public static final int X86_INS_PBLENDVB = 522;
+    public static final int X86_INS_PBLENDW = 523;
+    public static final int X86_INS_PCLMULQDQ = 524;
+    public static final int X86_INS_PCMPEQQ = 525;
+    public static final int X86_INS_PCMPESTRI = 526;
+    public static final int X86_INS_PCMPESTRM = 527;
+    public static final int X86_INS_PCMPGTQ = 528;
+    public static final int X86_INS_PCMPISTRI = 529;
+    public static final int X86_INS_PCMPISTRM = 530;
+    public static final int X86_INS_PCONFIG = 531;
+    public static final int X86_INS_PDEP = 532;
+    public static final int X86_INS_PEXT = 533;
+    public static final int X86_INS_PEXTRB = 534;
+    public static final int X86_INS_PEXTRD = 535;
+    public static final int X86_INS_PEXTRQ = 536;
+    public static final int X86_INS_PF2ID = 537;
+    public static final int X86_INS_PF2IW = 538;
+    public static final int X86_INS_PFACC = 539;
+    public static final int X86_INS_PFADD = 540;
+    public static final int X86_INS_PFCMPEQ = 541;
+    public static final int X86_INS_PFCMPGE = 542;
+    public static final int X86_INS_PFCMPGT = 543;
+    public static final int X86_INS_PFMAX = 544;
+    public static final int X86_INS_PFMIN = 545;
+    public static final int X86_INS_PFMUL = 546;
+    public static final int X86_INS_PFNACC = 547;
+    public static final int X86_INS_PFPNACC = 548;
+    public static final int X86_INS_PFRCPIT1 = 549;
+    public static final int X86_INS_PFRCPIT2 = 550;
+    public static final int X86_INS_PFRCP = 551;
+    public static final int X86_INS_PFRSQIT1 = 552;
+    public static final int X86_INS_PFRSQRT = 553;
+    public static final int X86_INS_PFSUBR = 554;
+    public static final int X86_INS_PFSUB = 555;
+    public static final int X86_INS_PHMINPOSUW = 556;
+    public static final int X86_INS_PI2FD = 557;
+    public static final int X86_INS_PI2FW = 558;
+    public static final int X86_INS_PINSRB = 559;
+    public static final int X86_INS_PINSRD = 560;
+    public static final int X86_INS_PINSRQ = 561;
+    public static final int X86_INS_PMAXSB = 562;
+    public static final int X86_INS_PMAXSD = 563;
+    public static final int X86_INS_PMAXUD = 564;
+    public static final int X86_INS_PMAXUW = 565;
+    public static final int X86_INS_PMINSB = 566;
+    public static final int X86_INS_PMINSD = 567;
+    public static final int X86_INS_PMINUD = 568;
+    public static final int X86_INS_PMINUW = 569;
+    public static final int X86_INS_PMOVSXBD = 570;
+    public static final int X86_INS_PMOVSXBQ = 571;
+    public static final int X86_INS_PMOVSXBW = 572;
+    public static final int X86_INS_PMOVSXDQ = 573;
+    public static final int X86_INS_PMOVSXWD = 574;
+    public static final int X86_INS_PMOVSXWQ = 575;
+    public static final int X86_INS_PMOVZXBD = 576;
+    public static final int X86_INS_PMOVZXBQ = 577;
+    public static final int X86_INS_PMOVZXBW = 578;
+    public static final int X86_INS_PMOVZXDQ = 579;
+    public static final int X86_INS_PMOVZXWD = 580;
+    public static final int X86_INS_PMOVZXWQ = 581;
+    public static final int X86_INS_PMULDQ = 582;
+    public static final int X86_INS_PMULHRW = 583;
+    public static final int X86_INS_PMULLD = 584;
+    public static final int X86_INS_POP = 585;
+    public static final int X86_INS_POPAW = 586;
+    public static final int X86_INS_POPAL = 587;
+    public static final int X86_INS_POPCNT = 588;
+    public static final int X86_INS_POPF = 589;
+    public static final int X86_INS_POPFD = 590;
+    public static final int X86_INS_POPFQ = 591;
+    public static final int X86_INS_PREFETCH = 592;
+    public static final int X86_INS_PREFETCHNTA = 593;
+    public static final int X86_INS_PREFETCHT0 = 594;
+    public static final int X86_INS_PREFETCHT1 = 595;
+    public static final int X86_INS_PREFETCHT2 = 596;
+    public static final int X86_INS_PREFETCHW = 597;
+    public static final int X86_INS_PREFETCHWT1 = 598;
+    public static final int X86_INS_PSHUFD = 599;
+    public static final int X86_INS_PSHUFHW = 600;
+    public static final int X86_INS_PSHUFLW = 601;
+    public static final int X86_INS_PSLLDQ = 602;
+    public static final int X86_INS_PSRLDQ = 603;
+    public static final int X86_INS_PSWAPD = 604;
+    public static final int X86_INS_PTEST = 605;
+    public static final int X86_INS_PTWRITE = 606;
+    public static final int X86_INS_PUNPCKHQDQ = 607;
+    public static final int X86_INS_PUNPCKLQDQ = 608;
+    public static final int X86_INS_PUSH = 609;
+    public static final int X86_INS_PUSHAW = 610;
+    public static final int X86_INS_PUSHAL = 611;
+    public static final int X86_INS_PUSHF = 612;
+    public static final int X86_INS_PUSHFD = 613;
+    public static final int X86_INS_PUSHFQ = 614;
+    public static final int X86_INS_RCL = 615;
+    public static final int X86_INS_RCPPS = 616;
+    public static final int X86_INS_RCPSS = 617;
+    public static final int X86_INS_RCR = 618;
+    public static final int X86_INS_RDFSBASE = 619;
+    public static final int X86_INS_RDGSBASE = 620;
+    public static final int X86_INS_RDMSR = 621;
+    public static final int X86_INS_RDPID = 622;
+    public static final int X86_INS_RDPKRU = 623;
+    public static final int X86_INS_RDPMC = 624;
+    public static final int X86_INS_RDRAND = 625;
+    public static final int X86_INS_RDSEED = 626;
+    public static final int X86_INS_RDSSPD = 627;
+    public static final int X86_INS_RDSSPQ = 628;
+    public static final int X86_INS_RDTSC = 629;
+    public static final int X86_INS_RDTSCP = 630;
+    public static final int X86_INS_REPNE = 631;
+    public static final int X86_INS_REP = 632;
+    public static final int X86_INS_RET = 633;
+    public static final int X86_INS_REX64 = 634;
+    public static final int X86_INS_ROL = 635;
+    public static final int X86_INS_ROR = 636;
+    public static final int X86_INS_RORX = 637;
+    public static final int X86_INS_ROUNDPD = 638;
+    public static final int X86_INS_ROUNDPS = 639;
+    public static final int X86_INS_ROUNDSD = 640;
+    public static final int X86_INS_ROUNDSS = 641;
+    public static final int X86_INS_RSM = 642;
+    public static final int X86_INS_RSQRTPS = 643;
+    public static final int X86_INS_RSQRTSS = 644;
+    public static final int X86_INS_RSTORSSP = 645;
+    public static final int X86_INS_SAHF = 646;
+    public static final int X86_INS_SAL = 647;
+    public static final int X86_INS_SALC = 648;
+    public static final int X86_INS_SAR = 649;
+    public static final int X86_INS_SARX = 650;
+    public static final int X86_INS_SAVEPREVSSP = 651;
+    public static final int X86_INS_SBB = 652;
+    public static final int X86_INS_SCASB = 653;
+    public static final int X86_INS_SCASD = 654;
+    public static final int X86_INS_SCASQ = 655;
+    public static final int X86_INS_SCASW = 656;
+    public static final int X86_INS_SETAE = 657;
+    public static final int X86_INS_SETA = 658;
+    public static final int X86_INS_SETBE = 659;
+    public static final int X86_INS_SETB = 660;
+    public static final int X86_INS_SETE = 661;
+    public static final int X86_INS_SETGE = 662;
+    public static final int X86_INS_SETG = 663;
+    public static final int X86_INS_SETLE = 664;
+    public static final int X86_INS_SETL = 665;
+    public static final int X86_INS_SETNE = 666;
+    public static final int X86_INS_SETNO = 667;
+    public static final int X86_INS_SETNP = 668;
+    public static final int X86_INS_SETNS = 669;
+    public static final int X86_INS_SETO = 670;
+    public static final int X86_INS_SETP = 671;
+    public static final int X86_INS_SETSSBSY = 672;
+    public static final int X86_INS_SETS = 673;
+    public static final int X86_INS_SFENCE = 674;
+    public static final int X86_INS_SGDT = 675;
+    public static final int X86_INS_SHA1MSG1 = 676;
+    public static final int X86_INS_SHA1MSG2 = 677;
+    public static final int X86_INS_SHA1NEXTE = 678;
+    public static final int X86_INS_SHA1RNDS4 = 679;
+    public static final int X86_INS_SHA256MSG1 = 680;
+    public static final int X86_INS_SHA256MSG2 = 681;
+    public static final int X86_INS_SHA256RNDS2 = 682;
+    public static final int X86_INS_SHL = 683;
+    public static final int X86_INS_SHLD = 684;
+    public static final int X86_INS_SHLX = 685;
+    public static final int X86_INS_SHR = 686;
+    public static final int X86_INS_SHRD = 687;
+    public static final int X86_INS_SHRX = 688;
+    public static final int X86_INS_SHUFPD = 689;
+    public static final int X86_INS_SHUFPS = 690;
+    public static final int X86_INS_SIDT = 691;
+    public static final int X86_INS_FSIN = 692;
+    public static final int X86_INS_SKINIT = 693;
+    public static final int X86_INS_SLDT = 694;
+    public static final int X86_INS_SLWPCB = 695;
+    public static final int X86_INS_SMSW = 696;
+    public static final int X86_INS_SQRTPD = 697;
+    public static final int X86_INS_SQRTPS = 698;
+    public static final int X86_INS_SQRTSD = 699;
+    public static final int X86_INS_SQRTSS = 700;
+    public static final int X86_INS_FSQRT = 701;
+    public static final int X86_INS_STAC = 702;
+    public static final int X86_INS_STC = 703;
+    public static final int X86_INS_STD = 704;
+    public static final int X86_INS_STGI = 705;
+    public static final int X86_INS_STI = 706;
+    public static final int X86_INS_STMXCSR = 707;
+    public static final int X86_INS_STOSB = 708;
+    public static final int X86_INS_STOSD = 709;
+    public static final int X86_INS_STOSQ = 710;
+    public static final int X86_INS_STOSW = 711;
+    public static final int X86_INS_STR = 712;
+    public static final int X86_INS_FST = 713;
+    public static final int X86_INS_FSTP = 714;
+    public static final int X86_INS_SUB = 715;
+    public static final int X86_INS_SUBPD = 716;
+    public static final int X86_INS_SUBPS = 717;
+    public static final int X86_INS_FSUBR = 718;
+    public static final int X86_INS_FISUBR = 719;
+    public static final int X86_INS_FSUBRP = 720;
+    public static final int X86_INS_SUBSD = 721;
+    public static final int X86_INS_SUBSS = 722;
+    public static final int X86_INS_FSUB = 723;
+    public static final int X86_INS_FISUB = 724;
+    public static final int X86_INS_FSUBP = 725;
+    public static final int X86_INS_SWAPGS = 726;
+    public static final int X86_INS_SYSCALL = 727;
+    public static final int X86_INS_SYSENTER = 728;
+    public static final int X86_INS_SYSEXIT = 729;
+    public static final int X86_INS_SYSEXITQ = 730;
+    public static final int X86_INS_SYSRET = 731;
+    public static final int X86_INS_SYSRETQ = 732;
+    public static final int X86_INS_T1MSKC = 733;
+    public static final int X86_INS_TEST = 734;
+    public static final int X86_INS_TPAUSE = 735;
+    public static final int X86_INS_FTST = 736;
+    public static final int X86_INS_TZCNT = 737;
+    public static final int X86_INS_TZMSK = 738;
+    public static final int X86_INS_UCOMISD = 739;
+    public static final int X86_INS_UCOMISS = 740;
+    public static final int X86_INS_FUCOMPI = 741;
+    public static final int X86_INS_FUCOMI = 742;
+    public static final int X86_INS_FUCOMPP = 743;
+    public static final int X86_INS_FUCOMP = 744;
+    public static final int X86_INS_FUCOM = 745;
+    public static final int X86_INS_UD0 = 746;
+    public static final int X86_INS_UD1 = 747;
+    public static final int X86_INS_UD2 = 748;
+    public static final int X86_INS_UMONITOR = 749;
+    public static final int X86_INS_UMWAIT = 750;
+    public static final int X86_INS_UNPCKHPD = 751;
+    public static final int X86_INS_UNPCKHPS = 752;
+    public static final int X86_INS_UNPCKLPD = 753;
+    public static final int X86_INS_UNPCKLPS = 754;
+    public static final int X86_INS_V4FMADDPS = 755;
+    public static final int X86_INS_V4FMADDSS = 756;
+    public static final int X86_INS_V4FNMADDPS = 757;
+    public static final int X86_INS_V4FNMADDSS = 758;
+    public static final int X86_INS_VADDPD = 759;
+    public static final int X86_INS_VADDPS = 760;
+    public static final int X86_INS_VADDSD = 761;
+    public static final int X86_INS_VADDSS = 762;
+    public static final int X86_INS_VADDSUBPD = 763;
+    public static final int X86_INS_VADDSUBPS = 764;
+    public static final int X86_INS_VAESDECLAST = 765;
+    public static final int X86_INS_VAESDEC = 766;
+    public static final int X86_INS_VAESENCLAST = 767;
+    public static final int X86_INS_VAESENC = 768;
+    public static final int X86_INS_VAESIMC = 769;
+    public static final int X86_INS_VAESKEYGENASSIST = 770;
+    public static final int X86_INS_VALIGND = 771;
+    public static final int X86_INS_VALIGNQ = 772;
+    public static final int X86_INS_VANDNPD = 773;
+    public static final int X86_INS_VANDNPS = 774;
+    public static final int X86_INS_VANDPD = 775;
+    public static final int X86_INS_VANDPS = 776;
+    public static final int X86_INS_VBLENDMPD = 777;
+    public static final int X86_INS_VBLENDMPS = 778;
+    public static final int X86_INS_VBLENDPD = 779;
+    public static final int X86_INS_VBLENDPS = 780;
+    public static final int X86_INS_VBLENDVPD = 781;
+    public static final int X86_INS_VBLENDVPS = 782;
+    public static final int X86_INS_VBROADCASTF128 = 783;
+    public static final int X86_INS_VBROADCASTF32X2 = 784;
+    public static final int X86_INS_VBROADCASTF32X4 = 785;
+    public static final int X86_INS_VBROADCASTF32X8 = 786;
+    public static final int X86_INS_VBROADCASTF64X2 = 787;
+    public static final int X86_INS_VBROADCASTF64X4 = 788;
+    public static final int X86_INS_VBROADCASTI128 = 789;
+    public static final int X86_INS_VBROADCASTI32X2 = 790;
+    public static final int X86_INS_VBROADCASTI32X4 = 791;
+    public static final int X86_INS_VBROADCASTI32X8 = 792;
+    public static final int X86_INS_VBROADCASTI64X2 = 793;
+    public static final int X86_INS_VBROADCASTI64X4 = 794;
+    public static final int X86_INS_VBROADCASTSD = 795;
+    public static final int X86_INS_VBROADCASTSS = 796;
+    public static final int X86_INS_VCMP = 797;
+    public static final int X86_INS_VCMPPD = 798;
+    public static final int X86_INS_VCMPPS = 799;
+    public static final int X86_INS_VCMPSD = 800;
+    public static final int X86_INS_VCMPSS = 801;
+    public static final int X86_INS_VCOMISD = 802;
+    public static final int X86_INS_VCOMISS = 803;
+    public static final int X86_INS_VCOMPRESSPD = 804;
+    public static final int X86_INS_VCOMPRESSPS = 805;
+    public static final int X86_INS_VCVTDQ2PD = 806;
+    public static final int X86_INS_VCVTDQ2PS = 807;
+    public static final int X86_INS_VCVTPD2DQ = 808;
+    public static final int X86_INS_VCVTPD2PS = 809;
+    public static final int X86_INS_VCVTPD2QQ = 810;
+    public static final int X86_INS_VCVTPD2UDQ = 811;
+    public static final int X86_INS_VCVTPD2UQQ = 812;
+    public static final int X86_INS_VCVTPH2PS = 813;
+    public static final int X86_INS_VCVTPS2DQ = 814;
+    public static final int X86_INS_VCVTPS2PD = 815;
+    public static final int X86_INS_VCVTPS2PH = 816;
+    public static final int X86_INS_VCVTPS2QQ = 817;
+    public static final int X86_INS_VCVTPS2UDQ = 818;
+    public static final int X86_INS_VCVTPS2UQQ = 819;
+    public static final int X86_INS_VCVTQQ2PD = 820;
+    public static final int X86_INS_VCVTQQ2PS = 821;
+    public static final int X86_INS_VCVTSD2SI = 822;
+    public static final int X86_INS_VCVTSD2SS = 823;
+    public static final int X86_INS_VCVTSD2USI = 824;
+    public static final int X86_INS_VCVTSI2SD = 825;
+    public static final int X86_INS_VCVTSI2SS = 826;
+    public static final int X86_INS_VCVTSS2SD = 827;
+    public static final int X86_INS_VCVTSS2SI = 828;
+    public static final int X86_INS_VCVTSS2USI = 829;
+    public static final int X86_INS_VCVTTPD2DQ = 830;
+    public static final int X86_INS_VCVTTPD2QQ = 831;
+    public static final int X86_INS_VCVTTPD2UDQ = 832;
+    public static final int X86_INS_VCVTTPD2UQQ = 833;
+    public static final int X86_INS_VCVTTPS2DQ = 834;
+    public static final int X86_INS_VCVTTPS2QQ = 835;
+    public static final int X86_INS_VCVTTPS2UDQ = 836;
+    public static final int X86_INS_VCVTTPS2UQQ = 837;
+    public static final int X86_INS_VCVTTSD2SI = 838;
+    public static final int X86_INS_VCVTTSD2USI = 839;
+    public static final int X86_INS_VCVTTSS2SI = 840;
+    public static final int X86_INS_VCVTTSS2USI = 841;
+    public static final int X86_INS_VCVTUDQ2PD = 842;
+    public static final int X86_INS_VCVTUDQ2PS = 843;
+    public static final int X86_INS_VCVTUQQ2PD = 844;
+    public static final int X86_INS_VCVTUQQ2PS = 845;
+    public static final int X86_INS_VCVTUSI2SD = 846;
+    public static final int X86_INS_VCVTUSI2SS = 847;
+    public static final int X86_INS_VDBPSADBW = 848;
+    public static final int X86_INS_VDIVPD = 849;
+    public static final int X86_INS_VDIVPS = 850;
+    public static final int X86_INS_VDIVSD = 851;
+    public static final int X86_INS_VDIVSS = 852;
+    public static final int X86_INS_VDPPD = 853;
+    public static final int X86_INS_VDPPS = 854;
+    public static final int X86_INS_VERR = 855;
+    public static final int X86_INS_VERW = 856;
+    public static final int X86_INS_VEXP2PD = 857;
+    public static final int X86_INS_VEXP2PS = 858;
+    public static final int X86_INS_VEXPANDPD = 859;
+    public static final int X86_INS_VEXPANDPS = 860;
+    public static final int X86_INS_VEXTRACTF128 = 861;
+    public static final int X86_INS_VEXTRACTF32X4 = 862;
+    public static final int X86_INS_VEXTRACTF32X8 = 863;
+    public static final int X86_INS_VEXTRACTF64X2 = 864;
+    public static final int X86_INS_VEXTRACTF64X4 = 865;
+    public static final int X86_INS_VEXTRACTI128 = 866;
+    public static final int X86_INS_VEXTRACTI32X4 = 867;
+    public static final int X86_INS_VEXTRACTI32X8 = 868;
+    public static final int X86_INS_VEXTRACTI64X2 = 869;
+    public static final int X86_INS_VEXTRACTI64X4 = 870;
+    public static final int X86_INS_VEXTRACTPS = 871;
+    public static final int X86_INS_VFIXUPIMMPD = 872;
+    public static final int X86_INS_VFIXUPIMMPS = 873;
+    public static final int X86_INS_VFIXUPIMMSD = 874;
+    public static final int X86_INS_VFIXUPIMMSS = 875;
+    public static final int X86_INS_VFMADD132PD = 876;
+    public static final int X86_INS_VFMADD132PS = 877;
+    public static final int X86_INS_VFMADD132SD = 878;
+    public static final int X86_INS_VFMADD132SS = 879;
+    public static final int X86_INS_VFMADD213PD = 880;
+    public static final int X86_INS_VFMADD213PS = 881;
+    public static final int X86_INS_VFMADD213SD = 882;
+    public static final int X86_INS_VFMADD213SS = 883;
+    public static final int X86_INS_VFMADD231PD = 884;
+    public static final int X86_INS_VFMADD231PS = 885;
+    public static final int X86_INS_VFMADD231SD = 886;
+    public static final int X86_INS_VFMADD231SS = 887;
+    public static final int X86_INS_VFMADDPD = 888;
+    public static final int X86_INS_VFMADDPS = 889;
+    public static final int X86_INS_VFMADDSD = 890;
+    public static final int X86_INS_VFMADDSS = 891;
+    public static final int X86_INS_VFMADDSUB132PD = 892;
+    public static final int X86_INS_VFMADDSUB132PS = 893;
+    public static final int X86_INS_VFMADDSUB213PD = 894;
+    public static final int X86_INS_VFMADDSUB213PS = 895;
+    public static final int X86_INS_VFMADDSUB231PD = 896;
+    public static final int X86_INS_VFMADDSUB231PS = 897;
+    public static final int X86_INS_VFMADDSUBPD = 898;
+    public static final int X86_INS_VFMADDSUBPS = 899;
+    public static final int X86_INS_VFMSUB132PD = 900;
+    public static final int X86_INS_VFMSUB132PS = 901;
+    public static final int X86_INS_VFMSUB132SD = 902;
+    public static final int X86_INS_VFMSUB132SS = 903;
+    public static final int X86_INS_VFMSUB213PD = 904;
+    public static final int X86_INS_VFMSUB213PS = 905;
+    public static final int X86_INS_VFMSUB213SD = 906;
+    public static final int X86_INS_VFMSUB213SS = 907;
+    public static final int X86_INS_VFMSUB231PD = 908;
+    public static final int X86_INS_VFMSUB231PS = 909;
+    public static final int X86_INS_VFMSUB231SD = 910;
+    public static final int X86_INS_VFMSUB231SS = 911;
+    public static final int X86_INS_VFMSUBADD132PD = 912;
+    public static final int X86_INS_VFMSUBADD132PS = 913;
+    public static final int X86_INS_VFMSUBADD213PD = 914;
+    public static final int X86_INS_VFMSUBADD213PS = 915;
+    public static final int X86_INS_VFMSUBADD231PD = 916;
+    public static final int X86_INS_VFMSUBADD231PS = 917;
+    public static final int X86_INS_VFMSUBADDPD = 918;
+    public static final int X86_INS_VFMSUBADDPS = 919;
+    public static final int X86_INS_VFMSUBPD = 920;
+    public static final int X86_INS_VFMSUBPS = 921;
+    public static final int X86_INS_VFMSUBSD = 922;
+    public static final int X86_INS_VFMSUBSS = 923;
+    public static final int X86_INS_VFNMADD132PD = 924;
+    public static final int X86_INS_VFNMADD132PS = 925;
+    public static final int X86_INS_VFNMADD132SD = 926;
+    public static final int X86_INS_VFNMADD132SS = 927;
+    public static final int X86_INS_VFNMADD213PD = 928;
+    public static final int X86_INS_VFNMADD213PS = 929;
+    public static final int X86_INS_VFNMADD213SD = 930;
+    public static final int X86_INS_VFNMADD213SS = 931;
+    public static final int X86_INS_VFNMADD231PD = 932;
+    public static final int X86_INS_VFNMADD231PS = 933;
+    public static final int X86_INS_VFNMADD231SD = 934;
+    public static final int X86_INS_VFNMADD231SS = 935;
+    public static final int X86_INS_VFNMADDPD = 936;
+    public static final int X86_INS_VFNMADDPS = 937;
+    public static final int X86_INS_VFNMADDSD = 938;
+    public static final int X86_INS_VFNMADDSS = 939;
+    public static final int X86_INS_VFNMSUB132PD = 940;
+    public static final int X86_INS_VFNMSUB132PS = 941;
+    public static final int X86_INS_VFNMSUB132SD = 942;
+    public static final int X86_INS_VFNMSUB132SS = 943;
+    public static final int X86_INS_VFNMSUB213PD = 944;
+    public static final int X86_INS_VFNMSUB213PS = 945;
+    public static final int X86_INS_VFNMSUB213SD = 946;
+    public static final int X86_INS_VFNMSUB213SS = 947;
+    public static final int X86_INS_VFNMSUB231PD = 948;
+    public static final int X86_INS_VFNMSUB231PS = 949;
+    public static final int X86_INS_VFNMSUB231SD = 950;
+    public static final int X86_INS_VFNMSUB231SS = 951;
+    public static final int X86_INS_VFNMSUBPD = 952;
+    public static final int X86_INS_VFNMSUBPS = 953;
+    public static final int X86_INS_VFNMSUBSD = 954;
+    public static final int X86_INS_VFNMSUBSS = 955;
+    public static final int X86_INS_VFPCLASSPD = 956;
+    public static final int X86_INS_VFPCLASSPS = 957;
+    public static final int X86_INS_VFPCLASSSD = 958;
+    public static final int X86_INS_VFPCLASSSS = 959;
+    public static final int X86_INS_VFRCZPD = 960;
+    public static final int X86_INS_VFRCZPS = 961;
+    public static final int X86_INS_VFRCZSD = 962;
+    public static final int X86_INS_VFRCZSS = 963;
+    public static final int X86_INS_VGATHERDPD = 964;
+    public static final int X86_INS_VGATHERDPS = 965;
+    public static final int X86_INS_VGATHERPF0DPD = 966;
+    public static final int X86_INS_VGATHERPF0DPS = 967;
+    public static final int X86_INS_VGATHERPF0QPD = 968;
+    public static final int X86_INS_VGATHERPF0QPS = 969;
+    public static final int X86_INS_VGATHERPF1DPD = 970;
+    public static final int X86_INS_VGATHERPF1DPS = 971;
+    public static final int X86_INS_VGATHERPF1QPD = 972;
+    public static final int X86_INS_VGATHERPF1QPS = 973;
+    public static final int X86_INS_VGATHERQPD = 974;
+    public static final int X86_INS_VGATHERQPS = 975;
+    public static final int X86_INS_VGETEXPPD = 976;
+    public static final int X86_INS_VGETEXPPS = 977;
+    public static final int X86_INS_VGETEXPSD = 978;
+    public static final int X86_INS_VGETEXPSS = 979;
+    public static final int X86_INS_VGETMANTPD = 980;
+    public static final int X86_INS_VGETMANTPS = 981;
+    public static final int X86_INS_VGETMANTSD = 982;
+    public static final int X86_INS_VGETMANTSS = 983;
+    public static final int X86_INS_VGF2P8AFFINEINVQB = 984;
+    public static final int X86_INS_VGF2P8AFFINEQB = 985;
+    public static final int X86_INS_VGF2P8MULB = 986;
+    public static final int X86_INS_VHADDPD = 987;
+    public static final int X86_INS_VHADDPS = 988;
+    public static final int X86_INS_VHSUBPD = 989;
+    public static final int X86_INS_VHSUBPS = 990;
+    public static final int X86_INS_VINSERTF128 = 991;
+    public static final int X86_INS_VINSERTF32X4 = 992;
+    public static final int X86_INS_VINSERTF32X8 = 993;
+    public static final int X86_INS_VINSERTF64X2 = 994;
+    public static final int X86_INS_VINSERTF64X4 = 995;
+    public static final int X86_INS_VINSERTI128 = 996;
+    public static final int X86_INS_VINSERTI32X4 = 997;
+    public static final int X86_INS_VINSERTI32X8 = 998;
+    public static final int X86_INS_VINSERTI64X2 = 999;
+    public static final int X86_INS_VINSERTI64X4 = 1000;
+    public static final int X86_INS_VINSERTPS = 1001;
+    public static final int X86_INS_VLDDQU = 1002;
+    public static final int X86_INS_VLDMXCSR = 1003;
+    public static final int X86_INS_VMASKMOVDQU = 1004;
+    public static final int X86_INS_VMASKMOVPD = 1005;
+    public static final int X86_INS_VMASKMOVPS = 1006;
+    public static final int X86_INS_VMAXPD = 1007;
+    public static final int X86_INS_VMAXPS = 1008;
+    public static final int X86_INS_VMAXSD = 1009;
+    public static final int X86_INS_VMAXSS = 1010;
+    public static final int X86_INS_VMCALL = 1011;
+    public static final int X86_INS_VMCLEAR = 1012;
+    public static final int X86_INS_VMFUNC = 1013;
+    public static final int X86_INS_VMINPD = 1014;
+    public static final int X86_INS_VMINPS = 1015;
+    public static final int X86_INS_VMINSD = 1016;
+    public static final int X86_INS_VMINSS = 1017;
+    public static final int X86_INS_VMLAUNCH = 1018;
+    public static final int X86_INS_VMLOAD = 1019;
+    public static final int X86_INS_VMMCALL = 1020;
+    public static final int X86_INS_VMOVQ = 1021;
+    public static final int X86_INS_VMOVAPD = 1022;
+    public static final int X86_INS_VMOVAPS = 1023;
+    public static final int X86_INS_VMOVDDUP = 1024;
+    public static final int X86_INS_VMOVD = 1025;
+    public static final int X86_INS_VMOVDQA32 = 1026;
+    public static final int X86_INS_VMOVDQA64 = 1027;
+    public static final int X86_INS_VMOVDQA = 1028;
+    public static final int X86_INS_VMOVDQU16 = 1029;
+    public static final int X86_INS_VMOVDQU32 = 1030;
+    public static final int X86_INS_VMOVDQU64 = 1031;
+    public static final int X86_INS_VMOVDQU8 = 1032;
+    public static final int X86_INS_VMOVDQU = 1033;
+    public static final int X86_INS_VMOVHLPS = 1034;
+    public static final int X86_INS_VMOVHPD = 1035;
+    public static final int X86_INS_VMOVHPS = 1036;
+    public static final int X86_INS_VMOVLHPS = 1037;
+    public static final int X86_INS_VMOVLPD = 1038;
+    public static final int X86_INS_VMOVLPS = 1039;
+    public static final int X86_INS_VMOVMSKPD = 1040;
+    public static final int X86_INS_VMOVMSKPS = 1041;
+    public static final int X86_INS_VMOVNTDQA = 1042;
+    public static final int X86_INS_VMOVNTDQ = 1043;
+    public static final int X86_INS_VMOVNTPD = 1044;
+    public static final int X86_INS_VMOVNTPS = 1045;
+    public static final int X86_INS_VMOVSD = 1046;
+    public static final int X86_INS_VMOVSHDUP = 1047;
+    public static final int X86_INS_VMOVSLDUP = 1048;
+    public static final int X86_INS_VMOVSS = 1049;
+    public static final int X86_INS_VMOVUPD = 1050;
+    public static final int X86_INS_VMOVUPS = 1051;
+    public static final int X86_INS_VMPSADBW = 1052;
+    public static final int X86_INS_VMPTRLD = 1053;
+    public static final int X86_INS_VMPTRST = 1054;
+    public static final int X86_INS_VMREAD = 1055;
+    public static final int X86_INS_VMRESUME = 1056;
+    public static final int X86_INS_VMRUN = 1057;
+    public static final int X86_INS_VMSAVE = 1058;
+    public static final int X86_INS_VMULPD = 1059;
+    public static final int X86_INS_VMULPS = 1060;
+    public static final int X86_INS_VMULSD = 1061;
+    public static final int X86_INS_VMULSS = 1062;
+    public static final int X86_INS_VMWRITE = 1063;
+    public static final int X86_INS_VMXOFF = 1064;
+    public static final int X86_INS_VMXON = 1065;
+    public static final int X86_INS_VORPD = 1066;
+    public static final int X86_INS_VORPS = 1067;
+    public static final int X86_INS_VP4DPWSSDS = 1068;
+    public static final int X86_INS_VP4DPWSSD = 1069;
+    public static final int X86_INS_VPABSB = 1070;
+    public static final int X86_INS_VPABSD = 1071;
+    public static final int X86_INS_VPABSQ = 1072;
+    public static final int X86_INS_VPABSW = 1073;
+    public static final int X86_INS_VPACKSSDW = 1074;
+    public static final int X86_INS_VPACKSSWB = 1075;
+    public static final int X86_INS_VPACKUSDW = 1076;
+    public static final int X86_INS_VPACKUSWB = 1077;
+    public static final int X86_INS_VPADDB = 1078;
+    public static final int X86_INS_VPADDD = 1079;
+    public static final int X86_INS_VPADDQ = 1080;
+    public static final int X86_INS_VPADDSB = 1081;
+    public static final int X86_INS_VPADDSW = 1082;
+    public static final int X86_INS_VPADDUSB = 1083;
+    public static final int X86_INS_VPADDUSW = 1084;
+    public static final int X86_INS_VPADDW = 1085;
+    public static final int X86_INS_VPALIGNR = 1086;
+    public static final int X86_INS_VPANDD = 1087;
+    public static final int X86_INS_VPANDND = 1088;
+    public static final int X86_INS_VPANDNQ = 1089;
+    public static final int X86_INS_VPANDN = 1090;
+    public static final int X86_INS_VPANDQ = 1091;
+    public static final int X86_INS_VPAND = 1092;
+    public static final int X86_INS_VPAVGB = 1093;
+    public static final int X86_INS_VPAVGW = 1094;
+    public static final int X86_INS_VPBLENDD = 1095;
+    public static final int X86_INS_VPBLENDMB = 1096;
+    public static final int X86_INS_VPBLENDMD = 1097;
+    public static final int X86_INS_VPBLENDMQ = 1098;
+    public static final int X86_INS_VPBLENDMW = 1099;
+    public static final int X86_INS_VPBLENDVB = 1100;
+    public static final int X86_INS_VPBLENDW = 1101;
+    public static final int X86_INS_VPBROADCASTB = 1102;
+    public static final int X86_INS_VPBROADCASTD = 1103;
+    public static final int X86_INS_VPBROADCASTMB2Q = 1104;
+    public static final int X86_INS_VPBROADCASTMW2D = 1105;
+    public static final int X86_INS_VPBROADCASTQ = 1106;
+    public static final int X86_INS_VPBROADCASTW = 1107;
+    public static final int X86_INS_VPCLMULQDQ = 1108;
+    public static final int X86_INS_VPCMOV = 1109;
+    public static final int X86_INS_VPCMP = 1110;
+    public static final int X86_INS_VPCMPB = 1111;
+    public static final int X86_INS_VPCMPD = 1112;
+    public static final int X86_INS_VPCMPEQB = 1113;
+    public static final int X86_INS_VPCMPEQD = 1114;
+    public static final int X86_INS_VPCMPEQQ = 1115;
+    public static final int X86_INS_VPCMPEQW = 1116;
+    public static final int X86_INS_VPCMPESTRI = 1117;
+    public static final int X86_INS_VPCMPESTRM = 1118;
+    public static final int X86_INS_VPCMPGTB = 1119;
+    public static final int X86_INS_VPCMPGTD = 1120;
+    public static final int X86_INS_VPCMPGTQ = 1121;
+    public static final int X86_INS_VPCMPGTW = 1122;
+    public static final int X86_INS_VPCMPISTRI = 1123;
+    public static final int X86_INS_VPCMPISTRM = 1124;
+    public static final int X86_INS_VPCMPQ = 1125;
+    public static final int X86_INS_VPCMPUB = 1126;
+    public static final int X86_INS_VPCMPUD = 1127;
+    public static final int X86_INS_VPCMPUQ = 1128;
+    public static final int X86_INS_VPCMPUW = 1129;
+    public static final int X86_INS_VPCMPW = 1130;
+    public static final int X86_INS_VPCOM = 1131;
+    public static final int X86_INS_VPCOMB = 1132;
+    public static final int X86_INS_VPCOMD = 1133;
+    public static final int X86_INS_VPCOMPRESSB = 1134;
+    public static final int X86_INS_VPCOMPRESSD = 1135;
+    public static final int X86_INS_VPCOMPRESSQ = 1136;
+    public static final int X86_INS_VPCOMPRESSW = 1137;
+    public static final int X86_INS_VPCOMQ = 1138;
+    public static final int X86_INS_VPCOMUB = 1139;
+    public static final int X86_INS_VPCOMUD = 1140;
+    public static final int X86_INS_VPCOMUQ = 1141;
+    public static final int X86_INS_VPCOMUW = 1142;
+    public static final int X86_INS_VPCOMW = 1143;
+    public static final int X86_INS_VPCONFLICTD = 1144;
+    public static final int X86_INS_VPCONFLICTQ = 1145;
+    public static final int X86_INS_VPDPBUSDS = 1146;
+    public static final int X86_INS_VPDPBUSD = 1147;
+    public static final int X86_INS_VPDPWSSDS = 1148;
+    public static final int X86_INS_VPDPWSSD = 1149;
+    public static final int X86_INS_VPERM2F128 = 1150;
+    public static final int X86_INS_VPERM2I128 = 1151;
+    public static final int X86_INS_VPERMB = 1152;
+    public static final int X86_INS_VPERMD = 1153;
+    public static final int X86_INS_VPERMI2B = 1154;
+    public static final int X86_INS_VPERMI2D = 1155;
+    public static final int X86_INS_VPERMI2PD = 1156;
+    public static final int X86_INS_VPERMI2PS = 1157;
+    public static final int X86_INS_VPERMI2Q = 1158;
+    public static final int X86_INS_VPERMI2W = 1159;
+    public static final int X86_INS_VPERMIL2PD = 1160;
+    public static final int X86_INS_VPERMILPD = 1161;
+    public static final int X86_INS_VPERMIL2PS = 1162;
+    public static final int X86_INS_VPERMILPS = 1163;
+    public static final int X86_INS_VPERMPD = 1164;
+    public static final int X86_INS_VPERMPS = 1165;
+    public static final int X86_INS_VPERMQ = 1166;
+    public static final int X86_INS_VPERMT2B = 1167;
+    public static final int X86_INS_VPERMT2D = 1168;
+    public static final int X86_INS_VPERMT2PD = 1169;
+    public static final int X86_INS_VPERMT2PS = 1170;
+    public static final int X86_INS_VPERMT2Q = 1171;
+    public static final int X86_INS_VPERMT2W = 1172;
+    public static final int X86_INS_VPERMW = 1173;
+    public static final int X86_INS_VPEXPANDB = 1174;
+    public static final int X86_INS_VPEXPANDD = 1175;
+    public static final int X86_INS_VPEXPANDQ = 1176;
+    public static final int X86_INS_VPEXPANDW = 1177;
+    public static final int X86_INS_VPEXTRB = 1178;
+    public static final int X86_INS_VPEXTRD = 1179;
+    public static final int X86_INS_VPEXTRQ = 1180;
+    public static final int X86_INS_VPEXTRW = 1181;
+    public static final int X86_INS_VPGATHERDD = 1182;
+    public static final int X86_INS_VPGATHERDQ = 1183;
+    public static final int X86_INS_VPGATHERQD = 1184;
+    public static final int X86_INS_VPGATHERQQ = 1185;
+    public static final int X86_INS_VPHADDBD = 1186;
+    public static final int X86_INS_VPHADDBQ = 1187;
+    public static final int X86_INS_VPHADDBW = 1188;
+    public static final int X86_INS_VPHADDDQ = 1189;
+    public static final int X86_INS_VPHADDD = 1190;
+    public static final int X86_INS_VPHADDSW = 1191;
+    public static final int X86_INS_VPHADDUBD = 1192;
+    public static final int X86_INS_VPHADDUBQ = 1193;
+    public static final int X86_INS_VPHADDUBW = 1194;
+    public static final int X86_INS_VPHADDUDQ = 1195;
+    public static final int X86_INS_VPHADDUWD = 1196;
+    public static final int X86_INS_VPHADDUWQ = 1197;
+    public static final int X86_INS_VPHADDWD = 1198;
+    public static final int X86_INS_VPHADDWQ = 1199;
+    public static final int X86_INS_VPHADDW = 1200;
+    public static final int X86_INS_VPHMINPOSUW = 1201;
+    public static final int X86_INS_VPHSUBBW = 1202;
+    public static final int X86_INS_VPHSUBDQ = 1203;
+    public static final int X86_INS_VPHSUBD = 1204;
+    public static final int X86_INS_VPHSUBSW = 1205;
+    public static final int X86_INS_VPHSUBWD = 1206;
+    public static final int X86_INS_VPHSUBW = 1207;
+    public static final int X86_INS_VPINSRB = 1208;
+    public static final int X86_INS_VPINSRD = 1209;
+    public static final int X86_INS_VPINSRQ = 1210;
+    public static final int X86_INS_VPINSRW = 1211;
+    public static final int X86_INS_VPLZCNTD = 1212;
+    public static final int X86_INS_VPLZCNTQ = 1213;
+    public static final int X86_INS_VPMACSDD = 1214;
+    public static final int X86_INS_VPMACSDQH = 1215;
+    public static final int X86_INS_VPMACSDQL = 1216;
+    public static final int X86_INS_VPMACSSDD = 1217;
+    public static final int X86_INS_VPMACSSDQH = 1218;
+    public static final int X86_INS_VPMACSSDQL = 1219;
+    public static final int X86_INS_VPMACSSWD = 1220;
+    public static final int X86_INS_VPMACSSWW = 1221;
+    public static final int X86_INS_VPMACSWD = 1222;
+    public static final int X86_INS_VPMACSWW = 1223;
+    public static final int X86_INS_VPMADCSSWD = 1224;
+    public static final int X86_INS_VPMADCSWD = 1225;
+    public static final int X86_INS_VPMADD52HUQ = 1226;
+    public static final int X86_INS_VPMADD52LUQ = 1227;
+    public static final int X86_INS_VPMADDUBSW = 1228;
+    public static final int X86_INS_VPMADDWD = 1229;
+    public static final int X86_INS_VPMASKMOVD = 1230;
+    public static final int X86_INS_VPMASKMOVQ = 1231;
+    public static final int X86_INS_VPMAXSB = 1232;
+    public static final int X86_INS_VPMAXSD = 1233;
+    public static final int X86_INS_VPMAXSQ = 1234;
+    public static final int X86_INS_VPMAXSW = 1235;
+    public static final int X86_INS_VPMAXUB = 1236;
+    public static final int X86_INS_VPMAXUD = 1237;
+    public static final int X86_INS_VPMAXUQ = 1238;
+    public static final int X86_INS_VPMAXUW = 1239;
+    public static final int X86_INS_VPMINSB = 1240;
+    public static final int X86_INS_VPMINSD = 1241;
+    public static final int X86_INS_VPMINSQ = 1242;
+    public static final int X86_INS_VPMINSW = 1243;
+    public static final int X86_INS_VPMINUB = 1244;
+    public static final int X86_INS_VPMINUD = 1245;
+    public static final int X86_INS_VPMINUQ = 1246;
+    public static final int X86_INS_VPMINUW = 1247;
+    public static final int X86_INS_VPMOVB2M = 1248;
+    public static final int X86_INS_VPMOVD2M = 1249;
+    public static final int X86_INS_VPMOVDB = 1250;
+    public static final int X86_INS_VPMOVDW = 1251;
+    public static final int X86_INS_VPMOVM2B = 1252;
+    public static final int X86_INS_VPMOVM2D = 1253;
+    public static final int X86_INS_VPMOVM2Q = 1254;
+    public static final int X86_INS_VPMOVM2W = 1255;
+    public static final int X86_INS_VPMOVMSKB = 1256;
+    public static final int X86_INS_VPMOVQ2M = 1257;
+    public static final int X86_INS_VPMOVQB = 1258;
+    public static final int X86_INS_VPMOVQD = 1259;
+    public static final int X86_INS_VPMOVQW = 1260;
+    public static final int X86_INS_VPMOVSDB = 1261;
+    public static final int X86_INS_VPMOVSDW = 1262;
+    public static final int X86_INS_VPMOVSQB = 1263;
+    public static final int X86_INS_VPMOVSQD = 1264;
+    public static final int X86_INS_VPMOVSQW = 1265;
+    public static final int X86_INS_VPMOVSWB = 1266;
+    public static final int X86_INS_VPMOVSXBD = 1267;
+    public static final int X86_INS_VPMOVSXBQ = 1268;
+    public static final int X86_INS_VPMOVSXBW = 1269;
+    public static final int X86_INS_VPMOVSXDQ = 1270;
+    public static final int X86_INS_VPMOVSXWD = 1271;
+    public static final int X86_INS_VPMOVSXWQ = 1272;
+    public static final int X86_INS_VPMOVUSDB = 1273;
+    public static final int X86_INS_VPMOVUSDW = 1274;
+    public static final int X86_INS_VPMOVUSQB = 1275;
+    public static final int X86_INS_VPMOVUSQD = 1276;
+    public static final int X86_INS_VPMOVUSQW = 1277;
+    public static final int X86_INS_VPMOVUSWB = 1278;
+    public static final int X86_INS_VPMOVW2M = 1279;
+    public static final int X86_INS_VPMOVWB = 1280;
+    public static final int X86_INS_VPMOVZXBD = 1281;
+    public static final int X86_INS_VPMOVZXBQ = 1282;
+    public static final int X86_INS_VPMOVZXBW = 1283;
+    public static final int X86_INS_VPMOVZXDQ = 1284;
+    public static final int X86_INS_VPMOVZXWD = 1285;
+    public static final int X86_INS_VPMOVZXWQ = 1286;
+    public static final int X86_INS_VPMULDQ = 1287;
+    public static final int X86_INS_VPMULHRSW = 1288;
+    public static final int X86_INS_VPMULHUW = 1289;
+    public static final int X86_INS_VPMULHW = 1290;
+    public static final int X86_INS_VPMULLD = 1291;
+    public static final int X86_INS_VPMULLQ = 1292;
+    public static final int X86_INS_VPMULLW = 1293;
+    public static final int X86_INS_VPMULTISHIFTQB = 1294;
+    public static final int X86_INS_VPMULUDQ = 1295;
+    public static final int X86_INS_VPOPCNTB = 1296;
+    public static final int X86_INS_VPOPCNTD = 1297;
+    public static final int X86_INS_VPOPCNTQ = 1298;
+    public static final int X86_INS_VPOPCNTW = 1299;
+    public static final int X86_INS_VPORD = 1300;
+    public static final int X86_INS_VPORQ = 1301;
+    public static final int X86_INS_VPOR = 1302;
+    public static final int X86_INS_VPPERM = 1303;
+    public static final int X86_INS_VPROLD = 1304;
+    public static final int X86_INS_VPROLQ = 1305;
+    public static final int X86_INS_VPROLVD = 1306;
+    public static final int X86_INS_VPROLVQ = 1307;
+    public static final int X86_INS_VPRORD = 1308;
+    public static final int X86_INS_VPRORQ = 1309;
+    public static final int X86_INS_VPRORVD = 1310;
+    public static final int X86_INS_VPRORVQ = 1311;
+    public static final int X86_INS_VPROTB = 1312;
+    public static final int X86_INS_VPROTD = 1313;
+    public static final int X86_INS_VPROTQ = 1314;
+    public static final int X86_INS_VPROTW = 1315;
+    public static final int X86_INS_VPSADBW = 1316;
+    public static final int X86_INS_VPSCATTERDD = 1317;
+    public static final int X86_INS_VPSCATTERDQ = 1318;
+    public static final int X86_INS_VPSCATTERQD = 1319;
+    public static final int X86_INS_VPSCATTERQQ = 1320;
+    public static final int X86_INS_VPSHAB = 1321;
+    public static final int X86_INS_VPSHAD = 1322;
+    public static final int X86_INS_VPSHAQ = 1323;
+    public static final int X86_INS_VPSHAW = 1324;
+    public static final int X86_INS_VPSHLB = 1325;
+    public static final int X86_INS_VPSHLDD = 1326;
+    public static final int X86_INS_VPSHLDQ = 1327;
+    public static final int X86_INS_VPSHLDVD = 1328;
+    public static final int X86_INS_VPSHLDVQ = 1329;
+    public static final int X86_INS_VPSHLDVW = 1330;
+    public static final int X86_INS_VPSHLDW = 1331;
+    public static final int X86_INS_VPSHLD = 1332;
+    public static final int X86_INS_VPSHLQ = 1333;
+    public static final int X86_INS_VPSHLW = 1334;
+    public static final int X86_INS_VPSHRDD = 1335;
+    public static final int X86_INS_VPSHRDQ = 1336;
+    public static final int X86_INS_VPSHRDVD = 1337;
+    public static final int X86_INS_VPSHRDVQ = 1338;
+    public static final int X86_INS_VPSHRDVW = 1339;
+    public static final int X86_INS_VPSHRDW = 1340;
+    public static final int X86_INS_VPSHUFBITQMB = 1341;
+    public static final int X86_INS_VPSHUFB = 1342;
+    public static final int X86_INS_VPSHUFD = 1343;
+    public static final int X86_INS_VPSHUFHW = 1344;
+    public static final int X86_INS_VPSHUFLW = 1345;
+    public static final int X86_INS_VPSIGNB = 1346;
+    public static final int X86_INS_VPSIGND = 1347;
+    public static final int X86_INS_VPSIGNW = 1348;
+    public static final int X86_INS_VPSLLDQ = 1349;
+    public static final int X86_INS_VPSLLD = 1350;
+    public static final int X86_INS_VPSLLQ = 1351;
+    public static final int X86_INS_VPSLLVD = 1352;
+    public static final int X86_INS_VPSLLVQ = 1353;
+    public static final int X86_INS_VPSLLVW = 1354;
+    public static final int X86_INS_VPSLLW = 1355;
+    public static final int X86_INS_VPSRAD = 1356;
+    public static final int X86_INS_VPSRAQ = 1357;
+    public static final int X86_INS_VPSRAVD = 1358;
+    public static final int X86_INS_VPSRAVQ = 1359;
+    public static final int X86_INS_VPSRAVW = 1360;
+    public static final int X86_INS_VPSRAW = 1361;
+    public static final int X86_INS_VPSRLDQ = 1362;
+    public static final int X86_INS_VPSRLD = 1363;
+    public static final int X86_INS_VPSRLQ = 1364;
+    public static final int X86_INS_VPSRLVD = 1365;
+    public static final int X86_INS_VPSRLVQ = 1366;
+    public static final int X86_INS_VPSRLVW = 1367;
+    public static final int X86_INS_VPSRLW = 1368;
+    public static final int X86_INS_VPSUBB = 1369;
+    public static final int X86_INS_VPSUBD = 1370;
+    public static final int X86_INS_VPSUBQ = 1371;
+    public static final int X86_INS_VPSUBSB = 1372;
+    public static final int X86_INS_VPSUBSW = 1373;
+    public static final int X86_INS_VPSUBUSB = 1374;
+    public static final int X86_INS_VPSUBUSW = 1375;
+    public static final int X86_INS_VPSUBW = 1376;
+    public static final int X86_INS_VPTERNLOGD = 1377;
+    public static final int X86_INS_VPTERNLOGQ = 1378;
+    public static final int X86_INS_VPTESTMB = 1379;
+    public static final int X86_INS_VPTESTMD = 1380;
+    public static final int X86_INS_VPTESTMQ = 1381;
+    public static final int X86_INS_VPTESTMW = 1382;
+    public static final int X86_INS_VPTESTNMB = 1383;
+    public static final int X86_INS_VPTESTNMD = 1384;
+    public static final int X86_INS_VPTESTNMQ = 1385;
+    public static final int X86_INS_VPTESTNMW = 1386;
+    public static final int X86_INS_VPTEST = 1387;
+    public static final int X86_INS_VPUNPCKHBW = 1388;
+    public static final int X86_INS_VPUNPCKHDQ = 1389;
+    public static final int X86_INS_VPUNPCKHQDQ = 1390;
+    public static final int X86_INS_VPUNPCKHWD = 1391;
+    public static final int X86_INS_VPUNPCKLBW = 1392;
+    public static final int X86_INS_VPUNPCKLDQ = 1393;
+    public static final int X86_INS_VPUNPCKLQDQ = 1394;
+    public static final int X86_INS_VPUNPCKLWD = 1395;
+    public static final int X86_INS_VPXORD = 1396;
+    public static final int X86_INS_VPXORQ = 1397;
+    public static final int X86_INS_VPXOR = 1398;
+    public static final int X86_INS_VRANGEPD = 1399;
+    public static final int X86_INS_VRANGEPS = 1400;
+    public static final int X86_INS_VRANGESD = 1401;
+    public static final int X86_INS_VRANGESS = 1402;
+    public static final int X86_INS_VRCP14PD = 1403;
+    public static final int X86_INS_VRCP14PS = 1404;
+    public static final int X86_INS_VRCP14SD = 1405;
+    public static final int X86_INS_VRCP14SS = 1406;
+    public static final int X86_INS_VRCP28PD = 1407;
+    public static final int X86_INS_VRCP28PS = 1408;
+    public static final int X86_INS_VRCP28SD = 1409;
+    public static final int X86_INS_VRCP28SS = 1410;
+    public static final int X86_INS_VRCPPS = 1411;
+    public static final int X86_INS_VRCPSS = 1412;
+    public static final int X86_INS_VREDUCEPD = 1413;
+    public static final int X86_INS_VREDUCEPS = 1414;
+    public static final int X86_INS_VREDUCESD = 1415;
+    public static final int X86_INS_VREDUCESS = 1416;
+    public static final int X86_INS_VRNDSCALEPD = 1417;
+    public static final int X86_INS_VRNDSCALEPS = 1418;
+    public static final int X86_INS_VRNDSCALESD = 1419;
+    public static final int X86_INS_VRNDSCALESS = 1420;
+    public static final int X86_INS_VROUNDPD = 1421;
+    public static final int X86_INS_VROUNDPS = 1422;
+    public static final int X86_INS_VROUNDSD = 1423;
+    public static final int X86_INS_VROUNDSS = 1424;
+    public static final int X86_INS_VRSQRT14PD = 1425;
+    public static final int X86_INS_VRSQRT14PS = 1426;
+    public static final int X86_INS_VRSQRT14SD = 1427;
+    public static final int X86_INS_VRSQRT14SS = 1428;
+    public static final int X86_INS_VRSQRT28PD = 1429;
+    public static final int X86_INS_VRSQRT28PS = 1430;
+    public static final int X86_INS_VRSQRT28SD = 1431;
+    public static final int X86_INS_VRSQRT28SS = 1432;
+    public static final int X86_INS_VRSQRTPS = 1433;
+    public static final int X86_INS_VRSQRTSS = 1434;
+    public static final int X86_INS_VSCALEFPD = 1435;
+    public static final int X86_INS_VSCALEFPS = 1436;
+    public static final int X86_INS_VSCALEFSD = 1437;
+    public static final int X86_INS_VSCALEFSS = 1438;
+    public static final int X86_INS_VSCATTERDPD = 1439;
+    public static final int X86_INS_VSCATTERDPS = 1440;
+    public static final int X86_INS_VSCATTERPF0DPD = 1441;
+    public static final int X86_INS_VSCATTERPF0DPS = 1442;
+    public static final int X86_INS_VSCATTERPF0QPD = 1443;
+    public static final int X86_INS_VSCATTERPF0QPS = 1444;
+    public static final int X86_INS_VSCATTERPF1DPD = 1445;
+    public static final int X86_INS_VSCATTERPF1DPS = 1446;
+    public static final int X86_INS_VSCATTERPF1QPD = 1447;
+    public static final int X86_INS_VSCATTERPF1QPS = 1448;
+    public static final int X86_INS_VSCATTERQPD = 1449;
+    public static final int X86_INS_VSCATTERQPS = 1450;
+    public static final int X86_INS_VSHUFF32X4 = 1451;
+    public static final int X86_INS_VSHUFF64X2 = 1452;
+    public static final int X86_INS_VSHUFI32X4 = 1453;
+    public static final int X86_INS_VSHUFI64X2 = 1454;
+    public static final int X86_INS_VSHUFPD = 1455;
+    public static final int X86_INS_VSHUFPS = 1456;
+    public static final int X86_INS_VSQRTPD = 1457;
+    public static final int X86_INS_VSQRTPS = 1458;
+    public static final int X86_INS_VSQRTSD = 1459;
+    public static final int X86_INS_VSQRTSS = 1460;
+    public static final int X86_INS_VSTMXCSR = 1461;
+    public static final int X86_INS_VSUBPD = 1462;
+    public static final int X86_INS_VSUBPS = 1463;
+    public static final int X86_INS_VSUBSD = 1464;
+    public static final int X86_INS_VSUBSS = 1465;
+    public static final int X86_INS_VTESTPD = 1466;
+    public static final int X86_INS_VTESTPS = 1467;
+    public static final int X86_INS_VUCOMISD = 1468;
+    public static final int X86_INS_VUCOMISS = 1469;
+    public static final int X86_INS_VUNPCKHPD = 1470;
+    public static final int X86_INS_VUNPCKHPS = 1471;
+    public static final int X86_INS_VUNPCKLPD = 1472;
+    public static final int X86_INS_VUNPCKLPS = 1473;
+    public static final int X86_INS_VXORPD = 1474;
+    public static final int X86_INS_VXORPS = 1475;
+    public static final int X86_INS_VZEROALL = 1476;
+    public static final int X86_INS_VZEROUPPER = 1477;
+    public static final int X86_INS_WAIT = 1478;
+    public static final int X86_INS_WBINVD = 1479;
+    public static final int X86_INS_WBNOINVD = 1480;
+    public static final int X86_INS_WRFSBASE = 1481;
+    public static final int X86_INS_WRGSBASE = 1482;
+    public static final int X86_INS_WRMSR = 1483;
+    public static final int X86_INS_WRPKRU = 1484;
+    public static final int X86_INS_WRSSD = 1485;
+    public static final int X86_INS_WRSSQ = 1486;
+    public static final int X86_INS_WRUSSD = 1487;
+    public static final int X86_INS_WRUSSQ = 1488;
+    public static final int X86_INS_XABORT = 1489;
+    public static final int X86_INS_XACQUIRE = 1490;
+    public static final int X86_INS_XADD = 1491;
+    public static final int X86_INS_XBEGIN = 1492;
+    public static final int X86_INS_XCHG = 1493;
+    public static final int X86_INS_FXCH = 1494;
+    public static final int X86_INS_XCRYPTCBC = 1495;
+    public static final int X86_INS_XCRYPTCFB = 1496;
+    public static final int X86_INS_XCRYPTCTR = 1497;
+    public static final int X86_INS_XCRYPTECB = 1498;
+    public static final int X86_INS_XCRYPTOFB = 1499;
+    public static final int X86_INS_XEND = 1500;
+    public static final int X86_INS_XGETBV = 1501;
+    public static final int X86_INS_XLATB = 1502;
+    public static final int X86_INS_XOR = 1503;
+    public static final int X86_INS_XORPD = 1504;
+    public static final int X86_INS_XORPS = 1505;
+    public static final int X86_INS_XRELEASE = 1506;
+    public static final int X86_INS_XRSTOR = 1507;
+    public static final int X86_INS_XRSTOR64 = 1508;
+    public static final int X86_INS_XRSTORS = 1509;
+    public static final int X86_INS_XRSTORS64 = 1510;
+    public static final int X86_INS_XSAVE = 1511;
+    public static final int X86_INS_XSAVE64 = 1512;
+    public static final int X86_INS_XSAVEC = 1513;
+    public static final int X86_INS_XSAVEC64 = 1514;
+    public static final int X86_INS_XSAVEOPT = 1515;
+    public static final int X86_INS_XSAVEOPT64 = 1516;
+    public static final int X86_INS_XSAVES = 1517;
+    public static final int X86_INS_XSAVES64 = 1518;
+    public static final int X86_INS_XSETBV = 1519;
+    public static final int X86_INS_XSHA1 = 1520;
+    public static final int X86_INS_XSHA256 = 1521;
+    public static final int X86_INS_XSTORE = 1522;
+    public static final int X86_INS_XTEST = 1523;
+    public static final int X86_INS_ENDING = 1524;
+    public static final int X86_GRP_INVALID = 0;
+    public static final int X86_GRP_JUMP = 1;
+    public static final int X86_GRP_CALL = 2;
+    public static final int X86_GRP_RET = 3;
+    public static final int X86_GRP_INT = 4;
+    public static final int X86_GRP_IRET = 5;
+    public static final int X86_GRP_PRIVILEGE = 6;
+    public static final int X86_GRP_BRANCH_RELATIVE = 7;
+    public static final int X86_GRP_VM = 128;
+    public static final int X86_GRP_3DNOW = 129;
+    public static final int X86_GRP_AES = 130;
+    public static final int X86_GRP_ADX = 131;
+    public static final int X86_GRP_AVX = 132;
+    public static final int X86_GRP_AVX2 = 133;
+    public static final int X86_GRP_AVX512 = 134;
+    public static final int X86_GRP_BMI = 135;
+    public static final int X86_GRP_BMI2 = 136;
+    public static final int X86_GRP_CMOV = 137;
+    public static final int X86_GRP_F16C = 138;
+    public static final int X86_GRP_FMA = 139;
+    public static final int X86_GRP_FMA4 = 140;
+    public static final int X86_GRP_FSGSBASE = 141;
+    public static final int X86_GRP_HLE = 142;
+    public static final int X86_GRP_MMX = 143;
+    public static final int X86_GRP_MODE32 = 144;
+    public static final int X86_GRP_MODE64 = 145;
+    public static final int X86_GRP_RTM = 146;
+    public static final int X86_GRP_SHA = 147;
+    public static final int X86_GRP_SSE1 = 148;
+    public static final int X86_GRP_SSE2 = 149;
+    public static final int X86_GRP_SSE3 = 150;
+    public static final int X86_GRP_SSE41 = 151;
+    public static final int X86_GRP_SSE42 = 152;
+    public static final int X86_GRP_SSE4A = 153;
+    public static final int X86_GRP_SSSE3 = 154;
+    public static final int X86_GRP_PCLMUL = 155;
+    public static final int X86_GRP_XOP = 156;
+    public static final int X86_GRP_CDI = 157;
+    public static final int X86_GRP_ERI = 158;
+    public static final int X86_GRP_TBM = 159;
+    public static final int X86_GRP_16BITMODE = 160;
+    public static final int X86_GRP_NOT64BITMODE = 161;
+    public static final int X86_GRP_SGX = 162;
+    public static final int X86_GRP_DQI = 163;
+    public static final int X86_GRP_BWI = 164;
+    public static final int X86_GRP_PFI = 165;
+    public static final int X86_GRP_VLX = 166;
+    public static final int X86_GRP_SMAP = 167;
+    public static final int X86_GRP_NOVLX = 168;
+    public static final int X86_GRP_FPU = 169;
+    public static final int X86_GRP_ENDING = 170;
+    public static final int XCORE_REG_ENDING = 26;
+    public static final int XCORE_INS_ENDING = 121;
+    public static final int XCORE_GRP_ENDING = 2;
+    public static final int TMS320C64X_REG_ENDING = 90;
+    public static final int TMS320C64X_INS_ENDING = 145;
+    public static final int TMS320C64X_GRP_ENDING = 133;
+    public static final int M680X_REG_ENDING = 22;
+    public static final int M680X_GRP_ENDING = 8;
+    public static final int M680X_INS_ENDING = 357;
+    public static final int EVM_INS_ENDING = 256;
+    public static final int EVM_GRP_ENDING = 16;
+    public static final int RISCV_REG_ENDING = 97;
+    public static final int RISCV_INS_ENDING = 273;
+    public static final int RISCV_GRP_ENDING = 135;
+    public static final int WASM_INS_ENDING = 513;
+    public static final int WASM_GRP_ENDING = 13;
+    public static final int MOS65XX_REG_ENDING = 9;
+    public static final int MOS65XX_INS_ENDING = 97;
+    public static final int MOS65XX_GRP_ENDING = 7;
+    public static final int BPF_REG_ENDING = 14;
+    public static final int BPF_INS_ENDING = 117;
+    public static final int BPF_GRP_ENDING = 8;
+    public static final int SH_REG_ENDING = 122;
+    public static final int SH_INS_ENDING = 159;
+    public static final int SH_GRP_ENDING = 18;
+    public static final int TRICORE_REG_ENDING = 61;
+    public static final int TRICORE_INS_ENDING = 427;
+    public static final int TRICORE_GRP_ENDING = 3;
+    public static final int Alpha_REG_ENDING = 65;
+    public static final int ALPHA_INS_ENDING = 151;
+    public static final int Alpha_GRP_ENDING = 4;
+    public static final int HPPA_REG_ENDING = 169;
+    public static final int HPPA_INS_ENDING = 250;
+    public static final int HPPA_GRP_ENDING = 137;
+    public static final int LOONGARCH_REG_ENDING = 177;
+    public static final int LOONGARCH_INS_ENDING = 2051;
+    public static final int LOONGARCH_GRP_ENDING = 133;
+    public static final int XTENSA_REG_ENDING = 170;
+    public static final int XTENSA_GRP_ENDING = 162;
+    public static final int ARC_REG_ENDING = 66;
+    public static final int ARC_GRP_ENDING = 5;
+    public static final int CS_ERR_OK = 0;
+    public static final int CS_ERR_MEM = 1;
+    public static final int CS_ERR_ARCH = 2;
+    public static final int CS_ERR_HANDLE = 3;
+    public static final int CS_ERR_CSH = 4;
+    public static final int CS_ERR_MODE = 5;
+    public static final int CS_ERR_OPTION = 6;
+    public static final int CS_ERR_DETAIL = 7;
+    public static final int CS_ERR_MEMSETUP = 8;
+    public static final int CS_ERR_VERSION = 9;
+    public static final int CS_ERR_DIET = 10;
+    public static final int CS_ERR_SKIPDATA = 11;
+    public static final int CS_ERR_X86_ATT = 12;
+    public static final int CS_ERR_X86_INTEL = 13;
+    public static final int CS_ERR_X86_MASM = 14;
+    public static final int CS_VERSION_MAJOR = 6;
+    public static final int CS_VERSION_MINOR = 0;
+}
@@ -0,0 +1,1014 @@
+package com.suko.capstone4j.internal;
+
+import java.lang.foreign.AddressLayout;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * A slim binding of the functions declared in {@code capstone.h}.
+ * <p>
+ * The jextract output puts these functions at the bottom of the {@code capstone_h} class hierarchy, so
+ * the first call to any of them loads, verifies and initializes all 25 classes of it along with the
+ * thousands of constants they hold. This class contains only the C type layouts and the functions of the
+ * public Capstone API, with the same signatures as in {@code capstone_h}. The struct and callback classes
+ * generated by jextract refer to the layouts of this class as well, so decoding an instruction never
+ * touches {@code capstone_h}. The constants are available as compile-time constants from
+ * {@link CapstoneConstants}.
+ * <p>
+ * Each function is linked on its first call: its symbol, descriptor and downcall handle are held by a
+ * nested class, which the JVM only initializes when the function is used.
+ */
+public final class CapstoneNative {
+
+    private CapstoneNative() {
+        // Should not be called directly
+    }
+
+    private static volatile SymbolLookup SYMBOL_LOOKUP = SymbolLookup.loaderLookup()
+            .or(Linker.nativeLinker().defaultLookup());
+
+    /**
+     * Adds a library to resolve the functions of this class in, ahead of the libraries loaded with
+     * {@link System#load(String)}. This is used for a system-installed Capstone opened with
+     * {@link SymbolLookup#libraryLookup(String, java.lang.foreign.Arena)}, which the class loader does not
+     * know about.
+     * <p>
+     * Functions are resolved on their first call, so the library has to be added before any of them is
+     * called. The jextract generated {@code capstone_h} does not see libraries added here.
+     *
+     * @param library the lookup of the library
+     */
+    public static synchronized void addLibrary(SymbolLookup library) {
+        SYMBOL_LOOKUP = library.or(SYMBOL_LOOKUP);
+    }
+
+    static MemorySegment findOrThrow(String symbol) {
+        return SYMBOL_LOOKUP.find(symbol)
+            .orElseThrow(() -> new UnsatisfiedLinkError("unresolved symbol: " + symbol));
+    }
+
+    static MethodHandle upcallHandle(Class<?> fi, String name, FunctionDescriptor fdesc) {
+        try {
+            return MethodHandles.lookup().findVirtual(fi, name, fdesc.toMethodType());
+        } catch (ReflectiveOperationException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    public static final ValueLayout.OfBoolean C_BOOL = ValueLayout.JAVA_BOOLEAN;
+    public static final ValueLayout.OfByte C_CHAR = ValueLayout.JAVA_BYTE;
+    public static final ValueLayout.OfShort C_SHORT = ValueLayout.JAVA_SHORT;
+    public static final ValueLayout.OfInt C_INT = ValueLayout.JAVA_INT;
+    public static final ValueLayout.OfLong C_LONG_LONG = ValueLayout.JAVA_LONG;
+    public static final ValueLayout.OfFloat C_FLOAT = ValueLayout.JAVA_FLOAT;
+    public static final ValueLayout.OfDouble C_DOUBLE = ValueLayout.JAVA_DOUBLE;
+    public static final AddressLayout C_POINTER = ValueLayout.ADDRESS
+            .withTargetLayout(MemoryLayout.sequenceLayout(java.lang.Long.MAX_VALUE, ValueLayout.JAVA_BYTE));
+    public static final ValueLayout.OfInt C_LONG = ValueLayout.JAVA_INT;
+    public static final ValueLayout.OfDouble C_LONG_DOUBLE = ValueLayout.JAVA_DOUBLE;
+
+    /**
+     * {@snippet lang=c :
+     * typedef size_t csh
+     * }
+     */
+    public static final ValueLayout.OfLong csh = C_LONG_LONG;
+
+    private static class cs_version {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_POINTER,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_version");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * unsigned int cs_version(int *major, int *minor)
+     * }
+     */
+    public static FunctionDescriptor cs_version$descriptor() {
+        return cs_version.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * unsigned int cs_version(int *major, int *minor)
+     * }
+     */
+    public static MemorySegment cs_version$address() {
+        return cs_version.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * unsigned int cs_version(int *major, int *minor)
+     * }
+     */
+    public static int cs_version(MemorySegment major, MemorySegment minor) {
+        var mh$ = cs_version.HANDLE;
+        try {
+            return (int)mh$.invokeExact(major, minor);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_support {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_BOOL,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_support");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * bool cs_support(int query)
+     * }
+     */
+    public static FunctionDescriptor cs_support$descriptor() {
+        return cs_support.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * bool cs_support(int query)
+     * }
+     */
+    public static MemorySegment cs_support$address() {
+        return cs_support.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_support(int query)
+     * }
+     */
+    public static boolean cs_support(int query) {
+        var mh$ = cs_support.HANDLE;
+        try {
+            return (boolean)mh$.invokeExact(query);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_open {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_INT,
+            C_INT,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_open");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_err cs_open(cs_arch arch, cs_mode mode, csh *handle)
+     * }
+     */
+    public static FunctionDescriptor cs_open$descriptor() {
+        return cs_open.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_err cs_open(cs_arch arch, cs_mode mode, csh *handle)
+     * }
+     */
+    public static MemorySegment cs_open$address() {
+        return cs_open.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_open(cs_arch arch, cs_mode mode, csh *handle)
+     * }
+     */
+    public static int cs_open(int arch, int mode, MemorySegment handle) {
+        var mh$ = cs_open.HANDLE;
+        try {
+            return (int)mh$.invokeExact(arch, mode, handle);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_close {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_close");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_err cs_close(csh *handle)
+     * }
+     */
+    public static FunctionDescriptor cs_close$descriptor() {
+        return cs_close.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_err cs_close(csh *handle)
+     * }
+     */
+    public static MemorySegment cs_close$address() {
+        return cs_close.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_close(csh *handle)
+     * }
+     */
+    public static int cs_close(MemorySegment handle) {
+        var mh$ = cs_close.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_option {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_LONG_LONG,
+            C_INT,
+            C_LONG_LONG
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_option");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_err cs_option(csh handle, cs_opt_type type, size_t value)
+     * }
+     */
+    public static FunctionDescriptor cs_option$descriptor() {
+        return cs_option.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_err cs_option(csh handle, cs_opt_type type, size_t value)
+     * }
+     */
+    public static MemorySegment cs_option$address() {
+        return cs_option.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_option(csh handle, cs_opt_type type, size_t value)
+     * }
+     */
+    public static int cs_option(long handle, int type, long value) {
+        var mh$ = cs_option.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle, type, value);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_errno {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_LONG_LONG
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_errno");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_err cs_errno(csh handle)
+     * }
+     */
+    public static FunctionDescriptor cs_errno$descriptor() {
+        return cs_errno.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_err cs_errno(csh handle)
+     * }
+     */
+    public static MemorySegment cs_errno$address() {
+        return cs_errno.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_errno(csh handle)
+     * }
+     */
+    public static int cs_errno(long handle) {
+        var mh$ = cs_errno.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_strerror {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_POINTER,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_strerror");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * const char *cs_strerror(cs_err code)
+     * }
+     */
+    public static FunctionDescriptor cs_strerror$descriptor() {
+        return cs_strerror.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * const char *cs_strerror(cs_err code)
+     * }
+     */
+    public static MemorySegment cs_strerror$address() {
+        return cs_strerror.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_strerror(cs_err code)
+     * }
+     */
+    public static MemorySegment cs_strerror(int code) {
+        var mh$ = cs_strerror.HANDLE;
+        try {
+            return (MemorySegment)mh$.invokeExact(code);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_disasm {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_LONG_LONG,
+            C_LONG_LONG,
+            C_POINTER,
+            C_LONG_LONG,
+            C_LONG_LONG,
+            C_LONG_LONG,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_disasm");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * size_t cs_disasm(csh handle, const uint8_t *code, size_t code_size, uint64_t address, size_t count, cs_insn **insn)
+     * }
+     */
+    public static FunctionDescriptor cs_disasm$descriptor() {
+        return cs_disasm.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * size_t cs_disasm(csh handle, const uint8_t *code, size_t code_size, uint64_t address, size_t count, cs_insn **insn)
+     * }
+     */
+    public static MemorySegment cs_disasm$address() {
+        return cs_disasm.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * size_t cs_disasm(csh handle, const uint8_t *code, size_t code_size, uint64_t address, size_t count, cs_insn **insn)
+     * }
+     */
+    public static long cs_disasm(long handle, MemorySegment code, long code_size, long address, long count, MemorySegment insn) {
+        var mh$ = cs_disasm.HANDLE;
+        try {
+            return (long)mh$.invokeExact(handle, code, code_size, address, count, insn);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_free {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.ofVoid(
+            C_POINTER,
+            C_LONG_LONG
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_free");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * void cs_free(cs_insn *insn, size_t count)
+     * }
+     */
+    public static FunctionDescriptor cs_free$descriptor() {
+        return cs_free.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * void cs_free(cs_insn *insn, size_t count)
+     * }
+     */
+    public static MemorySegment cs_free$address() {
+        return cs_free.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * void cs_free(cs_insn *insn, size_t count)
+     * }
+     */
+    public static void cs_free(MemorySegment insn, long count) {
+        var mh$ = cs_free.HANDLE;
+        try {
+            mh$.invokeExact(insn, count);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_malloc {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_POINTER,
+            C_LONG_LONG
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_malloc");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_insn *cs_malloc(csh handle)
+     * }
+     */
+    public static FunctionDescriptor cs_malloc$descriptor() {
+        return cs_malloc.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_insn *cs_malloc(csh handle)
+     * }
+     */
+    public static MemorySegment cs_malloc$address() {
+        return cs_malloc.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_insn *cs_malloc(csh handle)
+     * }
+     */
+    public static MemorySegment cs_malloc(long handle) {
+        var mh$ = cs_malloc.HANDLE;
+        try {
+            return (MemorySegment)mh$.invokeExact(handle);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_disasm_iter {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_BOOL,
+            C_LONG_LONG,
+            C_POINTER,
+            C_POINTER,
+            C_POINTER,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_disasm_iter");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * bool cs_disasm_iter(csh handle, const uint8_t **code, size_t *size, uint64_t *address, cs_insn *insn)
+     * }
+     */
+    public static FunctionDescriptor cs_disasm_iter$descriptor() {
+        return cs_disasm_iter.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * bool cs_disasm_iter(csh handle, const uint8_t **code, size_t *size, uint64_t *address, cs_insn *insn)
+     * }
+     */
+    public static MemorySegment cs_disasm_iter$address() {
+        return cs_disasm_iter.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_disasm_iter(csh handle, const uint8_t **code, size_t *size, uint64_t *address, cs_insn *insn)
+     * }
+     */
+    public static boolean cs_disasm_iter(long handle, MemorySegment code, MemorySegment size, MemorySegment address, MemorySegment insn) {
+        var mh$ = cs_disasm_iter.HANDLE;
+        try {
+            return (boolean)mh$.invokeExact(handle, code, size, address, insn);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_reg_name {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_POINTER,
+            C_LONG_LONG,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_reg_name");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * const char *cs_reg_name(csh handle, unsigned int reg_id)
+     * }
+     */
+    public static FunctionDescriptor cs_reg_name$descriptor() {
+        return cs_reg_name.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * const char *cs_reg_name(csh handle, unsigned int reg_id)
+     * }
+     */
+    public static MemorySegment cs_reg_name$address() {
+        return cs_reg_name.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_reg_name(csh handle, unsigned int reg_id)
+     * }
+     */
+    public static MemorySegment cs_reg_name(long handle, int reg_id) {
+        var mh$ = cs_reg_name.HANDLE;
+        try {
+            return (MemorySegment)mh$.invokeExact(handle, reg_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_insn_name {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_POINTER,
+            C_LONG_LONG,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_insn_name");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * const char *cs_insn_name(csh handle, unsigned int insn_id)
+     * }
+     */
+    public static FunctionDescriptor cs_insn_name$descriptor() {
+        return cs_insn_name.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * const char *cs_insn_name(csh handle, unsigned int insn_id)
+     * }
+     */
+    public static MemorySegment cs_insn_name$address() {
+        return cs_insn_name.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_insn_name(csh handle, unsigned int insn_id)
+     * }
+     */
+    public static MemorySegment cs_insn_name(long handle, int insn_id) {
+        var mh$ = cs_insn_name.HANDLE;
+        try {
+            return (MemorySegment)mh$.invokeExact(handle, insn_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_group_name {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_POINTER,
+            C_LONG_LONG,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_group_name");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * const char *cs_group_name(csh handle, unsigned int group_id)
+     * }
+     */
+    public static FunctionDescriptor cs_group_name$descriptor() {
+        return cs_group_name.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * const char *cs_group_name(csh handle, unsigned int group_id)
+     * }
+     */
+    public static MemorySegment cs_group_name$address() {
+        return cs_group_name.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * const char *cs_group_name(csh handle, unsigned int group_id)
+     * }
+     */
+    public static MemorySegment cs_group_name(long handle, int group_id) {
+        var mh$ = cs_group_name.HANDLE;
+        try {
+            return (MemorySegment)mh$.invokeExact(handle, group_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_insn_group {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_BOOL,
+            C_LONG_LONG,
+            C_POINTER,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_insn_group");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * bool cs_insn_group(csh handle, const cs_insn *insn, unsigned int group_id)
+     * }
+     */
+    public static FunctionDescriptor cs_insn_group$descriptor() {
+        return cs_insn_group.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * bool cs_insn_group(csh handle, const cs_insn *insn, unsigned int group_id)
+     * }
+     */
+    public static MemorySegment cs_insn_group$address() {
+        return cs_insn_group.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_insn_group(csh handle, const cs_insn *insn, unsigned int group_id)
+     * }
+     */
+    public static boolean cs_insn_group(long handle, MemorySegment insn, int group_id) {
+        var mh$ = cs_insn_group.HANDLE;
+        try {
+            return (boolean)mh$.invokeExact(handle, insn, group_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_reg_read {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_BOOL,
+            C_LONG_LONG,
+            C_POINTER,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_reg_read");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * bool cs_reg_read(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static FunctionDescriptor cs_reg_read$descriptor() {
+        return cs_reg_read.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * bool cs_reg_read(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static MemorySegment cs_reg_read$address() {
+        return cs_reg_read.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_reg_read(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static boolean cs_reg_read(long handle, MemorySegment insn, int reg_id) {
+        var mh$ = cs_reg_read.HANDLE;
+        try {
+            return (boolean)mh$.invokeExact(handle, insn, reg_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_reg_write {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_BOOL,
+            C_LONG_LONG,
+            C_POINTER,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_reg_write");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * bool cs_reg_write(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static FunctionDescriptor cs_reg_write$descriptor() {
+        return cs_reg_write.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * bool cs_reg_write(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static MemorySegment cs_reg_write$address() {
+        return cs_reg_write.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * bool cs_reg_write(csh handle, const cs_insn *insn, unsigned int reg_id)
+     * }
+     */
+    public static boolean cs_reg_write(long handle, MemorySegment insn, int reg_id) {
+        var mh$ = cs_reg_write.HANDLE;
+        try {
+            return (boolean)mh$.invokeExact(handle, insn, reg_id);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_op_count {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_LONG_LONG,
+            C_POINTER,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_op_count");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * int cs_op_count(csh handle, const cs_insn *insn, unsigned int op_type)
+     * }
+     */
+    public static FunctionDescriptor cs_op_count$descriptor() {
+        return cs_op_count.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * int cs_op_count(csh handle, const cs_insn *insn, unsigned int op_type)
+     * }
+     */
+    public static MemorySegment cs_op_count$address() {
+        return cs_op_count.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * int cs_op_count(csh handle, const cs_insn *insn, unsigned int op_type)
+     * }
+     */
+    public static int cs_op_count(long handle, MemorySegment insn, int op_type) {
+        var mh$ = cs_op_count.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle, insn, op_type);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_op_index {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_LONG_LONG,
+            C_POINTER,
+            C_INT,
+            C_INT
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_op_index");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * int cs_op_index(csh handle, const cs_insn *insn, unsigned int op_type, unsigned int position)
+     * }
+     */
+    public static FunctionDescriptor cs_op_index$descriptor() {
+        return cs_op_index.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * int cs_op_index(csh handle, const cs_insn *insn, unsigned int op_type, unsigned int position)
+     * }
+     */
+    public static MemorySegment cs_op_index$address() {
+        return cs_op_index.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * int cs_op_index(csh handle, const cs_insn *insn, unsigned int op_type, unsigned int position)
+     * }
+     */
+    public static int cs_op_index(long handle, MemorySegment insn, int op_type, int position) {
+        var mh$ = cs_op_index.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle, insn, op_type, position);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }
+
+    private static class cs_regs_access {
+        public static final FunctionDescriptor DESC = FunctionDescriptor.of(
+            C_INT,
+            C_LONG_LONG,
+            C_POINTER,
+            C_POINTER,
+            C_POINTER,
+            C_POINTER,
+            C_POINTER
+        );
+
+        public static final MemorySegment ADDR = findOrThrow("cs_regs_access");
+
+        public static final MethodHandle HANDLE = Linker.nativeLinker().downcallHandle(ADDR, DESC);
+    }
+
+    /**
+     * Function descriptor for:
+     * {@snippet lang=c :
+     * cs_err cs_regs_access(csh handle, const cs_insn *insn, cs_regs regs_read, uint8_t *regs_read_count, cs_regs regs_write, uint8_t *regs_write_count)
+     * }
+     */
+    public static FunctionDescriptor cs_regs_access$descriptor() {
+        return cs_regs_access.DESC;
+    }
+
+    /**
+     * Address for:
+     * {@snippet lang=c :
+     * cs_err cs_regs_access(csh handle, const cs_insn *insn, cs_regs regs_read, uint8_t *regs_read_count, cs_regs regs_write, uint8_t *regs_write_count)
+     * }
+     */
+    public static MemorySegment cs_regs_access$address() {
+        return cs_regs_access.ADDR;
+    }
+
+    /**
+     * {@snippet lang=c :
+     * cs_err cs_regs_access(csh handle, const cs_insn *insn, cs_regs regs_read, uint8_t *regs_read_count, cs_regs regs_write, uint8_t *regs_write_count)
+     * }
+     */
+    public static int cs_regs_access(long handle, MemorySegment insn, MemorySegment regs_read, MemorySegment regs_read_count, MemorySegment regs_write, MemorySegment regs_write_count) {
+        var mh$ = cs_regs_access.HANDLE;
+        try {
+            return (int)mh$.invokeExact(handle, insn, regs_read, regs_read_count, regs_write, regs_write_count);
+        } catch (Throwable ex$) {
+           throw new AssertionError("should not reach here", ex$);
+        }
+    }}
@@ -27,8 +27,8 @@ public class aarch64_imm_range {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("first"),
-        capstone_h.C_CHAR.withName("offset")
+        CapstoneNative.C_CHAR.withName("first"),
+        CapstoneNative.C_CHAR.withName("offset")
     ).withName("$anon$2791:9");
 
     /**
@@ -28,9 +28,9 @@ public class aarch64_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("index"),
-        capstone_h.C_INT.withName("disp")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("index"),
+        CapstoneNative.C_INT.withName("disp")
     ).withName("aarch64_op_mem");
 
     /**
@@ -28,9 +28,9 @@ public class aarch64_op_pred {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("reg"),
-        capstone_h.C_INT.withName("vec_select"),
-        capstone_h.C_INT.withName("imm_index")
+        CapstoneNative.C_INT.withName("reg"),
+        CapstoneNative.C_INT.withName("vec_select"),
+        CapstoneNative.C_INT.withName("imm_index")
     ).withName("$anon$2810:9");
 
     /**
@@ -34,12 +34,12 @@ public class aarch64_op_sme {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
-        capstone_h.C_INT.withName("tile"),
-        capstone_h.C_INT.withName("slice_reg"),
+        CapstoneNative.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("tile"),
+        CapstoneNative.C_INT.withName("slice_reg"),
         aarch64_op_sme.slice_offset.layout().withName("slice_offset"),
-        capstone_h.C_BOOL.withName("has_range_offset"),
-        capstone_h.C_BOOL.withName("is_vertical")
+        CapstoneNative.C_BOOL.withName("has_range_offset"),
+        CapstoneNative.C_BOOL.withName("is_vertical")
     ).withName("$anon$2797:9");
 
     /**
@@ -196,7 +196,7 @@ public class aarch64_op_sme {
         }
 
         private static final GroupLayout $LAYOUT = MemoryLayout.unionLayout(
-            capstone_h.C_SHORT.withName("imm"),
+            CapstoneNative.C_SHORT.withName("imm"),
             aarch64_imm_range.layout().withName("imm_range")
         ).withName("$anon$2801:2");
 
@@ -26,7 +26,7 @@ public class aarch64_suppl_info {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("mem_acc")
+        CapstoneNative.C_INT.withName("mem_acc")
     ).withName("$anon$2851:9");
 
     /**
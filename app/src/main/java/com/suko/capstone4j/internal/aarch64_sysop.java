@@ -32,7 +32,7 @@ public class aarch64_sysop {
         aarch64_sysop_reg.layout().withName("reg"),
         aarch64_sysop_imm.layout().withName("imm"),
         aarch64_sysop_alias.layout().withName("alias"),
-        capstone_h.C_INT.withName("sub_type")
+        CapstoneNative.C_INT.withName("sub_type")
     ).withName("$anon$2051:9");
 
     /**
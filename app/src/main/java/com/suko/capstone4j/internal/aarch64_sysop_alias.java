@@ -41,22 +41,22 @@ public class aarch64_sysop_alias {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.unionLayout(
-        capstone_h.C_INT.withName("svcr"),
-        capstone_h.C_INT.withName("at"),
-        capstone_h.C_INT.withName("db"),
-        capstone_h.C_INT.withName("dc"),
-        capstone_h.C_INT.withName("isb"),
-        capstone_h.C_INT.withName("tsb"),
-        capstone_h.C_INT.withName("prfm"),
-        capstone_h.C_INT.withName("sveprfm"),
-        capstone_h.C_INT.withName("rprfm"),
-        capstone_h.C_INT.withName("pstateimm0_15"),
-        capstone_h.C_INT.withName("pstateimm0_1"),
-        capstone_h.C_INT.withName("psb"),
-        capstone_h.C_INT.withName("bti"),
-        capstone_h.C_INT.withName("svepredpat"),
-        capstone_h.C_INT.withName("sveveclenspecifier"),
-        capstone_h.C_INT.withName("raw_val")
+        CapstoneNative.C_INT.withName("svcr"),
+        CapstoneNative.C_INT.withName("at"),
+        CapstoneNative.C_INT.withName("db"),
+        CapstoneNative.C_INT.withName("dc"),
+        CapstoneNative.C_INT.withName("isb"),
+        CapstoneNative.C_INT.withName("tsb"),
+        CapstoneNative.C_INT.withName("prfm"),
+        CapstoneNative.C_INT.withName("sveprfm"),
+        CapstoneNative.C_INT.withName("rprfm"),
+        CapstoneNative.C_INT.withName("pstateimm0_15"),
+        CapstoneNative.C_INT.withName("pstateimm0_1"),
+        CapstoneNative.C_INT.withName("psb"),
+        CapstoneNative.C_INT.withName("bti"),
+        CapstoneNative.C_INT.withName("svepredpat"),
+        CapstoneNative.C_INT.withName("sveveclenspecifier"),
+        CapstoneNative.C_INT.withName("raw_val")
     ).withName("$anon$1991:9");
 
     /**
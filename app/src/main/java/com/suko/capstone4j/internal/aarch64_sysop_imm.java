@@ -28,9 +28,9 @@ public class aarch64_sysop_imm {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.unionLayout(
-        capstone_h.C_INT.withName("dbnxs"),
-        capstone_h.C_INT.withName("exactfpimm"),
-        capstone_h.C_INT.withName("raw_val")
+        CapstoneNative.C_INT.withName("dbnxs"),
+        CapstoneNative.C_INT.withName("exactfpimm"),
+        CapstoneNative.C_INT.withName("raw_val")
     ).withName("$anon$1985:9");
 
     /**
@@ -29,10 +29,10 @@ public class aarch64_sysop_reg {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.unionLayout(
-        capstone_h.C_INT.withName("sysreg"),
-        capstone_h.C_INT.withName("tlbi"),
-        capstone_h.C_INT.withName("ic"),
-        capstone_h.C_INT.withName("raw_val")
+        CapstoneNative.C_INT.withName("sysreg"),
+        CapstoneNative.C_INT.withName("tlbi"),
+        CapstoneNative.C_INT.withName("ic"),
+        CapstoneNative.C_INT.withName("raw_val")
     ).withName("$anon$1978:9");
 
     /**
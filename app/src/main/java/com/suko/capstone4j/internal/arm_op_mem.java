@@ -30,11 +30,11 @@ public class arm_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("index"),
-        capstone_h.C_INT.withName("scale"),
-        capstone_h.C_INT.withName("disp"),
-        capstone_h.C_INT.withName("align")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("index"),
+        CapstoneNative.C_INT.withName("scale"),
+        CapstoneNative.C_INT.withName("disp"),
+        CapstoneNative.C_INT.withName("align")
     ).withName("arm_op_mem");
 
     /**
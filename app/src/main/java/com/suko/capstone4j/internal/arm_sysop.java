@@ -30,9 +30,9 @@ public class arm_sysop {
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
         arm_sysop_reg.layout().withName("reg"),
-        capstone_h.C_INT.withName("psr_bits"),
-        capstone_h.C_SHORT.withName("sysm"),
-        capstone_h.C_CHAR.withName("msr_mask"),
+        CapstoneNative.C_INT.withName("psr_bits"),
+        CapstoneNative.C_SHORT.withName("sysm"),
+        CapstoneNative.C_CHAR.withName("msr_mask"),
         MemoryLayout.paddingLayout(1)
     ).withName("$anon$856:9");
 
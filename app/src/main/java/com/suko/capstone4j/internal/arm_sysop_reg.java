@@ -28,9 +28,9 @@ public class arm_sysop_reg {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.unionLayout(
-        capstone_h.C_INT.withName("mclasssysreg"),
-        capstone_h.C_INT.withName("bankedreg"),
-        capstone_h.C_INT.withName("raw_val")
+        CapstoneNative.C_INT.withName("mclasssysreg"),
+        CapstoneNative.C_INT.withName("bankedreg"),
+        CapstoneNative.C_INT.withName("raw_val")
     ).withName("$anon$415:9");
 
     /**
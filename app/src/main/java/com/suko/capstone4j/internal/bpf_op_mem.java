@@ -27,8 +27,8 @@ public class bpf_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("disp")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("disp")
     ).withName("bpf_op_mem");
 
     /**
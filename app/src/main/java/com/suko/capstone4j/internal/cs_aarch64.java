@@ -31,11 +31,11 @@ public class cs_aarch64 {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("cc"),
-        capstone_h.C_BOOL.withName("update_flags"),
-        capstone_h.C_BOOL.withName("post_index"),
-        capstone_h.C_BOOL.withName("is_doing_sme"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("cc"),
+        CapstoneNative.C_BOOL.withName("update_flags"),
+        CapstoneNative.C_BOOL.withName("post_index"),
+        CapstoneNative.C_BOOL.withName("is_doing_sme"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.sequenceLayout(16, cs_aarch64_op.layout()).withName("operands")
     ).withName("cs_aarch64");
 
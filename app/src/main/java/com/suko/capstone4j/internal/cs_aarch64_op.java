@@ -46,25 +46,25 @@ public class cs_aarch64_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("vector_index"),
-        capstone_h.C_INT.withName("vas"),
+        CapstoneNative.C_INT.withName("vector_index"),
+        CapstoneNative.C_INT.withName("vas"),
         cs_aarch64_op.shift.layout().withName("shift"),
-        capstone_h.C_INT.withName("ext"),
-        capstone_h.C_INT.withName("type"),
-        capstone_h.C_BOOL.withName("is_vreg"),
+        CapstoneNative.C_INT.withName("ext"),
+        CapstoneNative.C_INT.withName("type"),
+        CapstoneNative.C_BOOL.withName("is_vreg"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
             aarch64_imm_range.layout().withName("imm_range"),
-            capstone_h.C_DOUBLE.withName("fp"),
+            CapstoneNative.C_DOUBLE.withName("fp"),
             aarch64_op_mem.layout().withName("mem"),
             aarch64_op_sme.layout().withName("sme"),
             aarch64_op_pred.layout().withName("pred")
         ).withName("$anon$2833:3"),
         aarch64_sysop.layout().withName("sysop"),
-        capstone_h.C_CHAR.withName("access"),
-        capstone_h.C_BOOL.withName("is_list_member"),
+        CapstoneNative.C_CHAR.withName("access"),
+        CapstoneNative.C_BOOL.withName("is_list_member"),
         MemoryLayout.paddingLayout(6)
     ).withName("cs_aarch64_op");
 
@@ -178,8 +178,8 @@ public class cs_aarch64_op {
         }
 
         private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-            capstone_h.C_INT.withName("type"),
-            capstone_h.C_INT.withName("value")
+            CapstoneNative.C_INT.withName("type"),
+            CapstoneNative.C_INT.withName("value")
         ).withName("$anon$2821:3");
 
         /**
@@ -27,7 +27,7 @@ public class cs_alpha {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(3, cs_alpha_op.layout()).withName("operands")
     ).withName("cs_alpha");
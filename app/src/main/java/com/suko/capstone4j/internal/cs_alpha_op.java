@@ -31,12 +31,12 @@ public class cs_alpha_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_INT.withName("imm")
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_INT.withName("imm")
         ).withName("$anon$34:2"),
-        capstone_h.C_INT.withName("access")
+        CapstoneNative.C_INT.withName("access")
     ).withName("cs_alpha_op");
 
     /**
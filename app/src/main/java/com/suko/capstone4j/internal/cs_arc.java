@@ -27,7 +27,7 @@ public class cs_arc {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(8, cs_arc_op.layout()).withName("operands")
     ).withName("cs_arc");
@@ -38,20 +38,20 @@ public class cs_arm {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_BOOL.withName("usermode"),
+        CapstoneNative.C_BOOL.withName("usermode"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("vector_size"),
-        capstone_h.C_INT.withName("vector_data"),
-        capstone_h.C_INT.withName("cps_mode"),
-        capstone_h.C_INT.withName("cps_flag"),
-        capstone_h.C_INT.withName("cc"),
-        capstone_h.C_INT.withName("vcc"),
-        capstone_h.C_BOOL.withName("update_flags"),
-        capstone_h.C_BOOL.withName("post_index"),
+        CapstoneNative.C_INT.withName("vector_size"),
+        CapstoneNative.C_INT.withName("vector_data"),
+        CapstoneNative.C_INT.withName("cps_mode"),
+        CapstoneNative.C_INT.withName("cps_flag"),
+        CapstoneNative.C_INT.withName("cc"),
+        CapstoneNative.C_INT.withName("vcc"),
+        CapstoneNative.C_BOOL.withName("update_flags"),
+        CapstoneNative.C_BOOL.withName("post_index"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("mem_barrier"),
-        capstone_h.C_CHAR.withName("pred_mask"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("mem_barrier"),
+        CapstoneNative.C_CHAR.withName("pred_mask"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(2),
         MemoryLayout.sequenceLayout(36, cs_arm_op.layout()).withName("operands")
     ).withName("cs_arm");
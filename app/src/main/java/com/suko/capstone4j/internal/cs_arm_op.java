@@ -43,22 +43,22 @@ public class cs_arm_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("vector_index"),
+        CapstoneNative.C_INT.withName("vector_index"),
         cs_arm_op.shift.layout().withName("shift"),
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
+            CapstoneNative.C_INT.withName("reg"),
             arm_sysop.layout().withName("sysop"),
-            capstone_h.C_LONG_LONG.withName("imm"),
-            capstone_h.C_INT.withName("pred"),
-            capstone_h.C_DOUBLE.withName("fp"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("pred"),
+            CapstoneNative.C_DOUBLE.withName("fp"),
             arm_op_mem.layout().withName("mem"),
-            capstone_h.C_INT.withName("setend"),
+            CapstoneNative.C_INT.withName("setend"),
             MemoryLayout.paddingLayout(24)
         ).withName("$anon$874:2"),
-        capstone_h.C_BOOL.withName("subtracted"),
-        capstone_h.C_CHAR.withName("access"),
-        capstone_h.C_CHAR.withName("neon_lane"),
+        CapstoneNative.C_BOOL.withName("subtracted"),
+        CapstoneNative.C_CHAR.withName("access"),
+        CapstoneNative.C_CHAR.withName("neon_lane"),
         MemoryLayout.paddingLayout(5)
     ).withName("cs_arm_op");
 
@@ -128,8 +128,8 @@ public class cs_arm_op {
         }
 
         private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-            capstone_h.C_INT.withName("type"),
-            capstone_h.C_INT.withName("value")
+            CapstoneNative.C_INT.withName("type"),
+            CapstoneNative.C_INT.withName("value")
         ).withName("$anon$867:2");
 
         /**
@@ -27,7 +27,7 @@ public class cs_bpf {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(4, cs_bpf_op.layout()).withName("operands")
     ).withName("cs_bpf");
@@ -38,20 +38,20 @@ public class cs_bpf_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_CHAR.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
-            capstone_h.C_INT.withName("off"),
+            CapstoneNative.C_CHAR.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("off"),
             bpf_op_mem.layout().withName("mem"),
-            capstone_h.C_INT.withName("mmem"),
-            capstone_h.C_INT.withName("msh"),
-            capstone_h.C_INT.withName("ext")
+            CapstoneNative.C_INT.withName("mmem"),
+            CapstoneNative.C_INT.withName("msh"),
+            CapstoneNative.C_INT.withName("ext")
         ).withName("$anon$73:2"),
-        capstone_h.C_BOOL.withName("is_signed"),
-        capstone_h.C_BOOL.withName("is_pkt"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_BOOL.withName("is_signed"),
+        CapstoneNative.C_BOOL.withName("is_pkt"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(5)
     ).withName("cs_bpf_op");
 
@@ -57,14 +57,14 @@ public class cs_detail {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        MemoryLayout.sequenceLayout(20, capstone_h.C_SHORT).withName("regs_read"),
-        capstone_h.C_CHAR.withName("regs_read_count"),
+        MemoryLayout.sequenceLayout(20, CapstoneNative.C_SHORT).withName("regs_read"),
+        CapstoneNative.C_CHAR.withName("regs_read_count"),
         MemoryLayout.paddingLayout(1),
-        MemoryLayout.sequenceLayout(47, capstone_h.C_SHORT).withName("regs_write"),
-        capstone_h.C_CHAR.withName("regs_write_count"),
-        MemoryLayout.sequenceLayout(16, capstone_h.C_CHAR).withName("groups"),
-        capstone_h.C_CHAR.withName("groups_count"),
-        capstone_h.C_BOOL.withName("writeback"),
+        MemoryLayout.sequenceLayout(47, CapstoneNative.C_SHORT).withName("regs_write"),
+        CapstoneNative.C_CHAR.withName("regs_write_count"),
+        MemoryLayout.sequenceLayout(16, CapstoneNative.C_CHAR).withName("groups"),
+        CapstoneNative.C_CHAR.withName("groups_count"),
+        CapstoneNative.C_BOOL.withName("writeback"),
         MemoryLayout.paddingLayout(5),
         MemoryLayout.unionLayout(
             cs_x86.layout().withName("x86"),
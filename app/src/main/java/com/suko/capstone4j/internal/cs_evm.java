@@ -28,10 +28,10 @@ public class cs_evm {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("pop"),
-        capstone_h.C_CHAR.withName("push"),
+        CapstoneNative.C_CHAR.withName("pop"),
+        CapstoneNative.C_CHAR.withName("push"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("fee")
+        CapstoneNative.C_INT.withName("fee")
     ).withName("cs_evm");
 
     /**
@@ -31,7 +31,7 @@ public class cs_free_t {
     }
 
     private static final FunctionDescriptor $DESC = FunctionDescriptor.ofVoid(
-        capstone_h.C_POINTER
+        CapstoneNative.C_POINTER
     );
 
     /**
@@ -41,7 +41,7 @@ public class cs_free_t {
         return $DESC;
     }
 
-    private static final MethodHandle UP$MH = capstone_h.upcallHandle(cs_free_t.Function.class, "apply", $DESC);
+    private static final MethodHandle UP$MH = CapstoneNative.upcallHandle(cs_free_t.Function.class, "apply", $DESC);
 
     /**
      * Allocates a new upcall stub, whose implementation is defined by {@code fi}.
@@ -27,7 +27,7 @@ public class cs_hppa {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(5, cs_hppa_op.layout()).withName("operands")
     ).withName("cs_hppa");
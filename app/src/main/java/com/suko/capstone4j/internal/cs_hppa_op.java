@@ -32,15 +32,15 @@ public class cs_hppa_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
             hppa_mem.layout().withName("mem"),
             MemoryLayout.paddingLayout(16)
         ).withName("$anon$480:2"),
-        capstone_h.C_INT.withName("access"),
+        CapstoneNative.C_INT.withName("access"),
         MemoryLayout.paddingLayout(4)
     ).withName("cs_hppa_op");
 
@@ -35,18 +35,18 @@ public class cs_insn {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("id"),
+        CapstoneNative.C_INT.withName("id"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_LONG_LONG.withName("alias_id"),
-        capstone_h.C_LONG_LONG.withName("address"),
-        capstone_h.C_SHORT.withName("size"),
-        MemoryLayout.sequenceLayout(24, capstone_h.C_CHAR).withName("bytes"),
-        MemoryLayout.sequenceLayout(32, capstone_h.C_CHAR).withName("mnemonic"),
-        MemoryLayout.sequenceLayout(160, capstone_h.C_CHAR).withName("op_str"),
-        capstone_h.C_BOOL.withName("is_alias"),
-        capstone_h.C_BOOL.withName("usesAliasDetails"),
+        CapstoneNative.C_LONG_LONG.withName("alias_id"),
+        CapstoneNative.C_LONG_LONG.withName("address"),
+        CapstoneNative.C_SHORT.withName("size"),
+        MemoryLayout.sequenceLayout(24, CapstoneNative.C_CHAR).withName("bytes"),
+        MemoryLayout.sequenceLayout(32, CapstoneNative.C_CHAR).withName("mnemonic"),
+        MemoryLayout.sequenceLayout(160, CapstoneNative.C_CHAR).withName("op_str"),
+        CapstoneNative.C_BOOL.withName("is_alias"),
+        CapstoneNative.C_BOOL.withName("usesAliasDetails"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_POINTER.withName("detail")
+        CapstoneNative.C_POINTER.withName("detail")
     ).withName("cs_insn");
 
     /**
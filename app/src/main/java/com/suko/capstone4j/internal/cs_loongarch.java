@@ -28,8 +28,8 @@ public class cs_loongarch {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("format"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("format"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(8, cs_loongarch_op.layout()).withName("operands")
     ).withName("cs_loongarch");
@@ -32,14 +32,14 @@ public class cs_loongarch_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
             loongarch_op_mem.layout().withName("mem")
         ).withName("$anon$38:2"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(7)
     ).withName("cs_loongarch_op");
 
@@ -28,8 +28,8 @@ public class cs_m680x {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("flags"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("flags"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(2),
         MemoryLayout.sequenceLayout(9, cs_m680x_op.layout()).withName("operands")
     ).withName("cs_m680x");
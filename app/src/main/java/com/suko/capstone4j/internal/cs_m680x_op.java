@@ -37,18 +37,18 @@ public class cs_m680x_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("imm"),
-            capstone_h.C_INT.withName("reg"),
+            CapstoneNative.C_INT.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
             m680x_op_idx.layout().withName("idx"),
             m680x_op_rel.layout().withName("rel"),
             m680x_op_ext.layout().withName("ext"),
-            capstone_h.C_CHAR.withName("direct_addr"),
-            capstone_h.C_CHAR.withName("const_val")
+            CapstoneNative.C_CHAR.withName("direct_addr"),
+            CapstoneNative.C_CHAR.withName("const_val")
         ).withName("$anon$117:2"),
-        capstone_h.C_CHAR.withName("size"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_CHAR.withName("size"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(2)
     ).withName("cs_m680x_op");
 
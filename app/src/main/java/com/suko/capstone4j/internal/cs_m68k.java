@@ -30,7 +30,7 @@ public class cs_m68k {
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
         MemoryLayout.sequenceLayout(4, cs_m68k_op.layout()).withName("operands"),
         m68k_op_size.layout().withName("op_size"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7)
     ).withName("cs_m68k");
 
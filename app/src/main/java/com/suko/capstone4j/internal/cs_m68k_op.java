@@ -38,17 +38,17 @@ public class cs_m68k_op {
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
         MemoryLayout.unionLayout(
-            capstone_h.C_LONG_LONG.withName("imm"),
-            capstone_h.C_DOUBLE.withName("dimm"),
-            capstone_h.C_FLOAT.withName("simm"),
-            capstone_h.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_DOUBLE.withName("dimm"),
+            CapstoneNative.C_FLOAT.withName("simm"),
+            CapstoneNative.C_INT.withName("reg"),
             cs_m68k_op_reg_pair.layout().withName("reg_pair")
         ).withName("$anon$162:2"),
         m68k_op_mem.layout().withName("mem"),
         m68k_op_br_disp.layout().withName("br_disp"),
-        capstone_h.C_INT.withName("register_bits"),
-        capstone_h.C_INT.withName("type"),
-        capstone_h.C_INT.withName("address_mode")
+        CapstoneNative.C_INT.withName("register_bits"),
+        CapstoneNative.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("address_mode")
     ).withName("cs_m68k_op");
 
     /**
@@ -27,8 +27,8 @@ public class cs_m68k_op_reg_pair {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("reg_0"),
-        capstone_h.C_INT.withName("reg_1")
+        CapstoneNative.C_INT.withName("reg_0"),
+        CapstoneNative.C_INT.withName("reg_1")
     ).withName("cs_m68k_op_reg_pair");
 
     /**
@@ -31,8 +31,8 @@ public class cs_malloc_t {
     }
 
     private static final FunctionDescriptor $DESC = FunctionDescriptor.of(
-        capstone_h.C_POINTER,
-        capstone_h.C_LONG_LONG
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_LONG_LONG
     );
 
     /**
@@ -42,7 +42,7 @@ public class cs_malloc_t {
         return $DESC;
     }
 
-    private static final MethodHandle UP$MH = capstone_h.upcallHandle(cs_malloc_t.Function.class, "apply", $DESC);
+    private static final MethodHandle UP$MH = CapstoneNative.upcallHandle(cs_malloc_t.Function.class, "apply", $DESC);
 
     /**
      * Allocates a new upcall stub, whose implementation is defined by {@code fi}.
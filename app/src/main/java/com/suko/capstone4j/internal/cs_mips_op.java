@@ -35,17 +35,17 @@ public class cs_mips_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
-            capstone_h.C_LONG_LONG.withName("uimm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_LONG_LONG.withName("uimm"),
             mips_op_mem.layout().withName("mem")
         ).withName("$anon$686:2"),
-        capstone_h.C_BOOL.withName("is_reglist"),
-        capstone_h.C_BOOL.withName("is_unsigned"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_BOOL.withName("is_reglist"),
+        CapstoneNative.C_BOOL.withName("is_unsigned"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(5)
     ).withName("cs_mips_op");
 
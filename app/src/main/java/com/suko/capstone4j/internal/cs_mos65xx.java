@@ -29,9 +29,9 @@ public class cs_mos65xx {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("am"),
-        capstone_h.C_BOOL.withName("modifies_flags"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("am"),
+        CapstoneNative.C_BOOL.withName("modifies_flags"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(2),
         MemoryLayout.sequenceLayout(3, cs_mos65xx_op.layout()).withName("operands")
     ).withName("cs_mos65xx");
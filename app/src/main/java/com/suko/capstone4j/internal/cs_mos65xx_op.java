@@ -31,11 +31,11 @@ public class cs_mos65xx_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_SHORT.withName("imm"),
-            capstone_h.C_INT.withName("mem")
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_SHORT.withName("imm"),
+            CapstoneNative.C_INT.withName("mem")
         ).withName("$anon$183:2")
     ).withName("cs_mos65xx_op");
 
@@ -27,8 +27,8 @@ public class cs_opt {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
-        capstone_h.C_INT.withName("val")
+        CapstoneNative.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("val")
     ).withName("$anon$300:9");
 
     /**
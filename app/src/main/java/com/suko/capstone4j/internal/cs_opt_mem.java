@@ -30,11 +30,11 @@ public class cs_opt_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_POINTER.withName("malloc"),
-        capstone_h.C_POINTER.withName("calloc"),
-        capstone_h.C_POINTER.withName("realloc"),
-        capstone_h.C_POINTER.withName("free"),
-        capstone_h.C_POINTER.withName("vsnprintf")
+        CapstoneNative.C_POINTER.withName("malloc"),
+        CapstoneNative.C_POINTER.withName("calloc"),
+        CapstoneNative.C_POINTER.withName("realloc"),
+        CapstoneNative.C_POINTER.withName("free"),
+        CapstoneNative.C_POINTER.withName("vsnprintf")
     ).withName("cs_opt_mem");
 
     /**
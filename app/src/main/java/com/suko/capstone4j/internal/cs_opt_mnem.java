@@ -27,9 +27,9 @@ public class cs_opt_mnem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("id"),
+        CapstoneNative.C_INT.withName("id"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_POINTER.withName("mnemonic")
+        CapstoneNative.C_POINTER.withName("mnemonic")
     ).withName("cs_opt_mnem");
 
     /**
@@ -28,9 +28,9 @@ public class cs_opt_skipdata {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_POINTER.withName("mnemonic"),
-        capstone_h.C_POINTER.withName("callback"),
-        capstone_h.C_POINTER.withName("user_data")
+        CapstoneNative.C_POINTER.withName("mnemonic"),
+        CapstoneNative.C_POINTER.withName("callback"),
+        CapstoneNative.C_POINTER.withName("user_data")
     ).withName("cs_opt_skipdata");
 
     /**
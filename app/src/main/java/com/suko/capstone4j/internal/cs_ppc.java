@@ -31,10 +31,10 @@ public class cs_ppc {
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
         ppc_bc.layout().withName("bc"),
-        capstone_h.C_BOOL.withName("update_cr0"),
+        CapstoneNative.C_BOOL.withName("update_cr0"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("format"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("format"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(8, cs_ppc_op.layout()).withName("operands")
     ).withName("cs_ppc");
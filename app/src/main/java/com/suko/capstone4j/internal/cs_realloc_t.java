@@ -31,9 +31,9 @@ public class cs_realloc_t {
     }
 
     private static final FunctionDescriptor $DESC = FunctionDescriptor.of(
-        capstone_h.C_POINTER,
-        capstone_h.C_POINTER,
-        capstone_h.C_LONG_LONG
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_LONG_LONG
     );
 
     /**
@@ -43,7 +43,7 @@ public class cs_realloc_t {
         return $DESC;
     }
 
-    private static final MethodHandle UP$MH = capstone_h.upcallHandle(cs_realloc_t.Function.class, "apply", $DESC);
+    private static final MethodHandle UP$MH = CapstoneNative.upcallHandle(cs_realloc_t.Function.class, "apply", $DESC);
 
     /**
      * Allocates a new upcall stub, whose implementation is defined by {@code fi}.
@@ -28,8 +28,8 @@ public class cs_riscv {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_BOOL.withName("need_effective_addr"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_BOOL.withName("need_effective_addr"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(6),
         MemoryLayout.sequenceLayout(8, cs_riscv_op.layout()).withName("operands")
     ).withName("cs_riscv");
@@ -29,9 +29,9 @@ public class cs_sh {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("insn"),
-        capstone_h.C_CHAR.withName("size"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("insn"),
+        CapstoneNative.C_CHAR.withName("size"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(2),
         MemoryLayout.sequenceLayout(3, cs_sh_op.layout()).withName("operands")
     ).withName("cs_sh");
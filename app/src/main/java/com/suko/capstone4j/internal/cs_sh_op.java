@@ -32,11 +32,11 @@ public class cs_sh_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_LONG_LONG.withName("imm"),
-            capstone_h.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
             sh_op_mem.layout().withName("mem"),
             sh_op_dsp.layout().withName("dsp")
         ).withName("$anon$250:2")
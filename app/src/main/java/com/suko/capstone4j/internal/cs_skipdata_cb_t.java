@@ -31,11 +31,11 @@ public class cs_skipdata_cb_t {
     }
 
     private static final FunctionDescriptor $DESC = FunctionDescriptor.of(
-        capstone_h.C_LONG_LONG,
-        capstone_h.C_POINTER,
-        capstone_h.C_LONG_LONG,
-        capstone_h.C_LONG_LONG,
-        capstone_h.C_POINTER
+        CapstoneNative.C_LONG_LONG,
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_LONG_LONG,
+        CapstoneNative.C_LONG_LONG,
+        CapstoneNative.C_POINTER
     );
 
     /**
@@ -45,7 +45,7 @@ public class cs_skipdata_cb_t {
         return $DESC;
     }
 
-    private static final MethodHandle UP$MH = capstone_h.upcallHandle(cs_skipdata_cb_t.Function.class, "apply", $DESC);
+    private static final MethodHandle UP$MH = CapstoneNative.upcallHandle(cs_skipdata_cb_t.Function.class, "apply", $DESC);
 
     /**
      * Allocates a new upcall stub, whose implementation is defined by {@code fi}.
@@ -29,9 +29,9 @@ public class cs_sparc {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("cc"),
-        capstone_h.C_INT.withName("hint"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("cc"),
+        CapstoneNative.C_INT.withName("hint"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(4, cs_sparc_op.layout()).withName("operands")
     ).withName("cs_sparc");
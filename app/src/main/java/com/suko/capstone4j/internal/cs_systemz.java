@@ -29,9 +29,9 @@ public class cs_systemz {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("cc"),
-        capstone_h.C_INT.withName("format"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_INT.withName("cc"),
+        CapstoneNative.C_INT.withName("format"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(6, cs_systemz_op.layout()).withName("operands")
     ).withName("cs_systemz");
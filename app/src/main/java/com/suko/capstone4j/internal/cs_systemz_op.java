@@ -33,15 +33,15 @@ public class cs_systemz_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
             systemz_op_mem.layout().withName("mem")
         ).withName("$anon$368:2"),
-        capstone_h.C_INT.withName("access"),
-        capstone_h.C_CHAR.withName("imm_width"),
+        CapstoneNative.C_INT.withName("access"),
+        CapstoneNative.C_CHAR.withName("imm_width"),
         MemoryLayout.paddingLayout(3)
     ).withName("cs_systemz_op");
 
@@ -37,12 +37,12 @@ public class cs_tms320c64x {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(8, cs_tms320c64x_op.layout()).withName("operands"),
         cs_tms320c64x.condition.layout().withName("condition"),
         cs_tms320c64x.funit.layout().withName("funit"),
-        capstone_h.C_INT.withName("parallel")
+        CapstoneNative.C_INT.withName("parallel")
     ).withName("cs_tms320c64x");
 
     /**
@@ -192,8 +192,8 @@ public class cs_tms320c64x {
         }
 
         private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_INT.withName("zero")
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_INT.withName("zero")
         ).withName("$anon$68:2");
 
         /**
@@ -408,9 +408,9 @@ public class cs_tms320c64x {
         }
 
         private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-            capstone_h.C_INT.withName("unit"),
-            capstone_h.C_INT.withName("side"),
-            capstone_h.C_INT.withName("crosspath")
+            CapstoneNative.C_INT.withName("unit"),
+            CapstoneNative.C_INT.withName("side"),
+            CapstoneNative.C_INT.withName("crosspath")
         ).withName("$anon$72:2");
 
         /**
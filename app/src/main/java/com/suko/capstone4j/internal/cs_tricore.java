@@ -28,10 +28,10 @@ public class cs_tricore {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(8, cs_tricore_op.layout()).withName("operands"),
-        capstone_h.C_BOOL.withName("update_flags"),
+        CapstoneNative.C_BOOL.withName("update_flags"),
         MemoryLayout.paddingLayout(7)
     ).withName("cs_tricore");
 
@@ -31,11 +31,11 @@ public class cs_vsnprintf_t {
     }
 
     private static final FunctionDescriptor $DESC = FunctionDescriptor.of(
-        capstone_h.C_INT,
-        capstone_h.C_POINTER,
-        capstone_h.C_LONG_LONG,
-        capstone_h.C_POINTER,
-        capstone_h.C_POINTER
+        CapstoneNative.C_INT,
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_LONG_LONG,
+        CapstoneNative.C_POINTER,
+        CapstoneNative.C_POINTER
     );
 
     /**
@@ -45,7 +45,7 @@ public class cs_vsnprintf_t {
         return $DESC;
     }
 
-    private static final MethodHandle UP$MH = capstone_h.upcallHandle(cs_vsnprintf_t.Function.class, "apply", $DESC);
+    private static final MethodHandle UP$MH = CapstoneNative.upcallHandle(cs_vsnprintf_t.Function.class, "apply", $DESC);
 
     /**
      * Allocates a new upcall stub, whose implementation is defined by {@code fi}.
@@ -27,7 +27,7 @@ public class cs_wasm {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(2, cs_wasm_op.layout()).withName("operands")
     ).withName("cs_wasm");
@@ -28,10 +28,10 @@ public class cs_wasm_brtable {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("length"),
+        CapstoneNative.C_INT.withName("length"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_LONG_LONG.withName("address"),
-        capstone_h.C_INT.withName("default_target"),
+        CapstoneNative.C_LONG_LONG.withName("address"),
+        CapstoneNative.C_INT.withName("default_target"),
         MemoryLayout.paddingLayout(4)
     ).withName("cs_wasm_brtable");
 
@@ -36,15 +36,15 @@ public class cs_wasm_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
-        capstone_h.C_INT.withName("size"),
+        CapstoneNative.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("size"),
         MemoryLayout.unionLayout(
-            capstone_h.C_CHAR.withName("int7"),
-            capstone_h.C_INT.withName("varuint32"),
-            capstone_h.C_LONG_LONG.withName("varuint64"),
-            capstone_h.C_INT.withName("uint32"),
-            capstone_h.C_LONG_LONG.withName("uint64"),
-            MemoryLayout.sequenceLayout(2, capstone_h.C_INT).withName("immediate"),
+            CapstoneNative.C_CHAR.withName("int7"),
+            CapstoneNative.C_INT.withName("varuint32"),
+            CapstoneNative.C_LONG_LONG.withName("varuint64"),
+            CapstoneNative.C_INT.withName("uint32"),
+            CapstoneNative.C_LONG_LONG.withName("uint64"),
+            MemoryLayout.sequenceLayout(2, CapstoneNative.C_INT).withName("immediate"),
             cs_wasm_brtable.layout().withName("brtable")
         ).withName("$anon$39:2")
     ).withName("cs_wasm_op");
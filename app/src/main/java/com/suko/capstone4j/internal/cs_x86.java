@@ -47,29 +47,29 @@ public class cs_x86 {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        MemoryLayout.sequenceLayout(4, capstone_h.C_CHAR).withName("prefix"),
-        MemoryLayout.sequenceLayout(4, capstone_h.C_CHAR).withName("opcode"),
-        capstone_h.C_CHAR.withName("rex"),
-        capstone_h.C_CHAR.withName("addr_size"),
-        capstone_h.C_CHAR.withName("modrm"),
-        capstone_h.C_CHAR.withName("sib"),
+        MemoryLayout.sequenceLayout(4, CapstoneNative.C_CHAR).withName("prefix"),
+        MemoryLayout.sequenceLayout(4, CapstoneNative.C_CHAR).withName("opcode"),
+        CapstoneNative.C_CHAR.withName("rex"),
+        CapstoneNative.C_CHAR.withName("addr_size"),
+        CapstoneNative.C_CHAR.withName("modrm"),
+        CapstoneNative.C_CHAR.withName("sib"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_LONG_LONG.withName("disp"),
-        capstone_h.C_INT.withName("sib_index"),
-        capstone_h.C_CHAR.withName("sib_scale"),
+        CapstoneNative.C_LONG_LONG.withName("disp"),
+        CapstoneNative.C_INT.withName("sib_index"),
+        CapstoneNative.C_CHAR.withName("sib_scale"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("sib_base"),
-        capstone_h.C_INT.withName("xop_cc"),
-        capstone_h.C_INT.withName("sse_cc"),
-        capstone_h.C_INT.withName("avx_cc"),
-        capstone_h.C_BOOL.withName("avx_sae"),
+        CapstoneNative.C_INT.withName("sib_base"),
+        CapstoneNative.C_INT.withName("xop_cc"),
+        CapstoneNative.C_INT.withName("sse_cc"),
+        CapstoneNative.C_INT.withName("avx_cc"),
+        CapstoneNative.C_BOOL.withName("avx_sae"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("avx_rm"),
+        CapstoneNative.C_INT.withName("avx_rm"),
         MemoryLayout.unionLayout(
-            capstone_h.C_LONG_LONG.withName("eflags"),
-            capstone_h.C_LONG_LONG.withName("fpu_flags")
+            CapstoneNative.C_LONG_LONG.withName("eflags"),
+            CapstoneNative.C_LONG_LONG.withName("fpu_flags")
         ).withName("$anon$368:2"),
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(7),
         MemoryLayout.sequenceLayout(8, cs_x86_op.layout()).withName("operands"),
         cs_x86_encoding.layout().withName("encoding"),
@@ -30,11 +30,11 @@ public class cs_x86_encoding {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("modrm_offset"),
-        capstone_h.C_CHAR.withName("disp_offset"),
-        capstone_h.C_CHAR.withName("disp_size"),
-        capstone_h.C_CHAR.withName("imm_offset"),
-        capstone_h.C_CHAR.withName("imm_size")
+        CapstoneNative.C_CHAR.withName("modrm_offset"),
+        CapstoneNative.C_CHAR.withName("disp_offset"),
+        CapstoneNative.C_CHAR.withName("disp_size"),
+        CapstoneNative.C_CHAR.withName("imm_offset"),
+        CapstoneNative.C_CHAR.withName("imm_size")
     ).withName("cs_x86_encoding");
 
     /**
@@ -35,18 +35,18 @@ public class cs_x86_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.paddingLayout(4),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_LONG_LONG.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_LONG_LONG.withName("imm"),
             x86_op_mem.layout().withName("mem")
         ).withName("$anon$280:2"),
-        capstone_h.C_CHAR.withName("size"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_CHAR.withName("size"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("avx_bcast"),
-        capstone_h.C_BOOL.withName("avx_zero_opmask"),
+        CapstoneNative.C_INT.withName("avx_bcast"),
+        CapstoneNative.C_BOOL.withName("avx_zero_opmask"),
         MemoryLayout.paddingLayout(7)
     ).withName("cs_x86_op");
 
@@ -27,7 +27,7 @@ public class cs_xcore {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(8, cs_xcore_op.layout()).withName("operands")
     ).withName("cs_xcore");
@@ -31,10 +31,10 @@ public class cs_xcore_op {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("reg"),
-            capstone_h.C_INT.withName("imm"),
+            CapstoneNative.C_INT.withName("reg"),
+            CapstoneNative.C_INT.withName("imm"),
             xcore_op_mem.layout().withName("mem")
         ).withName("$anon$78:2")
     ).withName("cs_xcore_op");
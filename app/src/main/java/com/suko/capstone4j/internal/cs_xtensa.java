@@ -28,10 +28,10 @@ public class cs_xtensa {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("op_count"),
+        CapstoneNative.C_CHAR.withName("op_count"),
         MemoryLayout.paddingLayout(3),
         MemoryLayout.sequenceLayout(8, cs_xtensa_operand.layout()).withName("operands"),
-        capstone_h.C_INT.withName("format")
+        CapstoneNative.C_INT.withName("format")
     ).withName("cs_xtensa");
 
     /**
@@ -27,9 +27,9 @@ public class cs_xtensa_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("base"),
+        CapstoneNative.C_CHAR.withName("base"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("disp")
+        CapstoneNative.C_INT.withName("disp")
     ).withName("cs_xtensa_op_mem");
 
     /**
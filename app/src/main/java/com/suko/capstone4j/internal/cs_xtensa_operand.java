@@ -32,12 +32,12 @@ public class cs_xtensa_operand {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("type"),
-        capstone_h.C_CHAR.withName("access"),
+        CapstoneNative.C_CHAR.withName("type"),
+        CapstoneNative.C_CHAR.withName("access"),
         MemoryLayout.paddingLayout(2),
         MemoryLayout.unionLayout(
-            capstone_h.C_CHAR.withName("reg"),
-            capstone_h.C_INT.withName("imm"),
+            CapstoneNative.C_CHAR.withName("reg"),
+            CapstoneNative.C_INT.withName("imm"),
             cs_xtensa_op_mem.layout().withName("mem")
         ).withName("$anon$1708:2")
     ).withName("cs_xtensa_operand");
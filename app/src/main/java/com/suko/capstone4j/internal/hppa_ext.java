@@ -30,9 +30,9 @@ public class hppa_ext {
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
         MemoryLayout.sequenceLayout(5, hppa_modifier.layout()).withName("modifiers"),
-        capstone_h.C_CHAR.withName("mod_num"),
-        capstone_h.C_BOOL.withName("b_writeble"),
-        capstone_h.C_BOOL.withName("is_alternative"),
+        CapstoneNative.C_CHAR.withName("mod_num"),
+        CapstoneNative.C_BOOL.withName("b_writeble"),
+        CapstoneNative.C_BOOL.withName("is_alternative"),
         MemoryLayout.paddingLayout(1)
     ).withName("hppa_ext");
 
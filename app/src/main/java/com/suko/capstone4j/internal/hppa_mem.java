@@ -28,9 +28,9 @@ public class hppa_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("space"),
-        capstone_h.C_INT.withName("base_access")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("space"),
+        CapstoneNative.C_INT.withName("base_access")
     ).withName("hppa_mem");
 
     /**
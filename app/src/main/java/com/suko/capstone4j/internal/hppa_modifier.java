@@ -30,10 +30,10 @@ public class hppa_modifier {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            MemoryLayout.sequenceLayout(8, capstone_h.C_CHAR).withName("str_mod"),
-            capstone_h.C_INT.withName("int_mod")
+            MemoryLayout.sequenceLayout(8, CapstoneNative.C_CHAR).withName("str_mod"),
+            CapstoneNative.C_INT.withName("int_mod")
         ).withName("$anon$505:2")
     ).withName("hppa_modifier");
 
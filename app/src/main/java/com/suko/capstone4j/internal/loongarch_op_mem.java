@@ -28,9 +28,9 @@ public class loongarch_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("index"),
-        capstone_h.C_LONG_LONG.withName("disp")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("index"),
+        CapstoneNative.C_LONG_LONG.withName("disp")
     ).withName("loongarch_op_mem");
 
     /**
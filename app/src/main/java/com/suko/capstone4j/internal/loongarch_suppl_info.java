@@ -27,8 +27,8 @@ public class loongarch_suppl_info {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("form"),
-        capstone_h.C_INT.withName("memory_access")
+        CapstoneNative.C_INT.withName("form"),
+        CapstoneNative.C_INT.withName("memory_access")
     ).withName("$anon$174:9");
 
     /**
@@ -27,8 +27,8 @@ public class m680x_op_ext {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_SHORT.withName("address"),
-        capstone_h.C_BOOL.withName("indirect"),
+        CapstoneNative.C_SHORT.withName("address"),
+        CapstoneNative.C_BOOL.withName("indirect"),
         MemoryLayout.paddingLayout(1)
     ).withName("m680x_op_ext");
 
@@ -32,13 +32,13 @@ public class m680x_op_idx {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base_reg"),
-        capstone_h.C_INT.withName("offset_reg"),
-        capstone_h.C_SHORT.withName("offset"),
-        capstone_h.C_SHORT.withName("offset_addr"),
-        capstone_h.C_CHAR.withName("offset_bits"),
-        capstone_h.C_CHAR.withName("inc_dec"),
-        capstone_h.C_CHAR.withName("flags"),
+        CapstoneNative.C_INT.withName("base_reg"),
+        CapstoneNative.C_INT.withName("offset_reg"),
+        CapstoneNative.C_SHORT.withName("offset"),
+        CapstoneNative.C_SHORT.withName("offset_addr"),
+        CapstoneNative.C_CHAR.withName("offset_bits"),
+        CapstoneNative.C_CHAR.withName("inc_dec"),
+        CapstoneNative.C_CHAR.withName("flags"),
         MemoryLayout.paddingLayout(1)
     ).withName("m680x_op_idx");
 
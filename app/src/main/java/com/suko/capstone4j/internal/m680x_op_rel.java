@@ -27,8 +27,8 @@ public class m680x_op_rel {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_SHORT.withName("address"),
-        capstone_h.C_SHORT.withName("offset")
+        CapstoneNative.C_SHORT.withName("address"),
+        CapstoneNative.C_SHORT.withName("offset")
     ).withName("m680x_op_rel");
 
     /**
@@ -27,8 +27,8 @@ public class m68k_op_br_disp {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("disp"),
-        capstone_h.C_CHAR.withName("disp_size"),
+        CapstoneNative.C_INT.withName("disp"),
+        CapstoneNative.C_CHAR.withName("disp_size"),
         MemoryLayout.paddingLayout(3)
     ).withName("m68k_op_br_disp");
 
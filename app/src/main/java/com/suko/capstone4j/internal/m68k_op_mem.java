@@ -36,17 +36,17 @@ public class m68k_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base_reg"),
-        capstone_h.C_INT.withName("index_reg"),
-        capstone_h.C_INT.withName("in_base_reg"),
-        capstone_h.C_INT.withName("in_disp"),
-        capstone_h.C_INT.withName("out_disp"),
-        capstone_h.C_SHORT.withName("disp"),
-        capstone_h.C_CHAR.withName("scale"),
-        capstone_h.C_CHAR.withName("bitfield"),
-        capstone_h.C_CHAR.withName("width"),
-        capstone_h.C_CHAR.withName("offset"),
-        capstone_h.C_CHAR.withName("index_size"),
+        CapstoneNative.C_INT.withName("base_reg"),
+        CapstoneNative.C_INT.withName("index_reg"),
+        CapstoneNative.C_INT.withName("in_base_reg"),
+        CapstoneNative.C_INT.withName("in_disp"),
+        CapstoneNative.C_INT.withName("out_disp"),
+        CapstoneNative.C_SHORT.withName("disp"),
+        CapstoneNative.C_CHAR.withName("scale"),
+        CapstoneNative.C_CHAR.withName("bitfield"),
+        CapstoneNative.C_CHAR.withName("width"),
+        CapstoneNative.C_CHAR.withName("offset"),
+        CapstoneNative.C_CHAR.withName("index_size"),
         MemoryLayout.paddingLayout(1)
     ).withName("m68k_op_mem");
 
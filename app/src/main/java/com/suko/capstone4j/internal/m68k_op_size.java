@@ -30,10 +30,10 @@ public class m68k_op_size {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("type"),
+        CapstoneNative.C_INT.withName("type"),
         MemoryLayout.unionLayout(
-            capstone_h.C_INT.withName("cpu_size"),
-            capstone_h.C_INT.withName("fpu_size")
+            CapstoneNative.C_INT.withName("cpu_size"),
+            CapstoneNative.C_INT.withName("fpu_size")
         ).withName("$anon$204:2")
     ).withName("m68k_op_size");
 
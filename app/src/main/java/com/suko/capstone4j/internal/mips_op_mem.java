@@ -27,9 +27,9 @@ public class mips_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("base"),
         MemoryLayout.paddingLayout(4),
-        capstone_h.C_LONG_LONG.withName("disp")
+        CapstoneNative.C_LONG_LONG.withName("disp")
     ).withName("mips_op_mem");
 
     /**
@@ -33,15 +33,15 @@ public class ppc_bc {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("bo"),
-        capstone_h.C_CHAR.withName("bi"),
+        CapstoneNative.C_CHAR.withName("bo"),
+        CapstoneNative.C_CHAR.withName("bi"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("crX_bit"),
-        capstone_h.C_INT.withName("crX"),
-        capstone_h.C_INT.withName("hint"),
-        capstone_h.C_INT.withName("pred_cr"),
-        capstone_h.C_INT.withName("pred_ctr"),
-        capstone_h.C_INT.withName("bh")
+        CapstoneNative.C_INT.withName("crX_bit"),
+        CapstoneNative.C_INT.withName("crX"),
+        CapstoneNative.C_INT.withName("hint"),
+        CapstoneNative.C_INT.withName("pred_cr"),
+        CapstoneNative.C_INT.withName("pred_ctr"),
+        CapstoneNative.C_INT.withName("bh")
     ).withName("$anon$882:9");
 
     /**
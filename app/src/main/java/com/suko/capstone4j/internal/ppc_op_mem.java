@@ -28,9 +28,9 @@ public class ppc_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("disp"),
-        capstone_h.C_INT.withName("offset")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("disp"),
+        CapstoneNative.C_INT.withName("offset")
     ).withName("ppc_op_mem");
 
     /**
@@ -31,13 +31,13 @@ public class sh_op_dsp {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("insn"),
-        MemoryLayout.sequenceLayout(2, capstone_h.C_INT).withName("operand"),
-        MemoryLayout.sequenceLayout(6, capstone_h.C_INT).withName("r"),
-        capstone_h.C_INT.withName("cc"),
-        capstone_h.C_CHAR.withName("imm"),
+        CapstoneNative.C_INT.withName("insn"),
+        MemoryLayout.sequenceLayout(2, CapstoneNative.C_INT).withName("operand"),
+        MemoryLayout.sequenceLayout(6, CapstoneNative.C_INT).withName("r"),
+        CapstoneNative.C_INT.withName("cc"),
+        CapstoneNative.C_CHAR.withName("imm"),
         MemoryLayout.paddingLayout(3),
-        capstone_h.C_INT.withName("size")
+        CapstoneNative.C_INT.withName("size")
     ).withName("sh_op_dsp");
 
     /**
@@ -28,9 +28,9 @@ public class sh_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("address"),
-        capstone_h.C_INT.withName("reg"),
-        capstone_h.C_INT.withName("disp")
+        CapstoneNative.C_INT.withName("address"),
+        CapstoneNative.C_INT.withName("reg"),
+        CapstoneNative.C_INT.withName("disp")
     ).withName("sh_op_mem");
 
     /**
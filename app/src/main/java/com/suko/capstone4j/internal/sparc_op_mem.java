@@ -28,10 +28,10 @@ public class sparc_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("base"),
-        capstone_h.C_CHAR.withName("index"),
+        CapstoneNative.C_CHAR.withName("base"),
+        CapstoneNative.C_CHAR.withName("index"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("disp")
+        CapstoneNative.C_INT.withName("disp")
     ).withName("sparc_op_mem");
 
     /**
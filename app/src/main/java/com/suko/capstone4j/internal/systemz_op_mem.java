@@ -30,12 +30,12 @@ public class systemz_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("am"),
-        capstone_h.C_CHAR.withName("base"),
-        capstone_h.C_CHAR.withName("index"),
+        CapstoneNative.C_INT.withName("am"),
+        CapstoneNative.C_CHAR.withName("base"),
+        CapstoneNative.C_CHAR.withName("index"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_LONG_LONG.withName("length"),
-        capstone_h.C_LONG_LONG.withName("disp")
+        CapstoneNative.C_LONG_LONG.withName("length"),
+        CapstoneNative.C_LONG_LONG.withName("disp")
     ).withName("systemz_op_mem");
 
     /**
@@ -32,13 +32,13 @@ public class tms320c64x_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("disp"),
-        capstone_h.C_INT.withName("unit"),
-        capstone_h.C_INT.withName("scaled"),
-        capstone_h.C_INT.withName("disptype"),
-        capstone_h.C_INT.withName("direction"),
-        capstone_h.C_INT.withName("modify")
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("disp"),
+        CapstoneNative.C_INT.withName("unit"),
+        CapstoneNative.C_INT.withName("scaled"),
+        CapstoneNative.C_INT.withName("disptype"),
+        CapstoneNative.C_INT.withName("direction"),
+        CapstoneNative.C_INT.withName("modify")
     ).withName("tms320c64x_op_mem");
 
     /**
@@ -27,9 +27,9 @@ public class tricore_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("base"),
+        CapstoneNative.C_CHAR.withName("base"),
         MemoryLayout.paddingLayout(7),
-        capstone_h.C_LONG_LONG.withName("disp")
+        CapstoneNative.C_LONG_LONG.withName("disp")
     ).withName("tricore_op_mem");
 
     /**
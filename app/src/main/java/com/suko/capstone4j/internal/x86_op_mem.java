@@ -30,11 +30,11 @@ public class x86_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("segment"),
-        capstone_h.C_INT.withName("base"),
-        capstone_h.C_INT.withName("index"),
-        capstone_h.C_INT.withName("scale"),
-        capstone_h.C_LONG_LONG.withName("disp")
+        CapstoneNative.C_INT.withName("segment"),
+        CapstoneNative.C_INT.withName("base"),
+        CapstoneNative.C_INT.withName("index"),
+        CapstoneNative.C_INT.withName("scale"),
+        CapstoneNative.C_LONG_LONG.withName("disp")
     ).withName("x86_op_mem");
 
     /**
@@ -29,11 +29,11 @@ public class xcore_op_mem {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_CHAR.withName("base"),
-        capstone_h.C_CHAR.withName("index"),
+        CapstoneNative.C_CHAR.withName("base"),
+        CapstoneNative.C_CHAR.withName("index"),
         MemoryLayout.paddingLayout(2),
-        capstone_h.C_INT.withName("disp"),
-        capstone_h.C_INT.withName("direct")
+        CapstoneNative.C_INT.withName("disp"),
+        CapstoneNative.C_INT.withName("direct")
     ).withName("xcore_op_mem");
 
     /**
@@ -26,7 +26,7 @@ public class xtensa_suppl_info {
     }
 
     private static final GroupLayout $LAYOUT = MemoryLayout.structLayout(
-        capstone_h.C_INT.withName("form")
+        CapstoneNative.C_INT.withName("form")
     ).withName("$anon$1685:9");
 
     /**
@@ -0,0 +1,303 @@
+package com.suko.capstone4j.utils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Locates native libraries bundled in the jar for the current platform and extracts them into a
+ * content-addressed cache.
+ * <p>
+ * Bundled libraries are expected under {@code /libs/<os>-<arch>/}, with the platform specific file name
+ * of {@link System#mapLibraryName(String)}, for example {@code /libs/linux-x86_64/libcapstone.so} or
+ * {@code /libs/windows-x86_64/capstone.dll}. See {@link #osName()} and {@link #archName()} for the
+ * names used.
+ * <p>
+ * {@link NativeUtils#loadLibraryFromJar(String)} copies a library into a new temporary directory on
+ * every start. {@link #extract(String)} instead stores it in a directory named after the SHA-256 hash of
+ * its content, so a JVM that finds the file already there loads it without writing it again. The hash
+ * is read from a {@code <library>.sha256} resource next to the library when the jar contains one, and
+ * computed from the library otherwise. Concurrent starts write to temporary files and move them into
+ * place atomically, so a JVM never loads a partially written library.
+ * <p>
+ * The cache may be located in a directory shared with other users, so it is never trusted blindly. On
+ * POSIX file systems, the directories are created accessible by their owner only, and a directory that
+ * is not owned by the current user is rejected. A library found in the cache is hashed again and only
+ * loaded if its content matches the hash of its directory, otherwise it is replaced by the bundled one.
+ * <p>
+ * The cache is located in, in this order:
+ * <ul>
+ *   <li>the directory of the {@value #CACHE_DIR_PROPERTY} system property</li>
+ *   <li>{@code $XDG_CACHE_HOME/capstone4j/native}</li>
+ *   <li>{@code ~/.cache/capstone4j/native}</li>
+ *   <li>{@code <java.io.tmpdir>/capstone4j-<user.name>/native}</li>
+ * </ul>
+ */
+public final class NativeLibraryLoader {
+
+    /**
+     * System property overriding the directory of the extraction cache.
+     */
+    public static final String CACHE_DIR_PROPERTY = "capstone4j.native.cache";
+
+    private static final String RESOURCE_ROOT = "/libs/";
+    private static final String DIGEST_SUFFIX = ".sha256";
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> SHARED_WRITE = EnumSet.of(PosixFilePermission.GROUP_WRITE, PosixFilePermission.OTHERS_WRITE);
+
+    /**
+     * Private constructor - this class will never be instanced
+     */
+    private NativeLibraryLoader() {
+    }
+
+    /**
+     * Returns the operating system part of the resource directory: {@code linux}, {@code windows},
+     * {@code macos}, or the lower case {@code os.name} without spaces for other systems.
+     *
+     * @return the operating system name
+     */
+    public static String osName() {
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        if (os.startsWith("linux")) {
+            return "linux";
+        }
+        if (os.startsWith("windows")) {
+            return "windows";
+        }
+        if (os.startsWith("mac") || os.startsWith("darwin")) {
+            return "macos";
+        }
+        return os.replace(" ", "");
+    }
+
+    /**
+     * Returns the architecture part of the resource directory: {@code x86_64}, {@code x86},
+     * {@code aarch64}, {@code arm}, or the lower case {@code os.arch} for other architectures.
+     *
+     * @return the architecture name
+     */
+    public static String archName() {
+        String arch = System.getProperty("os.arch", "").toLowerCase(Locale.ROOT);
+        return switch (arch) {
+            case "amd64", "x86_64", "x64" -> "x86_64";
+            case "x86", "i386", "i486", "i586", "i686" -> "x86";
+            case "aarch64", "arm64" -> "aarch64";
+            case "arm", "arm32" -> "arm";
+            default -> arch;
+        };
+    }
+
+    /**
+     * Returns the resource path of a library bundled for the current platform.
+     *
+     * @param libraryName the name of the library without prefix and suffix, e.g. {@code capstone}
+     * @return the absolute resource path, e.g. {@code /libs/linux-x86_64/libcapstone.so}
+     */
+    public static String resourcePath(String libraryName) {
+        return RESOURCE_ROOT + osName() + "-" + archName() + "/" + System.mapLibraryName(libraryName);
+    }
+
+    /**
+     * Returns whether the jar contains a resource.
+     *
+     * @param path the absolute resource path
+     * @return true if the resource exists, false otherwise
+     */
+    public static boolean hasResource(String path) {
+        return NativeLibraryLoader.class.getResource(path) != null;
+    }
+
+    /**
+     * Returns the directory of the extraction cache.
+     *
+     * @return the cache directory, which may not exist yet
+     */
+    public static Path cacheDirectory() {
+        String configured = System.getProperty(CACHE_DIR_PROPERTY);
+        if (configured != null && !configured.isBlank()) {
+            return Paths.get(configured);
+        }
+        String xdgCache = System.getenv("XDG_CACHE_HOME");
+        if (xdgCache != null && !xdgCache.isBlank()) {
+            return Paths.get(xdgCache, "capstone4j", "native");
+        }
+        String home = System.getProperty("user.home");
+        if (home != null && !home.isBlank() && Files.isWritable(Paths.get(home))) {
+            return Paths.get(home, ".cache", "capstone4j", "native");
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "capstone4j-" + System.getProperty("user.name", "user"), "native");
+    }
+
+    /**
+     * Extracts a bundled library into the cache, unless a copy with the same content is already there.
+     *
+     * @param path the absolute resource path of the library
+     * @return the path of the extracted library
+     * @throws FileNotFoundException if the resource does not exist
+     * @throws IOException if the library cannot be read or written, if a cache directory belongs to another
+     *                     user, or if the extracted library does not match its hash
+     * @throws IllegalArgumentException if the path is not absolute
+     */
+    public static Path extract(String path) throws IOException {
+        if (path == null || !path.startsWith("/")) {
+            throw new IllegalArgumentException("The path has to be absolute (start with '/').");
+        }
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+
+        byte[] content = null;
+        String digest = readDigestResource(path);
+        if (digest == null) {
+            content = readResource(path);
+            digest = sha256(content);
+        }
+
+        Path cache = cacheDirectory();
+        Path directory = cache.resolve(digest);
+        createPrivateDirectory(cache);
+        createPrivateDirectory(directory);
+        Path target = directory.resolve(fileName);
+        if (Files.isRegularFile(target) && digest.equals(sha256(target))) {
+            return target;
+        }
+
+        if (content == null) {
+            content = readResource(path);
+        }
+        if (!digest.equals(sha256(content))) {
+            throw new IOException("The content of " + path + " does not match its SHA-256 hash " + digest);
+        }
+        Path temp = Files.createTempFile(directory, fileName, ".tmp");
+        try {
+            Files.write(temp, content);
+            // a file with other content is a damaged or planted copy and is replaced
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException | AccessDeniedException e) {
+            // Another JVM moved its copy into place first, and on Windows the file may already be loaded
+            if (!Files.isRegularFile(target)) {
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        if (!digest.equals(sha256(target))) {
+            throw new IOException("The extracted library " + target + " does not match its SHA-256 hash " + digest);
+        }
+        return target;
+    }
+
+    /**
+     * Creates a directory accessible by its owner only, or checks that an existing directory belongs to
+     * the current user and removes the write permissions of other users from it. File systems without
+     * POSIX permissions are left to their own access control.
+     */
+    private static void createPrivateDirectory(Path directory) throws IOException {
+        if (!directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createDirectories(directory);
+            return;
+        }
+        FileAttribute<Set<PosixFilePermission>> ownerOnly = PosixFilePermissions.asFileAttribute(OWNER_ONLY);
+        if (!Files.isDirectory(directory)) {
+            try {
+                Files.createDirectories(directory, ownerOnly);
+            } catch (FileAlreadyExistsException e) {
+                // created concurrently, it is checked below
+            }
+        }
+        PosixFileAttributes attributes = Files.readAttributes(directory, PosixFileAttributes.class);
+        UserPrincipal user = currentUser();
+        if (!attributes.isDirectory() || !attributes.owner().equals(user)) {
+            throw new IOException("The native library cache directory " + directory + " is not a directory owned by " + user.getName());
+        }
+        Set<PosixFilePermission> permissions = EnumSet.noneOf(PosixFilePermission.class);
+        permissions.addAll(attributes.permissions());
+        if (permissions.removeAll(SHARED_WRITE)) {
+            Files.setPosixFilePermissions(directory, permissions);
+        }
+    }
+
+    /**
+     * Returns the owner of the files created by this process, which unlike {@code user.name} is also known
+     * when the user id has no name.
+     */
+    private static UserPrincipal currentUser() throws IOException {
+        Path probe = Files.createTempFile("capstone4j", ".owner");
+        try {
+            return Files.getOwner(probe);
+        } finally {
+            Files.deleteIfExists(probe);
+        }
+    }
+
+    private static byte[] readResource(String path) throws IOException {
+        try (InputStream is = NativeLibraryLoader.class.getResourceAsStream(path)) {
+            if (is == null) {
+                throw new FileNotFoundException("File " + path + " was not found inside JAR.");
+            }
+            return is.readAllBytes();
+        }
+    }
+
+    /**
+     * Reads the hex encoded SHA-256 hash from the {@code .sha256} resource of a library, as written by
+     * {@code sha256sum}, or returns null if there is none.
+     */
+    private static String readDigestResource(String path) throws IOException {
+        try (InputStream is = NativeLibraryLoader.class.getResourceAsStream(path + DIGEST_SUFFIX)) {
+            if (is == null) {
+                return null;
+            }
+            String text = new String(is.readAllBytes(), StandardCharsets.US_ASCII).trim();
+            int end = text.indexOf(' ');
+            String digest = (end < 0 ? text : text.substring(0, end)).toLowerCase(Locale.ROOT);
+            if (digest.length() != 64 || !digest.chars().allMatch(c -> Character.digit(c, 16) >= 0)) {
+                throw new IOException("Invalid SHA-256 hash in " + path + DIGEST_SUFFIX);
+            }
+            return digest;
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        MessageDigest digest = sha256();
+        return HexFormat.of().formatHex(digest.digest(content));
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream is = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
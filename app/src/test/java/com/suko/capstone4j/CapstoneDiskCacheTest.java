@@ -0,0 +1,167 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CapstoneDiskCacheTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    byte[] testX86_64Data = new byte[] {
+        0x55, 0x48, (byte)0x8b, 0x05, (byte)0xb8, (byte)0x13, 0x00, 0x00, (byte)0xe9, (byte)0xea, 
+        (byte)0xbe, (byte)0xad, (byte)0xde, (byte)0xff, 0x25, 0x23, 0x01, 0x00, 0x00, (byte)0xe8, 
+        (byte)0xdf, (byte)0xbe, (byte)0xad, (byte)0xde, 0x74, (byte)0xff
+    };
+
+    @Test
+    public void testX86_64DiskCache() {
+        System.out.println("Testing X86_64 disk cache");
+
+        Path directory = null;
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            directory = Files.createTempDirectory("capstone4j-cache");
+            CapstoneDiskCache cache = CapstoneDiskCache.builder(directory).build();
+
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            assertEquals(CapstoneArch.X86, handle.getArch());
+            assertArrayEquals(new CapstoneMode[] {CapstoneMode.X86_64}, handle.getModes());
+            assertEquals(Set.of(CapstoneOptionValue.ON), handle.getOptions().get(CapstoneOption.DETAIL));
+
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, testX86_64Data);
+
+            assertNull(cache.get(handle, code, code.byteSize(), 0x1000));
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertFalse(entry.isCached());
+                assertEquals(expected.size(), entry.size());
+            }
+
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertTrue(entry.isCached());
+                List<CapstoneInstruction<CapstoneX86Details>> actual = entry.instructions();
+                assertEquals(expected.size(), actual.size());
+                for(int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getId(), actual.get(i).getId());
+                    assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+                    assertArrayEquals(expected.get(i).getBytes(), actual.get(i).getBytes());
+                    assertEquals(expected.get(i).getMnemonic(), actual.get(i).getMnemonic());
+                    assertEquals(expected.get(i).getOpStr(), actual.get(i).getOpStr());
+                    assertArrayEquals(expected.get(i).getDetails().getGroups(), actual.get(i).getDetails().getGroups());
+                    assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsRead(), actual.get(i).getDetails().getRegAccess().getRegsRead());
+                    assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsWrite(), actual.get(i).getDetails().getRegAccess().getRegsWrite());
+                    assertEquals(expected.get(i).getDetails().getArchDetails().getOpCount(), actual.get(i).getDetails().getArchDetails().getOpCount());
+                }
+            }
+
+            // the address and the options are part of the key
+            assertNull(cache.get(handle, code, code.byteSize(), 0x2000));
+            handle.setOption(CapstoneOption.SYNTAX, CapstoneOptionValue.SYNTAX_ATT);
+            assertNull(cache.get(handle, code, code.byteSize(), 0x1000));
+
+            // a cache smaller than a single entry only keeps the newest one
+            CapstoneDiskCache small = CapstoneDiskCache.builder(directory).maxBytes(1).build();
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = small.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertFalse(entry.isCached());
+            }
+            try(Stream<Path> files = Files.list(directory)) {
+                List<Path> remaining = files.toList();
+                assertEquals(1, remaining.size());
+                assertEquals(Files.size(remaining.get(0)), small.getSize());
+            }
+
+            small.clear();
+            assertEquals(0, small.getSize());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            if(directory != null) {
+                try(Stream<Path> files = Files.list(directory)) {
+                    for(Path file : files.toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                    Files.deleteIfExists(directory);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testX86_64DiskCacheSkipData() {
+        System.out.println("Testing X86_64 disk cache with SKIPDATA");
+
+        // push rbp; three bytes that are invalid in 64-bit mode; ret
+        byte[] bytes = new byte[] { 0x55, 0x06, 0x07, 0x0e, (byte)0xc3 };
+        Path directory = null;
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            directory = Files.createTempDirectory("capstone4j-cache");
+            CapstoneDiskCache cache = CapstoneDiskCache.builder(directory).build();
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, bytes);
+
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("db").build());
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertFalse(entry.isCached());
+                assertEquals(5, entry.size());
+            }
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertTrue(entry.isCached());
+                CapstoneInstruction<CapstoneX86Details> data = entry.instructions().get(1);
+                assertEquals("db", data.getMnemonic());
+                assertEquals(0, data.getDetails().getRegAccess().getRegsRead().length);
+            }
+
+            // the mnemonic and the callback are part of the key
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("data").build());
+            assertNull(cache.get(handle, code, code.byteSize(), 0x1000));
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("db").callback((segment, offset) -> 3).build());
+            assertNull(cache.get(handle, code, code.byteSize(), 0x1000));
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.disassemble(handle, code, code.byteSize(), 0x1000)) {
+                assertEquals(3, entry.size());
+                assertEquals(3, entry.instructions().get(1).getSize());
+            }
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("db").build());
+            try(CapstoneDiskCache.Entry<CapstoneX86Details> entry = cache.get(handle, code, code.byteSize(), 0x1000)) {
+                assertNotNull(entry);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            if(directory != null) {
+                try(Stream<Path> files = Files.list(directory)) {
+                    for(Path file : files.toList()) {
+                        Files.deleteIfExists(file);
+                    }
+                    Files.deleteIfExists(directory);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CapstoneGlobalMemoryTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    byte[] testX86_64Data = new byte[] {
+        0x55, 0x48, (byte)0x8b, 0x05, (byte)0xb8, 0x13, 0x00, 0x00,
+        (byte)0xe9, (byte)0xea, (byte)0xbe, (byte)0xad, (byte)0xde, (byte)0xff, 0x25, 0x23,
+        0x01, 0x00, 0x00, (byte)0xe8, (byte)0xdf, (byte)0xbe, (byte)0xad, (byte)0xde,
+        0x74, (byte)0xff
+    };
+
+    @Test
+    public void testDefaultHandlesShareMemoryProvider() {
+        System.out.println("Testing default handles sharing the memory provider");
+
+        try(CapstoneHandle first = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            first.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            List<CapstoneInstruction<CapstoneX86Details>> expected = first.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            // the second handle must not replace the memory functions the first one runs on
+            try(CapstoneHandle second = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+                second.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+                assertEquals(expected.size(), second.disassembleAllInstructions(testX86_64Data, 0x1000).size());
+            }
+
+            List<CapstoneInstruction<CapstoneX86Details>> instructions = first.disassembleAllInstructions(testX86_64Data, 0x1000);
+            assertEquals(expected.size(), instructions.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getMnemonic(), instructions.get(i).getMnemonic());
+                assertEquals(expected.get(i).getOpStr(), instructions.get(i).getOpStr());
+                assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsRead(), instructions.get(i).getDetails().getRegAccess().getRegsRead());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMemoryProviderSwitchRejected() {
+        System.out.println("Testing switching the memory provider while handles are open");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            CapstoneHandleOptions options = CapstoneHandleOptions.builder().memoryProvider(new PooledCapstoneMemoryProvider()).build();
+            assertThrows(RuntimeException.class, () -> Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options));
+
+            // a handle without a memory provider uses the installed one
+            try(CapstoneHandle inherited = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, CapstoneHandleOptions.builder().memoryProvider(null).build())) {
+                assertEquals(handle.disassembleAllInstructions(testX86_64Data, 0x1000).size(), inherited.disassembleAllInstructions(testX86_64Data, 0x1000).size());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+
+        // once the handles are closed, another provider may be installed
+        PooledCapstoneMemoryProvider provider = new PooledCapstoneMemoryProvider();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, CapstoneHandleOptions.builder().memoryProvider(provider).build())) {
+            assertFalse(handle.disassembleAllInstructions(testX86_64Data, 0x1000).isEmpty());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+        assertEquals(0, provider.getLiveBytes());
+    }
+
+    @Test
+    public void testInheritedProviderOutlivesHandleArena() {
+        System.out.println("Testing a handle inheriting the memory provider of a closed handle");
+
+        try {
+            CapstoneHandleOptions options = CapstoneHandleOptions.builder().memoryProvider(new PooledCapstoneMemoryProvider()).build();
+            CapstoneHandle owner = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options);
+            try(CapstoneHandle inherited = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, CapstoneHandleOptions.builder().memoryProvider(null).build())) {
+                inherited.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+                int expected = inherited.disassembleAllInstructions(testX86_64Data, 0x1000).size();
+
+                // the arena of the owner is still used by the inherited handle
+                owner.close();
+                owner.close();
+                assertTrue(options.getHandleArena().scope().isAlive());
+                assertEquals(expected, inherited.disassembleAllInstructions(testX86_64Data, 0x1000).size());
+            }
+            assertFalse(options.getHandleArena().scope().isAlive());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+}
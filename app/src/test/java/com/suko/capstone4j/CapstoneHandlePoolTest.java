@@ -0,0 +1,98 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CapstoneHandlePoolTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    byte[] testX86_64Data = new byte[] {
+        0x55, 0x48, (byte)0x8b, 0x05, (byte)0xb8, (byte)0x13, 0x00, 0x00, (byte)0xe9, (byte)0xea, 
+        (byte)0xbe, (byte)0xad, (byte)0xde, (byte)0xff, 0x25, 0x23, 0x01, 0x00, 0x00, (byte)0xe8, 
+        (byte)0xdf, (byte)0xbe, (byte)0xad, (byte)0xde, 0x74, (byte)0xff
+    };
+
+    @Test
+    public void testX86_64HandlePool() {
+        System.out.println("Testing X86_64 handle pool");
+
+        CapstoneHandlePool.Key key = CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64)
+            .withOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+        assertEquals(key, CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64).withOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON));
+        assertThrows(IllegalArgumentException.class, () -> key.withOption(CapstoneOption.SKIPDATA_SETUP));
+
+        try(CapstoneHandlePool pool = CapstoneHandlePool.builder().maxHandlesPerKey(2).build()) {
+            List<CapstoneInstruction<CapstoneX86Details>> expected;
+            try(CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+                expected = lease.handle().disassembleAllInstructions(testX86_64Data, 0x1000);
+                assertNotNull(expected.get(0).getDetails());
+            }
+
+            // the same thread gets its handle back
+            try(CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+                assertEquals(expected.size(), lease.handle().disassembleAllInstructions(testX86_64Data, 0x1000).size());
+            }
+            assertEquals(1, pool.getMetrics().affinityHits());
+
+            try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Integer>> results = new ArrayList<>();
+                for(int i = 0; i < 64; i++) {
+                    results.add(executor.submit(() -> {
+                        try(CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+                            return lease.handle().<CapstoneX86Details>disassembleAllInstructions(testX86_64Data, 0x1000).size();
+                        }
+                    }));
+                }
+                for(Future<Integer> result : results) {
+                    assertEquals(expected.size(), result.get());
+                }
+            }
+
+            CapstoneHandlePool.Metrics metrics = pool.getMetrics();
+            assertEquals(0, metrics.inUse());
+            assertTrue(metrics.created() <= 2);
+            assertEquals(66, metrics.borrowed());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testHandlePoolWithDefaultHandles() {
+        System.out.println("Testing handle pool next to default handles");
+
+        CapstoneHandlePool.Key key = CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64);
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            // the pool shares the memory provider of the default options, so closing it leaves the handle intact
+            try(CapstoneHandlePool pool = CapstoneHandlePool.builder().maxHandlesPerKey(1).build();
+                CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+                assertEquals(expected.size(), lease.handle().disassembleAllInstructions(testX86_64Data, 0x1000).size());
+            }
+            assertEquals(expected.size(), handle.disassembleAllInstructions(testX86_64Data, 0x1000).size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CapstoneInstructionCacheTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionCache() {
+        System.out.println("Testing X86_64 instruction cache");
+
+        byte[] push = new byte[] { 0x55, (byte)0x90, (byte)0x90 };                 // push rbp
+        byte[] jmp = new byte[] { (byte)0xe9, 0x00, 0x00, 0x00, 0x00, (byte)0x90 }; // jmp rel32
+        CapstoneInstructionCache cache = CapstoneInstructionCache.builder().maximumSize(16).build();
+        CapstoneHandleOptions cachedOptions = CapstoneHandleOptions.builder().instructionCache(cache).build();
+        CapstoneHandleOptions lazyOptions = CapstoneHandleOptions.builder().instructionCache(cache).lazyDetails(true).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            CapstoneHandle cached = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, cachedOptions);
+            CapstoneHandle lazy = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, lazyOptions)) {
+            CapstoneInstruction<CapstoneX86Details> first = cached.disassembleInstruction(push, 0x1000);
+            CapstoneInstruction<CapstoneX86Details> rebased = cached.disassembleInstruction(push, 0x2000);
+            assertEquals(0x1000, first.getAddress());
+            assertEquals(0x2000, rebased.getAddress());
+            assertEquals(1, rebased.getSize());
+            assertEquals(handle.disassembleInstruction(push, 0x2000).getOpStr(), rebased.getOpStr());
+
+            // the target of a relative jump depends on its address
+            CapstoneInstruction<CapstoneX86Details> jmp1 = cached.disassembleInstruction(jmp, 0x1000);
+            CapstoneInstruction<CapstoneX86Details> jmp2 = cached.disassembleInstruction(jmp, 0x2000);
+            assertEquals(handle.disassembleInstruction(jmp, 0x1000).getOpStr(), jmp1.getOpStr());
+            assertEquals(handle.disassembleInstruction(jmp, 0x2000).getOpStr(), jmp2.getOpStr());
+            assertNotEquals(jmp1.getOpStr(), jmp2.getOpStr());
+            assertSame(jmp2, cached.disassembleInstruction(jmp, 0x2000));
+
+            CapstoneInstructionCache.Stats stats = cache.getStats();
+            assertEquals(2, stats.hits());
+            assertEquals(3, stats.misses());
+            assertEquals(0, stats.bypasses());
+
+            // the key is the encoding of the instruction, not the bytes following it
+            CapstoneInstruction<CapstoneX86Details> window = cached.disassembleInstruction(new byte[] { 0x55, 0x31, (byte)0xc0, 0x0f }, 0x3000);
+            assertEquals("push", window.getMnemonic());
+            assertEquals(3, cache.getStats().hits());
+            assertEquals(3, cache.getStats().misses());
+
+            // options are part of the key
+            cached.setOption(CapstoneOption.SYNTAX, CapstoneOptionValue.SYNTAX_ATT);
+            handle.setOption(CapstoneOption.SYNTAX, CapstoneOptionValue.SYNTAX_ATT);
+            assertEquals(handle.disassembleInstruction(push, 0x1000).getOpStr(), cached.disassembleInstruction(push, 0x1000).getOpStr());
+            assertEquals(4, cache.getStats().misses());
+
+            lazy.disassembleInstruction(push, 0x1000);
+            assertEquals(1, cache.getStats().bypasses());
+            assertTrue(cache.getStats().size() <= cache.getMaximumSize());
+
+            // a full cache only admits encodings that are requested more often than its eldest entry
+            for(int i = 0; i < 64; i++) {
+                cached.disassembleInstruction(new byte[] { (byte)0xb0, (byte)i, (byte)0x90 }, 0x1000); // mov al, i
+            }
+            assertEquals(cache.getMaximumSize(), cache.getStats().size());
+            assertTrue(cache.getStats().rejections() > 0);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionCacheSkipData() {
+        System.out.println("Testing X86_64 instruction cache with SKIPDATA");
+
+        byte[] data = new byte[] { 0x06, 0x07, 0x0e, (byte)0xc3 }; // three bytes that are invalid in 64-bit mode; ret
+        CapstoneInstructionCache cache = CapstoneInstructionCache.builder().maximumSize(16).build();
+        CapstoneHandleOptions cachedOptions = CapstoneHandleOptions.builder().instructionCache(cache).build();
+        try(CapstoneHandle cached = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, cachedOptions)) {
+            cached.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            cached.setSkipData(CapstoneSkipData.builder().mnemonic("db").build());
+            CapstoneInstruction<CapstoneX86Details> first = cached.disassembleInstruction(data, 0x1000);
+            assertEquals("db", first.getMnemonic());
+            assertEquals(0, first.getDetails().getRegAccess().getRegsRead().length);
+            assertEquals("db", cached.disassembleInstruction(data, 0x1000).getMnemonic());
+            assertEquals(1, cache.getStats().hits());
+
+            // the mnemonic and the callback are part of the key
+            cached.setSkipData(CapstoneSkipData.builder().mnemonic("data").build());
+            assertEquals("data", cached.disassembleInstruction(data, 0x1000).getMnemonic());
+            cached.setSkipData(CapstoneSkipData.builder().mnemonic("data").callback((segment, offset) -> 3).build());
+            assertEquals(3, cached.disassembleInstruction(data, 0x1000).getSize());
+            assertEquals(1, cache.getStats().hits());
+
+            // turning SKIPDATA off and on again through the option uses the default setup
+            cached.setSkipData(null);
+            cached.setOption(CapstoneOption.SKIPDATA, CapstoneOptionValue.ON);
+            assertEquals(CapstoneSkipData.DEFAULT_MNEMONIC, cached.disassembleInstruction(data, 0x1000).getMnemonic());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionCacheIncompleteInput() {
+        System.out.println("Testing X86_64 instruction cache with incomplete input");
+
+        CapstoneInstructionCache cache = CapstoneInstructionCache.builder().maximumSize(16).build();
+        CapstoneHandleOptions cachedOptions = CapstoneHandleOptions.builder().instructionCache(cache).build();
+        try(CapstoneHandle cached = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, cachedOptions)) {
+            // a lone REX prefix cannot be decoded and must not be returned for the complete instruction
+            cached.disassembleInstruction(new byte[] { 0x48 }, 0x1000);
+            cached.disassembleInstruction(new byte[] { 0x48, (byte)0x89 }, 0x1000);
+            CapstoneInstruction<CapstoneX86Details> mov = cached.disassembleInstruction(new byte[] { 0x48, (byte)0x89, (byte)0xe5, (byte)0x90 }, 0x1000);
+            assertEquals("mov", mov.getMnemonic());
+            assertEquals(3, mov.getSize());
+
+            // an instruction taking up the whole input is not cached either
+            cached.disassembleInstruction(new byte[] { 0x48, (byte)0x89, (byte)0xe5 }, 0x1000);
+            assertEquals(1, cache.getStats().size());
+            assertEquals(0, cache.getStats().hits());
+            assertEquals("mov", cached.disassembleInstruction(new byte[] { 0x48, (byte)0x89, (byte)0xe5, (byte)0xc3 }, 0x1000).getMnemonic());
+            assertEquals(1, cache.getStats().hits());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_16InstructionCache() {
+        System.out.println("Testing X86_16 instruction cache");
+
+        byte[] jmp = new byte[] { (byte)0xe9, 0x00, 0x00, (byte)0x90 }; // jmp rel16
+        CapstoneInstructionCache cache = CapstoneInstructionCache.builder().maximumSize(16).build();
+        CapstoneHandleOptions cachedOptions = CapstoneHandleOptions.builder().instructionCache(cache).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_16);
+            CapstoneHandle cached = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_16, cachedOptions)) {
+            // the targets are truncated to 16 bits, the jump must still be detected as position-dependent
+            assertEquals(handle.disassembleInstruction(jmp, 0x1000).getOpStr(), cached.disassembleInstruction(jmp, 0x1000).getOpStr());
+            assertEquals(handle.disassembleInstruction(jmp, 0x1234).getOpStr(), cached.disassembleInstruction(jmp, 0x1234).getOpStr());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+}
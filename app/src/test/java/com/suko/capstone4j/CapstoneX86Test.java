@@ -2,8 +2,22 @@ package com.suko.capstone4j;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -11,13 +25,23 @@ import org.junit.jupiter.api.Test;
 import com.suko.capstone4j.Capstone;
 import com.suko.capstone4j.CapstoneAccessType;
 import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneCodeVisitor;
+import com.suko.capstone4j.CapstoneDataRun;
+import com.suko.capstone4j.CapstoneGroup;
 import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandlePool;
 import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneIdSet;
 import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneInstructionCursor;
+import com.suko.capstone4j.CapstoneInstructionDetails;
+import com.suko.capstone4j.CapstoneInstructionTable;
 import com.suko.capstone4j.CapstoneMode;
 import com.suko.capstone4j.CapstoneOption;
 import com.suko.capstone4j.CapstoneOptionValue;
+import com.suko.capstone4j.CapstoneParallelDisassembler;
 import com.suko.capstone4j.CapstoneRegAccess;
+import com.suko.capstone4j.CapstoneSkipData;
 import com.suko.capstone4j.CapstoneX86Details;
 import com.suko.capstone4j.CapstoneX86Details.X86EFlags;
 import com.suko.capstone4j.CapstoneX86Details.X86Encoding;
@@ -1918,7 +1942,649 @@ class CapstoneX86Test {
             fail("Exception occurred: " + e.getMessage());
         }
     }
-    
+
+    @Test
+    public void testX86_64DisassembleAll() {
+        System.out.println("Testing X86_64 disassembleAllInstructions");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            // The bulk decoder must produce exactly what one-by-one decoding produces
+            long runtimeAddress = 0x1000;
+            int offset = 0;
+            int instructionIndex = 0;
+            while(offset < testX86_64Data.length) {
+                byte[] subData = Arrays.copyOfRange(testX86_64Data, offset, testX86_64Data.length);
+                CapstoneInstruction<CapstoneX86Details> expected = handle.disassembleInstruction(subData, runtimeAddress);
+                CapstoneInstruction<CapstoneX86Details> actual = instructions.get(instructionIndex);
+
+                assertEquals(expected.getAddress(), actual.getAddress());
+                assertEquals(expected.getSize(), actual.getSize());
+                assertEquals(expected.getMnemonic(), actual.getMnemonic());
+                assertEquals(expected.getOpStr(), actual.getOpStr());
+                assertArrayEquals(expected.getBytes(), actual.getBytes());
+
+                offset += expected.getSize();
+                runtimeAddress += expected.getSize();
+                instructionIndex++;
+            }
+            assertEquals(instructionIndex, instructions.size());
+            assertEquals(6, instructions.size());
+
+            // Undecodable bytes are reported one byte at a time and decoding resumes right after them
+            byte[] withBadBytes = new byte[] { 0x55, 0x0f, 0x0b, 0x06, (byte)0xc3 }; // push rbp; ud2; (invalid in 64-bit); ret
+            List<CapstoneInstruction<CapstoneX86Details>> mixed = handle.disassembleAllInstructions(withBadBytes, 0x2000);
+            assertEquals(4, mixed.size());
+            assertEquals("push", mixed.get(0).getMnemonic());
+            assertEquals("ud2", mixed.get(1).getMnemonic());
+            assertEquals("BAD", mixed.get(2).getMnemonic());
+            assertEquals(0x2003, mixed.get(2).getAddress());
+            assertEquals("ret", mixed.get(3).getMnemonic());
+            assertEquals(0x2004, mixed.get(3).getAddress());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64DisassembleBatch() {
+        System.out.println("Testing X86_64 disassembleBatch");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, testX86_64Data);
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+            List<CapstoneInstruction<CapstoneX86Details>> batch = handle.disassembleBatch(code, testX86_64Data.length, 0x1000, 0);
+
+            assertEquals(expected.size(), batch.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getAddress(), batch.get(i).getAddress());
+                assertEquals(expected.get(i).getMnemonic(), batch.get(i).getMnemonic());
+                assertEquals(expected.get(i).getOpStr(), batch.get(i).getOpStr());
+                assertArrayEquals(expected.get(i).getBytes(), batch.get(i).getBytes());
+                assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsRead(), batch.get(i).getDetails().getRegAccess().getRegsRead());
+            }
+
+            // maxCount limits the number of decoded instructions
+            List<CapstoneInstruction<CapstoneX86Details>> limited = handle.disassembleBatch(code, testX86_64Data.length, 0x1000, 2);
+            assertEquals(2, limited.size());
+            assertEquals(expected.get(1).getAddress(), limited.get(1).getAddress());
+
+            // Decoding stops at the first invalid instruction
+            MemorySegment withBadBytes = arena.allocateFrom(ValueLayout.JAVA_BYTE, new byte[] { 0x55, 0x0f, 0x0b, 0x06, (byte)0xc3 });
+            List<CapstoneInstruction<CapstoneX86Details>> truncated = handle.disassembleBatch(withBadBytes, withBadBytes.byteSize(), 0x2000, 0);
+            assertEquals(2, truncated.size());
+            assertEquals("ud2", truncated.get(1).getMnemonic());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionCursor() {
+        System.out.println("Testing X86_64 instruction cursor");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            byte[] withBadBytes = new byte[] { 0x55, 0x0f, 0x0b, 0x06, (byte)0xc3 }; // push rbp; ud2; (invalid in 64-bit); ret
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(withBadBytes, 0x2000);
+
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, withBadBytes);
+            MemorySegment bytes = arena.allocate(24);
+            try(CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(code, code.byteSize(), 0x2000)) {
+                for(CapstoneInstruction<CapstoneX86Details> instruction : expected) {
+                    assertTrue(cursor.next());
+                    assertEquals(instruction.getId(), cursor.id());
+                    assertEquals("BAD".equals(instruction.getMnemonic()), cursor.isBad());
+                    assertEquals(instruction.getAddress(), cursor.address());
+                    assertEquals(instruction.getSize(), cursor.size());
+                    assertEquals(instruction.getMnemonic(), cursor.mnemonicSegment().getString(0));
+                    assertEquals(instruction.getOpStr(), cursor.opStrSegment().getString(0));
+                    assertEquals(instruction.getSize(), cursor.bytes(bytes));
+                    assertArrayEquals(instruction.getBytes(), bytes.asSlice(0, cursor.size()).toArray(ValueLayout.JAVA_BYTE));
+                    assertEquals(instruction.getMnemonic(), cursor.toInstruction().getMnemonic());
+                }
+                assertEquals(withBadBytes.length, cursor.offset());
+                assertEquals(0, cursor.remaining());
+                assertFalse(cursor.next());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionTable() {
+        System.out.println("Testing X86_64 instruction table");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, testX86_64Data);
+            try(CapstoneInstructionTable table = handle.disassembleToTable(code, code.byteSize(), 0x1000)) {
+                assertEquals(expected.size(), table.rowCount());
+                for(int row = 0; row < table.rowCount(); row++) {
+                    CapstoneInstruction<CapstoneX86Details> instruction = expected.get(row);
+                    assertEquals(instruction.getAddress(), table.address(row));
+                    assertEquals(instruction.getSize(), table.size(row));
+                    assertEquals(instruction.getId(), table.id(row));
+                    assertEquals(instruction.getMnemonic(), table.mnemonic(row));
+                    assertArrayEquals(instruction.getBytes(), table.bytes(row));
+                    assertArrayEquals(instruction.getDetails().getGroups(), table.groups(row));
+                    assertArrayEquals(instruction.getDetails().getRegAccess().getRegsRead(), table.regsRead(row));
+                    assertArrayEquals(instruction.getDetails().getRegAccess().getRegsWrite(), table.regsWrite(row));
+                    for(int group : instruction.getDetails().getGroups()) {
+                        assertTrue(table.isInGroup(row, group));
+                    }
+                    for(int reg : instruction.getDetails().getRegAccess().getRegsWrite()) {
+                        assertTrue(table.writesRegister(row, reg));
+                    }
+                    assertEquals(row, table.indexOf(instruction.getAddress()));
+                    assertEquals(row, table.find(instruction.getAddress() + instruction.getSize() - 1));
+                }
+                assertEquals(-1, table.indexOf(0x1001));
+                assertEquals(-1, table.find(0xfff));
+                assertEquals(-1, table.find(0x1000 + testX86_64Data.length));
+                assertTrue(table.getMnemonicCount() <= table.rowCount());
+                assertTrue(table.byteSize() < 32L * table.rowCount());
+            }
+
+            // bad bytes are stored as rows, further regions are appended after the last row
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.OFF);
+            MemorySegment withBadBytes = arena.allocateFrom(ValueLayout.JAVA_BYTE, new byte[] { 0x55, 0x06, (byte)0xc3 }); // push rbp; (invalid in 64-bit); ret
+            try(CapstoneInstructionTable table = handle.disassembleToTable(withBadBytes, withBadBytes.byteSize(), 0x2000)) {
+                handle.disassembleToTable(table, code, code.byteSize(), 0x3000);
+                assertEquals(3 + expected.size(), table.rowCount());
+                assertTrue(table.isBad(1));
+                assertEquals("BAD", table.mnemonic(1));
+                assertArrayEquals(new byte[] { 0x06 }, table.bytes(1));
+                assertEquals(0, table.profileId(0));
+                assertFalse(table.isInGroup(2, CapstoneGroup.RET.getValue()));
+                assertEquals(3, table.indexOf(0x3000));
+                assertThrows(RuntimeException.class, () -> handle.disassembleToTable(table, code, code.byteSize(), 0x1000));
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64InstructionTableSkipData() {
+        System.out.println("Testing X86_64 instruction table with SKIPDATA");
+
+        // push rbp; three bytes that are invalid in 64-bit mode; ret
+        byte[] bytes = new byte[] { 0x55, 0x06, 0x07, 0x0e, (byte)0xc3 };
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            Arena arena = Arena.ofConfined()) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("db").build());
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(bytes, 0x1000);
+            assertEquals(5, expected.size());
+
+            // the data pseudo-instructions have details, but access no registers
+            MemorySegment code = arena.allocateFrom(ValueLayout.JAVA_BYTE, bytes);
+            try(CapstoneInstructionTable table = handle.disassembleToTable(code, code.byteSize(), 0x1000)) {
+                assertEquals(expected.size(), table.rowCount());
+                for(int row = 0; row < table.rowCount(); row++) {
+                    assertEquals(expected.get(row).getMnemonic(), table.mnemonic(row));
+                    assertArrayEquals(expected.get(row).getDetails().getRegAccess().getRegsRead(), table.regsRead(row));
+                    assertArrayEquals(expected.get(row).getDetails().getRegAccess().getRegsWrite(), table.regsWrite(row));
+                }
+                assertEquals("db", table.mnemonic(1));
+                assertFalse(table.isBad(1));
+                assertEquals(0, table.regsRead(1).length);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64DataRuns() {
+        System.out.println("Testing X86_64 data runs and SKIPDATA");
+
+        // push rbp; three bytes that are invalid in 64-bit mode; ret; one more invalid byte
+        byte[] code = new byte[] { 0x55, 0x06, 0x07, 0x0e, (byte)0xc3, 0x1e };
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            List<CapstoneInstruction<CapstoneX86Details>> instructions = new ArrayList<>();
+            List<CapstoneDataRun> runs = new ArrayList<>();
+            CapstoneCodeVisitor<CapstoneX86Details> visitor = new CapstoneCodeVisitor<>() {
+                @Override
+                public void instruction(CapstoneInstruction<CapstoneX86Details> instruction) {
+                    instructions.add(instruction);
+                }
+
+                @Override
+                public void data(CapstoneDataRun run) {
+                    runs.add(run);
+                }
+            };
+
+            handle.disassemble(code, 0x1000, visitor);
+            assertEquals(2, instructions.size());
+            assertEquals("push", instructions.get(0).getMnemonic());
+            assertEquals("ret", instructions.get(1).getMnemonic());
+            assertEquals(List.of(new CapstoneDataRun(0x1001, 3), new CapstoneDataRun(0x1005, 1)), runs);
+            assertEquals(0x1004, runs.get(0).endAddress());
+
+            // native SKIPDATA returns the data as pseudo-instructions
+            handle.setSkipData(CapstoneSkipData.builder().mnemonic("db").callback((segment, offset) -> 1).build());
+            List<CapstoneInstruction<CapstoneX86Details>> skipped = handle.disassembleAllInstructions(code, 0x1000);
+            assertEquals(6, skipped.size());
+            assertEquals("db", skipped.get(1).getMnemonic());
+            assertEquals(0, skipped.get(1).getId());
+            assertEquals(Set.of(CapstoneOptionValue.ON), handle.getOptions().get(CapstoneOption.SKIPDATA));
+
+            // and the visitor coalesces them like undecodable bytes
+            instructions.clear();
+            runs.clear();
+            handle.disassemble(code, 0x1000, visitor);
+            assertEquals(2, instructions.size());
+            assertEquals(List.of(new CapstoneDataRun(0x1001, 3), new CapstoneDataRun(0x1005, 1)), runs);
+
+            handle.setSkipData(null);
+            assertEquals("BAD", handle.disassembleAllInstructions(code, 0x1000).get(1).getMnemonic());
+            assertThrows(UnsupportedOperationException.class, () -> handle.setOption(CapstoneOption.SKIPDATA_SETUP, CapstoneOptionValue.ON));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64RegisterSets() {
+        System.out.println("Testing X86_64 register and group sets");
+
+        byte[] code = new byte[] { 0x55, (byte)0xc3 }; // push rbp; ret
+        int rsp = X86Reg.RSP.getValue();
+        int rbp = X86Reg.RBP.getValue();
+        int rax = X86Reg.RAX.getValue();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleAllInstructions(code, 0x1000);
+            CapstoneInstruction<CapstoneX86Details> push = instructions.get(0);
+            CapstoneRegAccess regAccess = push.getRegAccess();
+
+            assertTrue(push.isRegRead(rsp));
+            assertTrue(push.isRegRead(rbp));
+            assertTrue(push.isRegWrite(rsp));
+            assertFalse(push.isRegWrite(rbp));
+            assertFalse(push.isRegRead(-1));
+            assertEquals(regAccess.getRegsReadCount(), regAccess.getRegsReadSet().size());
+            int[] sortedRead = regAccess.getRegsRead().clone();
+            Arrays.sort(sortedRead);
+            assertArrayEquals(sortedRead, regAccess.getRegsReadSet().toArray());
+
+            CapstoneIdSet frame = CapstoneIdSet.of(rsp, rbp);
+            assertTrue(regAccess.readsAny(frame));
+            assertTrue(regAccess.writesAny(frame));
+            assertFalse(regAccess.writesAny(CapstoneIdSet.of(rax, rbp)));
+            assertTrue(regAccess.getRegsReadSet().containsAll(frame));
+            assertEquals(CapstoneIdSet.of(rsp), regAccess.getRegsWriteSet().intersection(frame));
+            assertEquals(frame, CapstoneIdSet.of(rbp).union(CapstoneIdSet.of(rsp, rsp)));
+            assertTrue(CapstoneIdSet.of(rax).intersection(frame).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> CapstoneIdSet.of(-1));
+
+            CapstoneInstruction<CapstoneX86Details> ret = instructions.get(1);
+            assertTrue(ret.isInsnGroup(CapstoneGroup.RET));
+            assertFalse(ret.isInsnGroup(CapstoneGroup.JUMP));
+            assertTrue(ret.getDetails().getGroupSet().intersects(CapstoneIdSet.of(CapstoneGroup.RET, CapstoneGroup.CALL)));
+            assertEquals(ret.getDetails().getGroupsCount(), ret.getDetails().getGroupSet().size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64NameTables() {
+        System.out.println("Testing X86_64 name tables");
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            CapstoneHandle other = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            int rax = X86Reg.RAX.getValue();
+            assertEquals("rax", handle.getRegName(rax));
+            assertSame(handle.getRegName(rax), other.getRegName(rax));
+            assertEquals("ret", handle.getInsnName(CapstoneX86Details.X86Insn.RET.getValue()));
+            assertEquals("jump", handle.getGroupName(CapstoneGroup.JUMP.getValue()));
+            assertThrows(RuntimeException.class, () -> handle.getRegName(-1));
+            assertThrows(RuntimeException.class, () -> handle.getInsnName(Integer.MAX_VALUE));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64LazyDetails() {
+        System.out.println("Testing X86_64 lazy details");
+
+        CapstoneHandleOptions lazyOptions = CapstoneHandleOptions.builder().lazyDetails(true).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+            CapstoneHandle lazyHandle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, lazyOptions)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            lazyHandle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+
+            List<CapstoneInstruction<CapstoneX86Details>> eager = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+            List<CapstoneInstruction<CapstoneX86Details>> lazy = lazyHandle.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            assertEquals(eager.size(), lazy.size());
+            for(int i = 0; i < eager.size(); i++) {
+                CapstoneInstructionDetails<CapstoneX86Details> expected = eager.get(i).getDetails();
+                CapstoneInstructionDetails<CapstoneX86Details> actual = lazy.get(i).getDetails();
+                assertNotNull(actual);
+                assertSame(actual, lazy.get(i).getDetails());
+                assertArrayEquals(expected.getRegAccess().getRegsRead(), actual.getRegAccess().getRegsRead());
+                assertArrayEquals(expected.getRegAccess().getRegsWrite(), actual.getRegAccess().getRegsWrite());
+                assertArrayEquals(expected.getGroups(), actual.getGroups());
+                assertEquals(expected.getArchDetails().getOpCount(), actual.getArchDetails().getOpCount());
+                assertArrayEquals(expected.getArchDetails().getOpcodes(), actual.getArchDetails().getOpcodes());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+
+        // Lazy details need the handle, they cannot be decoded once it has been closed
+        CapstoneInstruction<CapstoneX86Details> decoded;
+        CapstoneInstruction<CapstoneX86Details> undecoded;
+        try(CapstoneHandle lazyHandle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, lazyOptions)) {
+            lazyHandle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            decoded = lazyHandle.disassembleInstruction(testX86_64Data, 0x1000);
+            undecoded = lazyHandle.disassembleInstruction(testX86_64Data, 0x1000);
+            assertNotNull(decoded.getDetails());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+            return;
+        }
+        assertNotNull(decoded.getDetails());
+        assertThrows(IllegalStateException.class, undecoded::getDetails);
+
+        // Capstone does not report register accesses once the detail option has been turned off
+        try(CapstoneHandle lazyHandle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, lazyOptions)) {
+            lazyHandle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            CapstoneInstruction<CapstoneX86Details> instruction = lazyHandle.disassembleInstruction(testX86_64Data, 0x1000);
+            lazyHandle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.OFF);
+            lazyHandle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            IllegalStateException e = assertThrows(IllegalStateException.class, instruction::getDetails);
+            assertTrue(e.getMessage().contains("DETAIL"));
+            assertNotNull(lazyHandle.disassembleInstruction(testX86_64Data, 0x1000).getDetails());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64NativeAllocator() {
+        System.out.println("Testing X86_64 native allocator");
+
+        List<CapstoneInstruction<CapstoneX86Details>> expected;
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+            return;
+        }
+
+        CapstoneHandleOptions nativeOptions = CapstoneHandleOptions.builder().nativeAllocator(true).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, nativeOptions)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            List<CapstoneInstruction<CapstoneX86Details>> actual = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getId(), actual.get(i).getId());
+                assertEquals(expected.get(i).getMnemonic(), actual.get(i).getMnemonic());
+                assertEquals(expected.get(i).getOpStr(), actual.get(i).getOpStr());
+                assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsRead(), actual.get(i).getDetails().getRegAccess().getRegsRead());
+            }
+
+            // the allocator is global, so a handle with a memory provider must not be opened now
+            assertThrows(RuntimeException.class, () -> Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+
+        // once the native handle is closed, memory providers can be used again
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            assertEquals(expected.size(), handle.disassembleAllInstructions(testX86_64Data, 0x1000).size());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64CriticalDowncalls() {
+        System.out.println("Testing X86_64 critical downcalls");
+
+        // longer than the staging buffer, with undecodable bytes in between
+        byte[] code = new byte[1024];
+        for(int i = 0; i < code.length; i++) {
+            code[i] = (i % 7 == 3) ? (byte)0x06 : (byte)0x90;
+        }
+        code[0] = 0x55;
+
+        List<CapstoneInstruction<CapstoneX86Details>> expected;
+        CapstoneInstruction<CapstoneX86Details> expectedFirst;
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            expected = handle.disassembleAllInstructions(code, 0x1000);
+            expectedFirst = handle.disassembleInstruction(code, 0x1000);
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+            return;
+        }
+
+        CapstoneHandleOptions nativeOptions = CapstoneHandleOptions.builder().nativeAllocator(true).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, nativeOptions)) {
+            assertTrue(handle.isCriticalDowncalls());
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            List<CapstoneInstruction<CapstoneX86Details>> actual = handle.disassembleAllInstructions(code, 0x1000);
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+                assertEquals(expected.get(i).getMnemonic(), actual.get(i).getMnemonic());
+                assertArrayEquals(expected.get(i).getBytes(), actual.get(i).getBytes());
+            }
+            CapstoneInstruction<CapstoneX86Details> first = handle.disassembleInstruction(code, 0x1000);
+            assertEquals(expectedFirst.getOpStr(), first.getOpStr());
+            assertTrue(first.isRegRead(X86Reg.RBP.getValue()));
+            assertEquals("rbp", handle.getRegName(X86Reg.RBP.getValue()));
+
+            // skip callbacks are upcalls, critical downcalls must not be used while one is set up
+            handle.setSkipData(CapstoneSkipData.builder().callback((segment, offset) -> 1).build());
+            assertFalse(handle.isCriticalDowncalls());
+            assertEquals(".byte", handle.disassembleAllInstructions(code, 0x1000).get(3).getMnemonic());
+            handle.setSkipData(null);
+            assertTrue(handle.isCriticalDowncalls());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            assertFalse(handle.isCriticalDowncalls());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64CriticalDowncallsOpenCursor() {
+        System.out.println("Testing X86_64 critical downcalls of open cursors and streams");
+
+        byte[] code = new byte[] { 0x55, (byte)0x90, (byte)0x90, 0x06, (byte)0x90, (byte)0xc3 }; // 0x06 is invalid in 64-bit mode
+        CapstoneHandleOptions nativeOptions = CapstoneHandleOptions.builder().nativeAllocator(true).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, nativeOptions);
+            Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocateFrom(ValueLayout.JAVA_BYTE, code);
+            try(CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(segment, segment.byteSize(), 0x1000);
+                Stream<CapstoneInstruction<CapstoneX86Details>> stream = handle.disassembleStream(new ByteArrayInputStream(code), 0x1000)) {
+                assertTrue(cursor.next());
+
+                // the callback is an upcall, so the cursor and the stream opened before must stop using critical downcalls
+                handle.setSkipData(CapstoneSkipData.builder().callback((data, offset) -> 1).build());
+                List<String> mnemonics = new ArrayList<>();
+                while(cursor.next()) {
+                    mnemonics.add(cursor.mnemonicSegment().getString(0));
+                }
+                assertEquals(List.of("nop", "nop", ".byte", "nop", "ret"), mnemonics);
+                assertEquals(".byte", stream.toList().get(3).getMnemonic());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64ParallelDisassembler() {
+        System.out.println("Testing X86_64 parallel disassembler");
+
+        // repeat the test data, which ends in the middle of an instruction, so that ranges start at odd offsets
+        byte[] code = new byte[testX86_64Data.length * 97];
+        for(int i = 0; i < 97; i++) {
+            System.arraycopy(testX86_64Data, 0, code, i * testX86_64Data.length, testX86_64Data.length);
+        }
+
+        CapstoneHandlePool.Key key = CapstoneHandlePool.Key.of(CapstoneArch.X86, CapstoneMode.X86_64);
+        try(CapstoneHandlePool pool = CapstoneHandlePool.builder().maxHandlesPerKey(4).build();
+            Arena arena = Arena.ofShared()) {
+            MemorySegment segment = arena.allocate(code.length);
+            MemorySegment.copy(code, 0, segment, ValueLayout.JAVA_BYTE, 0, code.length);
+
+            List<CapstoneInstruction<CapstoneX86Details>> expected;
+            try(CapstoneHandlePool.Lease lease = pool.borrow(key)) {
+                expected = lease.handle().disassembleMemory(segment, code.length, 0x1000);
+            }
+
+            for(long rangeSize : new long[] {1, 7, 64, 1000, code.length}) {
+                CapstoneParallelDisassembler disassembler = CapstoneParallelDisassembler.builder(pool, key).rangeSize(rangeSize).build();
+                List<CapstoneInstruction<CapstoneX86Details>> actual = disassembler.disassemble(segment, code.length, 0x1000);
+                assertEquals(expected.size(), actual.size(), "range size " + rangeSize);
+                for(int i = 0; i < expected.size(); i++) {
+                    assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+                    assertEquals(expected.get(i).getId(), actual.get(i).getId());
+                    assertEquals(expected.get(i).getOpStr(), actual.get(i).getOpStr());
+                }
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+
+        // lazy details would be decoded with handles that are back in the pool
+        try(CapstoneHandlePool lazyPool = CapstoneHandlePool.builder().lazyDetails(true).build()) {
+            assertThrows(IllegalArgumentException.class, () -> CapstoneParallelDisassembler.builder(lazyPool, key));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64DisassembleStream() {
+        System.out.println("Testing X86_64 disassemble stream");
+
+        byte[] code = new byte[testX86_64Data.length * 50];
+        for(int i = 0; i < 50; i++) {
+            System.arraycopy(testX86_64Data, 0, code, i * testX86_64Data.length, testX86_64Data.length);
+        }
+
+        // a stream returning one byte per read, so that every instruction spans several reads
+        InputStream trickle = new InputStream() {
+            private final ByteArrayInputStream in = new ByteArrayInputStream(code);
+
+            @Override
+            public int read() {
+                return this.in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return this.in.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(code, 0x1000);
+            List<CapstoneInstruction<CapstoneX86Details>> actual;
+            try(Stream<CapstoneInstruction<CapstoneX86Details>> stream = handle.disassembleStream(trickle, 0x1000)) {
+                actual = stream.toList();
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+                assertEquals(expected.get(i).getSize(), actual.get(i).getSize());
+                assertEquals(expected.get(i).getMnemonic(), actual.get(i).getMnemonic());
+                assertEquals(expected.get(i).getOpStr(), actual.get(i).getOpStr());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testX86_64DisassembleFile() {
+        System.out.println("Testing X86_64 disassemble file");
+
+        Path file = null;
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            // place the code after a header that must not be decoded
+            byte[] contents = new byte[0x40 + testX86_64Data.length];
+            Arrays.fill(contents, 0, 0x40, (byte)0xcc);
+            System.arraycopy(testX86_64Data, 0, contents, 0x40, testX86_64Data.length);
+            file = Files.createTempFile("capstone4j", ".bin");
+            Files.write(file, contents);
+
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+            List<CapstoneInstruction<CapstoneX86Details>> actual;
+            try(Stream<CapstoneInstruction<CapstoneX86Details>> stream = handle.disassembleFile(file, 0x40, testX86_64Data.length, 0x1000)) {
+                actual = stream.toList();
+            }
+
+            assertEquals(expected.size(), actual.size());
+            for(int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getAddress(), actual.get(i).getAddress());
+                assertEquals(expected.get(i).getMnemonic(), actual.get(i).getMnemonic());
+                assertEquals(expected.get(i).getOpStr(), actual.get(i).getOpStr());
+            }
+
+            Path path = file;
+            assertThrows(IllegalArgumentException.class, () -> handle.disassembleFile(path, 0x40, contents.length, 0x1000));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            if(file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
     /**
      * Helper method to check if an array contains a specific value
      */
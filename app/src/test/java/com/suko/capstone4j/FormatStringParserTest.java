@@ -0,0 +1,62 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class FormatStringParserTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    @Test
+    public void testFormatStringParser() {
+        System.out.println("Testing compiled format strings");
+        try(Arena arena = Arena.ofConfined()) {
+            MemorySegment str = arena.allocate(64);
+            MemorySegment format = arena.allocateFrom("%s, 0x%llx %5d|%-4u|%08x|%#X|100%%");
+            MemorySegment ap = arena.allocate(64, 8);
+            ap.set(ValueLayout.ADDRESS, 0, arena.allocateFrom("rax"));
+            ap.set(ValueLayout.JAVA_LONG, 8, 0x401000L);
+            ap.set(ValueLayout.JAVA_INT, 16, -42);
+            ap.set(ValueLayout.JAVA_INT, 20, 7);
+            ap.set(ValueLayout.JAVA_INT, 24, 0xbeef);
+            ap.set(ValueLayout.JAVA_INT, 28, 255);
+
+            String expected = "rax, 0x401000   -42|7   |0000beef|0XFF|100%";
+            assertEquals(expected.length(), FormatStringParser.vsnprintf(str, 64, format, ap));
+            assertEquals(expected, str.getString(0));
+
+            // The second call uses the cached format and must produce the same output
+            assertSame(FormatStringParser.compiled(format), FormatStringParser.compiled(format));
+            assertEquals(expected.length(), FormatStringParser.vsnprintf(str, 64, format, ap));
+            assertEquals(expected, str.getString(0));
+
+            // A different format at the same address is compiled again
+            format.setString(0, "#%d");
+            assertEquals(4, FormatStringParser.vsnprintf(str, 64, format, ap.asSlice(16)));
+            assertEquals("#-42", str.getString(0));
+
+            // Truncated output still returns the full length
+            format.setString(0, "0x%llx");
+            assertEquals(8, FormatStringParser.vsnprintf(str, 5, format, ap.asSlice(8)));
+            assertEquals("0x40", str.getString(0));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.suko.capstone4j;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PooledCapstoneMemoryProviderTest {
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    byte[] testX86_64Data = new byte[] {
+        0x55, 0x48, (byte)0x8b, 0x05, (byte)0xb8, (byte)0x13, 0x00, 0x00, (byte)0xe9, (byte)0xea, 
+        (byte)0xbe, (byte)0xad, (byte)0xde, (byte)0xff, 0x25, 0x23, 0x01, 0x00, 0x00, (byte)0xe8, 
+        (byte)0xdf, (byte)0xbe, (byte)0xad, (byte)0xde, 0x74, (byte)0xff
+    };
+
+    @Test
+    public void testX86_64PooledMemoryProviderSoak() {
+        System.out.println("Testing X86_64 pooled memory provider soak");
+
+        PooledCapstoneMemoryProvider provider = new PooledCapstoneMemoryProvider();
+        CapstoneHandleOptions options = CapstoneHandleOptions.builder().memoryProvider(provider).build();
+        try(CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options);
+            Arena arena = Arena.ofConfined()) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            MemorySegment code = arena.allocate(testX86_64Data.length);
+            MemorySegment.copy(testX86_64Data, 0, code, ValueLayout.JAVA_BYTE, 0, testX86_64Data.length);
+            List<CapstoneInstruction<CapstoneX86Details>> expected = handle.disassembleAllInstructions(testX86_64Data, 0x1000);
+
+            // warm up so that every size class Capstone uses has its slab
+            for(int i = 0; i < 100; i++) {
+                decodeAllocating(handle, code, expected);
+            }
+            long reservedBytes = provider.getReservedBytes();
+            long liveBytes = provider.getLiveBytes();
+
+            // every iteration allocates and frees an instruction array and a cursor buffer
+            for(int i = 0; i < 20_000; i++) {
+                decodeAllocating(handle, code, expected);
+            }
+            assertEquals(reservedBytes, provider.getReservedBytes());
+            assertEquals(liveBytes, provider.getLiveBytes());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+        // closing the handle frees everything Capstone allocated
+        assertEquals(0, provider.getLiveBytes());
+    }
+
+    @Test
+    public void testPooledMemoryProviderLargeBlocks() {
+        System.out.println("Testing pooled memory provider large blocks");
+
+        try(Arena arena = Arena.ofShared()) {
+            PooledCapstoneMemoryProvider provider = new PooledCapstoneMemoryProvider(arena);
+            MemorySegment large = provider.malloc(PooledCapstoneMemoryProvider.MAX_BLOCK_SIZE + 1);
+            assertEquals(2L * PooledCapstoneMemoryProvider.MAX_BLOCK_SIZE, provider.getReservedBytes());
+            large.set(ValueLayout.JAVA_BYTE, 0, (byte)0x55);
+            provider.free(large);
+            assertEquals(0, provider.getLiveBytes());
+
+            // freed large blocks are reused for requests of the same size class
+            MemorySegment reused = provider.malloc(PooledCapstoneMemoryProvider.MAX_BLOCK_SIZE + 100);
+            assertEquals(large.address(), reused.address());
+            assertEquals(2L * PooledCapstoneMemoryProvider.MAX_BLOCK_SIZE, provider.getReservedBytes());
+
+            MemorySegment grown = provider.realloc(reused, 4L * PooledCapstoneMemoryProvider.MAX_BLOCK_SIZE);
+            assertNotEquals(reused.address(), grown.address());
+            assertEquals((byte)0x55, grown.get(ValueLayout.JAVA_BYTE, 0));
+            provider.free(grown);
+            assertEquals(0, provider.getLiveBytes());
+
+            // the size of unknown blocks is unknown, so they cannot be reallocated
+            MemorySegment foreign = arena.allocate(64);
+            assertThrows(IllegalArgumentException.class, () -> provider.realloc(foreign, 128));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    private void decodeAllocating(CapstoneHandle handle, MemorySegment code, List<CapstoneInstruction<CapstoneX86Details>> expected) {
+        List<CapstoneInstruction<CapstoneX86Details>> batch = handle.disassembleBatch(code, code.byteSize(), 0x1000, 0);
+        assertEquals(expected.size(), batch.size());
+        for(int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getId(), batch.get(i).getId());
+            assertEquals(expected.get(i).getOpStr(), batch.get(i).getOpStr());
+            assertArrayEquals(expected.get(i).getDetails().getRegAccess().getRegsRead(), batch.get(i).getDetails().getRegAccess().getRegsRead());
+        }
+        try(CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(code, code.byteSize(), 0x1000)) {
+            for(CapstoneInstruction<CapstoneX86Details> instruction : expected) {
+                assertTrue(cursor.next());
+                assertEquals(instruction.getId(), cursor.id());
+                assertEquals(instruction.getAddress(), cursor.address());
+            }
+        }
+    }
+}
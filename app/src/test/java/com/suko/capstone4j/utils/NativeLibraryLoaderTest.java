@@ -0,0 +1,75 @@
+package com.suko.capstone4j.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import org.junit.jupiter.api.Test;
+
+class NativeLibraryLoaderTest {
+
+    @Test
+    public void testNativeLibraryCache() {
+        System.out.println("Testing native library extraction cache");
+        try {
+            String resource = NativeLibraryLoader.resourcePath("capstone");
+            if(!NativeLibraryLoader.hasResource(resource)) {
+                resource = "/libs/" + System.mapLibraryName("capstone");
+            }
+            assumeTrue(NativeLibraryLoader.hasResource(resource), "No bundled Capstone library");
+
+            Path first = NativeLibraryLoader.extract(resource);
+            long modified = Files.getLastModifiedTime(first).toMillis();
+            Path second = NativeLibraryLoader.extract(resource);
+
+            // Later starts find the copy of the same content and do not write it again
+            assertEquals(first, second);
+            assertEquals(modified, Files.getLastModifiedTime(second).toMillis());
+            assertEquals(NativeLibraryLoader.cacheDirectory(), first.getParent().getParent());
+            assertEquals(64, first.getParent().getFileName().toString().length());
+            assertEquals(System.mapLibraryName("capstone"), first.getFileName().toString());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testNativeLibraryCacheTampered() {
+        System.out.println("Testing native library extraction cache with a tampered copy");
+        String previous = System.getProperty(NativeLibraryLoader.CACHE_DIR_PROPERTY);
+        try {
+            String resource = NativeLibraryLoader.resourcePath("capstone");
+            if(!NativeLibraryLoader.hasResource(resource)) {
+                resource = "/libs/" + System.mapLibraryName("capstone");
+            }
+            assumeTrue(NativeLibraryLoader.hasResource(resource), "No bundled Capstone library");
+
+            Path cache = Files.createTempDirectory("capstone4j-cache").resolve("native");
+            System.setProperty(NativeLibraryLoader.CACHE_DIR_PROPERTY, cache.toString());
+            Path extracted = NativeLibraryLoader.extract(resource);
+            byte[] content = Files.readAllBytes(extracted);
+            if(cache.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+                assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(cache)));
+                assertEquals("rwx------", PosixFilePermissions.toString(Files.getPosixFilePermissions(extracted.getParent())));
+            }
+
+            // a copy that does not match its hash is never loaded, but replaced
+            Files.write(extracted, new byte[] { 0x7f, 'E', 'L', 'F' });
+            assertEquals(extracted, NativeLibraryLoader.extract(resource));
+            assertArrayEquals(content, Files.readAllBytes(extracted));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            if(previous == null) {
+                System.clearProperty(NativeLibraryLoader.CACHE_DIR_PROPERTY);
+            } else {
+                System.setProperty(NativeLibraryLoader.CACHE_DIR_PROPERTY, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.suko.capstone4j;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the Java {@code vsnprintf} fallback of {@link CapstoneMemoryProvider} with the formats
+ * Capstone's instruction printers pass to it: register names, hexadecimal and decimal immediates,
+ * memory operand brackets and operand separators.
+ * <p>
+ * {@code cached} looks the compiled format up by its address, as the upcall does. {@code compileEveryCall}
+ * parses the format again on every call, like the parser did before formats were cached.
+ * <p>
+ * Unlike the other benchmarks, this one is in the package {@code com.suko.capstone4j} instead of
+ * {@code com.suko.capstone4j.benchmarks}. The public {@link CapstoneMemoryProvider#vsnprintf} prefers
+ * the {@code vsnprintf} of the C library whenever it is available, so the Java fallback can only be
+ * measured by calling the package-private {@code FormatStringParser} directly, and
+ * {@code compileEveryCall} needs its package-private compile step as well. Making them public only
+ * for a benchmark would widen the API of the library.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=FormatStringBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatStringBenchmark {
+
+    /**
+     * The formats with their arguments, an {@code Integer} for {@code int} conversions, a {@code Long}
+     * for {@code ll} conversions and a {@code String} for {@code %s}.
+     */
+    private static final Object[][] FORMATS = {
+        { "%s", "rax" },
+        { "%s, %s", "rbp", "rsp" },
+        { "0x%llx", 0x401000L },
+        { "#0x%llx", 0xdeadbeefL },
+        { "-0x%llx", 0x10L },
+        { "0x%x", 0x7f },
+        { "#%d", 8 },
+        { "%u", 12 },
+        { "[%s", "rip" },
+        { " + 0x%x]", 0x13b8 },
+        { "%s:", "fs" },
+        { "{%s}", "k1" },
+        { "$%s", "v0" },
+        { "#0x%02x", 0x5 },
+        { "%s%s", "lsl ", "#2" },
+    };
+
+    private static final int STR_SIZE = 160;
+
+    private Arena arena;
+    private MemorySegment str;
+    private MemorySegment[] formats;
+    private MemorySegment[] args;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.arena = Arena.ofShared();
+        this.str = this.arena.allocate(STR_SIZE);
+        this.formats = new MemorySegment[FORMATS.length];
+        this.args = new MemorySegment[FORMATS.length];
+        for (int i = 0; i < FORMATS.length; i++) {
+            this.formats[i] = this.arena.allocateFrom((String) FORMATS[i][0]);
+            this.args[i] = vaList(FORMATS[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.arena.close();
+    }
+
+    /**
+     * Lays the arguments out the way {@code FormatStringParser} reads them: each one aligned to its
+     * own size and directly following the previous one.
+     */
+    private MemorySegment vaList(Object[] format) {
+        MemorySegment ap = this.arena.allocate(8L * format.length, 8);
+        long offset = 0;
+        for (int i = 1; i < format.length; i++) {
+            Object arg = format[i];
+            if (arg instanceof Integer value) {
+                offset = (offset + 3) & ~3L;
+                ap.set(ValueLayout.JAVA_INT, offset, value);
+                offset += 4;
+            } else if (arg instanceof Long value) {
+                offset = (offset + 7) & ~7L;
+                ap.set(ValueLayout.JAVA_LONG, offset, value);
+                offset += 8;
+            } else {
+                offset = (offset + 7) & ~7L;
+                ap.set(ValueLayout.ADDRESS, offset, this.arena.allocateFrom((String) arg));
+                offset += 8;
+            }
+        }
+        return ap;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(15)
+    public void cached(Blackhole blackhole) {
+        for (int i = 0; i < this.formats.length; i++) {
+            blackhole.consume(FormatStringParser.vsnprintf(this.str, STR_SIZE, this.formats[i], this.args[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(15)
+    public void compileEveryCall(Blackhole blackhole) {
+        for (int i = 0; i < this.formats.length; i++) {
+            FormatStringParser.CompiledFormat compiled = FormatStringParser.compile(this.formats[i]);
+            blackhole.consume(FormatStringParser.format(compiled, this.str, STR_SIZE, this.args[i]));
+        }
+    }
+}
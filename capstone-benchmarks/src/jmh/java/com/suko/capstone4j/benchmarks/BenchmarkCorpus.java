@@ -0,0 +1,322 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.util.Random;
+
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneMode;
+
+/**
+ * Machine code used by the benchmarks.
+ * <p>
+ * The corpora are built from fixed, representative instruction listings checked in below, so every run
+ * decodes exactly the same bytes. {@link #repeat(byte[], int)} repeats a sequence until the requested
+ * size is reached. {@link Target} builds corpora of an exact number of instructions for each supported
+ * architecture and mode, either in listing order or in a pseudo-random order drawn with a fixed seed.
+ * <p>
+ * The x86 listings are short functions assembled with GNU as. The ARM, Thumb and AArch64 listings are
+ * taken from the functional tests of the core library. Instructions that change how the following
+ * instructions are decoded, such as Thumb {@code it} blocks, are left out, so the instructions can be
+ * arranged in any order.
+ */
+final class BenchmarkCorpus {
+
+    /**
+     * The seed of the pseudo-random instruction order of {@link Target#shuffled(int)}.
+     */
+    static final long SEED = 0x5eedL;
+
+    /**
+     * A mix of common x86-64 instructions: stack frame setup, RIP relative loads, register moves,
+     * arithmetic, compares and relative branches.
+     */
+    static final byte[] X86_64_SEQUENCE = new byte[] {
+        0x55,                                                       // push rbp
+        0x48, (byte)0x89, (byte)0xe5,                               // mov rbp, rsp
+        0x48, (byte)0x8b, 0x05, (byte)0xb8, 0x13, 0x00, 0x00,       // mov rax, qword ptr [rip + 0x13b8]
+        0x48, (byte)0x83, (byte)0xc4, 0x08,                         // add rsp, 8
+        0x31, (byte)0xc0,                                           // xor eax, eax
+        0x48, 0x39, (byte)0xd8,                                     // cmp rax, rbx
+        0x74, 0x02,                                                 // je +2
+        (byte)0xff, (byte)0xc1,                                     // inc ecx
+        (byte)0x8b, 0x44, 0x24, 0x10,                               // mov eax, dword ptr [rsp + 0x10]
+        (byte)0xe8, 0x00, 0x00, 0x00, 0x00,                         // call +0
+        0x5d,                                                       // pop rbp
+        (byte)0xc3                                                  // ret
+    };
+
+    /**
+     * A real mode function: frame setup, word and segment memory operands, a string instruction, a
+     * software interrupt and a far call.
+     */
+    private static final byte[][] X86_16_INSTRUCTIONS = {
+        { 0x55 },                               // push bp
+        { (byte)0x89, (byte)0xe5 },             // mov bp, sp
+        { (byte)0x83, (byte)0xec, 0x08 },       // sub sp, 0x8
+        { 0x56 },                               // push si
+        { 0x57 },                               // push di
+        { (byte)0x8b, 0x76, 0x04 },             // mov si, word ptr [bp + 0x4]
+        { (byte)0x8b, 0x4e, 0x06 },             // mov cx, word ptr [bp + 0x6]
+        { (byte)0xa1, 0x34, 0x12 },             // mov ax, ds:0x1234
+        { (byte)0x8d, 0x7e, (byte)0xfe },       // lea di, [bp - 0x2]
+        { (byte)0x8a, 0x04 },                   // mov al, byte ptr [si]
+        { 0x46 },                               // inc si
+        { (byte)0x83, (byte)0xf8, 0x10 },       // cmp ax, 0x10
+        { 0x72, 0x02 },                         // jb +0x2
+        { 0x31, (byte)0xc0 },                   // xor ax, ax
+        { (byte)0xc4, 0x7e, 0x08 },             // les di, dword ptr [bp + 0x8]
+        { (byte)0xf3, (byte)0xaa },             // rep stosb byte ptr es:[di], al
+        { (byte)0xb8, 0x00, 0x4c },             // mov ax, 0x4c00
+        { (byte)0xcd, 0x21 },                   // int 0x21
+        { (byte)0x9a, 0x20, 0x00, 0x00, 0x10 }, // call 0x1000:0x20
+        { 0x5f },                               // pop di
+        { 0x5e },                               // pop si
+        { (byte)0x89, (byte)0xec },             // mov sp, bp
+        { 0x5d },                               // pop bp
+        { (byte)0xc3 }                          // ret
+    };
+
+    /**
+     * A cdecl function: frame setup, SIB addressing, arithmetic, x87 and SSE2 instructions, a
+     * conditional move and a jump table.
+     */
+    private static final byte[][] X86_32_INSTRUCTIONS = {
+        { 0x55 },                                                       // push ebp
+        { (byte)0x89, (byte)0xe5 },                                     // mov ebp, esp
+        { 0x53 },                                                       // push ebx
+        { 0x56 },                                                       // push esi
+        { (byte)0x83, (byte)0xec, 0x1c },                               // sub esp, 0x1c
+        { (byte)0x8b, 0x75, 0x08 },                                     // mov esi, dword ptr [ebp + 0x8]
+        { (byte)0x8b, 0x4d, 0x0c },                                     // mov ecx, dword ptr [ebp + 0xc]
+        { (byte)0x8b, (byte)0x84, (byte)0x91, 0x23, 0x01, 0x00, 0x00 }, // mov eax, dword ptr [ecx + edx*4 + 0x123]
+        { (byte)0x8d, (byte)0x84, 0x39, (byte)0x89, 0x67, 0x00, 0x00 }, // lea eax, [ecx + edi + 0x6789]
+        { 0x0f, (byte)0xb6, 0x14, 0x0e },                               // movzx edx, byte ptr [esi + ecx]
+        { 0x6b, (byte)0xc0, 0x1f },                                     // imul eax, eax, 0x1f
+        { 0x01, (byte)0xd0 },                                           // add eax, edx
+        { (byte)0x85, (byte)0xc0 },                                     // test eax, eax
+        { 0x75, 0x0e },                                                 // jne +0xe
+        { (byte)0xe8, (byte)0xfb, 0x00, 0x00, 0x00 },                   // call +0xfb
+        { (byte)0x89, 0x45, (byte)0xf4 },                               // mov dword ptr [ebp - 0xc], eax
+        { (byte)0xdd, 0x45, 0x10 },                                     // fld qword ptr [ebp + 0x10]
+        { (byte)0xde, (byte)0xc9 },                                     // fmulp st(1), st
+        { (byte)0xf2, 0x0f, 0x10, 0x46, 0x08 },                         // movsd xmm0, qword ptr [esi + 0x8]
+        { 0x0f, 0x4c, (byte)0xc1 },                                     // cmovl eax, ecx
+        { (byte)0xff, 0x24, (byte)0x85, 0x00, (byte)0x90, 0x04, 0x08 }, // jmp dword ptr [eax*4 + 0x8049000]
+        { (byte)0x83, (byte)0xc4, 0x1c },                               // add esp, 0x1c
+        { 0x5e },                                                       // pop esi
+        { 0x5b },                                                       // pop ebx
+        { 0x5d },                                                       // pop ebp
+        { (byte)0xc3 }                                                  // ret
+    };
+
+    /**
+     * A System V function: {@code endbr64}, RIP relative and SIB addressing, arithmetic, SSE2 and AVX2
+     * instructions, a locked compare and exchange and an indirect jump.
+     */
+    private static final byte[][] X86_64_INSTRUCTIONS = {
+        { (byte)0xf3, 0x0f, 0x1e, (byte)0xfa },                   // endbr64
+        { 0x55 },                                                 // push rbp
+        { 0x48, (byte)0x89, (byte)0xe5 },                         // mov rbp, rsp
+        { 0x53 },                                                 // push rbx
+        { 0x48, (byte)0x83, (byte)0xec, 0x28 },                   // sub rsp, 0x28
+        { 0x48, (byte)0x8b, 0x05, (byte)0xb8, 0x13, 0x00, 0x00 }, // mov rax, qword ptr [rip + 0x13b8]
+        { 0x48, (byte)0x89, (byte)0xfb },                         // mov rbx, rdi
+        { 0x48, (byte)0x8d, 0x4c, (byte)0x96, 0x08 },             // lea rcx, [rsi + rdx*4 + 0x8]
+        { 0x0f, (byte)0xb6, 0x04, 0x0f },                         // movzx eax, byte ptr [rdi + rcx]
+        { 0x48, 0x6b, (byte)0xc0, 0x1f },                         // imul rax, rax, 0x1f
+        { 0x48, 0x39, (byte)0xf0 },                               // cmp rax, rsi
+        { 0x75, 0x1e },                                           // jne +0x1e
+        { 0x31, (byte)0xc0 },                                     // xor eax, eax
+        { (byte)0x8b, 0x44, 0x24, 0x10 },                         // mov eax, dword ptr [rsp + 0x10]
+        { (byte)0xe8, (byte)0xfb, 0x00, 0x00, 0x00 },             // call +0xfb
+        { (byte)0x85, (byte)0xc0 },                               // test eax, eax
+        { 0x48, 0x0f, 0x45, (byte)0xc1 },                         // cmovne rax, rcx
+        { 0x48, (byte)0xc1, (byte)0xe0, 0x03 },                   // shl rax, 0x3
+        { (byte)0xf3, 0x0f, 0x6f, 0x06 },                         // movdqu xmm0, xmmword ptr [rsi]
+        { 0x66, 0x0f, (byte)0xef, (byte)0xc1 },                   // pxor xmm0, xmm1
+        { (byte)0xc5, (byte)0xfe, 0x6f, 0x4e, 0x20 },             // vmovdqu ymm1, ymmword ptr [rsi + 0x20]
+        { (byte)0xc5, (byte)0xf5, (byte)0xfe, (byte)0xca },       // vpaddd ymm1, ymm1, ymm2
+        { (byte)0xf0, 0x48, 0x0f, (byte)0xb1, 0x0b },             // lock cmpxchg qword ptr [rbx], rcx
+        { (byte)0xff, 0x25, 0x23, 0x01, 0x00, 0x00 },             // jmp qword ptr [rip + 0x123]
+        { 0x48, (byte)0x83, (byte)0xc4, 0x28 },                   // add rsp, 0x28
+        { 0x5b },                                                 // pop rbx
+        { 0x5d },                                                 // pop rbp
+        { (byte)0xc3 }                                            // ret
+    };
+
+    /**
+     * NEON loads, a branch with link, pre-indexed stores, a coprocessor move, conditional and
+     * block transfer instructions.
+     */
+    private static final byte[][] ARM_INSTRUCTIONS = {
+        { (byte)0x86, 0x48, 0x60, (byte)0xf4 },             // vld2.32 {d20, d21}, [r0], r6
+        { 0x4d, 0x0f, (byte)0xe2, (byte)0xf4 },             // vld4.16 {d16[], d17[], d18[], d19[]}, [r2]!
+        { (byte)0xed, (byte)0xff, (byte)0xff, (byte)0xeb }, // bl .-0x44
+        { 0x04, (byte)0xe0, 0x2d, (byte)0xe5 },             // str lr, [sp, #-4]!
+        { 0x00, 0x00, 0x00, 0x00 },                         // andeq r0, r0, r0
+        { (byte)0xe0, (byte)0x83, 0x22, (byte)0xe5 },       // str r8, [r2, #-0x3e0]!
+        { (byte)0xf1, 0x02, 0x03, 0x0e },                   // mcreq p2, #0, r0, c3, c1, #7
+        { 0x00, 0x00, (byte)0xa0, (byte)0xe3 },             // mov r0, #0
+        { 0x02, 0x30, (byte)0xc1, (byte)0xe7 },             // strb r3, [r1, r2]
+        { 0x00, 0x00, 0x53, (byte)0xe3 },                   // cmp r3, #0
+        { 0x05, 0x40, (byte)0xd0, (byte)0xe8 },             // ldm r0, {r0, r2, lr} ^
+        { (byte)0xf4, (byte)0x80, 0x00, 0x00 }              // strdeq r8, r9, [r0], -r4
+    };
+
+    /**
+     * A mix of 16-bit and 32-bit Thumb-2 instructions: NEON loads, branches, table branches, stack
+     * and block transfer instructions.
+     */
+    private static final byte[][] THUMB_INSTRUCTIONS = {
+        { 0x60, (byte)0xf9, 0x1f, 0x04 },             // vld3.8 {d16, d17, d18}, [r0:0x40]
+        { (byte)0xe0, (byte)0xf9, 0x4f, 0x07 },       // vld4.16 {d16[1], d17[1], d18[1], d19[1]}, [r0]
+        { 0x70, 0x47 },                               // bx lr
+        { 0x00, (byte)0xf0, 0x10, (byte)0xe8 },       // blx .+0x22
+        { (byte)0xeb, 0x46 },                         // mov r11, sp
+        { (byte)0x83, (byte)0xb0 },                   // sub sp, #0xc
+        { (byte)0xc9, 0x68 },                         // ldr r1, [r1, #0xc]
+        { 0x1f, (byte)0xb1 },                         // cbz r7, .+0xa
+        { 0x30, (byte)0xbf },                         // wfi
+        { (byte)0xaf, (byte)0xf3, 0x20, (byte)0x84 }, // cpsie.w f
+        { 0x52, (byte)0xf8, 0x23, (byte)0xf0 },       // ldr.w pc, [r2, r3, lsl #2]
+        { (byte)0xd1, (byte)0xe8, 0x00, (byte)0xf0 }, // tbb [r1, r0]
+        { (byte)0xf0, 0x24 },                         // movs r4, #0xf0
+        { 0x04, 0x07 },                               // lsls r4, r0, #0x1c
+        { 0x1f, 0x3c },                               // subs r4, #0x1f
+        { (byte)0xf2, (byte)0xc0 },                   // stm r0!, {r1, r4, r5, r6, r7}
+        { 0x00, 0x00 },                               // movs r0, r0
+        { 0x4f, (byte)0xf0, 0x00, 0x01 },             // mov.w r1, #0
+        { 0x46, 0x6c },                               // ldr r6, [r0, #0x44]
+        { (byte)0xbd, (byte)0xe8, 0x00, (byte)0x88 }, // pop.w {r11, pc}
+        { (byte)0xd0, (byte)0xff, (byte)0xa2, 0x01 }  // vaddw.u16 q8, q8, d18
+    };
+
+    /**
+     * System register accesses, barriers, NEON and floating point instructions, extended and
+     * shifted register operands and pre- and post-indexed loads and stores.
+     */
+    private static final byte[][] AARCH64_INSTRUCTIONS = {
+        { 0x09, 0x00, 0x38, (byte)0xd5 },             // mrs x9, MIDR_EL1
+        { (byte)0xbf, 0x40, 0x00, (byte)0xd5 },       // msr SPSel, #0
+        { 0x0c, 0x05, 0x13, (byte)0xd5 },             // msr DBGDTRTX_EL0, x12
+        { 0x20, 0x50, 0x02, 0x0e },                   // tbx v0.8b, { v1.16b, v2.16b, v3.16b }, v2.8b
+        { 0x20, (byte)0xe4, 0x3d, 0x0f },             // scvtf v0.2s, v1.2s, #3
+        { 0x00, 0x18, (byte)0xa0, 0x5f },             // fmla s0, s0, v0.s[3]
+        { (byte)0xa2, 0x00, (byte)0xae, (byte)0x9e }, // fmov x2, v5.d[1]
+        { (byte)0x9f, 0x37, 0x03, (byte)0xd5 },       // dsb nsh
+        { (byte)0xbf, 0x33, 0x03, (byte)0xd5 },       // dmb osh
+        { (byte)0xdf, 0x3f, 0x03, (byte)0xd5 },       // isb
+        { 0x21, 0x7c, 0x02, (byte)0x9b },             // mul x1, x1, x2
+        { 0x21, 0x7c, 0x00, 0x53 },                   // lsr w1, w1, #0
+        { 0x00, 0x40, 0x21, 0x4b },                   // sub w0, w0, w1, uxtw
+        { (byte)0xe1, 0x0b, 0x40, (byte)0xb9 },       // ldr w1, [sp, #8]
+        { 0x20, 0x04, (byte)0x81, (byte)0xda },       // cneg x0, x1, ne
+        { 0x20, 0x08, 0x02, (byte)0x8b },             // add x0, x1, x2, lsl #2
+        { 0x10, 0x5b, (byte)0xe8, 0x3c },             // ldr q16, [x24, w8, uxtw #4]
+        { (byte)0xfd, 0x7b, (byte)0xba, (byte)0xa9 }, // stp x29, x30, [sp, #-0x60]!
+        { (byte)0xfd, (byte)0xc7, 0x43, (byte)0xf8 }  // ldr x29, [sp], #0x3c
+    };
+
+    /**
+     * An architecture and mode together with its instruction listing.
+     */
+    enum Target {
+        X86_16(CapstoneArch.X86, CapstoneMode.X86_16, X86_16_INSTRUCTIONS),
+        X86_32(CapstoneArch.X86, CapstoneMode.X86_32, X86_32_INSTRUCTIONS),
+        X86_64(CapstoneArch.X86, CapstoneMode.X86_64, X86_64_INSTRUCTIONS),
+        ARM(CapstoneArch.ARM, CapstoneMode.ARM, ARM_INSTRUCTIONS),
+        THUMB(CapstoneArch.ARM, CapstoneMode.THUMB, THUMB_INSTRUCTIONS),
+        AARCH64(CapstoneArch.AARCH64, CapstoneMode.ARM, AARCH64_INSTRUCTIONS);
+
+        private final CapstoneArch arch;
+        private final CapstoneMode mode;
+        private final byte[][] instructions;
+
+        Target(CapstoneArch arch, CapstoneMode mode, byte[][] instructions) {
+            this.arch = arch;
+            this.mode = mode;
+            this.instructions = instructions;
+        }
+
+        CapstoneArch arch() {
+            return arch;
+        }
+
+        CapstoneMode mode() {
+            return mode;
+        }
+
+        /**
+         * Returns {@code count} instructions of the listing in order, starting over at its end.
+         *
+         * @param count the number of instructions
+         * @return the encoded instructions
+         */
+        byte[][] sequential(int count) {
+            byte[][] corpus = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                corpus[i] = instructions[i % instructions.length];
+            }
+            return corpus;
+        }
+
+        /**
+         * Returns {@code count} instructions of the listing in a pseudo-random order, drawn with
+         * {@link BenchmarkCorpus#SEED}.
+         * <p>
+         * A short listing repeated in order lets the branch predictor learn the path through the decoder,
+         * which makes it faster than it is on real code. The shuffled corpus has the same instruction mix
+         * without the repeating pattern.
+         *
+         * @param count the number of instructions
+         * @return the encoded instructions
+         */
+        byte[][] shuffled(int count) {
+            Random random = new Random(SEED);
+            byte[][] corpus = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                corpus[i] = instructions[random.nextInt(instructions.length)];
+            }
+            return corpus;
+        }
+    }
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * Repeats {@code sequence} until {@code size} bytes have been produced.
+     * <p>
+     * The last copy of the sequence is truncated, so the tail may end in the middle of an instruction.
+     *
+     * @param sequence the instruction sequence to repeat
+     * @param size the size of the corpus in bytes
+     * @return the corpus
+     */
+    static byte[] repeat(byte[] sequence, int size) {
+        byte[] corpus = new byte[size];
+        for (int offset = 0; offset < size; offset += sequence.length) {
+            System.arraycopy(sequence, 0, corpus, offset, Math.min(sequence.length, size - offset));
+        }
+        return corpus;
+    }
+
+    /**
+     * Concatenates encoded instructions into one block of code.
+     *
+     * @param instructions the encoded instructions
+     * @return the code
+     */
+    static byte[] concat(byte[][] instructions) {
+        int size = 0;
+        for (byte[] instruction : instructions) {
+            size += instruction.length;
+        }
+        byte[] code = new byte[size];
+        int offset = 0;
+        for (byte[] instruction : instructions) {
+            System.arraycopy(instruction, 0, code, offset, instruction.length);
+            offset += instruction.length;
+        }
+        return code;
+    }
+}
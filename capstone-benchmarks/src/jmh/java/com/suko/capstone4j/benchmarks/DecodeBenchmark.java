@@ -0,0 +1,241 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneCodeVisitor;
+import com.suko.capstone4j.CapstoneDataRun;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneInstructionCursor;
+import com.suko.capstone4j.CapstoneOption;
+import com.suko.capstone4j.CapstoneOptionValue;
+
+/**
+ * Measures every {@code disassemble*} entry point of {@link CapstoneHandle}, plus the
+ * {@link CapstoneHandle#cursor cursor}, on the same corpus, so a release can be checked for regressions
+ * of the hot paths in one run.
+ * <p>
+ * The corpus holds exactly {@value #INSTRUCTIONS} valid instructions of one {@link BenchmarkCorpus.Target},
+ * in listing order ({@code sequential}) or in a fixed pseudo-random order ({@code shuffled}). Every
+ * invocation decodes all of them, and the results are reported per instruction. The parameters select
+ * whether instruction details are decoded, and whether the handle allocates through the memory provider
+ * of the default options, a shared {@link com.suko.capstone4j.PooledCapstoneMemoryProvider}
+ * ({@code default}), or without a memory provider ({@code null}). Without a memory provider no memory functions are installed, so Capstone keeps the
+ * allocator of the C library it was built with, as every benchmark runs in a fresh JVM.
+ * <p>
+ * {@code disassembleToTable} creates a new table on every invocation. The overload that appends to an
+ * existing table runs the same decoding loop and is left out, as the table would grow without bounds.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=DecodeBenchmark}. Add
+ * {@code -PjmhProfilers=gc} to report the allocations: as each operation is one instruction,
+ * {@code gc.alloc.rate.norm} is the number of bytes allocated per decoded instruction. To run a subset
+ * of the parameters, run the benchmark jar directly, for example
+ * {@code java -jar capstone-benchmarks/build/libs/capstone-benchmarks-jmh.jar DecodeBenchmark -p target=X86_64 -p detail=true -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(DecodeBenchmark.INSTRUCTIONS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    /**
+     * The number of instructions decoded by every invocation.
+     */
+    static final int INSTRUCTIONS = 2048;
+
+    private static final long START_ADDRESS = 0x1000L;
+
+    @Param({"X86_16", "X86_32", "X86_64", "ARM", "THUMB", "AARCH64"})
+    public String target;
+
+    @Param({"sequential", "shuffled"})
+    public String order;
+
+    @Param({"false", "true"})
+    public boolean detail;
+
+    @Param({"default", "null"})
+    public String memoryProvider;
+
+    private byte[][] instructions;
+    private long[] addresses;
+    private byte[] code;
+    private Arena arena;
+    private MemorySegment codeSegment;
+    private Path file;
+    private CapstoneHandle handle;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        BenchmarkCorpus.Target corpus = BenchmarkCorpus.Target.valueOf(target);
+        this.instructions = switch (order) {
+            case "sequential" -> corpus.sequential(INSTRUCTIONS);
+            case "shuffled" -> corpus.shuffled(INSTRUCTIONS);
+            default -> throw new IllegalArgumentException("Unknown order: " + order);
+        };
+        this.addresses = new long[INSTRUCTIONS];
+        long address = START_ADDRESS;
+        for (int i = 0; i < INSTRUCTIONS; i++) {
+            this.addresses[i] = address;
+            address += instructions[i].length;
+        }
+        this.code = BenchmarkCorpus.concat(instructions);
+        this.arena = Arena.ofShared();
+        this.codeSegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, code);
+        this.file = Files.createTempFile("capstone4j-" + target + "-", ".bin");
+        Files.write(file, code);
+
+        this.handle = Capstone.createHandle(corpus.arch(), corpus.mode(), options());
+        this.handle.setOption(CapstoneOption.DETAIL, detail ? CapstoneOptionValue.ON : CapstoneOptionValue.OFF);
+
+        // every result is per instruction, so the whole corpus has to decode
+        int decoded = handle.disassembleMemory(codeSegment, code.length, START_ADDRESS).size();
+        if (decoded != INSTRUCTIONS) {
+            throw new IllegalStateException(target + " corpus decodes to " + decoded + " instead of " + INSTRUCTIONS + " instructions");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+        this.arena.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void disassembleInstruction(Blackhole blackhole) {
+        for (int i = 0; i < INSTRUCTIONS; i++) {
+            blackhole.consume(handle.disassembleInstruction(instructions[i], addresses[i]));
+        }
+    }
+
+    @Benchmark
+    public void disassembleAllInstructions(Blackhole blackhole) {
+        List<? extends CapstoneInstruction<?>> decoded = handle.disassembleAllInstructions(code, START_ADDRESS);
+        blackhole.consume(decoded);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void disassembleVisitor(Blackhole blackhole) {
+        handle.disassemble(code, START_ADDRESS, consumer(blackhole));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public void disassembleVisitorMemory(Blackhole blackhole) {
+        handle.disassemble(codeSegment, code.length, START_ADDRESS, consumer(blackhole));
+    }
+
+    @Benchmark
+    public void disassembleMemory(Blackhole blackhole) {
+        List<? extends CapstoneInstruction<?>> decoded = handle.disassembleMemory(codeSegment, code.length, START_ADDRESS);
+        blackhole.consume(decoded);
+    }
+
+    @Benchmark
+    public void disassembleBatch(Blackhole blackhole) {
+        List<? extends CapstoneInstruction<?>> decoded = handle.disassembleBatch(codeSegment, code.length, START_ADDRESS, 0);
+        blackhole.consume(decoded);
+    }
+
+    @Benchmark
+    public void disassembleMemoryStream(Blackhole blackhole) {
+        try (Stream<? extends CapstoneInstruction<?>> stream = handle.disassembleMemoryStream(codeSegment, code.length, START_ADDRESS)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void disassembleStream(Blackhole blackhole) throws IOException {
+        try (Stream<? extends CapstoneInstruction<?>> stream = handle.disassembleStream(new ByteArrayInputStream(code), START_ADDRESS)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void disassembleStreamToList(Blackhole blackhole) throws IOException {
+        List<? extends CapstoneInstruction<?>> decoded = handle.disassembleStreamToList(new ByteArrayInputStream(code), START_ADDRESS);
+        blackhole.consume(decoded);
+    }
+
+    @Benchmark
+    public void disassembleFile(Blackhole blackhole) throws IOException {
+        try (Stream<? extends CapstoneInstruction<?>> stream = handle.disassembleFile(file, START_ADDRESS)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void disassembleToTable(Blackhole blackhole) {
+        blackhole.consume(handle.disassembleToTable(codeSegment, code.length, START_ADDRESS));
+    }
+
+    @Benchmark
+    public void cursor(Blackhole blackhole) {
+        try (CapstoneInstructionCursor<?> cursor = handle.cursor(codeSegment, code.length, START_ADDRESS)) {
+            while (cursor.next()) {
+                blackhole.consume(cursor.id());
+                blackhole.consume(cursor.size());
+            }
+        }
+    }
+
+    private CapstoneHandleOptions options() {
+        return switch (memoryProvider) {
+            case "default" -> CapstoneHandleOptions.getDefault();
+            case "null" -> CapstoneHandleOptions.builder().memoryProvider(null).build();
+            default -> throw new IllegalArgumentException("Unknown memory provider: " + memoryProvider);
+        };
+    }
+
+    /**
+     * Returns a visitor that passes everything to the blackhole. The visitor is raw, as the details
+     * type depends on the {@code target} parameter.
+     */
+    @SuppressWarnings("rawtypes")
+    private static CapstoneCodeVisitor consumer(Blackhole blackhole) {
+        return new CapstoneCodeVisitor() {
+            @Override
+            public void instruction(CapstoneInstruction instruction) {
+                blackhole.consume(instruction);
+            }
+
+            @Override
+            public void data(CapstoneDataRun run) {
+                blackhole.consume(run);
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneX86Details;
+
+/**
+ * Compares the single pass bulk decoder behind {@link CapstoneHandle#disassembleAllInstructions(byte[], long)}
+ * with the previous implementation, which copied a chunk of up to 1 MB of the input into native memory
+ * for every decoded instruction.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=DisassembleAllBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisassembleAllBenchmark {
+
+    private static final int LEGACY_CHUNK_SIZE = 1024 * 1024;
+    private static final long START_ADDRESS = 0x401000L;
+
+    @Param({"16384", "262144"})
+    public int codeSize;
+
+    private byte[] code;
+    private Arena arena;
+    private MemorySegment codeSegment;
+    private CapstoneHandle handle;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        this.code = BenchmarkCorpus.repeat(BenchmarkCorpus.X86_64_SEQUENCE, codeSize);
+        this.arena = Arena.ofShared();
+        this.codeSegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, code);
+        this.handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+        this.arena.close();
+    }
+
+    @Benchmark
+    public void disassembleAllInstructions(Blackhole blackhole) {
+        List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleAllInstructions(code, START_ADDRESS);
+        blackhole.consume(instructions);
+    }
+
+    @Benchmark
+    public void disassembleMemory(Blackhole blackhole) {
+        List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleMemory(codeSegment, codeSize, START_ADDRESS);
+        blackhole.consume(instructions);
+    }
+
+    /**
+     * Reproduces the previous {@code disassembleAllInstructions} loop through the public API: every
+     * instruction copies the next chunk of up to 1 MB into a fresh native buffer before decoding it.
+     */
+    @Benchmark
+    public void legacyChunkCopy(Blackhole blackhole) {
+        int offset = 0;
+        long address = START_ADDRESS;
+        while (offset < code.length) {
+            int chunkSize = Math.min(LEGACY_CHUNK_SIZE, code.length - offset);
+            CapstoneInstruction<CapstoneX86Details> instruction = handle.disassembleInstruction(Arrays.copyOfRange(code, offset, offset + chunkSize), address);
+            blackhole.consume(instruction);
+            offset += instruction.getSize();
+            address += instruction.getSize();
+        }
+    }
+}
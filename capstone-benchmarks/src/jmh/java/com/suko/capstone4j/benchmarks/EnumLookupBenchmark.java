@@ -0,0 +1,121 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.CapstoneAArch64Details.AArch64Reg;
+import com.suko.capstone4j.CapstoneX86Details.X86Insn;
+import com.suko.capstone4j.CapstoneX86Details.X86Reg;
+
+/**
+ * Compares the table based {@code fromValue} lookups with the linear scans over {@code values()}
+ * they replaced, for the largest enums used while parsing instruction details.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=EnumLookupBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnumLookupBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    private int[] x86Insns;
+    private int[] x86Regs;
+    private int[] aarch64Regs;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        this.x86Insns = new int[LOOKUPS];
+        this.x86Regs = new int[LOOKUPS];
+        this.aarch64Regs = new int[LOOKUPS];
+        X86Insn[] insns = X86Insn.values();
+        X86Reg[] regs = X86Reg.values();
+        AArch64Reg[] aarch64 = AArch64Reg.values();
+        for (int i = 0; i < LOOKUPS; i++) {
+            this.x86Insns[i] = insns[random.nextInt(insns.length)].getValue();
+            this.x86Regs[i] = regs[random.nextInt(regs.length)].getValue();
+            this.aarch64Regs[i] = aarch64[random.nextInt(aarch64.length)].getValue();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void x86InsnTable(Blackhole blackhole) {
+        for (int value : x86Insns) {
+            blackhole.consume(X86Insn.fromValue(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void x86InsnLinear(Blackhole blackhole) {
+        for (int value : x86Insns) {
+            for (X86Insn insn : X86Insn.values()) {
+                if (insn.getValue() == value) {
+                    blackhole.consume(insn);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void x86RegTable(Blackhole blackhole) {
+        for (int value : x86Regs) {
+            blackhole.consume(X86Reg.fromValue(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void x86RegLinear(Blackhole blackhole) {
+        for (int value : x86Regs) {
+            for (X86Reg reg : X86Reg.values()) {
+                if (reg.getValue() == value) {
+                    blackhole.consume(reg);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void aarch64RegTable(Blackhole blackhole) {
+        for (int value : aarch64Regs) {
+            blackhole.consume(AArch64Reg.fromValue(value));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public void aarch64RegLinear(Blackhole blackhole) {
+        for (int value : aarch64Regs) {
+            for (AArch64Reg reg : AArch64Reg.values()) {
+                if (reg.getValue() == value) {
+                    blackhole.consume(reg);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneInstructionCache;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneOption;
+import com.suko.capstone4j.CapstoneOptionValue;
+import com.suko.capstone4j.CapstoneX86Details;
+
+/**
+ * Measures {@link CapstoneHandle#disassembleInstruction(byte[], long)} on the 16 byte windows an emulator
+ * passes for every instruction it executes, with and without a {@link CapstoneInstructionCache}.
+ * <p>
+ * The windows start at every instruction of {@link BenchmarkCorpus#X86_64_SEQUENCE}, whose instructions
+ * have seven different lengths, so every hit probes the cache for several lengths before it matches.
+ * The cache is warmed up before measuring, so {@code cached} only measures hits.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=InstructionCacheBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstructionCacheBenchmark {
+
+    private static final int WINDOW_SIZE = 16;
+    private static final long START_ADDRESS = 0x401000L;
+
+    @Param({"none", "cached"})
+    public String cache;
+
+    private CapstoneHandle handle;
+    private byte[][] windows;
+    private long[] addresses;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        CapstoneHandleOptions.Builder options = CapstoneHandleOptions.builder();
+        if (cache.equals("cached")) {
+            options.instructionCache(CapstoneInstructionCache.builder().build());
+        }
+        this.handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options.build());
+        this.handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+
+        byte[] code = BenchmarkCorpus.repeat(BenchmarkCorpus.X86_64_SEQUENCE, BenchmarkCorpus.X86_64_SEQUENCE.length + WINDOW_SIZE);
+        List<CapstoneInstruction<CapstoneX86Details>> instructions = this.handle.disassembleAllInstructions(
+                Arrays.copyOf(code, BenchmarkCorpus.X86_64_SEQUENCE.length), START_ADDRESS);
+        List<byte[]> windows = new ArrayList<>();
+        this.addresses = new long[instructions.size()];
+        for (CapstoneInstruction<CapstoneX86Details> instruction : instructions) {
+            int offset = (int) (instruction.getAddress() - START_ADDRESS);
+            this.addresses[windows.size()] = instruction.getAddress();
+            windows.add(Arrays.copyOfRange(code, offset, offset + WINDOW_SIZE));
+        }
+        this.windows = windows.toArray(new byte[0][]);
+        for (int i = 0; i < this.windows.length; i++) {
+            this.handle.disassembleInstruction(this.windows[i], this.addresses[i]); // fill the cache before measuring
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+    }
+
+    @Benchmark
+    public void decodeWindows(Blackhole blackhole) {
+        for (int i = 0; i < this.windows.length; i++) {
+            blackhole.consume(this.handle.disassembleInstruction(this.windows[i], this.addresses[i]));
+        }
+    }
+}
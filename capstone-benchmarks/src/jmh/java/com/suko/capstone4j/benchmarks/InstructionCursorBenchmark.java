@@ -0,0 +1,90 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneInstructionCursor;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneX86Details;
+
+/**
+ * Compares scanning code for instruction ids with a {@link CapstoneInstructionCursor} against
+ * materializing every instruction with {@link CapstoneHandle#disassembleMemory(MemorySegment, long, long)}.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=InstructionCursorBenchmark}, adding
+ * {@code -prof gc} to the JMH arguments shows that the cursor loop does not allocate per instruction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InstructionCursorBenchmark {
+
+    private static final long START_ADDRESS = 0x401000L;
+
+    @Param({"16384", "262144"})
+    public int codeSize;
+
+    private Arena arena;
+    private MemorySegment codeSegment;
+    private CapstoneHandle handle;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        this.arena = Arena.ofShared();
+        this.codeSegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, BenchmarkCorpus.repeat(BenchmarkCorpus.X86_64_SEQUENCE, codeSize));
+        this.handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+        this.arena.close();
+    }
+
+    @Benchmark
+    public long cursor() {
+        long checksum = 0;
+        try (CapstoneInstructionCursor<CapstoneX86Details> cursor = handle.cursor(codeSegment, codeSize, START_ADDRESS)) {
+            while (cursor.next()) {
+                checksum += cursor.id() + cursor.size();
+            }
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long disassembleMemory() {
+        long checksum = 0;
+        List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleMemory(codeSegment, codeSize, START_ADDRESS);
+        for (CapstoneInstruction<CapstoneX86Details> instruction : instructions) {
+            checksum += instruction.getId() + instruction.getSize();
+        }
+        return checksum;
+    }
+}
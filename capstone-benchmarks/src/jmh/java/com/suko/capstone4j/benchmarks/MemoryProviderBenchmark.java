@@ -0,0 +1,114 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneMemoryProvider;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneOption;
+import com.suko.capstone4j.CapstoneOptionValue;
+import com.suko.capstone4j.CapstoneX86Details;
+import com.suko.capstone4j.DefaultCapstoneMemoryProvider;
+import com.suko.capstone4j.PooledCapstoneMemoryProvider;
+
+/**
+ * Compares the cost of the memory functions used by Capstone: the Java upcalls of the
+ * {@link DefaultCapstoneMemoryProvider} and the {@link PooledCapstoneMemoryProvider}, and the
+ * allocator of the C library selected with {@link CapstoneHandleOptions.Builder#nativeAllocator(boolean)}.
+ * <p>
+ * {@code disassembleBatch} lets {@code cs_disasm} allocate and grow the instruction array, and
+ * {@code handleLifecycle} opens and closes a handle, so both allocate through the installed functions
+ * on every invocation. Both handles use the same memory provider, which allocates from the arena of
+ * the trial, since Capstone only has one set of memory functions at a time.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=MemoryProviderBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MemoryProviderBenchmark {
+
+    private static final long START_ADDRESS = 0x401000L;
+
+    @Param({"default", "pooled", "native"})
+    public String allocator;
+
+    @Param({"16384"})
+    public int codeSize;
+
+    private Arena arena;
+    private MemorySegment codeSegment;
+    private CapstoneMemoryProvider memoryProvider;
+    private CapstoneHandle handle;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        this.arena = Arena.ofShared();
+        this.codeSegment = arena.allocateFrom(ValueLayout.JAVA_BYTE, BenchmarkCorpus.repeat(BenchmarkCorpus.X86_64_SEQUENCE, codeSize));
+        this.memoryProvider = switch (allocator) {
+            case "default" -> new DefaultCapstoneMemoryProvider();
+            case "pooled" -> new PooledCapstoneMemoryProvider();
+            case "native" -> null;
+            default -> throw new IllegalArgumentException("Unknown allocator: " + allocator);
+        };
+        if (memoryProvider != null) {
+            memoryProvider.setArena(arena);
+        }
+        this.handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options());
+        this.handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+        this.arena.close();
+    }
+
+    @Benchmark
+    public void disassembleBatch(Blackhole blackhole) {
+        List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleBatch(codeSegment, codeSize, START_ADDRESS, 0);
+        blackhole.consume(instructions);
+    }
+
+    @Benchmark
+    public void handleLifecycle(Blackhole blackhole) throws Exception {
+        try (CapstoneHandle shortLived = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64, options())) {
+            blackhole.consume(shortLived.disassembleInstruction(BenchmarkCorpus.X86_64_SEQUENCE, START_ADDRESS));
+        }
+    }
+
+    private CapstoneHandleOptions options() {
+        if (memoryProvider == null) {
+            return CapstoneHandleOptions.builder().nativeAllocator(true).build();
+        }
+        return CapstoneHandleOptions.builder().memoryProvider(memoryProvider).useHandleArena(false).build();
+    }
+}
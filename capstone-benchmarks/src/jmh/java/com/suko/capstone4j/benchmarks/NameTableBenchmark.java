@@ -0,0 +1,142 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneError;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneOption;
+import com.suko.capstone4j.CapstoneOptionValue;
+import com.suko.capstone4j.CapstoneX86Details;
+import com.suko.capstone4j.internal.capstone_h;
+
+/**
+ * Measures an objdump style listing loop that prints the address, bytes, instruction name, operands,
+ * accessed registers and groups of every instruction.
+ * <p>
+ * {@code listingNameTables} resolves the names through the handle, which looks them up in the name
+ * tables it shares with other handles of the same architecture. {@code listingDowncalls} resolves them
+ * like the handle did before, with a downcall and a C string decode for every name.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=NameTableBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameTableBenchmark {
+
+    private static final int CODE_SIZE = 16 * 1024;
+    private static final long START_ADDRESS = 0x401000L;
+
+    private Arena arena;
+    private CapstoneHandle handle;
+    private long rawHandle;
+    private List<CapstoneInstruction<CapstoneX86Details>> instructions;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Capstone.initialize();
+        byte[] code = BenchmarkCorpus.repeat(BenchmarkCorpus.X86_64_SEQUENCE, CODE_SIZE);
+        this.handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64);
+        this.handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+        this.instructions = this.handle.disassembleAllInstructions(code, START_ADDRESS);
+
+        this.arena = Arena.ofConfined();
+        MemorySegment rawHandleSegment = this.arena.allocate(capstone_h.csh);
+        CapstoneError err = CapstoneError.fromValue(capstone_h.cs_open(CapstoneArch.X86.getValue(), CapstoneMode.X86_64.getValue(), rawHandleSegment));
+        if (err != CapstoneError.OK) {
+            throw new IllegalStateException("cs_open failed: " + err);
+        }
+        this.rawHandle = rawHandleSegment.get(capstone_h.csh, 0);
+        this.handle.getRegName(1); // build the tables before measuring
+        this.handle.getInsnName(1);
+        this.handle.getGroupName(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        this.handle.close();
+        MemorySegment rawHandleSegment = this.arena.allocate(capstone_h.csh);
+        rawHandleSegment.set(capstone_h.csh, 0, this.rawHandle);
+        capstone_h.cs_close(rawHandleSegment);
+        this.arena.close();
+    }
+
+    @Benchmark
+    public void listingNameTables(Blackhole blackhole) {
+        StringBuilder line = new StringBuilder(128);
+        for (CapstoneInstruction<CapstoneX86Details> instruction : this.instructions) {
+            line.setLength(0);
+            appendPrefix(line, instruction);
+            line.append(this.handle.getInsnName(instruction.getId())).append(' ').append(instruction.getOpStr());
+            line.append("\t; r:");
+            for (int regId : instruction.getRegAccess().getRegsRead()) {
+                line.append(' ').append(this.handle.getRegName(regId));
+            }
+            line.append(" w:");
+            for (int regId : instruction.getRegAccess().getRegsWrite()) {
+                line.append(' ').append(this.handle.getRegName(regId));
+            }
+            line.append(" g:");
+            for (int groupId : instruction.getDetails().getGroups()) {
+                line.append(' ').append(this.handle.getGroupName(groupId));
+            }
+            blackhole.consume(line.toString());
+        }
+    }
+
+    @Benchmark
+    public void listingDowncalls(Blackhole blackhole) {
+        StringBuilder line = new StringBuilder(128);
+        for (CapstoneInstruction<CapstoneX86Details> instruction : this.instructions) {
+            line.setLength(0);
+            appendPrefix(line, instruction);
+            line.append(capstone_h.cs_insn_name(this.rawHandle, instruction.getId()).getString(0)).append(' ').append(instruction.getOpStr());
+            line.append("\t; r:");
+            for (int regId : instruction.getRegAccess().getRegsRead()) {
+                line.append(' ').append(capstone_h.cs_reg_name(this.rawHandle, regId).getString(0));
+            }
+            line.append(" w:");
+            for (int regId : instruction.getRegAccess().getRegsWrite()) {
+                line.append(' ').append(capstone_h.cs_reg_name(this.rawHandle, regId).getString(0));
+            }
+            line.append(" g:");
+            for (int groupId : instruction.getDetails().getGroups()) {
+                line.append(' ').append(capstone_h.cs_group_name(this.rawHandle, groupId).getString(0));
+            }
+            blackhole.consume(line.toString());
+        }
+    }
+
+    private static void appendPrefix(StringBuilder line, CapstoneInstruction<CapstoneX86Details> instruction) {
+        line.append(Long.toHexString(instruction.getAddress())).append(":\t");
+        for (byte b : instruction.getBytes()) {
+            line.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16)).append(' ');
+        }
+        line.append('\t');
+    }
+}
@@ -0,0 +1,82 @@
+package com.suko.capstone4j.benchmarks;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneOption;
+import com.suko.capstone4j.CapstoneOptionValue;
+import com.suko.capstone4j.CapstoneX86Details;
+import com.suko.capstone4j.internal.capstone_h;
+import com.suko.capstone4j.internal.cs_insn;
+
+/**
+ * Measures the time from loading the library to the first decoded instruction in a fresh JVM, which is
+ * what a command line tool that disassembles a single function mostly spends its time on.
+ * <p>
+ * Every fork measures exactly one invocation, so the class loading, linking and initialization of the
+ * bindings is part of the result. {@code firstInstruction} goes through the public API, which uses the
+ * slim {@code CapstoneNative} binding and enums initialized from compile-time constants.
+ * {@code firstInstructionJextract} performs the same steps with the jextract generated {@code capstone_h}
+ * class hierarchy, which the API used before.
+ * <p>
+ * Run with {@code ./gradlew :capstone-benchmarks:jmh -PjmhIncludes=StartupBenchmark}. To measure the
+ * effect of an AppCDS archive, create one with {@code ./gradlew :capstone-examples:cdsArchive} and run
+ * the benchmark jar with {@code -jvmArgsAppend -XX:SharedArchiveFile=<archive>}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    private static final long START_ADDRESS = 0x401000L;
+
+    @Benchmark
+    public String firstInstruction() throws Exception {
+        Capstone.initialize();
+        try (CapstoneHandle handle = Capstone.createHandle(CapstoneArch.X86, CapstoneMode.X86_64)) {
+            handle.setOption(CapstoneOption.DETAIL, CapstoneOptionValue.ON);
+            return handle.<CapstoneX86Details>disassembleInstruction(BenchmarkCorpus.X86_64_SEQUENCE, START_ADDRESS).getMnemonic();
+        }
+    }
+
+    @Benchmark
+    public String firstInstructionJextract() throws Exception {
+        Capstone.initialize();
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment handleSegment = arena.allocate(capstone_h.csh);
+            if (capstone_h.cs_open(capstone_h.CS_ARCH_X86(), capstone_h.CS_MODE_64(), handleSegment) != capstone_h.CS_ERR_OK()) {
+                throw new IllegalStateException("cs_open failed");
+            }
+            long handle = handleSegment.get(capstone_h.csh, 0);
+            capstone_h.cs_option(handle, capstone_h.CS_OPT_DETAIL(), capstone_h.CS_OPT_ON());
+
+            MemorySegment code = arena.allocate(BenchmarkCorpus.X86_64_SEQUENCE.length);
+            MemorySegment.copy(MemorySegment.ofArray(BenchmarkCorpus.X86_64_SEQUENCE), 0, code, 0, code.byteSize());
+            MemorySegment insnPointer = arena.allocate(capstone_h.C_POINTER);
+            long count = capstone_h.cs_disasm(handle, code, code.byteSize(), START_ADDRESS, 1, insnPointer);
+            if (count < 1) {
+                throw new IllegalStateException("cs_disasm failed");
+            }
+            MemorySegment insn = insnPointer.get(capstone_h.C_POINTER, 0).reinterpret(cs_insn.sizeof());
+            String mnemonic = cs_insn.mnemonic(insn).getString(0);
+            capstone_h.cs_free(insn, count);
+            capstone_h.cs_close(handleSegment);
+            return mnemonic;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.suko.capstone4j.loaders;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneMode;
+
+/**
+ * A memory-mapped ELF32 or ELF64 file.
+ * <p>
+ * Opening an ELF file maps it read-only and validates the identification bytes, nothing else is read.
+ * The program and section headers are parsed on first access, and the regions they describe are handed
+ * out as slices of the mapping, so no part of the file is ever copied. Opening a large shared object
+ * therefore takes about as long as mapping it, and only the pages that are actually decoded are loaded
+ * by the operating system.
+ * <p>
+ * The architecture and modes for the Capstone handle are derived from {@code e_machine},
+ * {@code EI_CLASS} and {@code EI_DATA}:
+ * <pre>{@code
+ * try (ElfFile elf = ElfFile.open(Paths.get("libexample.so"));
+ *      CapstoneHandle handle = elf.createHandle()) {
+ *     for (MappedRegion region : elf.getExecutableRegions()) {
+ *         List<CapstoneInstruction<CapstoneX86Details>> instructions =
+ *             handle.disassembleMemory(region.segment(), region.size(), region.virtualAddress());
+ *         // Process instructions...
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * The segments of the regions are only valid until the file is closed. An ELF file may be read from
+ * several threads: the lazily parsed header tables are published through volatile fields, so every
+ * thread sees them completely parsed, but they are not guaranteed to be parsed only once.
+ *
+ * @see MappedRegion
+ */
+public final class ElfFile implements AutoCloseable {
+
+    /** {@code EI_CLASS} value of 32 bit files. */
+    public static final int ELFCLASS32 = 1;
+    /** {@code EI_CLASS} value of 64 bit files. */
+    public static final int ELFCLASS64 = 2;
+
+    /** {@code e_machine} value of Intel 80386. */
+    public static final int EM_386 = 3;
+    /** {@code e_machine} value of MIPS. */
+    public static final int EM_MIPS = 8;
+    /** {@code e_machine} value of 32 bit PowerPC. */
+    public static final int EM_PPC = 20;
+    /** {@code e_machine} value of 64 bit PowerPC. */
+    public static final int EM_PPC64 = 21;
+    /** {@code e_machine} value of 32 bit ARM. */
+    public static final int EM_ARM = 40;
+    /** {@code e_machine} value of AMD x86-64. */
+    public static final int EM_X86_64 = 62;
+    /** {@code e_machine} value of AArch64. */
+    public static final int EM_AARCH64 = 183;
+    /** {@code e_machine} value of RISC-V. */
+    public static final int EM_RISCV = 243;
+
+    private static final int PT_LOAD = 1;
+    private static final int PF_X = 0x1;
+    private static final int SHT_NOBITS = 8;
+    private static final long SHF_EXECINSTR = 0x4;
+    private static final int SHN_UNDEF = 0;
+    private static final int SHN_XINDEX = 0xffff;
+
+    private static final int EI_CLASS = 4;
+    private static final int EI_DATA = 5;
+    private static final int ELFDATA2LSB = 1;
+    private static final int ELFDATA2MSB = 2;
+
+    private final Arena arena;
+    private final MemorySegment image;
+    private final boolean is64;
+    private final ByteOrder byteOrder;
+
+    private final ValueLayout.OfShort shortLayout;
+    private final ValueLayout.OfInt intLayout;
+    private final ValueLayout.OfLong longLayout;
+
+    private volatile List<MappedRegion> loadSegments;
+    private volatile List<MappedRegion> sections;
+
+    private ElfFile(Arena arena, MemorySegment image) {
+        this.arena = arena;
+        this.image = image;
+
+        if (image.byteSize() < 16 || image.get(ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN), 0) != 0x7f454c46) {
+            throw new MalformedBinaryException("Not an ELF file");
+        }
+
+        int elfClass = image.get(ValueLayout.JAVA_BYTE, EI_CLASS);
+        if (elfClass != ELFCLASS32 && elfClass != ELFCLASS64) {
+            throw new MalformedBinaryException("Invalid ELF class: " + elfClass);
+        }
+        this.is64 = elfClass == ELFCLASS64;
+
+        int data = image.get(ValueLayout.JAVA_BYTE, EI_DATA);
+        if (data == ELFDATA2LSB) {
+            this.byteOrder = ByteOrder.LITTLE_ENDIAN;
+        } else if (data == ELFDATA2MSB) {
+            this.byteOrder = ByteOrder.BIG_ENDIAN;
+        } else {
+            throw new MalformedBinaryException("Invalid ELF data encoding: " + data);
+        }
+
+        if (image.byteSize() < (this.is64 ? 64 : 52)) {
+            throw new MalformedBinaryException("Truncated ELF header");
+        }
+
+        this.shortLayout = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(this.byteOrder);
+        this.intLayout = ValueLayout.JAVA_INT_UNALIGNED.withOrder(this.byteOrder);
+        this.longLayout = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(this.byteOrder);
+    }
+
+    /**
+     * Maps an ELF file into memory.
+     *
+     * @param path the path of the file
+     * @return the mapped ELF file, which must be closed to unmap it
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws MalformedBinaryException if the file is not an ELF file
+     */
+    public static ElfFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment image = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new ElfFile(arena, image);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether this is an ELF64 file.
+     *
+     * @return true for ELF64 files, false for ELF32 files
+     */
+    public boolean is64Bit() {
+        return this.is64;
+    }
+
+    /**
+     * Returns the byte order of the file.
+     *
+     * @return the byte order given by {@code EI_DATA}
+     */
+    public ByteOrder getByteOrder() {
+        return this.byteOrder;
+    }
+
+    /**
+     * Returns the object file type, such as {@code ET_EXEC} or {@code ET_DYN}.
+     *
+     * @return the value of {@code e_type}
+     */
+    public int getType() {
+        return u16(16);
+    }
+
+    /**
+     * Returns the machine the file was built for.
+     *
+     * @return the value of {@code e_machine}
+     */
+    public int getMachine() {
+        return u16(18);
+    }
+
+    /**
+     * Returns the virtual address of the entry point.
+     *
+     * @return the value of {@code e_entry}, 0 if the file has no entry point
+     */
+    public long getEntryPoint() {
+        return word(24);
+    }
+
+    /**
+     * Returns the Capstone architecture matching {@code e_machine}.
+     *
+     * @return the architecture
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneArch getArch() {
+        return switch (getMachine()) {
+            case EM_386, EM_X86_64 -> CapstoneArch.X86;
+            case EM_ARM -> CapstoneArch.ARM;
+            case EM_AARCH64 -> CapstoneArch.AARCH64;
+            case EM_MIPS -> CapstoneArch.MIPS;
+            case EM_PPC, EM_PPC64 -> CapstoneArch.PPC;
+            case EM_RISCV -> CapstoneArch.RISCV;
+            default -> throw new UnsupportedOperationException("Unsupported ELF machine: " + getMachine());
+        };
+    }
+
+    /**
+     * Returns the Capstone modes matching {@code e_machine}, {@code EI_CLASS} and {@code EI_DATA}.
+     * <p>
+     * ARM files whose entry point has the lowest bit set start in Thumb mode and get
+     * {@link CapstoneMode#THUMB}.
+     *
+     * @return the modes
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneMode[] getModes() {
+        CapstoneMode endian = this.byteOrder == ByteOrder.BIG_ENDIAN ? CapstoneMode.BIG_ENDIAN : CapstoneMode.LITTLE_ENDIAN;
+        return switch (getMachine()) {
+            case EM_386 -> new CapstoneMode[] {CapstoneMode.X86_32};
+            case EM_X86_64 -> new CapstoneMode[] {CapstoneMode.X86_64};
+            case EM_ARM -> new CapstoneMode[] {(getEntryPoint() & 1) != 0 ? CapstoneMode.THUMB : CapstoneMode.ARM, endian};
+            case EM_AARCH64 -> new CapstoneMode[] {endian};
+            case EM_MIPS -> new CapstoneMode[] {this.is64 ? CapstoneMode.MIPS64 : CapstoneMode.MIPS32, endian};
+            case EM_PPC -> new CapstoneMode[] {endian};
+            case EM_PPC64 -> new CapstoneMode[] {CapstoneMode.PPC_64, endian};
+            case EM_RISCV -> new CapstoneMode[] {this.is64 ? CapstoneMode.RISCV64 : CapstoneMode.RISCV32, CapstoneMode.RISCVC};
+            default -> throw new UnsupportedOperationException("Unsupported ELF machine: " + getMachine());
+        };
+    }
+
+    /**
+     * Creates a Capstone handle for the architecture and modes of this file with the default options.
+     *
+     * @return a new handle
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneHandle createHandle() {
+        return Capstone.createHandle(getArch(), getModes());
+    }
+
+    /**
+     * Creates a Capstone handle for the architecture and modes of this file.
+     *
+     * @param options the options for the handle
+     * @return a new handle
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneHandle createHandle(CapstoneHandleOptions options) {
+        return Capstone.createHandle(getArch(), getModes(), options);
+    }
+
+    /**
+     * Returns the {@code PT_LOAD} segments of the file, in the order of the program header table.
+     * <p>
+     * The segments of the regions cover {@code p_filesz} bytes; the zero-filled part up to
+     * {@code p_memsz} is not stored in the file and not included.
+     *
+     * @return an unmodifiable list of the loadable segments
+     * @throws MalformedBinaryException if the program header table is malformed
+     */
+    public List<MappedRegion> getLoadSegments() {
+        if (this.loadSegments == null) {
+            this.loadSegments = parseLoadSegments();
+        }
+        return this.loadSegments;
+    }
+
+    /**
+     * Returns the sections with the {@code SHF_EXECINSTR} flag, in the order of the section header table.
+     *
+     * @return an unmodifiable list of the executable sections, empty if the file has no section headers
+     * @throws MalformedBinaryException if the section header table is malformed
+     */
+    public List<MappedRegion> getExecutableSections() {
+        if (this.sections == null) {
+            this.sections = parseExecutableSections();
+        }
+        return this.sections;
+    }
+
+    /**
+     * Returns the regions of the file that contain code.
+     * <p>
+     * These are the executable sections if the file has section headers, which is the most precise
+     * description of the code. Stripped files without section headers fall back to the {@code PT_LOAD}
+     * segments with the {@code PF_X} flag.
+     *
+     * @return an unmodifiable list of the executable regions
+     * @throws MalformedBinaryException if the header tables are malformed
+     */
+    public List<MappedRegion> getExecutableRegions() {
+        List<MappedRegion> executableSections = getExecutableSections();
+        if (!executableSections.isEmpty()) {
+            return executableSections;
+        }
+        List<MappedRegion> regions = new ArrayList<>();
+        for (MappedRegion segment : getLoadSegments()) {
+            if (segment.executable()) {
+                regions.add(segment);
+            }
+        }
+        return Collections.unmodifiableList(regions);
+    }
+
+    /**
+     * Returns the whole mapped file.
+     *
+     * @return the mapping of the file
+     */
+    public MemorySegment getImage() {
+        return this.image;
+    }
+
+    /**
+     * Unmaps the file. The segments of all regions become invalid.
+     */
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    private List<MappedRegion> parseLoadSegments() {
+        long phoff = this.is64 ? word(32) : word(28);
+        int phentsize = u16(this.is64 ? 54 : 42);
+        int phnum = u16(this.is64 ? 56 : 44);
+        if (phnum == 0) {
+            return Collections.emptyList();
+        }
+        checkTable("program header", phoff, phentsize, phnum, this.is64 ? 56 : 32);
+
+        List<MappedRegion> regions = new ArrayList<>();
+        for (int i = 0; i < phnum; i++) {
+            long entry = phoff + (long) i * phentsize;
+            if (u32(entry) != PT_LOAD) {
+                continue;
+            }
+            long flags = this.is64 ? u32(entry + 4) : u32(entry + 24);
+            long offset = this.is64 ? word(entry + 8) : word(entry + 4);
+            long vaddr = this.is64 ? word(entry + 16) : word(entry + 8);
+            long filesz = this.is64 ? word(entry + 32) : word(entry + 16);
+            regions.add(new MappedRegion("LOAD[" + i + "]", vaddr, offset, slice("PT_LOAD segment " + i, offset, filesz), (flags & PF_X) != 0));
+        }
+        return Collections.unmodifiableList(regions);
+    }
+
+    private List<MappedRegion> parseExecutableSections() {
+        long shoff = this.is64 ? word(40) : word(32);
+        int shentsize = u16(this.is64 ? 58 : 46);
+        long shnum = u16(this.is64 ? 60 : 48);
+        int shstrndx = u16(this.is64 ? 62 : 50);
+        if (shoff == 0) {
+            return Collections.emptyList();
+        }
+        int minEntrySize = this.is64 ? 64 : 40;
+        checkTable("section header", shoff, shentsize, 1, minEntrySize);
+        // files with many sections store the real counts in the first section header
+        if (shnum == 0) {
+            shnum = sectionSize(shoff);
+        }
+        if (shstrndx == SHN_XINDEX) {
+            shstrndx = (int) u32(shoff + (this.is64 ? 40 : 24));
+        }
+        checkTable("section header", shoff, shentsize, shnum, minEntrySize);
+
+        MemorySegment names = null;
+        if (shstrndx != SHN_UNDEF && shstrndx < shnum) {
+            long strtab = shoff + (long) shstrndx * shentsize;
+            names = slice("section name table", sectionOffset(strtab), sectionSize(strtab));
+        }
+
+        List<MappedRegion> regions = new ArrayList<>();
+        for (long i = 0; i < shnum; i++) {
+            long entry = shoff + i * shentsize;
+            long flags = this.is64 ? word(entry + 8) : u32(entry + 8);
+            if ((flags & SHF_EXECINSTR) == 0 || u32(entry + 4) == SHT_NOBITS) {
+                continue;
+            }
+            long addr = this.is64 ? word(entry + 16) : word(entry + 12);
+            long offset = sectionOffset(entry);
+            String name = sectionName(names, u32(entry));
+            regions.add(new MappedRegion(name, addr, offset, slice("section " + name, offset, sectionSize(entry)), true));
+        }
+        return Collections.unmodifiableList(regions);
+    }
+
+    private long sectionOffset(long entry) {
+        return this.is64 ? word(entry + 24) : word(entry + 16);
+    }
+
+    private long sectionSize(long entry) {
+        return this.is64 ? word(entry + 32) : word(entry + 20);
+    }
+
+    private String sectionName(MemorySegment names, long offset) {
+        if (names == null || offset >= names.byteSize()) {
+            return "";
+        }
+        long end = offset;
+        while (end < names.byteSize() && names.get(ValueLayout.JAVA_BYTE, end) != 0) {
+            end++;
+        }
+        return new String(names.asSlice(offset, end - offset).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+    }
+
+    private void checkTable(String table, long offset, int entrySize, long count, int minEntrySize) {
+        if (entrySize < minEntrySize) {
+            throw new MalformedBinaryException("Invalid " + table + " entry size: " + entrySize);
+        }
+        if (offset < 0 || offset > this.image.byteSize() || count > (this.image.byteSize() - offset) / entrySize) {
+            throw new MalformedBinaryException("The " + table + " table is outside of the file");
+        }
+    }
+
+    private MemorySegment slice(String what, long offset, long size) {
+        if (offset < 0 || size < 0 || offset > this.image.byteSize() || size > this.image.byteSize() - offset) {
+            throw new MalformedBinaryException("The " + what + " is outside of the file");
+        }
+        return this.image.asSlice(offset, size);
+    }
+
+    private int u16(long offset) {
+        return Short.toUnsignedInt(this.image.get(this.shortLayout, offset));
+    }
+
+    private long u32(long offset) {
+        return Integer.toUnsignedLong(this.image.get(this.intLayout, offset));
+    }
+
+    /** Reads an address or offset, which is 32 bits wide in ELF32 and 64 bits wide in ELF64 files. */
+    private long word(long offset) {
+        return this.is64 ? this.image.get(this.longLayout, offset) : u32(offset);
+    }
+}
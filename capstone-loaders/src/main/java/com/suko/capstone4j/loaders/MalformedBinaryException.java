@@ -0,0 +1,27 @@
+package com.suko.capstone4j.loaders;
+
+/**
+ * Thrown when a binary file does not have the expected format, or when its headers point outside
+ * of the file.
+ */
+public class MalformedBinaryException extends RuntimeException {
+
+    /**
+     * Creates a new exception with the given message.
+     *
+     * @param message the detail message
+     */
+    public MalformedBinaryException(String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new exception with the given message and cause.
+     *
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public MalformedBinaryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,47 @@
+package com.suko.capstone4j.loaders;
+
+import java.lang.foreign.MemorySegment;
+
+/**
+ * A region of a memory-mapped binary, such as a section or a loadable segment, together with the
+ * virtual address it is loaded at.
+ * <p>
+ * The segment is a slice of the file mapping, no bytes are copied. It can be passed straight to
+ * the decoder:
+ * <pre>{@code
+ * for (MappedRegion region : elf.getExecutableRegions()) {
+ *     List<CapstoneInstruction<CapstoneX86Details>> instructions =
+ *         handle.disassembleMemory(region.segment(), region.size(), region.virtualAddress());
+ *     // Process instructions...
+ * }
+ * }</pre>
+ * <p>
+ * The segment is only valid until the binary it belongs to is closed.
+ *
+ * @param name the name of the section, or a description of the segment such as {@code "LOAD[1]"}
+ * @param virtualAddress the virtual address of the first byte of the region
+ * @param fileOffset the offset of the first byte of the region within the file
+ * @param segment the bytes of the region as stored in the file
+ * @param executable whether the region contains code
+ */
+public record MappedRegion(String name, long virtualAddress, long fileOffset, MemorySegment segment, boolean executable) {
+
+    /**
+     * Returns the number of bytes of the region stored in the file.
+     *
+     * @return the size of the segment in bytes
+     */
+    public long size() {
+        return this.segment.byteSize();
+    }
+
+    /**
+     * Returns whether the given virtual address lies within the bytes of the region stored in the file.
+     *
+     * @param address the virtual address
+     * @return true if the address is covered by the segment, false otherwise
+     */
+    public boolean contains(long address) {
+        return Long.compareUnsigned(address, this.virtualAddress) >= 0 && Long.compareUnsigned(address - this.virtualAddress, size()) < 0;
+    }
+}
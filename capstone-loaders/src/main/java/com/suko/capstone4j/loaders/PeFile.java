@@ -0,0 +1,580 @@
+package com.suko.capstone4j.loaders;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneHandleOptions;
+import com.suko.capstone4j.CapstoneMode;
+
+/**
+ * A memory-mapped PE32 or PE32+ file.
+ * <p>
+ * Opening a PE file maps it read-only and validates the DOS, PE and optional headers. The section table,
+ * the export directory and the import directory are parsed on first access, and sections are handed out
+ * as slices of the mapping, so no part of the file is ever copied.
+ * <p>
+ * Relative virtual addresses (RVAs) and virtual addresses (VAs) are translated to file offsets and
+ * segments by a binary search over the sections sorted by RVA. Together with the entry point and the
+ * exported functions, which {@link #getDecodeSeeds()} returns as starting points for the decoder, this
+ * is enough to triage a sample without loading it:
+ * <pre>{@code
+ * try (PeFile pe = PeFile.open(Paths.get("sample.exe"));
+ *      CapstoneHandle handle = pe.createHandle()) {
+ *     for (long seed : pe.getDecodeSeeds()) {
+ *         MemorySegment code = pe.vaToSegment(seed);
+ *         List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleMemory(code, Math.min(code.byteSize(), 256), seed);
+ *         // Process instructions...
+ *     }
+ * }
+ * }</pre>
+ * <p>
+ * The segments handed out are only valid until the file is closed. A PE file may be read from several
+ * threads: the lazily parsed tables are published through volatile fields, so every thread sees them
+ * completely parsed, but they are not guaranteed to be parsed only once.
+ *
+ * @see MappedRegion
+ */
+public final class PeFile implements AutoCloseable {
+
+    /** {@code Machine} value of Intel 386 images. */
+    public static final int IMAGE_FILE_MACHINE_I386 = 0x14c;
+    /** {@code Machine} value of ARM images. */
+    public static final int IMAGE_FILE_MACHINE_ARM = 0x1c0;
+    /** {@code Machine} value of ARM Thumb-2 images. */
+    public static final int IMAGE_FILE_MACHINE_ARMNT = 0x1c4;
+    /** {@code Machine} value of x64 images. */
+    public static final int IMAGE_FILE_MACHINE_AMD64 = 0x8664;
+    /** {@code Machine} value of ARM64 images. */
+    public static final int IMAGE_FILE_MACHINE_ARM64 = 0xaa64;
+
+    /** Section flag of sections that can be executed as code. */
+    public static final long IMAGE_SCN_MEM_EXECUTE = 0x20000000L;
+
+    private static final int PE32_MAGIC = 0x10b;
+    private static final int PE32_PLUS_MAGIC = 0x20b;
+    private static final int SECTION_HEADER_SIZE = 40;
+    private static final int DIRECTORY_EXPORT = 0;
+    private static final int DIRECTORY_IMPORT = 1;
+    /** Upper bound for names read from the file, so that a missing terminator cannot run through the whole file. */
+    private static final int MAX_NAME_LENGTH = 4096;
+
+    private static final ValueLayout.OfShort U16 = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfInt U32 = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+    private static final ValueLayout.OfLong U64 = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private final Arena arena;
+    private final MemorySegment image;
+
+    private final long coffHeader;
+    private final long optionalHeader;
+    private final boolean is64;
+
+    private volatile SectionIndex sectionIndex;
+    private volatile List<MappedRegion> executableSections;
+    private volatile List<Export> exports;
+    private volatile List<Import> imports;
+
+    private PeFile(Arena arena, MemorySegment image) {
+        this.arena = arena;
+        this.image = image;
+
+        if (image.byteSize() < 0x40 || u16(0) != 0x5a4d) {
+            throw new MalformedBinaryException("Not a PE file: missing MZ signature");
+        }
+        long peHeader = u32(0x3c);
+        if (peHeader > image.byteSize() - 24 || u32(peHeader) != 0x00004550) {
+            throw new MalformedBinaryException("Not a PE file: missing PE signature");
+        }
+        this.coffHeader = peHeader + 4;
+        this.optionalHeader = this.coffHeader + 20;
+
+        int optionalHeaderSize = u16(this.coffHeader + 16);
+        if (optionalHeaderSize < 2 || this.optionalHeader + optionalHeaderSize > image.byteSize()) {
+            throw new MalformedBinaryException("Truncated optional header");
+        }
+        int magic = u16(this.optionalHeader);
+        if (magic == PE32_MAGIC) {
+            this.is64 = false;
+        } else if (magic == PE32_PLUS_MAGIC) {
+            this.is64 = true;
+        } else {
+            throw new MalformedBinaryException("Invalid optional header magic: 0x" + Integer.toHexString(magic));
+        }
+        if (optionalHeaderSize < (this.is64 ? 112 : 96)) {
+            throw new MalformedBinaryException("Truncated optional header");
+        }
+    }
+
+    /**
+     * Maps a PE file into memory.
+     *
+     * @param path the path of the file
+     * @return the mapped PE file, which must be closed to unmap it
+     * @throws IOException if the file cannot be opened or mapped
+     * @throws MalformedBinaryException if the file is not a PE file
+     */
+    public static PeFile open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment image = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new PeFile(arena, image);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns whether this is a PE32+ file.
+     *
+     * @return true for PE32+ files, false for PE32 files
+     */
+    public boolean is64Bit() {
+        return this.is64;
+    }
+
+    /**
+     * Returns the machine the image was built for.
+     *
+     * @return the value of {@code Machine} in the COFF header
+     */
+    public int getMachine() {
+        return u16(this.coffHeader);
+    }
+
+    /**
+     * Returns the preferred virtual address of the image.
+     *
+     * @return the value of {@code ImageBase}
+     */
+    public long getImageBase() {
+        return this.is64 ? this.image.get(U64, this.optionalHeader + 24) : u32(this.optionalHeader + 28);
+    }
+
+    /**
+     * Returns the virtual address of the entry point.
+     *
+     * @return the entry point, or 0 if the image has no entry point
+     */
+    public long getEntryPoint() {
+        long rva = u32(this.optionalHeader + 16);
+        return rva == 0 ? 0 : getImageBase() + rva;
+    }
+
+    /**
+     * Returns the Capstone architecture matching the machine type.
+     *
+     * @return the architecture
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneArch getArch() {
+        return switch (getMachine()) {
+            case IMAGE_FILE_MACHINE_I386, IMAGE_FILE_MACHINE_AMD64 -> CapstoneArch.X86;
+            case IMAGE_FILE_MACHINE_ARM, IMAGE_FILE_MACHINE_ARMNT -> CapstoneArch.ARM;
+            case IMAGE_FILE_MACHINE_ARM64 -> CapstoneArch.AARCH64;
+            default -> throw new UnsupportedOperationException("Unsupported PE machine: 0x" + Integer.toHexString(getMachine()));
+        };
+    }
+
+    /**
+     * Returns the Capstone modes matching the machine type.
+     *
+     * @return the modes
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneMode[] getModes() {
+        return switch (getMachine()) {
+            case IMAGE_FILE_MACHINE_I386 -> new CapstoneMode[] {CapstoneMode.X86_32};
+            case IMAGE_FILE_MACHINE_AMD64 -> new CapstoneMode[] {CapstoneMode.X86_64};
+            case IMAGE_FILE_MACHINE_ARM -> new CapstoneMode[] {CapstoneMode.ARM};
+            case IMAGE_FILE_MACHINE_ARMNT -> new CapstoneMode[] {CapstoneMode.THUMB};
+            case IMAGE_FILE_MACHINE_ARM64 -> new CapstoneMode[] {CapstoneMode.LITTLE_ENDIAN};
+            default -> throw new UnsupportedOperationException("Unsupported PE machine: 0x" + Integer.toHexString(getMachine()));
+        };
+    }
+
+    /**
+     * Creates a Capstone handle for the architecture and modes of this image with the default options.
+     *
+     * @return a new handle
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneHandle createHandle() {
+        return Capstone.createHandle(getArch(), getModes());
+    }
+
+    /**
+     * Creates a Capstone handle for the architecture and modes of this image.
+     *
+     * @param options the options for the handle
+     * @return a new handle
+     * @throws UnsupportedOperationException if the machine is not supported
+     */
+    public CapstoneHandle createHandle(CapstoneHandleOptions options) {
+        return Capstone.createHandle(getArch(), getModes(), options);
+    }
+
+    /**
+     * Returns the sections with the {@code IMAGE_SCN_MEM_EXECUTE} flag, in the order of the section table.
+     * <p>
+     * The segments cover the raw data of the sections stored in the file, limited to their virtual size.
+     *
+     * @return an unmodifiable list of the executable sections
+     * @throws MalformedBinaryException if the section table is malformed
+     */
+    public List<MappedRegion> getExecutableSections() {
+        if (this.executableSections == null) {
+            List<MappedRegion> regions = new ArrayList<>();
+            long imageBase = getImageBase();
+            for (Section section : sectionsInFileOrder()) {
+                if ((section.characteristics & IMAGE_SCN_MEM_EXECUTE) != 0) {
+                    regions.add(new MappedRegion(section.name, imageBase + section.rva, section.fileOffset,
+                            this.image.asSlice(section.fileOffset, section.fileSize), true));
+                }
+            }
+            this.executableSections = Collections.unmodifiableList(regions);
+        }
+        return this.executableSections;
+    }
+
+    /**
+     * Translates a relative virtual address to a file offset.
+     *
+     * @param rva the relative virtual address
+     * @return the file offset, or -1 if the address is not backed by the file
+     */
+    public long rvaToOffset(long rva) {
+        Section section = sectionOf(rva);
+        if (section == null) {
+            // the headers are mapped at the start of the image
+            return rva >= 0 && rva < sizeOfHeaders() ? rva : -1;
+        }
+        long delta = rva - section.rva;
+        return delta < section.fileSize ? section.fileOffset + delta : -1;
+    }
+
+    /**
+     * Returns the bytes stored in the file from a relative virtual address to the end of its section.
+     *
+     * @param rva the relative virtual address
+     * @return a slice of the mapping starting at the address
+     * @throws IllegalArgumentException if the address is not backed by the file
+     */
+    public MemorySegment rvaToSegment(long rva) {
+        Section section = sectionOf(rva);
+        long offset = rvaToOffset(rva);
+        if (offset < 0) {
+            throw new IllegalArgumentException("RVA 0x" + Long.toHexString(rva) + " is not backed by the file");
+        }
+        long end = section != null ? section.fileOffset + section.fileSize : sizeOfHeaders();
+        return this.image.asSlice(offset, end - offset);
+    }
+
+    /**
+     * Returns the bytes stored in the file from a virtual address to the end of its section.
+     *
+     * @param va the virtual address
+     * @return a slice of the mapping starting at the address
+     * @throws IllegalArgumentException if the address is not backed by the file
+     */
+    public MemorySegment vaToSegment(long va) {
+        return rvaToSegment(va - getImageBase());
+    }
+
+    /**
+     * Returns the functions exported by the image, excluding forwarders.
+     *
+     * @return an unmodifiable list of the exports
+     * @throws MalformedBinaryException if the export directory is malformed
+     */
+    public List<Export> getExports() {
+        if (this.exports == null) {
+            this.exports = parseExports();
+        }
+        return this.exports;
+    }
+
+    /**
+     * Returns the functions imported by the image.
+     *
+     * @return an unmodifiable list of the imports
+     * @throws MalformedBinaryException if the import directory is malformed
+     */
+    public List<Import> getImports() {
+        if (this.imports == null) {
+            this.imports = parseImports();
+        }
+        return this.imports;
+    }
+
+    /**
+     * Returns the virtual addresses at which decoding can start: the entry point and the exported
+     * functions that lie in executable sections.
+     *
+     * @return the sorted, distinct virtual addresses
+     */
+    public long[] getDecodeSeeds() {
+        List<MappedRegion> code = getExecutableSections();
+        long[] seeds = new long[getExports().size() + 1];
+        int count = 0;
+        long entryPoint = getEntryPoint();
+        if (entryPoint != 0 && inAny(code, entryPoint)) {
+            seeds[count++] = entryPoint;
+        }
+        for (Export export : getExports()) {
+            if (inAny(code, export.address())) {
+                seeds[count++] = export.address();
+            }
+        }
+        long[] sorted = Arrays.copyOf(seeds, count);
+        Arrays.sort(sorted);
+        return Arrays.stream(sorted).distinct().toArray();
+    }
+
+    /**
+     * Returns the whole mapped file.
+     *
+     * @return the mapping of the file
+     */
+    public MemorySegment getImage() {
+        return this.image;
+    }
+
+    /**
+     * Unmaps the file. All segments handed out become invalid.
+     */
+    @Override
+    public void close() {
+        this.arena.close();
+    }
+
+    private List<Export> parseExports() {
+        long[] directory = dataDirectory(DIRECTORY_EXPORT);
+        if (directory == null) {
+            return Collections.emptyList();
+        }
+        long base = offsetOf(directory[0], 40, "export directory");
+        long ordinalBase = u32(base + 16);
+        long functionCount = u32(base + 20);
+        long nameCount = u32(base + 24);
+        long functions = offsetOf(u32(base + 28), functionCount * 4, "export address table");
+
+        String[] names = new String[(int) functionCount];
+        if (nameCount > 0) {
+            long nameTable = offsetOf(u32(base + 32), nameCount * 4, "export name table");
+            long ordinalTable = offsetOf(u32(base + 36), nameCount * 2, "export ordinal table");
+            for (long i = 0; i < nameCount; i++) {
+                int index = u16(ordinalTable + i * 2);
+                if (index < functionCount) {
+                    names[index] = string(u32(nameTable + i * 4));
+                }
+            }
+        }
+
+        long imageBase = getImageBase();
+        List<Export> result = new ArrayList<>();
+        for (int i = 0; i < functionCount; i++) {
+            long rva = u32(functions + i * 4L);
+            // forwarders point into the export directory instead of to code
+            if (rva == 0 || (rva >= directory[0] && rva < directory[0] + directory[1])) {
+                continue;
+            }
+            result.add(new Export(names[i], (int) (ordinalBase + i), imageBase + rva));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private List<Import> parseImports() {
+        long[] directory = dataDirectory(DIRECTORY_IMPORT);
+        if (directory == null) {
+            return Collections.emptyList();
+        }
+        long imageBase = getImageBase();
+        int thunkSize = this.is64 ? 8 : 4;
+        long ordinalFlag = this.is64 ? Long.MIN_VALUE : 0x80000000L;
+
+        List<Import> result = new ArrayList<>();
+        for (long descriptor = directory[0]; ; descriptor += 20) {
+            long offset = offsetOf(descriptor, 20, "import descriptor");
+            long lookupRva = u32(offset);
+            long nameRva = u32(offset + 12);
+            long iatRva = u32(offset + 16);
+            if (nameRva == 0 && iatRva == 0) {
+                break;
+            }
+            String library = string(nameRva);
+            // bound or old images may only have the import address table
+            long thunkRva = lookupRva != 0 ? lookupRva : iatRva;
+            for (long i = 0; ; i++) {
+                long thunk = offsetOf(thunkRva + i * thunkSize, thunkSize, "import lookup table");
+                long value = this.is64 ? this.image.get(U64, thunk) : u32(thunk);
+                if (value == 0) {
+                    break;
+                }
+                long address = imageBase + iatRva + i * thunkSize;
+                if ((value & ordinalFlag) != 0) {
+                    result.add(new Import(library, null, (int) (value & 0xffff), address));
+                } else {
+                    long hintName = value & 0x7fffffffL;
+                    result.add(new Import(library, string(hintName + 2), -1, address));
+                }
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private long[] dataDirectory(int index) {
+        long count = u32(this.optionalHeader + (this.is64 ? 108 : 92));
+        if (index >= count) {
+            return null;
+        }
+        long entry = this.optionalHeader + (this.is64 ? 112 : 96) + index * 8L;
+        if (entry + 8 > this.optionalHeader + u16(this.coffHeader + 16)) {
+            return null;
+        }
+        long rva = u32(entry);
+        long size = u32(entry + 4);
+        return rva == 0 || size == 0 ? null : new long[] {rva, size};
+    }
+
+    private Section sectionOf(long rva) {
+        SectionIndex sectionIndex = sectionIndex();
+        Section[] sorted = sectionIndex.sections();
+        int index = Arrays.binarySearch(sectionIndex.rvas(), rva);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        if (index < 0) {
+            return null;
+        }
+        Section section = sorted[index];
+        return rva - section.rva < Math.max(section.virtualSize, section.fileSize) ? section : null;
+    }
+
+    private SectionIndex sectionIndex() {
+        SectionIndex sectionIndex = this.sectionIndex;
+        if (sectionIndex == null) {
+            Section[] sorted = sectionsInFileOrder().toArray(new Section[0]);
+            Arrays.sort(sorted, (a, b) -> Long.compare(a.rva, b.rva));
+            long[] rvas = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                rvas[i] = sorted[i].rva;
+            }
+            sectionIndex = new SectionIndex(sorted, rvas);
+            this.sectionIndex = sectionIndex;
+        }
+        return sectionIndex;
+    }
+
+    private List<Section> sectionsInFileOrder() {
+        int count = u16(this.coffHeader + 2);
+        long table = this.optionalHeader + u16(this.coffHeader + 16);
+        if (table + (long) count * SECTION_HEADER_SIZE > this.image.byteSize()) {
+            throw new MalformedBinaryException("The section table is outside of the file");
+        }
+        List<Section> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long header = table + (long) i * SECTION_HEADER_SIZE;
+            byte[] rawName = this.image.asSlice(header, 8).toArray(ValueLayout.JAVA_BYTE);
+            int nameLength = 0;
+            while (nameLength < rawName.length && rawName[nameLength] != 0) {
+                nameLength++;
+            }
+            long virtualSize = u32(header + 8);
+            long rva = u32(header + 12);
+            long rawSize = u32(header + 16);
+            long rawPointer = u32(header + 20);
+            long characteristics = u32(header + 36);
+            // the loader only maps the virtual size, the rest of the raw data is padding
+            long fileSize = virtualSize != 0 ? Math.min(rawSize, virtualSize) : rawSize;
+            if (rawPointer > this.image.byteSize()) {
+                fileSize = 0;
+            } else {
+                fileSize = Math.min(fileSize, this.image.byteSize() - rawPointer);
+            }
+            result.add(new Section(new String(rawName, 0, nameLength, StandardCharsets.UTF_8), rva, virtualSize, rawPointer, fileSize, characteristics));
+        }
+        return result;
+    }
+
+    private long sizeOfHeaders() {
+        return Math.min(u32(this.optionalHeader + 60), this.image.byteSize());
+    }
+
+    private long offsetOf(long rva, long length, String what) {
+        long offset = rvaToOffset(rva);
+        if (offset < 0 || length > this.image.byteSize() - offset) {
+            throw new MalformedBinaryException("The " + what + " at RVA 0x" + Long.toHexString(rva) + " is outside of the file");
+        }
+        return offset;
+    }
+
+    private boolean inAny(List<MappedRegion> regions, long address) {
+        for (MappedRegion region : regions) {
+            if (region.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String string(long rva) {
+        long offset = offsetOf(rva, 1, "name");
+        long end = offset;
+        long limit = Math.min(this.image.byteSize(), offset + MAX_NAME_LENGTH);
+        while (end < limit && this.image.get(ValueLayout.JAVA_BYTE, end) != 0) {
+            end++;
+        }
+        return new String(this.image.asSlice(offset, end - offset).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.US_ASCII);
+    }
+
+    private int u16(long offset) {
+        return Short.toUnsignedInt(this.image.get(U16, offset));
+    }
+
+    private long u32(long offset) {
+        return Integer.toUnsignedLong(this.image.get(U32, offset));
+    }
+
+    /**
+     * A function exported by the image.
+     *
+     * @param name the name of the function, or {@code null} if it is only exported by ordinal
+     * @param ordinal the ordinal of the function
+     * @param address the virtual address of the function
+     */
+    public record Export(String name, int ordinal, long address) {
+    }
+
+    /**
+     * A function imported by the image.
+     *
+     * @param library the name of the library the function is imported from
+     * @param name the name of the function, or {@code null} if it is imported by ordinal
+     * @param ordinal the ordinal of the function, or {@code -1} if it is imported by name
+     * @param address the virtual address of the import address table slot holding the function pointer
+     */
+    public record Import(String library, String name, int ordinal, long address) {
+    }
+
+    private record Section(String name, long rva, long virtualSize, long fileOffset, long fileSize, long characteristics) {
+    }
+
+    /** The sections sorted by RVA and their RVAs, published together so that they always match. */
+    private record SectionIndex(Section[] sections, long[] rvas) {
+    }
+}
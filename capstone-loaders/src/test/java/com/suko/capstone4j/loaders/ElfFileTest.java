@@ -0,0 +1,239 @@
+package com.suko.capstone4j.loaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneX86Details;
+
+class ElfFileTest {
+
+    private static final long BASE_ADDRESS = 0x400000L;
+    private static final int CODE_OFFSET = 0x100;
+    private static final int STRTAB_OFFSET = 0x180;
+    private static final int SHDR_OFFSET = 0x200;
+
+    byte[] code = new byte[] {
+        0x55,                                                       // push rbp
+        0x48, (byte)0x89, (byte)0xe5,                               // mov rbp, rsp
+        0x31, (byte)0xc0,                                           // xor eax, eax
+        0x5d,                                                       // pop rbp
+        (byte)0xc3                                                  // ret
+    };
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    @Test
+    public void testElf64Sections() {
+        System.out.println("Testing ELF64 sections");
+
+        Path file = null;
+        try {
+            file = writeTempFile(buildElf64(true));
+            try(ElfFile elf = ElfFile.open(file);
+                CapstoneHandle handle = elf.createHandle()) {
+                assertTrue(elf.is64Bit());
+                assertEquals(ByteOrder.LITTLE_ENDIAN, elf.getByteOrder());
+                assertEquals(ElfFile.EM_X86_64, elf.getMachine());
+                assertEquals(BASE_ADDRESS + CODE_OFFSET, elf.getEntryPoint());
+                assertEquals(CapstoneArch.X86, elf.getArch());
+                assertArrayEquals(new CapstoneMode[] {CapstoneMode.X86_64}, elf.getModes());
+
+                List<MappedRegion> loadSegments = elf.getLoadSegments();
+                assertEquals(1, loadSegments.size());
+                assertTrue(loadSegments.get(0).executable());
+                assertEquals(BASE_ADDRESS, loadSegments.get(0).virtualAddress());
+
+                List<MappedRegion> regions = elf.getExecutableRegions();
+                assertEquals(1, regions.size());
+                MappedRegion text = regions.get(0);
+                assertEquals(".text", text.name());
+                assertEquals(BASE_ADDRESS + CODE_OFFSET, text.virtualAddress());
+                assertEquals(CODE_OFFSET, text.fileOffset());
+                assertEquals(code.length, text.size());
+                assertTrue(text.contains(BASE_ADDRESS + CODE_OFFSET + code.length - 1));
+                assertFalse(text.contains(BASE_ADDRESS + CODE_OFFSET + code.length));
+
+                List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleMemory(text.segment(), text.size(), text.virtualAddress());
+                assertEquals(5, instructions.size());
+                assertEquals("push", instructions.get(0).getMnemonic());
+                assertEquals(BASE_ADDRESS + CODE_OFFSET, instructions.get(0).getAddress());
+                assertEquals("ret", instructions.get(4).getMnemonic());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(file);
+        }
+    }
+
+    @Test
+    public void testElf64Stripped() {
+        System.out.println("Testing stripped ELF64");
+
+        Path file = null;
+        try {
+            file = writeTempFile(buildElf64(false));
+            try(ElfFile elf = ElfFile.open(file)) {
+                assertTrue(elf.getExecutableSections().isEmpty());
+                List<MappedRegion> regions = elf.getExecutableRegions();
+                assertEquals(1, regions.size());
+                assertEquals(BASE_ADDRESS, regions.get(0).virtualAddress());
+                assertEquals(0, regions.get(0).fileOffset());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(file);
+        }
+    }
+
+    @Test
+    public void testElf32Header() {
+        System.out.println("Testing ELF32 header");
+
+        ByteBuffer buffer = ByteBuffer.allocate(52).order(ByteOrder.BIG_ENDIAN);
+        buffer.put(new byte[] {0x7f, 'E', 'L', 'F', 1, 2, 1});
+        buffer.putShort(16, (short) 2);
+        buffer.putShort(18, (short) ElfFile.EM_MIPS);
+
+        Path file = null;
+        try {
+            file = writeTempFile(buffer.array());
+            try(ElfFile elf = ElfFile.open(file)) {
+                assertFalse(elf.is64Bit());
+                assertEquals(ByteOrder.BIG_ENDIAN, elf.getByteOrder());
+                assertEquals(CapstoneArch.MIPS, elf.getArch());
+                assertArrayEquals(new CapstoneMode[] {CapstoneMode.MIPS32, CapstoneMode.BIG_ENDIAN}, elf.getModes());
+                assertTrue(elf.getLoadSegments().isEmpty());
+                assertTrue(elf.getExecutableRegions().isEmpty());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(file);
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        System.out.println("Testing malformed ELF files");
+
+        Path notElf = null;
+        Path truncated = null;
+        try {
+            notElf = writeTempFile("MZ this is not an ELF file".getBytes(StandardCharsets.US_ASCII));
+            Path notElfPath = notElf;
+            assertThrows(MalformedBinaryException.class, () -> ElfFile.open(notElfPath));
+
+            // section headers pointing past the end of the file
+            byte[] contents = Arrays.copyOf(buildElf64(true), SHDR_OFFSET + 64);
+            truncated = writeTempFile(contents);
+            try(ElfFile elf = ElfFile.open(truncated)) {
+                assertThrows(MalformedBinaryException.class, elf::getExecutableSections);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(notElf);
+            deleteTempFile(truncated);
+        }
+    }
+
+    /**
+     * Builds a minimal x86-64 executable with one PT_LOAD segment covering the whole file and,
+     * if requested, a section header table with a null section, .text and .shstrtab.
+     */
+    private byte[] buildElf64(boolean withSections) {
+        byte[] strtab = "\0.text\0.shstrtab\0".getBytes(StandardCharsets.US_ASCII);
+        int size = withSections ? SHDR_OFFSET + 3 * 64 : STRTAB_OFFSET;
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.put(new byte[] {0x7f, 'E', 'L', 'F', 2, 1, 1});
+        buffer.putShort(16, (short) 2);                          // e_type = ET_EXEC
+        buffer.putShort(18, (short) ElfFile.EM_X86_64);          // e_machine
+        buffer.putInt(20, 1);                                    // e_version
+        buffer.putLong(24, BASE_ADDRESS + CODE_OFFSET);          // e_entry
+        buffer.putLong(32, 64);                                  // e_phoff
+        buffer.putLong(40, withSections ? SHDR_OFFSET : 0);      // e_shoff
+        buffer.putShort(52, (short) 64);                         // e_ehsize
+        buffer.putShort(54, (short) 56);                         // e_phentsize
+        buffer.putShort(56, (short) 1);                          // e_phnum
+        buffer.putShort(58, (short) 64);                         // e_shentsize
+        buffer.putShort(60, (short) (withSections ? 3 : 0));     // e_shnum
+        buffer.putShort(62, (short) (withSections ? 2 : 0));     // e_shstrndx
+
+        buffer.putInt(64, 1);                                    // p_type = PT_LOAD
+        buffer.putInt(68, 0x5);                                  // p_flags = PF_R | PF_X
+        buffer.putLong(72, 0);                                   // p_offset
+        buffer.putLong(80, BASE_ADDRESS);                        // p_vaddr
+        buffer.putLong(88, BASE_ADDRESS);                        // p_paddr
+        buffer.putLong(96, size);                                // p_filesz
+        buffer.putLong(104, size);                               // p_memsz
+        buffer.putLong(112, 0x1000);                             // p_align
+
+        buffer.put(CODE_OFFSET, code);
+
+        if (withSections) {
+            buffer.put(STRTAB_OFFSET, strtab);
+
+            int text = SHDR_OFFSET + 64;
+            buffer.putInt(text, 1);                              // sh_name = ".text"
+            buffer.putInt(text + 4, 1);                          // sh_type = SHT_PROGBITS
+            buffer.putLong(text + 8, 0x6);                       // sh_flags = SHF_ALLOC | SHF_EXECINSTR
+            buffer.putLong(text + 16, BASE_ADDRESS + CODE_OFFSET);
+            buffer.putLong(text + 24, CODE_OFFSET);
+            buffer.putLong(text + 32, code.length);
+
+            int shstrtab = SHDR_OFFSET + 128;
+            buffer.putInt(shstrtab, 7);                          // sh_name = ".shstrtab"
+            buffer.putInt(shstrtab + 4, 3);                      // sh_type = SHT_STRTAB
+            buffer.putLong(shstrtab + 24, STRTAB_OFFSET);
+            buffer.putLong(shstrtab + 32, strtab.length);
+        }
+        return buffer.array();
+    }
+
+    private Path writeTempFile(byte[] contents) throws IOException {
+        Path file = Files.createTempFile("capstone4j", ".elf");
+        Files.write(file, contents);
+        return file;
+    }
+
+    private void deleteTempFile(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
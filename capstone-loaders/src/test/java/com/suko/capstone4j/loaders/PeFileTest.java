@@ -0,0 +1,212 @@
+package com.suko.capstone4j.loaders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.suko.capstone4j.Capstone;
+import com.suko.capstone4j.CapstoneArch;
+import com.suko.capstone4j.CapstoneHandle;
+import com.suko.capstone4j.CapstoneInstruction;
+import com.suko.capstone4j.CapstoneMode;
+import com.suko.capstone4j.CapstoneX86Details;
+
+class PeFileTest {
+
+    private static final long IMAGE_BASE = 0x140000000L;
+    private static final int TEXT_RVA = 0x1000;
+    private static final int TEXT_OFFSET = 0x200;
+    private static final int RDATA_RVA = 0x2000;
+    private static final int RDATA_OFFSET = 0x400;
+
+    byte[] code = new byte[] {
+        0x55,                                                       // push rbp
+        0x48, (byte)0x89, (byte)0xe5,                               // mov rbp, rsp
+        0x31, (byte)0xc0,                                           // xor eax, eax  <- exported "func"
+        0x5d,                                                       // pop rbp
+        (byte)0xc3                                                  // ret
+    };
+
+    @BeforeAll
+    public static void init() {
+        try {
+            Capstone.initialize();
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail("Failed to initialize Capstone");
+        }
+    }
+
+    @Test
+    public void testPe32Plus() {
+        System.out.println("Testing PE32+");
+
+        Path file = null;
+        try {
+            file = writeTempFile(buildPe32Plus());
+            try(PeFile pe = PeFile.open(file);
+                CapstoneHandle handle = pe.createHandle()) {
+                assertTrue(pe.is64Bit());
+                assertEquals(PeFile.IMAGE_FILE_MACHINE_AMD64, pe.getMachine());
+                assertEquals(CapstoneArch.X86, pe.getArch());
+                assertArrayEquals(new CapstoneMode[] {CapstoneMode.X86_64}, pe.getModes());
+                assertEquals(IMAGE_BASE, pe.getImageBase());
+                assertEquals(IMAGE_BASE + TEXT_RVA, pe.getEntryPoint());
+
+                List<MappedRegion> sections = pe.getExecutableSections();
+                assertEquals(1, sections.size());
+                assertEquals(".text", sections.get(0).name());
+                assertEquals(IMAGE_BASE + TEXT_RVA, sections.get(0).virtualAddress());
+                assertEquals(code.length, sections.get(0).size());
+
+                assertEquals(TEXT_OFFSET + 4, pe.rvaToOffset(TEXT_RVA + 4));
+                assertEquals(RDATA_OFFSET + 0x10, pe.rvaToOffset(RDATA_RVA + 0x10));
+                assertEquals(0x40, pe.rvaToOffset(0x40));
+                assertEquals(-1, pe.rvaToOffset(0x5000));
+
+                List<PeFile.Export> exports = pe.getExports();
+                assertEquals(1, exports.size());
+                assertEquals("func", exports.get(0).name());
+                assertEquals(1, exports.get(0).ordinal());
+                assertEquals(IMAGE_BASE + TEXT_RVA + 4, exports.get(0).address());
+
+                List<PeFile.Import> imports = pe.getImports();
+                assertEquals(1, imports.size());
+                assertEquals("kernel32.dll", imports.get(0).library());
+                assertEquals("ExitProcess", imports.get(0).name());
+                assertEquals(IMAGE_BASE + RDATA_RVA + 0x180, imports.get(0).address());
+
+                long[] seeds = pe.getDecodeSeeds();
+                assertArrayEquals(new long[] {IMAGE_BASE + TEXT_RVA, IMAGE_BASE + TEXT_RVA + 4}, seeds);
+
+                MemorySegment exported = pe.vaToSegment(seeds[1]);
+                assertEquals(code.length - 4, exported.byteSize());
+                List<CapstoneInstruction<CapstoneX86Details>> instructions = handle.disassembleMemory(exported, exported.byteSize(), seeds[1]);
+                assertEquals(3, instructions.size());
+                assertEquals("xor", instructions.get(0).getMnemonic());
+                assertEquals("ret", instructions.get(2).getMnemonic());
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(file);
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        System.out.println("Testing malformed PE files");
+
+        Path file = null;
+        try {
+            byte[] contents = buildPe32Plus();
+            contents[0x40] = 'X';
+            file = writeTempFile(contents);
+            Path path = file;
+            assertThrows(MalformedBinaryException.class, () -> PeFile.open(path));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Exception occurred: " + e.getMessage());
+        } finally {
+            deleteTempFile(file);
+        }
+    }
+
+    /**
+     * Builds a minimal x64 DLL with a .text section holding the code and an .rdata section holding an
+     * export directory with one function and an import directory with one function from kernel32.dll.
+     */
+    private byte[] buildPe32Plus() {
+        ByteBuffer buffer = ByteBuffer.allocate(0x600).order(ByteOrder.LITTLE_ENDIAN);
+
+        buffer.putShort(0, (short) 0x5a4d);                      // MZ
+        buffer.putInt(0x3c, 0x40);                               // e_lfanew
+        buffer.putInt(0x40, 0x00004550);                         // PE\0\0
+
+        int coff = 0x44;
+        buffer.putShort(coff, (short) PeFile.IMAGE_FILE_MACHINE_AMD64);
+        buffer.putShort(coff + 2, (short) 2);                    // NumberOfSections
+        buffer.putShort(coff + 16, (short) 240);                 // SizeOfOptionalHeader
+        buffer.putShort(coff + 18, (short) 0x2022);              // Characteristics
+
+        int optional = coff + 20;
+        buffer.putShort(optional, (short) 0x20b);                // PE32+
+        buffer.putInt(optional + 16, TEXT_RVA);                  // AddressOfEntryPoint
+        buffer.putLong(optional + 24, IMAGE_BASE);               // ImageBase
+        buffer.putInt(optional + 60, 0x200);                     // SizeOfHeaders
+        buffer.putInt(optional + 108, 16);                       // NumberOfRvaAndSizes
+        buffer.putInt(optional + 112, RDATA_RVA);                // export directory
+        buffer.putInt(optional + 116, 0x100);
+        buffer.putInt(optional + 120, RDATA_RVA + 0x100);        // import directory
+        buffer.putInt(optional + 124, 0x100);
+
+        int sections = optional + 240;
+        putSection(buffer, sections, ".text", code.length, TEXT_RVA, 0x200, TEXT_OFFSET, 0x60000020);
+        putSection(buffer, sections + 40, ".rdata", 0x200, RDATA_RVA, 0x200, RDATA_OFFSET, 0x40000040);
+
+        buffer.put(TEXT_OFFSET, code);
+
+        // export directory
+        int exports = RDATA_OFFSET;
+        buffer.putInt(exports + 12, RDATA_RVA + 0x60);           // Name
+        buffer.putInt(exports + 16, 1);                          // Base
+        buffer.putInt(exports + 20, 1);                          // NumberOfFunctions
+        buffer.putInt(exports + 24, 1);                          // NumberOfNames
+        buffer.putInt(exports + 28, RDATA_RVA + 0x40);           // AddressOfFunctions
+        buffer.putInt(exports + 32, RDATA_RVA + 0x44);           // AddressOfNames
+        buffer.putInt(exports + 36, RDATA_RVA + 0x48);           // AddressOfNameOrdinals
+        buffer.putInt(exports + 0x40, TEXT_RVA + 4);
+        buffer.putInt(exports + 0x44, RDATA_RVA + 0x50);
+        buffer.putShort(exports + 0x48, (short) 0);
+        buffer.put(exports + 0x50, "func\0".getBytes(StandardCharsets.US_ASCII));
+        buffer.put(exports + 0x60, "test.dll\0".getBytes(StandardCharsets.US_ASCII));
+
+        // import directory, terminated by an empty descriptor
+        int imports = RDATA_OFFSET + 0x100;
+        buffer.putInt(imports, RDATA_RVA + 0x140);               // OriginalFirstThunk
+        buffer.putInt(imports + 12, RDATA_RVA + 0x160);          // Name
+        buffer.putInt(imports + 16, RDATA_RVA + 0x180);          // FirstThunk
+        buffer.putLong(RDATA_OFFSET + 0x140, RDATA_RVA + 0x170);
+        buffer.put(RDATA_OFFSET + 0x160, "kernel32.dll\0".getBytes(StandardCharsets.US_ASCII));
+        buffer.put(RDATA_OFFSET + 0x172, "ExitProcess\0".getBytes(StandardCharsets.US_ASCII));
+        buffer.putLong(RDATA_OFFSET + 0x180, RDATA_RVA + 0x170);
+
+        return buffer.array();
+    }
+
+    private void putSection(ByteBuffer buffer, int offset, String name, int virtualSize, int rva, int rawSize, int rawPointer, int characteristics) {
+        buffer.put(offset, name.getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(offset + 8, virtualSize);
+        buffer.putInt(offset + 12, rva);
+        buffer.putInt(offset + 16, rawSize);
+        buffer.putInt(offset + 20, rawPointer);
+        buffer.putInt(offset + 36, characteristics);
+    }
+
+    private Path writeTempFile(byte[] contents) throws IOException {
+        Path file = Files.createTempFile("capstone4j", ".dll");
+        Files.write(file, contents);
+        return file;
+    }
+
+    private void deleteTempFile(Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}